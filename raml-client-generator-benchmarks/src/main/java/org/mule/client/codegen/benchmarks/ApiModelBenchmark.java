@@ -0,0 +1,130 @@
+package org.mule.client.codegen.benchmarks;
+
+import org.mule.client.codegen.utils.MimeTypeHelper;
+import org.mule.raml.impl.snapshot.ApiModelSnapshot;
+import org.mule.raml.model.Action;
+import org.mule.raml.model.ApiModel;
+import org.mule.raml.model.MimeType;
+import org.mule.raml.model.Resource;
+import org.mule.raml.model.Response;
+import org.mule.raml.model.TypeFieldDefinition;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.raml.v2.api.RamlModelBuilder;
+import org.raml.v2.api.RamlModelResult;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Walks a synthetic api the way the generator does, once over the wrappers that read the parser model on every getter and
+ * once over the snapshot the loader builds. Run it with <code>-prof gc</code> to compare the allocations of both walks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class ApiModelBenchmark {
+
+    @Param({"100", "1000"})
+    private int resources;
+
+    @Param({SyntheticRaml.RAML_08, SyntheticRaml.RAML_10})
+    private String ramlVersion;
+
+    private ApiModel wrappers;
+    private ApiModel snapshot;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        final File raml = new SyntheticRaml()
+                .setRamlVersion(ramlVersion)
+                .setResourceCount(resources)
+                .write();
+        final RamlModelResult result = new RamlModelBuilder().buildApi(raml);
+        if (result.isVersion08()) {
+            wrappers = new org.mule.raml.impl.v08.model.ApiModelImpl(result.getApiV08());
+        } else {
+            wrappers = new org.mule.raml.impl.v10.model.ApiModelImpl(result.getApiV10());
+        }
+        snapshot = ApiModelSnapshot.of(wrappers);
+    }
+
+    @Benchmark
+    public void walkWrappers(Blackhole blackhole) {
+        walk(wrappers.getResources(), blackhole);
+    }
+
+    @Benchmark
+    public void walkSnapshot(Blackhole blackhole) {
+        walk(snapshot.getResources(), blackhole);
+    }
+
+    @Benchmark
+    public ApiModel takeSnapshot() {
+        return ApiModelSnapshot.of(wrappers);
+    }
+
+    private static void walk(Map<String, Resource> resources, Blackhole blackhole) {
+        for (Resource resource : resources.values()) {
+            // The generator checks the whole subtree of every resource for multipart bodies
+            blackhole.consume(hasMultipart(resource));
+            for (Action action : resource.getActions().values()) {
+                blackhole.consume(action.getType());
+                blackhole.consume(action.getResource().getSecuredBy());
+                consume(action.getQueryParameters(), blackhole);
+                consume(action.getHeaders(), blackhole);
+                consume(action.getBody(), blackhole);
+                for (Response response : action.getResponses().values()) {
+                    consume(response.getBody(), blackhole);
+                }
+            }
+            walk(resource.getResources(), blackhole);
+        }
+    }
+
+    private static void consume(Map<String, ?> values, Blackhole blackhole) {
+        for (Object value : values.values()) {
+            if (value instanceof MimeType) {
+                final MimeType mimeType = (MimeType) value;
+                blackhole.consume(mimeType.getType());
+                blackhole.consume(mimeType.getSchema());
+            } else if (value instanceof TypeFieldDefinition) {
+                final TypeFieldDefinition definition = (TypeFieldDefinition) value;
+                blackhole.consume(definition.getType());
+                blackhole.consume(definition.isRequired());
+            }
+        }
+    }
+
+    private static boolean hasMultipart(Resource resource) {
+        for (Action action : resource.getActions().values()) {
+            for (MimeType mimeType : action.getBody().values()) {
+                if (MimeTypeHelper.isMultiPartType(mimeType) || MimeTypeHelper.isFormUrlEncodedType(mimeType)) {
+                    return true;
+                }
+            }
+        }
+        for (Resource child : resource.getResources().values()) {
+            if (hasMultipart(child)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,113 @@
+package org.mule.client.codegen.benchmarks;
+
+import com.sun.codemodel.JCodeModel;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.mule.client.codegen.OutputVersion;
+import org.mule.client.codegen.RamlFixture;
+import org.mule.client.codegen.RamlJavaClientGenerator;
+import org.mule.raml.ApiModelCache;
+import org.mule.raml.ApiModelLoader;
+import org.mule.raml.model.ApiModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.raml.v2.api.loader.DefaultResourceLoader;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.URL;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures every phase of {@link RamlJavaClientGenerator} over the generator test fixtures:
+ * <ul>
+ * <li>parse: RAML to {@link ApiModel}</li>
+ * <li>buildCodeModel: {@link ApiModel} to {@link JCodeModel}, including the schema to POJO generation</li>
+ * <li>write: {@link JCodeModel} to java sources on disk</li>
+ * <li>generate: the three of them end to end, as the maven plugin runs them</li>
+ * </ul>
+ * Run with <code>-prof gc</code> to get the allocation rate of each phase.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeneratorBenchmark {
+
+    // Every fixture, unless some are given with -p fixture=...
+    @Param
+    private RamlFixture fixture;
+
+    @Param({"v1", "v2"})
+    private OutputVersion outputVersion;
+
+    private URL raml;
+    private File targetFolder;
+    private ApiModelCache parseCache;
+    private RamlJavaClientGenerator generator;
+    private ApiModel apiModel;
+    private JCodeModel codeModel;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        raml = RamlFixtures.getRaml(fixture, outputVersion);
+        targetFolder = Files.createTempDirectory("raml-client-generator-benchmark").toFile();
+        generator = new RamlJavaClientGenerator("org.mule.benchmarks", targetFolder, outputVersion, fixture.getCodeGenConfig(outputVersion)
+                .setManifestDirectory(new File(targetFolder, "manifests")));
+        apiModel = parse();
+        parseCache = new ApiModelCache(new File(targetFolder, "raml-cache"));
+        parseCached();
+        codeModel = buildCodeModel();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(targetFolder);
+    }
+
+    @Benchmark
+    public ApiModel parse() throws IOException {
+        try (Reader reader = new InputStreamReader(raml.openStream())) {
+            return ApiModelLoader.build(reader, raml.toExternalForm());
+        }
+    }
+
+    /**
+     * Parse served from the {@link ApiModelCache}, that was filled during the setup.
+     */
+    @Benchmark
+    public ApiModel parseCached() throws IOException {
+        return parseCache.build(new DefaultResourceLoader(), IOUtils.toString(raml), raml.toExternalForm());
+    }
+
+    @Benchmark
+    public JCodeModel buildCodeModel() throws Exception {
+        return generator.buildCodeModel(apiModel, raml.toURI());
+    }
+
+    @Benchmark
+    public void write() throws IOException {
+        generator.write(codeModel);
+    }
+
+    @Benchmark
+    public void generate() throws Exception {
+        generator.generate(raml);
+    }
+}
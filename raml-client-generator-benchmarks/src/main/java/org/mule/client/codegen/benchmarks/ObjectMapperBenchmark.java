@@ -0,0 +1,228 @@
+package org.mule.client.codegen.benchmarks;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.jaxrs.json.JacksonJaxbJsonProvider;
+import org.apache.commons.io.FileUtils;
+import org.mule.client.codegen.ClientBackend;
+import org.mule.client.codegen.CodeGenConfig;
+import org.mule.client.codegen.OutputVersion;
+import org.mule.client.codegen.RamlFixture;
+import org.mule.client.codegen.RamlJavaClientGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializes and deserializes one instance of every model of a fixture through the <code>JacksonJaxbJsonProvider</code> jersey
+ * registers, with its default <code>ObjectMapper</code> and with the one of the generated <code>&lt;Api&gt;ObjectMapperProvider</code>,
+ * either tuned with the afterburner module or using the generated serializers of the models. The client of the fixture is generated
+ * and its models and provider compiled during the setup, so it needs a JDK.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ObjectMapperBenchmark {
+
+    private static final String BASE_PACKAGE = "org.mule.benchmarks";
+    // Nested models are filled down to this depth, recursive types would never end otherwise
+    private static final int MAX_DEPTH = 3;
+    private static final Annotation[] NO_ANNOTATIONS = new Annotation[0];
+
+    @Param({"OBJECT_MAPPER_PROVIDER", "TYPE_DECL", "LIBRARY", "GLOBAL_TYPE_BODY"})
+    private RamlFixture fixture;
+
+    @Param({"default", "tuned", "serializers"})
+    private String mapper;
+
+    private File targetFolder;
+    private URLClassLoader classLoader;
+    private JacksonJaxbJsonProvider jsonProvider;
+    private MultivaluedMap<String, Object> requestHeaders;
+    private MultivaluedMap<String, String> responseHeaders;
+    private Class<?>[] modelTypes;
+    private Object[] models;
+    private byte[][] bodies;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        targetFolder = Files.createTempDirectory("raml-client-generator-benchmark").toFile();
+        final CodeGenConfig codeGenConfig = fixture.getCodeGenConfig(OutputVersion.v2)
+                .setClientBackend(ClientBackend.jersey)
+                .setGenerateObjectMapperProvider(!"serializers".equals(mapper))
+                .setGenerateModelSerializers("serializers".equals(mapper))
+                .setManifestDirectory(new File(targetFolder, "manifests"));
+        new RamlJavaClientGenerator(BASE_PACKAGE, targetFolder, OutputVersion.v2, codeGenConfig).generate(RamlFixtures.getRaml(fixture, OutputVersion.v2));
+        final File providerSource = compile();
+        classLoader = new URLClassLoader(new URL[]{targetFolder.toURI().toURL()}, getClass().getClassLoader());
+        final String providerName = BASE_PACKAGE + ".api." + providerSource.getName().replace(".java", "");
+        final Class<?> providerClass = classLoader.loadClass(providerName);
+        final Field modelTypesField = providerClass.getDeclaredField("MODEL_TYPES");
+        modelTypesField.setAccessible(true);
+        modelTypes = (Class<?>[]) modelTypesField.get(null);
+
+        // Jersey gives the json provider the mapper of the registered ContextResolver
+        jsonProvider = new JacksonJaxbJsonProvider();
+        if (!"default".equals(mapper)) {
+            final Object provider = providerClass.newInstance();
+            jsonProvider.setMapper((ObjectMapper) providerClass.getMethod("getContext", Class.class).invoke(provider, Object.class));
+        }
+        requestHeaders = new MultivaluedHashMap<>();
+        responseHeaders = new MultivaluedHashMap<>();
+        final ObjectMapper defaultMapper = new ObjectMapper();
+        models = new Object[modelTypes.length];
+        bodies = new byte[modelTypes.length][];
+        for (int i = 0; i < modelTypes.length; i++) {
+            models[i] = sample(modelTypes[i], 0);
+            bodies[i] = defaultMapper.writeValueAsBytes(models[i]);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        classLoader.close();
+        FileUtils.deleteDirectory(targetFolder);
+    }
+
+    @Benchmark
+    public void serialize(Blackhole blackhole) throws IOException {
+        for (int i = 0; i < models.length; i++) {
+            final ByteArrayOutputStream body = new ByteArrayOutputStream();
+            jsonProvider.writeTo(models[i], modelTypes[i], modelTypes[i], NO_ANNOTATIONS, MediaType.APPLICATION_JSON_TYPE, requestHeaders, body);
+            blackhole.consume(body);
+        }
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public void deserialize(Blackhole blackhole) throws IOException {
+        for (int i = 0; i < bodies.length; i++) {
+            blackhole.consume(jsonProvider.readFrom((Class<Object>) modelTypes[i], modelTypes[i], NO_ANNOTATIONS, MediaType.APPLICATION_JSON_TYPE,
+                    responseHeaders, new ByteArrayInputStream(bodies[i])));
+        }
+    }
+
+    /**
+     * Compiles the models, the object mapper provider and the json module of the generated client, the resources are not needed.
+     *
+     * @return the source of the provider
+     */
+    private File compile() {
+        final List<String> arguments = new ArrayList<>();
+        arguments.add("-nowarn");
+        arguments.add("-classpath");
+        arguments.add(System.getProperty("java.class.path"));
+        arguments.add("-d");
+        arguments.add(targetFolder.getAbsolutePath());
+        File providerSource = null;
+        final Collection<File> sources = FileUtils.listFiles(targetFolder, new String[]{"java"}, true);
+        for (File source : sources) {
+            if (source.getName().endsWith("ObjectMapperProvider.java")) {
+                providerSource = source;
+                arguments.add(source.getAbsolutePath());
+            } else if (source.getName().endsWith("JsonModule.java") || source.getParentFile().getName().equals(RamlJavaClientGenerator.MODEL_PACKAGE_NAME)) {
+                arguments.add(source.getAbsolutePath());
+            }
+        }
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null || providerSource == null || compiler.run(null, null, null, arguments.toArray(new String[0])) != 0) {
+            throw new IllegalStateException("Could not compile the models of " + fixture);
+        }
+        return providerSource;
+    }
+
+    /**
+     * Builds an instance of the model with every property set, lists with two elements.
+     */
+    private static Object sample(Class<?> type, int depth) throws Exception {
+        final Object model = type.newInstance();
+        for (Field field : type.getDeclaredFields()) {
+            if (field.isAnnotationPresent(JsonProperty.class) && !Modifier.isStatic(field.getModifiers())) {
+                field.setAccessible(true);
+                final Object value = sampleValue(field.getGenericType(), depth);
+                if (value != null) {
+                    field.set(model, value);
+                }
+            }
+        }
+        return model;
+    }
+
+    private static Object sampleValue(Type type, int depth) throws Exception {
+        if (type instanceof ParameterizedType) {
+            final ParameterizedType parameterizedType = (ParameterizedType) type;
+            if (List.class.isAssignableFrom((Class<?>) parameterizedType.getRawType())) {
+                final Object element = sampleValue(parameterizedType.getActualTypeArguments()[0], depth);
+                if (element == null) {
+                    return null;
+                }
+                final List<Object> list = new ArrayList<>();
+                list.add(element);
+                list.add(sampleValue(parameterizedType.getActualTypeArguments()[0], depth));
+                return list;
+            }
+            return null;
+        }
+        final Class<?> valueType = (Class<?>) type;
+        if (valueType == String.class) {
+            return "sample value";
+        } else if (valueType == Integer.class || valueType == int.class) {
+            return 42;
+        } else if (valueType == Long.class || valueType == long.class) {
+            return 42L;
+        } else if (valueType == Double.class || valueType == double.class) {
+            return 4.2d;
+        } else if (valueType == Float.class || valueType == float.class) {
+            return 4.2f;
+        } else if (valueType == Boolean.class || valueType == boolean.class) {
+            return true;
+        } else if (valueType == BigDecimal.class) {
+            return new BigDecimal("4.2");
+        } else if (valueType == Date.class) {
+            return new Date(0);
+        } else if (valueType.isEnum()) {
+            return valueType.getEnumConstants()[0];
+        } else if (valueType.getName().startsWith(BASE_PACKAGE) && depth < MAX_DEPTH) {
+            return sample(valueType, depth + 1);
+        }
+        return null;
+    }
+}
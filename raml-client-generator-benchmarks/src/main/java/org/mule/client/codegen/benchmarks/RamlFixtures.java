@@ -0,0 +1,69 @@
+package org.mule.client.codegen.benchmarks;
+
+import org.apache.commons.io.FileUtils;
+import org.mule.client.codegen.OutputVersion;
+import org.mule.client.codegen.RamlFixture;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.nio.file.Files;
+import java.util.Enumeration;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * Resolves the generator test fixtures, from the core test jar, used as benchmark inputs.
+ */
+public class RamlFixtures {
+
+    private RamlFixtures() {
+    }
+
+    /**
+     * Returns the api.raml of the given fixture. Fixtures only present for one output version are shared with the other one.
+     */
+    public static URL getRaml(RamlFixture fixture, OutputVersion outputVersion) throws IOException {
+        URL resource = fixture.getResource(outputVersion, "api.raml");
+        if (resource == null) {
+            for (OutputVersion version : OutputVersion.values()) {
+                resource = fixture.getResource(version, "api.raml");
+                if (resource != null) {
+                    break;
+                }
+            }
+        }
+        if (resource == null) {
+            throw new IllegalArgumentException("The fixture " + fixture + " has no api.raml");
+        }
+        return "jar".equals(resource.getProtocol()) ? extract(resource) : resource;
+    }
+
+    /**
+     * Copies the folder of a fixture packaged in the benchmarks jar to a temp folder, as relative references (includes, schema
+     * <code>$ref</code>s) can not be resolved against a jar url.
+     */
+    private static URL extract(URL raml) throws IOException {
+        final JarURLConnection connection = (JarURLConnection) raml.openConnection();
+        connection.setUseCaches(false);
+        final String entryName = connection.getEntryName();
+        final String folder = entryName.substring(0, entryName.lastIndexOf('/') + 1);
+        final File target = Files.createTempDirectory("raml-fixture").toFile();
+        FileUtils.forceDeleteOnExit(target);
+        try (JarFile jarFile = connection.getJarFile()) {
+            final Enumeration<JarEntry> entries = jarFile.entries();
+            while (entries.hasMoreElements()) {
+                final JarEntry entry = entries.nextElement();
+                if (!entry.isDirectory() && entry.getName().startsWith(folder)) {
+                    try (InputStream inputStream = jarFile.getInputStream(entry)) {
+                        FileUtils.copyInputStreamToFile(inputStream, new File(target, entry.getName().substring(folder.length())));
+                    }
+                }
+            }
+        }
+        return new File(target, entryName.substring(folder.length())).toURI().toURL();
+    }
+
+}
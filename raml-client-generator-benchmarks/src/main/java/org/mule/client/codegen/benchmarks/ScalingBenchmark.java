@@ -0,0 +1,132 @@
+package org.mule.client.codegen.benchmarks;
+
+import org.apache.commons.io.FileUtils;
+import org.mule.client.codegen.CodeGenConfig;
+import org.mule.client.codegen.OutputVersion;
+import org.mule.client.codegen.RamlJavaClientGenerator;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.URL;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the whole generation over synthetic apis of growing size, to make the super linear parts of the generator visible.
+ * Besides the time of each generation it reports the peak heap usage (<code>peakHeapMb</code>) reached while generating,
+ * sampled every few milliseconds.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class ScalingBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int resources;
+
+    @Param({SyntheticRaml.RAML_08, SyntheticRaml.RAML_10})
+    private String ramlVersion;
+
+    @Param({"3"})
+    private int nestingDepth;
+
+    @Param({"0.25"})
+    private double uriParameterRatio;
+
+    @Param({"50"})
+    private int schemas;
+
+    @Param({"0.1"})
+    private double multipartRatio;
+
+    private URL raml;
+    private File targetFolder;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        raml = new SyntheticRaml()
+                .setRamlVersion(ramlVersion)
+                .setResourceCount(resources)
+                .setNestingDepth(nestingDepth)
+                .setUriParameterRatio(uriParameterRatio)
+                .setSchemaCount(schemas)
+                .setMultipartRatio(multipartRatio)
+                .write()
+                .toURI().toURL();
+        targetFolder = Files.createTempDirectory("raml-client-generator-scaling").toFile();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(targetFolder);
+    }
+
+    @Benchmark
+    public void generate(HeapUsage heapUsage) throws Exception {
+        heapUsage.start();
+        new RamlJavaClientGenerator("org.mule.synthetic", targetFolder, OutputVersion.v2, new CodeGenConfig().setManifestDirectory(new File(targetFolder, "manifests")))
+                .generate(raml);
+        heapUsage.stop();
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class HeapUsage {
+
+        private static final long SAMPLING_INTERVAL_MILLIS = 5;
+
+        public long peakHeapMb;
+
+        private volatile boolean running;
+        private volatile long peak;
+        private Thread sampler;
+
+        /**
+         * Samples the used heap, all the pools together, until {@link #stop()}. The peaks the pools keep are reached at different
+         * times, so their sum would overstate it.
+         */
+        void start() {
+            final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+            peak = memory.getHeapMemoryUsage().getUsed();
+            running = true;
+            sampler = new Thread(() -> {
+                while (running) {
+                    peak = Math.max(peak, memory.getHeapMemoryUsage().getUsed());
+                    try {
+                        Thread.sleep(SAMPLING_INTERVAL_MILLIS);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            }, "heap-usage-sampler");
+            sampler.setDaemon(true);
+            sampler.start();
+        }
+
+        void stop() throws InterruptedException {
+            running = false;
+            sampler.join();
+            peak = Math.max(peak, ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed());
+            peakHeapMb = peak / (1024 * 1024);
+        }
+    }
+}
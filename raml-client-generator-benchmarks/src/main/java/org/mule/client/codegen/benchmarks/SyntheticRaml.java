@@ -0,0 +1,165 @@
+package org.mule.client.codegen.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Random;
+
+/**
+ * Builds RAML 0.8 and 1.0 documents of a configurable size, so the generator can be measured over apis bigger than the test fixtures.
+ * <p>
+ * Resources are laid out as chains of <code>nestingDepth</code> resources, each one with a GET returning one of the global schemas
+ * and a POST whose body is either a multipart form or a json body of one of the global schemas.
+ * The same configuration always produces the same document.
+ */
+public class SyntheticRaml {
+
+    public static final String RAML_08 = "0.8";
+    public static final String RAML_10 = "1.0";
+
+    private String ramlVersion = RAML_10;
+    private int resourceCount = 100;
+    private int nestingDepth = 3;
+    private double uriParameterRatio = 0.25;
+    private int schemaCount = 10;
+    private double multipartRatio = 0.1;
+    private long seed = 42;
+
+    public SyntheticRaml setRamlVersion(String ramlVersion) {
+        if (!RAML_08.equals(ramlVersion) && !RAML_10.equals(ramlVersion)) {
+            throw new IllegalArgumentException("Unsupported RAML version " + ramlVersion);
+        }
+        this.ramlVersion = ramlVersion;
+        return this;
+    }
+
+    public SyntheticRaml setResourceCount(int resourceCount) {
+        this.resourceCount = resourceCount;
+        return this;
+    }
+
+    public SyntheticRaml setNestingDepth(int nestingDepth) {
+        this.nestingDepth = Math.max(1, nestingDepth);
+        return this;
+    }
+
+    public SyntheticRaml setUriParameterRatio(double uriParameterRatio) {
+        this.uriParameterRatio = uriParameterRatio;
+        return this;
+    }
+
+    public SyntheticRaml setSchemaCount(int schemaCount) {
+        this.schemaCount = Math.max(1, schemaCount);
+        return this;
+    }
+
+    public SyntheticRaml setMultipartRatio(double multipartRatio) {
+        this.multipartRatio = multipartRatio;
+        return this;
+    }
+
+    public SyntheticRaml setSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    public String build() {
+        final Random random = new Random(seed);
+        final StringBuilder raml = new StringBuilder();
+        raml.append("#%RAML ").append(ramlVersion).append("\n");
+        raml.append("title: Synthetic\n");
+        raml.append("version: v1\n");
+        raml.append("baseUri: http://localhost/api\n");
+        raml.append("mediaType: application/json\n");
+        appendSchemas(raml);
+        for (int i = 0; i < resourceCount; i++) {
+            final int depth = i % nestingDepth;
+            final String indent = indent(depth);
+            if (depth > 0 && random.nextDouble() < uriParameterRatio) {
+                raml.append(indent).append("/{p").append(i).append("}:\n");
+            } else {
+                raml.append(indent).append("/r").append(i).append(":\n");
+            }
+            appendActions(raml, indent + "  ", i, random.nextDouble() < multipartRatio);
+        }
+        return raml.toString();
+    }
+
+    /**
+     * Writes the document to a temporary file, so it can be handed to the generator as an URL.
+     */
+    public File write() throws IOException {
+        final File ramlFile = File.createTempFile("synthetic", ".raml");
+        ramlFile.deleteOnExit();
+        Files.write(ramlFile.toPath(), build().getBytes(StandardCharsets.UTF_8));
+        return ramlFile;
+    }
+
+    private void appendSchemas(StringBuilder raml) {
+        if (RAML_08.equals(ramlVersion)) {
+            raml.append("schemas:\n");
+            for (int i = 0; i < schemaCount; i++) {
+                raml.append("  - Schema").append(i).append(": |\n");
+                raml.append("      {\n");
+                raml.append("        \"$schema\": \"http://json-schema.org/draft-04/schema#\",\n");
+                raml.append("        \"type\": \"object\",\n");
+                raml.append("        \"properties\": {\n");
+                raml.append("          \"id\": { \"type\": \"string\" },\n");
+                raml.append("          \"count").append(i).append("\": { \"type\": \"integer\" },\n");
+                raml.append("          \"enabled\": { \"type\": \"boolean\" }\n");
+                raml.append("        },\n");
+                raml.append("        \"required\": [ \"id\" ]\n");
+                raml.append("      }\n");
+            }
+        } else {
+            raml.append("types:\n");
+            for (int i = 0; i < schemaCount; i++) {
+                raml.append("  Schema").append(i).append(":\n");
+                raml.append("    type: object\n");
+                raml.append("    properties:\n");
+                raml.append("      id: string\n");
+                raml.append("      count").append(i).append("?: integer\n");
+                raml.append("      enabled?: boolean\n");
+            }
+        }
+    }
+
+    private void appendActions(StringBuilder raml, String indent, int index, boolean multipart) {
+        final String schema = "Schema" + (index % schemaCount);
+        final String typeKey = RAML_08.equals(ramlVersion) ? "schema" : "type";
+        raml.append(indent).append("get:\n");
+        raml.append(indent).append("  responses:\n");
+        raml.append(indent).append("    200:\n");
+        raml.append(indent).append("      body:\n");
+        raml.append(indent).append("        application/json:\n");
+        raml.append(indent).append("          ").append(typeKey).append(": ").append(schema).append("\n");
+        raml.append(indent).append("post:\n");
+        raml.append(indent).append("  body:\n");
+        if (multipart) {
+            raml.append(indent).append("    multipart/form-data:\n");
+            if (RAML_08.equals(ramlVersion)) {
+                raml.append(indent).append("      formParameters:\n");
+                raml.append(indent).append("        file:\n");
+                raml.append(indent).append("          type: file\n");
+                raml.append(indent).append("        name:\n");
+                raml.append(indent).append("          type: string\n");
+            } else {
+                raml.append(indent).append("      properties:\n");
+                raml.append(indent).append("        file: file\n");
+                raml.append(indent).append("        name: string\n");
+            }
+        } else {
+            raml.append(indent).append("    application/json:\n");
+            raml.append(indent).append("      ").append(typeKey).append(": ").append(schema).append("\n");
+        }
+    }
+
+    private static String indent(int depth) {
+        final StringBuilder indent = new StringBuilder();
+        for (int i = 0; i < depth; i++) {
+            indent.append("  ");
+        }
+        return indent.toString();
+    }
+}
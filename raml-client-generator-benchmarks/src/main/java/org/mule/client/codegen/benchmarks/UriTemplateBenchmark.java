@@ -0,0 +1,80 @@
+package org.mule.client.codegen.benchmarks;
+
+import org.mule.benchmarks.orders.api.OrdersClient;
+import org.mule.benchmarks.orders.resource.orders.orderId.items.itemId.ItemId;
+import org.mule.benchmarks.orders.responses.OrdersResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.client.ClientRequestContext;
+import javax.ws.rs.client.ClientRequestFilter;
+import javax.ws.rs.core.Response;
+import java.net.URLEncoder;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Calls <code>client.orders.orderId(..).items.itemId(..).get()</code> on the client generated from
+ * <code>src/main/raml/orders.raml</code>, and the same request with the uri built the way the generated resources used to, by
+ * concatenating the encoded uri parameters and letting jersey parse the result. A filter answers the requests before they are
+ * sent, so only the client side is measured. Run it with <code>-prof gc</code> to also compare the allocations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UriTemplateBenchmark {
+
+    private static final String BASE_URL = "http://localhost:8081/api/v1";
+
+    private Client client;
+    private OrdersClient ordersClient;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        client = ClientBuilder.newClient().register(new ClientRequestFilter() {
+            @Override
+            public void filter(ClientRequestContext requestContext) {
+                requestContext.abortWith(Response.noContent().build());
+            }
+        });
+        ordersClient = OrdersClient.create(BASE_URL, client);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+    }
+
+    @Benchmark
+    @SuppressWarnings("deprecation")
+    public Response concatenation() {
+        final String orderIdUrl = BASE_URL + "/orders" + ("/" + URLEncoder.encode("order 42"));
+        final String itemsUrl = orderIdUrl + "/items";
+        final String itemIdUrl = itemsUrl + ("/" + URLEncoder.encode("sku/7"));
+        return client.target(itemIdUrl).request().get();
+    }
+
+    @Benchmark
+    public ItemId resource() {
+        return ordersClient.orders.orderId("order 42").items.itemId("sku/7");
+    }
+
+    @Benchmark
+    public OrdersResponse<Void> request() {
+        return ordersClient.orders.orderId("order 42").items.itemId("sku/7").get();
+    }
+}
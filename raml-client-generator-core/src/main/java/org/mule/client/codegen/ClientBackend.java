@@ -0,0 +1,15 @@
+package org.mule.client.codegen;
+
+/**
+ * Http client the generated code is built on.
+ */
+public enum ClientBackend {
+	/**
+	 * JAX-RS client of jersey 2.
+	 */
+	jersey,
+	/**
+	 * <code>java.net.http.HttpClient</code> of the jdk, the generated code then requires java 11 and only jackson as dependency.
+	 */
+	jdk
+}
@@ -1,17 +1,61 @@
 package org.mule.client.codegen;
 
+import java.io.File;
+
 public class CodeGenConfig {
 
     private boolean includeAdditionalProperties = true;
 
+    private boolean lazyAdditionalProperties = false;
+
     private boolean useJava8Dates = false;
 
     private boolean useJava8Optional = false;
 
     private boolean useBigDecimals = false;
 
+    private boolean usePrimitivesForRequired = false;
+
     private String targetVersion = "1.6";
 
+    private boolean deduplicateTypes = false;
+
+    private boolean ignoreDescriptionsForDeduplication = false;
+
+    private File parseCacheDirectory;
+
+    private File manifestDirectory;
+
+    private boolean usePooledConnector = false;
+
+    private boolean generateAsyncMethods = false;
+    private boolean generateStreamingMethods = false;
+    private boolean generateFileMethods = false;
+    private boolean generateRangedDownloads = false;
+
+    private boolean useCompression = false;
+
+    private int requestCompressionThreshold = -1;
+
+    private boolean generateObjectMapperProvider = false;
+
+    private boolean generateModelSerializers = false;
+    private boolean generateImmutableModels = false;
+
+    private ClientBackend clientBackend = ClientBackend.jersey;
+
+    private int maxTotalConnections = 200;
+
+    private int maxConnectionsPerRoute = 20;
+
+    private long idleConnectionTimeout = 30000;
+
+    private long keepAliveTimeout = -1;
+
+    private int connectTimeout = 0;
+
+    private int readTimeout = 0;
+
     public CodeGenConfig() {
     }
 
@@ -24,6 +68,19 @@ public class CodeGenConfig {
         return this;
     }
 
+    public boolean getLazyAdditionalProperties() {
+        return lazyAdditionalProperties;
+    }
+
+    /**
+     * Makes the models hold their additional properties in an immutable empty map until the first one is set, instead of
+     * allocating a map for each instance. Only applies when the additional properties are included.
+     */
+    public CodeGenConfig setLazyAdditionalProperties(boolean lazyAdditionalProperties) {
+        this.lazyAdditionalProperties = lazyAdditionalProperties;
+        return this;
+    }
+
     public boolean getUseJava8Dates() {
         return useJava8Dates;
 
@@ -52,6 +109,19 @@ public class CodeGenConfig {
         return this;
     }
 
+    public boolean getUsePrimitivesForRequired() {
+        return usePrimitivesForRequired;
+    }
+
+    /**
+     * Types the integer, number and boolean properties of the models and parameters as <code>long</code>, <code>double</code> and
+     * <code>boolean</code> instead of their boxed types when they are required or have a default value, so they can not be null.
+     */
+    public CodeGenConfig setUsePrimitivesForRequired(boolean usePrimitivesForRequired) {
+        this.usePrimitivesForRequired = usePrimitivesForRequired;
+        return this;
+    }
+
     public String getTargetVersion() {
         return targetVersion;
     }
@@ -60,4 +130,265 @@ public class CodeGenConfig {
         this.targetVersion = targetVersion;
         return this;
     }
+
+    public boolean getDeduplicateTypes() {
+        return deduplicateTypes;
+    }
+
+    /**
+     * Generates a single class for structurally identical schemas (or examples), regardless of whitespace or key order.
+     */
+    public CodeGenConfig setDeduplicateTypes(boolean deduplicateTypes) {
+        this.deduplicateTypes = deduplicateTypes;
+        return this;
+    }
+
+    public boolean getIgnoreDescriptionsForDeduplication() {
+        return ignoreDescriptionsForDeduplication;
+    }
+
+    /**
+     * Also considers identical the schemas that only differ in their descriptions, the javadoc of the first one is kept.
+     */
+    public CodeGenConfig setIgnoreDescriptionsForDeduplication(boolean ignoreDescriptionsForDeduplication) {
+        this.ignoreDescriptionsForDeduplication = ignoreDescriptionsForDeduplication;
+        return this;
+    }
+
+    public File getParseCacheDirectory() {
+        return parseCacheDirectory;
+    }
+
+    /**
+     * Directory where parsed apis are cached across builds, the cache is disabled when null (the default).
+     */
+    public CodeGenConfig setParseCacheDirectory(File parseCacheDirectory) {
+        this.parseCacheDirectory = parseCacheDirectory;
+        return this;
+    }
+
+    public File getManifestDirectory() {
+        return manifestDirectory;
+    }
+
+    /**
+     * Directory where the list of the files generated for each api is kept, to remove the ones a later run does not generate
+     * anymore. When null (the default) no list is kept and nothing is removed from the target folder.
+     */
+    public CodeGenConfig setManifestDirectory(File manifestDirectory) {
+        this.manifestDirectory = manifestDirectory;
+        return this;
+    }
+
+    public boolean getUsePooledConnector() {
+        return usePooledConnector;
+    }
+
+    /**
+     * Makes the generated client use the jersey apache connector with a pool of connections, configured with the settings below.
+     * The generated code then requires <code>org.glassfish.jersey.connectors:jersey-apache-connector</code>.
+     */
+    public CodeGenConfig setUsePooledConnector(boolean usePooledConnector) {
+        this.usePooledConnector = usePooledConnector;
+        return this;
+    }
+
+    public int getMaxTotalConnections() {
+        return maxTotalConnections;
+    }
+
+    public CodeGenConfig setMaxTotalConnections(int maxTotalConnections) {
+        this.maxTotalConnections = maxTotalConnections;
+        return this;
+    }
+
+    public int getMaxConnectionsPerRoute() {
+        return maxConnectionsPerRoute;
+    }
+
+    public CodeGenConfig setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+        return this;
+    }
+
+    public long getIdleConnectionTimeout() {
+        return idleConnectionTimeout;
+    }
+
+    /**
+     * Milliseconds after which an idle pooled connection is evicted, never when zero or negative.
+     */
+    public CodeGenConfig setIdleConnectionTimeout(long idleConnectionTimeout) {
+        this.idleConnectionTimeout = idleConnectionTimeout;
+        return this;
+    }
+
+    public long getKeepAliveTimeout() {
+        return keepAliveTimeout;
+    }
+
+    /**
+     * Milliseconds a pooled connection is kept alive for reuse since it was opened, forever when zero or negative.
+     */
+    public CodeGenConfig setKeepAliveTimeout(long keepAliveTimeout) {
+        this.keepAliveTimeout = keepAliveTimeout;
+        return this;
+    }
+
+    public int getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    /**
+     * Connect timeout in milliseconds, zero means no timeout.
+     */
+    public CodeGenConfig setConnectTimeout(int connectTimeout) {
+        this.connectTimeout = connectTimeout;
+        return this;
+    }
+
+    public int getReadTimeout() {
+        return readTimeout;
+    }
+
+    /**
+     * Read timeout in milliseconds, zero means no timeout.
+     */
+    public CodeGenConfig setReadTimeout(int readTimeout) {
+        this.readTimeout = readTimeout;
+        return this;
+    }
+
+    public boolean getGenerateAsyncMethods() {
+        return generateAsyncMethods;
+    }
+
+    /**
+     * Generates next to each action method a non blocking one, suffixed with <code>Async</code>, returning a <code>CompletableFuture</code>.
+     * The generated code then requires java 8.
+     */
+    public CodeGenConfig setGenerateAsyncMethods(boolean generateAsyncMethods) {
+        this.generateAsyncMethods = generateAsyncMethods;
+        return this;
+    }
+
+    public boolean getGenerateStreamingMethods() {
+        return generateStreamingMethods;
+    }
+
+    /**
+     * Generates next to each action method returning a json array one, suffixed with <code>Stream</code>, returning a <code>Stream</code>
+     * of its elements, read one at a time while it is consumed, and next to each one taking a json array an overload taking a <code>Stream</code>
+     * of its elements, written one at a time while the body is sent. The generated code then requires java 8.
+     */
+    public CodeGenConfig setGenerateStreamingMethods(boolean generateStreamingMethods) {
+        this.generateStreamingMethods = generateStreamingMethods;
+        return this;
+    }
+
+    public boolean getGenerateFileMethods() {
+        return generateFileMethods;
+    }
+
+    /**
+     * Generates next to each action method taking a binary body an overload taking the <code>Path</code> of the file to send, and next
+     * to each one returning a binary body one, suffixed with <code>ToFile</code>, writing it to a file.
+     */
+    public CodeGenConfig setGenerateFileMethods(boolean generateFileMethods) {
+        this.generateFileMethods = generateFileMethods;
+        return this;
+    }
+
+    public boolean getGenerateRangedDownloads() {
+        return generateRangedDownloads;
+    }
+
+    /**
+     * Generates next to each get action method returning a binary body an overload, suffixed with <code>ToFile</code>, writing it to
+     * a file, that fetches ranges of the body concurrently when the server accepts them.
+     */
+    public CodeGenConfig setGenerateRangedDownloads(boolean generateRangedDownloads) {
+        this.generateRangedDownloads = generateRangedDownloads;
+        return this;
+    }
+
+    public boolean getUseCompression() {
+        return useCompression;
+    }
+
+    /**
+     * Makes the generated client ask for gzip or deflate encoded responses and decode them, and compress the request bodies from
+     * the request compression threshold on.
+     */
+    public CodeGenConfig setUseCompression(boolean useCompression) {
+        this.useCompression = useCompression;
+        return this;
+    }
+
+    public int getRequestCompressionThreshold() {
+        return requestCompressionThreshold;
+    }
+
+    /**
+     * Size in bytes from which the generated client sends the request bodies gzipped when using compression, -1 to never compress
+     * them. Actions annotated with <code>(compressRequest): true</code> always compress their body and the ones annotated with
+     * <code>(compressRequest): false</code> never do.
+     */
+    public CodeGenConfig setRequestCompressionThreshold(int requestCompressionThreshold) {
+        this.requestCompressionThreshold = requestCompressionThreshold;
+        return this;
+    }
+
+    public boolean getGenerateObjectMapperProvider() {
+        return generateObjectMapperProvider;
+    }
+
+    /**
+     * Makes the generated client read and write the json bodies with a single mapper tuned with the jackson afterburner module,
+     * that ignores the unknown properties and has the readers and writers of the models built up front. The generated code then
+     * requires <code>com.fasterxml.jackson.module:jackson-module-afterburner</code>.
+     */
+    public CodeGenConfig setGenerateObjectMapperProvider(boolean generateObjectMapperProvider) {
+        this.generateObjectMapperProvider = generateObjectMapperProvider;
+        return this;
+    }
+
+    public boolean getGenerateModelSerializers() {
+        return generateModelSerializers;
+    }
+
+    /**
+     * Generates a serializer and a deserializer for each model, reading and writing its fields without reflection, registered
+     * through a generated jackson module in the mapper of the client. Jersey clients then read their json bodies through a
+     * generated object mapper provider, tuned or not.
+     */
+    public CodeGenConfig setGenerateModelSerializers(boolean generateModelSerializers) {
+        this.generateModelSerializers = generateModelSerializers;
+        return this;
+    }
+
+    public boolean getGenerateImmutableModels() {
+        return generateImmutableModels;
+    }
+
+    /**
+     * Generates the POJOs of the schemas with final fields and no setters, built through a nested <code>Builder</code> that
+     * jackson also reads them with. The lists and the additional properties they are given are exposed unmodifiable.
+     */
+    public CodeGenConfig setGenerateImmutableModels(boolean generateImmutableModels) {
+        this.generateImmutableModels = generateImmutableModels;
+        return this;
+    }
+
+    public ClientBackend getClientBackend() {
+        return clientBackend;
+    }
+
+    /**
+     * Http client the generated code is built on, jersey by default.
+     */
+    public CodeGenConfig setClientBackend(ClientBackend clientBackend) {
+        this.clientBackend = clientBackend;
+        return this;
+    }
 }
@@ -5,31 +5,44 @@ import static org.mule.client.codegen.utils.SecuritySchemesHelper.BASIC_AUTHENTI
 
 import java.io.*;
 import java.net.URI;
+import java.net.URISyntaxException;
 import java.net.URL;
-import java.net.URLEncoder;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 
-import javax.ws.rs.client.Client;
+import javax.annotation.Nullable;
 
+import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang.StringUtils;
-import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 import org.jsonschema2pojo.*;
+import org.jsonschema2pojo.rules.Rule;
 import org.jsonschema2pojo.rules.RuleFactory;
 import org.mule.client.codegen.clientgenerator.Jersey2RestClientGeneratorImpl;
+import org.mule.client.codegen.clientgenerator.JdkHttpRestClientGeneratorImpl;
 import org.mule.client.codegen.model.JTypeWithMimeType;
-import org.mule.client.codegen.security.BasicAuthClientGenerator;
-import org.mule.client.codegen.security.NoSecuredClientGenerator;
+import org.mule.client.codegen.output.IncrementalCodeWriter;
+import org.mule.client.codegen.output.OutputRegistry;
+import org.mule.client.codegen.schema.InMemoryContentResolver;
+import org.mule.client.codegen.schema.ImmutableModelGenerator;
+import org.mule.client.codegen.schema.LazyAdditionalPropertiesRule;
+import org.mule.client.codegen.schema.ModelSerializerGenerator;
+import org.mule.client.codegen.schema.PrimitivePropertyRule;
 import org.mule.client.codegen.security.SecurityClientGenerator;
+import org.mule.client.codegen.utils.DigestHelper;
 import org.mule.client.codegen.utils.MimeTypeHelper;
 import org.mule.client.codegen.utils.NameHelper;
+import org.mule.client.codegen.utils.SchemaHashHelper;
 import org.mule.client.codegen.utils.SecuritySchemesHelper;
 import org.mule.client.codegen.utils.TypeConstants;
+import org.mule.raml.ApiModelCache;
 import org.mule.raml.ApiModelLoader;
 import org.mule.raml.model.Action;
 import org.mule.raml.model.ActionType;
@@ -39,10 +52,15 @@ import org.mule.raml.model.Resource;
 import org.mule.raml.model.Response;
 import org.mule.raml.model.SecurityScheme;
 import org.mule.raml.model.TypeFieldDefinition;
+import org.raml.v2.api.loader.DefaultResourceLoader;
+import org.raml.v2.api.loader.ResourceLoader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.fasterxml.jackson.core.JsonParseException;
+import com.sun.codemodel.ClassType;
+import com.sun.codemodel.JArray;
+import com.sun.codemodel.JClass;
 import com.sun.codemodel.JClassAlreadyExistsException;
 import com.sun.codemodel.JCodeModel;
 import com.sun.codemodel.JDefinedClass;
@@ -52,6 +70,8 @@ import com.sun.codemodel.JFieldVar;
 import com.sun.codemodel.JInvocation;
 import com.sun.codemodel.JMethod;
 import com.sun.codemodel.JMod;
+import com.sun.codemodel.JOp;
+import com.sun.codemodel.JPackage;
 import com.sun.codemodel.JType;
 import com.sun.codemodel.JVar;
 
@@ -76,13 +96,22 @@ public class RamlJavaClientGenerator {
     public static final String MODEL_PACKAGE_NAME = "model";
     public static final String BASE_URL_FIELD_NAME = "baseUrl";
     public static final String URI_PARAM_FIELD_NAME = "uriParam";
+    public static final String URI_TEMPLATE_FIELD_NAME = "uriTemplate";
+    public static final String URI_PARAMS_FIELD_NAME = "uriParams";
+    public static final String TEMPLATE_PARAM_NAME = "template";
     public static final String GET_BASE_URI_METHOD_NAME = "getBaseUri";
     public static final String CLIENT_FIELD_NAME = "_client";
+    public static final String GET_CLIENT_METHOD_NAME = "getClient";
+
+    // Base of the inline schemas of apis whose location is unknown
+    private static final URI INLINE_SCHEMAS_LOCATION = URI.create("inline:/");
+
+    private static final String OWN_CLIENT_JAVADOC = "When a client is given it is used as is and it is not closed by {@link #close()}, otherwise one is created.";
 
     // Types
-    private static Map<String, Class<?>> CLASS_BY_TYPE = new HashMap<>();
+    private static final Map<String, Class<?>> CLASS_BY_TYPE = new HashMap<>();
 
-    {
+    static {
         CLASS_BY_TYPE.put(TypeConstants.STRING, String.class);
         CLASS_BY_TYPE.put(TypeConstants.NUMBER, Double.class);
         CLASS_BY_TYPE.put(TypeConstants.INTEGER, Integer.class);
@@ -99,7 +128,21 @@ public class RamlJavaClientGenerator {
 
     // This two properties hold state so maybe should be local and pass through
     private Map<String, JType> globalTypes;
-    private Map<String, Pair<JDefinedClass, JMethod>> resourceClasses;
+    private Map<String, GeneratedResource> resourceClasses;
+    private boolean jsonArrayStreamingBuilt;
+    private boolean rangedDownloadBuilt;
+    // Location of the RAML of the last built api, or the full name of its client class when unknown, used to track its generated files
+    private String apiKey;
+    // Shared with the generators of the other apis of the run, a fresh one on each write when null
+    private OutputRegistry outputRegistry;
+    // Location of the RAML being built and the inline schemas registered next to it
+    private URI ramlLocation = INLINE_SCHEMAS_LOCATION;
+    private final InMemoryContentResolver schemaContentResolver = new InMemoryContentResolver();
+    // Schema state of the current run, shared by every schema of the api
+    private SchemaStore schemaStore = new SchemaStore(schemaContentResolver);
+    private final Map<SourceType, SchemaMapper> schemaMappers = new EnumMap<>(SourceType.class);
+    // Types generated in the current run by the canonical hash of their schema, only used when deduplicating types
+    private final Map<String, JType> typesByContent = new HashMap<>();
 
 
     public RamlJavaClientGenerator(String basePackage, File targetFolder) {
@@ -110,34 +153,86 @@ public class RamlJavaClientGenerator {
         this.basePackage = basePackage;
         this.targetFolder = targetFolder;
         this.codeGenConfig = codeGenConfig;
-        this.clientGenerator = new Jersey2RestClientGeneratorImpl();
+        this.clientGenerator = codeGenConfig.getClientBackend() == ClientBackend.jdk ? new JdkHttpRestClientGeneratorImpl() : new Jersey2RestClientGeneratorImpl();
         this.resourceClasses = new HashMap<>();
         this.globalTypes = new HashMap<>();
         this.outputVersion = outputVersion;
     }
 
     public void generate(URL ramlFile) throws JClassAlreadyExistsException, IOException {
+        generate(ramlFile, new DefaultResourceLoader());
+    }
+
+    /**
+     * Generates the client for the given RAML, fetching the resources it references (libraries, schemas...) with the given resource loader.
+     */
+    public void generate(URL ramlFile, ResourceLoader resourceLoader) throws JClassAlreadyExistsException, IOException {
         if (ramlFile == null) {
             throw new IllegalArgumentException("Url can not be null ");
         }
-        globalTypes.clear();
-        resourceClasses.clear();
         logger.info("Start generating for " + ramlFile);
         try (final InputStreamReader inputStreamReader = new InputStreamReader(ramlFile.openStream())) {
-            final ApiModel raml = ApiModelLoader.build(inputStreamReader, ramlFile.toExternalForm());
+            final ApiModel raml;
+            if (codeGenConfig.getParseCacheDirectory() != null) {
+                raml = new ApiModelCache(codeGenConfig.getParseCacheDirectory()).build(resourceLoader, IOUtils.toString(inputStreamReader), ramlFile.toExternalForm());
+            } else {
+                raml = ApiModelLoader.build(resourceLoader, inputStreamReader, ramlFile.toExternalForm());
+            }
             logger.info("Parsed successfully " + ramlFile);
-            generate(raml);
+            write(buildCodeModel(raml, toURI(ramlFile)));
         }
 
     }
 
-    private void generate(ApiModel raml) throws JClassAlreadyExistsException, IOException {
+    /**
+     * Shares the files generated with the generators of the other apis of the run writing into the same folder, so that two apis
+     * generating the same file fail instead of overwriting each other.
+     */
+    public RamlJavaClientGenerator setOutputRegistry(OutputRegistry outputRegistry) {
+        this.outputRegistry = outputRegistry;
+        return this;
+    }
+
+    /**
+     * @return the documents the schemas of the last built api were resolved from, besides the RAML and the resources fetched by its
+     * resource loader (the ones only reached through a <code>$ref</code>), and the SHA-256 of their content
+     */
+    public Map<String, String> getResolvedSchemas() {
+        return schemaContentResolver.getResolved();
+    }
+
+    public void generate(ApiModel raml) throws JClassAlreadyExistsException, IOException {
+        write(buildCodeModel(raml));
+    }
+
+    /**
+     * Builds the code model of the client for the given api without writing anything to the target folder.
+     */
+    public JCodeModel buildCodeModel(ApiModel raml) throws JClassAlreadyExistsException, IOException {
+        return buildCodeModel(raml, null);
+    }
+
+    /**
+     * Builds the code model of the client for the given api without writing anything to the target folder.
+     *
+     * @param ramlLocation location of the RAML, relative references of the inline schemas are resolved against it. May be null.
+     */
+    public JCodeModel buildCodeModel(ApiModel raml, URI ramlLocation) throws JClassAlreadyExistsException, IOException {
+        globalTypes.clear();
+        resourceClasses.clear();
+        jsonArrayStreamingBuilt = false;
+        rangedDownloadBuilt = false;
+        schemaContentResolver.clear();
+        schemaStore = new SchemaStore(schemaContentResolver);
+        schemaMappers.clear();
+        typesByContent.clear();
+        this.ramlLocation = ramlLocation != null && !ramlLocation.isOpaque() ? ramlLocation : INLINE_SCHEMAS_LOCATION;
         final Map<String, Resource> resources = raml.getResources();
         final JCodeModel cm = new JCodeModel();
         final List<Pair<String, SecurityScheme>> supportedSecuritySchemes = SecuritySchemesHelper.getSupportedSecuritySchemes(raml);
         final List<Map<String, String>> schemas = raml.getSchemas();
         final List<JFieldVar> generatedRequiredField = new ArrayList<>();
-        SecurityClientGenerator clientGenerator = new NoSecuredClientGenerator();
+        SecurityClientGenerator clientGenerator = this.clientGenerator.createSecurityClientGenerator(Collections.<JFieldVar>emptyList());
 
         for (Map<String, String> schema : schemas) {
             for (Map.Entry<String, String> schemaEntry : schema.entrySet()) {
@@ -155,6 +250,7 @@ public class RamlJavaClientGenerator {
 
         final JDefinedClass containerClientClass = cm
                 ._class(basePackage + PACKAGE_SEPARATOR + "api" + PACKAGE_SEPARATOR + NameHelper.toValidClassName(raml.getTitle()) + CLIENT_CLASS_SUFFIX);
+        apiKey = ramlLocation != null ? ramlLocation.toString() : containerClientClass.fullName();
 
         //Check if exist a supported security exist
         if (!supportedSecuritySchemes.isEmpty()) {
@@ -162,18 +258,52 @@ public class RamlJavaClientGenerator {
             switch (stringSecuritySchemePair.getValue().getType()) {
                 case BASIC_AUTHENTICATION: {
                     generatedRequiredField.addAll(SecuritySchemesHelper.createBasicAuthFields(containerClientClass));
-                    clientGenerator = new BasicAuthClientGenerator(generatedRequiredField);
+                    clientGenerator = this.clientGenerator.createSecurityClientGenerator(generatedRequiredField);
                     break;
                 }
             }
         }
 
+        containerClientClass._implements(AutoCloseable.class);
         final JFieldVar baseUriField = containerClientClass.field(JMod.PRIVATE, String.class, "_" + BASE_URL_FIELD_NAME);
+        //One client shared by the whole resource tree, so all the resources use the same connection pool
+        final JClass clientType = this.clientGenerator.getClientType(cm);
+        final JFieldVar clientField = containerClientClass.field(JMod.PRIVATE, clientType, CLIENT_FIELD_NAME);
+        final JFieldVar ownsClientField = containerClientClass.field(JMod.PRIVATE, boolean.class, PRIVATE_FIELD_PREFIX + "ownsClient");
+
+        JExpression clientConfig = null;
+        JFieldVar poolConfigField = null;
+        if (codeGenConfig.getUsePooledConnector()) {
+            final JDefinedClass poolConfigClass = this.clientGenerator.buildConnectionPoolConfig(cm, basePackage, raml.getTitle(), codeGenConfig);
+            if (poolConfigClass != null) {
+                poolConfigField = containerClientClass.field(JMod.PRIVATE | JMod.FINAL, poolConfigClass, PRIVATE_FIELD_PREFIX + "connectionPoolConfig");
+                final JMethod getPoolConfig = containerClientClass.method(JMod.PUBLIC, poolConfigClass, "getConnectionPoolConfig");
+                getPoolConfig.javadoc().add("The settings of the connection pool, the pool sizes and the idle timeout can be tuned at runtime. "
+                        + "Null when the client was given, its pool is configured by whoever built it.");
+                getPoolConfig.body()._return(poolConfigField);
+                clientConfig = poolConfigField.invoke("toClientConfig");
+            } else {
+                logger.warn("The " + codeGenConfig.getClientBackend() + " client does not support a pooled connector, ignoring it");
+            }
+        }
+        if (codeGenConfig.getUseCompression()) {
+            clientConfig = this.clientGenerator.buildCompression(cm, basePackage, raml.getTitle(), clientConfig, codeGenConfig);
+        }
+        //Filled once the models of every resource are generated
+        JArray modelTypes = null;
+        JDefinedClass jsonModule = null;
+        if (codeGenConfig.getGenerateModelSerializers()) {
+            jsonModule = ModelSerializerGenerator.declareModule(cm, basePackage, raml.getTitle());
+        }
+        if (codeGenConfig.getGenerateObjectMapperProvider() || jsonModule != null) {
+            modelTypes = JExpr.newArray(cm.ref(Class.class).narrow(cm.wildcard()));
+            clientConfig = this.clientGenerator.buildObjectMapperProvider(cm, basePackage, raml.getTitle(), clientConfig, modelTypes, jsonModule, codeGenConfig);
+        }
 
-        final JMethod getClientMethod = clientGenerator.createClient(containerClientClass);
+        final JMethod getClientMethod = clientGenerator.createClient(containerClientClass, clientConfig);
         JMethod getClientWithMultipart = null;
         if (hasMultipart(resources)) {
-            getClientWithMultipart = clientGenerator.createClientWithMultipart(containerClientClass);
+            getClientWithMultipart = clientGenerator.createClientWithMultipart(containerClientClass, clientConfig);
         }
 
         JMethod defaultConstructor = null;
@@ -184,78 +314,196 @@ public class RamlJavaClientGenerator {
             for (JFieldVar jFieldVar : generatedRequiredField) {
                 defaultConstructor.body().assign(jFieldVar, JExpr._null());
             }
+            if (poolConfigField != null) {
+                defaultConstructor.body().assign(poolConfigField, JExpr._new(poolConfigField.type()));
+            }
         }
 
-        final JMethod containerConstructor = containerClientClass.constructor(JMod.PUBLIC);
+        // With a pool the public constructors pass either the client or the settings of the pool to this one
+        final JMethod containerConstructor = containerClientClass.constructor(poolConfigField != null ? JMod.PRIVATE : JMod.PUBLIC);
+        if (poolConfigField == null) {
+            containerConstructor.javadoc().add(OWN_CLIENT_JAVADOC);
+        }
         final JVar baseUriParam = containerConstructor.param(String.class, BASE_URL_FIELD_NAME);
 
         for (JFieldVar jFieldVar : generatedRequiredField) {
             JVar param = containerConstructor.param(jFieldVar.type(), jFieldVar.name());
             containerConstructor.body().assign(JExpr._this().ref(jFieldVar), param);
         }
+        final JVar clientParam = containerConstructor.param(clientType, "client");
+        if (poolConfigField != null) {
+            containerConstructor.body().assign(poolConfigField, containerConstructor.param(poolConfigField.type(), "connectionPoolConfig"));
+        }
 
         containerConstructor.body().assign(baseUriField, baseUriParam);
+        containerConstructor.body().assign(ownsClientField, clientParam.eq(JExpr._null()));
+        containerConstructor.body().assign(clientField, JOp.cond(ownsClientField, JExpr.invoke(getClientWithMultipart != null ? getClientWithMultipart : getClientMethod), clientParam));
 
-        containerClientClass.method(JMod.PROTECTED, String.class, GET_BASE_URI_METHOD_NAME).body()._return(baseUriField);
-
-        final JMethod factoryMethod = containerClientClass.method(JMod.PUBLIC | JMod.STATIC, containerClientClass, "create");
-        final JVar baseUrlFactoryParam = factoryMethod.param(cm.ref(String.class), BASE_URL_FIELD_NAME);
-
-        for (JFieldVar field : generatedRequiredField) {
-            factoryMethod.param(field.type(), field.name());
+        final JMethod ownClientConstructor = containerClientClass.constructor(JMod.PUBLIC);
+        final JInvocation ownClientInvocation = JExpr.invoke("this").arg(ownClientConstructor.param(String.class, BASE_URL_FIELD_NAME));
+        for (JFieldVar jFieldVar : generatedRequiredField) {
+            ownClientInvocation.arg(ownClientConstructor.param(jFieldVar.type(), jFieldVar.name()));
+        }
+        if (poolConfigField != null) {
+            ownClientConstructor.body().add(ownClientInvocation.arg(JExpr._new(poolConfigField.type())));
+        } else {
+            ownClientConstructor.body().add(ownClientInvocation.arg(JExpr._null()));
         }
 
-        JInvocation invocation = JExpr._new(containerClientClass).arg(baseUrlFactoryParam);
+        containerClientClass.method(JMod.PROTECTED, String.class, GET_BASE_URI_METHOD_NAME).body()._return(baseUriField);
 
-        for (JVar generatedMethodRequiredVar : generatedRequiredField) {
-            invocation.arg(generatedMethodRequiredVar);
-        }
+        final JMethod closeMethod = containerClientClass.method(JMod.PUBLIC, cm.VOID, "close");
+        closeMethod.annotate(Override.class);
+        closeMethod.javadoc().add("Closes the client if it was created by this instance.");
+        this.clientGenerator.closeClient(cm, closeMethod.body()._if(ownsClientField)._then(), clientField);
 
-        factoryMethod.body()._return(invocation);
+        buildFactoryMethod(cm, containerClientClass, generatedRequiredField, false);
+        buildFactoryMethod(cm, containerClientClass, generatedRequiredField, true);
+        if (poolConfigField != null) {
+            buildPoolConfigConstructors(cm, containerClientClass, generatedRequiredField, (JClass) poolConfigField.type());
+        }
 
         if (raml.getDocumentation() != null && !raml.getDocumentation().isEmpty()) {
             containerClientClass.javadoc().add(raml.getDocumentation().get(0).getContent());
         }
 
         if (StringUtils.isNotBlank(raml.getBaseUri())) {
-            JMethod constructor = containerClientClass.constructor(JMod.PUBLIC);
-            JInvocation thisInvocation = JExpr.invoke("this");
-            thisInvocation.arg(JExpr.lit(raml.getBaseUri().replaceAll("/$", "")));
-            for (JVar var : generatedRequiredField) {
-                JVar param = constructor.param(var.type(), var.name());
-                thisInvocation.arg(param);
-            }
-            constructor.body().add(thisInvocation);
+            buildDefaultBaseUriConstructor(cm, containerClientClass, raml.getBaseUri(), generatedRequiredField, false);
+            buildDefaultBaseUriConstructor(cm, containerClientClass, raml.getBaseUri(), generatedRequiredField, true);
+        }
 
-            JMethod create = containerClientClass.method(JMod.PUBLIC | JMod.STATIC, containerClientClass, "create");
-            JInvocation newInvocation = JExpr._new(containerClientClass);
+        if (!resources.isEmpty()) {
+            //The uri templates of the resources are built once, on top of the one of the base uri
+            final JExpression baseUriTemplate = this.clientGenerator.createUriTemplate(cm, clientField, JExpr.invoke(GET_BASE_URI_METHOD_NAME));
+            //A given client does not have the credentials of the api, they are applied to the uri templates built from it
+            final JVar uriTemplate = containerConstructor.body().decl(JMod.FINAL, this.clientGenerator.getUriTemplateType(cm), URI_TEMPLATE_FIELD_NAME,
+                    clientGenerator.authenticate(cm, baseUriTemplate, ownsClientField));
+            final GeneratedResource container = new GeneratedResource(containerClientClass, defaultConstructor, containerConstructor, null, null, null, null);
+            buildResourceClass(cm, container, resources, "", uriTemplate, clientField, raml);
+        }
+        if (modelTypes != null || codeGenConfig.getGenerateImmutableModels()) {
+            final List<JDefinedClass> modelClasses = getModelClasses(cm);
+            if (codeGenConfig.getGenerateImmutableModels()) {
+                // Before the serializers, that read the immutable models through their builder
+                ImmutableModelGenerator.build(cm, modelClasses);
+            }
+            if (modelTypes != null) {
+                for (JDefinedClass modelClass : modelClasses) {
+                    modelTypes.add(JExpr.dotclass(modelClass));
+                }
+            }
+            if (jsonModule != null) {
+                ModelSerializerGenerator.build(cm, jsonModule, modelClasses);
+            }
+        }
+        return cm;
+    }
 
-            for (JFieldVar var : generatedRequiredField) {
-                JVar param = create.param(var.type(), var.name());
-                newInvocation.arg(param);
+    /**
+     * @return the classes of the model packages, sorted by name so the generated code does not depend on the order they were built in
+     */
+    private List<JDefinedClass> getModelClasses(JCodeModel cm) {
+        final Map<String, JDefinedClass> modelClasses = new TreeMap<>();
+        final Iterator<JPackage> packages = cm.packages();
+        while (packages.hasNext()) {
+            final JPackage modelPackage = packages.next();
+            if (modelPackage.name().endsWith(PACKAGE_SEPARATOR + MODEL_PACKAGE_NAME)) {
+                final Iterator<JDefinedClass> classes = modelPackage.classes();
+                while (classes.hasNext()) {
+                    final JDefinedClass modelClass = classes.next();
+                    if (modelClass.getClassType() == ClassType.CLASS) {
+                        modelClasses.put(modelClass.fullName(), modelClass);
+                    }
+                }
             }
-            create.body()._return(newInvocation);
+        }
+        return new ArrayList<>(modelClasses.values());
+    }
 
+    /**
+     * Adds the public constructors, and the <code>create</code> factory method, of a client with a connection pool that take either the
+     * client to use or the settings of the pool to create one with.
+     */
+    private void buildPoolConfigConstructors(JCodeModel cm, JDefinedClass containerClientClass, List<JFieldVar> generatedRequiredField, JClass poolConfigClass) {
+        final JMethod clientConstructor = containerClientClass.constructor(JMod.PUBLIC);
+        clientConstructor.javadoc().add(OWN_CLIENT_JAVADOC);
+        final JInvocation clientInvocation = JExpr.invoke("this").arg(clientConstructor.param(String.class, BASE_URL_FIELD_NAME));
+        final JMethod poolConfigConstructor = containerClientClass.constructor(JMod.PUBLIC);
+        poolConfigConstructor.javadoc().add("Creates a client with a connection pool configured with the given settings.");
+        final JInvocation poolConfigInvocation = JExpr.invoke("this").arg(poolConfigConstructor.param(String.class, BASE_URL_FIELD_NAME));
+        final JMethod create = containerClientClass.method(JMod.PUBLIC | JMod.STATIC, containerClientClass, "create");
+        final JInvocation newInvocation = JExpr._new(containerClientClass).arg(create.param(String.class, BASE_URL_FIELD_NAME));
+        for (JFieldVar field : generatedRequiredField) {
+            clientInvocation.arg(clientConstructor.param(field.type(), field.name()));
+            poolConfigInvocation.arg(poolConfigConstructor.param(field.type(), field.name()));
+            newInvocation.arg(create.param(field.type(), field.name()));
         }
+        // A given client has its own connector, there are no settings of a pool to keep
+        clientInvocation.arg(clientConstructor.param(clientGenerator.getClientType(cm), "client")).arg(JExpr._null());
+        clientConstructor.body().add(clientInvocation);
+        poolConfigInvocation.arg(JExpr._null()).arg(poolConfigConstructor.param(poolConfigClass, "connectionPoolConfig"));
+        poolConfigConstructor.body().add(poolConfigInvocation);
+        newInvocation.arg(create.param(poolConfigClass, "connectionPoolConfig"));
+        create.body()._return(newInvocation);
+    }
 
-        buildResourceClass(cm, containerClientClass, defaultConstructor, containerConstructor, resources, "", getClientMethod, getClientWithMultipart, raml);
+    /**
+     * Adds the static <code>create</code> factory method taking the base url, the security fields and optionally the client to use.
+     */
+    private void buildFactoryMethod(JCodeModel cm, JDefinedClass containerClientClass, List<JFieldVar> generatedRequiredField, boolean withClient) {
+        final JMethod factoryMethod = containerClientClass.method(JMod.PUBLIC | JMod.STATIC, containerClientClass, "create");
+        final JInvocation invocation = JExpr._new(containerClientClass).arg(factoryMethod.param(cm.ref(String.class), BASE_URL_FIELD_NAME));
+        for (JFieldVar field : generatedRequiredField) {
+            invocation.arg(factoryMethod.param(field.type(), field.name()));
+        }
+        if (withClient) {
+            invocation.arg(factoryMethod.param(clientGenerator.getClientType(cm), "client"));
+        }
+        factoryMethod.body()._return(invocation);
+    }
 
+    /**
+     * Adds the constructor and the <code>create</code> factory method that use the base uri declared in the raml, optionally taking the client to use.
+     */
+    private void buildDefaultBaseUriConstructor(JCodeModel cm, JDefinedClass containerClientClass, String baseUri, List<JFieldVar> generatedRequiredField, boolean withClient) {
+        final JMethod constructor = containerClientClass.constructor(JMod.PUBLIC);
+        final JInvocation thisInvocation = JExpr.invoke("this");
+        thisInvocation.arg(JExpr.lit(baseUri.replaceAll("/$", "")));
+        final JMethod create = containerClientClass.method(JMod.PUBLIC | JMod.STATIC, containerClientClass, "create");
+        final JInvocation newInvocation = JExpr._new(containerClientClass);
+        for (JFieldVar var : generatedRequiredField) {
+            thisInvocation.arg(constructor.param(var.type(), var.name()));
+            newInvocation.arg(create.param(var.type(), var.name()));
+        }
+        if (withClient) {
+            thisInvocation.arg(constructor.param(clientGenerator.getClientType(cm), "client"));
+            newInvocation.arg(create.param(clientGenerator.getClientType(cm), "client"));
+        }
+        constructor.body().add(thisInvocation);
+        create.body()._return(newInvocation);
+    }
 
+    /**
+     * Writes the given code model into the target folder.
+     */
+    public void write(JCodeModel cm) throws IOException {
         if (!targetFolder.exists()) {
             targetFolder.mkdirs();
         }
-        // TODO add a output or disable output
-        cm.build(targetFolder, targetFolder, null);
-        logger.info("Finished Generation");
+        final String key = apiKey != null ? apiKey : basePackage;
+        final IncrementalCodeWriter codeWriter = new IncrementalCodeWriter(targetFolder, codeGenConfig.getManifestDirectory(), key,
+                outputRegistry != null ? outputRegistry : new OutputRegistry());
+        cm.build(codeWriter);
+        logger.info("Finished Generation: " + codeWriter.getWritten() + " files written, " + codeWriter.getUnchanged() + " unchanged, " + codeWriter.getRemoved() + " removed");
     }
 
-    private void buildResourceClass(JCodeModel cm, JDefinedClass containerClass, JMethod defaultContainerConstructor, JMethod containerConstructor, Map<String, Resource> resources, String containerResource,
-                                    JMethod getClientMethod, JMethod getClientWithMultipart, ApiModel apiModel) throws JClassAlreadyExistsException, IOException {
+    private void buildResourceClass(JCodeModel cm, GeneratedResource container, Map<String, Resource> resources, String containerResource,
+                                    JExpression containerUriTemplate, JExpression containerClient, ApiModel apiModel) throws JClassAlreadyExistsException, IOException {
 
         for (Map.Entry<String, Resource> stringResourceEntry : resources.entrySet()) {
-            JDefinedClass parentClass = containerClass;
-            JMethod parentConstructor = containerConstructor;
-            JMethod parentDefaultConstructor = defaultContainerConstructor;
+            GeneratedResource parent = container;
+            JExpression parentUriTemplate = containerUriTemplate;
+            JExpression parentClient = containerClient;
             String parentResource = containerResource;
             final String resourcesName = stringResourceEntry.getKey();
             final String[] resourceParts = resourcesName.split("/");
@@ -265,99 +513,155 @@ public class RamlJavaClientGenerator {
                     final Resource resource = stringResourceEntry.getValue();
                     final String resourcePath = parentResource + "/" + resourceName;
                     logger.info("-" + resourcePath);
-                    final JDefinedClass resourceClass;
-                    JMethod defaultConstructor = null;
-                    final JMethod resourceConstructor;
+                    final GeneratedResource generatedResource;
                     //Check if it is not already defined
 
                     if (!resourceClasses.containsKey(resourcePath)) {
                         final String resourceDescription = resource.getDescription();
+                        final boolean uriParameter = isURIParameter(resourceName);
+                        final boolean hasUriParams = uriParameter || parent.uriParamsField != null;
                         //Generate resource class
-                        resourceClass = cm._class(getResourcePackage(resourcePath) + PACKAGE_SEPARATOR + NameHelper.toValidClassName(resourceName));
+                        final JDefinedClass resourceClass = cm._class(getResourcePackage(resourcePath) + PACKAGE_SEPARATOR + NameHelper.toValidClassName(resourceName));
                         if (StringUtils.isNotEmpty(resourceDescription)) {
                             resourceClass.javadoc().add(resourceDescription);
                         }
 
-                        final JMethod getClient = resourceClass.method(JMod.PROTECTED, Client.class, "getClient");
+                        final JMethod getClient = resourceClass.method(JMod.PROTECTED, clientGenerator.getClientType(cm), GET_CLIENT_METHOD_NAME);
                         getClient.body()._return(JExpr._this().ref(CLIENT_FIELD_NAME));
 
-                        final JFieldVar baseUrlField = resourceClass.field(JMod.PRIVATE, String.class, PRIVATE_FIELD_PREFIX + BASE_URL_FIELD_NAME);
-                        final JFieldVar clientField = resourceClass.field(JMod.PRIVATE, Client.class, CLIENT_FIELD_NAME);
+                        final JClass uriTemplateType = clientGenerator.getUriTemplateType(cm);
+                        final JFieldVar uriTemplateField = resourceClass.field(JMod.PRIVATE, uriTemplateType, PRIVATE_FIELD_PREFIX + URI_TEMPLATE_FIELD_NAME);
+                        final JFieldVar clientField = resourceClass.field(JMod.PRIVATE, clientGenerator.getClientType(cm), CLIENT_FIELD_NAME);
+                        final JFieldVar uriParamsField = hasUriParams ? resourceClass.field(JMod.PRIVATE, uriParamsType(cm), PRIVATE_FIELD_PREFIX + URI_PARAMS_FIELD_NAME) : null;
 
-                        defaultConstructor = resourceClass.constructor(JMod.PUBLIC);
-                        defaultConstructor.body().assign(baseUrlField, JExpr._null());
+                        final JMethod defaultConstructor = resourceClass.constructor(JMod.PUBLIC);
+                        defaultConstructor.body().assign(uriTemplateField, JExpr._null());
                         defaultConstructor.body().assign(clientField, JExpr._null());
+                        if (uriParamsField != null) {
+                            defaultConstructor.body().assign(uriParamsField, JExpr._null());
+                        }
 
-                        resourceConstructor = resourceClass.constructor(JMod.PUBLIC);
-                        final JVar baseUrlParam = resourceConstructor.param(String.class, BASE_URL_FIELD_NAME);
-                        final JVar clientParam = resourceConstructor.param(Client.class, CLIENT_FIELD_NAME);
-                        final JMethod getResourceMethod = resourceClass.method(JMod.PRIVATE, String.class, GET_BASE_URI_METHOD_NAME);
-                        if (isURIParameter(resourceName)) {
-                            //Add constructor additional parameter for uriParam
-                            final JVar uriParamConstructorParam = resourceConstructor.param(String.class, URI_PARAM_FIELD_NAME);
+                        //Built once per client, the uri parameters are left as templates
+                        final JMethod templateConstructor = resourceClass.constructor(JMod.PUBLIC);
+                        final JVar uriTemplateParam = templateConstructor.param(uriTemplateType, URI_TEMPLATE_FIELD_NAME);
+                        final JVar clientParam = templateConstructor.param(clientGenerator.getClientType(cm), CLIENT_FIELD_NAME);
+                        templateConstructor.body().assign(uriTemplateField, clientGenerator.appendToUriTemplate(cm, uriTemplateParam, resourceName));
+                        templateConstructor.body().assign(JExpr._this().ref(clientField), clientParam);
+
+                        //Built on each call with the values of the uri parameters, sharing the templates
+                        JMethod resolveConstructor = null;
+                        JVar templateParam = null;
+                        if (uriParamsField != null) {
+                            resolveConstructor = resourceClass.constructor(JMod.PUBLIC);
+                            templateParam = resolveConstructor.param(resourceClass, TEMPLATE_PARAM_NAME);
+                            final JVar uriParamsParam = resolveConstructor.param(uriParamsType(cm), URI_PARAMS_FIELD_NAME);
+                            resolveConstructor.body().assign(uriTemplateField, templateParam.ref(uriTemplateField));
+                            resolveConstructor.body().assign(clientField, templateParam.ref(clientField));
+                            resolveConstructor.body().assign(uriParamsField, uriParamsParam);
+                        }
 
-                            //Link with parent as method
+                        if (uriParameter) {
+                            //Link with parent as method, over a template of the resource
                             final String uriParameterName = resourceName.substring(1, resourceName.length() - 1);
-                            final JMethod resourceFactoryMethod = parentClass.method(JMod.PUBLIC, resourceClass, NameHelper.toValidFieldName(uriParameterName));
+                            final JFieldVar templateField = parent.definedClass.field(JMod.PRIVATE | JMod.FINAL, resourceClass, PRIVATE_FIELD_PREFIX + NameHelper.toValidFieldName(uriParameterName));
+                            parent.templateConstructor.body().assign(templateField, JExpr._new(resourceClass).arg(parentUriTemplate).arg(parentClient));
+                            if (parent.resolveConstructor != null) {
+                                parent.resolveConstructor.body().assign(templateField, parent.templateParam.ref(templateField));
+                            }
+                            if (parent.defaultConstructor != null) {
+                                parent.defaultConstructor.body().assign(templateField, JExpr._null());
+                            }
+
+                            final JMethod resourceFactoryMethod = parent.definedClass.method(JMod.PUBLIC, resourceClass, NameHelper.toValidFieldName(uriParameterName));
                             if (StringUtils.isNotEmpty(resourceDescription)) {
                                 resourceFactoryMethod.javadoc().add(resourceDescription);
                             }
                             final JVar uriParam = resourceFactoryMethod.param(String.class, NameHelper.toValidFieldName(uriParameterName));
-                            resourceFactoryMethod.body()._return(JExpr._new(resourceClass).arg(JExpr.invoke(GET_BASE_URI_METHOD_NAME)).arg(JExpr.invoke(getClient)).arg(uriParam));
-
-                            final JInvocation encodedUriParam = cm.ref(URLEncoder.class).staticInvoke("encode").arg(uriParamConstructorParam);
-                            resourceConstructor.body().assign(baseUrlField, baseUrlParam.plus(JExpr.lit("/").plus(encodedUriParam)));
-                            resourceConstructor.body().assign(JExpr._this().ref(clientField), clientParam);
-
+                            if (parent.uriParamsField != null) {
+                                final JInvocation newUriParams = JExpr._new(cm.ref(HashMap.class).narrow(String.class, Object.class)).arg(parent.uriParamsField);
+                                final JVar uriParams = resourceFactoryMethod.body().decl(JMod.FINAL, uriParamsType(cm), URI_PARAMS_FIELD_NAME, newUriParams);
+                                resourceFactoryMethod.body().add(uriParams.invoke("put").arg(uriParameterName).arg(uriParam));
+                                resourceFactoryMethod.body()._return(JExpr._new(resourceClass).arg(templateField).arg(uriParams));
+                            } else {
+                                //The first uri parameter needs no copy of the parameters of its parent
+                                final JInvocation uriParams = cm.ref(Collections.class).staticInvoke("singletonMap").arg(uriParameterName).arg(JExpr.cast(cm.ref(Object.class), uriParam));
+                                resourceFactoryMethod.body()._return(JExpr._new(resourceClass).arg(templateField).arg(uriParams));
+                            }
                         } else {
-                            resourceConstructor.body().assign(baseUrlField, baseUrlParam.plus(JExpr.lit("/" + resourceName)));
-                            resourceConstructor.body().assign(JExpr._this().ref(clientField), clientParam);
                             //Link with parent as field
-                            final JFieldVar resourceField = parentClass.field(JMod.PUBLIC | JMod.FINAL, resourceClass, NameHelper.toValidFieldName(resourceName));
+                            final JFieldVar resourceField = parent.definedClass.field(JMod.PUBLIC | JMod.FINAL, resourceClass, NameHelper.toValidFieldName(resourceName));
                             if (StringUtils.isNotEmpty(resourceDescription)) {
                                 resourceField.javadoc().add(resourceDescription);
                             }
 
-                            if (getClientWithMultipart != null
-                                    && hasMultipart(resource)) {
-                                parentConstructor.body()
-                                        .assign(resourceField, JExpr._new(resourceClass).arg(JExpr.invoke(GET_BASE_URI_METHOD_NAME)).arg(JExpr.invoke(getClientWithMultipart)));
-                            } else {
-                                parentConstructor.body()
-                                        .assign(resourceField, JExpr._new(resourceClass).arg(JExpr.invoke(GET_BASE_URI_METHOD_NAME)).arg(JExpr.invoke(getClientMethod)));
+                            parent.templateConstructor.body().assign(resourceField, JExpr._new(resourceClass).arg(parentUriTemplate).arg(parentClient));
+                            if (parent.resolveConstructor != null) {
+                                //Only shares the template and the uri parameters of its parent, its uri is resolved on each request
+                                parent.resolveConstructor.body().assign(resourceField, JExpr._new(resourceClass).arg(parent.templateParam.ref(resourceField)).arg(parent.uriParamsField));
                             }
-
-                            if (parentDefaultConstructor != null) {
-                                parentDefaultConstructor.body().assign(resourceField, JExpr._null());
+                            if (parent.defaultConstructor != null) {
+                                parent.defaultConstructor.body().assign(resourceField, JExpr._null());
                             }
                         }
 
-                        this.clientGenerator.resolveBaseURI(cm, getResourceMethod, baseUrlField);
-                        this.resourceClasses.put(resourcePath, new ImmutablePair<>(resourceClass, resourceConstructor));
+                        buildBaseUrlConstructor(cm, resourceClass, resourceName, uriParamsField != null);
+
+                        this.clientGenerator.resolveBaseURI(cm, resourceClass, uriTemplateField, uriParamsField);
+                        generatedResource = new GeneratedResource(resourceClass, defaultConstructor, templateConstructor, resolveConstructor, templateParam, uriTemplateField, uriParamsField);
+                        this.resourceClasses.put(resourcePath, generatedResource);
                     } else {
-                        final Pair<JDefinedClass, JMethod> resourcePair = this.resourceClasses.get(resourcePath);
-                        resourceClass = resourcePair.getLeft();
-                        resourceConstructor = resourcePair.getRight();
-                        defaultConstructor = resourceClass.getConstructor(new JType[]{});
+                        generatedResource = this.resourceClasses.get(resourcePath);
                     }
 
-                    parentClass = resourceClass;
-                    parentConstructor = resourceConstructor;
-                    parentDefaultConstructor = defaultConstructor;
+                    parent = generatedResource;
+                    parentUriTemplate = generatedResource.uriTemplateField;
+                    parentClient = JExpr.invoke(GET_CLIENT_METHOD_NAME);
                     parentResource = resourcePath;
 
                     //Only last resource should trigger children and actions
                     if (i == resourceParts.length - 1) {
-                        buildActionMethods(cm, resourceClass, resource, resourcePath, resourceName, apiModel);
-                        //setting the multipart client to null to avoid resources classes not use a non existing method, as they have only one client
-                        JMethod getClientWithMultipartForChildren = null;
-                        buildResourceClass(cm, resourceClass, parentDefaultConstructor, resourceConstructor, resource.getResources(), resourcePath, getClientMethod, getClientWithMultipartForChildren, apiModel);
+                        buildActionMethods(cm, generatedResource.definedClass, resource, resourcePath, resourceName, apiModel);
+                        buildResourceClass(cm, generatedResource, resource.getResources(), resourcePath, parentUriTemplate, parentClient, apiModel);
                     }
                 }
             }
         }
     }
 
+    /**
+     * Keeps the constructor the resources had before they were built over uri templates, taking the url of their parent, when it
+     * does not clash with the template constructor.
+     */
+    private void buildBaseUrlConstructor(JCodeModel cm, JDefinedClass resourceClass, String resourceName, boolean hasUriParams) {
+        final JClass clientType = clientGenerator.getClientType(cm);
+        final boolean uriParameter = isURIParameter(resourceName);
+        if (!uriParameter && resourceClass.getConstructor(new JType[]{cm.ref(String.class), clientType}) != null) {
+            return;
+        }
+        final JMethod constructor = resourceClass.constructor(JMod.PUBLIC);
+        constructor.annotate(Deprecated.class);
+        constructor.javadoc().add("@deprecated builds the uri template of the resource on every call, reach the resource through the client instead.");
+        final JVar baseUrlParam = constructor.param(String.class, BASE_URL_FIELD_NAME);
+        final JVar clientParam = constructor.param(clientType, CLIENT_FIELD_NAME);
+        final JExpression uriTemplate = clientGenerator.createUriTemplate(cm, clientParam, baseUrlParam);
+        if (uriParameter) {
+            final JVar uriParam = constructor.param(String.class, URI_PARAM_FIELD_NAME);
+            final String uriParameterName = resourceName.substring(1, resourceName.length() - 1);
+            final JInvocation uriParams = cm.ref(Collections.class).staticInvoke("singletonMap").arg(uriParameterName).arg(JExpr.cast(cm.ref(Object.class), uriParam));
+            constructor.body().add(JExpr.invoke("this").arg(JExpr._new(resourceClass).arg(uriTemplate).arg(clientParam)).arg(uriParams));
+        } else if (hasUriParams) {
+            //The url of the parent already has the values of its uri parameters
+            final JInvocation uriParams = JExpr._new(cm.ref(HashMap.class).narrow(String.class, Object.class));
+            constructor.body().add(JExpr.invoke("this").arg(JExpr._new(resourceClass).arg(uriTemplate).arg(clientParam)).arg(uriParams));
+        } else {
+            constructor.body().add(JExpr.invoke("this").arg(uriTemplate).arg(clientParam));
+        }
+    }
+
+    private JClass uriParamsType(JCodeModel cm) {
+        return cm.ref(Map.class).narrow(String.class, Object.class);
+    }
+
     /**
      * @param resource starting point ;]
      * @return true if any of the resource's action, or any of it's resources' actions childs is multipart
@@ -417,8 +721,26 @@ public class RamlJavaClientGenerator {
             final JTypeWithMimeType returnType = buildReturnType(cm, actionType, response, resourcePath, resourceName);
             final JType queryParameterType = buildQueryParametersType(cm, actionType, action, resourcePath, resourceName);
             final JType headerParameterType = buildHeaderType(cm, resourcePath, resourceName, actionType, action);
+            final JClass streamedElementType = codeGenConfig.getGenerateStreamingMethods() ? getJsonArrayElementType(returnType) : null;
+            if (streamedElementType != null) {
+                buildJsonArrayStreaming(cm, apiModel);
+            }
+            final boolean returnsFile = codeGenConfig.getGenerateFileMethods() && isBinary(returnType);
             if (bodiesType.isEmpty()) {
                 clientGenerator.callHttpMethod(cm, resourceClass, returnType, outputVersion, null, queryParameterType, headerParameterType, action, apiModel);
+                if (codeGenConfig.getGenerateAsyncMethods()) {
+                    clientGenerator.callHttpMethodAsync(cm, resourceClass, returnType, outputVersion, null, queryParameterType, headerParameterType, action, apiModel);
+                }
+                if (streamedElementType != null) {
+                    clientGenerator.callHttpMethodStreaming(cm, resourceClass, returnType, streamedElementType, outputVersion, null, queryParameterType, headerParameterType, action, apiModel);
+                }
+                if (returnsFile) {
+                    clientGenerator.callHttpMethodToFile(cm, resourceClass, returnType, outputVersion, null, queryParameterType, headerParameterType, action, apiModel);
+                }
+                if (codeGenConfig.getGenerateRangedDownloads() && actionType == ActionType.GET && isBinary(returnType)) {
+                    buildRangedDownload(cm, apiModel);
+                    clientGenerator.callHttpMethodRangedDownload(cm, resourceClass, returnType, outputVersion, queryParameterType, headerParameterType, action, apiModel);
+                }
             } else {
                 for (JTypeWithMimeType bodyType : bodiesType) {
 //                    final MimeType type = bodyType.getMimeType();
@@ -427,11 +749,62 @@ public class RamlJavaClientGenerator {
 //                        asdasd
 //                    }
                     clientGenerator.callHttpMethod(cm, resourceClass, returnType, outputVersion, bodyType, queryParameterType, headerParameterType, action, apiModel);
+                    if (codeGenConfig.getGenerateAsyncMethods()) {
+                        clientGenerator.callHttpMethodAsync(cm, resourceClass, returnType, outputVersion, bodyType, queryParameterType, headerParameterType, action, apiModel);
+                    }
+                    if (streamedElementType != null) {
+                        clientGenerator.callHttpMethodStreaming(cm, resourceClass, returnType, streamedElementType, outputVersion, bodyType, queryParameterType, headerParameterType, action, apiModel);
+                    }
+                    final JClass bodyElementType = codeGenConfig.getGenerateStreamingMethods() ? getJsonArrayElementType(bodyType) : null;
+                    if (bodyElementType != null) {
+                        buildJsonArrayStreaming(cm, apiModel);
+                        clientGenerator.callHttpMethodWithStreamedBody(cm, resourceClass, returnType, outputVersion, bodyType, bodyElementType, queryParameterType, headerParameterType, action, apiModel);
+                    }
+                    if (returnsFile) {
+                        clientGenerator.callHttpMethodToFile(cm, resourceClass, returnType, outputVersion, bodyType, queryParameterType, headerParameterType, action, apiModel);
+                    }
+                    if (codeGenConfig.getGenerateFileMethods() && isBinary(bodyType)) {
+                        clientGenerator.callHttpMethodWithFileBody(cm, resourceClass, returnType, outputVersion, bodyType, queryParameterType, headerParameterType, action, apiModel);
+                    }
                 }
             }
         }
     }
 
+    private void buildJsonArrayStreaming(JCodeModel cm, ApiModel apiModel) throws JClassAlreadyExistsException {
+        if (!jsonArrayStreamingBuilt) {
+            clientGenerator.buildJsonArrayStreaming(cm, basePackage, apiModel.getTitle());
+            jsonArrayStreamingBuilt = true;
+        }
+    }
+
+    private void buildRangedDownload(JCodeModel cm, ApiModel apiModel) throws JClassAlreadyExistsException {
+        if (!rangedDownloadBuilt) {
+            clientGenerator.buildRangedDownload(cm, basePackage, apiModel.getTitle());
+            rangedDownloadBuilt = true;
+        }
+    }
+
+    private boolean isBinary(JTypeWithMimeType bodyType) {
+        return bodyType.getMimeType() != null && MimeTypeHelper.isBinaryType(bodyType.getMimeType());
+    }
+
+    /**
+     * @return the type of the elements when the body is a json array of a non generic type, null otherwise
+     */
+    @Nullable
+    private JClass getJsonArrayElementType(JTypeWithMimeType bodyType) {
+        if (!(bodyType.getType() instanceof JClass) || !MimeTypeHelper.isJsonType(bodyType.getMimeType())) {
+            return null;
+        }
+        final JClass type = (JClass) bodyType.getType();
+        if (!type.erasure().fullName().equals(List.class.getName()) || type.getTypeParameters().size() != 1) {
+            return null;
+        }
+        final JClass elementType = type.getTypeParameters().get(0);
+        return elementType.getTypeParameters().isEmpty() ? elementType : null;
+    }
+
     private Response getActionResponse(Action action) {
         Response response = action.getResponses().get(OK_RESPONSE);
         if (response == null) {
@@ -560,8 +933,12 @@ public class RamlJavaClientGenerator {
             String defaultValueDefinition = typeFieldDefinition.getDefaultValue();
             String descriptionDefinition = typeFieldDefinition.getDescription();
 
-            Class<?> fieldType = CLASS_BY_TYPE.get(typeFieldDefinition.getType());
-            fieldType = fieldType != null ? fieldType : String.class;
+            final Class<?> fieldClass = CLASS_BY_TYPE.get(typeFieldDefinition.getType());
+            JType fieldType = cm._ref(fieldClass != null ? fieldClass : String.class);
+            if (codeGenConfig.getUsePrimitivesForRequired() && (typeFieldDefinition.isRequired() || StringUtils.isNotBlank(defaultValueDefinition))) {
+                // Same as the boxed type for the ones that have no primitive
+                fieldType = fieldType.unboxify();
+            }
 
             final JFieldVar paramField;
 
@@ -640,18 +1017,46 @@ public class RamlJavaClientGenerator {
     }
 
     public JType generatePojoFromSchema(JCodeModel codeModel, String className, String packageName, String json, String url, SourceType sourceType) throws IOException {
+        final String typeKey = codeGenConfig.getDeduplicateTypes() ? getTypeKey(json, url, sourceType) : null;
+        if (typeKey != null && typesByContent.containsKey(typeKey)) {
+            return typesByContent.get(typeKey);
+        }
+        final JType type = doGeneratePojoFromSchema(codeModel, className, packageName, json, url, sourceType);
+        if (typeKey != null) {
+            typesByContent.put(typeKey, type);
+        }
+        return type;
+    }
+
+    /**
+     * Key of the type generated from the given schema or example, structurally identical ones get the same key.
+     * Schemas with references also take into account the location the references are resolved against.
+     */
+    private String getTypeKey(String json, String url, SourceType sourceType) {
+        final boolean schema = SourceType.JSON != sourceType;
+        // Examples are compared by the schema inferred from them, so only their structure matters and not their values
+        final String hash = schema ? SchemaHashHelper.canonicalHash(json, codeGenConfig.getIgnoreDescriptionsForDeduplication()) : SchemaHashHelper.exampleHash(json);
+        if (hash == null) {
+            return null;
+        }
+        String typeKey = sourceType + ":" + hash;
+        if (schema && SchemaHashHelper.hasReferences(json)) {
+            typeKey += ":" + (url != null ? URI.create(url).resolve(".") : ramlLocation);
+        }
+        return typeKey;
+    }
+
+    private JType doGeneratePojoFromSchema(JCodeModel codeModel, String className, String packageName, String json, String url, SourceType sourceType) throws IOException {
         try {
-            SchemaMapper schemaMapper = new SchemaMapper(getRuleFactory(sourceType, codeGenConfig), new SchemaGenerator());
+            final SchemaMapper schemaMapper = getSchemaMapper(sourceType);
             if (SourceType.JSON == sourceType) {
                 return schemaMapper.generate(codeModel, className, packageName, json);
             } else {
                 URI uri;
                 if (url == null) {
-                    File tmpFile = File.createTempFile("tmp", "json");
-                    try (FileWriter writer = new FileWriter(tmpFile)) {
-                        writer.write(json);
-                    }
-                    uri = tmpFile.toURI();
+                    // Served from memory, next to the RAML so relative references resolve against it
+                    uri = ramlLocation.resolve(NameHelper.toValidClassName(className) + "-" + DigestHelper.sha256Hex(json).substring(0, 16) + ".schema.json");
+                    schemaContentResolver.register(uri, json);
                 } else {
                     uri = URI.create(url);
                 }
@@ -665,10 +1070,72 @@ public class RamlJavaClientGenerator {
     }
 
 
-    private RuleFactory getRuleFactory(final SourceType sourceType, CodeGenConfig codeGenConfig) {
+    private static URI toURI(URL url) {
+        try {
+            return url.toURI();
+        } catch (URISyntaxException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the schema mapper of the given source type for the current run. All of them share the same schema store,
+     * so a schema referenced from several places is read and turned into a type only once.
+     */
+    private SchemaMapper getSchemaMapper(SourceType sourceType) {
+        SchemaMapper schemaMapper = schemaMappers.get(sourceType);
+        if (schemaMapper == null) {
+            schemaMapper = new SchemaMapper(getRuleFactory(sourceType, codeGenConfig), new SchemaGenerator());
+            schemaMappers.put(sourceType, schemaMapper);
+        }
+        return schemaMapper;
+    }
+
+    private RuleFactory getRuleFactory(final SourceType sourceType, final CodeGenConfig codeGenConfig) {
         final DefaultGenerationConfig generationConfig = new JsonSchemaGeneratorConfiguration(sourceType, codeGenConfig);
 
-        return new RuleFactory(generationConfig, new Jackson2Annotator(generationConfig), new SchemaStore());
+        return new RuleFactory(generationConfig, new Jackson2Annotator(generationConfig), schemaStore) {
+            @Override
+            public Rule<JDefinedClass, JDefinedClass> getPropertyRule() {
+                return codeGenConfig.getUsePrimitivesForRequired() ? new PrimitivePropertyRule(this) : super.getPropertyRule();
+            }
+
+            @Override
+            public Rule<JDefinedClass, JDefinedClass> getAdditionalPropertiesRule() {
+                return codeGenConfig.getLazyAdditionalProperties() ? new LazyAdditionalPropertiesRule(this) : super.getAdditionalPropertiesRule();
+            }
+        };
+    }
+
+    /**
+     * A generated resource class, or the client class, and the members its children are linked with.
+     */
+    private static class GeneratedResource {
+
+        private final JDefinedClass definedClass;
+        @Nullable
+        private final JMethod defaultConstructor;
+        private final JMethod templateConstructor;
+        // Only for the resources that are or are under a uri parameter
+        @Nullable
+        private final JMethod resolveConstructor;
+        @Nullable
+        private final JVar templateParam;
+        @Nullable
+        private final JFieldVar uriTemplateField;
+        @Nullable
+        private final JFieldVar uriParamsField;
+
+        private GeneratedResource(JDefinedClass definedClass, @Nullable JMethod defaultConstructor, JMethod templateConstructor, @Nullable JMethod resolveConstructor,
+                                  @Nullable JVar templateParam, @Nullable JFieldVar uriTemplateField, @Nullable JFieldVar uriParamsField) {
+            this.definedClass = definedClass;
+            this.defaultConstructor = defaultConstructor;
+            this.templateConstructor = templateConstructor;
+            this.resolveConstructor = resolveConstructor;
+            this.templateParam = templateParam;
+            this.uriTemplateField = uriTemplateField;
+            this.uriParamsField = uriParamsField;
+        }
     }
 
     private static class JsonSchemaGeneratorConfiguration extends DefaultGenerationConfig {
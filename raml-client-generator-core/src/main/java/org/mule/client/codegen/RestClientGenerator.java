@@ -3,22 +3,143 @@ package org.mule.client.codegen;
 
 import com.sun.codemodel.*;
 import org.mule.client.codegen.model.JTypeWithMimeType;
+import org.mule.client.codegen.security.SecurityClientGenerator;
 import org.mule.raml.model.Action;
 import org.mule.raml.model.ApiModel;
 
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.List;
 
 public interface RestClientGenerator {
 
 
     void callHttpMethod(@Nonnull JCodeModel cm, @Nonnull JDefinedClass resourceClass, @Nonnull JTypeWithMimeType returnType, @Nonnull OutputVersion outputVersion, @Nullable JTypeWithMimeType bodyType, @Nullable JType queryParameterType, @Nullable JType headerParameterType, @Nonnull Action action, ApiModel apiModel);
 
-    JMethod resolveBaseURI(JCodeModel cm, JMethod baseUriMethod, JFieldVar baseUrlField);
+    /**
+     * Same as {@link #callHttpMethod} but the generated method, suffixed with <code>Async</code>, does not block and returns a
+     * <code>CompletableFuture</code> of the result.
+     */
+    void callHttpMethodAsync(@Nonnull JCodeModel cm, @Nonnull JDefinedClass resourceClass, @Nonnull JTypeWithMimeType returnType, @Nonnull OutputVersion outputVersion, @Nullable JTypeWithMimeType bodyType, @Nullable JType queryParameterType, @Nullable JType headerParameterType, @Nonnull Action action, ApiModel apiModel);
+
+    /**
+     * Same as {@link #callHttpMethod} for an action returning a json array, but the generated method, suffixed with <code>Stream</code>,
+     * returns a <code>Stream</code> of the elements read one at a time from the body while it is consumed.
+     *
+     * @param elementType the type of the elements of the array
+     */
+    void callHttpMethodStreaming(@Nonnull JCodeModel cm, @Nonnull JDefinedClass resourceClass, @Nonnull JTypeWithMimeType returnType, @Nonnull JClass elementType, @Nonnull OutputVersion outputVersion, @Nullable JTypeWithMimeType bodyType, @Nullable JType queryParameterType, @Nullable JType headerParameterType, @Nonnull Action action, ApiModel apiModel);
+
+    /**
+     * Same as {@link #callHttpMethod} for an action taking a json array, but the generated overload takes a <code>Stream</code> of the
+     * elements, written one at a time while the body is sent in chunks.
+     *
+     * @param bodyElementType the type of the elements of the array
+     */
+    void callHttpMethodWithStreamedBody(@Nonnull JCodeModel cm, @Nonnull JDefinedClass resourceClass, @Nonnull JTypeWithMimeType returnType, @Nonnull OutputVersion outputVersion, @Nonnull JTypeWithMimeType bodyType, @Nonnull JClass bodyElementType, @Nullable JType queryParameterType, @Nullable JType headerParameterType, @Nonnull Action action, ApiModel apiModel);
+
+    /**
+     * Same as {@link #callHttpMethod} for an action taking a binary body, but the generated overload takes the <code>Path</code> of the
+     * file to send, read while the request is sent.
+     */
+    void callHttpMethodWithFileBody(@Nonnull JCodeModel cm, @Nonnull JDefinedClass resourceClass, @Nonnull JTypeWithMimeType returnType, @Nonnull OutputVersion outputVersion, @Nonnull JTypeWithMimeType bodyType, @Nullable JType queryParameterType, @Nullable JType headerParameterType, @Nonnull Action action, ApiModel apiModel);
+
+    /**
+     * Same as {@link #callHttpMethod} for an action returning a binary body, but the generated method, suffixed with <code>ToFile</code>,
+     * writes it to the <code>Path</code> it is given and returns it.
+     */
+    void callHttpMethodToFile(@Nonnull JCodeModel cm, @Nonnull JDefinedClass resourceClass, @Nonnull JTypeWithMimeType returnType, @Nonnull OutputVersion outputVersion, @Nullable JTypeWithMimeType bodyType, @Nullable JType queryParameterType, @Nullable JType headerParameterType, @Nonnull Action action, ApiModel apiModel);
+
+    /**
+     * Same as {@link #callHttpMethodToFile} for a get action, but the generated overload also takes the number of ranges of the body
+     * fetched at once when the server accepts ranges.
+     */
+    void callHttpMethodRangedDownload(@Nonnull JCodeModel cm, @Nonnull JDefinedClass resourceClass, @Nonnull JTypeWithMimeType returnType, @Nonnull OutputVersion outputVersion, @Nullable JType queryParameterType, @Nullable JType headerParameterType, @Nonnull Action action, ApiModel apiModel);
+
+    /**
+     * The type of the uri template of a resource, built once per client and resolved with the uri parameters on each request.
+     */
+    JClass getUriTemplateType(JCodeModel cm);
+
+    /**
+     * @return the uri template of the base uri of the api, the one of the top level resources are appended to
+     */
+    JExpression createUriTemplate(JCodeModel cm, JExpression client, JExpression baseUri);
+
+    /**
+     * @param segment the path segment to append, <code>{name}</code> for a uri parameter
+     */
+    JExpression appendToUriTemplate(JCodeModel cm, JExpression uriTemplate, String segment);
+
+    /**
+     * Adds to the resource the method its actions get the uri of the request from.
+     *
+     * @param uriParamsField the values of the uri parameters of the resource and its parents, null when none of them is a uri parameter
+     */
+    JMethod resolveBaseURI(JCodeModel cm, JDefinedClass resourceClass, JFieldVar uriTemplateField, @Nullable JFieldVar uriParamsField);
 
     void buildCustomException(JCodeModel cm, String basePackage, String apiName);
 
 	void buildCustomResponse(JCodeModel cm, String basePackage, ApiModel apiModel)
 			throws JClassAlreadyExistsException;
+
+    /**
+     * Builds the iterator and the input stream the streaming variants of the actions read and write the elements of the json arrays with.
+     */
+    void buildJsonArrayStreaming(JCodeModel cm, String basePackage, String apiName) throws JClassAlreadyExistsException;
+
+    /**
+     * Builds the class the ranged downloads probe the server with and fetch the ranges of the body through.
+     */
+    void buildRangedDownload(JCodeModel cm, String basePackage, String apiName) throws JClassAlreadyExistsException;
+
+    /**
+     * Builds the class holding the settings of the pooled connector, tunable at runtime, whose <code>toClientConfig()</code> configures the client.
+     *
+     * @return null when the client does not support a configurable pool
+     */
+    @Nullable
+    JDefinedClass buildConnectionPoolConfig(JCodeModel cm, String basePackage, String apiName, CodeGenConfig codeGenConfig)
+            throws JClassAlreadyExistsException;
+
+    /**
+     * Builds what the client asks for gzip or deflate encoded responses with and compresses the request bodies with, from the
+     * request compression threshold on or as the actions are annotated.
+     *
+     * @param clientConfig the configuration the client is built with, null for the default one
+     * @return the configuration the client is built with from then on
+     */
+    @Nullable
+    JExpression buildCompression(JCodeModel cm, String basePackage, String apiName, @Nullable JExpression clientConfig, CodeGenConfig codeGenConfig)
+            throws JClassAlreadyExistsException;
+
+    /**
+     * Builds what the client reads and writes the json bodies with: a single mapper, tuned with the afterburner module when the
+     * object mapper provider is generated, that callers can replace with their own, and the readers and writers of the models
+     * built up front.
+     *
+     * @param clientConfig the configuration the client is built with, null for the default one
+     * @param modelTypes   the array of the model classes, only filled once all of them are generated
+     * @param jsonModule   the module with the serializers of the models to register in the mapper, null when not generated
+     * @return the configuration the client is built with from then on
+     */
+    @Nullable
+    JExpression buildObjectMapperProvider(JCodeModel cm, String basePackage, String apiName, @Nullable JExpression clientConfig, JArray modelTypes,
+                                          @Nullable JClass jsonModule, CodeGenConfig codeGenConfig) throws JClassAlreadyExistsException;
+
+    /**
+     * The type of the http client shared by the generated resources.
+     */
+    JClass getClientType(JCodeModel cm);
+
+    /**
+     * @param basicAuthFields the username and password fields of the client, empty when the api is not secured with basic authentication
+     */
+    SecurityClientGenerator createSecurityClientGenerator(List<JFieldVar> basicAuthFields);
+
+    /**
+     * Adds to the block the statements releasing the given client.
+     */
+    void closeClient(JCodeModel cm, JBlock block, JExpression client);
 }
@@ -0,0 +1,124 @@
+package org.mule.client.codegen.clientgenerator;
+
+import com.sun.codemodel.JBlock;
+import com.sun.codemodel.JCodeModel;
+import com.sun.codemodel.JDefinedClass;
+import com.sun.codemodel.JExpr;
+import com.sun.codemodel.JExpression;
+import com.sun.codemodel.JMethod;
+import com.sun.codemodel.JType;
+import com.sun.codemodel.JVar;
+import org.mule.client.codegen.model.JTypeWithMimeType;
+import org.mule.client.codegen.utils.MimeTypeHelper;
+import org.mule.client.codegen.utils.NameHelper;
+import org.mule.raml.model.Action;
+import org.mule.raml.model.ApiModel;
+
+import javax.annotation.Nullable;
+
+import static org.mule.client.codegen.utils.SecuritySchemesHelper.isOauth20SecuredBy;
+
+/**
+ * The parameters of a generated action method, the same for every http client the code is generated for.
+ */
+class ActionParameters {
+
+    private static final String BODY_PARAM_NAME = "body";
+    private static final String HEADERS_PARAM_NAME = "headers";
+    private static final String TOKEN_PARAM_NAME = "authorizationToken";
+    private static final String MIME_TYPE_NAME = "mimeType";
+    private static final String QUERY_PARAMETERS_PARAM_NAME = "queryParameters";
+    static final String FILE_PARAM_NAME = "file";
+    static final String PARALLELISM_PARAM_NAME = "parallelism";
+
+    static final String FILE_BODY_JAVADOC = "The file is read while the request is sent.";
+    static final String TO_FILE_JAVADOC = "Writes the body of the response to the file, replacing it, and returns its path.";
+    static final String RANGED_DOWNLOAD_JAVADOC = "When the server accepts ranges, up to parallelism ranges of the body are fetched at once and written to their place in the file.";
+
+    @Nullable
+    final JVar body;
+    @Nullable
+    final JVar mimeType;
+    @Nullable
+    final JVar queryParameters;
+    @Nullable
+    final JVar headers;
+    @Nullable
+    final JVar authorizationToken;
+
+    private ActionParameters(@Nullable JVar body, @Nullable JVar mimeType, @Nullable JVar queryParameters, @Nullable JVar headers, @Nullable JVar authorizationToken) {
+        this.body = body;
+        this.mimeType = mimeType;
+        this.queryParameters = queryParameters;
+        this.headers = headers;
+        this.authorizationToken = authorizationToken;
+    }
+
+    /**
+     * Declares the parameters of the action on the method: the body, its mime type when any is accepted, the query parameters, the
+     * headers and the OAuth token.
+     */
+    static ActionParameters declare(JMethod actionMethod, @Nullable JTypeWithMimeType bodyType, @Nullable JType queryParameterType, @Nullable JType headerParameterType, Action action, ApiModel apiModel) {
+        final JVar bodyParam;
+        if (bodyType != null) {
+            bodyParam = actionMethod.param(bodyType.getType(), BODY_PARAM_NAME);
+        } else {
+            bodyParam = null;
+        }
+
+        JVar mimeTypeParam = null;
+        if (bodyType != null && MimeTypeHelper.isAnyType(bodyType.getMimeType())) {
+            mimeTypeParam = actionMethod.param(String.class, MIME_TYPE_NAME);
+        }
+
+        final JVar queryParameterParam;
+        if (queryParameterType != null) {
+            queryParameterParam = actionMethod.param(queryParameterType, QUERY_PARAMETERS_PARAM_NAME);
+        } else {
+            queryParameterParam = null;
+        }
+
+        final JVar headerParameterParam;
+        if (headerParameterType != null) {
+            headerParameterParam = actionMethod.param(headerParameterType, HEADERS_PARAM_NAME);
+        } else {
+            headerParameterParam = null;
+        }
+
+        final JVar authenticationParam;
+        //If global but not locally specified
+        if (isOauth20SecuredBy(action.getResource()) || (isOauth20SecuredBy(apiModel) && action.getResource().getSecuredBy().isEmpty())) {
+            authenticationParam = actionMethod.param(String.class, TOKEN_PARAM_NAME);
+        } else {
+            authenticationParam = null;
+        }
+        return new ActionParameters(bodyParam, mimeTypeParam, queryParameterParam, headerParameterParam, authenticationParam);
+    }
+
+    /**
+     * The block sending a parameter of the query parameters, headers or form parameters bean, only run when it is set. The
+     * primitive ones, required or with a default value, are always set.
+     */
+    static JBlock ifSet(JBlock body, JVar bean, String name) {
+        if (isPrimitive(bean, name)) {
+            return body;
+        }
+        return body._if(bean.invoke(NameHelper.getGetterName(name)).ne(JExpr._null()))._then();
+    }
+
+    /**
+     * The value of a parameter of the bean as a string.
+     */
+    static JExpression getString(JCodeModel cm, JVar bean, String name) {
+        final JExpression getter = bean.invoke(NameHelper.getGetterName(name));
+        return isPrimitive(bean, name) ? cm.ref(String.class).staticInvoke("valueOf").arg(getter) : getter.invoke("toString");
+    }
+
+    private static boolean isPrimitive(JVar bean, String name) {
+        if (!(bean.type() instanceof JDefinedClass)) {
+            return false;
+        }
+        final JMethod getter = ((JDefinedClass) bean.type()).getMethod(NameHelper.getGetterName(name), new JType[0]);
+        return getter != null && getter.type().isPrimitive();
+    }
+}
@@ -0,0 +1,1090 @@
+package org.mule.client.codegen.clientgenerator;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.codemodel.ClassType;
+import com.sun.codemodel.JArray;
+import com.sun.codemodel.JBlock;
+import com.sun.codemodel.JCatchBlock;
+import com.sun.codemodel.JClass;
+import com.sun.codemodel.JClassAlreadyExistsException;
+import com.sun.codemodel.JCodeModel;
+import com.sun.codemodel.JConditional;
+import com.sun.codemodel.JDefinedClass;
+import com.sun.codemodel.JExpr;
+import com.sun.codemodel.JExpression;
+import com.sun.codemodel.JFieldVar;
+import com.sun.codemodel.JForEach;
+import com.sun.codemodel.JForLoop;
+import com.sun.codemodel.JInvocation;
+import com.sun.codemodel.JMethod;
+import com.sun.codemodel.JMod;
+import com.sun.codemodel.JOp;
+import com.sun.codemodel.JTryBlock;
+import com.sun.codemodel.JType;
+import com.sun.codemodel.JTypeVar;
+import com.sun.codemodel.JVar;
+import org.apache.commons.lang.StringUtils;
+import org.mule.client.codegen.CodeGenConfig;
+import org.mule.client.codegen.OutputVersion;
+import org.mule.client.codegen.RamlJavaClientGenerator;
+import org.mule.client.codegen.RestClientGenerator;
+import org.mule.client.codegen.model.JTypeWithMimeType;
+import org.mule.client.codegen.security.JdkHttpClientGenerator;
+import org.mule.client.codegen.security.SecurityClientGenerator;
+import org.mule.client.codegen.utils.MimeTypeHelper;
+import org.mule.client.codegen.utils.NameHelper;
+import org.mule.client.codegen.utils.TypeConstants;
+import org.mule.raml.model.Action;
+import org.mule.raml.model.ActionType;
+import org.mule.raml.model.ApiModel;
+import org.mule.raml.model.MimeType;
+import org.mule.raml.model.TypeFieldDefinition;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.io.UnsupportedEncodingException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+
+/**
+ * Generates a client built on the <code>java.net.http.HttpClient</code> of java 11, so it needs no other dependency than jackson.
+ */
+public class JdkHttpRestClientGeneratorImpl implements RestClientGenerator {
+
+    private static final String JAVA_NET_HTTP_PACKAGE = "java.net.http";
+    private static final String APPLICATION_JSON = "application/json";
+    private static final String CONTENT_TYPE_HEADER = "Content-Type";
+
+    // Types generated for the api being built, each generator instance builds a single code model at a time
+    private JClass exceptionClass;
+    private JClass responseClass;
+    private JDefinedClass supportClass;
+    private JClass uriTemplateClass;
+    private JClass jsonArrayIteratorClass;
+    private JClass jsonArrayInputStreamClass;
+    private JClass rangedDownloadClass;
+    private HttpTypes httpTypes;
+    private boolean compression;
+    private int requestCompressionThreshold = -1;
+    // Whether the uri templates hold the credentials of the basic authentication of the api
+    private boolean basicAuthentication;
+
+    @Override
+    public void callHttpMethod(@Nonnull JCodeModel cm, @Nonnull JDefinedClass resourceClass, @Nonnull JTypeWithMimeType returnType, @Nonnull OutputVersion outputVersion, @Nullable JTypeWithMimeType bodyType, @Nullable JType queryParameterType, @Nullable JType headerParameterType, @Nonnull Action action, ApiModel apiModel) {
+        callHttpMethod(cm, resourceClass, returnType, outputVersion, bodyType, null, null, queryParameterType, headerParameterType, action, apiModel);
+    }
+
+    @Override
+    public void callHttpMethodWithStreamedBody(@Nonnull JCodeModel cm, @Nonnull JDefinedClass resourceClass, @Nonnull JTypeWithMimeType returnType, @Nonnull OutputVersion outputVersion, @Nonnull JTypeWithMimeType bodyType, @Nonnull JClass bodyElementType, @Nullable JType queryParameterType, @Nullable JType headerParameterType, @Nonnull Action action, ApiModel apiModel) {
+        callHttpMethod(cm, resourceClass, returnType, outputVersion, bodyType, bodyElementType, JsonArrayInputStreamGenerator.STREAMED_BODY_JAVADOC, queryParameterType, headerParameterType, action, apiModel);
+    }
+
+    @Override
+    public void callHttpMethodWithFileBody(@Nonnull JCodeModel cm, @Nonnull JDefinedClass resourceClass, @Nonnull JTypeWithMimeType returnType, @Nonnull OutputVersion outputVersion, @Nonnull JTypeWithMimeType bodyType, @Nullable JType queryParameterType, @Nullable JType headerParameterType, @Nonnull Action action, ApiModel apiModel) {
+        final JTypeWithMimeType fileType = new JTypeWithMimeType(cm.ref(Path.class), bodyType.getMimeType());
+        callHttpMethod(cm, resourceClass, returnType, outputVersion, fileType, null, ActionParameters.FILE_BODY_JAVADOC, queryParameterType, headerParameterType, action, apiModel);
+    }
+
+    /**
+     * @param bodyElementType the type of the elements of the json array body when they are streamed, null to send the body as is
+     * @param note            what the variant does differently, added to the javadoc of the method
+     */
+    private void callHttpMethod(JCodeModel cm, JDefinedClass resourceClass, JTypeWithMimeType returnType, OutputVersion outputVersion, @Nullable JTypeWithMimeType bodyType, @Nullable JClass bodyElementType, @Nullable String note, @Nullable JType queryParameterType, @Nullable JType headerParameterType, Action action, ApiModel apiModel) {
+        final JMethod actionMethod;
+        if (outputVersion.ordinal() >= OutputVersion.v2.ordinal()) {
+            actionMethod = resourceClass.method(JMod.PUBLIC, responseClass.narrow(returnType.getType()), action.getType().name().toLowerCase());
+        } else {
+            actionMethod = resourceClass.method(JMod.PUBLIC, returnType.getType(), action.getType().name().toLowerCase());
+        }
+        if (note != null) {
+            if (StringUtils.isNotBlank(action.getDescription())) {
+                actionMethod.javadoc().add(action.getDescription() + "\n");
+            }
+            actionMethod.javadoc().add(note);
+        } else if (StringUtils.isNotBlank(action.getDescription())) {
+            actionMethod.javadoc().add(action.getDescription());
+        }
+        final JVar requestBuilder = buildRequest(cm, actionMethod, returnType, bodyType, bodyElementType, queryParameterType, headerParameterType, action, apiModel);
+        final JMethod readResponse = buildReadResponse(cm, resourceClass, returnType, outputVersion, action);
+
+        final JBlock body = actionMethod.body();
+        acceptEncoding(cm, body, requestBuilder, returnType);
+        final JInvocation send = supportClass.staticInvoke("send")
+                .arg(JExpr._this().ref(RamlJavaClientGenerator.CLIENT_FIELD_NAME))
+                .arg(requestBuilder.invoke("build"))
+                .arg(bodyHandler(cm, returnType));
+        final JVar responseVal = body.decl(JMod.FINAL, readResponse.params().get(0).type(), "response", send);
+        if (actionMethod.type() == cm.VOID) {
+            body.add(JExpr.invoke(readResponse).arg(responseVal));
+        } else {
+            body._return(JExpr.invoke(readResponse).arg(responseVal));
+        }
+    }
+
+    @Override
+    public void callHttpMethodAsync(@Nonnull JCodeModel cm, @Nonnull JDefinedClass resourceClass, @Nonnull JTypeWithMimeType returnType, @Nonnull OutputVersion outputVersion, @Nullable JTypeWithMimeType bodyType, @Nullable JType queryParameterType, @Nullable JType headerParameterType, @Nonnull Action action, ApiModel apiModel) {
+        final JMethod readResponse = buildReadResponse(cm, resourceClass, returnType, outputVersion, action);
+        final JMethod actionMethod = resourceClass.method(JMod.PUBLIC, cm.ref(CompletableFuture.class).narrow(readResponse.type()), action.getType().name().toLowerCase() + "Async");
+        if (StringUtils.isNotBlank(action.getDescription())) {
+            actionMethod.javadoc().add(action.getDescription() + "\n");
+        }
+        actionMethod.javadoc().add("The returned future completes exceptionally with the same exceptions the blocking method throws.");
+        final JVar requestBuilder = buildRequest(cm, actionMethod, returnType, bodyType, null, queryParameterType, headerParameterType, action, apiModel);
+        acceptEncoding(cm, actionMethod.body(), requestBuilder, returnType);
+
+        // Throwing while reading the response completes the future exceptionally
+        final JInvocation sendAsync = JExpr._this().ref(RamlJavaClientGenerator.CLIENT_FIELD_NAME).invoke("sendAsync")
+                .arg(requestBuilder.invoke("build"))
+                .arg(bodyHandler(cm, returnType));
+        actionMethod.body()._return(sendAsync.invoke("thenApply").arg(JExpr.direct("this::" + readResponse.name())));
+    }
+
+    @Override
+    public void callHttpMethodStreaming(@Nonnull JCodeModel cm, @Nonnull JDefinedClass resourceClass, @Nonnull JTypeWithMimeType returnType, @Nonnull JClass elementType, @Nonnull OutputVersion outputVersion, @Nullable JTypeWithMimeType bodyType, @Nullable JType queryParameterType, @Nullable JType headerParameterType, @Nonnull Action action, ApiModel apiModel) {
+        final HttpTypes types = getHttpTypes(cm);
+        final JClass streamType = cm.ref(Stream.class).narrow(elementType);
+        final JMethod actionMethod;
+        if (outputVersion.ordinal() >= OutputVersion.v2.ordinal()) {
+            actionMethod = resourceClass.method(JMod.PUBLIC, responseClass.narrow(streamType), action.getType().name().toLowerCase() + "Stream");
+        } else {
+            actionMethod = resourceClass.method(JMod.PUBLIC, streamType, action.getType().name().toLowerCase() + "Stream");
+        }
+        if (StringUtils.isNotBlank(action.getDescription())) {
+            actionMethod.javadoc().add(action.getDescription() + "\n");
+        }
+        actionMethod.javadoc().add("The elements are read while the stream is consumed, close it to release the connection before reading all of them.");
+        final JVar requestBuilder = buildRequest(cm, actionMethod, returnType, bodyType, null, queryParameterType, headerParameterType, action, apiModel);
+
+        final JBlock body = actionMethod.body();
+        final JInvocation send = supportClass.staticInvoke("send")
+                .arg(JExpr._this().ref(RamlJavaClientGenerator.CLIENT_FIELD_NAME))
+                .arg(requestBuilder.invoke("build"))
+                .arg(types.bodyHandlers.staticInvoke("ofInputStream"));
+        final JVar responseVal = body.decl(JMod.FINAL, types.httpResponse.narrow(InputStream.class), "response", send);
+        body._if(isNotSuccessful(responseVal))._then()._throw(newException(responseVal));
+        final JExpression elements = jsonArrayIteratorClass.staticInvoke(JsonArrayIteratorGenerator.STREAM_METHOD_NAME)
+                .arg(responseVal.invoke("body"))
+                .arg(supportClass.staticRef("MAPPER"))
+                .arg(JExpr.dotclass(elementType));
+        if (outputVersion.ordinal() >= OutputVersion.v2.ordinal()) {
+            body._return(JExpr._new(responseClass.narrow(streamType)).arg(elements).arg(responseVal.invoke("headers").invoke("map")).arg(responseVal));
+        } else {
+            body._return(elements);
+        }
+    }
+
+    @Override
+    public void callHttpMethodToFile(@Nonnull JCodeModel cm, @Nonnull JDefinedClass resourceClass, @Nonnull JTypeWithMimeType returnType, @Nonnull OutputVersion outputVersion, @Nullable JTypeWithMimeType bodyType, @Nullable JType queryParameterType, @Nullable JType headerParameterType, @Nonnull Action action, ApiModel apiModel) {
+        callHttpMethodToFile(cm, resourceClass, returnType, outputVersion, bodyType, false, queryParameterType, headerParameterType, action, apiModel);
+    }
+
+    @Override
+    public void callHttpMethodRangedDownload(@Nonnull JCodeModel cm, @Nonnull JDefinedClass resourceClass, @Nonnull JTypeWithMimeType returnType, @Nonnull OutputVersion outputVersion, @Nullable JType queryParameterType, @Nullable JType headerParameterType, @Nonnull Action action, ApiModel apiModel) {
+        callHttpMethodToFile(cm, resourceClass, returnType, outputVersion, null, true, queryParameterType, headerParameterType, action, apiModel);
+    }
+
+    /**
+     * @param ranged whether the method also takes the number of ranges of the body fetched at once
+     */
+    private void callHttpMethodToFile(JCodeModel cm, JDefinedClass resourceClass, JTypeWithMimeType returnType, OutputVersion outputVersion, @Nullable JTypeWithMimeType bodyType, boolean ranged, @Nullable JType queryParameterType, @Nullable JType headerParameterType, Action action, ApiModel apiModel) {
+        final JClass pathType = cm.ref(Path.class);
+        final JMethod actionMethod;
+        if (outputVersion.ordinal() >= OutputVersion.v2.ordinal()) {
+            actionMethod = resourceClass.method(JMod.PUBLIC, responseClass.narrow(pathType), action.getType().name().toLowerCase() + "ToFile");
+        } else {
+            actionMethod = resourceClass.method(JMod.PUBLIC, pathType, action.getType().name().toLowerCase() + "ToFile");
+        }
+        if (StringUtils.isNotBlank(action.getDescription())) {
+            actionMethod.javadoc().add(action.getDescription() + "\n");
+        }
+        actionMethod.javadoc().add(ActionParameters.TO_FILE_JAVADOC);
+        if (ranged) {
+            actionMethod.javadoc().add(" " + ActionParameters.RANGED_DOWNLOAD_JAVADOC);
+        }
+        final JVar requestBuilder = buildRequest(cm, actionMethod, returnType, bodyType, null, queryParameterType, headerParameterType, action, apiModel);
+        final JVar fileParam = actionMethod.param(pathType, ActionParameters.FILE_PARAM_NAME);
+
+        final JBlock body = actionMethod.body();
+        final JExpression client = JExpr._this().ref(RamlJavaClientGenerator.CLIENT_FIELD_NAME);
+        final JVar responseVal;
+        if (ranged) {
+            // The response of a failed range is returned instead of the first one, so its body is not the file
+            final JVar parallelismParam = actionMethod.param(cm.INT, ActionParameters.PARALLELISM_PARAM_NAME);
+            final JInvocation download = rangedDownloadClass.staticInvoke(RangedDownloadGenerator.DOWNLOAD_METHOD_NAME)
+                    .arg(client).arg(requestBuilder).arg(fileParam).arg(parallelismParam);
+            responseVal = body.decl(JMod.FINAL, getHttpTypes(cm).httpResponse.narrow(cm.wildcard()), "response", download);
+        } else {
+            final JInvocation send = supportClass.staticInvoke("send")
+                    .arg(client)
+                    .arg(requestBuilder.invoke("build"))
+                    .arg(supportClass.staticInvoke("ofFile").arg(fileParam));
+            responseVal = body.decl(JMod.FINAL, getHttpTypes(cm).httpResponse.narrow(pathType), "response", send);
+        }
+        body._if(isNotSuccessful(responseVal))._then()._throw(newException(responseVal));
+        final JExpression result = ranged ? fileParam : responseVal.invoke("body");
+        if (outputVersion.ordinal() >= OutputVersion.v2.ordinal()) {
+            body._return(JExpr._new(responseClass.narrow(pathType)).arg(result).arg(responseVal.invoke("headers").invoke("map")).arg(responseVal));
+        } else {
+            body._return(result);
+        }
+    }
+
+    /**
+     * Returns the private method, shared by the blocking and the non blocking variants of the action, that checks the status of the
+     * response and reads the result.
+     */
+    private JMethod buildReadResponse(JCodeModel cm, JDefinedClass resourceClass, JTypeWithMimeType returnType, OutputVersion outputVersion, Action action) {
+        final String name = "read" + StringUtils.capitalize(action.getType().name().toLowerCase()) + "Response";
+        for (JMethod method : resourceClass.methods()) {
+            if (method.name().equals(name)) {
+                // Already built for another body type of the same action
+                return method;
+            }
+        }
+        final JClass resultType;
+        if (outputVersion.ordinal() >= OutputVersion.v2.ordinal()) {
+            resultType = responseClass.narrow(returnType.getType());
+        } else {
+            resultType = returnType.getType() == cm.VOID ? cm.ref(Void.class) : (JClass) returnType.getType();
+        }
+        final JMethod readResponse = resourceClass.method(JMod.PRIVATE, resultType, name);
+        final JVar responseVal = readResponse.param(getHttpTypes(cm).httpResponse.narrow(responseBodyType(cm, returnType)), "response");
+        readResponse.body()._if(isNotSuccessful(responseVal))._then()._throw(newException(responseVal));
+        final JExpression result = readResult(cm, returnType, outputVersion, responseVal);
+        readResponse.body()._return(result != null ? result : JExpr._null());
+        return readResponse;
+    }
+
+    /**
+     * Adds the parameters of the action to the method and the statements building the request: the uri with the query parameters,
+     * the headers and the body to send, if any.
+     *
+     * @param bodyElementType the type of the elements of the json array body when the method takes a <code>Stream</code> of them
+     * @return the variable holding the request builder
+     */
+    private JVar buildRequest(JCodeModel cm, JMethod actionMethod, JTypeWithMimeType returnType, @Nullable JTypeWithMimeType bodyType, @Nullable JClass bodyElementType, @Nullable JType queryParameterType, @Nullable JType headerParameterType, Action action, ApiModel apiModel) {
+        final HttpTypes types = getHttpTypes(cm);
+        final JTypeWithMimeType declaredBodyType = bodyElementType != null ? new JTypeWithMimeType(cm.ref(Stream.class).narrow(bodyElementType), bodyType.getMimeType()) : bodyType;
+        final ActionParameters parameters = ActionParameters.declare(actionMethod, declaredBodyType, queryParameterType, headerParameterType, action, apiModel);
+
+        final JBlock body = actionMethod.body();
+        final JVar uriVal = body.decl(cm.ref(String.class), "uri", JExpr.invoke("getBaseUri"));
+        if (parameters.queryParameters != null && action.getQueryParameters() != null) {
+            for (String queryParameter : action.getQueryParameters().keySet()) {
+                final JInvocation getter = parameters.queryParameters.invoke(NameHelper.getGetterName(queryParameter));
+                ActionParameters.ifSet(body, parameters.queryParameters, queryParameter)
+                        .assign(uriVal, supportClass.staticInvoke("queryParam").arg(uriVal).arg(queryParameter).arg(getter));
+            }
+        }
+
+        final String accept = returnType.getMimeType() != null ? returnType.getMimeType().getType() : APPLICATION_JSON;
+        final JInvocation newBuilder = types.httpRequest.staticInvoke("newBuilder").arg(cm.ref(URI.class).staticInvoke("create").arg(uriVal));
+        final JVar requestBuilder = body.decl(JMod.FINAL, types.requestBuilder, "requestBuilder", newBuilder.invoke("header").arg("Accept").arg(accept));
+
+        if (parameters.headers != null && action.getHeaders() != null) {
+            for (String header : action.getHeaders().keySet()) {
+                final JInvocation getter = parameters.headers.invoke(NameHelper.getGetterName(header));
+                ActionParameters.ifSet(body, parameters.headers, header)
+                        .add(requestBuilder.invoke("header").arg(header).arg(cm.ref(String.class).staticInvoke("valueOf").arg(getter)));
+            }
+        }
+
+        if (parameters.authorizationToken != null) {
+            body.add(requestBuilder.invoke("header").arg("Authorization").arg(JExpr.lit("bearer ").plus(parameters.authorizationToken)));
+        } else if (basicAuthentication) {
+            // Sent with every request instead of waiting for the server to challenge it
+            body.add(JExpr._this().ref(RamlJavaClientGenerator.PRIVATE_FIELD_PREFIX + RamlJavaClientGenerator.URI_TEMPLATE_FIELD_NAME).invoke("authorize").arg(requestBuilder));
+        }
+
+        final int threshold = compression ? RequestCompression.threshold(action, requestCompressionThreshold) : -1;
+        JExpression publisher = types.bodyPublishers.staticInvoke("noBody");
+        if (action.getType() != ActionType.GET && action.getType() != ActionType.OPTIONS && action.getType() != ActionType.DELETE && parameters.body != null) {
+            final JVar bodyParam = parameters.body;
+            final MimeType type = bodyType.getMimeType();
+            JExpression contentType = JExpr.lit(type.getType());
+            if (bodyElementType != null) {
+                // Its length is unknown, so it is sent in chunks
+                contentType = JExpr.lit(APPLICATION_JSON);
+                publisher = supportClass.staticInvoke("stream").arg(JExpr._new(jsonArrayInputStreamClass.narrow(bodyElementType))
+                        .arg(bodyParam.invoke("iterator"))
+                        .arg(supportClass.staticRef("MAPPER")));
+            } else if (MimeTypeHelper.isJsonType(type) && threshold >= 0) {
+                contentType = JExpr.lit(APPLICATION_JSON);
+                publisher = compress(requestBuilder, supportClass.staticInvoke("writeJson").arg(bodyParam), threshold);
+            } else if (MimeTypeHelper.isJsonType(type)) {
+                contentType = JExpr.lit(APPLICATION_JSON);
+                publisher = supportClass.staticInvoke("json").arg(bodyParam);
+            } else if (MimeTypeHelper.isTextType(type) && threshold >= 0) {
+                publisher = compress(requestBuilder, bodyParam.invoke("getBytes").arg(cm.ref(StandardCharsets.class).staticRef("UTF_8")), threshold);
+            } else if (MimeTypeHelper.isTextType(type)) {
+                publisher = types.bodyPublishers.staticInvoke("ofString").arg(bodyParam);
+            } else if (MimeTypeHelper.isBinaryType(type) && bodyParam.type().equals(cm.ref(Path.class))) {
+                publisher = supportClass.staticInvoke("file").arg(bodyParam);
+            } else if (MimeTypeHelper.isBinaryType(type)) {
+                publisher = supportClass.staticInvoke("stream").arg(bodyParam);
+            } else if (MimeTypeHelper.isMultiPartType(type)) {
+                final JVar boundaryVal = body.decl(JMod.FINAL, cm.ref(String.class), "boundary", cm.ref(UUID.class).staticInvoke("randomUUID").invoke("toString"));
+                final JClass partsType = cm.ref(Map.class).narrow(String.class, Object.class);
+                final JVar partsVal = body.decl(JMod.FINAL, partsType, "parts", JExpr._new(cm.ref(LinkedHashMap.class).narrow(String.class, Object.class)));
+                for (String paramName : type.getFormParameters().keySet()) {
+                    final JInvocation getter = bodyParam.invoke(NameHelper.getGetterName(paramName));
+                    ActionParameters.ifSet(body, bodyParam, paramName).add(partsVal.invoke("put").arg(paramName).arg(getter));
+                }
+                contentType = JExpr.lit("multipart/form-data; boundary=").plus(boundaryVal);
+                publisher = supportClass.staticInvoke("multipart").arg(boundaryVal).arg(partsVal);
+            } else if (MimeTypeHelper.isFormUrlEncodedType(type)) {
+                final JClass fieldsType = cm.ref(Map.class).narrow(String.class, String.class);
+                final JVar fieldsVal = body.decl(JMod.FINAL, fieldsType, "fields", JExpr._new(cm.ref(LinkedHashMap.class).narrow(String.class, String.class)));
+                for (String paramName : type.getFormParameters().keySet()) {
+                    ActionParameters.ifSet(body, bodyParam, paramName).add(fieldsVal.invoke("put").arg(paramName).arg(ActionParameters.getString(cm, bodyParam, paramName)));
+                }
+                publisher = supportClass.staticInvoke("form").arg(fieldsVal);
+            } else if (MimeTypeHelper.isAnyType(type)) {
+                contentType = parameters.mimeType;
+                publisher = supportClass.staticInvoke("entity").arg(bodyParam);
+            } else {
+                publisher = supportClass.staticInvoke("entity").arg(bodyParam);
+            }
+            body.add(requestBuilder.invoke("header").arg(CONTENT_TYPE_HEADER).arg(contentType));
+        }
+        body.add(requestBuilder.invoke("method").arg(action.getType().name()).arg(publisher));
+        return requestBuilder;
+    }
+
+    private JExpression compress(JVar requestBuilder, JExpression bytes, int threshold) {
+        return supportClass.staticInvoke("compress").arg(requestBuilder).arg(bytes).arg(JExpr.lit(threshold));
+    }
+
+    /**
+     * Asks for an encoded response when it is read in memory, where it is decoded, binary results are streamed as they are.
+     */
+    private void acceptEncoding(JCodeModel cm, JBlock block, JVar requestBuilder, JTypeWithMimeType returnType) {
+        if (compression && !isBinaryResult(cm, returnType)) {
+            block.add(requestBuilder.invoke("header").arg(RequestCompression.ACCEPT_ENCODING_HEADER).arg("gzip, deflate"));
+        }
+    }
+
+    private boolean isBinaryResult(JCodeModel cm, JTypeWithMimeType returnType) {
+        return returnType.getType().equals(cm.ref(InputStream.class));
+    }
+
+    /**
+     * Binary results are streamed, any other is read in memory so it can be parsed once the status is checked.
+     */
+    private JClass responseBodyType(JCodeModel cm, JTypeWithMimeType returnType) {
+        return isBinaryResult(cm, returnType) ? cm.ref(InputStream.class) : cm.BYTE.array();
+    }
+
+    private JExpression bodyHandler(JCodeModel cm, JTypeWithMimeType returnType) {
+        if (isBinaryResult(cm, returnType)) {
+            return getHttpTypes(cm).bodyHandlers.staticInvoke("ofInputStream");
+        }
+        return compression ? supportClass.staticInvoke("decoded") : getHttpTypes(cm).bodyHandlers.staticInvoke("ofByteArray");
+    }
+
+    private JExpression isNotSuccessful(JVar responseVal) {
+        return responseVal.invoke("statusCode").div(JExpr.lit(100)).ne(JExpr.lit(2));
+    }
+
+    private JInvocation newException(JVar responseVal) {
+        return JExpr._new(exceptionClass)
+                .arg(responseVal.invoke("statusCode"))
+                .arg(JExpr.lit("HTTP status ").plus(responseVal.invoke("statusCode")))
+                .arg(responseVal.invoke("headers").invoke("map"))
+                .arg(responseVal);
+    }
+
+    /**
+     * Returns the expression reading the result of the action from the response, the api response for {@link OutputVersion#v2} or
+     * the body otherwise, that is null when there is no body to return.
+     */
+    @Nullable
+    private JExpression readResult(JCodeModel cm, JTypeWithMimeType returnType, OutputVersion outputVersion, JVar responseVal) {
+        if (returnType.getType() != cm.VOID) {
+            final JType type = returnType.getType();
+            final JExpression body;
+            if (isBinaryResult(cm, returnType)) {
+                body = responseVal.invoke("body");
+            } else if (type.equals(cm.ref(String.class)) || !MimeTypeHelper.isJsonType(returnType.getMimeType())) {
+                body = supportClass.staticInvoke("readString").arg(responseVal);
+            } else if (type instanceof JClass && !((JClass) type).getTypeParameters().isEmpty()) {
+                body = supportClass.staticInvoke("readJson").arg(responseVal).arg(JExpr.direct("\n" +
+                        "new " + TypeReference.class.getName() + "<" + type.fullName() + ">() {}"));
+            } else {
+                body = supportClass.staticInvoke("readJson").arg(responseVal).arg(JExpr.dotclass((JClass) type));
+            }
+
+            if (outputVersion.ordinal() >= OutputVersion.v2.ordinal()) {
+                return JExpr._new(responseClass.narrow(type)).arg(body).arg(responseVal.invoke("headers").invoke("map")).arg(responseVal);
+            } else {
+                return body;
+            }
+        } else if (outputVersion.ordinal() >= OutputVersion.v2.ordinal()) {
+            return JExpr._new(responseClass.narrow(Void.class)).arg(JExpr._null()).arg(responseVal.invoke("headers").invoke("map")).arg(responseVal);
+        }
+        return null;
+    }
+
+    @Override
+    public void buildJsonArrayStreaming(JCodeModel cm, String basePackage, String apiName) throws JClassAlreadyExistsException {
+        jsonArrayIteratorClass = JsonArrayIteratorGenerator.build(cm, basePackage, apiName);
+        jsonArrayInputStreamClass = JsonArrayInputStreamGenerator.build(cm, basePackage, apiName);
+    }
+
+    @Override
+    public void buildRangedDownload(JCodeModel cm, String basePackage, String apiName) throws JClassAlreadyExistsException {
+        final HttpTypes types = getHttpTypes(cm);
+        final JDefinedClass downloadClass = RangedDownloadGenerator.declare(cm, basePackage, apiName);
+        final JClass voidResponse = types.httpResponse.narrow(Void.class);
+        final JClass wildcardResponse = types.httpResponse.narrow(cm.wildcard());
+
+        // Written as the body arrives on the threads of the client, so the ranges need no thread of their own
+        final JDefinedClass rangeWriter = downloadClass._class(JMod.PRIVATE | JMod.STATIC | JMod.FINAL, "RangeWriter");
+        rangeWriter._implements(types.bodyHandler.narrow(Void.class));
+        rangeWriter._implements(cm.ref(Consumer.class).narrow(cm.ref(Optional.class).narrow(cm.BYTE.array())));
+        rangeWriter.javadoc().add("Writes the body of the response to a range to its place in the file, as it is received.");
+        final JFieldVar channelField = rangeWriter.field(JMod.PRIVATE | JMod.FINAL, FileChannel.class, "channel");
+        final JFieldVar startField = rangeWriter.field(JMod.PRIVATE | JMod.FINAL, cm.LONG, "start");
+        final JFieldVar endField = rangeWriter.field(JMod.PRIVATE | JMod.FINAL, cm.LONG, "end");
+        final JFieldVar positionField = rangeWriter.field(JMod.PRIVATE, cm.LONG, "position");
+        final JMethod writerConstructor = rangeWriter.constructor(JMod.PRIVATE);
+        for (JFieldVar field : new JFieldVar[]{channelField, startField, endField}) {
+            writerConstructor.body().assign(JExpr._this().ref(field), writerConstructor.param(field.type(), field.name()));
+        }
+        writerConstructor.body().assign(JExpr._this().ref(positionField), startField);
+        final JMethod range = rangeWriter.method(JMod.PRIVATE, String.class, "range");
+        range.body()._return(JExpr.lit("bytes=").plus(startField).plus(JExpr.lit("-")).plus(endField.minus(JExpr.lit(1))));
+        final JMethod apply = rangeWriter.method(JMod.PUBLIC, types.bodySubscriber.narrow(Void.class), "apply");
+        apply.annotate(Override.class);
+        final JVar responseInfoParam = apply.param(types.responseInfo, "responseInfo");
+        apply.body()._if(responseInfoParam.invoke("statusCode").eq(JExpr.lit(RangedDownloadGenerator.PARTIAL_CONTENT)))._then()
+                ._return(types.bodySubscribers.staticInvoke("ofByteArrayConsumer").arg(JExpr._this()));
+        apply.body()._return(types.bodySubscribers.staticInvoke("replacing").arg(JExpr.cast(cm.ref(Void.class), JExpr._null())));
+        final JMethod accept = rangeWriter.method(JMod.PUBLIC, cm.VOID, "accept");
+        accept.annotate(Override.class);
+        final JVar bytesParam = accept.param(cm.ref(Optional.class).narrow(cm.BYTE.array()), "bytes");
+        final JBlock present = accept.body()._if(bytesParam.invoke("isPresent"))._then();
+        final JVar bufferVal = present.decl(JMod.FINAL, cm.ref(ByteBuffer.class), "buffer", cm.ref(ByteBuffer.class).staticInvoke("wrap").arg(bytesParam.invoke("get")));
+        final JTryBlock writeTry = present._try();
+        writeTry.body()._if(bufferVal.invoke("remaining").gt(endField.minus(positionField)))._then()._throw(JExpr._new(cm.ref(IOException.class))
+                .arg(JExpr.lit("The server sent more than the range ").plus(JExpr.invoke(range))));
+        writeTry.body()._while(bufferVal.invoke("hasRemaining")).body().assignPlus(positionField, channelField.invoke("write").arg(bufferVal).arg(positionField));
+        final JCatchBlock writeCatch = writeTry._catch(cm.ref(IOException.class));
+        writeCatch.body()._throw(JExpr._new(cm.ref(UncheckedIOException.class)).arg(writeCatch.param("e")));
+
+        final JMethod getLength = RangedDownloadGenerator.buildGetLength(cm, downloadClass);
+
+        final JMethod fetch = downloadClass.method(JMod.PRIVATE | JMod.STATIC, wildcardResponse, "fetch");
+        fetch.javadoc().add("Fetches the ranges of the body at once, returning the response of the first one that is not successful, if any.");
+        fetch._throws(IOException.class);
+        final JVar fetchClient = fetch.param(types.httpClient, "client");
+        final JVar fetchRequest = fetch.param(types.requestBuilder, "request");
+        final JVar fetchFile = fetch.param(Path.class, "file");
+        final JVar lengthParam = fetch.param(cm.LONG, "length");
+        final JVar fetchParallelism = fetch.param(cm.INT, ActionParameters.PARALLELISM_PARAM_NAME);
+        final JVar rangeLengthVal = fetch.body().decl(JMod.FINAL, cm.LONG, "rangeLength", lengthParam.plus(fetchParallelism).minus(JExpr.lit(1)).div(fetchParallelism));
+        final JVar outputVal = fetch.body().decl(JMod.FINAL, cm.ref(RandomAccessFile.class), "output", JExpr._new(cm.ref(RandomAccessFile.class)).arg(fetchFile.invoke("toFile")).arg("rw"));
+        final JTryBlock fetchTry = fetch.body()._try();
+        // Sized first, so the channel writes every range within the file whatever the order they arrive in
+        fetchTry.body().add(outputVal.invoke("setLength").arg(lengthParam));
+        final JVar writersVal = fetchTry.body().decl(JMod.FINAL, cm.ref(List.class).narrow(rangeWriter), "writers", JExpr._new(cm.ref(ArrayList.class).narrow(rangeWriter)));
+        final JClass futureType = cm.ref(CompletableFuture.class).narrow(voidResponse);
+        final JVar rangesVal = fetchTry.body().decl(JMod.FINAL, cm.ref(List.class).narrow(futureType), "ranges", JExpr._new(cm.ref(ArrayList.class).narrow(futureType)));
+        final JForLoop rangeLoop = fetchTry.body()._for();
+        final JVar startVar = rangeLoop.init(cm.LONG, "start", JExpr.lit(0L));
+        rangeLoop.test(startVar.lt(lengthParam));
+        rangeLoop.update(JExpr.assignPlus(startVar, rangeLengthVal));
+        final JVar writerVal = rangeLoop.body().decl(JMod.FINAL, rangeWriter, "writer", JExpr._new(rangeWriter)
+                .arg(outputVal.invoke("getChannel")).arg(startVar).arg(cm.ref(Math.class).staticInvoke("min").arg(startVar.plus(rangeLengthVal)).arg(lengthParam)));
+        rangeLoop.body().add(writersVal.invoke("add").arg(writerVal));
+        rangeLoop.body().add(rangesVal.invoke("add").arg(fetchClient.invoke("sendAsync")
+                .arg(fetchRequest.invoke("copy").invoke("setHeader").arg(RangedDownloadGenerator.RANGE_HEADER).arg(writerVal.invoke(range)).invoke("build"))
+                .arg(writerVal)));
+        final JForLoop checkLoop = fetchTry.body()._for();
+        final JVar indexVar = checkLoop.init(cm.INT, "i", JExpr.lit(0));
+        checkLoop.test(indexVar.lt(rangesVal.invoke("size")));
+        checkLoop.update(indexVar.incr());
+        final JVar rangeResponse = checkLoop.body().decl(JMod.FINAL, voidResponse, "response", rangesVal.invoke("get").arg(indexVar).invoke("join"));
+        final JVar checkedWriter = checkLoop.body().decl(JMod.FINAL, rangeWriter, "writer", writersVal.invoke("get").arg(indexVar));
+        checkLoop.body()._if(isNotSuccessful(rangeResponse))._then()._return(rangeResponse);
+        checkLoop.body()._if(rangeResponse.invoke("statusCode").ne(JExpr.lit(RangedDownloadGenerator.PARTIAL_CONTENT)))._then()
+                ._throw(JExpr._new(cm.ref(IOException.class)).arg(JExpr.lit("The server answered the range with the status ").plus(rangeResponse.invoke("statusCode"))));
+        checkLoop.body()._if(checkedWriter.ref(positionField).ne(checkedWriter.ref(endField)))._then()._throw(JExpr._new(cm.ref(EOFException.class))
+                .arg(JExpr.lit("The range ").plus(checkedWriter.invoke(range)).plus(JExpr.lit(" ended after ")).plus(checkedWriter.ref(positionField).minus(checkedWriter.ref(startField))).plus(JExpr.lit(" bytes"))));
+        fetchTry.body()._return(JExpr._null());
+        final JCatchBlock completionCatch = fetchTry._catch(cm.ref(CompletionException.class));
+        final JVar completionException = completionCatch.param("e");
+        final JVar causeVal = completionCatch.body().decl(JMod.FINAL, cm.ref(Throwable.class), "cause", completionException.invoke("getCause"));
+        completionCatch.body()._if(causeVal._instanceof(cm.ref(IOException.class)))._then()
+                ._throw(JExpr._new(cm.ref(UncheckedIOException.class)).arg(JExpr.cast(cm.ref(IOException.class), causeVal)));
+        completionCatch.body()._if(causeVal._instanceof(cm.ref(RuntimeException.class)))._then()._throw(JExpr.cast(cm.ref(RuntimeException.class), causeVal));
+        completionCatch.body()._throw(completionException);
+        fetchTry._finally().add(outputVal.invoke("close"));
+
+        final JMethod download = downloadClass.method(JMod.PUBLIC | JMod.STATIC, wildcardResponse, RangedDownloadGenerator.DOWNLOAD_METHOD_NAME);
+        download.javadoc().add("Requests the first byte of the body and, when the server answers with its range, fetches the whole body in up to " +
+                "parallelism ranges at once. Otherwise the body is written to the file as it is received.");
+        download.javadoc().addReturn().add("the first response, or the one of the range that failed, whose body is discarded when it is not successful");
+        final JVar clientParam = download.param(types.httpClient, "client");
+        final JVar requestParam = download.param(types.requestBuilder, "request");
+        final JVar fileParam = download.param(Path.class, "file");
+        final JVar parallelismParam = download.param(cm.INT, ActionParameters.PARALLELISM_PARAM_NAME);
+        RangedDownloadGenerator.checkParallelism(cm, download.body(), parallelismParam);
+        // The first byte is written to the file as well, it is overwritten by the first range
+        final JVar responseVal = download.body().decl(types.httpResponse.narrow(Path.class), "response", supportClass.staticInvoke("send").arg(clientParam)
+                .arg(requestParam.invoke("copy").invoke("setHeader").arg(RangedDownloadGenerator.RANGE_HEADER).arg(RangedDownloadGenerator.FIRST_BYTE_RANGE).invoke("build"))
+                .arg(supportClass.staticInvoke("ofFile").arg(fileParam)));
+        final JVar lengthVal = download.body().decl(JMod.FINAL, cm.LONG, "length", JOp.cond(responseVal.invoke("statusCode").eq(JExpr.lit(RangedDownloadGenerator.PARTIAL_CONTENT)),
+                JExpr.invoke(getLength).arg(responseVal.invoke("headers").invoke("firstValue").arg(RangedDownloadGenerator.CONTENT_RANGE_HEADER).invoke("orElse").arg(JExpr._null())),
+                JExpr.lit(-1L)));
+        // The body is empty or its length is unknown, so it can not be split in ranges
+        download.body()._if(responseVal.invoke("statusCode").eq(JExpr.lit(RangedDownloadGenerator.RANGE_NOT_SATISFIABLE))
+                .cor(responseVal.invoke("statusCode").eq(JExpr.lit(RangedDownloadGenerator.PARTIAL_CONTENT)).cand(lengthVal.lt(JExpr.lit(0L)))))._then()
+                .assign(responseVal, supportClass.staticInvoke("send").arg(clientParam).arg(requestParam.invoke("build")).arg(supportClass.staticInvoke("ofFile").arg(fileParam)));
+        download.body()._if(lengthVal.lt(JExpr.lit(0L)).cor(isNotSuccessful(responseVal)))._then()._return(responseVal);
+        final JTryBlock downloadTry = download.body()._try();
+        final JVar failedVal = downloadTry.body().decl(JMod.FINAL, wildcardResponse, "failed",
+                JExpr.invoke(fetch).arg(clientParam).arg(requestParam).arg(fileParam).arg(lengthVal).arg(parallelismParam));
+        downloadTry.body()._return(JOp.cond(failedVal.ne(JExpr._null()), failedVal, responseVal));
+        final JCatchBlock downloadCatch = downloadTry._catch(cm.ref(IOException.class));
+        downloadCatch.body()._throw(JExpr._new(cm.ref(UncheckedIOException.class)).arg(downloadCatch.param("e")));
+        rangedDownloadClass = downloadClass;
+    }
+
+    @Override
+    public JClass getUriTemplateType(JCodeModel cm) {
+        return uriTemplateClass;
+    }
+
+    @Override
+    public JExpression createUriTemplate(JCodeModel cm, JExpression client, JExpression baseUri) {
+        return JExpr._new(uriTemplateClass).arg(baseUri);
+    }
+
+    @Override
+    public JExpression appendToUriTemplate(JCodeModel cm, JExpression uriTemplate, String segment) {
+        return uriTemplate.invoke("path").arg(segment);
+    }
+
+    @Override
+    public JMethod resolveBaseURI(JCodeModel cm, JDefinedClass resourceClass, JFieldVar uriTemplateField, @Nullable JFieldVar uriParamsField) {
+        final JMethod getBaseUri = resourceClass.method(JMod.PRIVATE, String.class, "getBaseUri");
+        if (uriParamsField != null) {
+            getBaseUri.body()._return(uriTemplateField.invoke("expand").arg(uriParamsField));
+        } else {
+            getBaseUri.body()._return(uriTemplateField.invoke("getTemplate"));
+        }
+        return getBaseUri;
+    }
+
+    @Override
+    public void buildCustomException(JCodeModel cm, String basePackage, String apiName) {
+        // Every api gets an exception, so the support class used by all the actions is built along with it
+        try {
+            supportClass = buildHttpSupport(cm, basePackage, apiName);
+        } catch (JClassAlreadyExistsException e) {
+            supportClass = e.getExistingClass();
+        }
+        try {
+            uriTemplateClass = buildUriTemplate(cm, basePackage, apiName);
+        } catch (JClassAlreadyExistsException e) {
+            uriTemplateClass = e.getExistingClass();
+        }
+        final JClass headersClass = headersType(cm);
+        final JClass httpResponseClass = getHttpTypes(cm).httpResponse.narrow(cm.wildcard());
+        try {
+            final JDefinedClass customExceptionClass = cm._class(basePackage + "." + "exceptions" + "." + NameHelper.toValidClassName(apiName) + "Exception");
+            customExceptionClass._extends(RuntimeException.class);
+
+            final JFieldVar statusCodeField = customExceptionClass.field(JMod.PRIVATE, Integer.TYPE, "statusCode");
+            final JFieldVar reasonField = customExceptionClass.field(JMod.PRIVATE, String.class, "reason");
+            final JFieldVar headersField = customExceptionClass.field(JMod.PRIVATE, headersClass, "headers");
+            final JFieldVar responseField = customExceptionClass.field(JMod.PRIVATE, httpResponseClass, "response");
+
+            final JMethod exceptionConstructor = customExceptionClass.constructor(JMod.PUBLIC);
+            final JVar statusCodeParameter = exceptionConstructor.param(Integer.TYPE, "statusCode");
+            final JVar reasonParameter = exceptionConstructor.param(String.class, "reason");
+            final JVar headersParameter = exceptionConstructor.param(headersClass, "headers");
+            final JVar responseParameter = exceptionConstructor.param(httpResponseClass, "response");
+            exceptionConstructor.body().invoke("super").arg(reasonParameter);
+            exceptionConstructor.body().assign(JExpr._this().ref(statusCodeField), statusCodeParameter);
+            exceptionConstructor.body().assign(JExpr._this().ref(reasonField), reasonParameter);
+            exceptionConstructor.body().assign(JExpr._this().ref(headersField), headersParameter);
+            exceptionConstructor.body().assign(JExpr._this().ref(responseField), responseParameter);
+
+            final JMethod constructorWithoutHeadersAndResponse = customExceptionClass.constructor(JMod.PUBLIC);
+            constructorWithoutHeadersAndResponse.body().add(JExpr.invoke("this")
+                    .arg(constructorWithoutHeadersAndResponse.param(Integer.TYPE, "statusCode"))
+                    .arg(constructorWithoutHeadersAndResponse.param(String.class, "reason"))
+                    .arg(JExpr._null()).arg(JExpr._null()));
+
+            customExceptionClass.method(JMod.PUBLIC, Integer.TYPE, "getStatusCode").body()._return(JExpr._this().ref(statusCodeField));
+            customExceptionClass.method(JMod.PUBLIC, String.class, "getReason").body()._return(JExpr._this().ref(reasonField));
+            customExceptionClass.method(JMod.PUBLIC, headersClass, "getHeaders").body()._return(JExpr._this().ref(headersField));
+            customExceptionClass.method(JMod.PUBLIC, httpResponseClass, "getResponse").body()._return(JExpr._this().ref(responseField));
+
+            exceptionClass = customExceptionClass;
+        } catch (JClassAlreadyExistsException e) {
+            exceptionClass = cm.ref(RuntimeException.class);
+        }
+    }
+
+    @Override
+    public void buildCustomResponse(JCodeModel cm, String basePackage, ApiModel apiModel) throws JClassAlreadyExistsException {
+        final JDefinedClass customResponseClass = cm._class(basePackage + "." + "responses" + "." + NameHelper.toValidClassName(apiModel.getTitle()) + "Response");
+        final JTypeVar genericType = customResponseClass.generify("T");
+        final JClass headersClass = headersType(cm);
+        final JClass httpResponseClass = getHttpTypes(cm).httpResponse.narrow(cm.wildcard());
+
+        final JFieldVar bodyField = customResponseClass.field(JMod.PRIVATE, genericType, "body");
+        final JFieldVar headersField = customResponseClass.field(JMod.PRIVATE, headersClass, "headers");
+        final JFieldVar responseField = customResponseClass.field(JMod.PRIVATE, httpResponseClass, "response");
+
+        final JMethod containerConstructor = customResponseClass.constructor(JMod.PUBLIC);
+        containerConstructor.body().assign(JExpr._this().ref(bodyField), containerConstructor.param(genericType, "body"));
+        containerConstructor.body().assign(JExpr._this().ref(headersField), containerConstructor.param(headersClass, "headers"));
+        containerConstructor.body().assign(JExpr._this().ref(responseField), containerConstructor.param(httpResponseClass, "response"));
+
+        customResponseClass.method(JMod.PUBLIC, genericType, "getBody").body()._return(JExpr._this().ref(bodyField));
+        customResponseClass.method(JMod.PUBLIC, headersClass, "getHeaders").body()._return(JExpr._this().ref(headersField));
+        customResponseClass.method(JMod.PUBLIC, httpResponseClass, "getResponse").body()._return(JExpr._this().ref(responseField));
+
+        responseClass = customResponseClass;
+    }
+
+    /**
+     * Adds to the support class the handler decoding the responses and the method compressing the request bodies, that the actions
+     * use from then on. The client itself is not configured.
+     */
+    @Nullable
+    @Override
+    public JExpression buildCompression(JCodeModel cm, String basePackage, String apiName, @Nullable JExpression clientConfig, CodeGenConfig codeGenConfig) {
+        final HttpTypes types = getHttpTypes(cm);
+        final JClass bytes = cm.BYTE.array();
+
+        final JMethod decode = supportClass.method(JMod.PRIVATE | JMod.STATIC, bytes, "decode");
+        final JVar decodeBody = decode.param(bytes, "body");
+        final JVar encodingParam = decode.param(String.class, "encoding");
+        final JTryBlock decodeTry = decode.body()._try();
+        final JExpression encodedBody = JExpr._new(cm.ref(ByteArrayInputStream.class)).arg(decodeBody);
+        decodeTry.body()._if(encodingParam.invoke("equalsIgnoreCase").arg(RequestCompression.GZIP).cor(encodingParam.invoke("equalsIgnoreCase").arg("x-gzip")))._then()
+                ._return(JExpr._new(cm.ref(GZIPInputStream.class)).arg(encodedBody).invoke("readAllBytes"));
+        decodeTry.body()._if(encodingParam.invoke("equalsIgnoreCase").arg("deflate"))._then()
+                ._return(JExpr._new(cm.ref(InflaterInputStream.class)).arg(encodedBody).invoke("readAllBytes"));
+        decodeTry.body()._return(decodeBody);
+        final JCatchBlock decodeCatch = decodeTry._catch(cm.ref(IOException.class));
+        decodeCatch.body()._throw(JExpr._new(cm.ref(UncheckedIOException.class)).arg(decodeCatch.param("e")));
+
+        final JMethod decoded = supportClass.method(JMod.PUBLIC | JMod.STATIC, types.bodyHandler.narrow(bytes), "decoded");
+        decoded.javadoc().add("Reads the body in memory, decoding it when the server sent it gzip or deflate encoded.");
+        final JDefinedClass decodedHandler = cm.anonymousClass(types.bodyHandler.narrow(bytes));
+        final JMethod apply = decodedHandler.method(JMod.PUBLIC, types.bodySubscriber.narrow(bytes), "apply");
+        apply.annotate(Override.class);
+        final JVar responseInfoParam = apply.param(types.responseInfo, "responseInfo");
+        final JVar encodingVal = apply.body().decl(JMod.FINAL, cm.ref(String.class), "encoding",
+                responseInfoParam.invoke("headers").invoke("firstValue").arg(RequestCompression.CONTENT_ENCODING_HEADER).invoke("orElse").arg(""));
+        final JDefinedClass decoder = cm.anonymousClass(cm.ref(Function.class).narrow(bytes, bytes));
+        final JMethod decoderApply = decoder.method(JMod.PUBLIC, bytes, "apply");
+        decoderApply.annotate(Override.class);
+        decoderApply.body()._return(JExpr.invoke(decode).arg(decoderApply.param(bytes, "body")).arg(encodingVal));
+        apply.body()._return(types.bodySubscribers.staticInvoke("mapping").arg(types.bodySubscribers.staticInvoke("ofByteArray")).arg(JExpr._new(decoder)));
+        decoded.body()._return(JExpr._new(decodedHandler));
+
+        final JMethod compress = supportClass.method(JMod.PUBLIC | JMod.STATIC, types.bodyPublisher, "compress");
+        compress.javadoc().add("Sends the body gzipped when it has at least threshold bytes, as it is otherwise.");
+        final JVar requestParam = compress.param(types.requestBuilder, "request");
+        final JVar compressBody = compress.param(bytes, "body");
+        final JVar thresholdParam = compress.param(cm.INT, "threshold");
+        compress.body()._if(compressBody.ref("length").lt(thresholdParam))._then()
+                ._return(types.bodyPublishers.staticInvoke("ofByteArray").arg(compressBody));
+        final JVar compressedVal = compress.body().decl(JMod.FINAL, cm.ref(ByteArrayOutputStream.class), "compressed", JExpr._new(cm.ref(ByteArrayOutputStream.class)));
+        final JTryBlock compressTry = compress.body()._try();
+        final JVar gzipVal = compressTry.body().decl(JMod.FINAL, cm.ref(GZIPOutputStream.class), "output", JExpr._new(cm.ref(GZIPOutputStream.class)).arg(compressedVal));
+        compressTry.body().add(gzipVal.invoke("write").arg(compressBody));
+        compressTry.body().add(gzipVal.invoke("close"));
+        final JCatchBlock compressCatch = compressTry._catch(cm.ref(IOException.class));
+        compressCatch.body()._throw(JExpr._new(cm.ref(UncheckedIOException.class)).arg(compressCatch.param("e")));
+        compress.body().add(requestParam.invoke("setHeader").arg(RequestCompression.CONTENT_ENCODING_HEADER).arg(RequestCompression.GZIP));
+        compress.body()._return(types.bodyPublishers.staticInvoke("ofByteArray").arg(compressedVal.invoke("toByteArray")));
+
+        compression = true;
+        requestCompressionThreshold = codeGenConfig.getRequestCompressionThreshold();
+        return clientConfig;
+    }
+
+    /**
+     * The jdk client has no providers to register, the mapper of the support class is tuned instead and warmed up for the models
+     * when the class is loaded. Callers can still configure it before the client is used.
+     */
+    @Nullable
+    @Override
+    public JExpression buildObjectMapperProvider(JCodeModel cm, String basePackage, String apiName, @Nullable JExpression clientConfig, JArray modelTypes,
+                                                 @Nullable JClass jsonModule, CodeGenConfig codeGenConfig) {
+        final JMethod create = ObjectMapperGenerator.buildCreateObjectMapper(cm, supportClass, codeGenConfig.getGenerateObjectMapperProvider(), jsonModule);
+        final JFieldVar mapperField = supportClass.fields().get("MAPPER");
+        mapperField.init(JExpr.invoke(create));
+        final JFieldVar modelTypesField = ObjectMapperGenerator.buildModelTypes(cm, supportClass, modelTypes);
+        // Building them once caches the serializers and deserializers of the models in the mapper
+        final JForEach forEachType = supportClass.init().forEach(ObjectMapperGenerator.getClassType(cm), "type", modelTypesField);
+        forEachType.body().add(mapperField.invoke("readerFor").arg(forEachType.var()));
+        forEachType.body().add(mapperField.invoke("writerFor").arg(forEachType.var()));
+        return clientConfig;
+    }
+
+    /**
+     * The jdk client keeps its own pool of connections, that can not be configured.
+     */
+    @Nullable
+    @Override
+    public JDefinedClass buildConnectionPoolConfig(JCodeModel cm, String basePackage, String apiName, CodeGenConfig codeGenConfig) {
+        return null;
+    }
+
+    @Override
+    public JClass getClientType(JCodeModel cm) {
+        return getHttpTypes(cm).httpClient;
+    }
+
+    @Override
+    public SecurityClientGenerator createSecurityClientGenerator(List<JFieldVar> basicAuthFields) {
+        basicAuthentication = !basicAuthFields.isEmpty();
+        return new JdkHttpClientGenerator(this, basicAuthFields);
+    }
+
+    /**
+     * <code>HttpClient</code> is only <code>AutoCloseable</code> since java 21, before that its resources are released once it is unreachable.
+     */
+    @Override
+    public void closeClient(JCodeModel cm, JBlock block, JExpression client) {
+        final JClass autoCloseable = cm.ref(AutoCloseable.class);
+        final JTryBlock tryBlock = block._if(client._instanceof(autoCloseable))._then()._try();
+        tryBlock.body().add(JExpr.invoke(JExpr.cast(autoCloseable, client), "close"));
+        final JCatchBlock catchBlock = tryBlock._catch(cm.ref(Exception.class));
+        catchBlock.body()._throw(JExpr._new(cm.ref(IllegalStateException.class)).arg(catchBlock.param("e")));
+    }
+
+    private JClass headersType(JCodeModel cm) {
+        return cm.ref(Map.class).narrow(cm.ref(String.class), cm.ref(List.class).narrow(String.class));
+    }
+
+    /**
+     * Builds <code>&lt;Api&gt;UriTemplate</code>, the uri of a resource with its uri parameters left as placeholders, made once per
+     * client, along with the value of the <code>Authorization</code> header of the basic authentication of the client.
+     */
+    private JDefinedClass buildUriTemplate(JCodeModel cm, String basePackage, String apiName) throws JClassAlreadyExistsException {
+        final HttpTypes types = getHttpTypes(cm);
+        final JDefinedClass uriTemplate = cm._class(JMod.PUBLIC | JMod.FINAL, basePackage + "." + "api" + "." + NameHelper.toValidClassName(apiName) + "UriTemplate", ClassType.CLASS);
+        uriTemplate.javadoc().add("Uri of a resource, with its uri parameters left as <code>{name}</code> placeholders, and the credentials sent to it.");
+        final JFieldVar templateField = uriTemplate.field(JMod.PRIVATE | JMod.FINAL, String.class, "template");
+        final JFieldVar authorizationField = uriTemplate.field(JMod.PRIVATE | JMod.FINAL, String.class, "authorization");
+
+        final JMethod constructor = uriTemplate.constructor(JMod.PRIVATE);
+        constructor.body().assign(JExpr._this().ref(templateField), constructor.param(String.class, "template"));
+        constructor.body().assign(JExpr._this().ref(authorizationField), constructor.param(String.class, "authorization"));
+
+        final JMethod baseConstructor = uriTemplate.constructor(JMod.PUBLIC);
+        baseConstructor.body().add(JExpr.invoke("this").arg(baseConstructor.param(String.class, "template")).arg(JExpr._null()));
+
+        final JMethod path = uriTemplate.method(JMod.PUBLIC, uriTemplate, "path");
+        path.javadoc().add("The template of a child resource, sending the same credentials.");
+        final JVar segment = path.param(String.class, "segment");
+        path.body()._return(JExpr._new(uriTemplate).arg(templateField.plus(JExpr.lit("/")).plus(segment)).arg(authorizationField));
+
+        final JMethod withBasicAuthentication = uriTemplate.method(JMod.PUBLIC, uriTemplate, "withBasicAuthentication");
+        withBasicAuthentication.javadoc().add("The same template, sending the credentials with every request instead of waiting for the server to challenge them.");
+        final JVar username = withBasicAuthentication.param(String.class, "username");
+        final JVar password = withBasicAuthentication.param(String.class, "password");
+        final JExpression credentials = username.plus(JExpr.lit(":")).plus(password).invoke("getBytes").arg(cm.ref(StandardCharsets.class).staticRef("UTF_8"));
+        withBasicAuthentication.body()._return(JExpr._new(uriTemplate).arg(templateField)
+                .arg(JExpr.lit("Basic ").plus(cm.ref(Base64.class).staticInvoke("getEncoder").invoke("encodeToString").arg(credentials))));
+
+        uriTemplate.method(JMod.PUBLIC, String.class, "getTemplate").body()._return(templateField);
+
+        final JMethod expand = uriTemplate.method(JMod.PUBLIC, String.class, "expand");
+        expand.javadoc().add("The uri with the values of its uri parameters, encoded as path segments.");
+        expand.body()._return(supportClass.staticInvoke("expand").arg(templateField).arg(expand.param(cm.ref(Map.class).narrow(String.class, Object.class), "uriParams")));
+
+        final JMethod authorize = uriTemplate.method(JMod.PUBLIC, types.requestBuilder, "authorize");
+        authorize.javadoc().add("Adds the credentials, if any, to the request.");
+        final JVar requestBuilder = authorize.param(types.requestBuilder, "requestBuilder");
+        authorize.body()._if(authorizationField.ne(JExpr._null()))._then().add(requestBuilder.invoke("header").arg("Authorization").arg(authorizationField));
+        authorize.body()._return(requestBuilder);
+        return uriTemplate;
+    }
+
+    /**
+     * Builds the class with the static helpers the generated actions use to encode the requests, send them and read the responses.
+     */
+    private JDefinedClass buildHttpSupport(JCodeModel cm, String basePackage, String apiName) throws JClassAlreadyExistsException {
+        final HttpTypes types = getHttpTypes(cm);
+        final JDefinedClass support = cm._class(JMod.PUBLIC | JMod.FINAL, basePackage + "." + "api" + "." + NameHelper.toValidClassName(apiName) + "HttpSupport", ClassType.CLASS);
+        support.javadoc().add("Encodes the requests, sends them and reads the responses of the client.");
+        support.constructor(JMod.PRIVATE);
+        final JClass stringClass = cm.ref(String.class);
+        final JExpression utf8 = cm.ref(StandardCharsets.class).staticRef("UTF_8");
+
+        final JFieldVar mapperField = support.field(JMod.PUBLIC | JMod.STATIC | JMod.FINAL, ObjectMapper.class, "MAPPER", JExpr._new(cm.ref(ObjectMapper.class)));
+        mapperField.javadoc().add("Mapper of the json bodies, it can be configured before the client is used.");
+
+        final JMethod encode = support.method(JMod.PUBLIC | JMod.STATIC, String.class, "encode");
+        final JVar encodeValue = encode.param(String.class, "value");
+        final JTryBlock encodeTry = encode.body()._try();
+        encodeTry.body()._return(cm.ref(URLEncoder.class).staticInvoke("encode").arg(encodeValue).arg("UTF-8"));
+        final JCatchBlock encodeCatch = encodeTry._catch(cm.ref(UnsupportedEncodingException.class));
+        encodeCatch.body()._throw(JExpr._new(cm.ref(IllegalStateException.class)).arg(encodeCatch.param("e")));
+
+        final JMethod queryParam = support.method(JMod.PUBLIC | JMod.STATIC, String.class, "queryParam");
+        queryParam.javadoc().add("Appends the query parameter to the uri.");
+        final JVar uriParam = queryParam.param(String.class, "uri");
+        final JVar nameParam = queryParam.param(String.class, "name");
+        final JVar valueParam = queryParam.param(Object.class, "value");
+        final JExpression separator = JOp.cond(uriParam.invoke("indexOf").arg(JExpr.lit('?')).lt(JExpr.lit(0)), JExpr.lit("?"), JExpr.lit("&"));
+        queryParam.body()._return(uriParam.plus(separator)
+                .plus(JExpr.invoke(encode).arg(nameParam))
+                .plus(JExpr.lit("="))
+                .plus(JExpr.invoke(encode).arg(stringClass.staticInvoke("valueOf").arg(valueParam))));
+
+        final JMethod expand = support.method(JMod.PUBLIC | JMod.STATIC, String.class, "expand");
+        expand.javadoc().add("Replaces the <code>{name}</code> uri parameters of the template with their values, encoded as path segments.");
+        final JVar templateParam = expand.param(String.class, "uriTemplate");
+        final JVar uriParamsParam = expand.param(cm.ref(Map.class).narrow(String.class, Object.class), "uriParams");
+        final JBlock expandBody = expand.body();
+        final JVar uriBuilder = expandBody.decl(JMod.FINAL, cm.ref(StringBuilder.class), "uri", JExpr._new(cm.ref(StringBuilder.class)).arg(templateParam.invoke("length").plus(JExpr.lit(32))));
+        final JVar start = expandBody.decl(cm.INT, "start", JExpr.lit(0));
+        final JVar open = expandBody.decl(cm.INT, "open", templateParam.invoke("indexOf").arg(JExpr.lit('{')));
+        final JBlock expandLoop = expandBody._while(open.gte(JExpr.lit(0))).body();
+        final JVar close = expandLoop.decl(JMod.FINAL, cm.INT, "close", templateParam.invoke("indexOf").arg(JExpr.lit('}')).arg(open));
+        final JExpression paramValue = uriParamsParam.invoke("get").arg(templateParam.invoke("substring").arg(open.plus(JExpr.lit(1))).arg(close));
+        // URLEncoder encodes for forms, a space in a path segment is %20
+        final JExpression encodedValue = JExpr.invoke(encode).arg(stringClass.staticInvoke("valueOf").arg(paramValue)).invoke("replace").arg("+").arg("%20");
+        expandLoop.add(uriBuilder.invoke("append").arg(templateParam).arg(start).arg(open).invoke("append").arg(encodedValue));
+        expandLoop.assign(start, close.plus(JExpr.lit(1)));
+        expandLoop.assign(open, templateParam.invoke("indexOf").arg(JExpr.lit('{')).arg(start));
+        expandBody._return(uriBuilder.invoke("append").arg(templateParam).arg(start).arg(templateParam.invoke("length")).invoke("toString"));
+
+        final JMethod writeJson = support.method(JMod.PUBLIC | JMod.STATIC, cm.BYTE.array(), "writeJson");
+        final JVar writeJsonBody = writeJson.param(Object.class, "body");
+        final JTryBlock writeJsonTry = writeJson.body()._try();
+        writeJsonTry.body()._return(mapperField.invoke("writeValueAsBytes").arg(writeJsonBody));
+        final JCatchBlock writeJsonCatch = writeJsonTry._catch(cm.ref(JsonProcessingException.class));
+        writeJsonCatch.body()._throw(JExpr._new(cm.ref(IllegalArgumentException.class)).arg(writeJsonCatch.param("e")));
+
+        final JMethod json = support.method(JMod.PUBLIC | JMod.STATIC, types.bodyPublisher, "json");
+        json.body()._return(types.bodyPublishers.staticInvoke("ofByteArray").arg(JExpr.invoke(writeJson).arg(json.param(Object.class, "body"))));
+
+        final JMethod stream = support.method(JMod.PUBLIC | JMod.STATIC, types.bodyPublisher, "stream");
+        stream.javadoc().add("Streams the body, that can only be sent once.");
+        final JVar streamBody = stream.param(JMod.FINAL, InputStream.class, "body");
+        final JDefinedClass streamSupplier = cm.anonymousClass(cm.ref(Supplier.class).narrow(InputStream.class));
+        final JMethod get = streamSupplier.method(JMod.PUBLIC, InputStream.class, "get");
+        get.annotate(Override.class);
+        get.body()._return(streamBody);
+        stream.body()._return(types.bodyPublishers.staticInvoke("ofInputStream").arg(JExpr._new(streamSupplier)));
+
+        final JMethod file = support.method(JMod.PUBLIC | JMod.STATIC, types.bodyPublisher, "file");
+        file.javadoc().add("Sends the file with its length, reading it while the request is sent.");
+        final JVar fileBody = file.param(Path.class, "body");
+        final JTryBlock fileTry = file.body()._try();
+        fileTry.body()._return(types.bodyPublishers.staticInvoke("ofFile").arg(fileBody));
+        final JCatchBlock fileCatch = fileTry._catch(cm.ref(FileNotFoundException.class));
+        fileCatch.body()._throw(JExpr._new(cm.ref(UncheckedIOException.class)).arg(fileCatch.param("e")));
+
+        final JMethod entity = support.method(JMod.PUBLIC | JMod.STATIC, types.bodyPublisher, "entity");
+        entity.javadoc().add("Sends streams and byte arrays as they are and any other body as text.");
+        final JVar entityBody = entity.param(Object.class, "body");
+        entity.body()._if(entityBody._instanceof(cm.ref(InputStream.class)))._then()
+                ._return(JExpr.invoke(stream).arg(JExpr.cast(cm.ref(InputStream.class), entityBody)));
+        entity.body()._if(entityBody._instanceof(cm.BYTE.array()))._then()
+                ._return(types.bodyPublishers.staticInvoke("ofByteArray").arg(JExpr.cast(cm.BYTE.array(), entityBody)));
+        entity.body()._return(types.bodyPublishers.staticInvoke("ofString").arg(stringClass.staticInvoke("valueOf").arg(entityBody)));
+
+        final JMethod form = support.method(JMod.PUBLIC | JMod.STATIC, types.bodyPublisher, "form");
+        final JVar formFields = form.param(cm.ref(Map.class).narrow(String.class, String.class), "fields");
+        final JVar formBuilder = form.body().decl(JMod.FINAL, cm.ref(StringBuilder.class), "builder", JExpr._new(cm.ref(StringBuilder.class)));
+        final JForEach formLoop = form.body().forEach(cm.ref(Map.Entry.class).narrow(String.class, String.class), "field", formFields.invoke("entrySet"));
+        formLoop.body()._if(formBuilder.invoke("length").gt(JExpr.lit(0)))._then().add(formBuilder.invoke("append").arg(JExpr.lit('&')));
+        formLoop.body().add(formBuilder.invoke("append").arg(JExpr.invoke(encode).arg(formLoop.var().invoke("getKey")))
+                .invoke("append").arg(JExpr.lit('='))
+                .invoke("append").arg(JExpr.invoke(encode).arg(formLoop.var().invoke("getValue"))));
+        form.body()._return(types.bodyPublishers.staticInvoke("ofString").arg(formBuilder.invoke("toString")));
+
+        final JMethod multipart = support.method(JMod.PUBLIC | JMod.STATIC, types.bodyPublisher, "multipart");
+        multipart.javadoc().add("Streams the parts as <code>multipart/form-data</code>, the files are read while the request is sent.");
+        final JVar boundaryParam = multipart.param(JMod.FINAL, String.class, "boundary");
+        final JVar partsParam = multipart.param(JMod.FINAL, cm.ref(Map.class).narrow(String.class, Object.class), "parts");
+        // The streams are opened on every call of the supplier, so the request can be sent again
+        final JDefinedClass partsSupplier = cm.anonymousClass(cm.ref(Supplier.class).narrow(InputStream.class));
+        final JMethod getParts = partsSupplier.method(JMod.PUBLIC, InputStream.class, "get");
+        getParts.annotate(Override.class);
+        final JVar streamsVal = getParts.body().decl(JMod.FINAL, cm.ref(List.class).narrow(InputStream.class), "streams", JExpr._new(cm.ref(ArrayList.class).narrow(InputStream.class)));
+        final JTryBlock partsTry = getParts.body()._try();
+        final JForEach partLoop = partsTry.body().forEach(cm.ref(Map.Entry.class).narrow(String.class, Object.class), "part", partsParam.invoke("entrySet"));
+        final JVar dispositionVal = partLoop.body().decl(JMod.FINAL, stringClass, "disposition",
+                JExpr.lit("--").plus(boundaryParam).plus(JExpr.lit("\r\nContent-Disposition: form-data; name=\"")).plus(partLoop.var().invoke("getKey")).plus(JExpr.lit("\"")));
+        final JClass fileClass = cm.ref(File.class);
+        final JClass byteArrayStream = cm.ref(ByteArrayInputStream.class);
+        final JConditional isFile = partLoop.body()._if(partLoop.var().invoke("getValue")._instanceof(fileClass));
+        final JBlock fileBlock = isFile._then();
+        final JVar fileVal = fileBlock.decl(JMod.FINAL, fileClass, "file", JExpr.cast(fileClass, partLoop.var().invoke("getValue")));
+        final JExpression fileHeader = dispositionVal.plus(JExpr.lit("; filename=\"")).plus(fileVal.invoke("getName")).plus(JExpr.lit("\"\r\nContent-Type: application/octet-stream\r\n\r\n"));
+        fileBlock.add(streamsVal.invoke("add").arg(JExpr._new(byteArrayStream).arg(fileHeader.invoke("getBytes").arg(utf8))));
+        fileBlock.add(streamsVal.invoke("add").arg(JExpr._new(cm.ref(FileInputStream.class)).arg(fileVal)));
+        fileBlock.add(streamsVal.invoke("add").arg(JExpr._new(byteArrayStream).arg(JExpr.lit("\r\n").invoke("getBytes").arg(utf8))));
+        final JExpression field = dispositionVal.plus(JExpr.lit("\r\n\r\n")).plus(partLoop.var().invoke("getValue")).plus(JExpr.lit("\r\n"));
+        isFile._else().add(streamsVal.invoke("add").arg(JExpr._new(byteArrayStream).arg(field.invoke("getBytes").arg(utf8))));
+        final JCatchBlock partsCatch = partsTry._catch(cm.ref(IOException.class));
+        partsCatch.body()._throw(JExpr._new(cm.ref(UncheckedIOException.class)).arg(partsCatch.param("e")));
+        final JExpression end = JExpr.lit("--").plus(boundaryParam).plus(JExpr.lit("--\r\n"));
+        getParts.body().add(streamsVal.invoke("add").arg(JExpr._new(byteArrayStream).arg(end.invoke("getBytes").arg(utf8))));
+        getParts.body()._return(JExpr._new(cm.ref(SequenceInputStream.class)).arg(cm.ref(Collections.class).staticInvoke("enumeration").arg(streamsVal)));
+        multipart.body()._return(types.bodyPublishers.staticInvoke("ofInputStream").arg(JExpr._new(partsSupplier)));
+
+        final JMethod ofFile = support.method(JMod.PUBLIC | JMod.STATIC, types.bodyHandler.narrow(Path.class), "ofFile");
+        ofFile.javadoc().add("Writes the body to the target file as it is received, only when the response is successful.");
+        final JVar ofFileTarget = ofFile.param(JMod.FINAL, Path.class, "target");
+        final JDefinedClass fileHandler = cm.anonymousClass(types.bodyHandler.narrow(Path.class));
+        final JMethod apply = fileHandler.method(JMod.PUBLIC, types.bodySubscriber.narrow(Path.class), "apply");
+        apply.annotate(Override.class);
+        final JVar responseInfoParam = apply.param(types.responseInfo, "responseInfo");
+        // Without truncating, a shorter body would leave the end of the previous file in place
+        final JClass openOption = cm.ref(StandardOpenOption.class);
+        apply.body()._if(responseInfoParam.invoke("statusCode").div(JExpr.lit(100)).eq(JExpr.lit(2)))._then()
+                ._return(types.bodySubscribers.staticInvoke("ofFile").arg(ofFileTarget)
+                        .arg(openOption.staticRef("CREATE")).arg(openOption.staticRef("WRITE")).arg(openOption.staticRef("TRUNCATE_EXISTING")));
+        apply.body()._return(types.bodySubscribers.staticInvoke("replacing").arg(JExpr.cast(cm.ref(Path.class), JExpr._null())));
+        ofFile.body()._return(JExpr._new(fileHandler));
+
+        final JMethod send = support.method(JMod.PUBLIC | JMod.STATIC, cm.VOID, "send");
+        send.javadoc().add("Sends the request, rethrowing the failures as unchecked exceptions.");
+        final JTypeVar sendType = send.generify("T");
+        send.type(types.httpResponse.narrow(sendType));
+        final JVar clientParam = send.param(types.httpClient, "client");
+        final JVar requestParam = send.param(types.httpRequest, "request");
+        final JVar handlerParam = send.param(types.bodyHandler.narrow(sendType), "handler");
+        final JTryBlock sendTry = send.body()._try();
+        sendTry.body()._return(clientParam.invoke("send").arg(requestParam).arg(handlerParam));
+        final JCatchBlock ioCatch = sendTry._catch(cm.ref(IOException.class));
+        ioCatch.body()._throw(JExpr._new(cm.ref(UncheckedIOException.class)).arg(ioCatch.param("e")));
+        final JCatchBlock interruptedCatch = sendTry._catch(cm.ref(InterruptedException.class));
+        interruptedCatch.body().add(cm.ref(Thread.class).staticInvoke("currentThread").invoke("interrupt"));
+        interruptedCatch.body()._throw(JExpr._new(cm.ref(IllegalStateException.class)).arg("Interrupted while waiting for the response").arg(interruptedCatch.param("e")));
+
+        final JClass bytesResponse = types.httpResponse.narrow(cm.BYTE.array());
+        buildReadJson(cm, support, mapperField, bytesResponse, cm.ref(Class.class));
+        buildReadJson(cm, support, mapperField, bytesResponse, cm.ref(TypeReference.class));
+
+        final JMethod readString = support.method(JMod.PUBLIC | JMod.STATIC, String.class, "readString");
+        readString.javadoc().add("Reads the body as text, in the charset of its content type or UTF-8 when none is given.");
+        final JVar readStringResponse = readString.param(bytesResponse, "response");
+        final JVar contentTypeVal = readString.body().decl(JMod.FINAL, stringClass, "contentType",
+                readStringResponse.invoke("headers").invoke("firstValue").arg(CONTENT_TYPE_HEADER).invoke("orElse").arg(""));
+        final JVar charsetIndexVal = readString.body().decl(JMod.FINAL, cm.INT, "charsetIndex", contentTypeVal.invoke("toLowerCase").invoke("indexOf").arg("charset="));
+        final JExpression charsetParameter = contentTypeVal.invoke("substring").arg(charsetIndexVal.plus(JExpr.lit(8))).invoke("split").arg(";").component(JExpr.lit(0));
+        final JExpression charsetName = JExpr.invoke(charsetParameter, "replace").arg("\"").arg("").invoke("trim");
+        final JVar charsetVal = readString.body().decl(JMod.FINAL, cm.ref(Charset.class), "charset",
+                JOp.cond(charsetIndexVal.lt(JExpr.lit(0)), utf8, cm.ref(Charset.class).staticInvoke("forName").arg(charsetName)));
+        readString.body()._return(JExpr._new(stringClass).arg(readStringResponse.invoke("body")).arg(charsetVal));
+        return support;
+    }
+
+    private void buildReadJson(JCodeModel cm, JDefinedClass support, JFieldVar mapperField, JClass responseType, JClass typeClass) {
+        final JMethod readJson = support.method(JMod.PUBLIC | JMod.STATIC, cm.VOID, "readJson");
+        final JTypeVar type = readJson.generify("T");
+        readJson.type(type);
+        final JVar responseParam = readJson.param(responseType, "response");
+        final JVar typeParam = readJson.param(typeClass.narrow(type), "type");
+        final JTryBlock tryBlock = readJson.body()._try();
+        tryBlock.body()._return(mapperField.invoke("readValue").arg(responseParam.invoke("body")).arg(typeParam));
+        final JCatchBlock catchBlock = tryBlock._catch(cm.ref(IOException.class));
+        catchBlock.body()._throw(JExpr._new(cm.ref(UncheckedIOException.class)).arg(catchBlock.param("e")));
+    }
+
+    private HttpTypes getHttpTypes(JCodeModel cm) {
+        if (httpTypes == null || httpTypes.cm != cm) {
+            httpTypes = new HttpTypes(cm);
+        }
+        return httpTypes;
+    }
+
+    /**
+     * The types of <code>java.net.http</code>, declared as hidden classes of the code model so they are referenced, and imported,
+     * regardless of the java version the generator runs on.
+     */
+    private static class HttpTypes {
+
+        private final JCodeModel cm;
+        private final JDefinedClass httpClient;
+        private final JDefinedClass httpRequest;
+        private final JDefinedClass requestBuilder;
+        private final JDefinedClass bodyPublisher;
+        private final JDefinedClass bodyPublishers;
+        private final JDefinedClass httpResponse;
+        private final JDefinedClass bodyHandler;
+        private final JDefinedClass bodyHandlers;
+        private final JDefinedClass responseInfo;
+        private final JDefinedClass bodySubscriber;
+        private final JDefinedClass bodySubscribers;
+
+        private HttpTypes(JCodeModel cm) {
+            this.cm = cm;
+            try {
+                httpClient = jdkClass(cm, "HttpClient");
+                httpRequest = jdkClass(cm, "HttpRequest");
+                requestBuilder = httpRequest._class(JMod.PUBLIC, "Builder", ClassType.INTERFACE);
+                bodyPublisher = httpRequest._class(JMod.PUBLIC, "BodyPublisher", ClassType.INTERFACE);
+                bodyPublishers = httpRequest._class(JMod.PUBLIC, "BodyPublishers");
+                httpResponse = jdkClass(cm, "HttpResponse");
+                bodyHandler = httpResponse._class(JMod.PUBLIC, "BodyHandler", ClassType.INTERFACE);
+                bodyHandlers = httpResponse._class(JMod.PUBLIC, "BodyHandlers");
+                responseInfo = httpResponse._class(JMod.PUBLIC, "ResponseInfo", ClassType.INTERFACE);
+                bodySubscriber = httpResponse._class(JMod.PUBLIC, "BodySubscriber", ClassType.INTERFACE);
+                bodySubscribers = httpResponse._class(JMod.PUBLIC, "BodySubscribers");
+            } catch (JClassAlreadyExistsException e) {
+                throw new IllegalStateException("The code model already declares " + e.getExistingClass().fullName(), e);
+            }
+        }
+
+        private static JDefinedClass jdkClass(JCodeModel cm, String name) throws JClassAlreadyExistsException {
+            final JDefinedClass jdkClass = cm._class(JMod.PUBLIC | JMod.ABSTRACT, JAVA_NET_HTTP_PACKAGE + "." + name, ClassType.CLASS);
+            jdkClass.hide();
+            return jdkClass;
+        }
+    }
+}
@@ -1,26 +1,45 @@
 package org.mule.client.codegen.clientgenerator;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.codemodel.ClassType;
+import com.sun.codemodel.JArray;
 import com.sun.codemodel.JBlock;
+import com.sun.codemodel.JCatchBlock;
 import com.sun.codemodel.JClass;
 import com.sun.codemodel.JClassAlreadyExistsException;
+import com.sun.codemodel.JConditional;
 import com.sun.codemodel.JCodeModel;
 import com.sun.codemodel.JDefinedClass;
 import com.sun.codemodel.JExpr;
 import com.sun.codemodel.JExpression;
 import com.sun.codemodel.JFieldVar;
+import com.sun.codemodel.JForEach;
+import com.sun.codemodel.JForLoop;
 import com.sun.codemodel.JInvocation;
 import com.sun.codemodel.JMethod;
 import com.sun.codemodel.JMod;
+import com.sun.codemodel.JOp;
+import com.sun.codemodel.JTryBlock;
 import com.sun.codemodel.JType;
 import com.sun.codemodel.JTypeVar;
 import com.sun.codemodel.JVar;
 import org.apache.commons.lang.StringUtils;
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.client.ClientLifecycleListener;
+import org.glassfish.jersey.client.ClientProperties;
+import org.glassfish.jersey.client.RequestEntityProcessing;
+import org.glassfish.jersey.client.filter.EncodingFilter;
 import org.glassfish.jersey.media.multipart.FormDataMultiPart;
 import org.glassfish.jersey.media.multipart.file.FileDataBodyPart;
+import org.glassfish.jersey.message.DeflateEncoder;
+import org.glassfish.jersey.message.GZipEncoder;
+import org.mule.client.codegen.CodeGenConfig;
 import org.mule.client.codegen.OutputVersion;
-import org.mule.client.codegen.RamlJavaClientGenerator;
 import org.mule.client.codegen.RestClientGenerator;
 import org.mule.client.codegen.model.JTypeWithMimeType;
+import org.mule.client.codegen.security.BasicAuthClientGenerator;
+import org.mule.client.codegen.security.NoSecuredClientGenerator;
+import org.mule.client.codegen.security.SecurityClientGenerator;
 import org.mule.client.codegen.utils.MimeTypeHelper;
 import org.mule.client.codegen.utils.NameHelper;
 import org.mule.client.codegen.utils.TypeConstants;
@@ -34,35 +53,97 @@ import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.client.Client;
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.client.Invocation;
+import javax.ws.rs.client.InvocationCallback;
 import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.Configuration;
+import javax.ws.rs.core.Feature;
+import javax.ws.rs.core.FeatureContext;
 import javax.ws.rs.core.GenericType;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.MultivaluedHashMap;
 import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.ContextResolver;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
-
-import static org.mule.client.codegen.utils.SecuritySchemesHelper.isOauth20SecuredBy;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
 
 
 public class Jersey2RestClientGeneratorImpl implements RestClientGenerator {
 
-    private final Logger logger = LoggerFactory.getLogger(getClass());
+    private static final String GET_TARGET_METHOD_NAME = "getTarget";
+    private static final String MAPPER_FIELD_NAME = "MAPPER";
+    private static final String GET_MAPPER_METHOD_NAME = "getMapper";
 
-    private static final String BODY_PARAM_NAME = "body";
-    private static final String HEADERS_PARAM_NAME = "headers";
-    private static final String TOKEN_PARAM_NAME = "authorizationToken";
-    private static final String MIME_TYPE_NAME = "mimeType";
-    private static final String QUERY_PARAMETERS_PARAM_NAME = "queryParameters";
+    // Referenced by name, only the generated clients with a pooled connector depend on the jersey apache connector
+    private static final String POOLING_CONNECTION_MANAGER = "org.apache.http.impl.conn.PoolingHttpClientConnectionManager";
+    private static final String APACHE_CONNECTOR_PROVIDER = "org.glassfish.jersey.apache.connector.ApacheConnectorProvider";
+    private static final String APACHE_CLIENT_PROPERTIES = "org.glassfish.jersey.apache.connector.ApacheClientProperties";
+    private static final long EVICTION_INTERVAL_MILLIS = 5000;
 
-    private static JClass exceptionClass;
-    private static JClass responseClass;
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    // Types generated for the api being built, each generator instance builds a single code model at a time
+    private JClass exceptionClass;
+    private JClass responseClass;
+    private JClass jsonArrayIteratorClass;
+    private JClass jsonArrayInputStreamClass;
+    private JClass rangedDownloadClass;
+    // Null when the client does not use compression
+    private JClass compressionClass;
 
 
     @Override
     public void callHttpMethod(@Nonnull JCodeModel cm, @Nonnull JDefinedClass resourceClass, @Nonnull JTypeWithMimeType returnType, @Nonnull OutputVersion outputVersion, @Nullable JTypeWithMimeType bodyType, @Nullable JType queryParameterType, @Nullable JType headerParameterType, @Nonnull Action action, ApiModel apiModel) {
+        callHttpMethod(cm, resourceClass, returnType, outputVersion, bodyType, null, null, queryParameterType, headerParameterType, action, apiModel);
+    }
+
+    @Override
+    public void callHttpMethodWithStreamedBody(@Nonnull JCodeModel cm, @Nonnull JDefinedClass resourceClass, @Nonnull JTypeWithMimeType returnType, @Nonnull OutputVersion outputVersion, @Nonnull JTypeWithMimeType bodyType, @Nonnull JClass bodyElementType, @Nullable JType queryParameterType, @Nullable JType headerParameterType, @Nonnull Action action, ApiModel apiModel) {
+        callHttpMethod(cm, resourceClass, returnType, outputVersion, bodyType, bodyElementType, JsonArrayInputStreamGenerator.STREAMED_BODY_JAVADOC, queryParameterType, headerParameterType, action, apiModel);
+    }
+
+    @Override
+    public void callHttpMethodWithFileBody(@Nonnull JCodeModel cm, @Nonnull JDefinedClass resourceClass, @Nonnull JTypeWithMimeType returnType, @Nonnull OutputVersion outputVersion, @Nonnull JTypeWithMimeType bodyType, @Nullable JType queryParameterType, @Nullable JType headerParameterType, @Nonnull Action action, ApiModel apiModel) {
+        final JTypeWithMimeType fileType = new JTypeWithMimeType(cm.ref(Path.class), bodyType.getMimeType());
+        callHttpMethod(cm, resourceClass, returnType, outputVersion, fileType, null, ActionParameters.FILE_BODY_JAVADOC, queryParameterType, headerParameterType, action, apiModel);
+    }
+
+    /**
+     * @param bodyElementType the type of the elements of the json array body when they are streamed, null to send the body as is
+     * @param note            what the variant does differently, added to the javadoc of the method
+     */
+    private void callHttpMethod(JCodeModel cm, JDefinedClass resourceClass, JTypeWithMimeType returnType, OutputVersion outputVersion, @Nullable JTypeWithMimeType bodyType, @Nullable JClass bodyElementType, @Nullable String note, @Nullable JType queryParameterType, @Nullable JType headerParameterType, Action action, ApiModel apiModel) {
         // Declare the method with the required inputs
         JMethod actionMethod;
         if (outputVersion.ordinal() >= OutputVersion.v2.ordinal()) {
@@ -70,54 +151,221 @@ public class Jersey2RestClientGeneratorImpl implements RestClientGenerator {
         } else {
             actionMethod = resourceClass.method(JMod.PUBLIC, returnType.getType(), action.getType().name().toLowerCase());
         }
-        if (StringUtils.isNotBlank(action.getDescription())) {
+        if (note != null) {
+            if (StringUtils.isNotBlank(action.getDescription())) {
+                actionMethod.javadoc().add(action.getDescription() + "\n");
+            }
+            actionMethod.javadoc().add(note);
+        } else if (StringUtils.isNotBlank(action.getDescription())) {
             actionMethod.javadoc().add(action.getDescription());
         }
-        final JVar bodyParam;
-        if (bodyType != null) {
-            bodyParam = actionMethod.param(bodyType.getType(), BODY_PARAM_NAME);
+        final ActionRequest request = buildRequest(cm, actionMethod, bodyType, bodyElementType, queryParameterType, headerParameterType, action, apiModel);
+
+        final JBlock body = actionMethod.body();
+        JInvocation methodInvocation = JExpr.invoke(request.invocationBuilder, "method");
+        methodInvocation.arg(action.getType().name());
+        if (request.entity != null) {
+            methodInvocation.arg(request.entity);
+        }
+        final JVar responseVal = body.decl(cm.ref(Response.class), "response", methodInvocation);
+
+        final JBlock ifBlock = body._if(isNotSuccessful(cm, responseVal))._then();
+        final JVar statusInfo = ifBlock.decl(cm.ref(Response.StatusType.class), "statusInfo", responseVal.invoke("getStatusInfo"));
+        ifBlock._throw(newException(statusInfo, responseVal));
+
+        final JExpression result = readResult(cm, returnType, outputVersion, responseVal);
+        if (outputVersion.ordinal() >= OutputVersion.v2.ordinal()) {
+            final JVar apiResponseVal = body.decl(responseClass.narrow(returnType.getType()), "apiResponse", result);
+            body._return(apiResponseVal);
+        } else if (result != null) {
+            body._return(result);
+        }
+    }
+
+    @Override
+    public void callHttpMethodAsync(@Nonnull JCodeModel cm, @Nonnull JDefinedClass resourceClass, @Nonnull JTypeWithMimeType returnType, @Nonnull OutputVersion outputVersion, @Nullable JTypeWithMimeType bodyType, @Nullable JType queryParameterType, @Nullable JType headerParameterType, @Nonnull Action action, ApiModel apiModel) {
+        final JClass resultType;
+        if (outputVersion.ordinal() >= OutputVersion.v2.ordinal()) {
+            resultType = responseClass.narrow(returnType.getType());
         } else {
-            bodyParam = null;
+            resultType = returnType.getType() == cm.VOID ? cm.ref(Void.class) : (JClass) returnType.getType();
+        }
+        final JClass futureType = cm.ref(CompletableFuture.class).narrow(resultType);
+        final JMethod actionMethod = resourceClass.method(JMod.PUBLIC, futureType, action.getType().name().toLowerCase() + "Async");
+        if (StringUtils.isNotBlank(action.getDescription())) {
+            actionMethod.javadoc().add(action.getDescription() + "\n");
         }
+        actionMethod.javadoc().add("The returned future completes exceptionally with the same exceptions the blocking method throws.");
+        final ActionRequest request = buildRequest(cm, actionMethod, bodyType, null, queryParameterType, headerParameterType, action, apiModel);
 
-        JVar mimeTypeParam = null;
-        if (bodyType != null) {
-            final MimeType type = bodyType.getMimeType();
-            if (MimeTypeHelper.isAnyType(type)) {
-                mimeTypeParam = actionMethod.param(String.class, MIME_TYPE_NAME);
-            }
+        final JBlock body = actionMethod.body();
+        final JVar futureVal = body.decl(JMod.FINAL, futureType, "future", JExpr._new(cm.ref(CompletableFuture.class).narrow(resultType)));
+
+        // The response is handled in the jersey callback, completing the future instead of returning or throwing
+        final JClass callbackType = cm.ref(InvocationCallback.class).narrow(Response.class);
+        final JDefinedClass callback = cm.anonymousClass(callbackType);
+        final JMethod completed = callback.method(JMod.PUBLIC, cm.VOID, "completed");
+        completed.annotate(Override.class);
+        final JVar responseVal = completed.param(Response.class, "response");
+        final JTryBlock tryBlock = completed.body()._try();
+        final JBlock tryBody = tryBlock.body();
+        final JBlock ifBlock = tryBody._if(isNotSuccessful(cm, responseVal))._then();
+        final JVar statusInfo = ifBlock.decl(cm.ref(Response.StatusType.class), "statusInfo", responseVal.invoke("getStatusInfo"));
+        ifBlock.add(futureVal.invoke("completeExceptionally").arg(newException(statusInfo, responseVal)));
+        ifBlock._return();
+        final JExpression result = readResult(cm, returnType, outputVersion, responseVal);
+        tryBody.add(futureVal.invoke("complete").arg(result != null ? result : JExpr._null()));
+        final JCatchBlock catchBlock = tryBlock._catch(cm.ref(RuntimeException.class));
+        catchBlock.body().add(futureVal.invoke("completeExceptionally").arg(catchBlock.param("e")));
+
+        final JMethod failed = callback.method(JMod.PUBLIC, cm.VOID, "failed");
+        failed.annotate(Override.class);
+        final JVar throwableParam = failed.param(Throwable.class, "throwable");
+        failed.body().add(futureVal.invoke("completeExceptionally").arg(throwableParam));
+
+        JInvocation methodInvocation = request.invocationBuilder.invoke("async").invoke("method");
+        methodInvocation.arg(action.getType().name());
+        if (request.entity != null) {
+            methodInvocation.arg(request.entity);
+        }
+        body.add(methodInvocation.arg(JExpr._new(callback)));
+        body._return(futureVal);
+    }
+
+    @Override
+    public void callHttpMethodStreaming(@Nonnull JCodeModel cm, @Nonnull JDefinedClass resourceClass, @Nonnull JTypeWithMimeType returnType, @Nonnull JClass elementType, @Nonnull OutputVersion outputVersion, @Nullable JTypeWithMimeType bodyType, @Nullable JType queryParameterType, @Nullable JType headerParameterType, @Nonnull Action action, ApiModel apiModel) {
+        final JClass streamType = cm.ref(Stream.class).narrow(elementType);
+        final JMethod actionMethod;
+        if (outputVersion.ordinal() >= OutputVersion.v2.ordinal()) {
+            actionMethod = resourceClass.method(JMod.PUBLIC, responseClass.narrow(streamType), action.getType().name().toLowerCase() + "Stream");
+        } else {
+            actionMethod = resourceClass.method(JMod.PUBLIC, streamType, action.getType().name().toLowerCase() + "Stream");
+        }
+        if (StringUtils.isNotBlank(action.getDescription())) {
+            actionMethod.javadoc().add(action.getDescription() + "\n");
+        }
+        actionMethod.javadoc().add("The elements are read while the stream is consumed, close it to release the connection before reading all of them.");
+        final ActionRequest request = buildRequest(cm, actionMethod, bodyType, null, queryParameterType, headerParameterType, action, apiModel);
+
+        final JBlock body = actionMethod.body();
+        JInvocation methodInvocation = JExpr.invoke(request.invocationBuilder, "method");
+        methodInvocation.arg(action.getType().name());
+        if (request.entity != null) {
+            methodInvocation.arg(request.entity);
         }
+        final JVar responseVal = body.decl(cm.ref(Response.class), "response", methodInvocation);
+
+        final JBlock ifBlock = body._if(isNotSuccessful(cm, responseVal))._then();
+        final JVar statusInfo = ifBlock.decl(cm.ref(Response.StatusType.class), "statusInfo", responseVal.invoke("getStatusInfo"));
+        ifBlock._throw(newException(statusInfo, responseVal));
+
+        // Closing the entity stream releases the connection
+        final JExpression elements = jsonArrayIteratorClass.staticInvoke(JsonArrayIteratorGenerator.STREAM_METHOD_NAME)
+                .arg(responseVal.invoke("readEntity").arg(JExpr.dotclass(cm.ref(InputStream.class))))
+                .arg(getMapper(request.target))
+                .arg(JExpr.dotclass(elementType));
+        if (outputVersion.ordinal() >= OutputVersion.v2.ordinal()) {
+            final JVar apiResponseVal = body.decl(responseClass.narrow(streamType), "apiResponse",
+                    JExpr._new(responseClass.narrow(streamType)).arg(elements).arg(responseVal.invoke("getStringHeaders")).arg(responseVal));
+            body._return(apiResponseVal);
+        } else {
+            body._return(elements);
+        }
+    }
+
+    @Override
+    public void callHttpMethodToFile(@Nonnull JCodeModel cm, @Nonnull JDefinedClass resourceClass, @Nonnull JTypeWithMimeType returnType, @Nonnull OutputVersion outputVersion, @Nullable JTypeWithMimeType bodyType, @Nullable JType queryParameterType, @Nullable JType headerParameterType, @Nonnull Action action, ApiModel apiModel) {
+        callHttpMethodToFile(cm, resourceClass, returnType, outputVersion, bodyType, false, queryParameterType, headerParameterType, action, apiModel);
+    }
+
+    @Override
+    public void callHttpMethodRangedDownload(@Nonnull JCodeModel cm, @Nonnull JDefinedClass resourceClass, @Nonnull JTypeWithMimeType returnType, @Nonnull OutputVersion outputVersion, @Nullable JType queryParameterType, @Nullable JType headerParameterType, @Nonnull Action action, ApiModel apiModel) {
+        callHttpMethodToFile(cm, resourceClass, returnType, outputVersion, null, true, queryParameterType, headerParameterType, action, apiModel);
+    }
 
-        final JVar queryParameterParam;
-        if (queryParameterType != null) {
-            queryParameterParam = actionMethod.param(queryParameterType, QUERY_PARAMETERS_PARAM_NAME);
+    /**
+     * @param ranged whether the method also takes the number of ranges of the body fetched at once
+     */
+    private void callHttpMethodToFile(JCodeModel cm, JDefinedClass resourceClass, JTypeWithMimeType returnType, OutputVersion outputVersion, @Nullable JTypeWithMimeType bodyType, boolean ranged, @Nullable JType queryParameterType, @Nullable JType headerParameterType, Action action, ApiModel apiModel) {
+        final JClass pathType = cm.ref(Path.class);
+        final JMethod actionMethod;
+        if (outputVersion.ordinal() >= OutputVersion.v2.ordinal()) {
+            actionMethod = resourceClass.method(JMod.PUBLIC, responseClass.narrow(pathType), action.getType().name().toLowerCase() + "ToFile");
         } else {
-            queryParameterParam = null;
+            actionMethod = resourceClass.method(JMod.PUBLIC, pathType, action.getType().name().toLowerCase() + "ToFile");
+        }
+        if (StringUtils.isNotBlank(action.getDescription())) {
+            actionMethod.javadoc().add(action.getDescription() + "\n");
         }
+        actionMethod.javadoc().add(ActionParameters.TO_FILE_JAVADOC);
+        if (ranged) {
+            actionMethod.javadoc().add(" " + ActionParameters.RANGED_DOWNLOAD_JAVADOC);
+        }
+        final ActionRequest request = buildRequest(cm, actionMethod, bodyType, null, queryParameterType, headerParameterType, action, apiModel);
+        final JVar fileParam = actionMethod.param(pathType, ActionParameters.FILE_PARAM_NAME);
 
-        final JVar headerParameterParam;
-        if (headerParameterType != null) {
-            headerParameterParam = actionMethod.param(headerParameterType, HEADERS_PARAM_NAME);
+        final JBlock body = actionMethod.body();
+        final JVar responseVal;
+        if (ranged) {
+            final JVar parallelismParam = actionMethod.param(cm.INT, ActionParameters.PARALLELISM_PARAM_NAME);
+            responseVal = body.decl(cm.ref(Response.class), "response", rangedDownloadClass.staticInvoke(RangedDownloadGenerator.DOWNLOAD_METHOD_NAME)
+                    .arg(request.invocationBuilder).arg(fileParam).arg(parallelismParam));
         } else {
-            headerParameterParam = null;
+            JInvocation methodInvocation = JExpr.invoke(request.invocationBuilder, "method");
+            methodInvocation.arg(action.getType().name());
+            if (request.entity != null) {
+                methodInvocation.arg(request.entity);
+            }
+            responseVal = body.decl(cm.ref(Response.class), "response", methodInvocation);
         }
 
-        final JVar authenticationParam;
-        //If global but not locally specified
-        if (isOauth20SecuredBy(action.getResource()) || (isOauth20SecuredBy(apiModel) && action.getResource().getSecuredBy().isEmpty())) {
-            authenticationParam = actionMethod.param(String.class, TOKEN_PARAM_NAME);
+        final JBlock ifBlock = body._if(isNotSuccessful(cm, responseVal))._then();
+        final JVar statusInfo = ifBlock.decl(cm.ref(Response.StatusType.class), "statusInfo", responseVal.invoke("getStatusInfo"));
+        ifBlock._throw(newException(statusInfo, responseVal));
+
+        if (!ranged) {
+            // The connectors only give access to the entity as a stream, it is copied to the file as it is received
+            final JTryBlock copyTry = body._try();
+            copyTry.body().add(cm.ref(Files.class).staticInvoke("copy")
+                    .arg(responseVal.invoke("readEntity").arg(JExpr.dotclass(cm.ref(InputStream.class))))
+                    .arg(fileParam)
+                    .arg(cm.ref(StandardCopyOption.class).staticRef("REPLACE_EXISTING")));
+            final JCatchBlock copyCatch = copyTry._catch(cm.ref(IOException.class));
+            copyCatch.body()._throw(JExpr._new(cm.ref(ProcessingException.class)).arg(copyCatch.param("e")));
+            copyTry._finally().add(responseVal.invoke("close"));
+        }
+        if (outputVersion.ordinal() >= OutputVersion.v2.ordinal()) {
+            final JVar apiResponseVal = body.decl(responseClass.narrow(pathType), "apiResponse",
+                    JExpr._new(responseClass.narrow(pathType)).arg(fileParam).arg(responseVal.invoke("getStringHeaders")).arg(responseVal));
+            body._return(apiResponseVal);
         } else {
-            authenticationParam = null;
+            body._return(fileParam);
         }
+    }
+
+    /**
+     * Adds the parameters of the action to the method and the statements building the request: the target, the query parameters, the
+     * headers and the entity to send, if any.
+     *
+     * @param bodyElementType the type of the elements of the json array body when the method takes a <code>Stream</code> of them
+     */
+    private ActionRequest buildRequest(JCodeModel cm, JMethod actionMethod, @Nullable JTypeWithMimeType bodyType, @Nullable JClass bodyElementType, @Nullable JType queryParameterType, @Nullable JType headerParameterType, Action action, ApiModel apiModel) {
+        final JTypeWithMimeType declaredBodyType = bodyElementType != null ? new JTypeWithMimeType(cm.ref(Stream.class).narrow(bodyElementType), bodyType.getMimeType()) : bodyType;
+        final ActionParameters parameters = ActionParameters.declare(actionMethod, declaredBodyType, queryParameterType, headerParameterType, action, apiModel);
+        final JVar bodyParam = parameters.body;
+        final JVar mimeTypeParam = parameters.mimeType;
+        final JVar queryParameterParam = parameters.queryParameters;
+        final JVar headerParameterParam = parameters.headers;
+        final JVar authenticationParam = parameters.authorizationToken;
 
         final JBlock body = actionMethod.body();
-        final JVar targetVal = body.decl(cm.ref(WebTarget.class), "target", JExpr._this().ref(RamlJavaClientGenerator.CLIENT_FIELD_NAME).invoke("target").arg(JExpr.invoke("getBaseUri")));
+        final JVar targetVal = body.decl(cm.ref(WebTarget.class), "target", JExpr.invoke(GET_TARGET_METHOD_NAME));
 
         if (queryParameterParam != null && action.getQueryParameters() != null && !action.getQueryParameters().isEmpty()) {
             final Map<String, TypeFieldDefinition> queryParameters = action.getQueryParameters();
             for (Map.Entry<String, TypeFieldDefinition> stringQueryParameterEntry : queryParameters.entrySet()) {
                 final String queryParameter = stringQueryParameterEntry.getKey();
-                body._if(queryParameterParam.invoke(NameHelper.getGetterName(queryParameter)).ne(JExpr._null()))._then()
+                ActionParameters.ifSet(body, queryParameterParam, queryParameter)
                         .assign(targetVal,
                                 targetVal.invoke("queryParam").arg(queryParameter).arg(queryParameterParam.invoke(NameHelper.getGetterName(queryParameter))));
             }
@@ -129,7 +377,7 @@ public class Jersey2RestClientGeneratorImpl implements RestClientGenerator {
             final Map<String, TypeFieldDefinition> headers = action.getHeaders();
             for (Map.Entry<String, TypeFieldDefinition> headerEntry : headers.entrySet()) {
                 final String headerParameter = headerEntry.getKey();
-                body._if(headerParameterParam.invoke(NameHelper.getGetterName(headerParameter)).ne(JExpr._null()))._then()
+                ActionParameters.ifSet(body, headerParameterParam, headerParameter)
                         .invoke(invocationBuilder, "header").arg(headerParameter).arg(headerParameterParam.invoke(NameHelper.getGetterName(headerParameter)));
             }
         }
@@ -138,17 +386,29 @@ public class Jersey2RestClientGeneratorImpl implements RestClientGenerator {
             body.add(invocationBuilder.invoke("header").arg("Authorization").arg(JExpr.lit("bearer ").plus(authenticationParam)));
         }
 
-        JInvocation methodInvocation = JExpr.invoke(invocationBuilder, "method");
-        methodInvocation.arg(action.getType().name());
+        JExpression entity = null;
         if (action.getType() != ActionType.GET && action.getType() != ActionType.OPTIONS && action.getType() != ActionType.DELETE) {
             if (bodyParam != null) {
                 final MimeType type = bodyType.getMimeType();
-                if (MimeTypeHelper.isJsonType(type)) {
-                    methodInvocation.arg(cm.directClass(Entity.class.getName()).staticInvoke("json").arg(bodyParam));
+                if (bodyElementType != null) {
+                    // The length is only known once the last element is written
+                    body.add(invocationBuilder.invoke("property").arg(cm.ref(ClientProperties.class).staticRef("REQUEST_ENTITY_PROCESSING"))
+                            .arg(cm.ref(RequestEntityProcessing.class).staticRef("CHUNKED")));
+                    final JExpression elements = JExpr._new(jsonArrayInputStreamClass.narrow(bodyElementType))
+                            .arg(bodyParam.invoke("iterator"))
+                            .arg(getMapper(targetVal));
+                    entity = cm.ref(Entity.class).staticInvoke("entity").arg(elements).arg(cm.directClass(MediaType.class.getName()).staticRef("APPLICATION_JSON_TYPE"));
+                } else if (MimeTypeHelper.isJsonType(type)) {
+                    entity = cm.directClass(Entity.class.getName()).staticInvoke("json").arg(bodyParam);
                 } else if (MimeTypeHelper.isTextType(type)) {
-                    methodInvocation.arg(cm.directClass(Entity.class.getName()).staticInvoke("text").arg(bodyParam));
+                    entity = cm.directClass(Entity.class.getName()).staticInvoke("text").arg(bodyParam);
+                } else if (MimeTypeHelper.isBinaryType(type) && bodyParam.type().equals(cm.ref(Path.class))) {
+                    // The connectors only stream the files sent in chunks, they are buffered whole otherwise
+                    body.add(invocationBuilder.invoke("property").arg(cm.ref(ClientProperties.class).staticRef("REQUEST_ENTITY_PROCESSING"))
+                            .arg(cm.ref(RequestEntityProcessing.class).staticRef("CHUNKED")));
+                    entity = cm.ref(Entity.class).staticInvoke("entity").arg(bodyParam.invoke("toFile")).arg(cm.directClass(MediaType.class.getName()).staticRef("APPLICATION_OCTET_STREAM_TYPE"));
                 } else if (MimeTypeHelper.isBinaryType(type)) {
-                    methodInvocation.arg((cm.ref(Entity.class).staticInvoke("entity").arg(bodyParam).arg(cm.directClass(MediaType.class.getName()).staticRef("APPLICATION_OCTET_STREAM_TYPE"))));
+                    entity = cm.ref(Entity.class).staticInvoke("entity").arg(bodyParam).arg(cm.directClass(MediaType.class.getName()).staticRef("APPLICATION_OCTET_STREAM_TYPE"));
                 } else if (MimeTypeHelper.isMultiPartType(type)) {
                     final JVar multiPartVar = body.decl(cm.ref(FormDataMultiPart.class), "multiPart", JExpr._new(cm.ref(FormDataMultiPart.class)));
                     final Map<String, TypeFieldDefinition> formParameters = type.getFormParameters();
@@ -156,50 +416,60 @@ public class Jersey2RestClientGeneratorImpl implements RestClientGenerator {
                         final TypeFieldDefinition formParameter = param.getValue();
                         final String paramName = param.getKey();
                         final String paramGetterMethod = NameHelper.getGetterName(paramName);
-                        final JBlock ifBlock = body._if(bodyParam.invoke(paramGetterMethod).ne(JExpr._null()))._then();
+                        final JBlock ifBlock = ActionParameters.ifSet(body, bodyParam, paramName);
                         if (TypeConstants.FILE.equals(formParameter.getType())) {
                             final JInvocation newFileDataBody = JExpr._new(cm._ref(FileDataBodyPart.class)).arg(JExpr.lit(paramName)).arg(bodyParam.invoke(paramGetterMethod));
                             ifBlock.invoke(multiPartVar, "bodyPart").arg(newFileDataBody);
                         } else {
-                            ifBlock.invoke(multiPartVar, "field").arg(JExpr.lit(paramName)).arg(bodyParam.invoke(paramGetterMethod).invoke("toString"));
+                            ifBlock.invoke(multiPartVar, "field").arg(JExpr.lit(paramName)).arg(ActionParameters.getString(cm, bodyParam, paramName));
                         }
                     }
-                    methodInvocation.arg(cm.directClass(Entity.class.getName()).staticInvoke("entity").arg(multiPartVar).arg(multiPartVar.invoke("getMediaType")));
+                    entity = cm.directClass(Entity.class.getName()).staticInvoke("entity").arg(multiPartVar).arg(multiPartVar.invoke("getMediaType"));
                 } else if (MimeTypeHelper.isFormUrlEncodedType(type)) {
                     final JVar multiValuedMapVar = body.decl(cm.ref(MultivaluedMap.class), "multiValuedMap", JExpr._new(cm.ref(MultivaluedHashMap.class)));
                     final Map<String, TypeFieldDefinition> formParameters = type.getFormParameters();
                     for (Map.Entry<String, TypeFieldDefinition> param : formParameters.entrySet()) {
                         final String paramName = param.getKey();
-                        final String paramGetterMethod = NameHelper.getGetterName(paramName);
-                        final JBlock ifBlock = body._if(bodyParam.invoke(paramGetterMethod).ne(JExpr._null()))._then();
-                        ifBlock.invoke(multiValuedMapVar, "add").arg(JExpr.lit(paramName)).arg(bodyParam.invoke(paramGetterMethod).invoke("toString"));
+                        ActionParameters.ifSet(body, bodyParam, paramName)
+                                .invoke(multiValuedMapVar, "add").arg(JExpr.lit(paramName)).arg(ActionParameters.getString(cm, bodyParam, paramName));
                     }
-                    methodInvocation.arg(cm.directClass(Entity.class.getName()).staticInvoke("entity").arg(multiValuedMapVar).arg(cm.directClass(MediaType.class.getName()).staticRef("APPLICATION_FORM_URLENCODED_TYPE")));
+                    entity = cm.directClass(Entity.class.getName()).staticInvoke("entity").arg(multiValuedMapVar).arg(cm.directClass(MediaType.class.getName()).staticRef("APPLICATION_FORM_URLENCODED_TYPE"));
                 } else if (MimeTypeHelper.isAnyType(type)) {
                     assert mimeTypeParam != null;
-                    methodInvocation.arg((cm.ref(Entity.class).staticInvoke("entity").arg(bodyParam).arg(mimeTypeParam)));
+                    entity = cm.ref(Entity.class).staticInvoke("entity").arg(bodyParam).arg(mimeTypeParam);
                 } else {
-                    methodInvocation.arg((cm.ref(Entity.class).staticInvoke("entity").arg(bodyParam).arg(type.getType())));
+                    entity = cm.ref(Entity.class).staticInvoke("entity").arg(bodyParam).arg(type.getType());
                 }
 
             } else {
-                methodInvocation.arg(JExpr.cast(cm.directClass(Entity.class.getName()), JExpr._null()));
+                entity = JExpr.cast(cm.directClass(Entity.class.getName()), JExpr._null());
             }
         }
+        final Boolean compressRequest = RequestCompression.compressRequest(action);
+        if (compressionClass != null && entity != null && compressRequest != null) {
+            body.add(invocationBuilder.invoke("property").arg(compressionClass.staticRef("REQUEST_THRESHOLD")).arg(JExpr.lit(compressRequest ? 0 : -1)));
+        }
+        return new ActionRequest(targetVal, invocationBuilder, entity);
+    }
 
-        final JVar responseVal = body.decl(cm.ref(Response.class), "response", methodInvocation);
-
-        final JBlock ifBlock = body._if(responseVal.invoke("getStatusInfo").invoke("getFamily").ne(cm.directClass("javax.ws.rs.core.Response.Status.Family").staticRef("SUCCESSFUL")))._then();
-        final JVar statusInfo = ifBlock.decl(cm.ref(Response.StatusType.class), "statusInfo", responseVal.invoke("getStatusInfo"));
+    private JExpression isNotSuccessful(JCodeModel cm, JVar responseVal) {
+        return responseVal.invoke("getStatusInfo").invoke("getFamily").ne(cm.directClass("javax.ws.rs.core.Response.Status.Family").staticRef("SUCCESSFUL"));
+    }
 
-        ifBlock._throw(
-                JExpr._new(exceptionClass)
-                        .arg(statusInfo.invoke("getStatusCode"))
-                        .arg(statusInfo.invoke("getReasonPhrase"))
-                        .arg(responseVal.invoke("getStringHeaders"))
-                        .arg(responseVal)
-        );
+    private JInvocation newException(JVar statusInfo, JVar responseVal) {
+        return JExpr._new(exceptionClass)
+                .arg(statusInfo.invoke("getStatusCode"))
+                .arg(statusInfo.invoke("getReasonPhrase"))
+                .arg(responseVal.invoke("getStringHeaders"))
+                .arg(responseVal);
+    }
 
+    /**
+     * Returns the expression reading the result of the action from the response, the api response for {@link OutputVersion#v2} or
+     * the entity otherwise, that is null when there is no entity to return.
+     */
+    @Nullable
+    private JExpression readResult(JCodeModel cm, JTypeWithMimeType returnType, OutputVersion outputVersion, JVar responseVal) {
         if (returnType.getType() != cm.VOID) {
             final MimeType type = returnType.getMimeType();
 
@@ -225,26 +495,60 @@ public class Jersey2RestClientGeneratorImpl implements RestClientGenerator {
                 apiResponseInvocation.arg(jInvocation);
                 apiResponseInvocation.arg(responseVal.invoke("getStringHeaders"));
                 apiResponseInvocation.arg(responseVal);
-                final JVar apiResponseVal = body.decl(responseClass.narrow(returnType.getType()), "apiResponse", apiResponseInvocation);
-                body._return(apiResponseVal);
+                return apiResponseInvocation;
             } else {
-                body._return(jInvocation);
+                return jInvocation;
             }
         } else if (outputVersion.ordinal() >= OutputVersion.v2.ordinal()) {
             JInvocation apiResponseInvocation = JExpr._new(responseClass.narrow(Void.class));
             apiResponseInvocation.arg(JExpr._null());
             apiResponseInvocation.arg(responseVal.invoke("getStringHeaders"));
             apiResponseInvocation.arg(responseVal);
-            final JVar apiResponseVal = body.decl(responseClass.narrow(returnType.getType()), "apiResponse", apiResponseInvocation);
-            body._return(apiResponseVal);
+            return apiResponseInvocation;
+        }
+        return null;
+    }
+
+    private static class ActionRequest {
+
+        private final JVar invocationBuilder;
+        @Nullable
+        private final JExpression entity;
+
+        private final JVar target;
+
+        private ActionRequest(JVar target, JVar invocationBuilder, @Nullable JExpression entity) {
+            this.target = target;
+            this.invocationBuilder = invocationBuilder;
+            this.entity = entity;
         }
     }
 
+    @Override
+    public JClass getUriTemplateType(JCodeModel cm) {
+        return cm.ref(WebTarget.class);
+    }
+
+    @Override
+    public JExpression createUriTemplate(JCodeModel cm, JExpression client, JExpression baseUri) {
+        return client.invoke("target").arg(baseUri);
+    }
+
+    @Override
+    public JExpression appendToUriTemplate(JCodeModel cm, JExpression uriTemplate, String segment) {
+        return uriTemplate.invoke("path").arg(segment);
+    }
 
     @Override
-    public JMethod resolveBaseURI(JCodeModel cm, JMethod baseUriMethod, JFieldVar baseUrlField) {
-        baseUriMethod.body()._return(baseUrlField);
-        return baseUriMethod;
+    public JMethod resolveBaseURI(JCodeModel cm, JDefinedClass resourceClass, JFieldVar uriTemplateField, @Nullable JFieldVar uriParamsField) {
+        final JMethod getTarget = resourceClass.method(JMod.PRIVATE, WebTarget.class, GET_TARGET_METHOD_NAME);
+        if (uriParamsField != null) {
+            // The values are encoded as path segments by jersey, '/' included
+            getTarget.body()._return(uriTemplateField.invoke("resolveTemplates").arg(uriParamsField));
+        } else {
+            getTarget.body()._return(uriTemplateField);
+        }
+        return getTarget;
     }
 
     @Override
@@ -301,6 +605,142 @@ public class Jersey2RestClientGeneratorImpl implements RestClientGenerator {
         }
     }
 
+    private JInvocation getMapper(JVar target) {
+        return jsonArrayIteratorClass.staticInvoke(GET_MAPPER_METHOD_NAME).arg(target.invoke("getConfiguration"));
+    }
+
+    @Override
+    public void buildJsonArrayStreaming(JCodeModel cm, String basePackage, String apiName) throws JClassAlreadyExistsException {
+        final JDefinedClass iteratorClass = JsonArrayIteratorGenerator.build(cm, basePackage, apiName);
+        // Jersey reads and writes the other json bodies through its own provider, the streamed ones use the mapper it is given
+        final JFieldVar defaultMapper = iteratorClass.field(JMod.PRIVATE | JMod.STATIC | JMod.FINAL, ObjectMapper.class, "DEFAULT_MAPPER", JExpr._new(cm.ref(ObjectMapper.class)));
+        final JMethod getMapper = iteratorClass.method(JMod.PUBLIC | JMod.STATIC, ObjectMapper.class, GET_MAPPER_METHOD_NAME);
+        getMapper.javadoc().add("The mapper of the <code>ContextResolver&lt;ObjectMapper&gt;</code> instance registered on the client, so the streamed json " +
+                "arrays are read and written like the other json bodies, a default one when there is none.");
+        final JVar configuration = getMapper.param(Configuration.class, "configuration");
+        final JForEach instances = getMapper.body().forEach(cm.ref(Object.class), "instance", configuration.invoke("getInstances"));
+        final JBlock resolverBlock = instances.body()._if(instances.var()._instanceof(cm.ref(ContextResolver.class)))._then();
+        final JVar context = resolverBlock.decl(JMod.FINAL, cm.ref(Object.class), "context",
+                JExpr.invoke(JExpr.cast(cm.ref(ContextResolver.class).narrow(cm.wildcard()), instances.var()), "getContext").arg(JExpr.dotclass(cm.ref(ObjectMapper.class))));
+        resolverBlock._if(context._instanceof(cm.ref(ObjectMapper.class)))._then()._return(JExpr.cast(cm.ref(ObjectMapper.class), context));
+        getMapper.body()._return(defaultMapper);
+        jsonArrayIteratorClass = iteratorClass;
+        jsonArrayInputStreamClass = JsonArrayInputStreamGenerator.build(cm, basePackage, apiName);
+    }
+
+    @Override
+    public void buildRangedDownload(JCodeModel cm, String basePackage, String apiName) throws JClassAlreadyExistsException {
+        final JDefinedClass downloadClass = RangedDownloadGenerator.declare(cm, basePackage, apiName);
+        final JClass responseType = cm.ref(Response.class);
+        final JExpression successful = cm.directClass("javax.ws.rs.core.Response.Status.Family").staticRef("SUCCESSFUL");
+
+        final JDefinedClass rangeWriter = downloadClass._class(JMod.PRIVATE | JMod.STATIC | JMod.FINAL, "RangeWriter");
+        rangeWriter._implements(cm.ref(Callable.class).narrow(responseType));
+        rangeWriter.javadoc().add("Fetches a range of the body and writes it to its place in the file, returning the response when it is not successful.");
+        final JFieldVar invocationField = rangeWriter.field(JMod.PRIVATE | JMod.FINAL, Invocation.class, "invocation");
+        final JFieldVar channelField = rangeWriter.field(JMod.PRIVATE | JMod.FINAL, FileChannel.class, "channel");
+        final JFieldVar positionField = rangeWriter.field(JMod.PRIVATE | JMod.FINAL, cm.LONG, "position");
+        final JFieldVar countField = rangeWriter.field(JMod.PRIVATE | JMod.FINAL, cm.LONG, "count");
+        final JMethod writerConstructor = rangeWriter.constructor(JMod.PRIVATE);
+        for (JFieldVar field : new JFieldVar[]{invocationField, channelField, positionField, countField}) {
+            writerConstructor.body().assign(JExpr._this().ref(field), writerConstructor.param(field.type(), field.name()));
+        }
+        final JMethod call = rangeWriter.method(JMod.PUBLIC, responseType, "call");
+        call.annotate(Override.class);
+        call._throws(IOException.class);
+        final JVar rangeResponse = call.body().decl(JMod.FINAL, responseType, "response", invocationField.invoke("invoke"));
+        call.body()._if(rangeResponse.invoke("getStatusInfo").invoke("getFamily").ne(successful))._then()._return(rangeResponse);
+        final JTryBlock callTry = call.body()._try();
+        callTry.body()._if(rangeResponse.invoke("getStatus").ne(JExpr.lit(RangedDownloadGenerator.PARTIAL_CONTENT)))._then()
+                ._throw(JExpr._new(cm.ref(IOException.class)).arg(JExpr.lit("The server answered the range with the status ").plus(rangeResponse.invoke("getStatus"))));
+        final JVar bodyVal = callTry.body().decl(JMod.FINAL, cm.ref(ReadableByteChannel.class), "body",
+                cm.ref(Channels.class).staticInvoke("newChannel").arg(rangeResponse.invoke("readEntity").arg(JExpr.dotclass(cm.ref(InputStream.class)))));
+        final JVar writtenVal = callTry.body().decl(cm.LONG, "written", JExpr.lit(0L));
+        final JBlock writeLoop = callTry.body()._while(writtenVal.lt(countField)).body();
+        final JVar transferredVal = writeLoop.decl(JMod.FINAL, cm.LONG, "transferred",
+                channelField.invoke("transferFrom").arg(bodyVal).arg(positionField.plus(writtenVal)).arg(countField.minus(writtenVal)));
+        writeLoop._if(transferredVal.eq(JExpr.lit(0L)))._then()._throw(JExpr._new(cm.ref(EOFException.class))
+                .arg(JExpr.lit("The range ended after ").plus(writtenVal).plus(JExpr.lit(" of ")).plus(countField).plus(JExpr.lit(" bytes"))));
+        writeLoop.assignPlus(writtenVal, transferredVal);
+        callTry._finally().add(rangeResponse.invoke("close"));
+        call.body()._return(JExpr._null());
+
+        final JMethod getLength = RangedDownloadGenerator.buildGetLength(cm, downloadClass);
+
+        final JMethod fetch = downloadClass.method(JMod.PRIVATE | JMod.STATIC, responseType, "fetch");
+        fetch.javadoc().add("Fetches the ranges of the body at once, returning the response of the first one that is not successful, if any.");
+        fetch._throws(IOException.class);
+        final JVar fetchRequest = fetch.param(Invocation.Builder.class, "request");
+        final JVar fetchFile = fetch.param(Path.class, "file");
+        final JVar lengthParam = fetch.param(cm.LONG, "length");
+        final JVar fetchParallelism = fetch.param(cm.INT, "parallelism");
+        final JVar rangeLengthVal = fetch.body().decl(JMod.FINAL, cm.LONG, "rangeLength", lengthParam.plus(fetchParallelism).minus(JExpr.lit(1)).div(fetchParallelism));
+        final JVar executorVal = fetch.body().decl(JMod.FINAL, cm.ref(ExecutorService.class), "executor", cm.ref(Executors.class).staticInvoke("newFixedThreadPool").arg(fetchParallelism));
+        final JVar outputVal = fetch.body().decl(JMod.FINAL, cm.ref(RandomAccessFile.class), "output", JExpr._new(cm.ref(RandomAccessFile.class)).arg(fetchFile.invoke("toFile")).arg("rw"));
+        final JTryBlock fetchTry = fetch.body()._try();
+        // Sized first, so the channel writes every range within the file whatever the order they arrive in
+        fetchTry.body().add(outputVal.invoke("setLength").arg(lengthParam));
+        final JClass futureType = cm.ref(Future.class).narrow(responseType);
+        final JVar rangesVal = fetchTry.body().decl(JMod.FINAL, cm.ref(List.class).narrow(futureType), "ranges", JExpr._new(cm.ref(ArrayList.class).narrow(futureType)));
+        final JForLoop rangeLoop = fetchTry.body()._for();
+        final JVar startVar = rangeLoop.init(cm.LONG, "start", JExpr.lit(0L));
+        rangeLoop.test(startVar.lt(lengthParam));
+        rangeLoop.update(JExpr.assignPlus(startVar, rangeLengthVal));
+        final JVar countVal = rangeLoop.body().decl(JMod.FINAL, cm.LONG, "count", cm.ref(Math.class).staticInvoke("min").arg(rangeLengthVal).arg(lengthParam.minus(startVar)));
+        final JExpression range = JExpr.lit("bytes=").plus(startVar).plus(JExpr.lit("-")).plus(startVar.plus(countVal).minus(JExpr.lit(1)));
+        final JExpression invocation = fetchRequest.invoke("header").arg(RangedDownloadGenerator.RANGE_HEADER).arg(JExpr._null())
+                .invoke("header").arg(RangedDownloadGenerator.RANGE_HEADER).arg(range).invoke("buildGet");
+        rangeLoop.body().add(rangesVal.invoke("add").arg(executorVal.invoke("submit")
+                .arg(JExpr._new(rangeWriter).arg(invocation).arg(outputVal.invoke("getChannel")).arg(startVar).arg(countVal))));
+        final JForEach rangesLoop = fetchTry.body().forEach(futureType, "range", rangesVal);
+        final JVar failedRange = rangesLoop.body().decl(JMod.FINAL, responseType, "failed", rangesLoop.var().invoke("get"));
+        rangesLoop.body()._if(failedRange.ne(JExpr._null()))._then()._return(failedRange);
+        fetchTry.body()._return(JExpr._null());
+        final JCatchBlock interruptedCatch = fetchTry._catch(cm.ref(InterruptedException.class));
+        interruptedCatch.body().add(cm.ref(Thread.class).staticInvoke("currentThread").invoke("interrupt"));
+        interruptedCatch.body()._throw(JExpr._new(cm.ref(ProcessingException.class)).arg("Interrupted while fetching the ranges").arg(interruptedCatch.param("e")));
+        final JCatchBlock executionCatch = fetchTry._catch(cm.ref(ExecutionException.class));
+        final JExpression cause = executionCatch.param("e").invoke("getCause");
+        executionCatch.body()._throw(JOp.cond(cause._instanceof(cm.ref(RuntimeException.class)),
+                JExpr.cast(cm.ref(RuntimeException.class), cause), JExpr._new(cm.ref(ProcessingException.class)).arg(cause)));
+        fetchTry._finally().add(executorVal.invoke("shutdownNow"));
+        fetchTry._finally().add(outputVal.invoke("close"));
+
+        final JMethod download = downloadClass.method(JMod.PUBLIC | JMod.STATIC, responseType, RangedDownloadGenerator.DOWNLOAD_METHOD_NAME);
+        download.javadoc().add("Requests the first byte of the body and, when the server answers with its range, fetches the whole body in up to " +
+                "parallelism ranges at once. Otherwise the body is written to the file as it is received.");
+        download.javadoc().addReturn().add("the first response, or the one of the range that failed, that is not read when it is not successful");
+        final JVar requestParam = download.param(Invocation.Builder.class, "request");
+        final JVar fileParam = download.param(Path.class, "file");
+        final JVar parallelismParam = download.param(cm.INT, ActionParameters.PARALLELISM_PARAM_NAME);
+        RangedDownloadGenerator.checkParallelism(cm, download.body(), parallelismParam);
+        final JVar responseVal = download.body().decl(responseType, "response", requestParam.invoke("header").arg(RangedDownloadGenerator.RANGE_HEADER).arg(RangedDownloadGenerator.FIRST_BYTE_RANGE).invoke("get"));
+        // The ranges of an encoded body are ranges of the encoded bytes, that are decoded as they are read
+        final JExpression partial = responseVal.invoke("getStatus").eq(JExpr.lit(RangedDownloadGenerator.PARTIAL_CONTENT))
+                .cand(responseVal.invoke("getHeaderString").arg(RequestCompression.CONTENT_ENCODING_HEADER).eq(JExpr._null()));
+        final JVar lengthVal = download.body().decl(JMod.FINAL, cm.LONG, "length", JOp.cond(partial,
+                JExpr.invoke(getLength).arg(responseVal.invoke("getHeaderString").arg(RangedDownloadGenerator.CONTENT_RANGE_HEADER)), JExpr.lit(-1L)));
+        // The body is empty or its length is unknown, so it can not be split in ranges
+        final JBlock resend = download.body()._if(responseVal.invoke("getStatus").eq(JExpr.lit(RangedDownloadGenerator.RANGE_NOT_SATISFIABLE))
+                .cor(responseVal.invoke("getStatus").eq(JExpr.lit(RangedDownloadGenerator.PARTIAL_CONTENT)).cand(lengthVal.lt(JExpr.lit(0L)))))._then();
+        resend.add(responseVal.invoke("close"));
+        resend.assign(responseVal, requestParam.invoke("header").arg(RangedDownloadGenerator.RANGE_HEADER).arg(JExpr._null()).invoke("get"));
+        download.body()._if(responseVal.invoke("getStatusInfo").invoke("getFamily").ne(successful))._then()._return(responseVal);
+        final JTryBlock downloadTry = download.body()._try();
+        final JBlock whole = downloadTry.body()._if(lengthVal.lt(JExpr.lit(0L)))._then();
+        whole.add(cm.ref(Files.class).staticInvoke("copy")
+                .arg(responseVal.invoke("readEntity").arg(JExpr.dotclass(cm.ref(InputStream.class))))
+                .arg(fileParam)
+                .arg(cm.ref(StandardCopyOption.class).staticRef("REPLACE_EXISTING")));
+        whole._return(responseVal);
+        final JVar failedVal = downloadTry.body().decl(JMod.FINAL, responseType, "failed", JExpr.invoke(fetch).arg(requestParam).arg(fileParam).arg(lengthVal).arg(parallelismParam));
+        downloadTry.body()._return(JOp.cond(failedVal.ne(JExpr._null()), failedVal, responseVal));
+        final JCatchBlock downloadCatch = downloadTry._catch(cm.ref(IOException.class));
+        downloadCatch.body()._throw(JExpr._new(cm.ref(ProcessingException.class)).arg(downloadCatch.param("e")));
+        downloadTry._finally().add(responseVal.invoke("close"));
+        rangedDownloadClass = downloadClass;
+    }
+
     @Override
     public void buildCustomResponse(JCodeModel cm, String basePackage, ApiModel apiModel) throws JClassAlreadyExistsException {
 
@@ -338,4 +778,264 @@ public class Jersey2RestClientGeneratorImpl implements RestClientGenerator {
 
         responseClass = customResponseClass;
     }
-}
\ No newline at end of file
+
+    @Override
+    public JDefinedClass buildConnectionPoolConfig(JCodeModel cm, String basePackage, String apiName, CodeGenConfig codeGenConfig) throws JClassAlreadyExistsException {
+        final JDefinedClass poolConfigClass = cm._class(basePackage + "." + "api" + "." + NameHelper.toValidClassName(apiName) + "ConnectionPoolConfig");
+        poolConfigClass.javadoc().add("Settings of the connection pool of the client. The pool sizes and the idle timeout can be changed at runtime, "
+                + "the other settings apply to the clients built afterwards.");
+        final JClass managerType = cm.directClass(POOLING_CONNECTION_MANAGER);
+
+        final JFieldVar evictionInterval = poolConfigClass.field(JMod.PRIVATE | JMod.STATIC | JMod.FINAL, Long.TYPE, "EVICTION_INTERVAL", JExpr.lit(EVICTION_INTERVAL_MILLIS));
+        final JFieldVar maxTotalField = poolConfigClass.field(JMod.PRIVATE | JMod.VOLATILE, Integer.TYPE, "maxTotalConnections", JExpr.lit(codeGenConfig.getMaxTotalConnections()));
+        final JFieldVar maxPerRouteField = poolConfigClass.field(JMod.PRIVATE | JMod.VOLATILE, Integer.TYPE, "maxConnectionsPerRoute", JExpr.lit(codeGenConfig.getMaxConnectionsPerRoute()));
+        final JFieldVar idleTimeoutField = poolConfigClass.field(JMod.PRIVATE | JMod.VOLATILE, Long.TYPE, "idleConnectionTimeout", JExpr.lit(codeGenConfig.getIdleConnectionTimeout()));
+        final JFieldVar keepAliveField = poolConfigClass.field(JMod.PRIVATE | JMod.VOLATILE, Long.TYPE, "keepAliveTimeout", JExpr.lit(codeGenConfig.getKeepAliveTimeout()));
+        final JFieldVar connectTimeoutField = poolConfigClass.field(JMod.PRIVATE | JMod.VOLATILE, Integer.TYPE, "connectTimeout", JExpr.lit(codeGenConfig.getConnectTimeout()));
+        final JFieldVar readTimeoutField = poolConfigClass.field(JMod.PRIVATE | JMod.VOLATILE, Integer.TYPE, "readTimeout", JExpr.lit(codeGenConfig.getReadTimeout()));
+        final JFieldVar connectionManagerField = poolConfigClass.field(JMod.PRIVATE | JMod.VOLATILE, managerType, "connectionManager");
+
+        // The pool sizes are also applied to the pool already in use
+        final JMethod setMaxTotal = buildPoolConfigProperty(poolConfigClass, maxTotalField);
+        setMaxTotal.body()._if(connectionManagerField.ne(JExpr._null()))._then()
+                .add(connectionManagerField.invoke("setMaxTotal").arg(setMaxTotal.params().get(0)));
+        final JMethod setMaxPerRoute = buildPoolConfigProperty(poolConfigClass, maxPerRouteField);
+        setMaxPerRoute.body()._if(connectionManagerField.ne(JExpr._null()))._then()
+                .add(connectionManagerField.invoke("setDefaultMaxPerRoute").arg(setMaxPerRoute.params().get(0)));
+        buildPoolConfigProperty(poolConfigClass, idleTimeoutField);
+        buildPoolConfigProperty(poolConfigClass, keepAliveField);
+        buildPoolConfigProperty(poolConfigClass, connectTimeoutField);
+        buildPoolConfigProperty(poolConfigClass, readTimeoutField);
+
+        final JDefinedClass evictor = buildConnectionEvictor(cm, poolConfigClass, managerType, idleTimeoutField, evictionInterval);
+
+        final JClass timeUnit = cm.ref(TimeUnit.class);
+        final JMethod toClientConfig = poolConfigClass.method(JMod.PUBLIC, ClientConfig.class, "toClientConfig");
+        toClientConfig.javadoc().add("Builds the configuration of a client using a new connection pool with these settings. "
+                + "The idle connections of the pool are evicted in the background until the client is closed.");
+        final JBlock body = toClientConfig.body();
+        final JVar managerVar = body.decl(JMod.FINAL, managerType, "manager", JExpr._new(managerType).arg(keepAliveField).arg(timeUnit.staticRef("MILLISECONDS")));
+        body.add(managerVar.invoke("setMaxTotal").arg(maxTotalField));
+        body.add(managerVar.invoke("setDefaultMaxPerRoute").arg(maxPerRouteField));
+        body.assign(connectionManagerField, managerVar);
+        final JVar clientConfigVar = body.decl(JMod.FINAL, cm.ref(ClientConfig.class), "clientConfig", JExpr._new(cm.ref(ClientConfig.class)));
+        body.add(clientConfigVar.invoke("connectorProvider").arg(JExpr._new(cm.directClass(APACHE_CONNECTOR_PROVIDER))));
+        body.add(clientConfigVar.invoke("property").arg(cm.directClass(APACHE_CLIENT_PROPERTIES).staticRef("CONNECTION_MANAGER")).arg(managerVar));
+        body.add(clientConfigVar.invoke("property").arg(cm.ref(ClientProperties.class).staticRef("CONNECT_TIMEOUT")).arg(connectTimeoutField));
+        body.add(clientConfigVar.invoke("property").arg(cm.ref(ClientProperties.class).staticRef("READ_TIMEOUT")).arg(readTimeoutField));
+        body.add(clientConfigVar.invoke("register").arg(JExpr._new(evictor).arg(managerVar)));
+        body._return(clientConfigVar);
+        return poolConfigClass;
+    }
+
+    /**
+     * Builds the listener that closes the expired and the idle connections of a pool from a background thread, started when the
+     * jersey client is initialized and stopped when it is closed. It reads the idle timeout on every run, so changes apply to the
+     * pool already in use.
+     */
+    private JDefinedClass buildConnectionEvictor(JCodeModel cm, JDefinedClass poolConfigClass, JClass managerType, JFieldVar idleTimeoutField,
+                                                 JFieldVar evictionInterval) throws JClassAlreadyExistsException {
+        final JClass timeUnit = cm.ref(TimeUnit.class);
+        final JDefinedClass evictor = poolConfigClass._class(JMod.PRIVATE, "ConnectionEvictor");
+        evictor._implements(ClientLifecycleListener.class);
+        final JFieldVar managerField = evictor.field(JMod.PRIVATE | JMod.FINAL, managerType, "manager");
+        final JFieldVar executorField = evictor.field(JMod.PRIVATE, ScheduledExecutorService.class, "executor");
+        final JMethod constructor = evictor.constructor(JMod.NONE);
+        constructor.body().assign(JExpr._this().ref(managerField), constructor.param(managerType, "manager"));
+
+        final JDefinedClass threadFactory = cm.anonymousClass(ThreadFactory.class);
+        final JMethod newThread = threadFactory.method(JMod.PUBLIC, Thread.class, "newThread");
+        newThread.annotate(Override.class);
+        final JVar runnableParam = newThread.param(Runnable.class, "runnable");
+        final JVar thread = newThread.body().decl(JMod.FINAL, cm.ref(Thread.class), "thread",
+                JExpr._new(cm.ref(Thread.class)).arg(runnableParam).arg(JExpr.lit(poolConfigClass.name() + "-evictor")));
+        newThread.body().add(thread.invoke("setDaemon").arg(JExpr.TRUE));
+        newThread.body()._return(thread);
+
+        final JDefinedClass evictTask = cm.anonymousClass(Runnable.class);
+        final JMethod run = evictTask.method(JMod.PUBLIC, cm.VOID, "run");
+        run.annotate(Override.class);
+        run.body().add(managerField.invoke("closeExpiredConnections"));
+        run.body()._if(idleTimeoutField.gt(JExpr.lit(0)))._then()
+                .add(managerField.invoke("closeIdleConnections").arg(idleTimeoutField).arg(timeUnit.staticRef("MILLISECONDS")));
+
+        final JMethod onInit = evictor.method(JMod.PUBLIC, cm.VOID, "onInit");
+        onInit.annotate(Override.class);
+        onInit.body().assign(executorField, cm.ref(Executors.class).staticInvoke("newSingleThreadScheduledExecutor").arg(JExpr._new(threadFactory)));
+        onInit.body().add(executorField.invoke("scheduleWithFixedDelay").arg(JExpr._new(evictTask))
+                .arg(evictionInterval).arg(evictionInterval).arg(timeUnit.staticRef("MILLISECONDS")));
+
+        final JMethod onClose = evictor.method(JMod.PUBLIC, cm.VOID, "onClose");
+        onClose.annotate(Override.class);
+        onClose.body()._if(executorField.ne(JExpr._null()))._then().add(executorField.invoke("shutdownNow"));
+        return evictor;
+    }
+
+    @Override
+    public JExpression buildCompression(JCodeModel cm, String basePackage, String apiName, @Nullable JExpression clientConfig, CodeGenConfig codeGenConfig) throws JClassAlreadyExistsException {
+        final JDefinedClass compression = cm._class(JMod.PUBLIC | JMod.FINAL, basePackage + "." + "api" + "." + NameHelper.toValidClassName(apiName) + "Compression", ClassType.CLASS);
+        compression._implements(Feature.class);
+        compression.javadoc().add("Asks for gzip or deflate encoded responses and decodes them, and sends the request bodies gzipped from a number of bytes on.");
+        final JFieldVar thresholdProperty = compression.field(JMod.PUBLIC | JMod.STATIC | JMod.FINAL, String.class, "REQUEST_THRESHOLD", JExpr.lit(compression.fullName() + ".requestThreshold"));
+        thresholdProperty.javadoc().add("Property of a request overriding the number of bytes from which its body is gzipped, never when negative.");
+        final JFieldVar thresholdField = compression.field(JMod.PRIVATE | JMod.FINAL, cm.INT, "requestThreshold");
+        final JMethod constructor = compression.constructor(JMod.PUBLIC);
+        constructor.javadoc().addParam("requestThreshold").add("number of bytes from which the request bodies are gzipped, never when negative");
+        constructor.body().assign(JExpr._this().ref(thresholdField), constructor.param(cm.INT, "requestThreshold"));
+
+        final JDefinedClass outputClass = compression._class(JMod.PRIVATE | JMod.STATIC | JMod.FINAL, "ThresholdOutputStream");
+        outputClass._extends(OutputStream.class);
+        outputClass.javadoc().add("Holds the body until it reaches the threshold and then sends it gzipped, a shorter body is sent as it is.");
+        final JFieldVar contextField = outputClass.field(JMod.PRIVATE | JMod.FINAL, WriterInterceptorContext.class, "context");
+        final JFieldVar targetField = outputClass.field(JMod.PRIVATE | JMod.FINAL, OutputStream.class, "target");
+        final JFieldVar outputThresholdField = outputClass.field(JMod.PRIVATE | JMod.FINAL, cm.INT, "threshold");
+        final JFieldVar bufferField = outputClass.field(JMod.PRIVATE | JMod.FINAL, ByteArrayOutputStream.class, "buffer", JExpr._new(cm.ref(ByteArrayOutputStream.class)));
+        // Null while the body is held
+        final JFieldVar outputField = outputClass.field(JMod.PRIVATE, OutputStream.class, "output");
+        final JMethod outputConstructor = outputClass.constructor(JMod.PRIVATE);
+        final JVar contextParam = outputConstructor.param(WriterInterceptorContext.class, "context");
+        outputConstructor.body().assign(JExpr._this().ref(contextField), contextParam);
+        outputConstructor.body().assign(JExpr._this().ref(targetField), contextParam.invoke("getOutputStream"));
+        outputConstructor.body().assign(JExpr._this().ref(outputThresholdField), outputConstructor.param(cm.INT, "threshold"));
+
+        final JMethod writeBytes = outputClass.method(JMod.PUBLIC, cm.VOID, "write");
+        writeBytes.annotate(Override.class);
+        writeBytes._throws(IOException.class);
+        final JVar bytesParam = writeBytes.param(cm.BYTE.array(), "b");
+        final JVar offParam = writeBytes.param(cm.INT, "off");
+        final JVar lenParam = writeBytes.param(cm.INT, "len");
+        final JBlock holding = writeBytes.body()._if(outputField.eq(JExpr._null()))._then();
+        final JBlock below = holding._if(bufferField.invoke("size").plus(lenParam).lt(outputThresholdField))._then();
+        below.add(bufferField.invoke("write").arg(bytesParam).arg(offParam).arg(lenParam));
+        below._return();
+        // Nothing reached the target yet, so the header is still sent
+        holding.add(contextField.invoke("getHeaders").invoke("putSingle").arg(RequestCompression.CONTENT_ENCODING_HEADER).arg(RequestCompression.GZIP));
+        holding.assign(outputField, JExpr._new(cm.ref(GZIPOutputStream.class)).arg(targetField));
+        holding.add(bufferField.invoke("writeTo").arg(outputField));
+        writeBytes.body().add(outputField.invoke("write").arg(bytesParam).arg(offParam).arg(lenParam));
+
+        final JMethod writeByte = outputClass.method(JMod.PUBLIC, cm.VOID, "write");
+        writeByte.annotate(Override.class);
+        writeByte._throws(IOException.class);
+        final JVar byteParam = writeByte.param(cm.INT, "b");
+        writeByte.body().invoke(writeBytes).arg(JExpr.newArray(cm.BYTE).add(JExpr.cast(cm.BYTE, byteParam))).arg(JExpr.lit(0)).arg(JExpr.lit(1));
+
+        final JMethod flush = outputClass.method(JMod.PUBLIC, cm.VOID, "flush");
+        flush.annotate(Override.class);
+        flush._throws(IOException.class);
+        flush.body()._if(outputField.ne(JExpr._null()))._then().add(outputField.invoke("flush"));
+
+        final JMethod finish = outputClass.method(JMod.PRIVATE, cm.VOID, "finish");
+        finish.javadoc().add("Sends what is held or the end of the gzipped body, it can be called more than once.");
+        finish._throws(IOException.class);
+        final JConditional held = finish.body()._if(outputField.eq(JExpr._null()));
+        held._then().add(bufferField.invoke("writeTo").arg(targetField));
+        held._then().assign(outputField, targetField);
+        held._elseif(outputField._instanceof(cm.ref(GZIPOutputStream.class)))._then()
+                .add(JExpr.invoke(JExpr.cast(cm.ref(GZIPOutputStream.class), outputField), "finish"));
+
+        final JMethod close = outputClass.method(JMod.PUBLIC, cm.VOID, "close");
+        close.annotate(Override.class);
+        close._throws(IOException.class);
+        close.body().invoke(finish);
+        close.body().add(outputField.invoke("close"));
+
+        final JDefinedClass encoderClass = compression._class(JMod.PRIVATE | JMod.STATIC | JMod.FINAL, "RequestEncoder");
+        encoderClass._implements(WriterInterceptor.class);
+        encoderClass.javadoc().add("Gzips the request bodies from the threshold of the request on, unless they are already encoded.");
+        final JFieldVar encoderThresholdField = encoderClass.field(JMod.PRIVATE | JMod.FINAL, cm.INT, "requestThreshold");
+        final JMethod encoderConstructor = encoderClass.constructor(JMod.PRIVATE);
+        encoderConstructor.body().assign(JExpr._this().ref(encoderThresholdField), encoderConstructor.param(cm.INT, "requestThreshold"));
+        final JMethod aroundWriteTo = encoderClass.method(JMod.PUBLIC, cm.VOID, "aroundWriteTo");
+        aroundWriteTo.annotate(Override.class);
+        aroundWriteTo._throws(IOException.class)._throws(WebApplicationException.class);
+        final JVar writerContext = aroundWriteTo.param(WriterInterceptorContext.class, "context");
+        final JBlock aroundBody = aroundWriteTo.body();
+        final JVar propertyVal = aroundBody.decl(JMod.FINAL, cm.ref(Object.class), "property", writerContext.invoke("getProperty").arg(thresholdProperty));
+        final JVar thresholdVal = aroundBody.decl(JMod.FINAL, cm.INT, "threshold",
+                JOp.cond(propertyVal._instanceof(cm.ref(Integer.class)), JExpr.cast(cm.ref(Integer.class), propertyVal), encoderThresholdField));
+        final JBlock asIs = aroundBody._if(thresholdVal.lt(JExpr.lit(0))
+                .cor(writerContext.invoke("getHeaders").invoke("containsKey").arg(RequestCompression.CONTENT_ENCODING_HEADER)))._then();
+        asIs.add(writerContext.invoke("proceed"));
+        asIs._return();
+        final JVar thresholdOutput = aroundBody.decl(JMod.FINAL, outputClass, "output", JExpr._new(outputClass).arg(writerContext).arg(thresholdVal));
+        aroundBody.add(writerContext.invoke("setOutputStream").arg(thresholdOutput));
+        aroundBody.add(writerContext.invoke("proceed"));
+        aroundBody.add(thresholdOutput.invoke(finish));
+
+        final JMethod configure = compression.method(JMod.PUBLIC, cm.BOOLEAN, "configure");
+        configure.annotate(Override.class);
+        final JVar featureContext = configure.param(FeatureContext.class, "context");
+        // The encoders decode the responses by their Content-Encoding, the filter asks for the encodings they support
+        configure.body().add(featureContext.invoke("register").arg(cm.ref(GZipEncoder.class).dotclass()));
+        configure.body().add(featureContext.invoke("register").arg(cm.ref(DeflateEncoder.class).dotclass()));
+        configure.body().add(featureContext.invoke("register").arg(cm.ref(EncodingFilter.class).dotclass()));
+        configure.body().add(featureContext.invoke("register").arg(JExpr._new(encoderClass).arg(thresholdField)));
+        configure.body()._return(JExpr.TRUE);
+        compressionClass = compression;
+
+        final JExpression config = clientConfig != null ? clientConfig : JExpr._new(cm.ref(ClientConfig.class));
+        return config.invoke("register").arg(JExpr._new(compression).arg(JExpr.lit(codeGenConfig.getRequestCompressionThreshold())));
+    }
+
+    @Override
+    public JExpression buildObjectMapperProvider(JCodeModel cm, String basePackage, String apiName, @Nullable JExpression clientConfig, JArray modelTypes,
+                                                 @Nullable JClass jsonModule, CodeGenConfig codeGenConfig) throws JClassAlreadyExistsException {
+        final JClass mapperType = cm.ref(ObjectMapper.class);
+        final JClass classType = ObjectMapperGenerator.getClassType(cm);
+        final JDefinedClass provider = cm._class(JMod.PUBLIC, basePackage + "." + "api" + "." + NameHelper.toValidClassName(apiName) + "ObjectMapperProvider", ClassType.CLASS);
+        provider._implements(cm.ref(ContextResolver.class).narrow(mapperType));
+        provider.javadoc().add("Provides the mapper jersey reads and writes the json bodies with, warmed up for the models when created.");
+        final JMethod create = ObjectMapperGenerator.buildCreateObjectMapper(cm, provider, codeGenConfig.getGenerateObjectMapperProvider(), jsonModule);
+        final JFieldVar modelTypesField = ObjectMapperGenerator.buildModelTypes(cm, provider, modelTypes);
+        final JFieldVar sharedMapperField = provider.field(JMod.PUBLIC | JMod.STATIC | JMod.FINAL, mapperType, MAPPER_FIELD_NAME, JExpr.invoke(create));
+        sharedMapperField.javadoc().add("Mapper shared by the clients using the default provider, it can be configured before the first client is created.");
+        final JFieldVar mapperField = provider.field(JMod.PRIVATE | JMod.FINAL, mapperType, "mapper");
+
+        final JMethod defaultConstructor = provider.constructor(JMod.PUBLIC);
+        defaultConstructor.javadoc().add("Uses the shared mapper.");
+        defaultConstructor.body().invoke("this").arg(sharedMapperField);
+
+        final JMethod constructor = provider.constructor(JMod.PUBLIC);
+        constructor.javadoc().add("Uses the given mapper, for example the one of the application, instead of the shared one.");
+        final JVar mapperParam = constructor.param(mapperType, "mapper");
+        constructor.body().assign(JExpr._this().ref(mapperField), mapperParam);
+        // Jersey's JacksonJsonProvider only asks for the mapper and builds its own readers and writers from it, building them once
+        // caches the serializers and deserializers of the models in the mapper
+        final JForEach forEachType = constructor.body().forEach(classType, "type", modelTypesField);
+        forEachType.body().add(mapperParam.invoke("readerFor").arg(forEachType.var()));
+        forEachType.body().add(mapperParam.invoke("writerFor").arg(forEachType.var()));
+
+        final JMethod getContext = provider.method(JMod.PUBLIC, mapperType, "getContext");
+        getContext.annotate(Override.class);
+        getContext.param(classType, "type");
+        getContext.body()._return(mapperField);
+
+        final JExpression config = clientConfig != null ? clientConfig : JExpr._new(cm.ref(ClientConfig.class));
+        return config.invoke("register").arg(JExpr._new(provider));
+    }
+
+    @Override
+    public JClass getClientType(JCodeModel cm) {
+        return cm.ref(Client.class);
+    }
+
+    @Override
+    public SecurityClientGenerator createSecurityClientGenerator(List<JFieldVar> basicAuthFields) {
+        return basicAuthFields.isEmpty() ? new NoSecuredClientGenerator() : new BasicAuthClientGenerator(basicAuthFields);
+    }
+
+    @Override
+    public void closeClient(JCodeModel cm, JBlock block, JExpression client) {
+        block.add(client.invoke("close"));
+    }
+
+    private JMethod buildPoolConfigProperty(JDefinedClass poolConfigClass, JFieldVar field) {
+        final String propertyName = StringUtils.capitalize(field.name());
+        poolConfigClass.method(JMod.PUBLIC, field.type(), "get" + propertyName).body()._return(field);
+        final JMethod setter = poolConfigClass.method(JMod.PUBLIC, Void.TYPE, "set" + propertyName);
+        final JVar param = setter.param(field.type(), field.name());
+        setter.body().assign(JExpr._this().ref(field), param);
+        return setter;
+    }
+}
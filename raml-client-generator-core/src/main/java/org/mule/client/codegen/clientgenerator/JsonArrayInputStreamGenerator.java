@@ -0,0 +1,111 @@
+package org.mule.client.codegen.clientgenerator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sun.codemodel.JBlock;
+import com.sun.codemodel.JCatchBlock;
+import com.sun.codemodel.JClassAlreadyExistsException;
+import com.sun.codemodel.JCodeModel;
+import com.sun.codemodel.JConditional;
+import com.sun.codemodel.JDefinedClass;
+import com.sun.codemodel.JExpr;
+import com.sun.codemodel.JFieldVar;
+import com.sun.codemodel.JMethod;
+import com.sun.codemodel.JMod;
+import com.sun.codemodel.JOp;
+import com.sun.codemodel.JTryBlock;
+import com.sun.codemodel.JTypeVar;
+import com.sun.codemodel.JVar;
+import org.mule.client.codegen.utils.NameHelper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+
+/**
+ * Builds the input stream the streaming variants of the actions write the elements of a json array body with, the same for every http client.
+ */
+class JsonArrayInputStreamGenerator {
+
+    static final String STREAMED_BODY_JAVADOC = "The elements are written while the body is sent in chunks, so they are never all held in memory.";
+
+    private JsonArrayInputStreamGenerator() {
+    }
+
+    /**
+     * Builds <code>&lt;Api&gt;JsonArrayInputStream</code>, built from an iterator of the elements and the mapper to write them with,
+     * that serializes the next elements only once the previous ones are read.
+     */
+    static JDefinedClass build(JCodeModel cm, String basePackage, String apiName) throws JClassAlreadyExistsException {
+        final JDefinedClass inputStreamClass = cm._class(basePackage + "." + "api" + "." + NameHelper.toValidClassName(apiName) + "JsonArrayInputStream");
+        final JTypeVar elementType = inputStreamClass.generify("T");
+        inputStreamClass._extends(InputStream.class);
+        inputStreamClass.javadoc().add("Writes the elements of a json array while it is read, so a request body is sent without holding all of them in memory.");
+
+        final JFieldVar elementsField = inputStreamClass.field(JMod.PRIVATE | JMod.FINAL, cm.ref(Iterator.class).narrow(elementType), "elements");
+        final JFieldVar bufferField = inputStreamClass.field(JMod.PRIVATE | JMod.FINAL, ByteArrayOutputStream.class, "buffer", JExpr._new(cm.ref(ByteArrayOutputStream.class)));
+        final JFieldVar writerField = inputStreamClass.field(JMod.PRIVATE | JMod.FINAL, SequenceWriter.class, "writer");
+        final JFieldVar bytesField = inputStreamClass.field(JMod.PRIVATE, cm.BYTE.array(), "bytes", JExpr.newArray(cm.BYTE, 0));
+        final JFieldVar positionField = inputStreamClass.field(JMod.PRIVATE, cm.INT, "position");
+        final JFieldVar finishedField = inputStreamClass.field(JMod.PRIVATE, cm.BOOLEAN, "finished");
+
+        final JMethod constructor = inputStreamClass.constructor(JMod.PUBLIC);
+        final JVar elementsParam = constructor.param(cm.ref(Iterator.class).narrow(elementType), "elements");
+        final JVar mapperParam = constructor.param(ObjectMapper.class, "mapper");
+        constructor.body().assign(JExpr._this().ref(elementsField), elementsParam);
+        final JTryBlock constructorTry = constructor.body()._try();
+        // Flushing after each element would turn every one of them into a chunk
+        constructorTry.body().assign(JExpr._this().ref(writerField), mapperParam.invoke("writer")
+                .invoke("without").arg(cm.ref(SerializationFeature.class).staticRef("FLUSH_AFTER_WRITE_VALUE"))
+                .invoke("writeValuesAsArray").arg(bufferField));
+        final JCatchBlock constructorCatch = constructorTry._catch(cm.ref(IOException.class));
+        constructorCatch.body()._throw(JExpr._new(cm.ref(UncheckedIOException.class)).arg(constructorCatch.param("e")));
+
+        // Writes elements until the generator flushes its own buffer, ending the array after the last one
+        final JMethod fill = inputStreamClass.method(JMod.PRIVATE, cm.BOOLEAN, "fill");
+        fill._throws(IOException.class);
+        final JBlock fillLoop = fill.body()._while(positionField.eq(bytesField.ref("length"))).body();
+        fillLoop._if(finishedField)._then()._return(JExpr.FALSE);
+        fillLoop.add(bufferField.invoke("reset"));
+        fillLoop._while(bufferField.invoke("size").eq(JExpr.lit(0)).cand(elementsField.invoke("hasNext"))).body()
+                .add(writerField.invoke("write").arg(elementsField.invoke("next")));
+        final JConditional hasNext = fillLoop._if(elementsField.invoke("hasNext"));
+        hasNext._then().add(writerField.invoke("flush"));
+        hasNext._else().add(writerField.invoke("close"));
+        hasNext._else().assign(finishedField, JExpr.TRUE);
+        fillLoop.assign(bytesField, bufferField.invoke("toByteArray"));
+        fillLoop.assign(positionField, JExpr.lit(0));
+        fill.body()._return(JExpr.TRUE);
+
+        final JMethod readByte = inputStreamClass.method(JMod.PUBLIC, cm.INT, "read");
+        readByte.annotate(Override.class);
+        readByte._throws(IOException.class);
+        readByte.body()._if(JExpr.invoke(fill).not())._then()._return(JExpr.lit(-1));
+        readByte.body()._return(JOp.band(JExpr.component(bytesField, positionField.incr()), JExpr.lit(0xFF)));
+
+        final JMethod read = inputStreamClass.method(JMod.PUBLIC, cm.INT, "read");
+        read.annotate(Override.class);
+        read._throws(IOException.class);
+        final JVar bParam = read.param(cm.BYTE.array(), "b");
+        final JVar offParam = read.param(cm.INT, "off");
+        final JVar lenParam = read.param(cm.INT, "len");
+        read.body()._if(lenParam.eq(JExpr.lit(0)))._then()._return(JExpr.lit(0));
+        read.body()._if(JExpr.invoke(fill).not())._then()._return(JExpr.lit(-1));
+        final JVar count = read.body().decl(JMod.FINAL, cm.INT, "count", cm.ref(Math.class).staticInvoke("min").arg(lenParam).arg(bytesField.ref("length").minus(positionField)));
+        read.body().add(cm.ref(System.class).staticInvoke("arraycopy").arg(bytesField).arg(positionField).arg(bParam).arg(offParam).arg(count));
+        read.body().assignPlus(positionField, count);
+        read.body()._return(count);
+
+        final JMethod close = inputStreamClass.method(JMod.PUBLIC, cm.VOID, "close");
+        close.annotate(Override.class);
+        close._throws(IOException.class);
+        final JBlock notFinished = close.body()._if(finishedField.not())._then();
+        notFinished.assign(finishedField, JExpr.TRUE);
+        notFinished.add(writerField.invoke("close"));
+        close.body().assign(positionField, bytesField.ref("length"));
+        return inputStreamClass;
+    }
+}
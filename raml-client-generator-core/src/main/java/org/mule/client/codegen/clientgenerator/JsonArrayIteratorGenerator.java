@@ -0,0 +1,132 @@
+package org.mule.client.codegen.clientgenerator;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.codemodel.JBlock;
+import com.sun.codemodel.JCatchBlock;
+import com.sun.codemodel.JClass;
+import com.sun.codemodel.JClassAlreadyExistsException;
+import com.sun.codemodel.JCodeModel;
+import com.sun.codemodel.JDefinedClass;
+import com.sun.codemodel.JExpr;
+import com.sun.codemodel.JFieldVar;
+import com.sun.codemodel.JMethod;
+import com.sun.codemodel.JMod;
+import com.sun.codemodel.JTryBlock;
+import com.sun.codemodel.JTypeVar;
+import com.sun.codemodel.JVar;
+import org.mule.client.codegen.utils.NameHelper;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Builds the iterator the streaming variants of the actions read the elements of a json array with, the same for every http client.
+ */
+class JsonArrayIteratorGenerator {
+
+    static final String STREAM_METHOD_NAME = "stream";
+
+    private JsonArrayIteratorGenerator() {
+    }
+
+    /**
+     * Builds <code>&lt;Api&gt;JsonArrayIterator</code>, whose static <code>stream(body, mapper, type)</code> returns a stream of the
+     * elements of the json array in the body, read one at a time. The body is closed once the last element is read or the stream is closed.
+     */
+    static JDefinedClass build(JCodeModel cm, String basePackage, String apiName) throws JClassAlreadyExistsException {
+        final JDefinedClass iteratorClass = cm._class(basePackage + "." + "api" + "." + NameHelper.toValidClassName(apiName) + "JsonArrayIterator");
+        final JTypeVar elementType = iteratorClass.generify("T");
+        iteratorClass._implements(cm.ref(Iterator.class).narrow(elementType));
+        iteratorClass._implements(Closeable.class);
+        iteratorClass.javadoc().add("Reads the elements of a json array one at a time, while they are iterated.");
+
+        final JFieldVar parserField = iteratorClass.field(JMod.PRIVATE | JMod.FINAL, JsonParser.class, "parser");
+        final JFieldVar mapperField = iteratorClass.field(JMod.PRIVATE | JMod.FINAL, ObjectMapper.class, "mapper");
+        final JFieldVar typeField = iteratorClass.field(JMod.PRIVATE | JMod.FINAL, cm.ref(Class.class).narrow(elementType), "type");
+        final JFieldVar hasNextField = iteratorClass.field(JMod.PRIVATE, cm.BOOLEAN, "hasNext");
+
+        final JMethod close = iteratorClass.method(JMod.PUBLIC, cm.VOID, "close");
+        close.annotate(Override.class);
+        close.body().assign(hasNextField, JExpr.FALSE);
+        final JTryBlock closeTry = close.body()._try();
+        closeTry.body().add(parserField.invoke("close"));
+        final JCatchBlock closeCatch = closeTry._catch(cm.ref(IOException.class));
+        closeCatch.body()._throw(JExpr._new(cm.ref(UncheckedIOException.class)).arg(closeCatch.param("e")));
+
+        // Moves to the next element, releasing the body once the end of the array is reached
+        final JMethod advance = iteratorClass.method(JMod.PRIVATE, cm.VOID, "advance");
+        advance._throws(IOException.class);
+        final JVar token = advance.body().decl(JMod.FINAL, cm.ref(JsonToken.class), "token", parserField.invoke("nextToken"));
+        advance.body()._if(token.eq(JExpr._null()))._then()._throw(JExpr._new(cm.ref(EOFException.class)).arg("Unexpected end of the json array"));
+        advance.body().assign(hasNextField, token.ne(cm.ref(JsonToken.class).staticRef("END_ARRAY")));
+        advance.body()._if(hasNextField.not())._then().add(parserField.invoke("close"));
+
+        final JMethod constructor = iteratorClass.constructor(JMod.PUBLIC);
+        constructor.javadoc().add("Reads the elements with the given mapper, the parser is positioned before the start of the array.");
+        final JVar parserParam = constructor.param(JsonParser.class, "parser");
+        final JVar mapperParam = constructor.param(ObjectMapper.class, "mapper");
+        final JVar typeParam = constructor.param(cm.ref(Class.class).narrow(elementType), "type");
+        constructor.body().assign(JExpr._this().ref(parserField), parserParam);
+        constructor.body().assign(JExpr._this().ref(mapperField), mapperParam);
+        constructor.body().assign(JExpr._this().ref(typeField), typeParam);
+        final JTryBlock constructorTry = constructor.body()._try();
+        constructorTry.body()._if(parserParam.invoke("nextToken").ne(cm.ref(JsonToken.class).staticRef("START_ARRAY")))._then()
+                ._throw(JExpr._new(cm.ref(IOException.class)).arg("The body is not a json array"));
+        constructorTry.body().invoke(advance);
+        final JCatchBlock constructorCatch = constructorTry._catch(cm.ref(IOException.class));
+        constructorCatch.body().invoke(close);
+        constructorCatch.body()._throw(JExpr._new(cm.ref(UncheckedIOException.class)).arg(constructorCatch.param("e")));
+
+        final JMethod hasNext = iteratorClass.method(JMod.PUBLIC, cm.BOOLEAN, "hasNext");
+        hasNext.annotate(Override.class);
+        hasNext.body()._return(hasNextField);
+
+        final JMethod next = iteratorClass.method(JMod.PUBLIC, elementType, "next");
+        next.annotate(Override.class);
+        next.body()._if(hasNextField.not())._then()._throw(JExpr._new(cm.ref(NoSuchElementException.class)));
+        final JTryBlock nextTry = next.body()._try();
+        final JVar element = nextTry.body().decl(JMod.FINAL, elementType, "element", mapperField.invoke("readValue").arg(parserField).arg(typeField));
+        nextTry.body().invoke(advance);
+        nextTry.body()._return(element);
+        final JCatchBlock nextCatch = nextTry._catch(cm.ref(IOException.class));
+        nextCatch.body().invoke(close);
+        nextCatch.body()._throw(JExpr._new(cm.ref(UncheckedIOException.class)).arg(nextCatch.param("e")));
+
+        final JMethod stream = iteratorClass.method(JMod.PUBLIC | JMod.STATIC, cm.VOID, STREAM_METHOD_NAME);
+        final JTypeVar streamElementType = stream.generify("T");
+        stream.type(cm.ref(Stream.class).narrow(streamElementType));
+        stream.javadoc().add("The elements of the json array in the body, closing the stream releases the body.");
+        final JVar bodyParam = stream.param(InputStream.class, "body");
+        final JVar streamMapperParam = stream.param(ObjectMapper.class, "mapper");
+        final JVar streamTypeParam = stream.param(cm.ref(Class.class).narrow(streamElementType), "type");
+        final JBlock streamBody = stream.body();
+        final JVar parser = streamBody.decl(cm.ref(JsonParser.class), "parser");
+        final JTryBlock parserTry = streamBody._try();
+        parserTry.body().assign(parser, streamMapperParam.invoke("getFactory").invoke("createParser").arg(bodyParam));
+        final JCatchBlock parserCatch = parserTry._catch(cm.ref(IOException.class));
+        parserCatch.body()._throw(JExpr._new(cm.ref(UncheckedIOException.class)).arg(parserCatch.param("e")));
+        final JClass narrowedIterator = iteratorClass.narrow(streamElementType);
+        final JVar iterator = streamBody.decl(JMod.FINAL, narrowedIterator, "iterator", JExpr._new(narrowedIterator).arg(parser).arg(streamMapperParam).arg(streamTypeParam));
+        final JDefinedClass onClose = cm.anonymousClass(Runnable.class);
+        final JMethod run = onClose.method(JMod.PUBLIC, cm.VOID, "run");
+        run.annotate(Override.class);
+        run.body().add(iterator.invoke("close"));
+        final JClass spliterators = cm.ref(Spliterators.class);
+        streamBody._return(cm.ref(StreamSupport.class).staticInvoke(STREAM_METHOD_NAME)
+                .arg(spliterators.staticInvoke("spliteratorUnknownSize").arg(iterator).arg(cm.ref(Spliterator.class).staticRef("ORDERED")))
+                .arg(JExpr.FALSE)
+                .invoke("onClose").arg(JExpr._new(onClose)));
+        return iteratorClass;
+    }
+}
@@ -0,0 +1,73 @@
+package org.mule.client.codegen.clientgenerator;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.codemodel.JArray;
+import com.sun.codemodel.JBlock;
+import com.sun.codemodel.JClass;
+import com.sun.codemodel.JCodeModel;
+import com.sun.codemodel.JDefinedClass;
+import com.sun.codemodel.JExpr;
+import com.sun.codemodel.JFieldVar;
+import com.sun.codemodel.JMethod;
+import com.sun.codemodel.JMod;
+import com.sun.codemodel.JVar;
+
+import javax.annotation.Nullable;
+
+/**
+ * Builds the mapper the json bodies are read and written with, the same for every http client.
+ */
+class ObjectMapperGenerator {
+
+    /**
+     * Referenced by name, the generator itself does not depend on the module.
+     */
+    static final String AFTERBURNER_MODULE = "com.fasterxml.jackson.module.afterburner.AfterburnerModule";
+    static final String CREATE_METHOD_NAME = "createObjectMapper";
+    static final String MODEL_TYPES_FIELD_NAME = "MODEL_TYPES";
+
+    private ObjectMapperGenerator() {
+    }
+
+    /**
+     * Adds to the class the static <code>createObjectMapper()</code>. When tuned the mapper has the afterburner module, which accesses
+     * the properties of the models through generated bytecode instead of reflection, and ignores the unknown properties.
+     *
+     * @param jsonModule the module with the serializers of the models to register in the mapper, null when not generated
+     */
+    static JMethod buildCreateObjectMapper(JCodeModel cm, JDefinedClass owner, boolean tuned, @Nullable JClass jsonModule) {
+        final JClass mapperType = cm.ref(ObjectMapper.class);
+        final JMethod create = owner.method(JMod.PUBLIC | JMod.STATIC, mapperType, CREATE_METHOD_NAME);
+        if (tuned) {
+            create.javadoc().add("Creates a mapper tuned for the models of the api, reading their properties without reflection and ignoring the unknown ones.");
+        } else {
+            create.javadoc().add("Creates a mapper reading and writing the models of the api with their generated serializers.");
+        }
+        final JBlock body = create.body();
+        final JVar mapper = body.decl(JMod.FINAL, mapperType, "mapper", JExpr._new(mapperType));
+        if (tuned) {
+            body.add(mapper.invoke("registerModule").arg(JExpr._new(cm.directClass(AFTERBURNER_MODULE))));
+            body.add(mapper.invoke("configure").arg(cm.ref(DeserializationFeature.class).staticRef("FAIL_ON_UNKNOWN_PROPERTIES")).arg(JExpr.FALSE));
+        }
+        if (jsonModule != null) {
+            body.add(mapper.invoke("registerModule").arg(JExpr._new(jsonModule)));
+        }
+        body._return(mapper);
+        return create;
+    }
+
+    /**
+     * Adds to the class the <code>MODEL_TYPES</code> the readers and writers are built up front for.
+     */
+    static JFieldVar buildModelTypes(JCodeModel cm, JDefinedClass owner, JArray modelTypes) {
+        return owner.field(JMod.PRIVATE | JMod.STATIC | JMod.FINAL, getClassType(cm).array(), MODEL_TYPES_FIELD_NAME, modelTypes);
+    }
+
+    /**
+     * @return <code>Class&lt;?&gt;</code>
+     */
+    static JClass getClassType(JCodeModel cm) {
+        return cm.ref(Class.class).narrow(cm.wildcard());
+    }
+}
@@ -0,0 +1,67 @@
+package org.mule.client.codegen.clientgenerator;
+
+import com.sun.codemodel.ClassType;
+import com.sun.codemodel.JBlock;
+import com.sun.codemodel.JClassAlreadyExistsException;
+import com.sun.codemodel.JCodeModel;
+import com.sun.codemodel.JDefinedClass;
+import com.sun.codemodel.JExpr;
+import com.sun.codemodel.JMethod;
+import com.sun.codemodel.JMod;
+import com.sun.codemodel.JOp;
+import com.sun.codemodel.JTryBlock;
+import com.sun.codemodel.JVar;
+import org.mule.client.codegen.utils.NameHelper;
+
+/**
+ * Builds the parts of the class the ranged downloads go through that are the same for every http client, each client adds the
+ * requests of the ranges.
+ */
+class RangedDownloadGenerator {
+
+    static final String DOWNLOAD_METHOD_NAME = "download";
+    static final String RANGE_HEADER = "Range";
+    static final String CONTENT_RANGE_HEADER = "Content-Range";
+    static final String FIRST_BYTE_RANGE = "bytes=0-0";
+    static final int PARTIAL_CONTENT = 206;
+    static final int RANGE_NOT_SATISFIABLE = 416;
+
+    private RangedDownloadGenerator() {
+    }
+
+    /**
+     * Declares <code>&lt;Api&gt;RangedDownload</code>, with no other member than its private constructor.
+     */
+    static JDefinedClass declare(JCodeModel cm, String basePackage, String apiName) throws JClassAlreadyExistsException {
+        final JDefinedClass downloadClass = cm._class(JMod.PUBLIC | JMod.FINAL, basePackage + "." + "api" + "." + NameHelper.toValidClassName(apiName) + "RangedDownload", ClassType.CLASS);
+        downloadClass.javadoc().add("Downloads a body in ranges fetched concurrently over the client, each one written to its place in the file.");
+        downloadClass.constructor(JMod.PRIVATE);
+        return downloadClass;
+    }
+
+    /**
+     * Adds the method returning the length of the whole body in a <code>Content-Range</code> header, -1 when it is unknown.
+     */
+    static JMethod buildGetLength(JCodeModel cm, JDefinedClass downloadClass) {
+        final JMethod getLength = downloadClass.method(JMod.PRIVATE | JMod.STATIC, cm.LONG, "getLength");
+        getLength.javadoc().add("The length of the whole body in a <code>Content-Range</code> header, -1 when it is unknown.");
+        final JVar contentRangeParam = getLength.param(String.class, "contentRange");
+        final JBlock body = getLength.body();
+        final JVar slashVal = body.decl(JMod.FINAL, cm.INT, "slash",
+                JOp.cond(contentRangeParam.eq(JExpr._null()), JExpr.lit(-1), contentRangeParam.invoke("lastIndexOf").arg(JExpr.lit('/'))));
+        final JTryBlock parseTry = body._try();
+        // An unknown length is sent as *
+        parseTry.body()._return(JOp.cond(slashVal.lt(JExpr.lit(0)), JExpr.lit(-1L),
+                cm.ref(Long.class).staticInvoke("parseLong").arg(contentRangeParam.invoke("substring").arg(slashVal.plus(JExpr.lit(1))).invoke("trim"))));
+        parseTry._catch(cm.ref(NumberFormatException.class)).body()._return(JExpr.lit(-1L));
+        return getLength;
+    }
+
+    /**
+     * Adds to the block the check of the parallelism given to the download.
+     */
+    static void checkParallelism(JCodeModel cm, JBlock block, JVar parallelismParam) {
+        block._if(parallelismParam.lt(JExpr.lit(1)))._then()._throw(JExpr._new(cm.ref(IllegalArgumentException.class))
+                .arg(JExpr.lit("The parallelism must be positive: ").plus(parallelismParam)));
+    }
+}
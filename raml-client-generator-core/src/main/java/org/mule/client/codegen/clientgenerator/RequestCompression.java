@@ -0,0 +1,43 @@
+package org.mule.client.codegen.clientgenerator;
+
+import org.mule.raml.model.Action;
+
+import javax.annotation.Nullable;
+import java.util.Map;
+
+/**
+ * Reads how the body of an action is compressed, the same for every http client.
+ */
+class RequestCompression {
+
+    /**
+     * Boolean annotation of the RAML 1.0 methods, true to always compress their body and false to never do it.
+     */
+    static final String ANNOTATION_NAME = "compressRequest";
+    static final String ACCEPT_ENCODING_HEADER = "Accept-Encoding";
+    static final String CONTENT_ENCODING_HEADER = "Content-Encoding";
+    static final String GZIP = "gzip";
+
+    private RequestCompression() {
+    }
+
+    /**
+     * @return whether the action is annotated to compress its body or not, null when it is not annotated
+     */
+    @Nullable
+    static Boolean compressRequest(Action action) {
+        final Map<String, String> annotations = action.getAnnotations();
+        return annotations.containsKey(ANNOTATION_NAME) ? Boolean.valueOf(annotations.get(ANNOTATION_NAME)) : null;
+    }
+
+    /**
+     * @return the number of bytes from which the body of the action is compressed, never when negative
+     */
+    static int threshold(Action action, int defaultThreshold) {
+        final Boolean compressRequest = compressRequest(action);
+        if (compressRequest == null) {
+            return defaultThreshold;
+        }
+        return compressRequest ? 0 : -1;
+    }
+}
@@ -0,0 +1,131 @@
+package org.mule.client.codegen.output;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.commons.io.FileUtils;
+import org.mule.client.codegen.utils.DigestHelper;
+
+import com.sun.codemodel.CodeWriter;
+import com.sun.codemodel.JPackage;
+
+/**
+ * Code writer that renders every file in memory and only touches the file on disk when its content changed, so the
+ * timestamps of unchanged sources are kept and downstream incremental compilation is not invalidated.
+ * <p>
+ * When given a manifest directory, the files written by each api are recorded in a manifest, so files generated by a previous
+ * run that are not generated anymore are removed. The apis generated into the same folder in one run share an
+ * {@link OutputRegistry}, so they fail instead of overwriting each other's files.
+ */
+public class IncrementalCodeWriter extends CodeWriter {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private final File target;
+    private final File manifest;
+    private final String apiKey;
+    private final OutputRegistry registry;
+    private final Set<String> generatedFiles = new LinkedHashSet<>();
+    private int written;
+    private int unchanged;
+    private int removed;
+    private boolean closed;
+
+    /**
+     * Keeps no manifest, so nothing is ever removed from the target folder.
+     *
+     * @param target the folder where the files are generated
+     * @param apiKey unique key of the api being generated, the location of its RAML
+     */
+    public IncrementalCodeWriter(File target, String apiKey) {
+        this(target, null, apiKey, new OutputRegistry());
+    }
+
+    /**
+     * @param target            the folder where the files are generated
+     * @param manifestDirectory the folder where the manifests of the apis are kept, none is kept when null
+     * @param apiKey            unique key of the api being generated, the location of its RAML, used to keep track of its files
+     *                          when several apis share the target folder
+     * @param registry          the files generated by the other apis of the run
+     */
+    public IncrementalCodeWriter(File target, File manifestDirectory, String apiKey, OutputRegistry registry) {
+        this.target = target;
+        this.manifest = manifestDirectory != null ? new File(manifestDirectory, getManifestName(apiKey)) : null;
+        this.apiKey = apiKey;
+        this.registry = registry;
+    }
+
+    /**
+     * @return the name of the manifest of the api, the hash of its key so that any location can be used
+     */
+    public static String getManifestName(String apiKey) {
+        return DigestHelper.sha256Hex(apiKey) + ".files";
+    }
+
+    @Override
+    public OutputStream openBinary(JPackage pkg, String fileName) throws IOException {
+        final String relativePath = pkg.isUnnamed() ? fileName : pkg.name().replace('.', '/') + "/" + fileName;
+        final File file = new File(target, relativePath);
+        registry.claim(file, apiKey);
+        generatedFiles.add(relativePath);
+        return new ByteArrayOutputStream() {
+            private boolean flushed;
+
+            @Override
+            public void close() throws IOException {
+                if (!flushed) {
+                    flushed = true;
+                    writeIfChanged(file, toByteArray());
+                }
+            }
+        };
+    }
+
+    private void writeIfChanged(File file, byte[] content) throws IOException {
+        if (file.isFile() && file.length() == content.length
+                && DigestHelper.sha256Hex(FileUtils.readFileToByteArray(file)).equals(DigestHelper.sha256Hex(content))) {
+            unchanged++;
+        } else {
+            try (OutputStream outputStream = registry.open(file)) {
+                outputStream.write(content);
+            }
+            written++;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        // JCodeModel closes both the source and the resource writer, that are the same instance
+        if (closed || manifest == null) {
+            return;
+        }
+        closed = true;
+        if (manifest.isFile()) {
+            final List<String> previousFiles = FileUtils.readLines(manifest, UTF_8);
+            for (String previousFile : previousFiles) {
+                if (!previousFile.isEmpty() && !generatedFiles.contains(previousFile) && registry.removeStale(target, new File(target, previousFile), apiKey)) {
+                    removed++;
+                }
+            }
+        }
+        FileUtils.writeLines(manifest, UTF_8.name(), generatedFiles, "\n");
+    }
+
+    public int getWritten() {
+        return written;
+    }
+
+    public int getUnchanged() {
+        return unchanged;
+    }
+
+    public int getRemoved() {
+        return removed;
+    }
+}
@@ -0,0 +1,64 @@
+package org.mule.client.codegen.output;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The files written by the apis generated in one run, shared by their {@link IncrementalCodeWriter}s when they are generated
+ * into the same folder, possibly concurrently. Two apis can not generate the same file, and an api does not remove as stale a
+ * file another one generated.
+ * <p>
+ * Its lock also guards the creation and the removal of the package folders, so one api does not remove a folder it left
+ * empty while another one is writing into it.
+ */
+public class OutputRegistry {
+
+    private final Map<File, String> owners = new HashMap<>();
+
+    /**
+     * Records that the api generates the file.
+     *
+     * @throws IllegalStateException when another api of the run already generated it
+     */
+    synchronized void claim(File file, String apiKey) {
+        final String owner = owners.get(file.getAbsoluteFile());
+        if (owner != null && !owner.equals(apiKey)) {
+            throw new IllegalStateException("Both " + owner + " and " + apiKey + " generate " + file
+                    + ", generate them into different packages or output folders");
+        }
+        owners.put(file.getAbsoluteFile(), apiKey);
+    }
+
+    /**
+     * Opens the file for writing, creating its package folders.
+     */
+    synchronized OutputStream open(File file) throws IOException {
+        final File parent = file.getParentFile();
+        if (parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+            throw new IOException("Could not create the folder " + parent);
+        }
+        return new FileOutputStream(file);
+    }
+
+    /**
+     * Removes the file unless another api of the run generated it, along with the package folders it leaves empty up to the
+     * target folder.
+     *
+     * @return whether the file was removed
+     */
+    synchronized boolean removeStale(File target, File file, String apiKey) {
+        final String owner = owners.get(file.getAbsoluteFile());
+        if ((owner != null && !owner.equals(apiKey)) || !file.isFile() || !file.delete()) {
+            return false;
+        }
+        File parent = file.getParentFile();
+        while (parent != null && !parent.equals(target) && parent.delete()) {
+            parent = parent.getParentFile();
+        }
+        return true;
+    }
+}
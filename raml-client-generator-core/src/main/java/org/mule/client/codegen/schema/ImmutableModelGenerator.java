@@ -0,0 +1,241 @@
+package org.mule.client.codegen.schema;
+
+import com.fasterxml.jackson.annotation.JsonAnySetter;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.sun.codemodel.ClassType;
+import com.sun.codemodel.JClass;
+import com.sun.codemodel.JCodeModel;
+import com.sun.codemodel.JDefinedClass;
+import com.sun.codemodel.JExpr;
+import com.sun.codemodel.JExpression;
+import com.sun.codemodel.JFieldRef;
+import com.sun.codemodel.JFieldVar;
+import com.sun.codemodel.JMethod;
+import com.sun.codemodel.JMod;
+import com.sun.codemodel.JOp;
+import com.sun.codemodel.JType;
+import com.sun.codemodel.JVar;
+import org.apache.commons.lang.StringUtils;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Turns the POJOs generated from the schemas into immutable classes: their properties become final fields, set by a constructor
+ * taking all of them or by a nested <code>Builder</code>, that jackson also reads them with, instead of the setters and the
+ * <code>with</code> methods of jsonschema2pojo. The lists and the sets they hold are unmodifiable, and so is the map of the
+ * additional properties.
+ */
+public class ImmutableModelGenerator {
+
+    static final String BUILDER_CLASS_NAME = "Builder";
+    static final String BUILD_METHOD_NAME = "build";
+
+    private ImmutableModelGenerator() {
+    }
+
+    /**
+     * Makes immutable each of the POJOs generated from the schemas, except the ones other models extend, whose constructors
+     * are chained. The other classes are left as they are.
+     */
+    public static void build(JCodeModel cm, Collection<JDefinedClass> modelClasses) {
+        final Set<String> superClasses = new HashSet<>();
+        for (JDefinedClass modelClass : modelClasses) {
+            superClasses.add(modelClass._extends().fullName());
+        }
+        for (JDefinedClass modelClass : modelClasses) {
+            if (ModelSerializerGenerator.isPojo(modelClass) && !superClasses.contains(modelClass.fullName())) {
+                buildImmutable(cm, modelClass);
+            }
+        }
+    }
+
+    /**
+     * @return the builder of the model, null when it is not immutable
+     */
+    static JDefinedClass getBuilder(JDefinedClass modelClass) {
+        final Iterator<JDefinedClass> classes = modelClass.classes();
+        while (classes.hasNext()) {
+            final JDefinedClass nestedClass = classes.next();
+            if (nestedClass.name().equals(BUILDER_CLASS_NAME) && nestedClass.getClassType() == ClassType.CLASS) {
+                return nestedClass;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the name of the method of the builder setting the property, the one jsonschema2pojo gives to its builder methods
+     */
+    static String getWithName(JFieldVar property) {
+        return "with" + StringUtils.capitalize(property.name());
+    }
+
+    private static void buildImmutable(JCodeModel cm, JDefinedClass modelClass) {
+        final List<JFieldVar> properties = ModelSerializerGenerator.getProperties(modelClass);
+        final JFieldVar additionalProperties = ModelSerializerGenerator.getAdditionalProperties(modelClass);
+        final JDefinedClass builder = ModelSerializerGenerator.declareNestedClass(modelClass, BUILDER_CLASS_NAME);
+        builder.javadoc().add("Builds the model, the properties that are not given keep their default value.");
+        modelClass.annotate(JsonDeserialize.class).param("builder", builder);
+        removeMutators(cm, modelClass);
+
+        final JMethod constructor = modelClass.constructor(JMod.PUBLIC);
+        final JMethod builderConstructor = modelClass.constructor(JMod.PRIVATE);
+        final JVar builderParam = builderConstructor.param(builder, "builder");
+        final JMethod toBuilder = modelClass.method(JMod.PUBLIC, builder, "toBuilder");
+        toBuilder.javadoc().add("@return a builder with the properties of this model, to build a copy of it with some of them changed");
+        final JVar copyVar = toBuilder.body().decl(JMod.FINAL, builder, "builder", JExpr._new(builder));
+        for (JFieldVar property : properties) {
+            final JExpression init = getInit(property);
+            property.mods().setFinal(true);
+            property.init(null);
+            final JVar param = constructor.param(property.type(), property.name());
+            constructor.body().assign(JExpr._this().ref(property), unmodifiableCopy(cm, property.type(), param));
+
+            // Eagerly allocated empty collections are left null, as when the model is read
+            final JFieldVar builderField = builder.field(JMod.PRIVATE, property.type(), property.name());
+            if (init != null && !isEmptyCollection(init)) {
+                builderField.init(unmodifiable(cm, property.type(), init));
+            }
+            final JMethod with = builder.method(JMod.PUBLIC, builder, getWithName(property));
+            with.annotate(JsonProperty.class).param("value", ModelSerializerGenerator.getJsonName(property));
+            if (ModelSerializerGenerator.getAnnotation(property.annotations(), JsonDeserialize.class) != null && isType(property.type(), Set.class)) {
+                // jsonschema2pojo keeps the order of the unique items, jackson reads them through the builder now
+                with.annotate(JsonDeserialize.class).param("as", LinkedHashSet.class);
+            }
+            final JVar value = with.param(property.type(), property.name());
+            with.body().assign(JExpr._this().ref(builderField), unmodifiableCopy(cm, property.type(), value));
+            with.body()._return(JExpr._this());
+
+            // Already unmodifiable when they get to the builder
+            builderConstructor.body().assign(JExpr._this().ref(property), builderParam.ref(builderField));
+            toBuilder.body().assign(copyVar.ref(builderField), JExpr._this().ref(property));
+        }
+
+        JFieldRef builderAdditionalProperties = null;
+        if (additionalProperties != null) {
+            final JClass mapType = (JClass) additionalProperties.type();
+            final JClass collections = cm.ref(Collections.class);
+            additionalProperties.mods().setFinal(true);
+            additionalProperties.init(null);
+            constructor.body().assign(JExpr._this().ref(additionalProperties), collections.staticInvoke("emptyMap"));
+
+            final JFieldVar builderField = builder.field(JMod.PRIVATE, mapType, additionalProperties.name(), collections.staticInvoke("emptyMap"));
+            final JMethod with = builder.method(JMod.PUBLIC, builder, LazyAdditionalPropertiesRule.BUILDER_NAME);
+            with.annotate(JsonAnySetter.class);
+            final JVar nameParam = with.param(String.class, "name");
+            final JVar valueParam = with.param(mapType.getTypeParameters().get(1), "value");
+            final JFieldRef builderFieldRef = JExpr._this().ref(builderField);
+            builderAdditionalProperties = builderFieldRef;
+            // Copied on the first property added, the map may be the one of a built model
+            with.body()._if(builderFieldRef._instanceof(cm.ref(HashMap.class)).not())._then()
+                    .assign(builderFieldRef, JExpr._new(cm.ref(HashMap.class).narrow(mapType.getTypeParameters())).arg(builderFieldRef));
+            with.body().add(builderFieldRef.invoke("put").arg(nameParam).arg(valueParam));
+            with.body()._return(JExpr._this());
+            builderConstructor.body().assign(JExpr._this().ref(additionalProperties), builderParam.ref(builderField));
+            toBuilder.body().assign(copyVar.ref(builderField), JExpr._this().ref(additionalProperties));
+        }
+
+        final JMethod build = builder.method(JMod.PUBLIC, modelClass, BUILD_METHOD_NAME);
+        if (builderAdditionalProperties != null) {
+            // So that the next property added copies it again instead of changing the built model
+            build.body()._if(builderAdditionalProperties._instanceof(cm.ref(HashMap.class)))._then()
+                    .assign(builderAdditionalProperties, cm.ref(Collections.class).staticInvoke("unmodifiableMap").arg(builderAdditionalProperties));
+        }
+        build.body()._return(JExpr._new(modelClass).arg(JExpr._this()));
+        toBuilder.body()._return(copyVar);
+
+        final JMethod builderMethod = modelClass.method(JMod.PUBLIC | JMod.STATIC, builder, "builder");
+        builderMethod.body()._return(JExpr._new(builder));
+    }
+
+    /**
+     * Removes the constructors, the setters and the <code>with</code> methods jsonschema2pojo generates, the only methods taking
+     * arguments that do not return a value or return the model.
+     */
+    private static void removeMutators(JCodeModel cm, JDefinedClass modelClass) {
+        final Iterator<JMethod> constructors = modelClass.constructors();
+        while (constructors.hasNext()) {
+            constructors.next();
+            constructors.remove();
+        }
+        final Iterator<JMethod> methods = modelClass.methods().iterator();
+        while (methods.hasNext()) {
+            final JMethod method = methods.next();
+            if (!method.params().isEmpty() && (method.type() == cm.VOID || method.type() == modelClass)) {
+                methods.remove();
+            }
+        }
+    }
+
+    /**
+     * @return the value wrapped in an unmodifiable view when it is a list or a set, for the ones nobody else holds
+     */
+    private static JExpression unmodifiable(JCodeModel cm, JType type, JExpression value) {
+        if (!isCollection(type)) {
+            return value;
+        }
+        return JOp.cond(value.eq(JExpr._null()), JExpr._null(), wrap(cm, type, value));
+    }
+
+    /**
+     * @return a copy of the value wrapped in an unmodifiable view when it is a list or a set, so that the caller can not change the
+     * model through the collection it gave. Sets are copied into a <code>LinkedHashSet</code> to keep the order of their items.
+     */
+    private static JExpression unmodifiableCopy(JCodeModel cm, JType type, JExpression value) {
+        if (!isCollection(type)) {
+            return value;
+        }
+        final Class<?> copyClass = isType(type, List.class) ? ArrayList.class : LinkedHashSet.class;
+        final JExpression copy = JExpr._new(cm.ref(copyClass).narrow(((JClass) type).getTypeParameters())).arg(value);
+        return JOp.cond(value.eq(JExpr._null()), JExpr._null(), wrap(cm, type, copy));
+    }
+
+    /**
+     * @return the non null value wrapped in an unmodifiable view when it is a list or a set, as the deserializers set the collections
+     * they read on the builder, without copying them
+     */
+    static JExpression wrap(JCodeModel cm, JType type, JExpression value) {
+        if (isType(type, List.class)) {
+            return cm.ref(Collections.class).staticInvoke("unmodifiableList").arg(value);
+        } else if (isType(type, Set.class)) {
+            return cm.ref(Collections.class).staticInvoke("unmodifiableSet").arg(value);
+        }
+        return value;
+    }
+
+    private static boolean isCollection(JType type) {
+        return isType(type, List.class) || isType(type, Set.class);
+    }
+
+    private static boolean isType(JType type, Class<?> rawType) {
+        return type.erasure().fullName().equals(rawType.getName());
+    }
+
+    private static boolean isEmptyCollection(JExpression init) {
+        final String code = ModelSerializerGenerator.render(init);
+        return code.startsWith("new ") && code.endsWith("()");
+    }
+
+    /**
+     * codemodel does not expose the initializer of a field, the default value of the property that is moved to the builder.
+     */
+    private static JExpression getInit(JFieldVar field) {
+        try {
+            final Field init = JVar.class.getDeclaredField("init");
+            init.setAccessible(true);
+            return (JExpression) init.get(field);
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            throw new IllegalStateException("Could not read the initializer of the field " + field.name(), e);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package org.mule.client.codegen.schema;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.io.IOUtils;
+import org.jsonschema2pojo.ContentResolver;
+import org.mule.client.codegen.utils.DigestHelper;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Content resolver that serves the schemas registered in it from memory and falls back to the default resolution for
+ * any other uri. Inline schemas are registered under a uri next to the RAML, so their relative <code>$ref</code>s are
+ * resolved against the RAML location. The documents resolved from anywhere else, like the ones only reached through a
+ * <code>$ref</code>, are recorded together with the SHA-256 of their content.
+ */
+public class InMemoryContentResolver extends ContentResolver {
+
+    // Same settings as the ones of the default resolver
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .enable(JsonParser.Feature.ALLOW_COMMENTS)
+            .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+
+    private final Map<URI, String> schemas = new ConcurrentHashMap<>();
+    private final Map<String, String> resolved = new LinkedHashMap<>();
+
+    public void register(URI uri, String schema) {
+        schemas.put(uri, schema);
+    }
+
+    public void clear() {
+        schemas.clear();
+        synchronized (resolved) {
+            resolved.clear();
+        }
+    }
+
+    /**
+     * @return the uri of every document resolved outside of memory since the last {@link #clear()} and the SHA-256 of its content
+     */
+    public Map<String, String> getResolved() {
+        synchronized (resolved) {
+            return Collections.unmodifiableMap(new LinkedHashMap<>(resolved));
+        }
+    }
+
+    @Override
+    public JsonNode resolve(URI uri) {
+        final String schema = schemas.get(uri);
+        if (schema == null) {
+            final JsonNode document = super.resolve(uri);
+            record(uri);
+            return document;
+        }
+        try {
+            return objectMapper.readTree(schema);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Error parsing document: " + uri, e);
+        }
+    }
+
+    private void record(URI uri) {
+        try {
+            final URI document = new URI(uri.getScheme(), uri.getSchemeSpecificPart(), null);
+            try (InputStream inputStream = document.toURL().openStream()) {
+                final String hash = DigestHelper.sha256Hex(IOUtils.toByteArray(inputStream));
+                synchronized (resolved) {
+                    resolved.put(document.toString(), hash);
+                }
+            }
+        } catch (URISyntaxException | IllegalArgumentException | IOException e) {
+            // Not a url (classpath: or java: schemas), its content can only change with the generator
+        }
+    }
+}
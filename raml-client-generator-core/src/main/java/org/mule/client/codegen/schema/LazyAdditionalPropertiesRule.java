@@ -0,0 +1,55 @@
+package org.mule.client.codegen.schema;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.sun.codemodel.JBlock;
+import com.sun.codemodel.JClass;
+import com.sun.codemodel.JDefinedClass;
+import com.sun.codemodel.JExpr;
+import com.sun.codemodel.JFieldRef;
+import com.sun.codemodel.JFieldVar;
+import com.sun.codemodel.JMethod;
+import org.jsonschema2pojo.Schema;
+import org.jsonschema2pojo.rules.AdditionalPropertiesRule;
+import org.jsonschema2pojo.rules.RuleFactory;
+
+import java.util.Collections;
+import java.util.HashMap;
+
+/**
+ * Same as the default rule, but the map of the additional properties starts as the immutable empty map and is only allocated
+ * by the first property set, so the models that never get one do not hold a map each. The any getter returns the empty map
+ * until then.
+ */
+public class LazyAdditionalPropertiesRule extends AdditionalPropertiesRule {
+
+    // Names jsonschema2pojo gives to the field and the methods adding to it
+    static final String FIELD_NAME = "additionalProperties";
+    static final String SETTER_NAME = "setAdditionalProperty";
+    static final String BUILDER_NAME = "withAdditionalProperty";
+
+    public LazyAdditionalPropertiesRule(RuleFactory ruleFactory) {
+        super(ruleFactory);
+    }
+
+    @Override
+    public JDefinedClass apply(String nodeName, JsonNode node, JsonNode parent, JDefinedClass jclass, Schema schema) {
+        final JDefinedClass result = super.apply(nodeName, node, parent, jclass, schema);
+        final JFieldVar field = jclass.fields().get(FIELD_NAME);
+        if (field == null) {
+            // Not allowed by the schema, or not included at all
+            return result;
+        }
+        final JClass mapType = (JClass) field.type();
+        field.init(jclass.owner().ref(Collections.class).staticInvoke("emptyMap"));
+        for (JMethod method : jclass.methods()) {
+            if ((method.name().equals(SETTER_NAME) || method.name().equals(BUILDER_NAME)) && method.params().size() == 2) {
+                final JBlock body = method.body();
+                body.pos(0);
+                final JFieldRef fieldRef = JExpr._this().ref(field);
+                body._if(fieldRef._instanceof(jclass.owner().ref(HashMap.class)).not())._then()
+                        .assign(fieldRef, JExpr._new(jclass.owner().ref(HashMap.class).narrow(mapType.getTypeParameters())));
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,362 @@
+package org.mule.client.codegen.schema;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.sun.codemodel.ClassType;
+import com.sun.codemodel.JAnnotationUse;
+import com.sun.codemodel.JAnnotationValue;
+import com.sun.codemodel.JBlock;
+import com.sun.codemodel.JClass;
+import com.sun.codemodel.JClassAlreadyExistsException;
+import com.sun.codemodel.JCodeModel;
+import com.sun.codemodel.JConditional;
+import com.sun.codemodel.JDefinedClass;
+import com.sun.codemodel.JExpr;
+import com.sun.codemodel.JExpression;
+import com.sun.codemodel.JFieldVar;
+import com.sun.codemodel.JForEach;
+import com.sun.codemodel.JFormatter;
+import com.sun.codemodel.JGenerable;
+import com.sun.codemodel.JMethod;
+import com.sun.codemodel.JMod;
+import com.sun.codemodel.JOp;
+import com.sun.codemodel.JSwitch;
+import com.sun.codemodel.JVar;
+import com.sun.codemodel.JWhileLoop;
+import org.apache.commons.lang.StringEscapeUtils;
+import org.apache.commons.lang.StringUtils;
+import org.mule.client.codegen.utils.NameHelper;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds a serializer and a deserializer for each of the POJOs generated from the schemas, writing and reading their fields
+ * through the <code>JsonGenerator</code> and the <code>JsonParser</code> instead of introspecting them at runtime, and the
+ * <code>SimpleModule</code> registering them.
+ */
+public class ModelSerializerGenerator {
+
+    static final String SERIALIZER_CLASS_NAME = "Serializer";
+    static final String DESERIALIZER_CLASS_NAME = "Deserializer";
+    // Name of the field jsonschema2pojo holds the additional properties in
+    static final String ADDITIONAL_PROPERTIES_FIELD_NAME = "additionalProperties";
+
+    // Fields written and read straight with the generator and the parser, the values of the other types are delegated to jackson
+    private static final Map<String, String> WRITE_METHODS = new HashMap<>();
+    private static final Map<String, String> PARSE_METHODS = new HashMap<>();
+
+    static {
+        WRITE_METHODS.put(String.class.getName(), "writeStringField");
+        WRITE_METHODS.put(Boolean.class.getName(), "writeBooleanField");
+        WRITE_METHODS.put(boolean.class.getName(), "writeBooleanField");
+        for (Class<?> number : new Class<?>[]{Integer.class, int.class, Long.class, long.class, Double.class, double.class, Float.class, float.class}) {
+            WRITE_METHODS.put(number.getName(), "writeNumberField");
+        }
+        PARSE_METHODS.put(String.class.getName(), "_parseString");
+        PARSE_METHODS.put(Boolean.class.getName(), "_parseBoolean");
+        PARSE_METHODS.put(boolean.class.getName(), "_parseBooleanPrimitive");
+        PARSE_METHODS.put(Integer.class.getName(), "_parseInteger");
+        PARSE_METHODS.put(int.class.getName(), "_parseIntPrimitive");
+        PARSE_METHODS.put(Long.class.getName(), "_parseLong");
+        PARSE_METHODS.put(long.class.getName(), "_parseLongPrimitive");
+        PARSE_METHODS.put(Double.class.getName(), "_parseDouble");
+        PARSE_METHODS.put(double.class.getName(), "_parseDoublePrimitive");
+        PARSE_METHODS.put(Float.class.getName(), "_parseFloat");
+        PARSE_METHODS.put(float.class.getName(), "_parseFloatPrimitive");
+    }
+
+    private ModelSerializerGenerator() {
+    }
+
+    /**
+     * Declares <code>&lt;Api&gt;JsonModule</code>, the serializers are only registered in it by {@link #build}, once all the models
+     * are generated.
+     */
+    public static JDefinedClass declareModule(JCodeModel cm, String basePackage, String apiName) throws JClassAlreadyExistsException {
+        final JDefinedClass module = cm._class(JMod.PUBLIC, basePackage + "." + "api" + "." + NameHelper.toValidClassName(apiName) + "JsonModule", ClassType.CLASS);
+        module._extends(SimpleModule.class);
+        module.javadoc().add("Registers the serializers and deserializers generated for the models of the api, that read and write them without reflection.");
+        return module;
+    }
+
+    /**
+     * Adds a <code>Serializer</code> and a <code>Deserializer</code> to each of the POJOs generated from the schemas and registers
+     * them in the module. The other classes are left as they are.
+     */
+    public static void build(JCodeModel cm, JDefinedClass module, Collection<JDefinedClass> modelClasses) {
+        final JMethod constructor = module.constructor(JMod.PUBLIC);
+        constructor.body().invoke("super").arg(module.name());
+        for (JDefinedClass modelClass : modelClasses) {
+            if (isPojo(modelClass)) {
+                final List<JFieldVar> properties = getProperties(modelClass);
+                final JFieldVar additionalProperties = getAdditionalProperties(modelClass);
+                final JDefinedClass serializer = buildSerializer(cm, modelClass, properties, additionalProperties);
+                final JDefinedClass deserializer = buildDeserializer(cm, modelClass, properties, additionalProperties);
+                constructor.body().invoke("addSerializer").arg(JExpr.dotclass(modelClass)).arg(JExpr._new(serializer));
+                constructor.body().invoke("addDeserializer").arg(JExpr.dotclass(modelClass)).arg(JExpr._new(deserializer));
+            }
+        }
+    }
+
+    private static JDefinedClass buildSerializer(JCodeModel cm, JDefinedClass modelClass, List<JFieldVar> properties, JFieldVar additionalProperties) {
+        final JDefinedClass serializer = declareNestedClass(modelClass, SERIALIZER_CLASS_NAME);
+        serializer._extends(cm.ref(StdSerializer.class).narrow(modelClass));
+        serializer.javadoc().add("Writes the fields of the model in the order of its properties.");
+        serializer.constructor(JMod.PUBLIC).body().invoke("super").arg(JExpr.dotclass(modelClass));
+
+        final JMethod serialize = serializer.method(JMod.PUBLIC, cm.VOID, "serialize");
+        serialize.annotate(Override.class);
+        serialize._throws(IOException.class);
+        final JVar valueParam = serialize.param(modelClass, "value");
+        final JVar generatorParam = serialize.param(JsonGenerator.class, "generator");
+        final JVar providerParam = serialize.param(SerializerProvider.class, "provider");
+        final boolean skipNulls = isNonNullIncluded(modelClass);
+        final JBlock body = serialize.body();
+        body.add(generatorParam.invoke("writeStartObject"));
+        for (JFieldVar property : properties) {
+            final JExpression name = JExpr.lit(getJsonName(property));
+            final JExpression fieldValue = valueParam.ref(property);
+            final String writeMethod = WRITE_METHODS.get(property.type().fullName());
+            final JBlock write;
+            if (property.type().isPrimitive()) {
+                write = body;
+            } else if (skipNulls) {
+                write = body._if(fieldValue.ne(JExpr._null()))._then();
+            } else {
+                final JConditional ifNull = body._if(fieldValue.eq(JExpr._null()));
+                ifNull._then().add(generatorParam.invoke("writeNullField").arg(name));
+                write = ifNull._else();
+            }
+            if (writeMethod != null) {
+                write.add(generatorParam.invoke(writeMethod).arg(name).arg(fieldValue));
+            } else {
+                write.add(providerParam.invoke("defaultSerializeField").arg(name).arg(fieldValue).arg(generatorParam));
+            }
+        }
+        if (additionalProperties != null) {
+            final JClass entryType = cm.ref(Map.Entry.class).narrow(cm.ref(String.class), getAdditionalPropertyType(additionalProperties));
+            final JForEach forEach = body.forEach(entryType, "property", valueParam.ref(additionalProperties).invoke("entrySet"));
+            forEach.body().add(providerParam.invoke("defaultSerializeField").arg(forEach.var().invoke("getKey")).arg(forEach.var().invoke("getValue")).arg(generatorParam));
+        }
+        body.add(generatorParam.invoke("writeEndObject"));
+        return serializer;
+    }
+
+    private static JDefinedClass buildDeserializer(JCodeModel cm, JDefinedClass modelClass, List<JFieldVar> properties, JFieldVar additionalProperties) {
+        final JDefinedClass deserializer = declareNestedClass(modelClass, DESERIALIZER_CLASS_NAME);
+        deserializer._extends(cm.ref(StdDeserializer.class).narrow(modelClass));
+        deserializer._implements(ResolvableDeserializer.class);
+        deserializer.javadoc().add("Reads the fields of the model by the name of their properties, with the deserializers of the other types resolved once.");
+        deserializer.constructor(JMod.PUBLIC).body().invoke("super").arg(JExpr.dotclass(modelClass));
+
+        // Jackson only caches the deserializers that say so, it would build them again for every nested value otherwise
+        final JMethod isCachable = deserializer.method(JMod.PUBLIC, cm.BOOLEAN, "isCachable");
+        isCachable.annotate(Override.class);
+        isCachable.body()._return(JExpr.TRUE);
+
+        final JMethod resolve = deserializer.method(JMod.PUBLIC, cm.VOID, "resolve");
+        resolve.annotate(Override.class);
+        resolve._throws(JsonMappingException.class);
+        final JVar resolveContextParam = resolve.param(DeserializationContext.class, "context");
+        final JClass delegateType = cm.ref(JsonDeserializer.class).narrow(Object.class);
+
+        final JMethod deserialize = deserializer.method(JMod.PUBLIC, modelClass, "deserialize");
+        deserialize.annotate(Override.class);
+        deserialize._throws(IOException.class);
+        final JVar parserParam = deserialize.param(JsonParser.class, "parser");
+        final JVar contextParam = deserialize.param(DeserializationContext.class, "context");
+        final JClass tokenType = cm.ref(JsonToken.class);
+        final JBlock body = deserialize.body();
+        final JVar tokenVar = body.decl(tokenType, "token", parserParam.invoke("getCurrentToken"));
+        final JConditional ifStart = body._if(tokenVar.eq(tokenType.staticRef("START_OBJECT")));
+        ifStart._then().assign(tokenVar, parserParam.invoke("nextToken"));
+        ifStart._elseif(tokenVar.ne(tokenType.staticRef("FIELD_NAME")).cand(tokenVar.ne(tokenType.staticRef("END_OBJECT"))))
+                ._then()._return(JExpr.cast(modelClass, contextParam.invoke("handleUnexpectedToken").arg(JExpr.dotclass(modelClass)).arg(parserParam)));
+        // The immutable models are read through their builder
+        final JDefinedClass builderClass = ImmutableModelGenerator.getBuilder(modelClass);
+        final JVar modelVar = builderClass != null ? body.decl(JMod.FINAL, builderClass, "builder", JExpr._new(builderClass))
+                : body.decl(JMod.FINAL, modelClass, "value", JExpr._new(modelClass));
+
+        final JWhileLoop fields = body._while(tokenVar.eq(tokenType.staticRef("FIELD_NAME")));
+        final JVar nameVar = fields.body().decl(JMod.FINAL, cm.ref(String.class), "name", parserParam.invoke("getCurrentName"));
+        fields.body().add(parserParam.invoke("nextToken"));
+        final JExpression isNull = parserParam.invoke("getCurrentToken").eq(tokenType.staticRef("VALUE_NULL"));
+        final JSwitch fieldSwitch = fields.body()._switch(nameVar);
+        boolean uncheckedCast = false;
+        for (JFieldVar property : properties) {
+            final JBlock read = fieldSwitch._case(JExpr.lit(getJsonName(property))).body();
+            final String parseMethod = PARSE_METHODS.get(property.type().fullName());
+            final JExpression value;
+            if (parseMethod != null && property.type().isPrimitive()) {
+                value = JExpr.invoke(parseMethod).arg(parserParam).arg(contextParam);
+            } else if (parseMethod != null) {
+                // Unlike the primitive ones, they fail on nulls
+                value = JOp.cond(isNull, JExpr._null(), JExpr.invoke(parseMethod).arg(parserParam).arg(contextParam));
+            } else {
+                final JClass deserializedType = getDeserializedType(cm, property);
+                final JExpression javaType;
+                if (!deserializedType.getTypeParameters().isEmpty()) {
+                    // The raw class would lose the type of the elements
+                    javaType = deserializer.field(JMod.PRIVATE | JMod.STATIC | JMod.FINAL, JavaType.class, toConstantName(property.name()) + "_TYPE",
+                            cm.ref(TypeFactory.class).staticInvoke("defaultInstance").invoke("constructType")
+                                    .arg(JExpr.direct("new " + TypeReference.class.getName() + "<" + deserializedType.fullName() + ">() {}")));
+                    uncheckedCast = true;
+                } else {
+                    javaType = resolveContextParam.invoke("constructType").arg(JExpr.dotclass(deserializedType));
+                }
+                final JFieldVar delegate = deserializer.field(JMod.PRIVATE, delegateType, property.name() + DESERIALIZER_CLASS_NAME);
+                resolve.body().assign(JExpr._this().ref(delegate), resolveContextParam.invoke("findRootValueDeserializer").arg(javaType));
+                JExpression deserialized = JExpr.cast(property.type(), JExpr._this().ref(delegate).invoke("deserialize").arg(parserParam).arg(contextParam));
+                if (builderClass != null) {
+                    deserialized = ImmutableModelGenerator.wrap(cm, property.type(), deserialized);
+                }
+                value = JOp.cond(isNull, JExpr._null(), deserialized);
+            }
+            if (builderClass != null) {
+                // The collections just read are nobody else's, they are set without the copy of the with method
+                read.assign(modelVar.ref(property.name()), value);
+            } else {
+                read.assign(modelVar.ref(property), value);
+            }
+            read._break();
+        }
+        final JBlock unknown = fieldSwitch._default().body();
+        if (additionalProperties != null) {
+            final JClass valueType = getAdditionalPropertyType(additionalProperties);
+            final JFieldVar delegate = deserializer.field(JMod.PRIVATE, delegateType, ADDITIONAL_PROPERTIES_FIELD_NAME + DESERIALIZER_CLASS_NAME);
+            resolve.body().assign(JExpr._this().ref(delegate), resolveContextParam.invoke("findRootValueDeserializer")
+                    .arg(resolveContextParam.invoke("constructType").arg(JExpr.dotclass(valueType.erasure()))));
+            JExpression value = JExpr._this().ref(delegate).invoke("deserialize").arg(parserParam).arg(contextParam);
+            if (!valueType.fullName().equals(Object.class.getName())) {
+                value = JExpr.cast(valueType, value);
+                uncheckedCast |= !valueType.getTypeParameters().isEmpty();
+            }
+            // Through the any setter, the map may not be allocated yet
+            final String setterName = builderClass != null ? LazyAdditionalPropertiesRule.BUILDER_NAME : LazyAdditionalPropertiesRule.SETTER_NAME;
+            unknown.add(modelVar.invoke(setterName).arg(nameVar).arg(JOp.cond(isNull, JExpr._null(), value)));
+        } else {
+            // Skips the value, or fails when the mapper is configured to fail on unknown properties
+            unknown.invoke("handleUnknownProperty").arg(parserParam).arg(contextParam).arg(modelVar).arg(nameVar);
+        }
+        if (uncheckedCast) {
+            deserialize.annotate(SuppressWarnings.class).param("value", "unchecked");
+        }
+        fields.body().assign(tokenVar, parserParam.invoke("nextToken"));
+        body._return(builderClass != null ? modelVar.invoke(ImmutableModelGenerator.BUILD_METHOD_NAME) : modelVar);
+        return deserializer;
+    }
+
+    /**
+     * @return the fields of the properties of the POJO, in the order of its properties
+     */
+    static List<JFieldVar> getProperties(JDefinedClass modelClass) {
+        final List<JFieldVar> properties = new ArrayList<>();
+        for (JFieldVar field : modelClass.fields().values()) {
+            if ((field.mods().getValue() & JMod.STATIC) == 0 && getAnnotation(field.annotations(), JsonProperty.class) != null) {
+                properties.add(field);
+            }
+        }
+        return properties;
+    }
+
+    /**
+     * @return the field jsonschema2pojo holds the additional properties of the POJO in, null when it does not collect them
+     */
+    static JFieldVar getAdditionalProperties(JDefinedClass modelClass) {
+        final JFieldVar field = modelClass.fields().get(ADDITIONAL_PROPERTIES_FIELD_NAME);
+        return field != null && getAnnotation(field.annotations(), JsonIgnore.class) != null ? field : null;
+    }
+
+    /**
+     * @return the type of the values of the additional properties, <code>Object</code> unless the schema constrains them
+     */
+    static JClass getAdditionalPropertyType(JFieldVar additionalProperties) {
+        return ((JClass) additionalProperties.type()).getTypeParameters().get(1);
+    }
+
+    static JDefinedClass declareNestedClass(JDefinedClass modelClass, String name) {
+        try {
+            return modelClass._class(JMod.PUBLIC | JMod.STATIC, name);
+        } catch (JClassAlreadyExistsException e) {
+            throw new IllegalStateException("The model " + modelClass.fullName() + " already has a nested " + name + " class", e);
+        }
+    }
+
+    /**
+     * jsonschema2pojo annotates the classes it generates with the order of their properties, unlike the other classes of the model packages.
+     */
+    static boolean isPojo(JDefinedClass modelClass) {
+        return modelClass.getClassType() == ClassType.CLASS && modelClass._extends().fullName().equals(Object.class.getName())
+                && getAnnotation(modelClass.annotations(), JsonPropertyOrder.class) != null;
+    }
+
+    private static boolean isNonNullIncluded(JDefinedClass modelClass) {
+        final JAnnotationUse include = getAnnotation(modelClass.annotations(), JsonInclude.class);
+        return include != null && render(include.getAnnotationMembers().get("value")).endsWith(JsonInclude.Include.NON_NULL.name());
+    }
+
+    static String getJsonName(JFieldVar property) {
+        final String value = render(getAnnotation(property.annotations(), JsonProperty.class).getAnnotationMembers().get("value"));
+        return StringEscapeUtils.unescapeJava(value.substring(1, value.length() - 1));
+    }
+
+    /**
+     * The class jackson reads the property as, the one of its <code>@JsonDeserialize(as = ..)</code> when annotated, as jsonschema2pojo
+     * does for the sets of unique items to keep their order.
+     */
+    private static JClass getDeserializedType(JCodeModel cm, JFieldVar property) {
+        final JClass type = (JClass) property.type();
+        final JAnnotationUse deserialize = getAnnotation(property.annotations(), JsonDeserialize.class);
+        final JAnnotationValue as = deserialize != null ? deserialize.getAnnotationMembers().get("as") : null;
+        if (as == null) {
+            return type;
+        }
+        final JClass asClass = cm.ref(StringUtils.removeEnd(render(as), ".class"));
+        return type.getTypeParameters().isEmpty() ? asClass : asClass.narrow(type.getTypeParameters());
+    }
+
+    static JAnnotationUse getAnnotation(Collection<JAnnotationUse> annotations, Class<?> annotationClass) {
+        for (JAnnotationUse annotation : annotations) {
+            if (annotation.getAnnotationClass().fullName().equals(annotationClass.getName())) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The values of the annotations and the initializers of the fields are only exposed as the code they are generated as.
+     */
+    static String render(JGenerable value) {
+        final StringWriter writer = new StringWriter();
+        value.generate(new JFormatter(writer));
+        return writer.toString();
+    }
+
+    private static String toConstantName(String fieldName) {
+        return fieldName.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase();
+    }
+}
@@ -0,0 +1,91 @@
+package org.mule.client.codegen.schema;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.sun.codemodel.JDefinedClass;
+import com.sun.codemodel.JFieldVar;
+import com.sun.codemodel.JMethod;
+import com.sun.codemodel.JType;
+import com.sun.codemodel.JVar;
+import org.jsonschema2pojo.Schema;
+import org.jsonschema2pojo.rules.PropertyRule;
+import org.jsonschema2pojo.rules.RuleFactory;
+import org.jsonschema2pojo.util.NameHelper;
+
+/**
+ * Same as the default rule, but the integer, number and boolean properties that are required or have a default value are typed
+ * as primitives, along with their getter, setter and builder method. The accessors keep the names they have when boxed.
+ */
+public class PrimitivePropertyRule extends PropertyRule {
+
+    private final RuleFactory ruleFactory;
+
+    public PrimitivePropertyRule(RuleFactory ruleFactory) {
+        super(ruleFactory);
+        this.ruleFactory = ruleFactory;
+    }
+
+    @Override
+    public JDefinedClass apply(String nodeName, JsonNode node, JsonNode parent, JDefinedClass jclass, Schema schema) {
+        final JDefinedClass result = super.apply(nodeName, node, parent, jclass, schema);
+        if (!isRequired(nodeName, node, schema) && !node.has("default")) {
+            return result;
+        }
+        final NameHelper nameHelper = ruleFactory.getNameHelper();
+        final String propertyName = nameHelper.getPropertyName(nodeName, node);
+        final JFieldVar field = jclass.fields().get(propertyName);
+        if (field == null) {
+            return result;
+        }
+        final JType boxedType = field.type();
+        final JType primitiveType = boxedType.unboxify();
+        if (!primitiveType.isPrimitive()) {
+            // Strings, big decimals, objects...
+            return result;
+        }
+        field.type(primitiveType);
+        final String getterName = nameHelper.getGetterName(propertyName, boxedType, node);
+        final String setterName = nameHelper.getSetterName(propertyName, node);
+        final String builderName = nameHelper.getBuilderName(propertyName, node);
+        // The required array is applied once the properties are, it looks for the getter by the name it has for the primitive type,
+        // isX for a boolean, so it does not find this one
+        final boolean missesRequiredDoc = isInRequiredArray(nodeName, schema) && !getterName.equals(nameHelper.getGetterName(propertyName, primitiveType, node));
+        for (JMethod method : jclass.methods()) {
+            if (method.name().equals(getterName) && method.params().isEmpty() && isType(method.type(), boxedType)) {
+                // Not the optional ones, they box the value again
+                method.type(primitiveType);
+                if (missesRequiredDoc) {
+                    method.javadoc().append("\n(Required)");
+                }
+            } else if ((method.name().equals(setterName) || method.name().equals(builderName)) && method.params().size() == 1) {
+                final JVar param = method.params().get(0);
+                if (isType(param.type(), boxedType)) {
+                    param.type(primitiveType);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static boolean isType(JType type, JType expected) {
+        return type.fullName().equals(expected.fullName());
+    }
+
+    /**
+     * Required by its own <code>required</code> flag, as in draft 3, or listed in the <code>required</code> array of the object.
+     */
+    private static boolean isRequired(String nodeName, JsonNode node, Schema schema) {
+        return node.path("required").asBoolean(false) || isInRequiredArray(nodeName, schema);
+    }
+
+    private static boolean isInRequiredArray(String nodeName, Schema schema) {
+        final JsonNode required = schema.getContent().path("required");
+        if (required.isArray()) {
+            for (JsonNode requiredName : required) {
+                if (requiredName.asText().equals(nodeName)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -19,12 +19,12 @@ public class BasicAuthClientGenerator implements SecurityClientGenerator {
     }
 
     @Override
-    public JMethod createClient(JDefinedClass containerClass) {
+    public JMethod createClient(JDefinedClass containerClass, JExpression clientConfig) {
         JCodeModel cm = new JCodeModel();
         JMethod getClient = containerClass.method(JMod.PROTECTED, Client.class, "getClient");
         JBlock body = getClient.body();
 
-        JVar decl = body.decl(JMod.FINAL, cm._ref(Client.class), RamlJavaClientGenerator.CLIENT_FIELD_NAME, cm.anonymousClass(ClientBuilder.class).staticInvoke("newClient"));
+        JVar decl = body.decl(JMod.FINAL, cm._ref(Client.class), RamlJavaClientGenerator.CLIENT_FIELD_NAME, newClient(cm, clientConfig));
         JInvocation invoke = cm.ref(HttpAuthenticationFeature.class).staticInvoke("basic");
 
         for (JFieldVar var : generatedRequiredField) {
@@ -40,12 +40,12 @@ public class BasicAuthClientGenerator implements SecurityClientGenerator {
     }
 
     @Override
-    public JMethod createClientWithMultipart(JDefinedClass containerClass) {
+    public JMethod createClientWithMultipart(JDefinedClass containerClass, JExpression clientConfig) {
         JCodeModel cm = new JCodeModel();
         JMethod getClient = containerClass.method(JMod.PROTECTED, Client.class, "getClientWithMultipart");
         JBlock body = getClient.body();
 
-        JVar decl = body.decl(JMod.FINAL, cm._ref(Client.class), RamlJavaClientGenerator.CLIENT_FIELD_NAME, cm.anonymousClass(ClientBuilder.class).staticInvoke("newClient"));
+        JVar decl = body.decl(JMod.FINAL, cm._ref(Client.class), RamlJavaClientGenerator.CLIENT_FIELD_NAME, newClient(cm, clientConfig));
         JInvocation invoke = cm.ref(HttpAuthenticationFeature.class).staticInvoke("basic");
 
         for (JFieldVar var : generatedRequiredField) {
@@ -62,4 +62,22 @@ public class BasicAuthClientGenerator implements SecurityClientGenerator {
         body._return(decl);
         return getClient;
     }
+
+    @Override
+    public JExpression authenticate(JCodeModel cm, JExpression uriTemplate, JExpression ownsClient) {
+        final JInvocation feature = cm.ref(HttpAuthenticationFeature.class).staticInvoke("basic");
+        for (JFieldVar var : generatedRequiredField) {
+            feature.arg(var);
+        }
+        // The clients built here already have the feature, a given one gets it on the targets built from it
+        return JOp.cond(ownsClient, uriTemplate, uriTemplate.invoke("register").arg(feature));
+    }
+
+    private JInvocation newClient(JCodeModel cm, JExpression clientConfig) {
+        JInvocation newClient = cm.anonymousClass(ClientBuilder.class).staticInvoke("newClient");
+        if (clientConfig != null) {
+            newClient.arg(clientConfig);
+        }
+        return newClient;
+    }
 }
@@ -0,0 +1,46 @@
+package org.mule.client.codegen.security;
+
+import com.sun.codemodel.*;
+import org.mule.client.codegen.RestClientGenerator;
+
+import java.util.List;
+
+/**
+ * Builds the <code>java.net.http.HttpClient</code> of the client. When the api is secured with basic authentication the
+ * credentials are held by the uri template of the resources, that send them with every request.
+ */
+public class JdkHttpClientGenerator implements SecurityClientGenerator {
+
+    private final RestClientGenerator restClientGenerator;
+    private final List<JFieldVar> basicAuthFields;
+
+    public JdkHttpClientGenerator(RestClientGenerator restClientGenerator, List<JFieldVar> basicAuthFields) {
+        this.restClientGenerator = restClientGenerator;
+        this.basicAuthFields = basicAuthFields;
+    }
+
+    @Override
+    public JMethod createClient(JDefinedClass containerClass, JExpression clientConfig) {
+        final JCodeModel cm = containerClass.owner();
+        final JClass httpClient = restClientGenerator.getClientType(cm);
+        final JMethod getClient = containerClass.method(JMod.PROTECTED, httpClient, "getClient");
+        getClient.body()._return(httpClient.staticInvoke("newHttpClient"));
+        return getClient;
+    }
+
+    /**
+     * The jdk client needs nothing else to send multipart requests.
+     */
+    @Override
+    public JMethod createClientWithMultipart(JDefinedClass containerClass, JExpression clientConfig) {
+        return null;
+    }
+
+    @Override
+    public JExpression authenticate(JCodeModel cm, JExpression uriTemplate, JExpression ownsClient) {
+        if (basicAuthFields.isEmpty()) {
+            return uriTemplate;
+        }
+        return uriTemplate.invoke("withBasicAuthentication").arg(basicAuthFields.get(0)).arg(basicAuthFields.get(1));
+    }
+}
@@ -10,21 +10,25 @@ import javax.ws.rs.client.ClientBuilder;
 public class NoSecuredClientGenerator implements SecurityClientGenerator {
 
     @Override
-    public JMethod createClient(JDefinedClass containerClass) {
+    public JMethod createClient(JDefinedClass containerClass, JExpression clientConfig) {
         JCodeModel cm = new JCodeModel();
         JMethod getClient = containerClass.method(JMod.PROTECTED, Client.class, "getClient");
-        getClient.body()._return(cm.anonymousClass(ClientBuilder.class).staticInvoke("newClient"));
+        JInvocation newClient = cm.anonymousClass(ClientBuilder.class).staticInvoke("newClient");
+        if (clientConfig != null) {
+            newClient.arg(clientConfig);
+        }
+        getClient.body()._return(newClient);
         return getClient;
     }
 
     @Override
-    public JMethod createClientWithMultipart(JDefinedClass containerClass) {
+    public JMethod createClientWithMultipart(JDefinedClass containerClass, JExpression clientConfig) {
         JCodeModel cm = new JCodeModel();
         JMethod getClient = containerClass.method(JMod.PROTECTED, Client.class, "getClientWithMultipart");
         JBlock body = getClient.body();
 
         JClass ccRef = cm.ref(ClientConfig.class);
-        final JVar ccVal = body.decl(cm.ref(ClientConfig.class), "cc", JExpr._new(ccRef));
+        final JVar ccVal = body.decl(cm.ref(ClientConfig.class), "cc", clientConfig != null ? clientConfig : JExpr._new(ccRef));
         body.add(ccVal.invoke("register").arg(cm.ref(MultiPartFeature.class).dotclass()));
 
         JClass cbRef = cm.ref(ClientBuilder.class);
@@ -33,4 +37,9 @@ public class NoSecuredClientGenerator implements SecurityClientGenerator {
         body._return(cbVal.invoke("withConfig").arg(ccVal).invoke("build"));
         return getClient;
     }
+
+    @Override
+    public JExpression authenticate(JCodeModel cm, JExpression uriTemplate, JExpression ownsClient) {
+        return uriTemplate;
+    }
 }
@@ -1,11 +1,30 @@
 package org.mule.client.codegen.security;
 
+import com.sun.codemodel.JCodeModel;
 import com.sun.codemodel.JDefinedClass;
+import com.sun.codemodel.JExpression;
 import com.sun.codemodel.JMethod;
 
+import javax.annotation.Nullable;
+
 public interface SecurityClientGenerator {
 
-    JMethod createClient(JDefinedClass containerClass);
+    /**
+     * @param clientConfig expression of the <code>ClientConfig</code> the client is built with, the jersey defaults are used when null
+     */
+    JMethod createClient(JDefinedClass containerClass, @Nullable JExpression clientConfig);
+
+    /**
+     * @return null when the client built by {@link #createClient} already supports multipart requests
+     */
+    @Nullable
+    JMethod createClientWithMultipart(JDefinedClass containerClass, @Nullable JExpression clientConfig);
 
-    JMethod createClientWithMultipart(JDefinedClass containerClass);
+    /**
+     * @param uriTemplate expression of the uri template the resources are built on
+     * @param ownsClient  expression telling whether the client was built by {@link #createClient}, or given to the constructor
+     * @return the uri template with the credentials of the api applied, when the client does not already send them. The same
+     * expression when there is nothing to apply
+     */
+    JExpression authenticate(JCodeModel cm, JExpression uriTemplate, JExpression ownsClient);
 }
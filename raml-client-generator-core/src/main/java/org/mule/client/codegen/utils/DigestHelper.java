@@ -0,0 +1,33 @@
+package org.mule.client.codegen.utils;
+
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+public class DigestHelper {
+
+    private static final String SHA_256 = "SHA-256";
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    public static String sha256Hex(String content) {
+        return sha256Hex(content.getBytes(UTF_8));
+    }
+
+    public static String sha256Hex(byte[] content) {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(SHA_256);
+        } catch (NoSuchAlgorithmException e) {
+            // Every JVM is required to provide SHA-256
+            throw new IllegalStateException(e);
+        }
+        final byte[] hash = digest.digest(content);
+        final char[] result = new char[hash.length * 2];
+        for (int i = 0; i < hash.length; i++) {
+            result[i * 2] = HEX[(hash[i] >> 4) & 0xF];
+            result[i * 2 + 1] = HEX[hash[i] & 0xF];
+        }
+        return new String(result);
+    }
+}
@@ -0,0 +1,118 @@
+package org.mule.client.codegen.utils;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import org.jsonschema2pojo.SchemaGenerator;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+public class SchemaHashHelper
+{
+    private static final String DESCRIPTION = "description";
+    private static final String REF = "$ref";
+
+    // Keywords whose value maps names to schemas, a "description" key inside them is a name and not a description
+    private static final List<String> SCHEMA_MAP_KEYWORDS = Arrays.asList("properties", "definitions", "patternProperties");
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().enable(JsonParser.Feature.ALLOW_COMMENTS);
+
+    /**
+     * Returns the SHA-256 of the canonical form of the given json: keys sorted and no insignificant whitespace.
+     * When <code>ignoreDescriptions</code> is set the <code>description</code> keywords of the schema are left out.
+     *
+     * @return the hash or null if the content is not valid json
+     */
+    public static String canonicalHash(String json, boolean ignoreDescriptions)
+    {
+        final JsonNode canonical = canonicalize(json, ignoreDescriptions);
+        return canonical != null ? DigestHelper.sha256Hex(canonical.toString()) : null;
+    }
+
+    /**
+     * Returns the SHA-256 of the canonical form of the schema inferred from the given json example.
+     *
+     * @return the hash or null if the content is not valid json
+     */
+    public static String exampleHash(String json)
+    {
+        try
+        {
+            final JsonNode example = OBJECT_MAPPER.readTree(json);
+            if (example == null)
+            {
+                return null;
+            }
+            return DigestHelper.sha256Hex(canonicalize(new SchemaGenerator().schemaFromExample(example), false, false).toString());
+        }
+        catch (IOException e)
+        {
+            return null;
+        }
+    }
+
+    /**
+     * Returns true if the given json schema references other schemas.
+     */
+    public static boolean hasReferences(String json)
+    {
+        final JsonNode node = canonicalize(json, false);
+        return node != null && !node.findValues(REF).isEmpty();
+    }
+
+    private static JsonNode canonicalize(String json, boolean ignoreDescriptions)
+    {
+        try
+        {
+            final JsonNode node = OBJECT_MAPPER.readTree(json);
+            return node != null ? canonicalize(node, ignoreDescriptions, false) : null;
+        }
+        catch (IOException e)
+        {
+            return null;
+        }
+    }
+
+    private static JsonNode canonicalize(JsonNode node, boolean ignoreDescriptions, boolean schemaMap)
+    {
+        if (node.isObject())
+        {
+            final List<String> names = new ArrayList<>();
+            final Iterator<String> fieldNames = node.fieldNames();
+            while (fieldNames.hasNext())
+            {
+                names.add(fieldNames.next());
+            }
+            Collections.sort(names);
+            final ObjectNode result = JsonNodeFactory.instance.objectNode();
+            for (String name : names)
+            {
+                if (ignoreDescriptions && !schemaMap && DESCRIPTION.equals(name))
+                {
+                    continue;
+                }
+                result.set(name, canonicalize(node.get(name), ignoreDescriptions, !schemaMap && SCHEMA_MAP_KEYWORDS.contains(name)));
+            }
+            return result;
+        }
+        else if (node.isArray())
+        {
+            final ArrayNode result = JsonNodeFactory.instance.arrayNode();
+            for (JsonNode element : node)
+            {
+                result.add(canonicalize(element, ignoreDescriptions, false));
+            }
+            return result;
+        }
+        return node;
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.raml;
+
+import org.apache.commons.io.IOUtils;
+import org.mule.client.codegen.utils.DigestHelper;
+import org.mule.raml.model.ApiModel;
+import org.raml.v2.api.RamlModelBuilder;
+import org.raml.v2.api.loader.ResourceLoader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.net.URL;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.CodeSource;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * Cache of parsed apis stored in a directory, so the same RAML is only parsed once across builds and modules.
+ * <p>
+ * Entries are keyed by the hash of the RAML, of every resource the parser fetched while reading it and of the parser version.
+ * For each RAML location an index keeps the resources of its last parse, so on the next build they are fetched again through
+ * the given resource loader and their current hashes used to compute the key.
+ */
+public class ApiModelCache
+{
+
+    // Bump when the serialized model changes in an incompatible way
+    static final String CACHE_FORMAT = "2";
+    private static final String INDEX_EXTENSION = ".index";
+    private static final String MODEL_EXTENSION = ".model";
+
+    private static final Logger logger = LoggerFactory.getLogger(ApiModelCache.class);
+
+    private final File directory;
+    private final String format;
+
+    public ApiModelCache(File directory)
+    {
+        this(directory, CACHE_FORMAT);
+    }
+
+    ApiModelCache(File directory, String format)
+    {
+        this.directory = directory;
+        this.format = format;
+    }
+
+    /**
+     * Returns the api of the given RAML from the cache, parsing and storing it if it is not there.
+     *
+     * @param resourceLoader loader used to fetch the resources referenced by the RAML
+     * @param content        the content of the RAML
+     * @param location       the location of the RAML
+     */
+    public ApiModel build(ResourceLoader resourceLoader, String content, String location)
+    {
+        final File indexFile = new File(directory, DigestHelper.sha256Hex(location) + INDEX_EXTENSION);
+        final Map<String, String> previousResources = loadIndex(indexFile);
+        if (previousResources != null)
+        {
+            final Map<String, String> currentResources = fetch(resourceLoader, previousResources.keySet());
+            if (currentResources != null)
+            {
+                final File modelFile = modelFile(content, currentResources);
+                final ApiModel apiModel = loadModel(modelFile);
+                if (apiModel != null)
+                {
+                    logger.info("Using cached model of " + location);
+                    return apiModel;
+                }
+            }
+        }
+
+        final TrackingResourceLoader trackingResourceLoader = new TrackingResourceLoader(resourceLoader);
+        final ApiModel apiModel = ApiModelLoader.build(trackingResourceLoader, new StringReader(content), location);
+        final Map<String, String> resources = trackingResourceLoader.getResources();
+        try
+        {
+            storeModel(modelFile(content, resources), apiModel);
+            storeIndex(indexFile, resources);
+        }
+        catch (IOException e)
+        {
+            logger.warn("Can not store the parsed model of " + location + " in the cache: " + e.getMessage());
+        }
+        return apiModel;
+    }
+
+    private File modelFile(String content, Map<String, String> resources)
+    {
+        final StringBuilder key = new StringBuilder();
+        key.append(format).append('\n');
+        key.append(parserVersion()).append('\n');
+        key.append(DigestHelper.sha256Hex(content)).append('\n');
+        for (Map.Entry<String, String> resource : new TreeMap<>(resources).entrySet())
+        {
+            key.append(resource.getKey()).append('=').append(resource.getValue()).append('\n');
+        }
+        return new File(directory, DigestHelper.sha256Hex(key.toString()) + MODEL_EXTENSION);
+    }
+
+    /**
+     * Fetches the given resources and returns their hashes, null if any of them is not available anymore.
+     */
+    private static Map<String, String> fetch(ResourceLoader resourceLoader, Iterable<String> resourceNames)
+    {
+        final Map<String, String> result = new TreeMap<>();
+        for (String resourceName : resourceNames)
+        {
+            final InputStream inputStream = resourceLoader.fetchResource(resourceName);
+            if (inputStream == null)
+            {
+                return null;
+            }
+            try
+            {
+                result.put(resourceName, DigestHelper.sha256Hex(IOUtils.toByteArray(inputStream)));
+            }
+            catch (IOException e)
+            {
+                return null;
+            }
+            finally
+            {
+                IOUtils.closeQuietly(inputStream);
+            }
+        }
+        return result;
+    }
+
+    private static Map<String, String> loadIndex(File indexFile)
+    {
+        if (!indexFile.isFile())
+        {
+            return null;
+        }
+        final Properties properties = new Properties();
+        try (InputStream inputStream = new FileInputStream(indexFile))
+        {
+            properties.load(inputStream);
+        }
+        catch (IOException | IllegalArgumentException e)
+        {
+            // Malformed escapes throw an IllegalArgumentException
+            logger.warn("Ignoring invalid cache index " + indexFile + ": " + e.getMessage());
+            return null;
+        }
+        final Map<String, String> result = new TreeMap<>();
+        for (String name : properties.stringPropertyNames())
+        {
+            result.put(name, properties.getProperty(name));
+        }
+        return result;
+    }
+
+    private void storeIndex(File indexFile, Map<String, String> resources) throws IOException
+    {
+        final Properties properties = new Properties();
+        properties.putAll(resources);
+        final File tmpFile = createTempFile();
+        try (OutputStream outputStream = new FileOutputStream(tmpFile))
+        {
+            properties.store(outputStream, null);
+        }
+        move(tmpFile, indexFile);
+    }
+
+    private static ApiModel loadModel(File modelFile)
+    {
+        if (!modelFile.isFile())
+        {
+            return null;
+        }
+        try (ObjectInputStream inputStream = new ObjectInputStream(new BufferedInputStream(new FileInputStream(modelFile))))
+        {
+            return (ApiModel) inputStream.readObject();
+        }
+        catch (IOException | ClassNotFoundException | ClassCastException e)
+        {
+            logger.warn("Ignoring invalid cache entry " + modelFile + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private void storeModel(File modelFile, ApiModel apiModel) throws IOException
+    {
+        final File tmpFile = createTempFile();
+        try (ObjectOutputStream outputStream = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(tmpFile))))
+        {
+            outputStream.writeObject(apiModel);
+        }
+        catch (IOException e)
+        {
+            tmpFile.delete();
+            throw e;
+        }
+        move(tmpFile, modelFile);
+    }
+
+    private File createTempFile() throws IOException
+    {
+        if (!directory.isDirectory() && !directory.mkdirs() && !directory.isDirectory())
+        {
+            throw new IOException("Can not create directory " + directory);
+        }
+        return File.createTempFile("raml-cache", ".tmp", directory);
+    }
+
+    /**
+     * Moves the file atomically when the file system allows it, so concurrent builds never read a partially written entry.
+     */
+    private static void move(File source, File target) throws IOException
+    {
+        try
+        {
+            Files.move(source.toPath(), target.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        }
+        catch (AtomicMoveNotSupportedException e)
+        {
+            Files.move(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static String parserVersion()
+    {
+        final Package parserPackage = RamlModelBuilder.class.getPackage();
+        if (parserPackage != null && parserPackage.getImplementationVersion() != null)
+        {
+            return parserPackage.getImplementationVersion();
+        }
+        // No manifest version, use the parser jar itself
+        final CodeSource codeSource = RamlModelBuilder.class.getProtectionDomain().getCodeSource();
+        final URL location = codeSource != null ? codeSource.getLocation() : null;
+        return location != null ? location.toExternalForm() + "@" + new File(location.getPath()).lastModified() : "unknown";
+    }
+}
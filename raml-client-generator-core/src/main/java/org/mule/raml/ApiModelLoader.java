@@ -8,6 +8,7 @@ package org.mule.raml;
 
 import com.google.common.base.Function;
 import com.google.common.collect.Iterables;
+import org.mule.raml.impl.snapshot.ApiModelSnapshot;
 import org.mule.raml.impl.v08.model.ApiModelImpl;
 import org.mule.raml.model.ApiModel;
 import org.raml.v2.api.RamlModelBuilder;
@@ -52,13 +53,14 @@ public class ApiModelLoader
                 }
             })));
         }
+        // The wrappers read the parser model on every call, take a snapshot so it is read only once
         if (ramlModelResult.isVersion08())
         {
-            return new ApiModelImpl(ramlModelResult.getApiV08());
+            return ApiModelSnapshot.of(new ApiModelImpl(ramlModelResult.getApiV08()));
         }
         else
         {
-            return new org.mule.raml.impl.v10.model.ApiModelImpl(ramlModelResult.getApiV10());
+            return ApiModelSnapshot.of(new org.mule.raml.impl.v10.model.ApiModelImpl(ramlModelResult.getApiV10()));
         }
     }
 
@@ -70,7 +72,12 @@ public class ApiModelLoader
 
     public static ApiModel build(Reader reader, String location)
     {
-        RamlModelResult ramlModelResult = new RamlModelBuilder(new DefaultResourceLoader()).buildApi(reader, location);
+        return build(new DefaultResourceLoader(), reader, location);
+    }
+
+    public static ApiModel build(ResourceLoader resourceLoader, Reader reader, String location)
+    {
+        RamlModelResult ramlModelResult = new RamlModelBuilder(resourceLoader).buildApi(reader, location);
         return wrapApiModel(ramlModelResult);
     }
 }
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.raml;
+
+import org.apache.commons.io.IOUtils;
+import org.mule.client.codegen.utils.DigestHelper;
+import org.raml.v2.api.loader.DefaultResourceLoader;
+import org.raml.v2.api.loader.ResourceLoader;
+import org.raml.v2.api.loader.ResourceLoaderExtended;
+import org.raml.v2.api.loader.ResourceUriCallback;
+
+import javax.annotation.Nullable;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Resource loader that records every resource the parser fetches (libraries, included schemas, examples...) together with the
+ * SHA-256 of its content, so callers can tell later whether any of the inputs of a RAML changed.
+ */
+public class TrackingResourceLoader implements ResourceLoaderExtended
+{
+
+    private final ResourceLoader delegate;
+    private final Map<String, String> resources = new LinkedHashMap<>();
+    private URI uriCallBackParam;
+
+    public TrackingResourceLoader()
+    {
+        this(new DefaultResourceLoader());
+    }
+
+    public TrackingResourceLoader(ResourceLoader delegate)
+    {
+        this.delegate = delegate;
+    }
+
+    @Nullable
+    @Override
+    public InputStream fetchResource(String resourceName, final ResourceUriCallback callback)
+    {
+        final InputStream inputStream;
+        if (delegate instanceof ResourceLoaderExtended)
+        {
+            inputStream = ((ResourceLoaderExtended) delegate).fetchResource(resourceName, new ResourceUriCallback()
+            {
+                @Override
+                public void onResourceFound(URI resourceURI)
+                {
+                    uriCallBackParam = resourceURI;
+                    if (callback != null)
+                    {
+                        callback.onResourceFound(resourceURI);
+                    }
+                }
+            });
+        }
+        else
+        {
+            inputStream = delegate.fetchResource(resourceName);
+        }
+        if (inputStream == null)
+        {
+            return null;
+        }
+        try
+        {
+            final byte[] content = IOUtils.toByteArray(inputStream);
+            synchronized (resources)
+            {
+                resources.put(resourceName, DigestHelper.sha256Hex(content));
+            }
+            return new ByteArrayInputStream(content);
+        }
+        catch (IOException e)
+        {
+            return null;
+        }
+        finally
+        {
+            IOUtils.closeQuietly(inputStream);
+        }
+    }
+
+    @Nullable
+    @Override
+    public InputStream fetchResource(String resourceName)
+    {
+        return fetchResource(resourceName, null);
+    }
+
+    @Nullable
+    public URI getUriCallBackParam()
+    {
+        return uriCallBackParam;
+    }
+
+    /**
+     * @return the name of every resource fetched so far, as requested by the parser, and the SHA-256 of its content
+     */
+    public Map<String, String> getResources()
+    {
+        synchronized (resources)
+        {
+            return Collections.unmodifiableMap(new LinkedHashMap<>(resources));
+        }
+    }
+}
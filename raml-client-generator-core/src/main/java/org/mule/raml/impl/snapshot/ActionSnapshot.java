@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.raml.impl.snapshot;
+
+import org.mule.raml.model.Action;
+import org.mule.raml.model.ActionType;
+import org.mule.raml.model.MimeType;
+import org.mule.raml.model.Resource;
+import org.mule.raml.model.Response;
+import org.mule.raml.model.TypeFieldDefinition;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class ActionSnapshot implements Action, Serializable
+{
+
+    private static final long serialVersionUID = 1L;
+
+    private final ActionType type;
+    private final Resource resource;
+    private final Map<String, MimeType> body;
+    private final Map<String, TypeFieldDefinition> queryParameters;
+    private final Map<String, Response> responses;
+    private final Map<String, TypeFieldDefinition> headers;
+    private final String description;
+    private final Map<String, String> annotations;
+
+    ActionSnapshot(Action source, Resource resource)
+    {
+        this.type = source.getType();
+        this.resource = resource;
+        this.body = MimeTypeSnapshot.body(source.getBody());
+        this.queryParameters = TypeFieldDefinitionSnapshot.parameters(source.getQueryParameters());
+        this.responses = ResponseSnapshot.responses(source.getResponses());
+        this.headers = TypeFieldDefinitionSnapshot.parameters(source.getHeaders());
+        this.description = source.getDescription();
+        this.annotations = Collections.unmodifiableMap(new LinkedHashMap<>(source.getAnnotations()));
+    }
+
+    /**
+     * @param resource the snapshot of the resource that owns the actions
+     */
+    static Map<ActionType, Action> actions(Map<ActionType, Action> source, Resource resource)
+    {
+        if (source == null)
+        {
+            return null;
+        }
+        final Map<ActionType, Action> result = new LinkedHashMap<>();
+        for (Map.Entry<ActionType, Action> entry : source.entrySet())
+        {
+            result.put(entry.getKey(), new ActionSnapshot(entry.getValue(), resource));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    @Override
+    public ActionType getType()
+    {
+        return type;
+    }
+
+    @Override
+    public Resource getResource()
+    {
+        return resource;
+    }
+
+    @Override
+    public Map<String, MimeType> getBody()
+    {
+        return body;
+    }
+
+    @Override
+    public Map<String, TypeFieldDefinition> getQueryParameters()
+    {
+        return queryParameters;
+    }
+
+    @Override
+    public Map<String, Response> getResponses()
+    {
+        return responses;
+    }
+
+    @Override
+    public Map<String, TypeFieldDefinition> getHeaders()
+    {
+        return headers;
+    }
+
+    @Override
+    public String getDescription()
+    {
+        return description;
+    }
+
+    @Override
+    public Map<String, String> getAnnotations()
+    {
+        return annotations;
+    }
+}
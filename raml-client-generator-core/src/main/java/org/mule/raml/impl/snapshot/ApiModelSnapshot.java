@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.raml.impl.snapshot;
+
+import org.mule.raml.model.ApiModel;
+import org.mule.raml.model.DocumentationItem;
+import org.mule.raml.model.Resource;
+import org.mule.raml.model.SecurityScheme;
+import org.mule.raml.model.TypeFieldDefinition;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable copy of an {@link ApiModel}. The whole graph is read from the parser model once, when the snapshot is taken,
+ * so every getter just returns the already built values.
+ * <p>
+ * Iteration order of every map is the one of the source model.
+ */
+public class ApiModelSnapshot implements ApiModel
+{
+
+    private static final long serialVersionUID = 1L;
+
+    private final String baseUri;
+    private final Map<String, Resource> resources;
+    private final String version;
+    private final Map<String, TypeFieldDefinition> baseUriParameters;
+    private final List<SecurityScheme> securitySchemes;
+    private final List<Map<String, String>> schemas;
+    private final List<DocumentationItem> documentation;
+    private final String title;
+    private final List<SecurityScheme> securedBy;
+
+    private ApiModelSnapshot(ApiModel source)
+    {
+        this.baseUri = source.getBaseUri();
+        this.resources = ResourceSnapshot.resources(source.getResources());
+        this.version = source.getVersion();
+        this.baseUriParameters = baseUriParameters(source);
+        this.securitySchemes = SecuritySchemeSnapshot.securitySchemes(source.getSecuritySchemes());
+        this.schemas = schemas(source.getSchemas());
+        this.documentation = DocumentationItemSnapshot.documentation(source.getDocumentation());
+        this.title = source.getTitle();
+        this.securedBy = SecuritySchemeSnapshot.securitySchemes(source.getSecuredBy());
+    }
+
+    /**
+     * Takes a snapshot of the given model, models that already are snapshots are returned as they are.
+     */
+    public static ApiModel of(ApiModel source)
+    {
+        if (source == null || source instanceof ApiModelSnapshot)
+        {
+            return source;
+        }
+        return new ApiModelSnapshot(source);
+    }
+
+    private static Map<String, TypeFieldDefinition> baseUriParameters(ApiModel source)
+    {
+        try
+        {
+            return TypeFieldDefinitionSnapshot.parameters(source.getBaseUriParameters());
+        }
+        catch (UnsupportedOperationException e)
+        {
+            return null;
+        }
+    }
+
+    private static List<Map<String, String>> schemas(List<Map<String, String>> source)
+    {
+        if (source == null)
+        {
+            return null;
+        }
+        final List<Map<String, String>> result = new ArrayList<>(source.size());
+        for (Map<String, String> schema : source)
+        {
+            result.add(schema != null ? Collections.unmodifiableMap(new LinkedHashMap<>(schema)) : null);
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    @Override
+    public String getBaseUri()
+    {
+        return baseUri;
+    }
+
+    @Override
+    public Map<String, Resource> getResources()
+    {
+        return resources;
+    }
+
+    @Override
+    public String getVersion()
+    {
+        return version;
+    }
+
+    @Override
+    public Map<String, TypeFieldDefinition> getBaseUriParameters()
+    {
+        if (baseUriParameters == null)
+        {
+            throw new UnsupportedOperationException();
+        }
+        return baseUriParameters;
+    }
+
+    @Override
+    public List<SecurityScheme> getSecuritySchemes()
+    {
+        return securitySchemes;
+    }
+
+    @Override
+    public List<Map<String, String>> getSchemas()
+    {
+        return schemas;
+    }
+
+    @Override
+    public List<DocumentationItem> getDocumentation()
+    {
+        return documentation;
+    }
+
+    @Override
+    public String getTitle()
+    {
+        return title;
+    }
+
+    @Override
+    public List<SecurityScheme> getSecuredBy()
+    {
+        return securedBy;
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.raml.impl.snapshot;
+
+import org.mule.raml.model.DocumentationItem;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class DocumentationItemSnapshot implements DocumentationItem, Serializable
+{
+
+    private static final long serialVersionUID = 1L;
+
+    private final String content;
+
+    DocumentationItemSnapshot(DocumentationItem source)
+    {
+        this.content = source.getContent();
+    }
+
+    static List<DocumentationItem> documentation(List<DocumentationItem> source)
+    {
+        if (source == null)
+        {
+            return null;
+        }
+        final List<DocumentationItem> result = new ArrayList<>(source.size());
+        for (DocumentationItem documentationItem : source)
+        {
+            result.add(documentationItem != null ? new DocumentationItemSnapshot(documentationItem) : null);
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    @Override
+    public String getContent()
+    {
+        return content;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.raml.impl.snapshot;
+
+import org.mule.raml.model.MimeType;
+import org.mule.raml.model.TypeFieldDefinition;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class MimeTypeSnapshot implements MimeType, Serializable
+{
+
+    private static final long serialVersionUID = 1L;
+
+    private final String schema;
+    // The schema of some types can not be rendered, the failure is kept to be thrown when the schema is requested
+    private final RuntimeException schemaFailure;
+    private final String schemaPath;
+    private final Map<String, TypeFieldDefinition> formParameters;
+    private final String type;
+    private final String example;
+
+    MimeTypeSnapshot(MimeType source)
+    {
+        String schema = null;
+        RuntimeException schemaFailure = null;
+        try
+        {
+            schema = source.getSchema();
+        }
+        catch (RuntimeException e)
+        {
+            schemaFailure = e;
+        }
+        this.schema = schema;
+        this.schemaFailure = schemaFailure;
+        this.schemaPath = source.getSchemaPath();
+        this.formParameters = TypeFieldDefinitionSnapshot.parameters(source.getFormParameters());
+        this.type = source.getType();
+        this.example = source.getExample();
+    }
+
+    static Map<String, MimeType> body(Map<String, MimeType> source)
+    {
+        if (source == null)
+        {
+            return null;
+        }
+        final Map<String, MimeType> result = new LinkedHashMap<>();
+        for (Map.Entry<String, MimeType> entry : source.entrySet())
+        {
+            result.put(entry.getKey(), new MimeTypeSnapshot(entry.getValue()));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    @Override
+    public String getSchema()
+    {
+        if (schemaFailure != null)
+        {
+            throw schemaFailure;
+        }
+        return schema;
+    }
+
+    @Override
+    public String getSchemaPath()
+    {
+        return schemaPath;
+    }
+
+    @Override
+    public Map<String, TypeFieldDefinition> getFormParameters()
+    {
+        return formParameters;
+    }
+
+    @Override
+    public String getType()
+    {
+        return type;
+    }
+
+    @Override
+    public String getExample()
+    {
+        return example;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.raml.impl.snapshot;
+
+import org.mule.raml.model.Action;
+import org.mule.raml.model.ActionType;
+import org.mule.raml.model.Resource;
+import org.mule.raml.model.SecurityScheme;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ResourceSnapshot implements Resource, Serializable
+{
+
+    private static final long serialVersionUID = 1L;
+
+    private final String uri;
+    private final Map<String, Resource> resources;
+    private final Map<ActionType, Action> actions;
+    private final String displayName;
+    private final String description;
+    private final List<SecurityScheme> securedBy;
+
+    ResourceSnapshot(Resource source)
+    {
+        this.uri = source.getUri();
+        this.displayName = source.getDisplayName();
+        this.description = source.getDescription();
+        this.securedBy = SecuritySchemeSnapshot.securitySchemes(source.getSecuredBy());
+        this.actions = ActionSnapshot.actions(source.getActions(), this);
+        this.resources = resources(source.getResources());
+    }
+
+    static Map<String, Resource> resources(Map<String, Resource> source)
+    {
+        if (source == null)
+        {
+            return null;
+        }
+        final Map<String, Resource> result = new LinkedHashMap<>();
+        for (Map.Entry<String, Resource> entry : source.entrySet())
+        {
+            result.put(entry.getKey(), new ResourceSnapshot(entry.getValue()));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    @Override
+    public Action getAction(String name)
+    {
+        for (Map.Entry<ActionType, Action> entry : actions.entrySet())
+        {
+            if (entry.getKey().name().equalsIgnoreCase(name))
+            {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public String getUri()
+    {
+        return uri;
+    }
+
+    @Override
+    public Map<String, Resource> getResources()
+    {
+        return resources;
+    }
+
+    @Override
+    public Map<ActionType, Action> getActions()
+    {
+        return actions;
+    }
+
+    @Override
+    public String getDisplayName()
+    {
+        return displayName;
+    }
+
+    @Override
+    public String getDescription()
+    {
+        return description;
+    }
+
+    @Override
+    public List<SecurityScheme> getSecuredBy()
+    {
+        return securedBy;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.raml.impl.snapshot;
+
+import org.mule.raml.model.MimeType;
+import org.mule.raml.model.Response;
+import org.mule.raml.model.TypeFieldDefinition;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class ResponseSnapshot implements Response, Serializable
+{
+
+    private static final long serialVersionUID = 1L;
+
+    private final Map<String, MimeType> body;
+    private final Map<String, TypeFieldDefinition> headers;
+
+    ResponseSnapshot(Response source)
+    {
+        this.body = MimeTypeSnapshot.body(source.getBody());
+        this.headers = headers(source);
+    }
+
+    static Map<String, Response> responses(Map<String, Response> source)
+    {
+        if (source == null)
+        {
+            return null;
+        }
+        final Map<String, Response> result = new LinkedHashMap<>();
+        for (Map.Entry<String, Response> entry : source.entrySet())
+        {
+            result.put(entry.getKey(), new ResponseSnapshot(entry.getValue()));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    private static Map<String, TypeFieldDefinition> headers(Response source)
+    {
+        try
+        {
+            return TypeFieldDefinitionSnapshot.parameters(source.getHeaders());
+        }
+        catch (UnsupportedOperationException e)
+        {
+            return null;
+        }
+    }
+
+    @Override
+    public Map<String, MimeType> getBody()
+    {
+        return body;
+    }
+
+    @Override
+    public Map<String, TypeFieldDefinition> getHeaders()
+    {
+        if (headers == null)
+        {
+            throw new UnsupportedOperationException();
+        }
+        return headers;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.raml.impl.snapshot;
+
+import org.mule.raml.model.SecurityScheme;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class SecuritySchemeSnapshot implements SecurityScheme, Serializable
+{
+
+    private static final long serialVersionUID = 1L;
+
+    private final String type;
+    // Kept to be thrown when the type is requested, as the source model would do
+    private final RuntimeException typeFailure;
+
+    SecuritySchemeSnapshot(SecurityScheme source)
+    {
+        String type = null;
+        RuntimeException typeFailure = null;
+        try
+        {
+            type = source.getType();
+        }
+        catch (RuntimeException e)
+        {
+            typeFailure = e;
+        }
+        this.type = type;
+        this.typeFailure = typeFailure;
+    }
+
+    /**
+     * Null entries are kept, they stand for an explicitly unsecured resource.
+     */
+    static List<SecurityScheme> securitySchemes(List<SecurityScheme> source)
+    {
+        if (source == null)
+        {
+            return null;
+        }
+        final List<SecurityScheme> result = new ArrayList<>(source.size());
+        for (SecurityScheme securityScheme : source)
+        {
+            result.add(securityScheme != null ? new SecuritySchemeSnapshot(securityScheme) : null);
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    @Override
+    public String getType()
+    {
+        if (typeFailure != null)
+        {
+            throw typeFailure;
+        }
+        return type;
+    }
+}
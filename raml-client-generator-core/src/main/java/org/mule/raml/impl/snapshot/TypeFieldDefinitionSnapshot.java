@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.raml.impl.snapshot;
+
+import org.mule.raml.model.TypeFieldDefinition;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class TypeFieldDefinitionSnapshot implements TypeFieldDefinition, Serializable
+{
+
+    private static final long serialVersionUID = 1L;
+
+    private final boolean required;
+    private final String defaultValue;
+    private final boolean repeat;
+    private final boolean array;
+    private final String displayName;
+    private final String description;
+    private final String example;
+    private final Map<String, String> examples;
+    private final String name;
+    private final String type;
+
+    TypeFieldDefinitionSnapshot(TypeFieldDefinition source)
+    {
+        this.required = source.isRequired();
+        this.defaultValue = source.getDefaultValue();
+        this.repeat = source.isRepeat();
+        this.array = source.isArray();
+        this.displayName = source.getDisplayName();
+        this.description = source.getDescription();
+        this.example = source.getExample();
+        final Map<String, String> examples = source.getExamples();
+        this.examples = examples != null ? Collections.unmodifiableMap(new LinkedHashMap<>(examples)) : null;
+        this.name = source.getName();
+        this.type = source.getType();
+    }
+
+    static Map<String, TypeFieldDefinition> parameters(Map<String, TypeFieldDefinition> source)
+    {
+        if (source == null)
+        {
+            return null;
+        }
+        final Map<String, TypeFieldDefinition> result = new LinkedHashMap<>();
+        for (Map.Entry<String, TypeFieldDefinition> entry : source.entrySet())
+        {
+            result.put(entry.getKey(), new TypeFieldDefinitionSnapshot(entry.getValue()));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    @Override
+    public boolean isRequired()
+    {
+        return required;
+    }
+
+    @Override
+    public String getDefaultValue()
+    {
+        return defaultValue;
+    }
+
+    @Override
+    public boolean isRepeat()
+    {
+        return repeat;
+    }
+
+    @Override
+    public boolean isArray()
+    {
+        return array;
+    }
+
+    @Override
+    public String getDisplayName()
+    {
+        return displayName;
+    }
+
+    @Override
+    public String getDescription()
+    {
+        return description;
+    }
+
+    @Override
+    public String getExample()
+    {
+        return example;
+    }
+
+    @Override
+    public Map<String, String> getExamples()
+    {
+        return examples;
+    }
+
+    @Override
+    public String getName()
+    {
+        return name;
+    }
+
+    @Override
+    public String getType()
+    {
+        return type;
+    }
+}
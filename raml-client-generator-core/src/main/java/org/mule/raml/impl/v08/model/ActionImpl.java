@@ -13,6 +13,7 @@ import org.mule.raml.model.Resource;
 import org.mule.raml.model.Response;
 import org.mule.raml.model.TypeFieldDefinition;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -93,4 +94,11 @@ public class ActionImpl implements Action
         return description != null ? description.value() : null;
     }
 
+    @Override
+    public Map<String, String> getAnnotations()
+    {
+        // Annotations were introduced by RAML 1.0
+        return Collections.emptyMap();
+    }
+
 }
@@ -26,7 +26,7 @@ public class ParameterImpl implements TypeFieldDefinition
     @Override
     public boolean isRequired()
     {
-        return parameter.required();
+        return Boolean.TRUE.equals(parameter.required());
     }
 
     @Override
@@ -42,7 +42,7 @@ public class ParameterImpl implements TypeFieldDefinition
     @Override
     public boolean isRepeat()
     {
-        return parameter.repeat();
+        return Boolean.TRUE.equals(parameter.repeat());
     }
 
     @Override
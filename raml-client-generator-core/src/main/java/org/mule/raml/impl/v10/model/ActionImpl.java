@@ -18,6 +18,8 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.raml.v2.api.model.v10.datamodel.TypeDeclaration;
+import org.raml.v2.api.model.v10.datamodel.TypeInstance;
+import org.raml.v2.api.model.v10.declarations.AnnotationRef;
 import org.raml.v2.api.model.v10.methods.Method;
 import org.raml.v2.api.model.v10.system.types.MarkdownString;
 
@@ -93,4 +95,16 @@ public class ActionImpl implements Action
         return description != null ? description.value() : null;
     }
 
+    @Override
+    public Map<String, String> getAnnotations()
+    {
+        Map<String, String> result = new LinkedHashMap<>();
+        for (AnnotationRef annotation : method.annotations())
+        {
+            final TypeInstance value = annotation.structuredValue();
+            result.put(annotation.annotation().name(), value != null && Boolean.TRUE.equals(value.isScalar()) ? String.valueOf(value.value()) : null);
+        }
+        return result;
+    }
+
 }
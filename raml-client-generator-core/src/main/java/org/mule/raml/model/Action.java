@@ -23,4 +23,9 @@ public interface Action
     Map<String, TypeFieldDefinition> getHeaders();
 
     String getDescription();
+
+    /**
+     * @return the annotations applied to the action by name, with their value when it is a scalar and null otherwise
+     */
+    Map<String, String> getAnnotations();
 }
@@ -0,0 +1,117 @@
+package org.mule.client.codegen;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Properties;
+
+/**
+ * The folders of the generator test resources, each with an <code>api.raml</code> for one or both output versions, the expected
+ * <code>output</code> and an optional <code>api.properties</code> with the {@link CodeGenConfig} to generate it with. Shared with
+ * the benchmarks through the test jar, so the fixtures are only listed here.
+ */
+public enum RamlFixture {
+
+    ASYNC_METHODS("async_methods"),
+    AVOID_ADDITIONAL_PROPERTIES("avoid_additional_properties"),
+    COMPRESSION("compression"),
+    CONNECTION_POOL("connection_pool"),
+    DEDUPLICATE_TYPES("deduplicate_types"),
+    DESIGN_CENTER("design_center"),
+    EMPTY_PUT("empty_put"),
+    FORM_PARAMETERS("form-parameters"),
+    FROM_EXAMPLE("from-example"),
+    GLOBAL_TYPE_BODY("global-type-body"),
+    GLOBAL_TYPE_RETURN("global-type-return"),
+    INCLUDE_SCHEMA("include_schema"),
+    INLINE_SCHEMA_REF("inline_schema_ref"),
+    IMMUTABLE_MODELS("immutable_models"),
+    IMMUTABLE_TYPES("immutable_types"),
+    JAVA_8_DATES("java_8_dates"),
+    JDK_CLIENT("jdk_client"),
+    JDK_COMPRESSION("jdk_compression"),
+    JDK_MODEL_SERIALIZERS("jdk_model_serializers"),
+    JDK_OBJECT_MAPPER_PROVIDER("jdk_object_mapper_provider"),
+    JDK_PRIMITIVES("jdk_primitives"),
+    LAZY_ADDITIONAL_PROPERTIES("lazy_additional_properties"),
+    LIBRARY("library"),
+    LIST("list"),
+    MODEL_SERIALIZERS("model_serializers"),
+    MULTI_BODY("multi_body"),
+    OBJECT_MAPPER_PROVIDER("object_mapper_provider"),
+    OAUTH20("oauth20"),
+    OAUTH20_GLOBAL("oauth20-global"),
+    OAUTH_OVERRIDE("oauth_override"),
+    PRIMITIVES("primitives"),
+    RECURSIVE_TYPE("recursive_type"),
+    SIMPLE("simple"),
+    SECUREDBY_WITH_USES("securedby_with_uses"),
+    STREAMING_METHODS("streaming_methods"),
+    FILE_METHODS("file_methods"),
+    SUB_RESOURCE_ON_SAME_LINE("sub_resource_on_same_line"),
+    SAME_PATH_MULTIPLE_TIMES("same_path_multiple_times"),
+    TYPE_DECL("type_decl"),
+    USE_OPTIONAL("use_optional"),
+    X_WWW_FORM_URLENCODED("x-www-form-urlencoded"),
+    XML_MIMETYPE("xml_mimetype");
+
+    private final String folder;
+
+    RamlFixture(String folder) {
+        this.folder = folder;
+    }
+
+    public String getFolder() {
+        return folder;
+    }
+
+    /**
+     * @return the given file of the fixture for the output version, null when the fixture has none for it
+     */
+    public URL getResource(OutputVersion outputVersion, String name) {
+        return RamlFixture.class.getClassLoader().getResource(outputVersion.toString() + "/" + folder + "/" + name);
+    }
+
+    /**
+     * Builds the {@link CodeGenConfig} of the fixture from its <code>api.properties</code>, the default one when it has none.
+     */
+    public CodeGenConfig getCodeGenConfig(OutputVersion outputVersion) throws IOException {
+        final CodeGenConfig codeGenConfig = new CodeGenConfig();
+        final URL config = getResource(outputVersion, "api.properties");
+        if (config != null) {
+            final Properties properties = new Properties();
+            try (InputStream inputStream = config.openStream()) {
+                properties.load(inputStream);
+            }
+            codeGenConfig.setUseJava8Dates(Boolean.parseBoolean(properties.getProperty("java8Dates", "false")));
+            codeGenConfig.setUseJava8Optional(Boolean.parseBoolean(properties.getProperty("optionals", "false")));
+            codeGenConfig.setIncludeAdditionalProperties(Boolean.parseBoolean(properties.getProperty("additionalProperties", "false")));
+            codeGenConfig.setLazyAdditionalProperties(Boolean.parseBoolean(properties.getProperty("lazyAdditionalProperties", "false")));
+            codeGenConfig.setUseBigDecimals(Boolean.parseBoolean(properties.getProperty("useBigDecimals", "false")));
+            codeGenConfig.setUsePrimitivesForRequired(Boolean.parseBoolean(properties.getProperty("primitivesForRequired", "false")));
+            codeGenConfig.setDeduplicateTypes(Boolean.parseBoolean(properties.getProperty("deduplicateTypes", "false")));
+            codeGenConfig.setIgnoreDescriptionsForDeduplication(Boolean.parseBoolean(properties.getProperty("ignoreDescriptions", "false")));
+            codeGenConfig.setUsePooledConnector(Boolean.parseBoolean(properties.getProperty("pooledConnector", "false")));
+            codeGenConfig.setGenerateAsyncMethods(Boolean.parseBoolean(properties.getProperty("asyncMethods", "false")));
+            codeGenConfig.setGenerateStreamingMethods(Boolean.parseBoolean(properties.getProperty("streamingMethods", "false")));
+            codeGenConfig.setGenerateFileMethods(Boolean.parseBoolean(properties.getProperty("fileMethods", "false")));
+            codeGenConfig.setGenerateRangedDownloads(Boolean.parseBoolean(properties.getProperty("rangedDownloads", "false")));
+            codeGenConfig.setUseCompression(Boolean.parseBoolean(properties.getProperty("compression", "false")));
+            codeGenConfig.setRequestCompressionThreshold(Integer.parseInt(properties.getProperty("requestCompressionThreshold", "-1")));
+            codeGenConfig.setGenerateObjectMapperProvider(Boolean.parseBoolean(properties.getProperty("objectMapperProvider", "false")));
+            codeGenConfig.setGenerateModelSerializers(Boolean.parseBoolean(properties.getProperty("modelSerializers", "false")));
+            codeGenConfig.setGenerateImmutableModels(Boolean.parseBoolean(properties.getProperty("immutableModels", "false")));
+            codeGenConfig.setClientBackend(ClientBackend.valueOf(properties.getProperty("clientBackend", "jersey")));
+            codeGenConfig.setMaxTotalConnections(Integer.parseInt(properties.getProperty("maxTotalConnections", "200")));
+            codeGenConfig.setIdleConnectionTimeout(Long.parseLong(properties.getProperty("idleConnectionTimeout", "30000")));
+            codeGenConfig.setConnectTimeout(Integer.parseInt(properties.getProperty("connectTimeout", "0")));
+            codeGenConfig.setReadTimeout(Integer.parseInt(properties.getProperty("readTimeout", "0")));
+        }
+        return codeGenConfig;
+    }
+
+    @Override
+    public String toString() {
+        return folder;
+    }
+}
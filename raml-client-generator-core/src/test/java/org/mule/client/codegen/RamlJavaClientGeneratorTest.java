@@ -17,62 +17,42 @@ import java.io.IOException;
 import java.io.StringReader;
 import java.net.URISyntaxException;
 import java.net.URL;
-import java.util.Arrays;
-import java.util.Properties;
+import java.util.ArrayList;
+import java.util.List;
 
 @RunWith(value = Parameterized.class)
 public class RamlJavaClientGeneratorTest {
 
     private final Logger logger = LoggerFactory.getLogger(getClass());
 
-    private String projectName;
+    private RamlFixture fixture;
 
-    public RamlJavaClientGeneratorTest(String projectName) {
-        this.projectName = projectName;
+    public RamlJavaClientGeneratorTest(RamlFixture fixture) {
+        this.fixture = fixture;
     }
 
     @Parameterized.Parameters(name = "{index}: {0}/api.raml")
     public static Iterable<Object[]> folders() {
-        return Arrays.asList(new Object[][]{
-                {"avoid_additional_properties"},
-                {"design_center"},
-                {"empty_put"},
-                {"form-parameters"},
-                {"from-example"},
-                {"global-type-body"},
-                {"global-type-return"},
-                {"include_schema"},
-                {"java_8_dates"},
-                {"library"},
-                {"list"},
-                {"multi_body"},
-                {"oauth20"},
-                {"oauth20-global"},
-                {"oauth_override"},
-                {"recursive_type"},
-                {"simple"},
-                {"securedby_with_uses"},
-                {"sub_resource_on_same_line"},
-                {"same_path_multiple_times"},
-                {"type_decl"},
-                {"use_optional"},
-                {"x-www-form-urlencoded"},
-                {"xml_mimetype"},
-        });
+        final List<Object[]> folders = new ArrayList<>();
+        for (RamlFixture fixture : RamlFixture.values()) {
+            folders.add(new Object[]{fixture});
+        }
+        return folders;
     }
 
     @Test
     public void runTestV1() throws IOException, JClassAlreadyExistsException, URISyntaxException {
-        runGenerator(projectName, OutputVersion.v1);
+        runGenerator(fixture, OutputVersion.v1);
     }
 
     @Test
     public void runTestV2() throws IOException, JClassAlreadyExistsException, URISyntaxException {
-        runGenerator(projectName, OutputVersion.v2);
+        runGenerator(fixture, OutputVersion.v2);
     }
 
-    private void runGenerator(String projectName, OutputVersion outputVersion) throws IOException, JClassAlreadyExistsException, URISyntaxException {
-        final URL resource = this.getClass().getClassLoader().getResource(outputVersion.toString() + "/" + projectName + "/" + "api.raml");
+    private void runGenerator(RamlFixture fixture, OutputVersion outputVersion) throws IOException, JClassAlreadyExistsException, URISyntaxException {
+        final String projectName = fixture.getFolder();
+        final URL resource = fixture.getResource(outputVersion, "api.raml");
         if (resource == null) {
             System.out.println("Ingoring " + projectName + " for " + outputVersion + " as it doesn't exists");
             return;
@@ -84,16 +64,7 @@ public class RamlJavaClientGeneratorTest {
         logger.info("actualTarget = " + actualTarget);
         actualTarget.mkdirs();
 
-        CodeGenConfig codeGenConfig = new CodeGenConfig();
-        final URL config = this.getClass().getClassLoader().getResource(outputVersion.toString() + "/" + projectName + "/" + "api.properties");
-        if (config != null) {
-            Properties properties = new Properties();
-            properties.load(config.openStream());
-            codeGenConfig.setUseJava8Dates(Boolean.parseBoolean(properties.getProperty("java8Dates", "false")));
-            codeGenConfig.setUseJava8Optional(Boolean.parseBoolean(properties.getProperty("optionals", "false")));
-            codeGenConfig.setIncludeAdditionalProperties(Boolean.parseBoolean(properties.getProperty("additionalProperties", "false")));
-            codeGenConfig.setUseBigDecimals(Boolean.parseBoolean(properties.getProperty("useBigDecimals", "false")));
-        }
+        final CodeGenConfig codeGenConfig = fixture.getCodeGenConfig(outputVersion);
         new RamlJavaClientGenerator(projectName, actualTarget, outputVersion, codeGenConfig).generate(resource);
         assert resource != null;
         final File parentFile = new File(resource.toURI()).getParentFile();
@@ -0,0 +1,136 @@
+package org.mule.client.codegen.output;
+
+import com.sun.codemodel.JClassAlreadyExistsException;
+import com.sun.codemodel.JCodeModel;
+import com.sun.codemodel.JDefinedClass;
+import com.sun.codemodel.JMod;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+
+public class IncrementalCodeWriterTest {
+
+    private static final long PAST = 1000000000000L;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File target;
+    private File manifests;
+
+    @Before
+    public void setUp() {
+        target = new File(folder.getRoot(), "generated-sources");
+        manifests = new File(folder.getRoot(), "raml-client-generator");
+    }
+
+    @Test
+    public void unchangedFileKeepsItsTimestamp() throws Exception {
+        write(codeModel("org.mule.api.Client", "org.mule.model.User"));
+        final File client = new File(target, "org/mule/api/Client.java");
+        Assert.assertTrue(client.setLastModified(PAST));
+
+        final IncrementalCodeWriter codeWriter = write(codeModel("org.mule.api.Client", "org.mule.model.User"));
+        Assert.assertEquals(PAST, client.lastModified());
+        Assert.assertEquals(2, codeWriter.getUnchanged());
+        Assert.assertEquals(0, codeWriter.getWritten());
+    }
+
+    @Test
+    public void changedFileIsWritten() throws Exception {
+        write(codeModel("org.mule.api.Client"));
+        final File client = new File(target, "org/mule/api/Client.java");
+        Assert.assertTrue(client.setLastModified(PAST));
+
+        final JCodeModel codeModel = codeModel("org.mule.api.Client");
+        codeModel._getClass("org.mule.api.Client").field(JMod.PRIVATE, String.class, "baseUri");
+        final IncrementalCodeWriter codeWriter = write(codeModel);
+        Assert.assertNotEquals(PAST, client.lastModified());
+        Assert.assertEquals(1, codeWriter.getWritten());
+    }
+
+    @Test
+    public void staleFileIsRemoved() throws Exception {
+        write(codeModel("org.mule.api.Client", "org.mule.api.Account"));
+
+        final IncrementalCodeWriter codeWriter = write(codeModel("org.mule.api.Client"));
+        Assert.assertFalse(new File(target, "org/mule/api/Account.java").exists());
+        Assert.assertTrue(new File(target, "org/mule/api/Client.java").exists());
+        Assert.assertEquals(1, codeWriter.getRemoved());
+    }
+
+    @Test
+    public void emptyPackagesArePruned() throws Exception {
+        write(codeModel("org.mule.api.Client", "org.mule.model.user.User"));
+
+        write(codeModel("org.mule.api.Client"));
+        Assert.assertFalse(new File(target, "org/mule/model").exists());
+        Assert.assertTrue(new File(target, "org/mule/api").isDirectory());
+        Assert.assertTrue(target.isDirectory());
+    }
+
+    @Test
+    public void filesOfOtherApisAreKept() throws Exception {
+        write(codeModel("org.mule.api.Client"));
+        codeModel("org.mule.other.Other").build(new IncrementalCodeWriter(target, manifests, "other", new OutputRegistry()));
+
+        write(codeModel("org.mule.api.Client"));
+        Assert.assertTrue(new File(target, "org/mule/other/Other.java").exists());
+    }
+
+    @Test
+    public void manifestIsKeptOutOfTheTargetFolder() throws Exception {
+        write(codeModel("org.mule.api.Client"));
+        Assert.assertTrue(new File(manifests, IncrementalCodeWriter.getManifestName("api")).isFile());
+        Assert.assertArrayEquals(new String[]{"org"}, target.list());
+    }
+
+    @Test
+    public void nothingIsRemovedWithoutManifestDirectory() throws Exception {
+        codeModel("org.mule.api.Client", "org.mule.api.Account").build(new IncrementalCodeWriter(target, "api"));
+
+        codeModel("org.mule.api.Client").build(new IncrementalCodeWriter(target, "api"));
+        Assert.assertTrue(new File(target, "org/mule/api/Account.java").exists());
+        Assert.assertFalse(manifests.exists());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void sameFileOfTwoApisFails() throws Exception {
+        final OutputRegistry registry = new OutputRegistry();
+        codeModel("org.mule.api.Client", "org.mule.model.User").build(new IncrementalCodeWriter(target, manifests, "api", registry));
+        codeModel("org.mule.model.User").build(new IncrementalCodeWriter(target, manifests, "other", registry));
+    }
+
+    @Test
+    public void fileOfAnotherApiIsNotRemovedAsStale() throws Exception {
+        write(codeModel("org.mule.api.Client", "org.mule.model.User"));
+
+        // The model moved from one api to the other, which generates it first in the next run
+        final OutputRegistry registry = new OutputRegistry();
+        codeModel("org.mule.model.User").build(new IncrementalCodeWriter(target, manifests, "other", registry));
+        final IncrementalCodeWriter codeWriter = new IncrementalCodeWriter(target, manifests, "api", registry);
+        codeModel("org.mule.api.Client").build(codeWriter);
+        Assert.assertTrue(new File(target, "org/mule/model/User.java").exists());
+        Assert.assertEquals(0, codeWriter.getRemoved());
+    }
+
+    private IncrementalCodeWriter write(JCodeModel codeModel) throws IOException {
+        final IncrementalCodeWriter codeWriter = new IncrementalCodeWriter(target, manifests, "api", new OutputRegistry());
+        codeModel.build(codeWriter);
+        return codeWriter;
+    }
+
+    private static JCodeModel codeModel(String... classNames) throws JClassAlreadyExistsException {
+        final JCodeModel codeModel = new JCodeModel();
+        for (String className : classNames) {
+            final JDefinedClass definedClass = codeModel._class(className);
+            definedClass.method(JMod.PUBLIC, codeModel.VOID, "run");
+        }
+        return codeModel;
+    }
+}
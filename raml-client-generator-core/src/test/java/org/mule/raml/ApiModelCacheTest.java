@@ -0,0 +1,130 @@
+package org.mule.raml;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mule.raml.model.ApiModel;
+import org.raml.v2.api.loader.DefaultResourceLoader;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+
+public class ApiModelCacheTest
+{
+
+    private static final long PAST = 1000000000000L;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File raml;
+    private File documentation;
+    private File cacheDirectory;
+
+    @Before
+    public void setUp() throws IOException
+    {
+        raml = folder.newFile("api.raml");
+        FileUtils.writeStringToFile(raml, "#%RAML 1.0\ntitle: Users\ndocumentation:\n  - title: Users\n    content: !include users.md\n/users:\n  get:\n");
+        documentation = folder.newFile("users.md");
+        FileUtils.writeStringToFile(documentation, "All the users");
+        cacheDirectory = new File(folder.getRoot(), "cache");
+    }
+
+    @Test
+    public void unchangedRamlIsReadFromTheCache() throws IOException
+    {
+        build(new ApiModelCache(cacheDirectory));
+        final File model = singleModel();
+        Assert.assertTrue(model.setLastModified(PAST));
+
+        final ApiModel apiModel = build(new ApiModelCache(cacheDirectory));
+        Assert.assertEquals("Users", apiModel.getTitle());
+        Assert.assertTrue(apiModel.getResources().containsKey("/users"));
+        Assert.assertEquals(PAST, model.lastModified());
+        Assert.assertEquals(1, models().size());
+    }
+
+    @Test
+    public void changedIncludedResourceIsParsedAgain() throws IOException
+    {
+        build(new ApiModelCache(cacheDirectory));
+        FileUtils.writeStringToFile(documentation, "Every user");
+
+        final ApiModel apiModel = build(new ApiModelCache(cacheDirectory));
+        Assert.assertEquals("Every user", apiModel.getDocumentation().get(0).getContent());
+        Assert.assertEquals(2, models().size());
+    }
+
+    @Test
+    public void changedCacheFormatIsParsedAgain() throws IOException
+    {
+        build(new ApiModelCache(cacheDirectory, ApiModelCache.CACHE_FORMAT));
+        final File model = singleModel();
+
+        build(new ApiModelCache(cacheDirectory, ApiModelCache.CACHE_FORMAT + "-next"));
+        Assert.assertEquals(2, models().size());
+        Assert.assertTrue(model.isFile());
+    }
+
+    @Test
+    public void corruptModelIsParsedAgain() throws IOException
+    {
+        build(new ApiModelCache(cacheDirectory));
+        final File model = singleModel();
+        FileUtils.writeStringToFile(model, "not a model");
+
+        final ApiModel apiModel = build(new ApiModelCache(cacheDirectory));
+        Assert.assertEquals("Users", apiModel.getTitle());
+        Assert.assertEquals("A valid entry should replace the corrupt one", apiModel.getTitle(), build(new ApiModelCache(cacheDirectory)).getTitle());
+        Assert.assertTrue(model.length() > "not a model".length());
+    }
+
+    @Test
+    public void partiallyWrittenModelIsParsedAgain() throws IOException
+    {
+        build(new ApiModelCache(cacheDirectory));
+        final File model = singleModel();
+        final byte[] content = FileUtils.readFileToByteArray(model);
+        FileUtils.writeByteArrayToFile(model, Arrays.copyOf(content, content.length / 2));
+
+        final ApiModel apiModel = build(new ApiModelCache(cacheDirectory));
+        Assert.assertEquals("Users", apiModel.getTitle());
+        Assert.assertEquals(content.length, model.length());
+    }
+
+    @Test
+    public void corruptIndexIsParsedAgain() throws IOException
+    {
+        build(new ApiModelCache(cacheDirectory));
+        for (File index : FileUtils.listFiles(cacheDirectory, new String[]{"index"}, false))
+        {
+            FileUtils.writeStringToFile(index, "\\u00");
+        }
+
+        final ApiModel apiModel = build(new ApiModelCache(cacheDirectory));
+        Assert.assertEquals("Users", apiModel.getTitle());
+    }
+
+    private ApiModel build(ApiModelCache cache) throws IOException
+    {
+        return cache.build(new DefaultResourceLoader(), FileUtils.readFileToString(raml), raml.toURI().toURL().toExternalForm());
+    }
+
+    private File singleModel()
+    {
+        final Collection<File> models = models();
+        Assert.assertEquals(1, models.size());
+        return models.iterator().next();
+    }
+
+    private Collection<File> models()
+    {
+        return FileUtils.listFiles(cacheDirectory, new String[]{"model"}, false);
+    }
+}
@@ -0,0 +1,65 @@
+package org.mule.raml;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mule.client.codegen.utils.DigestHelper;
+import org.raml.v2.api.loader.FileResourceLoader;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.Map;
+
+public class TrackingResourceLoaderTest
+{
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void recordsTheHashOfEveryFetchedResource() throws IOException
+    {
+        FileUtils.writeStringToFile(folder.newFile("user.json"), "{\"type\": \"object\"}");
+        final TrackingResourceLoader resourceLoader = new TrackingResourceLoader(new FileResourceLoader(folder.getRoot()));
+        try (InputStream inputStream = resourceLoader.fetchResource("user.json"))
+        {
+            Assert.assertEquals("{\"type\": \"object\"}", IOUtils.toString(inputStream));
+        }
+        final Map<String, String> resources = resourceLoader.getResources();
+        Assert.assertEquals(1, resources.size());
+        Assert.assertEquals(DigestHelper.sha256Hex("{\"type\": \"object\"}"), resources.get("user.json"));
+    }
+
+    @Test
+    public void doesNotRecordMissingResources()
+    {
+        final TrackingResourceLoader resourceLoader = new TrackingResourceLoader(new FileResourceLoader(folder.getRoot()));
+        Assert.assertNull(resourceLoader.fetchResource("missing.json"));
+        Assert.assertTrue(resourceLoader.getResources().isEmpty());
+    }
+
+    @Test
+    public void recordsTheIncludesOfARaml() throws IOException
+    {
+        final File raml = folder.newFile("api.raml");
+        FileUtils.writeStringToFile(raml, "#%RAML 1.0\ntitle: Users\ntypes:\n  User: !include user.raml\n");
+        FileUtils.writeStringToFile(folder.newFile("user.raml"), "#%RAML 1.0 DataType\ntype: object\n");
+        final TrackingResourceLoader resourceLoader = new TrackingResourceLoader();
+        try (Reader reader = new FileReader(raml))
+        {
+            ApiModelLoader.build(resourceLoader, reader, raml.toURI().toURL().toExternalForm());
+        }
+        boolean found = false;
+        for (String resource : resourceLoader.getResources().keySet())
+        {
+            found |= resource.endsWith("user.raml");
+        }
+        Assert.assertTrue("The included fragment was not recorded " + resourceLoader.getResources(), found);
+    }
+}
@@ -0,0 +1,161 @@
+
+package async_methods.resource.orders;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.InvocationCallback;
+import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.Response;
+import async_methods.exceptions.OrdersException;
+import async_methods.resource.orders.model.OrdersGETQueryParam;
+import async_methods.resource.orders.model.OrdersPOSTHeader;
+import async_methods.resource.orders.orderId.OrderId;
+
+public class Orders {
+
+    private WebTarget _uriTemplate;
+    private Client _client;
+    private final OrderId _orderId;
+
+    public Orders() {
+        _uriTemplate = null;
+        _client = null;
+        _orderId = null;
+    }
+
+    public Orders(WebTarget uriTemplate, Client _client) {
+        _uriTemplate = uriTemplate.path("orders");
+        this._client = _client;
+        _orderId = new OrderId(_uriTemplate, getClient());
+    }
+
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public Orders(String baseUrl, Client _client) {
+        this(_client.target(baseUrl), _client);
+    }
+
+    protected Client getClient() {
+        return this._client;
+    }
+
+    private WebTarget getTarget() {
+        return _uriTemplate;
+    }
+
+    public List<async_methods.resource.orders.model.Order> get(OrdersGETQueryParam queryParameters) {
+        WebTarget target = getTarget();
+        if (queryParameters.getStatus()!= null) {
+            target = target.queryParam("status", queryParameters.getStatus());
+        }
+        final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE);
+        Response response = invocationBuilder.method("GET");
+        if (response.getStatusInfo().getFamily()!= javax.ws.rs.core.Response.Status.Family.SUCCESSFUL) {
+            Response.StatusType statusInfo = response.getStatusInfo();
+            throw new OrdersException(statusInfo.getStatusCode(), statusInfo.getReasonPhrase(), response.getStringHeaders(), response);
+        }
+        return response.readEntity((
+new javax.ws.rs.core.GenericType<java.util.List<async_methods.resource.orders.model.Order>>() {}));
+    }
+
+    /**
+     * The returned future completes exceptionally with the same exceptions the blocking method throws.
+     * 
+     */
+    public CompletableFuture<List<async_methods.resource.orders.model.Order>> getAsync(OrdersGETQueryParam queryParameters) {
+        WebTarget target = getTarget();
+        if (queryParameters.getStatus()!= null) {
+            target = target.queryParam("status", queryParameters.getStatus());
+        }
+        final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE);
+        final CompletableFuture<List<async_methods.resource.orders.model.Order>> future = new CompletableFuture<List<async_methods.resource.orders.model.Order>>();
+        invocationBuilder.async().method("GET", new InvocationCallback<Response>() {
+
+
+            @Override
+            public void completed(Response response) {
+                try {
+                    if (response.getStatusInfo().getFamily()!= javax.ws.rs.core.Response.Status.Family.SUCCESSFUL) {
+                        Response.StatusType statusInfo = response.getStatusInfo();
+                        future.completeExceptionally(new OrdersException(statusInfo.getStatusCode(), statusInfo.getReasonPhrase(), response.getStringHeaders(), response));
+                        return ;
+                    }
+                    future.complete(response.readEntity((
+new javax.ws.rs.core.GenericType<java.util.List<async_methods.resource.orders.model.Order>>() {})));
+                } catch (RuntimeException e) {
+                    future.completeExceptionally(e);
+                }
+            }
+
+            @Override
+            public void failed(Throwable throwable) {
+                future.completeExceptionally(throwable);
+            }
+
+        }
+        );
+        return future;
+    }
+
+    public async_methods.model.Order post(async_methods.model.Order body, OrdersPOSTHeader headers) {
+        WebTarget target = getTarget();
+        final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE);
+        if (headers.getXRequestId()!= null) {
+            invocationBuilder.header("X-Request-Id", headers.getXRequestId());
+        }
+        Response response = invocationBuilder.method("POST", javax.ws.rs.client.Entity.json(body));
+        if (response.getStatusInfo().getFamily()!= javax.ws.rs.core.Response.Status.Family.SUCCESSFUL) {
+            Response.StatusType statusInfo = response.getStatusInfo();
+            throw new OrdersException(statusInfo.getStatusCode(), statusInfo.getReasonPhrase(), response.getStringHeaders(), response);
+        }
+        return response.readEntity(async_methods.model.Order.class);
+    }
+
+    /**
+     * The returned future completes exceptionally with the same exceptions the blocking method throws.
+     * 
+     */
+    public CompletableFuture<async_methods.model.Order> postAsync(async_methods.model.Order body, OrdersPOSTHeader headers) {
+        WebTarget target = getTarget();
+        final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE);
+        if (headers.getXRequestId()!= null) {
+            invocationBuilder.header("X-Request-Id", headers.getXRequestId());
+        }
+        final CompletableFuture<async_methods.model.Order> future = new CompletableFuture<async_methods.model.Order>();
+        invocationBuilder.async().method("POST", javax.ws.rs.client.Entity.json(body), new InvocationCallback<Response>() {
+
+
+            @Override
+            public void completed(Response response) {
+                try {
+                    if (response.getStatusInfo().getFamily()!= javax.ws.rs.core.Response.Status.Family.SUCCESSFUL) {
+                        Response.StatusType statusInfo = response.getStatusInfo();
+                        future.completeExceptionally(new OrdersException(statusInfo.getStatusCode(), statusInfo.getReasonPhrase(), response.getStringHeaders(), response));
+                        return ;
+                    }
+                    future.complete(response.readEntity(async_methods.model.Order.class));
+                } catch (RuntimeException e) {
+                    future.completeExceptionally(e);
+                }
+            }
+
+            @Override
+            public void failed(Throwable throwable) {
+                future.completeExceptionally(throwable);
+            }
+
+        }
+        );
+        return future;
+    }
+
+    public OrderId orderId(String orderId) {
+        return new OrderId(_orderId, Collections.singletonMap("orderId", ((Object) orderId)));
+    }
+
+}
@@ -0,0 +1,138 @@
+
+package async_methods.resource.orders.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({
+    "id",
+    "total"
+})
+public class Order {
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("id")
+    private String id;
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("total")
+    private Double total;
+
+    /**
+     * No args constructor for use in serialization
+     * 
+     */
+    public Order() {
+    }
+
+    /**
+     * 
+     * @param total
+     * @param id
+     */
+    public Order(String id, Double total) {
+        super();
+        this.id = id;
+        this.total = total;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("id")
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("id")
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public Order withId(String id) {
+        this.id = id;
+        return this;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("total")
+    public Double getTotal() {
+        return total;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("total")
+    public void setTotal(Double total) {
+        this.total = total;
+    }
+
+    public Order withTotal(Double total) {
+        this.total = total;
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(Order.class.getName()).append('@').append(Integer.toHexString(System.identityHashCode(this))).append('[');
+        sb.append("id");
+        sb.append('=');
+        sb.append(((this.id == null)?"<null>":this.id));
+        sb.append(',');
+        sb.append("total");
+        sb.append('=');
+        sb.append(((this.total == null)?"<null>":this.total));
+        sb.append(',');
+        if (sb.charAt((sb.length()- 1)) == ',') {
+            sb.setCharAt((sb.length()- 1), ']');
+        } else {
+            sb.append(']');
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        result = ((result* 31)+((this.total == null)? 0 :this.total.hashCode()));
+        result = ((result* 31)+((this.id == null)? 0 :this.id.hashCode()));
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if ((other instanceof Order) == false) {
+            return false;
+        }
+        Order rhs = ((Order) other);
+        return (((this.total == rhs.total)||((this.total!= null)&&this.total.equals(rhs.total)))&&((this.id == rhs.id)||((this.id!= null)&&this.id.equals(rhs.id))));
+    }
+
+}
@@ -0,0 +1,25 @@
+
+package async_methods.resource.orders.model;
+
+
+public class OrdersGETQueryParam {
+
+    private String _status;
+
+    public OrdersGETQueryParam() {
+    }
+
+    public OrdersGETQueryParam withStatus(String status) {
+        _status = status;
+        return this;
+    }
+
+    public void setStatus(String status) {
+        _status = status;
+    }
+
+    public String getStatus() {
+        return _status;
+    }
+
+}
@@ -2,32 +2,42 @@
 package design_center.resource.projects;
 
 import javax.ws.rs.client.Client;
+import javax.ws.rs.client.WebTarget;
 import design_center.resource.projects.rename.Rename;
 
 public class Projects {
 
-    private String _baseUrl;
+    private WebTarget _uriTemplate;
     private Client _client;
     public final Rename rename;
 
     public Projects() {
-        _baseUrl = null;
+        _uriTemplate = null;
         _client = null;
         rename = null;
     }
 
-    public Projects(String baseUrl, Client _client) {
-        _baseUrl = (baseUrl +"/projects");
+    public Projects(WebTarget uriTemplate, Client _client) {
+        _uriTemplate = uriTemplate.path("projects");
         this._client = _client;
-        rename = new Rename(getBaseUri(), getClient());
+        rename = new Rename(_uriTemplate, getClient());
+    }
+
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public Projects(String baseUrl, Client _client) {
+        this(_client.target(baseUrl), _client);
     }
 
     protected Client getClient() {
         return this._client;
     }
 
-    private String getBaseUri() {
-        return _baseUrl;
+    private WebTarget getTarget() {
+        return _uriTemplate;
     }
 
 }
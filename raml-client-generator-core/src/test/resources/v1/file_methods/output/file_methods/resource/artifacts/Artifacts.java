@@ -0,0 +1,48 @@
+
+package file_methods.resource.artifacts;
+
+import java.util.Collections;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.WebTarget;
+import file_methods.resource.artifacts.name.Name;
+
+public class Artifacts {
+
+    private WebTarget _uriTemplate;
+    private Client _client;
+    private final Name _name;
+
+    public Artifacts() {
+        _uriTemplate = null;
+        _client = null;
+        _name = null;
+    }
+
+    public Artifacts(WebTarget uriTemplate, Client _client) {
+        _uriTemplate = uriTemplate.path("artifacts");
+        this._client = _client;
+        _name = new Name(_uriTemplate, getClient());
+    }
+
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public Artifacts(String baseUrl, Client _client) {
+        this(_client.target(baseUrl), _client);
+    }
+
+    protected Client getClient() {
+        return this._client;
+    }
+
+    private WebTarget getTarget() {
+        return _uriTemplate;
+    }
+
+    public Name name(String name) {
+        return new Name(_name, Collections.singletonMap("name", ((Object) name)));
+    }
+
+}
@@ -0,0 +1,119 @@
+
+package file_methods.resource.artifacts.name.checksum;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.Response;
+import file_methods.exceptions.ArtifactsException;
+import file_methods.resource.artifacts.name.checksum.model.ChecksumPOSTQueryParam;
+import org.glassfish.jersey.client.ClientProperties;
+import org.glassfish.jersey.client.RequestEntityProcessing;
+
+public class Checksum {
+
+    private WebTarget _uriTemplate;
+    private Client _client;
+    private Map<String, Object> _uriParams;
+
+    public Checksum() {
+        _uriTemplate = null;
+        _client = null;
+        _uriParams = null;
+    }
+
+    public Checksum(WebTarget uriTemplate, Client _client) {
+        _uriTemplate = uriTemplate.path("checksum");
+        this._client = _client;
+    }
+
+    public Checksum(Checksum template, Map<String, Object> uriParams) {
+        _uriTemplate = template._uriTemplate;
+        _client = template._client;
+        _uriParams = uriParams;
+    }
+
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public Checksum(String baseUrl, Client _client) {
+        this(new Checksum(_client.target(baseUrl), _client), new HashMap<String, Object>());
+    }
+
+    protected Client getClient() {
+        return this._client;
+    }
+
+    private WebTarget getTarget() {
+        return _uriTemplate.resolveTemplates(_uriParams);
+    }
+
+    public InputStream post(InputStream body, ChecksumPOSTQueryParam queryParameters) {
+        WebTarget target = getTarget();
+        if (queryParameters.getAlgorithm()!= null) {
+            target = target.queryParam("algorithm", queryParameters.getAlgorithm());
+        }
+        final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE);
+        Response response = invocationBuilder.method("POST", Entity.entity(body, javax.ws.rs.core.MediaType.APPLICATION_OCTET_STREAM_TYPE));
+        if (response.getStatusInfo().getFamily()!= javax.ws.rs.core.Response.Status.Family.SUCCESSFUL) {
+            Response.StatusType statusInfo = response.getStatusInfo();
+            throw new ArtifactsException(statusInfo.getStatusCode(), statusInfo.getReasonPhrase(), response.getStringHeaders(), response);
+        }
+        return response.readEntity(InputStream.class);
+    }
+
+    /**
+     * Writes the body of the response to the file, replacing it, and returns its path.
+     * 
+     */
+    public Path postToFile(InputStream body, ChecksumPOSTQueryParam queryParameters, Path file) {
+        WebTarget target = getTarget();
+        if (queryParameters.getAlgorithm()!= null) {
+            target = target.queryParam("algorithm", queryParameters.getAlgorithm());
+        }
+        final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE);
+        Response response = invocationBuilder.method("POST", Entity.entity(body, javax.ws.rs.core.MediaType.APPLICATION_OCTET_STREAM_TYPE));
+        if (response.getStatusInfo().getFamily()!= javax.ws.rs.core.Response.Status.Family.SUCCESSFUL) {
+            Response.StatusType statusInfo = response.getStatusInfo();
+            throw new ArtifactsException(statusInfo.getStatusCode(), statusInfo.getReasonPhrase(), response.getStringHeaders(), response);
+        }
+        try {
+            Files.copy(response.readEntity(InputStream.class), file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new ProcessingException(e);
+        } finally {
+            response.close();
+        }
+        return file;
+    }
+
+    /**
+     * The file is read while the request is sent.
+     * 
+     */
+    public InputStream post(Path body, ChecksumPOSTQueryParam queryParameters) {
+        WebTarget target = getTarget();
+        if (queryParameters.getAlgorithm()!= null) {
+            target = target.queryParam("algorithm", queryParameters.getAlgorithm());
+        }
+        final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE);
+        invocationBuilder.property(ClientProperties.REQUEST_ENTITY_PROCESSING, RequestEntityProcessing.CHUNKED);
+        Response response = invocationBuilder.method("POST", Entity.entity(body.toFile(), javax.ws.rs.core.MediaType.APPLICATION_OCTET_STREAM_TYPE));
+        if (response.getStatusInfo().getFamily()!= javax.ws.rs.core.Response.Status.Family.SUCCESSFUL) {
+            Response.StatusType statusInfo = response.getStatusInfo();
+            throw new ArtifactsException(statusInfo.getStatusCode(), statusInfo.getReasonPhrase(), response.getStringHeaders(), response);
+        }
+        return response.readEntity(InputStream.class);
+    }
+
+}
@@ -2,6 +2,7 @@
 package form-parameters.api;
 
 import javax.ws.rs.client.Client;
+import javax.ws.rs.client.WebTarget;
 import form-parameters.resource.exec.Exec;
 import org.glassfish.jersey.client.ClientConfig;
 import org.glassfish.jersey.media.multipart.MultiPartFeature;
@@ -11,20 +12,39 @@ import org.glassfish.jersey.media.multipart.MultiPartFeature;
  * Interact with the Data Weave Engine.
  * 
  */
-public class DataWeaveAPIClient {
+public class DataWeaveAPIClient
+    implements AutoCloseable
+{
 
     private String _baseUrl;
+    private Client _client;
+    private boolean _ownsClient;
     public final Exec exec;
 
-    public DataWeaveAPIClient(String baseUrl) {
+    /**
+     * When a client is given it is used as is and it is not closed by {@link #close()}, otherwise one is created.
+     * 
+     */
+    public DataWeaveAPIClient(String baseUrl, Client client) {
         _baseUrl = baseUrl;
-        exec = new Exec(getBaseUri(), getClientWithMultipart());
+        _ownsClient = (client == null);
+        _client = (_ownsClient?getClientWithMultipart():client);
+        final WebTarget uriTemplate = _client.target(getBaseUri());
+        exec = new Exec(uriTemplate, _client);
+    }
+
+    public DataWeaveAPIClient(String baseUrl) {
+        this(baseUrl, null);
     }
 
     public DataWeaveAPIClient() {
         this("http://dataweave-api.cloudhub.io/api");
     }
 
+    public DataWeaveAPIClient(Client client) {
+        this("http://dataweave-api.cloudhub.io/api", client);
+    }
+
     protected Client getClient() {
         return javax.ws.rs.client.ClientBuilder.newClient();
     }
@@ -40,12 +60,31 @@ public class DataWeaveAPIClient {
         return _baseUrl;
     }
 
+    /**
+     * Closes the client if it was created by this instance.
+     * 
+     */
+    @Override
+    public void close() {
+        if (_ownsClient) {
+            _client.close();
+        }
+    }
+
     public static DataWeaveAPIClient create(String baseUrl) {
         return new DataWeaveAPIClient(baseUrl);
     }
 
+    public static DataWeaveAPIClient create(String baseUrl, Client client) {
+        return new DataWeaveAPIClient(baseUrl, client);
+    }
+
     public static DataWeaveAPIClient create() {
         return new DataWeaveAPIClient();
     }
 
+    public static DataWeaveAPIClient create(Client client) {
+        return new DataWeaveAPIClient(client);
+    }
+
 }
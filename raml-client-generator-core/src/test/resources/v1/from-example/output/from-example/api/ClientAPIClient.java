@@ -3,6 +3,7 @@ package from-example.api;
 
 import javax.ws.rs.client.Client;
 import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.client.WebTarget;
 import from-example.resource.users.Users;
 
 
@@ -10,20 +11,39 @@ import from-example.resource.users.Users;
  * This api describes how to access to the users platform
  * 
  */
-public class ClientAPIClient {
+public class ClientAPIClient
+    implements AutoCloseable
+{
 
     private String _baseUrl;
+    private Client _client;
+    private boolean _ownsClient;
     public final Users users;
 
-    public ClientAPIClient(String baseUrl) {
+    /**
+     * When a client is given it is used as is and it is not closed by {@link #close()}, otherwise one is created.
+     * 
+     */
+    public ClientAPIClient(String baseUrl, Client client) {
         _baseUrl = baseUrl;
-        users = new Users(getBaseUri(), getClient());
+        _ownsClient = (client == null);
+        _client = (_ownsClient?getClient():client);
+        final WebTarget uriTemplate = _client.target(getBaseUri());
+        users = new Users(uriTemplate, _client);
+    }
+
+    public ClientAPIClient(String baseUrl) {
+        this(baseUrl, null);
     }
 
     public ClientAPIClient() {
         this("http://mycompany.com/clientservice/api");
     }
 
+    public ClientAPIClient(Client client) {
+        this("http://mycompany.com/clientservice/api", client);
+    }
+
     protected Client getClient() {
         return ClientBuilder.newClient();
     }
@@ -32,12 +52,31 @@ public class ClientAPIClient {
         return _baseUrl;
     }
 
+    /**
+     * Closes the client if it was created by this instance.
+     * 
+     */
+    @Override
+    public void close() {
+        if (_ownsClient) {
+            _client.close();
+        }
+    }
+
     public static ClientAPIClient create(String baseUrl) {
         return new ClientAPIClient(baseUrl);
     }
 
+    public static ClientAPIClient create(String baseUrl, Client client) {
+        return new ClientAPIClient(baseUrl, client);
+    }
+
     public static ClientAPIClient create() {
         return new ClientAPIClient();
     }
 
+    public static ClientAPIClient create(Client client) {
+        return new ClientAPIClient(client);
+    }
+
 }
@@ -12,25 +12,34 @@ import from-example.resource.users.model.UsersGETResponse;
 
 public class Users {
 
-    private String _baseUrl;
+    private WebTarget _uriTemplate;
     private Client _client;
 
     public Users() {
-        _baseUrl = null;
+        _uriTemplate = null;
         _client = null;
     }
 
-    public Users(String baseUrl, Client _client) {
-        _baseUrl = (baseUrl +"/users");
+    public Users(WebTarget uriTemplate, Client _client) {
+        _uriTemplate = uriTemplate.path("users");
         this._client = _client;
     }
 
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public Users(String baseUrl, Client _client) {
+        this(_client.target(baseUrl), _client);
+    }
+
     protected Client getClient() {
         return this._client;
     }
 
-    private String getBaseUri() {
-        return _baseUrl;
+    private WebTarget getTarget() {
+        return _uriTemplate;
     }
 
     /**
@@ -38,7 +47,7 @@ public class Users {
      * 
      */
     public List<UsersGETResponse> get() {
-        WebTarget target = this._client.target(getBaseUri());
+        WebTarget target = getTarget();
         final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(MediaType.APPLICATION_JSON_TYPE);
         Response response = invocationBuilder.method("GET");
         if (response.getStatusInfo().getFamily()!= Family.SUCCESSFUL) {
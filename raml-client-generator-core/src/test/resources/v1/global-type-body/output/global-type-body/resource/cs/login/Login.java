@@ -11,29 +11,38 @@ import global-type-body.exceptions.FooException;
 
 public class Login {
 
-    private String _baseUrl;
+    private WebTarget _uriTemplate;
     private Client _client;
 
     public Login() {
-        _baseUrl = null;
+        _uriTemplate = null;
         _client = null;
     }
 
-    public Login(String baseUrl, Client _client) {
-        _baseUrl = (baseUrl +"/login");
+    public Login(WebTarget uriTemplate, Client _client) {
+        _uriTemplate = uriTemplate.path("login");
         this._client = _client;
     }
 
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public Login(String baseUrl, Client _client) {
+        this(_client.target(baseUrl), _client);
+    }
+
     protected Client getClient() {
         return this._client;
     }
 
-    private String getBaseUri() {
-        return _baseUrl;
+    private WebTarget getTarget() {
+        return _uriTemplate;
     }
 
     public Object post(String body) {
-        WebTarget target = this._client.target(getBaseUri());
+        WebTarget target = getTarget();
         final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(MediaType.APPLICATION_JSON_TYPE);
         Response response = invocationBuilder.method("POST", Entity.json(body));
         if (response.getStatusInfo().getFamily()!= Family.SUCCESSFUL) {
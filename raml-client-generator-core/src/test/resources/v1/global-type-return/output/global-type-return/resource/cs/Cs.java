@@ -2,32 +2,42 @@
 package global-type-return.resource.cs;
 
 import javax.ws.rs.client.Client;
+import javax.ws.rs.client.WebTarget;
 import global-type-return.resource.cs.login.Login;
 
 public class Cs {
 
-    private String _baseUrl;
+    private WebTarget _uriTemplate;
     private Client _client;
     public final Login login;
 
     public Cs() {
-        _baseUrl = null;
+        _uriTemplate = null;
         _client = null;
         login = null;
     }
 
-    public Cs(String baseUrl, Client _client) {
-        _baseUrl = (baseUrl +"/cs");
+    public Cs(WebTarget uriTemplate, Client _client) {
+        _uriTemplate = uriTemplate.path("cs");
         this._client = _client;
-        login = new Login(getBaseUri(), getClient());
+        login = new Login(_uriTemplate, getClient());
+    }
+
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public Cs(String baseUrl, Client _client) {
+        this(_client.target(baseUrl), _client);
     }
 
     protected Client getClient() {
         return this._client;
     }
 
-    private String getBaseUri() {
-        return _baseUrl;
+    private WebTarget getTarget() {
+        return _uriTemplate;
     }
 
 }
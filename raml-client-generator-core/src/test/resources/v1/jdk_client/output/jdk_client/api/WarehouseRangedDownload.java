@@ -0,0 +1,168 @@
+
+package jdk_client.api;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+
+
+/**
+ * Downloads a body in ranges fetched concurrently over the client, each one written to its place in the file.
+ * 
+ */
+public final class WarehouseRangedDownload {
+
+
+    private WarehouseRangedDownload() {
+    }
+
+    /**
+     * The length of the whole body in a <code>Content-Range</code> header, -1 when it is unknown.
+     * 
+     */
+    private static long getLength(String contentRange) {
+        final int slash = ((contentRange == null)?-1 :contentRange.lastIndexOf('/'));
+        try {
+            return ((slash< 0)?-1L:Long.parseLong(contentRange.substring((slash + 1)).trim()));
+        } catch (NumberFormatException _x) {
+            return -1L;
+        }
+    }
+
+    /**
+     * Fetches the ranges of the body at once, returning the response of the first one that is not successful, if any.
+     * 
+     */
+    private static HttpResponse<?> fetch(HttpClient client, java.net.http.HttpRequest.Builder request, Path file, long length, int parallelism)
+        throws IOException
+    {
+        final long rangeLength = (((length + parallelism)- 1)/parallelism);
+        final RandomAccessFile output = new RandomAccessFile(file.toFile(), "rw");
+        try {
+            output.setLength(length);
+            final List<WarehouseRangedDownload.RangeWriter> writers = new ArrayList<WarehouseRangedDownload.RangeWriter>();
+            final List<CompletableFuture<HttpResponse<Void>>> ranges = new ArrayList<CompletableFuture<HttpResponse<Void>>>();
+            for (long start = 0L; (start<length); start += rangeLength) {
+                final WarehouseRangedDownload.RangeWriter writer = new WarehouseRangedDownload.RangeWriter(output.getChannel(), start, Math.min((start + rangeLength), length));
+                writers.add(writer);
+                ranges.add(client.sendAsync(request.copy().setHeader("Range", writer.range()).build(), writer));
+            }
+            for (int i = 0; (i<ranges.size()); i ++) {
+                final HttpResponse<Void> response = ranges.get(i).join();
+                final WarehouseRangedDownload.RangeWriter writer = writers.get(i);
+                if ((response.statusCode()/ 100)!= 2) {
+                    return response;
+                }
+                if (response.statusCode()!= 206) {
+                    throw new IOException(("The server answered the range with the status "+ response.statusCode()));
+                }
+                if (writer.position!= writer.end) {
+                    throw new EOFException((((("The range "+ writer.range())+" ended after ")+(writer.position-writer.start))+" bytes"));
+                }
+            }
+            return null;
+        } catch (CompletionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw new UncheckedIOException(((IOException) cause));
+            }
+            if (cause instanceof RuntimeException) {
+                throw((RuntimeException) cause);
+            }
+            throw e;
+        } finally {
+            output.close();
+        }
+    }
+
+    /**
+     * Requests the first byte of the body and, when the server answers with its range, fetches the whole body in up to parallelism ranges at once. Otherwise the body is written to the file as it is received.
+     * 
+     * @return
+     *     the first response, or the one of the range that failed, whose body is discarded when it is not successful
+     */
+    public static HttpResponse<?> download(HttpClient client, java.net.http.HttpRequest.Builder request, Path file, int parallelism) {
+        if (parallelism< 1) {
+            throw new IllegalArgumentException(("The parallelism must be positive: "+ parallelism));
+        }
+        HttpResponse<Path> response = WarehouseHttpSupport.send(client, request.copy().setHeader("Range", "bytes=0-0").build(), WarehouseHttpSupport.ofFile(file));
+        final long length = ((response.statusCode() == 206)?getLength(response.headers().firstValue("Content-Range").orElse(null)):-1L);
+        if ((response.statusCode() == 416)||((response.statusCode() == 206)&&(length< 0L))) {
+            response = WarehouseHttpSupport.send(client, request.build(), WarehouseHttpSupport.ofFile(file));
+        }
+        if ((length< 0L)||((response.statusCode()/ 100)!= 2)) {
+            return response;
+        }
+        try {
+            final HttpResponse<?> failed = fetch(client, request, file, length, parallelism);
+            return ((failed!= null)?failed:response);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+
+    /**
+     * Writes the body of the response to a range to its place in the file, as it is received.
+     * 
+     */
+    private final static class RangeWriter
+        implements HttpResponse.BodyHandler<Void> , Consumer<Optional<byte[]>>
+    {
+
+        private final FileChannel channel;
+        private final long start;
+        private final long end;
+        private long position;
+
+        private RangeWriter(FileChannel channel, long start, long end) {
+            this.channel = channel;
+            this.start = start;
+            this.end = end;
+            this.position = start;
+        }
+
+        private String range() {
+            return ((("bytes="+ start)+"-")+(end- 1));
+        }
+
+        @Override
+        public HttpResponse.BodySubscriber<Void> apply(HttpResponse.ResponseInfo responseInfo) {
+            if (responseInfo.statusCode() == 206) {
+                return HttpResponse.BodySubscribers.ofByteArrayConsumer(this);
+            }
+            return HttpResponse.BodySubscribers.replacing(((Void) null));
+        }
+
+        @Override
+        public void accept(Optional<byte[]> bytes) {
+            if (bytes.isPresent()) {
+                final ByteBuffer buffer = ByteBuffer.wrap(bytes.get());
+                try {
+                    if (buffer.remaining()>(end-position)) {
+                        throw new IOException(("The server sent more than the range "+ range()));
+                    }
+                    while (buffer.hasRemaining()) {
+                        position += channel.write(buffer, position);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,66 @@
+
+package jdk_client.api;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+
+
+/**
+ * Uri of a resource, with its uri parameters left as <code>{name}</code> placeholders, and the credentials sent to it.
+ * 
+ */
+public final class WarehouseUriTemplate {
+
+    private final String template;
+    private final String authorization;
+
+    private WarehouseUriTemplate(String template, String authorization) {
+        this.template = template;
+        this.authorization = authorization;
+    }
+
+    public WarehouseUriTemplate(String template) {
+        this(template, null);
+    }
+
+    /**
+     * The template of a child resource, sending the same credentials.
+     * 
+     */
+    public WarehouseUriTemplate path(String segment) {
+        return new WarehouseUriTemplate(((template +"/")+ segment), authorization);
+    }
+
+    /**
+     * The same template, sending the credentials with every request instead of waiting for the server to challenge them.
+     * 
+     */
+    public WarehouseUriTemplate withBasicAuthentication(String username, String password) {
+        return new WarehouseUriTemplate(template, ("Basic "+ Base64 .getEncoder().encodeToString(((username +":")+ password).getBytes(StandardCharsets.UTF_8))));
+    }
+
+    public String getTemplate() {
+        return template;
+    }
+
+    /**
+     * The uri with the values of its uri parameters, encoded as path segments.
+     * 
+     */
+    public String expand(Map<String, Object> uriParams) {
+        return WarehouseHttpSupport.expand(template, uriParams);
+    }
+
+    /**
+     * Adds the credentials, if any, to the request.
+     * 
+     */
+    public java.net.http.HttpRequest.Builder authorize(java.net.http.HttpRequest.Builder requestBuilder) {
+        if (authorization!= null) {
+            requestBuilder.header("Authorization", authorization);
+        }
+        return requestBuilder;
+    }
+
+}
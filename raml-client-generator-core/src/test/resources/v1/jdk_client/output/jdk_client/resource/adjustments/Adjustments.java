@@ -0,0 +1,92 @@
+
+package jdk_client.resource.adjustments;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import jdk_client.api.WarehouseHttpSupport;
+import jdk_client.api.WarehouseUriTemplate;
+import jdk_client.exceptions.WarehouseException;
+import jdk_client.resource.adjustments.model.AdjustmentsPOSTBody;
+
+public class Adjustments {
+
+    private WarehouseUriTemplate _uriTemplate;
+    private HttpClient _client;
+
+    public Adjustments() {
+        _uriTemplate = null;
+        _client = null;
+    }
+
+    public Adjustments(WarehouseUriTemplate uriTemplate, HttpClient _client) {
+        _uriTemplate = uriTemplate.path("adjustments");
+        this._client = _client;
+    }
+
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public Adjustments(String baseUrl, HttpClient _client) {
+        this(new WarehouseUriTemplate(baseUrl), _client);
+    }
+
+    protected HttpClient getClient() {
+        return this._client;
+    }
+
+    private String getBaseUri() {
+        return _uriTemplate.getTemplate();
+    }
+
+    public void post(AdjustmentsPOSTBody body) {
+        String uri = getBaseUri();
+        final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(uri)).header("Accept", "application/json");
+        this._uriTemplate.authorize(requestBuilder);
+        final Map<String, String> fields = new LinkedHashMap<String, String>();
+        if (body.getSku()!= null) {
+            fields.put("sku", body.getSku().toString());
+        }
+        if (body.getDelta()!= null) {
+            fields.put("delta", body.getDelta().toString());
+        }
+        requestBuilder.header("Content-Type", "application/x-www-form-urlencoded");
+        requestBuilder.method("POST", WarehouseHttpSupport.form(fields));
+        final HttpResponse<byte[]> response = WarehouseHttpSupport.send(this._client, requestBuilder.build(), HttpResponse.BodyHandlers.ofByteArray());
+        readPostResponse(response);
+    }
+
+    private Void readPostResponse(HttpResponse<byte[]> response) {
+        if ((response.statusCode()/ 100)!= 2) {
+            throw new WarehouseException(response.statusCode(), ("HTTP status "+ response.statusCode()), response.headers().map(), response);
+        }
+        return null;
+    }
+
+    /**
+     * The returned future completes exceptionally with the same exceptions the blocking method throws.
+     * 
+     */
+    public CompletableFuture<Void> postAsync(AdjustmentsPOSTBody body) {
+        String uri = getBaseUri();
+        final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(uri)).header("Accept", "application/json");
+        this._uriTemplate.authorize(requestBuilder);
+        final Map<String, String> fields = new LinkedHashMap<String, String>();
+        if (body.getSku()!= null) {
+            fields.put("sku", body.getSku().toString());
+        }
+        if (body.getDelta()!= null) {
+            fields.put("delta", body.getDelta().toString());
+        }
+        requestBuilder.header("Content-Type", "application/x-www-form-urlencoded");
+        requestBuilder.method("POST", WarehouseHttpSupport.form(fields));
+        return this._client.sendAsync(requestBuilder.build(), HttpResponse.BodyHandlers.ofByteArray()).thenApply((this::readPostResponse));
+    }
+
+}
@@ -0,0 +1,165 @@
+
+package jdk_client.resource.items;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+import jdk_client.api.WarehouseHttpSupport;
+import jdk_client.api.WarehouseJsonArrayIterator;
+import jdk_client.api.WarehouseUriTemplate;
+import jdk_client.exceptions.WarehouseException;
+import jdk_client.resource.items.model.ItemsGETHeader;
+import jdk_client.resource.items.model.ItemsGETQueryParam;
+import jdk_client.resource.items.model.ItemsGETResponse;
+import jdk_client.resource.items.model.ItemsPOSTBody;
+import jdk_client.resource.items.model.ItemsPOSTResponse;
+import jdk_client.resource.items.sku.Sku;
+
+public class Items {
+
+    private WarehouseUriTemplate _uriTemplate;
+    private HttpClient _client;
+    private final Sku _sku;
+
+    public Items() {
+        _uriTemplate = null;
+        _client = null;
+        _sku = null;
+    }
+
+    public Items(WarehouseUriTemplate uriTemplate, HttpClient _client) {
+        _uriTemplate = uriTemplate.path("items");
+        this._client = _client;
+        _sku = new Sku(_uriTemplate, getClient());
+    }
+
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public Items(String baseUrl, HttpClient _client) {
+        this(new WarehouseUriTemplate(baseUrl), _client);
+    }
+
+    protected HttpClient getClient() {
+        return this._client;
+    }
+
+    private String getBaseUri() {
+        return _uriTemplate.getTemplate();
+    }
+
+    public List<ItemsGETResponse> get(ItemsGETQueryParam queryParameters, ItemsGETHeader headers) {
+        String uri = getBaseUri();
+        if (queryParameters.getLimit()!= null) {
+            uri = WarehouseHttpSupport.queryParam(uri, "limit", queryParameters.getLimit());
+        }
+        if (queryParameters.getLocation()!= null) {
+            uri = WarehouseHttpSupport.queryParam(uri, "location", queryParameters.getLocation());
+        }
+        final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(uri)).header("Accept", "application/json");
+        if (headers.getXTenant()!= null) {
+            requestBuilder.header("X-Tenant", String.valueOf(headers.getXTenant()));
+        }
+        this._uriTemplate.authorize(requestBuilder);
+        requestBuilder.method("GET", HttpRequest.BodyPublishers.noBody());
+        final HttpResponse<byte[]> response = WarehouseHttpSupport.send(this._client, requestBuilder.build(), HttpResponse.BodyHandlers.ofByteArray());
+        return readGetResponse(response);
+    }
+
+    private List<ItemsGETResponse> readGetResponse(HttpResponse<byte[]> response) {
+        if ((response.statusCode()/ 100)!= 2) {
+            throw new WarehouseException(response.statusCode(), ("HTTP status "+ response.statusCode()), response.headers().map(), response);
+        }
+        return WarehouseHttpSupport.readJson(response, (
+new com.fasterxml.jackson.core.type.TypeReference<java.util.List<jdk_client.resource.items.model.ItemsGETResponse>>() {}));
+    }
+
+    /**
+     * The returned future completes exceptionally with the same exceptions the blocking method throws.
+     * 
+     */
+    public CompletableFuture<List<ItemsGETResponse>> getAsync(ItemsGETQueryParam queryParameters, ItemsGETHeader headers) {
+        String uri = getBaseUri();
+        if (queryParameters.getLimit()!= null) {
+            uri = WarehouseHttpSupport.queryParam(uri, "limit", queryParameters.getLimit());
+        }
+        if (queryParameters.getLocation()!= null) {
+            uri = WarehouseHttpSupport.queryParam(uri, "location", queryParameters.getLocation());
+        }
+        final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(uri)).header("Accept", "application/json");
+        if (headers.getXTenant()!= null) {
+            requestBuilder.header("X-Tenant", String.valueOf(headers.getXTenant()));
+        }
+        this._uriTemplate.authorize(requestBuilder);
+        requestBuilder.method("GET", HttpRequest.BodyPublishers.noBody());
+        return this._client.sendAsync(requestBuilder.build(), HttpResponse.BodyHandlers.ofByteArray()).thenApply((this::readGetResponse));
+    }
+
+    /**
+     * The elements are read while the stream is consumed, close it to release the connection before reading all of them.
+     * 
+     */
+    public Stream<ItemsGETResponse> getStream(ItemsGETQueryParam queryParameters, ItemsGETHeader headers) {
+        String uri = getBaseUri();
+        if (queryParameters.getLimit()!= null) {
+            uri = WarehouseHttpSupport.queryParam(uri, "limit", queryParameters.getLimit());
+        }
+        if (queryParameters.getLocation()!= null) {
+            uri = WarehouseHttpSupport.queryParam(uri, "location", queryParameters.getLocation());
+        }
+        final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(uri)).header("Accept", "application/json");
+        if (headers.getXTenant()!= null) {
+            requestBuilder.header("X-Tenant", String.valueOf(headers.getXTenant()));
+        }
+        this._uriTemplate.authorize(requestBuilder);
+        requestBuilder.method("GET", HttpRequest.BodyPublishers.noBody());
+        final HttpResponse<InputStream> response = WarehouseHttpSupport.send(this._client, requestBuilder.build(), HttpResponse.BodyHandlers.ofInputStream());
+        if ((response.statusCode()/ 100)!= 2) {
+            throw new WarehouseException(response.statusCode(), ("HTTP status "+ response.statusCode()), response.headers().map(), response);
+        }
+        return WarehouseJsonArrayIterator.stream(response.body(), WarehouseHttpSupport.MAPPER, ItemsGETResponse.class);
+    }
+
+    public ItemsPOSTResponse post(ItemsPOSTBody body) {
+        String uri = getBaseUri();
+        final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(uri)).header("Accept", "application/json");
+        this._uriTemplate.authorize(requestBuilder);
+        requestBuilder.header("Content-Type", "application/json");
+        requestBuilder.method("POST", WarehouseHttpSupport.json(body));
+        final HttpResponse<byte[]> response = WarehouseHttpSupport.send(this._client, requestBuilder.build(), HttpResponse.BodyHandlers.ofByteArray());
+        return readPostResponse(response);
+    }
+
+    private ItemsPOSTResponse readPostResponse(HttpResponse<byte[]> response) {
+        if ((response.statusCode()/ 100)!= 2) {
+            throw new WarehouseException(response.statusCode(), ("HTTP status "+ response.statusCode()), response.headers().map(), response);
+        }
+        return WarehouseHttpSupport.readJson(response, ItemsPOSTResponse.class);
+    }
+
+    /**
+     * The returned future completes exceptionally with the same exceptions the blocking method throws.
+     * 
+     */
+    public CompletableFuture<ItemsPOSTResponse> postAsync(ItemsPOSTBody body) {
+        String uri = getBaseUri();
+        final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(uri)).header("Accept", "application/json");
+        this._uriTemplate.authorize(requestBuilder);
+        requestBuilder.header("Content-Type", "application/json");
+        requestBuilder.method("POST", WarehouseHttpSupport.json(body));
+        return this._client.sendAsync(requestBuilder.build(), HttpResponse.BodyHandlers.ofByteArray()).thenApply((this::readPostResponse));
+    }
+
+    public Sku sku(String sku) {
+        return new Sku(_sku, Collections.singletonMap("sku", ((Object) sku)));
+    }
+
+}
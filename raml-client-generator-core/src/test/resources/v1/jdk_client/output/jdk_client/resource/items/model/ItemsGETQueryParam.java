@@ -0,0 +1,39 @@
+
+package jdk_client.resource.items.model;
+
+
+public class ItemsGETQueryParam {
+
+    private Integer _limit;
+    private String _location;
+
+    public ItemsGETQueryParam() {
+    }
+
+    public ItemsGETQueryParam withLimit(Integer limit) {
+        _limit = limit;
+        return this;
+    }
+
+    public void setLimit(Integer limit) {
+        _limit = limit;
+    }
+
+    public Integer getLimit() {
+        return _limit;
+    }
+
+    public ItemsGETQueryParam withLocation(String location) {
+        _location = location;
+        return this;
+    }
+
+    public void setLocation(String location) {
+        _location = location;
+    }
+
+    public String getLocation() {
+        return _location;
+    }
+
+}
@@ -0,0 +1,122 @@
+
+package jdk_client.resource.items.sku;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import jdk_client.api.WarehouseHttpSupport;
+import jdk_client.api.WarehouseUriTemplate;
+import jdk_client.exceptions.WarehouseException;
+import jdk_client.resource.items.sku.label.Label;
+import jdk_client.resource.items.sku.model.SkuGETResponse;
+import jdk_client.resource.items.sku.photo.Photo;
+
+public class Sku {
+
+    private WarehouseUriTemplate _uriTemplate;
+    private HttpClient _client;
+    private Map<String, Object> _uriParams;
+    public final Label label;
+    public final Photo photo;
+
+    public Sku() {
+        _uriTemplate = null;
+        _client = null;
+        _uriParams = null;
+        label = null;
+        photo = null;
+    }
+
+    public Sku(WarehouseUriTemplate uriTemplate, HttpClient _client) {
+        _uriTemplate = uriTemplate.path("{sku}");
+        this._client = _client;
+        label = new Label(_uriTemplate, getClient());
+        photo = new Photo(_uriTemplate, getClient());
+    }
+
+    public Sku(Sku template, Map<String, Object> uriParams) {
+        _uriTemplate = template._uriTemplate;
+        _client = template._client;
+        _uriParams = uriParams;
+        label = new Label(template.label, _uriParams);
+        photo = new Photo(template.photo, _uriParams);
+    }
+
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public Sku(String baseUrl, HttpClient _client, String uriParam) {
+        this(new Sku(new WarehouseUriTemplate(baseUrl), _client), Collections.singletonMap("sku", ((Object) uriParam)));
+    }
+
+    protected HttpClient getClient() {
+        return this._client;
+    }
+
+    private String getBaseUri() {
+        return _uriTemplate.expand(_uriParams);
+    }
+
+    public SkuGETResponse get() {
+        String uri = getBaseUri();
+        final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(uri)).header("Accept", "application/json");
+        this._uriTemplate.authorize(requestBuilder);
+        requestBuilder.method("GET", HttpRequest.BodyPublishers.noBody());
+        final HttpResponse<byte[]> response = WarehouseHttpSupport.send(this._client, requestBuilder.build(), HttpResponse.BodyHandlers.ofByteArray());
+        return readGetResponse(response);
+    }
+
+    private SkuGETResponse readGetResponse(HttpResponse<byte[]> response) {
+        if ((response.statusCode()/ 100)!= 2) {
+            throw new WarehouseException(response.statusCode(), ("HTTP status "+ response.statusCode()), response.headers().map(), response);
+        }
+        return WarehouseHttpSupport.readJson(response, SkuGETResponse.class);
+    }
+
+    /**
+     * The returned future completes exceptionally with the same exceptions the blocking method throws.
+     * 
+     */
+    public CompletableFuture<SkuGETResponse> getAsync() {
+        String uri = getBaseUri();
+        final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(uri)).header("Accept", "application/json");
+        this._uriTemplate.authorize(requestBuilder);
+        requestBuilder.method("GET", HttpRequest.BodyPublishers.noBody());
+        return this._client.sendAsync(requestBuilder.build(), HttpResponse.BodyHandlers.ofByteArray()).thenApply((this::readGetResponse));
+    }
+
+    public void delete() {
+        String uri = getBaseUri();
+        final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(uri)).header("Accept", "application/json");
+        this._uriTemplate.authorize(requestBuilder);
+        requestBuilder.method("DELETE", HttpRequest.BodyPublishers.noBody());
+        final HttpResponse<byte[]> response = WarehouseHttpSupport.send(this._client, requestBuilder.build(), HttpResponse.BodyHandlers.ofByteArray());
+        readDeleteResponse(response);
+    }
+
+    private Void readDeleteResponse(HttpResponse<byte[]> response) {
+        if ((response.statusCode()/ 100)!= 2) {
+            throw new WarehouseException(response.statusCode(), ("HTTP status "+ response.statusCode()), response.headers().map(), response);
+        }
+        return null;
+    }
+
+    /**
+     * The returned future completes exceptionally with the same exceptions the blocking method throws.
+     * 
+     */
+    public CompletableFuture<Void> deleteAsync() {
+        String uri = getBaseUri();
+        final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(uri)).header("Accept", "application/json");
+        this._uriTemplate.authorize(requestBuilder);
+        requestBuilder.method("DELETE", HttpRequest.BodyPublishers.noBody());
+        return this._client.sendAsync(requestBuilder.build(), HttpResponse.BodyHandlers.ofByteArray()).thenApply((this::readDeleteResponse));
+    }
+
+}
@@ -0,0 +1,113 @@
+
+package jdk_client.resource.items.sku.label;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import jdk_client.api.WarehouseHttpSupport;
+import jdk_client.api.WarehouseUriTemplate;
+import jdk_client.exceptions.WarehouseException;
+
+public class Label {
+
+    private WarehouseUriTemplate _uriTemplate;
+    private HttpClient _client;
+    private Map<String, Object> _uriParams;
+
+    public Label() {
+        _uriTemplate = null;
+        _client = null;
+        _uriParams = null;
+    }
+
+    public Label(WarehouseUriTemplate uriTemplate, HttpClient _client) {
+        _uriTemplate = uriTemplate.path("label");
+        this._client = _client;
+    }
+
+    public Label(Label template, Map<String, Object> uriParams) {
+        _uriTemplate = template._uriTemplate;
+        _client = template._client;
+        _uriParams = uriParams;
+    }
+
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public Label(String baseUrl, HttpClient _client) {
+        this(new Label(new WarehouseUriTemplate(baseUrl), _client), new HashMap<String, Object>());
+    }
+
+    protected HttpClient getClient() {
+        return this._client;
+    }
+
+    private String getBaseUri() {
+        return _uriTemplate.expand(_uriParams);
+    }
+
+    public String get() {
+        String uri = getBaseUri();
+        final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(uri)).header("Accept", "text/plain");
+        this._uriTemplate.authorize(requestBuilder);
+        requestBuilder.method("GET", HttpRequest.BodyPublishers.noBody());
+        final HttpResponse<byte[]> response = WarehouseHttpSupport.send(this._client, requestBuilder.build(), HttpResponse.BodyHandlers.ofByteArray());
+        return readGetResponse(response);
+    }
+
+    private String readGetResponse(HttpResponse<byte[]> response) {
+        if ((response.statusCode()/ 100)!= 2) {
+            throw new WarehouseException(response.statusCode(), ("HTTP status "+ response.statusCode()), response.headers().map(), response);
+        }
+        return WarehouseHttpSupport.readString(response);
+    }
+
+    /**
+     * The returned future completes exceptionally with the same exceptions the blocking method throws.
+     * 
+     */
+    public CompletableFuture<String> getAsync() {
+        String uri = getBaseUri();
+        final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(uri)).header("Accept", "text/plain");
+        this._uriTemplate.authorize(requestBuilder);
+        requestBuilder.method("GET", HttpRequest.BodyPublishers.noBody());
+        return this._client.sendAsync(requestBuilder.build(), HttpResponse.BodyHandlers.ofByteArray()).thenApply((this::readGetResponse));
+    }
+
+    public void put(String body) {
+        String uri = getBaseUri();
+        final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(uri)).header("Accept", "application/json");
+        this._uriTemplate.authorize(requestBuilder);
+        requestBuilder.header("Content-Type", "text/plain");
+        requestBuilder.method("PUT", HttpRequest.BodyPublishers.ofString(body));
+        final HttpResponse<byte[]> response = WarehouseHttpSupport.send(this._client, requestBuilder.build(), HttpResponse.BodyHandlers.ofByteArray());
+        readPutResponse(response);
+    }
+
+    private Void readPutResponse(HttpResponse<byte[]> response) {
+        if ((response.statusCode()/ 100)!= 2) {
+            throw new WarehouseException(response.statusCode(), ("HTTP status "+ response.statusCode()), response.headers().map(), response);
+        }
+        return null;
+    }
+
+    /**
+     * The returned future completes exceptionally with the same exceptions the blocking method throws.
+     * 
+     */
+    public CompletableFuture<Void> putAsync(String body) {
+        String uri = getBaseUri();
+        final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(uri)).header("Accept", "application/json");
+        this._uriTemplate.authorize(requestBuilder);
+        requestBuilder.header("Content-Type", "text/plain");
+        requestBuilder.method("PUT", HttpRequest.BodyPublishers.ofString(body));
+        return this._client.sendAsync(requestBuilder.build(), HttpResponse.BodyHandlers.ofByteArray()).thenApply((this::readPutResponse));
+    }
+
+}
@@ -0,0 +1,162 @@
+
+package jdk_client.resource.items.sku.photo;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import jdk_client.api.WarehouseHttpSupport;
+import jdk_client.api.WarehouseRangedDownload;
+import jdk_client.api.WarehouseUriTemplate;
+import jdk_client.exceptions.WarehouseException;
+
+public class Photo {
+
+    private WarehouseUriTemplate _uriTemplate;
+    private HttpClient _client;
+    private Map<String, Object> _uriParams;
+
+    public Photo() {
+        _uriTemplate = null;
+        _client = null;
+        _uriParams = null;
+    }
+
+    public Photo(WarehouseUriTemplate uriTemplate, HttpClient _client) {
+        _uriTemplate = uriTemplate.path("photo");
+        this._client = _client;
+    }
+
+    public Photo(Photo template, Map<String, Object> uriParams) {
+        _uriTemplate = template._uriTemplate;
+        _client = template._client;
+        _uriParams = uriParams;
+    }
+
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public Photo(String baseUrl, HttpClient _client) {
+        this(new Photo(new WarehouseUriTemplate(baseUrl), _client), new HashMap<String, Object>());
+    }
+
+    protected HttpClient getClient() {
+        return this._client;
+    }
+
+    private String getBaseUri() {
+        return _uriTemplate.expand(_uriParams);
+    }
+
+    public InputStream get() {
+        String uri = getBaseUri();
+        final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(uri)).header("Accept", "application/octet-stream");
+        this._uriTemplate.authorize(requestBuilder);
+        requestBuilder.method("GET", HttpRequest.BodyPublishers.noBody());
+        final HttpResponse<InputStream> response = WarehouseHttpSupport.send(this._client, requestBuilder.build(), HttpResponse.BodyHandlers.ofInputStream());
+        return readGetResponse(response);
+    }
+
+    private InputStream readGetResponse(HttpResponse<InputStream> response) {
+        if ((response.statusCode()/ 100)!= 2) {
+            throw new WarehouseException(response.statusCode(), ("HTTP status "+ response.statusCode()), response.headers().map(), response);
+        }
+        return response.body();
+    }
+
+    /**
+     * The returned future completes exceptionally with the same exceptions the blocking method throws.
+     * 
+     */
+    public CompletableFuture<InputStream> getAsync() {
+        String uri = getBaseUri();
+        final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(uri)).header("Accept", "application/octet-stream");
+        this._uriTemplate.authorize(requestBuilder);
+        requestBuilder.method("GET", HttpRequest.BodyPublishers.noBody());
+        return this._client.sendAsync(requestBuilder.build(), HttpResponse.BodyHandlers.ofInputStream()).thenApply((this::readGetResponse));
+    }
+
+    /**
+     * Writes the body of the response to the file, replacing it, and returns its path.
+     * 
+     */
+    public Path getToFile(Path file) {
+        String uri = getBaseUri();
+        final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(uri)).header("Accept", "application/octet-stream");
+        this._uriTemplate.authorize(requestBuilder);
+        requestBuilder.method("GET", HttpRequest.BodyPublishers.noBody());
+        final HttpResponse<Path> response = WarehouseHttpSupport.send(this._client, requestBuilder.build(), WarehouseHttpSupport.ofFile(file));
+        if ((response.statusCode()/ 100)!= 2) {
+            throw new WarehouseException(response.statusCode(), ("HTTP status "+ response.statusCode()), response.headers().map(), response);
+        }
+        return response.body();
+    }
+
+    /**
+     * Writes the body of the response to the file, replacing it, and returns its path. When the server accepts ranges, up to parallelism ranges of the body are fetched at once and written to their place in the file.
+     * 
+     */
+    public Path getToFile(Path file, int parallelism) {
+        String uri = getBaseUri();
+        final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(uri)).header("Accept", "application/octet-stream");
+        this._uriTemplate.authorize(requestBuilder);
+        requestBuilder.method("GET", HttpRequest.BodyPublishers.noBody());
+        final HttpResponse<?> response = WarehouseRangedDownload.download(this._client, requestBuilder, file, parallelism);
+        if ((response.statusCode()/ 100)!= 2) {
+            throw new WarehouseException(response.statusCode(), ("HTTP status "+ response.statusCode()), response.headers().map(), response);
+        }
+        return file;
+    }
+
+    public void put(InputStream body) {
+        String uri = getBaseUri();
+        final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(uri)).header("Accept", "application/json");
+        this._uriTemplate.authorize(requestBuilder);
+        requestBuilder.header("Content-Type", "application/octet-stream");
+        requestBuilder.method("PUT", WarehouseHttpSupport.stream(body));
+        final HttpResponse<byte[]> response = WarehouseHttpSupport.send(this._client, requestBuilder.build(), HttpResponse.BodyHandlers.ofByteArray());
+        readPutResponse(response);
+    }
+
+    private Void readPutResponse(HttpResponse<byte[]> response) {
+        if ((response.statusCode()/ 100)!= 2) {
+            throw new WarehouseException(response.statusCode(), ("HTTP status "+ response.statusCode()), response.headers().map(), response);
+        }
+        return null;
+    }
+
+    /**
+     * The returned future completes exceptionally with the same exceptions the blocking method throws.
+     * 
+     */
+    public CompletableFuture<Void> putAsync(InputStream body) {
+        String uri = getBaseUri();
+        final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(uri)).header("Accept", "application/json");
+        this._uriTemplate.authorize(requestBuilder);
+        requestBuilder.header("Content-Type", "application/octet-stream");
+        requestBuilder.method("PUT", WarehouseHttpSupport.stream(body));
+        return this._client.sendAsync(requestBuilder.build(), HttpResponse.BodyHandlers.ofByteArray()).thenApply((this::readPutResponse));
+    }
+
+    /**
+     * The file is read while the request is sent.
+     * 
+     */
+    public void put(Path body) {
+        String uri = getBaseUri();
+        final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(uri)).header("Accept", "application/json");
+        this._uriTemplate.authorize(requestBuilder);
+        requestBuilder.header("Content-Type", "application/octet-stream");
+        requestBuilder.method("PUT", WarehouseHttpSupport.file(body));
+        final HttpResponse<byte[]> response = WarehouseHttpSupport.send(this._client, requestBuilder.build(), HttpResponse.BodyHandlers.ofByteArray());
+        readPutResponse(response);
+    }
+
+}
@@ -0,0 +1,74 @@
+
+package jdk_client.resource.reports;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+import jdk_client.api.WarehouseHttpSupport;
+import jdk_client.api.WarehouseUriTemplate;
+import jdk_client.exceptions.WarehouseException;
+import jdk_client.resource.reports.model.ReportsGETResponse;
+
+public class Reports {
+
+    private WarehouseUriTemplate _uriTemplate;
+    private HttpClient _client;
+
+    public Reports() {
+        _uriTemplate = null;
+        _client = null;
+    }
+
+    public Reports(WarehouseUriTemplate uriTemplate, HttpClient _client) {
+        _uriTemplate = uriTemplate.path("reports");
+        this._client = _client;
+    }
+
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public Reports(String baseUrl, HttpClient _client) {
+        this(new WarehouseUriTemplate(baseUrl), _client);
+    }
+
+    protected HttpClient getClient() {
+        return this._client;
+    }
+
+    private String getBaseUri() {
+        return _uriTemplate.getTemplate();
+    }
+
+    public ReportsGETResponse get(String authorizationToken) {
+        String uri = getBaseUri();
+        final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(uri)).header("Accept", "application/json");
+        requestBuilder.header("Authorization", ("bearer "+ authorizationToken));
+        requestBuilder.method("GET", HttpRequest.BodyPublishers.noBody());
+        final HttpResponse<byte[]> response = WarehouseHttpSupport.send(this._client, requestBuilder.build(), HttpResponse.BodyHandlers.ofByteArray());
+        return readGetResponse(response);
+    }
+
+    private ReportsGETResponse readGetResponse(HttpResponse<byte[]> response) {
+        if ((response.statusCode()/ 100)!= 2) {
+            throw new WarehouseException(response.statusCode(), ("HTTP status "+ response.statusCode()), response.headers().map(), response);
+        }
+        return WarehouseHttpSupport.readJson(response, ReportsGETResponse.class);
+    }
+
+    /**
+     * The returned future completes exceptionally with the same exceptions the blocking method throws.
+     * 
+     */
+    public CompletableFuture<ReportsGETResponse> getAsync(String authorizationToken) {
+        String uri = getBaseUri();
+        final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(uri)).header("Accept", "application/json");
+        requestBuilder.header("Authorization", ("bearer "+ authorizationToken));
+        requestBuilder.method("GET", HttpRequest.BodyPublishers.noBody());
+        return this._client.sendAsync(requestBuilder.build(), HttpResponse.BodyHandlers.ofByteArray()).thenApply((this::readGetResponse));
+    }
+
+}
@@ -0,0 +1,83 @@
+
+package jdk_client.resource.reports.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({
+    "total"
+})
+public class ReportsGETResponse {
+
+    @JsonProperty("total")
+    private Long total;
+
+    /**
+     * No args constructor for use in serialization
+     * 
+     */
+    public ReportsGETResponse() {
+    }
+
+    /**
+     * 
+     * @param total
+     */
+    public ReportsGETResponse(Long total) {
+        super();
+        this.total = total;
+    }
+
+    @JsonProperty("total")
+    public Long getTotal() {
+        return total;
+    }
+
+    @JsonProperty("total")
+    public void setTotal(Long total) {
+        this.total = total;
+    }
+
+    public ReportsGETResponse withTotal(Long total) {
+        this.total = total;
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(ReportsGETResponse.class.getName()).append('@').append(Integer.toHexString(System.identityHashCode(this))).append('[');
+        sb.append("total");
+        sb.append('=');
+        sb.append(((this.total == null)?"<null>":this.total));
+        sb.append(',');
+        if (sb.charAt((sb.length()- 1)) == ',') {
+            sb.setCharAt((sb.length()- 1), ']');
+        } else {
+            sb.append(']');
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        result = ((result* 31)+((this.total == null)? 0 :this.total.hashCode()));
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if ((other instanceof ReportsGETResponse) == false) {
+            return false;
+        }
+        ReportsGETResponse rhs = ((ReportsGETResponse) other);
+        return ((this.total == rhs.total)||((this.total!= null)&&this.total.equals(rhs.total)));
+    }
+
+}
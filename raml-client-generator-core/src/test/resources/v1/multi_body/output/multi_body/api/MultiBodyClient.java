@@ -3,6 +3,7 @@ package multi_body.api;
 
 import javax.ws.rs.client.Client;
 import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.client.WebTarget;
 import multi_body.resource.cs.Cs;
 
 
@@ -10,9 +11,13 @@ import multi_body.resource.cs.Cs;
  * A String
  * 
  */
-public class MultiBodyClient {
+public class MultiBodyClient
+    implements AutoCloseable
+{
 
     private String _baseUrl;
+    private Client _client;
+    private boolean _ownsClient;
     public final Cs cs;
 
     public MultiBodyClient() {
@@ -20,9 +25,20 @@ public class MultiBodyClient {
         cs = null;
     }
 
-    public MultiBodyClient(String baseUrl) {
+    /**
+     * When a client is given it is used as is and it is not closed by {@link #close()}, otherwise one is created.
+     * 
+     */
+    public MultiBodyClient(String baseUrl, Client client) {
         _baseUrl = baseUrl;
-        cs = new Cs(getBaseUri(), getClient());
+        _ownsClient = (client == null);
+        _client = (_ownsClient?getClient():client);
+        final WebTarget uriTemplate = _client.target(getBaseUri());
+        cs = new Cs(uriTemplate, _client);
+    }
+
+    public MultiBodyClient(String baseUrl) {
+        this(baseUrl, null);
     }
 
     protected Client getClient() {
@@ -33,8 +49,23 @@ public class MultiBodyClient {
         return _baseUrl;
     }
 
+    /**
+     * Closes the client if it was created by this instance.
+     * 
+     */
+    @Override
+    public void close() {
+        if (_ownsClient) {
+            _client.close();
+        }
+    }
+
     public static MultiBodyClient create(String baseUrl) {
         return new MultiBodyClient(baseUrl);
     }
 
+    public static MultiBodyClient create(String baseUrl, Client client) {
+        return new MultiBodyClient(baseUrl, client);
+    }
+
 }
@@ -12,25 +12,34 @@ import oauth20-global.resource.api.model.ApiGETResponse;
 
 public class Api {
 
-    private String _baseUrl;
+    private WebTarget _uriTemplate;
     private Client _client;
 
     public Api() {
-        _baseUrl = null;
+        _uriTemplate = null;
         _client = null;
     }
 
-    public Api(String baseUrl, Client _client) {
-        _baseUrl = (baseUrl +"/api");
+    public Api(WebTarget uriTemplate, Client _client) {
+        _uriTemplate = uriTemplate.path("api");
         this._client = _client;
     }
 
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public Api(String baseUrl, Client _client) {
+        this(_client.target(baseUrl), _client);
+    }
+
     protected Client getClient() {
         return this._client;
     }
 
-    private String getBaseUri() {
-        return _baseUrl;
+    private WebTarget getTarget() {
+        return _uriTemplate;
     }
 
     /**
@@ -38,7 +47,7 @@ public class Api {
      * 
      */
     public List<ApiGETResponse> get(String authorizationToken) {
-        WebTarget target = this._client.target(getBaseUri());
+        WebTarget target = getTarget();
         final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(MediaType.APPLICATION_JSON_TYPE);
         invocationBuilder.header("Authorization", ("bearer "+ authorizationToken));
         Response response = invocationBuilder.method("GET");
@@ -10,25 +10,34 @@ import recursive_type.exceptions.LocationsException;
 
 public class Bar {
 
-    private String _baseUrl;
+    private WebTarget _uriTemplate;
     private Client _client;
 
     public Bar() {
-        _baseUrl = null;
+        _uriTemplate = null;
         _client = null;
     }
 
-    public Bar(String baseUrl, Client _client) {
-        _baseUrl = (baseUrl +"/bar");
+    public Bar(WebTarget uriTemplate, Client _client) {
+        _uriTemplate = uriTemplate.path("bar");
         this._client = _client;
     }
 
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public Bar(String baseUrl, Client _client) {
+        this(_client.target(baseUrl), _client);
+    }
+
     protected Client getClient() {
         return this._client;
     }
 
-    private String getBaseUri() {
-        return _baseUrl;
+    private WebTarget getTarget() {
+        return _uriTemplate;
     }
 
     /**
@@ -36,7 +45,7 @@ public class Bar {
      * 
      */
     public recursive_type.model.Foo get() {
-        WebTarget target = this._client.target(getBaseUri());
+        WebTarget target = getTarget();
         final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(MediaType.APPLICATION_JSON_TYPE);
         Response response = invocationBuilder.method("GET");
         if (response.getStatusInfo().getFamily()!= Family.SUCCESSFUL) {
@@ -12,35 +12,44 @@ import same_path_multiple_times.resource.foo.b.B;
 
 public class Foo {
 
-    private String _baseUrl;
+    private WebTarget _uriTemplate;
     private Client _client;
     public final A a;
     public final B b;
 
     public Foo() {
-        _baseUrl = null;
+        _uriTemplate = null;
         _client = null;
         a = null;
         b = null;
     }
 
-    public Foo(String baseUrl, Client _client) {
-        _baseUrl = (baseUrl +"/foo");
+    public Foo(WebTarget uriTemplate, Client _client) {
+        _uriTemplate = uriTemplate.path("foo");
         this._client = _client;
-        a = new A(getBaseUri(), getClient());
-        b = new B(getBaseUri(), getClient());
+        a = new A(_uriTemplate, getClient());
+        b = new B(_uriTemplate, getClient());
+    }
+
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public Foo(String baseUrl, Client _client) {
+        this(_client.target(baseUrl), _client);
     }
 
     protected Client getClient() {
         return this._client;
     }
 
-    private String getBaseUri() {
-        return _baseUrl;
+    private WebTarget getTarget() {
+        return _uriTemplate;
     }
 
     public same_path_multiple_times.resource.foo.model.FooGETResponse get() {
-        WebTarget target = this._client.target(getBaseUri());
+        WebTarget target = getTarget();
         final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(MediaType.APPLICATION_JSON_TYPE);
         Response response = invocationBuilder.method("GET");
         if (response.getStatusInfo().getFamily()!= Family.SUCCESSFUL) {
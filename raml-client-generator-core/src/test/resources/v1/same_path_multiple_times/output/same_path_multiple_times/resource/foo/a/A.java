@@ -10,29 +10,38 @@ import same_path_multiple_times.exceptions.FooException;
 
 public class A {
 
-    private String _baseUrl;
+    private WebTarget _uriTemplate;
     private Client _client;
 
     public A() {
-        _baseUrl = null;
+        _uriTemplate = null;
         _client = null;
     }
 
-    public A(String baseUrl, Client _client) {
-        _baseUrl = (baseUrl +"/a");
+    public A(WebTarget uriTemplate, Client _client) {
+        _uriTemplate = uriTemplate.path("a");
         this._client = _client;
     }
 
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public A(String baseUrl, Client _client) {
+        this(_client.target(baseUrl), _client);
+    }
+
     protected Client getClient() {
         return this._client;
     }
 
-    private String getBaseUri() {
-        return _baseUrl;
+    private WebTarget getTarget() {
+        return _uriTemplate;
     }
 
     public same_path_multiple_times.resource.foo.a.model.AGETResponse get() {
-        WebTarget target = this._client.target(getBaseUri());
+        WebTarget target = getTarget();
         final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(MediaType.APPLICATION_JSON_TYPE);
         Response response = invocationBuilder.method("GET");
         if (response.getStatusInfo().getFamily()!= Family.SUCCESSFUL) {
@@ -13,29 +13,38 @@ import securedby_with_uses.resource.files.model.FilesPOSTBody;
 
 public class Files {
 
-    private String _baseUrl;
+    private WebTarget _uriTemplate;
     private Client _client;
 
     public Files() {
-        _baseUrl = null;
+        _uriTemplate = null;
         _client = null;
     }
 
-    public Files(String baseUrl, Client _client) {
-        _baseUrl = (baseUrl +"/files");
+    public Files(WebTarget uriTemplate, Client _client) {
+        _uriTemplate = uriTemplate.path("files");
         this._client = _client;
     }
 
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public Files(String baseUrl, Client _client) {
+        this(_client.target(baseUrl), _client);
+    }
+
     protected Client getClient() {
         return this._client;
     }
 
-    private String getBaseUri() {
-        return _baseUrl;
+    private WebTarget getTarget() {
+        return _uriTemplate;
     }
 
     public void post(FilesPOSTBody body) {
-        WebTarget target = this._client.target(getBaseUri());
+        WebTarget target = getTarget();
         final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(MediaType.APPLICATION_JSON_TYPE);
         FormDataMultiPart multiPart = new FormDataMultiPart();
         Response response = invocationBuilder.method("POST", Entity.entity(multiPart, multiPart.getMediaType()));
@@ -1,34 +1,48 @@
 
 package securedby_with_uses.resource.users;
 
+import java.util.Collections;
 import javax.ws.rs.client.Client;
+import javax.ws.rs.client.WebTarget;
 import securedby_with_uses.resource.users.id.Id;
 
 public class Users {
 
-    private String _baseUrl;
+    private WebTarget _uriTemplate;
     private Client _client;
+    private final Id _id;
 
     public Users() {
-        _baseUrl = null;
+        _uriTemplate = null;
         _client = null;
+        _id = null;
     }
 
-    public Users(String baseUrl, Client _client) {
-        _baseUrl = (baseUrl +"/users");
+    public Users(WebTarget uriTemplate, Client _client) {
+        _uriTemplate = uriTemplate.path("users");
         this._client = _client;
+        _id = new Id(_uriTemplate, getClient());
+    }
+
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public Users(String baseUrl, Client _client) {
+        this(_client.target(baseUrl), _client);
     }
 
     protected Client getClient() {
         return this._client;
     }
 
-    private String getBaseUri() {
-        return _baseUrl;
+    private WebTarget getTarget() {
+        return _uriTemplate;
     }
 
     public Id id(String id) {
-        return new Id(getBaseUri(), getClient(), id);
+        return new Id(_id, Collections.singletonMap("id", ((Object) id)));
     }
 
 }
@@ -3,6 +3,7 @@ package simple.api;
 
 import javax.ws.rs.client.Client;
 import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.client.WebTarget;
 import simple.resource.cs.Cs;
 
 
@@ -10,9 +11,13 @@ import simple.resource.cs.Cs;
  * A String
  * 
  */
-public class FooClient {
+public class FooClient
+    implements AutoCloseable
+{
 
     private String _baseUrl;
+    private Client _client;
+    private boolean _ownsClient;
     public final Cs cs;
 
     public FooClient() {
@@ -20,9 +25,20 @@ public class FooClient {
         cs = null;
     }
 
-    public FooClient(String baseUrl) {
+    /**
+     * When a client is given it is used as is and it is not closed by {@link #close()}, otherwise one is created.
+     * 
+     */
+    public FooClient(String baseUrl, Client client) {
         _baseUrl = baseUrl;
-        cs = new Cs(getBaseUri(), getClient());
+        _ownsClient = (client == null);
+        _client = (_ownsClient?getClient():client);
+        final WebTarget uriTemplate = _client.target(getBaseUri());
+        cs = new Cs(uriTemplate, _client);
+    }
+
+    public FooClient(String baseUrl) {
+        this(baseUrl, null);
     }
 
     protected Client getClient() {
@@ -33,8 +49,23 @@ public class FooClient {
         return _baseUrl;
     }
 
+    /**
+     * Closes the client if it was created by this instance.
+     * 
+     */
+    @Override
+    public void close() {
+        if (_ownsClient) {
+            _client.close();
+        }
+    }
+
     public static FooClient create(String baseUrl) {
         return new FooClient(baseUrl);
     }
 
+    public static FooClient create(String baseUrl, Client client) {
+        return new FooClient(baseUrl, client);
+    }
+
 }
@@ -1,42 +1,56 @@
 
 package simple.resource.cs;
 
+import java.util.Collections;
 import javax.ws.rs.client.Client;
+import javax.ws.rs.client.WebTarget;
 import simple.resource.cs.data.Data;
 import simple.resource.cs.id.Id;
 import simple.resource.cs.login.Login;
 
 public class Cs {
 
-    private String _baseUrl;
+    private WebTarget _uriTemplate;
     private Client _client;
     public final Data data;
     public final Login login;
+    private final Id _id;
 
     public Cs() {
-        _baseUrl = null;
+        _uriTemplate = null;
         _client = null;
         data = null;
         login = null;
+        _id = null;
     }
 
-    public Cs(String baseUrl, Client _client) {
-        _baseUrl = (baseUrl +"/cs");
+    public Cs(WebTarget uriTemplate, Client _client) {
+        _uriTemplate = uriTemplate.path("cs");
         this._client = _client;
-        data = new Data(getBaseUri(), getClient());
-        login = new Login(getBaseUri(), getClient());
+        data = new Data(_uriTemplate, getClient());
+        login = new Login(_uriTemplate, getClient());
+        _id = new Id(_uriTemplate, getClient());
+    }
+
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public Cs(String baseUrl, Client _client) {
+        this(_client.target(baseUrl), _client);
     }
 
     protected Client getClient() {
         return this._client;
     }
 
-    private String getBaseUri() {
-        return _baseUrl;
+    private WebTarget getTarget() {
+        return _uriTemplate;
     }
 
     public Id id(String id) {
-        return new Id(getBaseUri(), getClient(), id);
+        return new Id(_id, Collections.singletonMap("id", ((Object) id)));
     }
 
 }
@@ -1,6 +1,8 @@
 
 package simple.resource.cs.id.bar;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.ws.rs.client.Client;
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.client.WebTarget;
@@ -11,29 +13,46 @@ import simple.exceptions.FooException;
 
 public class Bar {
 
-    private String _baseUrl;
+    private WebTarget _uriTemplate;
     private Client _client;
+    private Map<String, Object> _uriParams;
 
     public Bar() {
-        _baseUrl = null;
+        _uriTemplate = null;
         _client = null;
+        _uriParams = null;
     }
 
-    public Bar(String baseUrl, Client _client) {
-        _baseUrl = (baseUrl +"/bar");
+    public Bar(WebTarget uriTemplate, Client _client) {
+        _uriTemplate = uriTemplate.path("bar");
         this._client = _client;
     }
 
+    public Bar(Bar template, Map<String, Object> uriParams) {
+        _uriTemplate = template._uriTemplate;
+        _client = template._client;
+        _uriParams = uriParams;
+    }
+
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public Bar(String baseUrl, Client _client) {
+        this(new Bar(_client.target(baseUrl), _client), new HashMap<String, Object>());
+    }
+
     protected Client getClient() {
         return this._client;
     }
 
-    private String getBaseUri() {
-        return _baseUrl;
+    private WebTarget getTarget() {
+        return _uriTemplate.resolveTemplates(_uriParams);
     }
 
     public void post() {
-        WebTarget target = this._client.target(getBaseUri());
+        WebTarget target = getTarget();
         final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(MediaType.APPLICATION_JSON_TYPE);
         Response response = invocationBuilder.method("POST", ((Entity) null));
         if (response.getStatusInfo().getFamily()!= Family.SUCCESSFUL) {
@@ -0,0 +1,98 @@
+
+package streaming_methods.api;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+
+/**
+ * Writes the elements of a json array while it is read, so a request body is sent without holding all of them in memory.
+ * 
+ */
+public class EventsJsonArrayInputStream<T >
+    extends InputStream
+{
+
+    private final Iterator<T> elements;
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    private final SequenceWriter writer;
+    private byte[] bytes = new byte[ 0 ] ;
+    private int position;
+    private boolean finished;
+
+    public EventsJsonArrayInputStream(Iterator<T> elements, ObjectMapper mapper) {
+        this.elements = elements;
+        try {
+            this.writer = mapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE).writeValuesAsArray(buffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private boolean fill()
+        throws IOException
+    {
+        while (position == bytes.length) {
+            if (finished) {
+                return false;
+            }
+            buffer.reset();
+            while ((buffer.size() == 0)&&elements.hasNext()) {
+                writer.write(elements.next());
+            }
+            if (elements.hasNext()) {
+                writer.flush();
+            } else {
+                writer.close();
+                finished = true;
+            }
+            bytes = buffer.toByteArray();
+            position = 0;
+        }
+        return true;
+    }
+
+    @Override
+    public int read()
+        throws IOException
+    {
+        if (!fill()) {
+            return -1;
+        }
+        return (bytes[position ++]& 255);
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len)
+        throws IOException
+    {
+        if (len == 0) {
+            return  0;
+        }
+        if (!fill()) {
+            return -1;
+        }
+        final int count = Math.min(len, (bytes.length-position));
+        System.arraycopy(bytes, position, b, off, count);
+        position += count;
+        return count;
+    }
+
+    @Override
+    public void close()
+        throws IOException
+    {
+        if (!finished) {
+            finished = true;
+            writer.close();
+        }
+        position = bytes.length;
+    }
+
+}
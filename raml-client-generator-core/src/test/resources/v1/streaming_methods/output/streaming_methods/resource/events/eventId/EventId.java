@@ -0,0 +1,64 @@
+
+package streaming_methods.resource.events.eventId;
+
+import java.util.Collections;
+import java.util.Map;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.Status.Family;
+import streaming_methods.exceptions.EventsException;
+
+public class EventId {
+
+    private WebTarget _uriTemplate;
+    private Client _client;
+    private Map<String, Object> _uriParams;
+
+    public EventId() {
+        _uriTemplate = null;
+        _client = null;
+        _uriParams = null;
+    }
+
+    public EventId(WebTarget uriTemplate, Client _client) {
+        _uriTemplate = uriTemplate.path("{eventId}");
+        this._client = _client;
+    }
+
+    public EventId(EventId template, Map<String, Object> uriParams) {
+        _uriTemplate = template._uriTemplate;
+        _client = template._client;
+        _uriParams = uriParams;
+    }
+
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public EventId(String baseUrl, Client _client, String uriParam) {
+        this(new EventId(_client.target(baseUrl), _client), Collections.singletonMap("eventId", ((Object) uriParam)));
+    }
+
+    protected Client getClient() {
+        return this._client;
+    }
+
+    private WebTarget getTarget() {
+        return _uriTemplate.resolveTemplates(_uriParams);
+    }
+
+    public streaming_methods.model.Event get() {
+        WebTarget target = getTarget();
+        final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(MediaType.APPLICATION_JSON_TYPE);
+        Response response = invocationBuilder.method("GET");
+        if (response.getStatusInfo().getFamily()!= Family.SUCCESSFUL) {
+            Response.StatusType statusInfo = response.getStatusInfo();
+            throw new EventsException(statusInfo.getStatusCode(), statusInfo.getReasonPhrase(), response.getStringHeaders(), response);
+        }
+        return response.readEntity(streaming_methods.model.Event.class);
+    }
+
+}
@@ -3,22 +3,42 @@ package sub_resource_on_same_line.api;
 
 import javax.ws.rs.client.Client;
 import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.client.WebTarget;
 import sub_resource_on_same_line.resource.projects.Projects;
 
-public class DesignCenterProjectsServicewithsubresourceonsamelineClient {
+public class DesignCenterProjectsServicewithsubresourceonsamelineClient
+    implements AutoCloseable
+{
 
     private String _baseUrl;
+    private Client _client;
+    private boolean _ownsClient;
     public final Projects projects;
 
-    public DesignCenterProjectsServicewithsubresourceonsamelineClient(String baseUrl) {
+    /**
+     * When a client is given it is used as is and it is not closed by {@link #close()}, otherwise one is created.
+     * 
+     */
+    public DesignCenterProjectsServicewithsubresourceonsamelineClient(String baseUrl, Client client) {
         _baseUrl = baseUrl;
-        projects = new Projects(getBaseUri(), getClient());
+        _ownsClient = (client == null);
+        _client = (_ownsClient?getClient():client);
+        final WebTarget uriTemplate = _client.target(getBaseUri());
+        projects = new Projects(uriTemplate, _client);
+    }
+
+    public DesignCenterProjectsServicewithsubresourceonsamelineClient(String baseUrl) {
+        this(baseUrl, null);
     }
 
     public DesignCenterProjectsServicewithsubresourceonsamelineClient() {
         this("http://{host}:{port}/repository/api/v1");
     }
 
+    public DesignCenterProjectsServicewithsubresourceonsamelineClient(Client client) {
+        this("http://{host}:{port}/repository/api/v1", client);
+    }
+
     protected Client getClient() {
         return ClientBuilder.newClient();
     }
@@ -27,12 +47,31 @@ public class DesignCenterProjectsServicewithsubresourceonsamelineClient {
         return _baseUrl;
     }
 
+    /**
+     * Closes the client if it was created by this instance.
+     * 
+     */
+    @Override
+    public void close() {
+        if (_ownsClient) {
+            _client.close();
+        }
+    }
+
     public static DesignCenterProjectsServicewithsubresourceonsamelineClient create(String baseUrl) {
         return new DesignCenterProjectsServicewithsubresourceonsamelineClient(baseUrl);
     }
 
+    public static DesignCenterProjectsServicewithsubresourceonsamelineClient create(String baseUrl, Client client) {
+        return new DesignCenterProjectsServicewithsubresourceonsamelineClient(baseUrl, client);
+    }
+
     public static DesignCenterProjectsServicewithsubresourceonsamelineClient create() {
         return new DesignCenterProjectsServicewithsubresourceonsamelineClient();
     }
 
+    public static DesignCenterProjectsServicewithsubresourceonsamelineClient create(Client client) {
+        return new DesignCenterProjectsServicewithsubresourceonsamelineClient(client);
+    }
+
 }
@@ -11,25 +11,34 @@ import sub_resource_on_same_line.exceptions.DesignCenterProjectsServicewithsubre
 
 public class Rename {
 
-    private String _baseUrl;
+    private WebTarget _uriTemplate;
     private Client _client;
 
     public Rename() {
-        _baseUrl = null;
+        _uriTemplate = null;
         _client = null;
     }
 
-    public Rename(String baseUrl, Client _client) {
-        _baseUrl = (baseUrl +"/rename");
+    public Rename(WebTarget uriTemplate, Client _client) {
+        _uriTemplate = uriTemplate.path("rename");
         this._client = _client;
     }
 
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public Rename(String baseUrl, Client _client) {
+        this(_client.target(baseUrl), _client);
+    }
+
     protected Client getClient() {
         return this._client;
     }
 
-    private String getBaseUri() {
-        return _baseUrl;
+    private WebTarget getTarget() {
+        return _uriTemplate;
     }
 
     /**
@@ -37,7 +46,7 @@ public class Rename {
      * 
      */
     public void put(Object body) {
-        WebTarget target = this._client.target(getBaseUri());
+        WebTarget target = getTarget();
         final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(MediaType.APPLICATION_JSON_TYPE);
         Response response = invocationBuilder.method("PUT", Entity.json(body));
         if (response.getStatusInfo().getFamily()!= Family.SUCCESSFUL) {
@@ -3,11 +3,16 @@ package type_decl.api;
 
 import javax.ws.rs.client.Client;
 import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.client.WebTarget;
 import type_decl.resource.test.Test;
 
-public class MyapiClient {
+public class MyapiClient
+    implements AutoCloseable
+{
 
     private String _baseUrl;
+    private Client _client;
+    private boolean _ownsClient;
     public final Test test;
 
     public MyapiClient() {
@@ -15,9 +20,20 @@ public class MyapiClient {
         test = null;
     }
 
-    public MyapiClient(String baseUrl) {
+    /**
+     * When a client is given it is used as is and it is not closed by {@link #close()}, otherwise one is created.
+     * 
+     */
+    public MyapiClient(String baseUrl, Client client) {
         _baseUrl = baseUrl;
-        test = new Test(getBaseUri(), getClient());
+        _ownsClient = (client == null);
+        _client = (_ownsClient?getClient():client);
+        final WebTarget uriTemplate = _client.target(getBaseUri());
+        test = new Test(uriTemplate, _client);
+    }
+
+    public MyapiClient(String baseUrl) {
+        this(baseUrl, null);
     }
 
     protected Client getClient() {
@@ -28,8 +44,23 @@ public class MyapiClient {
         return _baseUrl;
     }
 
+    /**
+     * Closes the client if it was created by this instance.
+     * 
+     */
+    @Override
+    public void close() {
+        if (_ownsClient) {
+            _client.close();
+        }
+    }
+
     public static MyapiClient create(String baseUrl) {
         return new MyapiClient(baseUrl);
     }
 
+    public static MyapiClient create(String baseUrl, Client client) {
+        return new MyapiClient(baseUrl, client);
+    }
+
 }
@@ -10,29 +10,38 @@ import type_decl.exceptions.MyapiException;
 
 public class Test {
 
-    private String _baseUrl;
+    private WebTarget _uriTemplate;
     private Client _client;
 
     public Test() {
-        _baseUrl = null;
+        _uriTemplate = null;
         _client = null;
     }
 
-    public Test(String baseUrl, Client _client) {
-        _baseUrl = (baseUrl +"/test");
+    public Test(WebTarget uriTemplate, Client _client) {
+        _uriTemplate = uriTemplate.path("test");
         this._client = _client;
     }
 
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public Test(String baseUrl, Client _client) {
+        this(_client.target(baseUrl), _client);
+    }
+
     protected Client getClient() {
         return this._client;
     }
 
-    private String getBaseUri() {
-        return _baseUrl;
+    private WebTarget getTarget() {
+        return _uriTemplate;
     }
 
     public type_decl.model.MyType get() {
-        WebTarget target = this._client.target(getBaseUri());
+        WebTarget target = getTarget();
         final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(MediaType.APPLICATION_JSON_TYPE);
         Response response = invocationBuilder.method("GET");
         if (response.getStatusInfo().getFamily()!= Family.SUCCESSFUL) {
@@ -2,6 +2,7 @@
 package x-www-form-urlencoded.api;
 
 import javax.ws.rs.client.Client;
+import javax.ws.rs.client.WebTarget;
 import org.glassfish.jersey.client.ClientConfig;
 import org.glassfish.jersey.media.multipart.MultiPartFeature;
 import x-www-form-urlencoded.resource.sendFormData.SendFormData;
@@ -11,9 +12,13 @@ import x-www-form-urlencoded.resource.sendFormData.SendFormData;
  * Some content
  * 
  */
-public class TestsendformdataClient {
+public class TestsendformdataClient
+    implements AutoCloseable
+{
 
     private String _baseUrl;
+    private Client _client;
+    private boolean _ownsClient;
     public final SendFormData sendFormData;
 
     public TestsendformdataClient() {
@@ -21,9 +26,20 @@ public class TestsendformdataClient {
         sendFormData = null;
     }
 
-    public TestsendformdataClient(String baseUrl) {
+    /**
+     * When a client is given it is used as is and it is not closed by {@link #close()}, otherwise one is created.
+     * 
+     */
+    public TestsendformdataClient(String baseUrl, Client client) {
         _baseUrl = baseUrl;
-        sendFormData = new SendFormData(getBaseUri(), getClientWithMultipart());
+        _ownsClient = (client == null);
+        _client = (_ownsClient?getClientWithMultipart():client);
+        final WebTarget uriTemplate = _client.target(getBaseUri());
+        sendFormData = new SendFormData(uriTemplate, _client);
+    }
+
+    public TestsendformdataClient(String baseUrl) {
+        this(baseUrl, null);
     }
 
     protected Client getClient() {
@@ -41,8 +57,23 @@ public class TestsendformdataClient {
         return _baseUrl;
     }
 
+    /**
+     * Closes the client if it was created by this instance.
+     * 
+     */
+    @Override
+    public void close() {
+        if (_ownsClient) {
+            _client.close();
+        }
+    }
+
     public static TestsendformdataClient create(String baseUrl) {
         return new TestsendformdataClient(baseUrl);
     }
 
+    public static TestsendformdataClient create(String baseUrl, Client client) {
+        return new TestsendformdataClient(baseUrl, client);
+    }
+
 }
@@ -0,0 +1,77 @@
+
+package async_methods.api;
+
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.client.WebTarget;
+import async_methods.resource.orders.Orders;
+
+public class OrdersClient
+    implements AutoCloseable
+{
+
+    private String _baseUrl;
+    private Client _client;
+    private boolean _ownsClient;
+    public final Orders orders;
+
+    /**
+     * When a client is given it is used as is and it is not closed by {@link #close()}, otherwise one is created.
+     * 
+     */
+    public OrdersClient(String baseUrl, Client client) {
+        _baseUrl = baseUrl;
+        _ownsClient = (client == null);
+        _client = (_ownsClient?getClient():client);
+        final WebTarget uriTemplate = _client.target(getBaseUri());
+        orders = new Orders(uriTemplate, _client);
+    }
+
+    public OrdersClient(String baseUrl) {
+        this(baseUrl, null);
+    }
+
+    public OrdersClient() {
+        this("http://localhost:8081/api");
+    }
+
+    public OrdersClient(Client client) {
+        this("http://localhost:8081/api", client);
+    }
+
+    protected Client getClient() {
+        return ClientBuilder.newClient();
+    }
+
+    protected String getBaseUri() {
+        return _baseUrl;
+    }
+
+    /**
+     * Closes the client if it was created by this instance.
+     * 
+     */
+    @Override
+    public void close() {
+        if (_ownsClient) {
+            _client.close();
+        }
+    }
+
+    public static OrdersClient create(String baseUrl) {
+        return new OrdersClient(baseUrl);
+    }
+
+    public static OrdersClient create(String baseUrl, Client client) {
+        return new OrdersClient(baseUrl, client);
+    }
+
+    public static OrdersClient create() {
+        return new OrdersClient();
+    }
+
+    public static OrdersClient create(Client client) {
+        return new OrdersClient(client);
+    }
+
+}
@@ -0,0 +1,25 @@
+
+package async_methods.resource.orders.model;
+
+
+public class OrdersPOSTHeader {
+
+    private String _xRequestId;
+
+    public OrdersPOSTHeader() {
+    }
+
+    public OrdersPOSTHeader withXRequestId(String xRequestId) {
+        _xRequestId = xRequestId;
+        return this;
+    }
+
+    public void setXRequestId(String xRequestId) {
+        _xRequestId = xRequestId;
+    }
+
+    public String getXRequestId() {
+        return _xRequestId;
+    }
+
+}
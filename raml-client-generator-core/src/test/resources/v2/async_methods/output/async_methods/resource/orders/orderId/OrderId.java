@@ -0,0 +1,148 @@
+
+package async_methods.resource.orders.orderId;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.InvocationCallback;
+import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.Response;
+import async_methods.exceptions.OrdersException;
+import async_methods.responses.OrdersResponse;
+
+public class OrderId {
+
+    private WebTarget _uriTemplate;
+    private Client _client;
+    private Map<String, Object> _uriParams;
+
+    public OrderId() {
+        _uriTemplate = null;
+        _client = null;
+        _uriParams = null;
+    }
+
+    public OrderId(WebTarget uriTemplate, Client _client) {
+        _uriTemplate = uriTemplate.path("{orderId}");
+        this._client = _client;
+    }
+
+    public OrderId(OrderId template, Map<String, Object> uriParams) {
+        _uriTemplate = template._uriTemplate;
+        _client = template._client;
+        _uriParams = uriParams;
+    }
+
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public OrderId(String baseUrl, Client _client, String uriParam) {
+        this(new OrderId(_client.target(baseUrl), _client), Collections.singletonMap("orderId", ((Object) uriParam)));
+    }
+
+    protected Client getClient() {
+        return this._client;
+    }
+
+    private WebTarget getTarget() {
+        return _uriTemplate.resolveTemplates(_uriParams);
+    }
+
+    public OrdersResponse<async_methods.model.Order> get() {
+        WebTarget target = getTarget();
+        final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE);
+        Response response = invocationBuilder.method("GET");
+        if (response.getStatusInfo().getFamily()!= javax.ws.rs.core.Response.Status.Family.SUCCESSFUL) {
+            Response.StatusType statusInfo = response.getStatusInfo();
+            throw new OrdersException(statusInfo.getStatusCode(), statusInfo.getReasonPhrase(), response.getStringHeaders(), response);
+        }
+        OrdersResponse<async_methods.model.Order> apiResponse = new OrdersResponse<async_methods.model.Order>(response.readEntity(async_methods.model.Order.class), response.getStringHeaders(), response);
+        return apiResponse;
+    }
+
+    /**
+     * The returned future completes exceptionally with the same exceptions the blocking method throws.
+     * 
+     */
+    public CompletableFuture<OrdersResponse<async_methods.model.Order>> getAsync() {
+        WebTarget target = getTarget();
+        final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE);
+        final CompletableFuture<OrdersResponse<async_methods.model.Order>> future = new CompletableFuture<OrdersResponse<async_methods.model.Order>>();
+        invocationBuilder.async().method("GET", new InvocationCallback<Response>() {
+
+
+            @Override
+            public void completed(Response response) {
+                try {
+                    if (response.getStatusInfo().getFamily()!= javax.ws.rs.core.Response.Status.Family.SUCCESSFUL) {
+                        Response.StatusType statusInfo = response.getStatusInfo();
+                        future.completeExceptionally(new OrdersException(statusInfo.getStatusCode(), statusInfo.getReasonPhrase(), response.getStringHeaders(), response));
+                        return ;
+                    }
+                    future.complete(new OrdersResponse<async_methods.model.Order>(response.readEntity(async_methods.model.Order.class), response.getStringHeaders(), response));
+                } catch (RuntimeException e) {
+                    future.completeExceptionally(e);
+                }
+            }
+
+            @Override
+            public void failed(Throwable throwable) {
+                future.completeExceptionally(throwable);
+            }
+
+        }
+        );
+        return future;
+    }
+
+    public OrdersResponse<Void> delete() {
+        WebTarget target = getTarget();
+        final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE);
+        Response response = invocationBuilder.method("DELETE");
+        if (response.getStatusInfo().getFamily()!= javax.ws.rs.core.Response.Status.Family.SUCCESSFUL) {
+            Response.StatusType statusInfo = response.getStatusInfo();
+            throw new OrdersException(statusInfo.getStatusCode(), statusInfo.getReasonPhrase(), response.getStringHeaders(), response);
+        }
+        OrdersResponse<Void> apiResponse = new OrdersResponse<Void>(null, response.getStringHeaders(), response);
+        return apiResponse;
+    }
+
+    /**
+     * The returned future completes exceptionally with the same exceptions the blocking method throws.
+     * 
+     */
+    public CompletableFuture<OrdersResponse<Void>> deleteAsync() {
+        WebTarget target = getTarget();
+        final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE);
+        final CompletableFuture<OrdersResponse<Void>> future = new CompletableFuture<OrdersResponse<Void>>();
+        invocationBuilder.async().method("DELETE", new InvocationCallback<Response>() {
+
+
+            @Override
+            public void completed(Response response) {
+                try {
+                    if (response.getStatusInfo().getFamily()!= javax.ws.rs.core.Response.Status.Family.SUCCESSFUL) {
+                        Response.StatusType statusInfo = response.getStatusInfo();
+                        future.completeExceptionally(new OrdersException(statusInfo.getStatusCode(), statusInfo.getReasonPhrase(), response.getStringHeaders(), response));
+                        return ;
+                    }
+                    future.complete(new OrdersResponse<Void>(null, response.getStringHeaders(), response));
+                } catch (RuntimeException e) {
+                    future.completeExceptionally(e);
+                }
+            }
+
+            @Override
+            public void failed(Throwable throwable) {
+                future.completeExceptionally(throwable);
+            }
+
+        }
+        );
+        return future;
+    }
+
+}
@@ -0,0 +1,78 @@
+
+package compression.api;
+
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.client.WebTarget;
+import compression.resource.reports.Reports;
+import org.glassfish.jersey.client.ClientConfig;
+
+public class ReportsClient
+    implements AutoCloseable
+{
+
+    private String _baseUrl;
+    private Client _client;
+    private boolean _ownsClient;
+    public final Reports reports;
+
+    /**
+     * When a client is given it is used as is and it is not closed by {@link #close()}, otherwise one is created.
+     * 
+     */
+    public ReportsClient(String baseUrl, Client client) {
+        _baseUrl = baseUrl;
+        _ownsClient = (client == null);
+        _client = (_ownsClient?getClient():client);
+        final WebTarget uriTemplate = _client.target(getBaseUri());
+        reports = new Reports(uriTemplate, _client);
+    }
+
+    public ReportsClient(String baseUrl) {
+        this(baseUrl, null);
+    }
+
+    public ReportsClient() {
+        this("http://localhost:8081/api");
+    }
+
+    public ReportsClient(Client client) {
+        this("http://localhost:8081/api", client);
+    }
+
+    protected Client getClient() {
+        return ClientBuilder.newClient(new ClientConfig().register(new ReportsCompression(1024)));
+    }
+
+    protected String getBaseUri() {
+        return _baseUrl;
+    }
+
+    /**
+     * Closes the client if it was created by this instance.
+     * 
+     */
+    @Override
+    public void close() {
+        if (_ownsClient) {
+            _client.close();
+        }
+    }
+
+    public static ReportsClient create(String baseUrl) {
+        return new ReportsClient(baseUrl);
+    }
+
+    public static ReportsClient create(String baseUrl, Client client) {
+        return new ReportsClient(baseUrl, client);
+    }
+
+    public static ReportsClient create() {
+        return new ReportsClient();
+    }
+
+    public static ReportsClient create(Client client) {
+        return new ReportsClient(client);
+    }
+
+}
@@ -0,0 +1,164 @@
+
+package compression.api;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.Feature;
+import javax.ws.rs.core.FeatureContext;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+import org.glassfish.jersey.client.filter.EncodingFilter;
+import org.glassfish.jersey.message.DeflateEncoder;
+import org.glassfish.jersey.message.GZipEncoder;
+
+
+/**
+ * Asks for gzip or deflate encoded responses and decodes them, and sends the request bodies gzipped from a number of bytes on.
+ * 
+ */
+public final class ReportsCompression
+    implements Feature
+{
+
+    /**
+     * Property of a request overriding the number of bytes from which its body is gzipped, never when negative.
+     * 
+     */
+    public final static String REQUEST_THRESHOLD = "compression.api.ReportsCompression.requestThreshold";
+    private final int requestThreshold;
+
+    /**
+     * 
+     * @param requestThreshold
+     *     number of bytes from which the request bodies are gzipped, never when negative
+     */
+    public ReportsCompression(int requestThreshold) {
+        this.requestThreshold = requestThreshold;
+    }
+
+    @Override
+    public boolean configure(FeatureContext context) {
+        context.register(GZipEncoder.class);
+        context.register(DeflateEncoder.class);
+        context.register(EncodingFilter.class);
+        context.register(new ReportsCompression.RequestEncoder(requestThreshold));
+        return true;
+    }
+
+
+    /**
+     * Gzips the request bodies from the threshold of the request on, unless they are already encoded.
+     * 
+     */
+    private final static class RequestEncoder
+        implements WriterInterceptor
+    {
+
+        private final int requestThreshold;
+
+        private RequestEncoder(int requestThreshold) {
+            this.requestThreshold = requestThreshold;
+        }
+
+        @Override
+        public void aroundWriteTo(WriterInterceptorContext context)
+            throws IOException, WebApplicationException
+        {
+            final Object property = context.getProperty(REQUEST_THRESHOLD);
+            final int threshold = ((property instanceof Integer)?((Integer) property):requestThreshold);
+            if ((threshold< 0)||context.getHeaders().containsKey("Content-Encoding")) {
+                context.proceed();
+                return ;
+            }
+            final ReportsCompression.ThresholdOutputStream output = new ReportsCompression.ThresholdOutputStream(context, threshold);
+            context.setOutputStream(output);
+            context.proceed();
+            output.finish();
+        }
+
+    }
+
+
+    /**
+     * Holds the body until it reaches the threshold and then sends it gzipped, a shorter body is sent as it is.
+     * 
+     */
+    private final static class ThresholdOutputStream
+        extends OutputStream
+    {
+
+        private final WriterInterceptorContext context;
+        private final OutputStream target;
+        private final int threshold;
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        private OutputStream output;
+
+        private ThresholdOutputStream(WriterInterceptorContext context, int threshold) {
+            this.context = context;
+            this.target = context.getOutputStream();
+            this.threshold = threshold;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len)
+            throws IOException
+        {
+            if (output == null) {
+                if ((buffer.size()+ len)<threshold) {
+                    buffer.write(b, off, len);
+                    return ;
+                }
+                context.getHeaders().putSingle("Content-Encoding", "gzip");
+                output = new GZIPOutputStream(target);
+                buffer.writeTo(output);
+            }
+            output.write(b, off, len);
+        }
+
+        @Override
+        public void write(int b)
+            throws IOException
+        {
+            write(new byte[] {((byte) b)}, 0, 1);
+        }
+
+        @Override
+        public void flush()
+            throws IOException
+        {
+            if (output!= null) {
+                output.flush();
+            }
+        }
+
+        /**
+         * Sends what is held or the end of the gzipped body, it can be called more than once.
+         * 
+         */
+        private void finish()
+            throws IOException
+        {
+            if (output == null) {
+                buffer.writeTo(target);
+                output = target;
+            } else {
+                if (output instanceof GZIPOutputStream) {
+                    ((GZIPOutputStream) output).finish();
+                }
+            }
+        }
+
+        @Override
+        public void close()
+            throws IOException
+        {
+            finish();
+            output.close();
+        }
+
+    }
+
+}
@@ -0,0 +1,140 @@
+
+package compression.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({
+    "name",
+    "lines"
+})
+public class Report {
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("name")
+    private String name;
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("lines")
+    private List<String> lines = new ArrayList<String>();
+
+    /**
+     * No args constructor for use in serialization
+     * 
+     */
+    public Report() {
+    }
+
+    /**
+     * 
+     * @param name
+     * @param lines
+     */
+    public Report(String name, List<String> lines) {
+        super();
+        this.name = name;
+        this.lines = lines;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("name")
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("name")
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Report withName(String name) {
+        this.name = name;
+        return this;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("lines")
+    public List<String> getLines() {
+        return lines;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("lines")
+    public void setLines(List<String> lines) {
+        this.lines = lines;
+    }
+
+    public Report withLines(List<String> lines) {
+        this.lines = lines;
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(Report.class.getName()).append('@').append(Integer.toHexString(System.identityHashCode(this))).append('[');
+        sb.append("name");
+        sb.append('=');
+        sb.append(((this.name == null)?"<null>":this.name));
+        sb.append(',');
+        sb.append("lines");
+        sb.append('=');
+        sb.append(((this.lines == null)?"<null>":this.lines));
+        sb.append(',');
+        if (sb.charAt((sb.length()- 1)) == ',') {
+            sb.setCharAt((sb.length()- 1), ']');
+        } else {
+            sb.append(']');
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        result = ((result* 31)+((this.name == null)? 0 :this.name.hashCode()));
+        result = ((result* 31)+((this.lines == null)? 0 :this.lines.hashCode()));
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if ((other instanceof Report) == false) {
+            return false;
+        }
+        Report rhs = ((Report) other);
+        return (((this.name == rhs.name)||((this.name!= null)&&this.name.equals(rhs.name)))&&((this.lines == rhs.lines)||((this.lines!= null)&&this.lines.equals(rhs.lines))));
+    }
+
+}
@@ -0,0 +1,84 @@
+
+package compression.resource.reports;
+
+import java.util.Collections;
+import java.util.List;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.Response;
+import compression.api.ReportsCompression;
+import compression.exceptions.ReportsException;
+import compression.resource.reports.name.Name;
+import compression.responses.ReportsResponse;
+
+public class Reports {
+
+    private WebTarget _uriTemplate;
+    private Client _client;
+    private final Name _name;
+
+    public Reports() {
+        _uriTemplate = null;
+        _client = null;
+        _name = null;
+    }
+
+    public Reports(WebTarget uriTemplate, Client _client) {
+        _uriTemplate = uriTemplate.path("reports");
+        this._client = _client;
+        _name = new Name(_uriTemplate, getClient());
+    }
+
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public Reports(String baseUrl, Client _client) {
+        this(_client.target(baseUrl), _client);
+    }
+
+    protected Client getClient() {
+        return this._client;
+    }
+
+    private WebTarget getTarget() {
+        return _uriTemplate;
+    }
+
+    public ReportsResponse<List<compression.resource.reports.model.Report>> get() {
+        WebTarget target = getTarget();
+        final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE);
+        Response response = invocationBuilder.method("GET");
+        if (response.getStatusInfo().getFamily()!= javax.ws.rs.core.Response.Status.Family.SUCCESSFUL) {
+            Response.StatusType statusInfo = response.getStatusInfo();
+            throw new ReportsException(statusInfo.getStatusCode(), statusInfo.getReasonPhrase(), response.getStringHeaders(), response);
+        }
+        ReportsResponse<List<compression.resource.reports.model.Report>> apiResponse = new ReportsResponse<List<compression.resource.reports.model.Report>>(response.readEntity((
+new javax.ws.rs.core.GenericType<java.util.List<compression.resource.reports.model.Report>>() {})), response.getStringHeaders(), response);
+        return apiResponse;
+    }
+
+    /**
+     * Stores a report, always sent gzipped
+     * 
+     */
+    public ReportsResponse<compression.model.Report> post(compression.model.Report body) {
+        WebTarget target = getTarget();
+        final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE);
+        invocationBuilder.property(ReportsCompression.REQUEST_THRESHOLD, 0);
+        Response response = invocationBuilder.method("POST", Entity.json(body));
+        if (response.getStatusInfo().getFamily()!= javax.ws.rs.core.Response.Status.Family.SUCCESSFUL) {
+            Response.StatusType statusInfo = response.getStatusInfo();
+            throw new ReportsException(statusInfo.getStatusCode(), statusInfo.getReasonPhrase(), response.getStringHeaders(), response);
+        }
+        ReportsResponse<compression.model.Report> apiResponse = new ReportsResponse<compression.model.Report>(response.readEntity(compression.model.Report.class), response.getStringHeaders(), response);
+        return apiResponse;
+    }
+
+    public Name name(String name) {
+        return new Name(_name, Collections.singletonMap("name", ((Object) name)));
+    }
+
+}
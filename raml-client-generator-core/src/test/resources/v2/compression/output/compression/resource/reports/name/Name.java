@@ -0,0 +1,73 @@
+
+package compression.resource.reports.name;
+
+import java.util.Collections;
+import java.util.Map;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.Status.Family;
+import compression.exceptions.ReportsException;
+import compression.model.Report;
+import compression.resource.reports.name.notes.Notes;
+import compression.responses.ReportsResponse;
+
+public class Name {
+
+    private WebTarget _uriTemplate;
+    private Client _client;
+    private Map<String, Object> _uriParams;
+    public final Notes notes;
+
+    public Name() {
+        _uriTemplate = null;
+        _client = null;
+        _uriParams = null;
+        notes = null;
+    }
+
+    public Name(WebTarget uriTemplate, Client _client) {
+        _uriTemplate = uriTemplate.path("{name}");
+        this._client = _client;
+        notes = new Notes(_uriTemplate, getClient());
+    }
+
+    public Name(Name template, Map<String, Object> uriParams) {
+        _uriTemplate = template._uriTemplate;
+        _client = template._client;
+        _uriParams = uriParams;
+        notes = new Notes(template.notes, _uriParams);
+    }
+
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public Name(String baseUrl, Client _client, String uriParam) {
+        this(new Name(_client.target(baseUrl), _client), Collections.singletonMap("name", ((Object) uriParam)));
+    }
+
+    protected Client getClient() {
+        return this._client;
+    }
+
+    private WebTarget getTarget() {
+        return _uriTemplate.resolveTemplates(_uriParams);
+    }
+
+    public ReportsResponse<Void> put(Report body) {
+        WebTarget target = getTarget();
+        final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(MediaType.APPLICATION_JSON_TYPE);
+        Response response = invocationBuilder.method("PUT", Entity.json(body));
+        if (response.getStatusInfo().getFamily()!= Family.SUCCESSFUL) {
+            Response.StatusType statusInfo = response.getStatusInfo();
+            throw new ReportsException(statusInfo.getStatusCode(), statusInfo.getReasonPhrase(), response.getStringHeaders(), response);
+        }
+        ReportsResponse<Void> apiResponse = new ReportsResponse<Void>(null, response.getStringHeaders(), response);
+        return apiResponse;
+    }
+
+}
@@ -0,0 +1,73 @@
+
+package compression.resource.reports.name.notes;
+
+import java.util.HashMap;
+import java.util.Map;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.Status.Family;
+import compression.api.ReportsCompression;
+import compression.exceptions.ReportsException;
+import compression.responses.ReportsResponse;
+
+public class Notes {
+
+    private WebTarget _uriTemplate;
+    private Client _client;
+    private Map<String, Object> _uriParams;
+
+    public Notes() {
+        _uriTemplate = null;
+        _client = null;
+        _uriParams = null;
+    }
+
+    public Notes(WebTarget uriTemplate, Client _client) {
+        _uriTemplate = uriTemplate.path("notes");
+        this._client = _client;
+    }
+
+    public Notes(Notes template, Map<String, Object> uriParams) {
+        _uriTemplate = template._uriTemplate;
+        _client = template._client;
+        _uriParams = uriParams;
+    }
+
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public Notes(String baseUrl, Client _client) {
+        this(new Notes(_client.target(baseUrl), _client), new HashMap<String, Object>());
+    }
+
+    protected Client getClient() {
+        return this._client;
+    }
+
+    private WebTarget getTarget() {
+        return _uriTemplate.resolveTemplates(_uriParams);
+    }
+
+    /**
+     * Replaces the notes of the report, never sent gzipped
+     * 
+     */
+    public ReportsResponse<Void> put(String body) {
+        WebTarget target = getTarget();
+        final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(MediaType.APPLICATION_JSON_TYPE);
+        invocationBuilder.property(ReportsCompression.REQUEST_THRESHOLD, -1);
+        Response response = invocationBuilder.method("PUT", Entity.text(body));
+        if (response.getStatusInfo().getFamily()!= Family.SUCCESSFUL) {
+            Response.StatusType statusInfo = response.getStatusInfo();
+            throw new ReportsException(statusInfo.getStatusCode(), statusInfo.getReasonPhrase(), response.getStringHeaders(), response);
+        }
+        ReportsResponse<Void> apiResponse = new ReportsResponse<Void>(null, response.getStringHeaders(), response);
+        return apiResponse;
+    }
+
+}
@@ -0,0 +1,114 @@
+
+package connection_pool.api;
+
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.WebTarget;
+import connection_pool.resource.imports.Imports;
+import connection_pool.resource.items.Items;
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.media.multipart.MultiPartFeature;
+
+public class InventoryClient
+    implements AutoCloseable
+{
+
+    private String _baseUrl;
+    private Client _client;
+    private boolean _ownsClient;
+    private final InventoryConnectionPoolConfig _connectionPoolConfig;
+    public final Items items;
+    public final Imports imports;
+
+    private InventoryClient(String baseUrl, Client client, InventoryConnectionPoolConfig connectionPoolConfig) {
+        _connectionPoolConfig = connectionPoolConfig;
+        _baseUrl = baseUrl;
+        _ownsClient = (client == null);
+        _client = (_ownsClient?getClientWithMultipart():client);
+        final WebTarget uriTemplate = _client.target(getBaseUri());
+        items = new Items(uriTemplate, _client);
+        imports = new Imports(uriTemplate, _client);
+    }
+
+    public InventoryClient(String baseUrl) {
+        this(baseUrl, new InventoryConnectionPoolConfig());
+    }
+
+    /**
+     * When a client is given it is used as is and it is not closed by {@link #close()}, otherwise one is created.
+     * 
+     */
+    public InventoryClient(String baseUrl, Client client) {
+        this(baseUrl, client, null);
+    }
+
+    /**
+     * Creates a client with a connection pool configured with the given settings.
+     * 
+     */
+    public InventoryClient(String baseUrl, InventoryConnectionPoolConfig connectionPoolConfig) {
+        this(baseUrl, null, connectionPoolConfig);
+    }
+
+    public InventoryClient() {
+        this("http://localhost:8081/api");
+    }
+
+    public InventoryClient(Client client) {
+        this("http://localhost:8081/api", client);
+    }
+
+    /**
+     * The settings of the connection pool, the pool sizes and the idle timeout can be tuned at runtime. Null when the client was given, its pool is configured by whoever built it.
+     * 
+     */
+    public InventoryConnectionPoolConfig getConnectionPoolConfig() {
+        return _connectionPoolConfig;
+    }
+
+    protected Client getClient() {
+        return javax.ws.rs.client.ClientBuilder.newClient(_connectionPoolConfig.toClientConfig());
+    }
+
+    protected Client getClientWithMultipart() {
+        ClientConfig cc = _connectionPoolConfig.toClientConfig();
+        cc.register(MultiPartFeature.class);
+        javax.ws.rs.client.ClientBuilder clientBuilder = javax.ws.rs.client.ClientBuilder.newBuilder();
+        return clientBuilder.withConfig(cc).build();
+    }
+
+    protected String getBaseUri() {
+        return _baseUrl;
+    }
+
+    /**
+     * Closes the client if it was created by this instance.
+     * 
+     */
+    @Override
+    public void close() {
+        if (_ownsClient) {
+            _client.close();
+        }
+    }
+
+    public static InventoryClient create(String baseUrl) {
+        return new InventoryClient(baseUrl);
+    }
+
+    public static InventoryClient create(String baseUrl, Client client) {
+        return new InventoryClient(baseUrl, client);
+    }
+
+    public static InventoryClient create(String baseUrl, InventoryConnectionPoolConfig connectionPoolConfig) {
+        return new InventoryClient(baseUrl, connectionPoolConfig);
+    }
+
+    public static InventoryClient create() {
+        return new InventoryClient();
+    }
+
+    public static InventoryClient create(Client client) {
+        return new InventoryClient(client);
+    }
+
+}
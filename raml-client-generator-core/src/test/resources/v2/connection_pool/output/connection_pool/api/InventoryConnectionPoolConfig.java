@@ -0,0 +1,152 @@
+
+package connection_pool.api;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.glassfish.jersey.apache.connector.ApacheClientProperties;
+import org.glassfish.jersey.apache.connector.ApacheConnectorProvider;
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.client.ClientLifecycleListener;
+import org.glassfish.jersey.client.ClientProperties;
+
+
+/**
+ * Settings of the connection pool of the client. The pool sizes and the idle timeout can be changed at runtime, the other settings apply to the clients built afterwards.
+ * 
+ */
+public class InventoryConnectionPoolConfig {
+
+    private final static long EVICTION_INTERVAL = 5000L;
+    private volatile int maxTotalConnections = 100;
+    private volatile int maxConnectionsPerRoute = 20;
+    private volatile long idleConnectionTimeout = 10000L;
+    private volatile long keepAliveTimeout = -1L;
+    private volatile int connectTimeout = 2000;
+    private volatile int readTimeout = 5000;
+    private volatile PoolingHttpClientConnectionManager connectionManager;
+
+    public int getMaxTotalConnections() {
+        return maxTotalConnections;
+    }
+
+    public void setMaxTotalConnections(int maxTotalConnections) {
+        this.maxTotalConnections = maxTotalConnections;
+        if (connectionManager!= null) {
+            connectionManager.setMaxTotal(maxTotalConnections);
+        }
+    }
+
+    public int getMaxConnectionsPerRoute() {
+        return maxConnectionsPerRoute;
+    }
+
+    public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+        if (connectionManager!= null) {
+            connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+        }
+    }
+
+    public long getIdleConnectionTimeout() {
+        return idleConnectionTimeout;
+    }
+
+    public void setIdleConnectionTimeout(long idleConnectionTimeout) {
+        this.idleConnectionTimeout = idleConnectionTimeout;
+    }
+
+    public long getKeepAliveTimeout() {
+        return keepAliveTimeout;
+    }
+
+    public void setKeepAliveTimeout(long keepAliveTimeout) {
+        this.keepAliveTimeout = keepAliveTimeout;
+    }
+
+    public int getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public void setConnectTimeout(int connectTimeout) {
+        this.connectTimeout = connectTimeout;
+    }
+
+    public int getReadTimeout() {
+        return readTimeout;
+    }
+
+    public void setReadTimeout(int readTimeout) {
+        this.readTimeout = readTimeout;
+    }
+
+    /**
+     * Builds the configuration of a client using a new connection pool with these settings. The idle connections of the pool are evicted in the background until the client is closed.
+     * 
+     */
+    public ClientConfig toClientConfig() {
+        final PoolingHttpClientConnectionManager manager = new PoolingHttpClientConnectionManager(keepAliveTimeout, TimeUnit.MILLISECONDS);
+        manager.setMaxTotal(maxTotalConnections);
+        manager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+        connectionManager = manager;
+        final ClientConfig clientConfig = new ClientConfig();
+        clientConfig.connectorProvider(new ApacheConnectorProvider());
+        clientConfig.property(ApacheClientProperties.CONNECTION_MANAGER, manager);
+        clientConfig.property(ClientProperties.CONNECT_TIMEOUT, connectTimeout);
+        clientConfig.property(ClientProperties.READ_TIMEOUT, readTimeout);
+        clientConfig.register(new InventoryConnectionPoolConfig.ConnectionEvictor(manager));
+        return clientConfig;
+    }
+
+    private class ConnectionEvictor
+        implements ClientLifecycleListener
+    {
+
+        private final PoolingHttpClientConnectionManager manager;
+        private ScheduledExecutorService executor;
+
+        ConnectionEvictor(PoolingHttpClientConnectionManager manager) {
+            this.manager = manager;
+        }
+
+        @Override
+        public void onInit() {
+            executor = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+
+
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    final Thread thread = new Thread(runnable, "InventoryConnectionPoolConfig-evictor");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+
+            }
+            );
+            executor.scheduleWithFixedDelay(new Runnable() {
+
+
+                @Override
+                public void run() {
+                    manager.closeExpiredConnections();
+                    if (idleConnectionTimeout > 0) {
+                        manager.closeIdleConnections(idleConnectionTimeout, TimeUnit.MILLISECONDS);
+                    }
+                }
+
+            }
+            , EVICTION_INTERVAL, EVICTION_INTERVAL, TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public void onClose() {
+            if (executor!= null) {
+                executor.shutdownNow();
+            }
+        }
+
+    }
+
+}
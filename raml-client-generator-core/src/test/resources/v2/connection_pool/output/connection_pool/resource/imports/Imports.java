@@ -0,0 +1,60 @@
+
+package connection_pool.resource.imports;
+
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.Status.Family;
+import connection_pool.exceptions.InventoryException;
+import connection_pool.resource.imports.model.ImportsPOSTBody;
+import connection_pool.responses.InventoryResponse;
+import org.glassfish.jersey.media.multipart.FormDataMultiPart;
+
+public class Imports {
+
+    private WebTarget _uriTemplate;
+    private Client _client;
+
+    public Imports() {
+        _uriTemplate = null;
+        _client = null;
+    }
+
+    public Imports(WebTarget uriTemplate, Client _client) {
+        _uriTemplate = uriTemplate.path("imports");
+        this._client = _client;
+    }
+
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public Imports(String baseUrl, Client _client) {
+        this(_client.target(baseUrl), _client);
+    }
+
+    protected Client getClient() {
+        return this._client;
+    }
+
+    private WebTarget getTarget() {
+        return _uriTemplate;
+    }
+
+    public InventoryResponse<Void> post(ImportsPOSTBody body) {
+        WebTarget target = getTarget();
+        final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(MediaType.APPLICATION_JSON_TYPE);
+        FormDataMultiPart multiPart = new FormDataMultiPart();
+        Response response = invocationBuilder.method("POST", Entity.entity(multiPart, multiPart.getMediaType()));
+        if (response.getStatusInfo().getFamily()!= Family.SUCCESSFUL) {
+            Response.StatusType statusInfo = response.getStatusInfo();
+            throw new InventoryException(statusInfo.getStatusCode(), statusInfo.getReasonPhrase(), response.getStringHeaders(), response);
+        }
+        InventoryResponse<Void> apiResponse = new InventoryResponse<Void>(null, response.getStringHeaders(), response);
+        return apiResponse;
+    }
+
+}
@@ -0,0 +1,11 @@
+
+package connection_pool.resource.imports.model;
+
+
+public class ImportsPOSTBody {
+
+
+    public ImportsPOSTBody() {
+    }
+
+}
@@ -0,0 +1,68 @@
+
+package connection_pool.resource.items;
+
+import java.util.Collections;
+import java.util.List;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.Status.Family;
+import connection_pool.exceptions.InventoryException;
+import connection_pool.resource.items.model.ItemsGETResponseBody;
+import connection_pool.resource.items.sku.Sku;
+import connection_pool.responses.InventoryResponse;
+
+public class Items {
+
+    private WebTarget _uriTemplate;
+    private Client _client;
+    private final Sku _sku;
+
+    public Items() {
+        _uriTemplate = null;
+        _client = null;
+        _sku = null;
+    }
+
+    public Items(WebTarget uriTemplate, Client _client) {
+        _uriTemplate = uriTemplate.path("items");
+        this._client = _client;
+        _sku = new Sku(_uriTemplate, getClient());
+    }
+
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public Items(String baseUrl, Client _client) {
+        this(_client.target(baseUrl), _client);
+    }
+
+    protected Client getClient() {
+        return this._client;
+    }
+
+    private WebTarget getTarget() {
+        return _uriTemplate;
+    }
+
+    public InventoryResponse<List<ItemsGETResponseBody>> get() {
+        WebTarget target = getTarget();
+        final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(MediaType.APPLICATION_JSON_TYPE);
+        Response response = invocationBuilder.method("GET");
+        if (response.getStatusInfo().getFamily()!= Family.SUCCESSFUL) {
+            Response.StatusType statusInfo = response.getStatusInfo();
+            throw new InventoryException(statusInfo.getStatusCode(), statusInfo.getReasonPhrase(), response.getStringHeaders(), response);
+        }
+        InventoryResponse<List<ItemsGETResponseBody>> apiResponse = new InventoryResponse<List<ItemsGETResponseBody>>(response.readEntity((
+new javax.ws.rs.core.GenericType<java.util.List<connection_pool.resource.items.model.ItemsGETResponseBody>>() {})), response.getStringHeaders(), response);
+        return apiResponse;
+    }
+
+    public Sku sku(String sku) {
+        return new Sku(_sku, Collections.singletonMap("sku", ((Object) sku)));
+    }
+
+}
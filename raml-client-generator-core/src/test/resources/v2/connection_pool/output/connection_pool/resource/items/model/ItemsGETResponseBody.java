@@ -0,0 +1,138 @@
+
+package connection_pool.resource.items.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({
+    "sku",
+    "quantity"
+})
+public class ItemsGETResponseBody {
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("sku")
+    private String sku;
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("quantity")
+    private Long quantity;
+
+    /**
+     * No args constructor for use in serialization
+     * 
+     */
+    public ItemsGETResponseBody() {
+    }
+
+    /**
+     * 
+     * @param quantity
+     * @param sku
+     */
+    public ItemsGETResponseBody(String sku, Long quantity) {
+        super();
+        this.sku = sku;
+        this.quantity = quantity;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("sku")
+    public String getSku() {
+        return sku;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("sku")
+    public void setSku(String sku) {
+        this.sku = sku;
+    }
+
+    public ItemsGETResponseBody withSku(String sku) {
+        this.sku = sku;
+        return this;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("quantity")
+    public Long getQuantity() {
+        return quantity;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("quantity")
+    public void setQuantity(Long quantity) {
+        this.quantity = quantity;
+    }
+
+    public ItemsGETResponseBody withQuantity(Long quantity) {
+        this.quantity = quantity;
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(ItemsGETResponseBody.class.getName()).append('@').append(Integer.toHexString(System.identityHashCode(this))).append('[');
+        sb.append("sku");
+        sb.append('=');
+        sb.append(((this.sku == null)?"<null>":this.sku));
+        sb.append(',');
+        sb.append("quantity");
+        sb.append('=');
+        sb.append(((this.quantity == null)?"<null>":this.quantity));
+        sb.append(',');
+        if (sb.charAt((sb.length()- 1)) == ',') {
+            sb.setCharAt((sb.length()- 1), ']');
+        } else {
+            sb.append(']');
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        result = ((result* 31)+((this.sku == null)? 0 :this.sku.hashCode()));
+        result = ((result* 31)+((this.quantity == null)? 0 :this.quantity.hashCode()));
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if ((other instanceof ItemsGETResponseBody) == false) {
+            return false;
+        }
+        ItemsGETResponseBody rhs = ((ItemsGETResponseBody) other);
+        return (((this.sku == rhs.sku)||((this.sku!= null)&&this.sku.equals(rhs.sku)))&&((this.quantity == rhs.quantity)||((this.quantity!= null)&&this.quantity.equals(rhs.quantity))));
+    }
+
+}
@@ -0,0 +1,66 @@
+
+package connection_pool.resource.items.sku;
+
+import java.util.Collections;
+import java.util.Map;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.Status.Family;
+import connection_pool.exceptions.InventoryException;
+import connection_pool.responses.InventoryResponse;
+
+public class Sku {
+
+    private WebTarget _uriTemplate;
+    private Client _client;
+    private Map<String, Object> _uriParams;
+
+    public Sku() {
+        _uriTemplate = null;
+        _client = null;
+        _uriParams = null;
+    }
+
+    public Sku(WebTarget uriTemplate, Client _client) {
+        _uriTemplate = uriTemplate.path("{sku}");
+        this._client = _client;
+    }
+
+    public Sku(Sku template, Map<String, Object> uriParams) {
+        _uriTemplate = template._uriTemplate;
+        _client = template._client;
+        _uriParams = uriParams;
+    }
+
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public Sku(String baseUrl, Client _client, String uriParam) {
+        this(new Sku(_client.target(baseUrl), _client), Collections.singletonMap("sku", ((Object) uriParam)));
+    }
+
+    protected Client getClient() {
+        return this._client;
+    }
+
+    private WebTarget getTarget() {
+        return _uriTemplate.resolveTemplates(_uriParams);
+    }
+
+    public InventoryResponse<connection_pool.resource.items.sku.model.SkuGETResponseBody> get() {
+        WebTarget target = getTarget();
+        final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(MediaType.APPLICATION_JSON_TYPE);
+        Response response = invocationBuilder.method("GET");
+        if (response.getStatusInfo().getFamily()!= Family.SUCCESSFUL) {
+            Response.StatusType statusInfo = response.getStatusInfo();
+            throw new InventoryException(statusInfo.getStatusCode(), statusInfo.getReasonPhrase(), response.getStringHeaders(), response);
+        }
+        InventoryResponse<connection_pool.resource.items.sku.model.SkuGETResponseBody> apiResponse = new InventoryResponse<connection_pool.resource.items.sku.model.SkuGETResponseBody>(response.readEntity(connection_pool.resource.items.sku.model.SkuGETResponseBody.class), response.getStringHeaders(), response);
+        return apiResponse;
+    }
+
+}
@@ -0,0 +1,80 @@
+
+package deduplicate_types.api;
+
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.client.WebTarget;
+import deduplicate_types.resource.login.Login;
+import deduplicate_types.resource.users.Users;
+
+public class DeduplicateTypesClient
+    implements AutoCloseable
+{
+
+    private String _baseUrl;
+    private Client _client;
+    private boolean _ownsClient;
+    public final Login login;
+    public final Users users;
+
+    /**
+     * When a client is given it is used as is and it is not closed by {@link #close()}, otherwise one is created.
+     * 
+     */
+    public DeduplicateTypesClient(String baseUrl, Client client) {
+        _baseUrl = baseUrl;
+        _ownsClient = (client == null);
+        _client = (_ownsClient?getClient():client);
+        final WebTarget uriTemplate = _client.target(getBaseUri());
+        login = new Login(uriTemplate, _client);
+        users = new Users(uriTemplate, _client);
+    }
+
+    public DeduplicateTypesClient(String baseUrl) {
+        this(baseUrl, null);
+    }
+
+    public DeduplicateTypesClient() {
+        this("http://localhost/api");
+    }
+
+    public DeduplicateTypesClient(Client client) {
+        this("http://localhost/api", client);
+    }
+
+    protected Client getClient() {
+        return ClientBuilder.newClient();
+    }
+
+    protected String getBaseUri() {
+        return _baseUrl;
+    }
+
+    /**
+     * Closes the client if it was created by this instance.
+     * 
+     */
+    @Override
+    public void close() {
+        if (_ownsClient) {
+            _client.close();
+        }
+    }
+
+    public static DeduplicateTypesClient create(String baseUrl) {
+        return new DeduplicateTypesClient(baseUrl);
+    }
+
+    public static DeduplicateTypesClient create(String baseUrl, Client client) {
+        return new DeduplicateTypesClient(baseUrl, client);
+    }
+
+    public static DeduplicateTypesClient create() {
+        return new DeduplicateTypesClient();
+    }
+
+    public static DeduplicateTypesClient create(Client client) {
+        return new DeduplicateTypesClient(client);
+    }
+
+}
@@ -0,0 +1,68 @@
+
+package deduplicate_types.resource.login;
+
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.Response;
+import deduplicate_types.exceptions.DeduplicateTypesException;
+import deduplicate_types.resource.login.model.LoginPOSTBody;
+import deduplicate_types.responses.DeduplicateTypesResponse;
+
+public class Login {
+
+    private WebTarget _uriTemplate;
+    private Client _client;
+
+    public Login() {
+        _uriTemplate = null;
+        _client = null;
+    }
+
+    public Login(WebTarget uriTemplate, Client _client) {
+        _uriTemplate = uriTemplate.path("login");
+        this._client = _client;
+    }
+
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public Login(String baseUrl, Client _client) {
+        this(_client.target(baseUrl), _client);
+    }
+
+    protected Client getClient() {
+        return this._client;
+    }
+
+    private WebTarget getTarget() {
+        return _uriTemplate;
+    }
+
+    public DeduplicateTypesResponse<deduplicate_types.resource.login.model.LoginGETResponseBody> get() {
+        WebTarget target = getTarget();
+        final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE);
+        Response response = invocationBuilder.method("GET");
+        if (response.getStatusInfo().getFamily()!= javax.ws.rs.core.Response.Status.Family.SUCCESSFUL) {
+            Response.StatusType statusInfo = response.getStatusInfo();
+            throw new DeduplicateTypesException(statusInfo.getStatusCode(), statusInfo.getReasonPhrase(), response.getStringHeaders(), response);
+        }
+        DeduplicateTypesResponse<deduplicate_types.resource.login.model.LoginGETResponseBody> apiResponse = new DeduplicateTypesResponse<deduplicate_types.resource.login.model.LoginGETResponseBody>(response.readEntity(deduplicate_types.resource.login.model.LoginGETResponseBody.class), response.getStringHeaders(), response);
+        return apiResponse;
+    }
+
+    public DeduplicateTypesResponse<deduplicate_types.resource.login.model.LoginGETResponseBody> post(LoginPOSTBody body) {
+        WebTarget target = getTarget();
+        final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE);
+        Response response = invocationBuilder.method("POST", Entity.json(body));
+        if (response.getStatusInfo().getFamily()!= javax.ws.rs.core.Response.Status.Family.SUCCESSFUL) {
+            Response.StatusType statusInfo = response.getStatusInfo();
+            throw new DeduplicateTypesException(statusInfo.getStatusCode(), statusInfo.getReasonPhrase(), response.getStringHeaders(), response);
+        }
+        DeduplicateTypesResponse<deduplicate_types.resource.login.model.LoginGETResponseBody> apiResponse = new DeduplicateTypesResponse<deduplicate_types.resource.login.model.LoginGETResponseBody>(response.readEntity(deduplicate_types.resource.login.model.LoginGETResponseBody.class), response.getStringHeaders(), response);
+        return apiResponse;
+    }
+
+}
@@ -0,0 +1,127 @@
+
+package deduplicate_types.resource.login.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+
+/**
+ * The logged user
+ * 
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({
+    "user",
+    "token"
+})
+public class LoginGETResponseBody {
+
+    /**
+     * User name
+     * 
+     */
+    @JsonProperty("user")
+    @JsonPropertyDescription("User name")
+    private String user;
+    @JsonProperty("token")
+    private String token;
+
+    /**
+     * No args constructor for use in serialization
+     * 
+     */
+    public LoginGETResponseBody() {
+    }
+
+    /**
+     * 
+     * @param user
+     * @param token
+     */
+    public LoginGETResponseBody(String user, String token) {
+        super();
+        this.user = user;
+        this.token = token;
+    }
+
+    /**
+     * User name
+     * 
+     */
+    @JsonProperty("user")
+    public String getUser() {
+        return user;
+    }
+
+    /**
+     * User name
+     * 
+     */
+    @JsonProperty("user")
+    public void setUser(String user) {
+        this.user = user;
+    }
+
+    public LoginGETResponseBody withUser(String user) {
+        this.user = user;
+        return this;
+    }
+
+    @JsonProperty("token")
+    public String getToken() {
+        return token;
+    }
+
+    @JsonProperty("token")
+    public void setToken(String token) {
+        this.token = token;
+    }
+
+    public LoginGETResponseBody withToken(String token) {
+        this.token = token;
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(LoginGETResponseBody.class.getName()).append('@').append(Integer.toHexString(System.identityHashCode(this))).append('[');
+        sb.append("user");
+        sb.append('=');
+        sb.append(((this.user == null)?"<null>":this.user));
+        sb.append(',');
+        sb.append("token");
+        sb.append('=');
+        sb.append(((this.token == null)?"<null>":this.token));
+        sb.append(',');
+        if (sb.charAt((sb.length()- 1)) == ',') {
+            sb.setCharAt((sb.length()- 1), ']');
+        } else {
+            sb.append(']');
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        result = ((result* 31)+((this.user == null)? 0 :this.user.hashCode()));
+        result = ((result* 31)+((this.token == null)? 0 :this.token.hashCode()));
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if ((other instanceof LoginGETResponseBody) == false) {
+            return false;
+        }
+        LoginGETResponseBody rhs = ((LoginGETResponseBody) other);
+        return (((this.user == rhs.user)||((this.user!= null)&&this.user.equals(rhs.user)))&&((this.token == rhs.token)||((this.token!= null)&&this.token.equals(rhs.token))));
+    }
+
+}
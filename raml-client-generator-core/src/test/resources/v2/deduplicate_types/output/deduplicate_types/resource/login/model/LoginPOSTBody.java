@@ -0,0 +1,108 @@
+
+package deduplicate_types.resource.login.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({
+    "user",
+    "password"
+})
+public class LoginPOSTBody {
+
+    @JsonProperty("user")
+    private String user;
+    @JsonProperty("password")
+    private String password;
+
+    /**
+     * No args constructor for use in serialization
+     * 
+     */
+    public LoginPOSTBody() {
+    }
+
+    /**
+     * 
+     * @param password
+     * @param user
+     */
+    public LoginPOSTBody(String user, String password) {
+        super();
+        this.user = user;
+        this.password = password;
+    }
+
+    @JsonProperty("user")
+    public String getUser() {
+        return user;
+    }
+
+    @JsonProperty("user")
+    public void setUser(String user) {
+        this.user = user;
+    }
+
+    public LoginPOSTBody withUser(String user) {
+        this.user = user;
+        return this;
+    }
+
+    @JsonProperty("password")
+    public String getPassword() {
+        return password;
+    }
+
+    @JsonProperty("password")
+    public void setPassword(String password) {
+        this.password = password;
+    }
+
+    public LoginPOSTBody withPassword(String password) {
+        this.password = password;
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(LoginPOSTBody.class.getName()).append('@').append(Integer.toHexString(System.identityHashCode(this))).append('[');
+        sb.append("user");
+        sb.append('=');
+        sb.append(((this.user == null)?"<null>":this.user));
+        sb.append(',');
+        sb.append("password");
+        sb.append('=');
+        sb.append(((this.password == null)?"<null>":this.password));
+        sb.append(',');
+        if (sb.charAt((sb.length()- 1)) == ',') {
+            sb.setCharAt((sb.length()- 1), ']');
+        } else {
+            sb.append(']');
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        result = ((result* 31)+((this.user == null)? 0 :this.user.hashCode()));
+        result = ((result* 31)+((this.password == null)? 0 :this.password.hashCode()));
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if ((other instanceof LoginPOSTBody) == false) {
+            return false;
+        }
+        LoginPOSTBody rhs = ((LoginPOSTBody) other);
+        return (((this.user == rhs.user)||((this.user!= null)&&this.user.equals(rhs.user)))&&((this.password == rhs.password)||((this.password!= null)&&this.password.equals(rhs.password))));
+    }
+
+}
@@ -0,0 +1,58 @@
+
+package deduplicate_types.resource.users;
+
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.Status.Family;
+import deduplicate_types.exceptions.DeduplicateTypesException;
+import deduplicate_types.resource.login.model.LoginPOSTBody;
+import deduplicate_types.responses.DeduplicateTypesResponse;
+
+public class Users {
+
+    private WebTarget _uriTemplate;
+    private Client _client;
+
+    public Users() {
+        _uriTemplate = null;
+        _client = null;
+    }
+
+    public Users(WebTarget uriTemplate, Client _client) {
+        _uriTemplate = uriTemplate.path("users");
+        this._client = _client;
+    }
+
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public Users(String baseUrl, Client _client) {
+        this(_client.target(baseUrl), _client);
+    }
+
+    protected Client getClient() {
+        return this._client;
+    }
+
+    private WebTarget getTarget() {
+        return _uriTemplate;
+    }
+
+    public DeduplicateTypesResponse<deduplicate_types.resource.users.model.UsersPUTResponseBody> put(LoginPOSTBody body) {
+        WebTarget target = getTarget();
+        final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(MediaType.APPLICATION_JSON_TYPE);
+        Response response = invocationBuilder.method("PUT", Entity.json(body));
+        if (response.getStatusInfo().getFamily()!= Family.SUCCESSFUL) {
+            Response.StatusType statusInfo = response.getStatusInfo();
+            throw new DeduplicateTypesException(statusInfo.getStatusCode(), statusInfo.getReasonPhrase(), response.getStringHeaders(), response);
+        }
+        DeduplicateTypesResponse<deduplicate_types.resource.users.model.UsersPUTResponseBody> apiResponse = new DeduplicateTypesResponse<deduplicate_types.resource.users.model.UsersPUTResponseBody>(response.readEntity(deduplicate_types.resource.users.model.UsersPUTResponseBody.class), response.getStringHeaders(), response);
+        return apiResponse;
+    }
+
+}
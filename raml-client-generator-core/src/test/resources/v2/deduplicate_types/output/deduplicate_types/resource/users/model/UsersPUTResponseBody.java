@@ -0,0 +1,108 @@
+
+package deduplicate_types.resource.users.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({
+    "user",
+    "description"
+})
+public class UsersPUTResponseBody {
+
+    @JsonProperty("user")
+    private String user;
+    @JsonProperty("description")
+    private String description;
+
+    /**
+     * No args constructor for use in serialization
+     * 
+     */
+    public UsersPUTResponseBody() {
+    }
+
+    /**
+     * 
+     * @param description
+     * @param user
+     */
+    public UsersPUTResponseBody(String user, String description) {
+        super();
+        this.user = user;
+        this.description = description;
+    }
+
+    @JsonProperty("user")
+    public String getUser() {
+        return user;
+    }
+
+    @JsonProperty("user")
+    public void setUser(String user) {
+        this.user = user;
+    }
+
+    public UsersPUTResponseBody withUser(String user) {
+        this.user = user;
+        return this;
+    }
+
+    @JsonProperty("description")
+    public String getDescription() {
+        return description;
+    }
+
+    @JsonProperty("description")
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public UsersPUTResponseBody withDescription(String description) {
+        this.description = description;
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(UsersPUTResponseBody.class.getName()).append('@').append(Integer.toHexString(System.identityHashCode(this))).append('[');
+        sb.append("user");
+        sb.append('=');
+        sb.append(((this.user == null)?"<null>":this.user));
+        sb.append(',');
+        sb.append("description");
+        sb.append('=');
+        sb.append(((this.description == null)?"<null>":this.description));
+        sb.append(',');
+        if (sb.charAt((sb.length()- 1)) == ',') {
+            sb.setCharAt((sb.length()- 1), ']');
+        } else {
+            sb.append(']');
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        result = ((result* 31)+((this.user == null)? 0 :this.user.hashCode()));
+        result = ((result* 31)+((this.description == null)? 0 :this.description.hashCode()));
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if ((other instanceof UsersPUTResponseBody) == false) {
+            return false;
+        }
+        UsersPUTResponseBody rhs = ((UsersPUTResponseBody) other);
+        return (((this.user == rhs.user)||((this.user!= null)&&this.user.equals(rhs.user)))&&((this.description == rhs.description)||((this.description!= null)&&this.description.equals(rhs.description))));
+    }
+
+}
@@ -3,22 +3,42 @@ package design_center.api;
 
 import javax.ws.rs.client.Client;
 import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.client.WebTarget;
 import design_center.resource.projects.Projects;
 
-public class DesignCenterProjectsServiceClient {
+public class DesignCenterProjectsServiceClient
+    implements AutoCloseable
+{
 
     private String _baseUrl;
+    private Client _client;
+    private boolean _ownsClient;
     public final Projects projects;
 
-    public DesignCenterProjectsServiceClient(String baseUrl) {
+    /**
+     * When a client is given it is used as is and it is not closed by {@link #close()}, otherwise one is created.
+     * 
+     */
+    public DesignCenterProjectsServiceClient(String baseUrl, Client client) {
         _baseUrl = baseUrl;
-        projects = new Projects(getBaseUri(), getClient());
+        _ownsClient = (client == null);
+        _client = (_ownsClient?getClient():client);
+        final WebTarget uriTemplate = _client.target(getBaseUri());
+        projects = new Projects(uriTemplate, _client);
+    }
+
+    public DesignCenterProjectsServiceClient(String baseUrl) {
+        this(baseUrl, null);
     }
 
     public DesignCenterProjectsServiceClient() {
         this("http://{host}:{port}/repository/api/v1");
     }
 
+    public DesignCenterProjectsServiceClient(Client client) {
+        this("http://{host}:{port}/repository/api/v1", client);
+    }
+
     protected Client getClient() {
         return ClientBuilder.newClient();
     }
@@ -27,12 +47,31 @@ public class DesignCenterProjectsServiceClient {
         return _baseUrl;
     }
 
+    /**
+     * Closes the client if it was created by this instance.
+     * 
+     */
+    @Override
+    public void close() {
+        if (_ownsClient) {
+            _client.close();
+        }
+    }
+
     public static DesignCenterProjectsServiceClient create(String baseUrl) {
         return new DesignCenterProjectsServiceClient(baseUrl);
     }
 
+    public static DesignCenterProjectsServiceClient create(String baseUrl, Client client) {
+        return new DesignCenterProjectsServiceClient(baseUrl, client);
+    }
+
     public static DesignCenterProjectsServiceClient create() {
         return new DesignCenterProjectsServiceClient();
     }
 
+    public static DesignCenterProjectsServiceClient create(Client client) {
+        return new DesignCenterProjectsServiceClient(client);
+    }
+
 }
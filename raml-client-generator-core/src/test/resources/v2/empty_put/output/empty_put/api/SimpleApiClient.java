@@ -1,20 +1,40 @@
 
 package empty_put.api;
 
+import java.util.Collections;
 import javax.ws.rs.client.Client;
 import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.client.WebTarget;
 import empty_put.resource.fileName.FileName;
 
-public class SimpleApiClient {
+public class SimpleApiClient
+    implements AutoCloseable
+{
 
     private String _baseUrl;
+    private Client _client;
+    private boolean _ownsClient;
+    private final FileName _fileName;
 
     public SimpleApiClient() {
         _baseUrl = null;
+        _fileName = null;
     }
 
-    public SimpleApiClient(String baseUrl) {
+    /**
+     * When a client is given it is used as is and it is not closed by {@link #close()}, otherwise one is created.
+     * 
+     */
+    public SimpleApiClient(String baseUrl, Client client) {
         _baseUrl = baseUrl;
+        _ownsClient = (client == null);
+        _client = (_ownsClient?getClient():client);
+        final WebTarget uriTemplate = _client.target(getBaseUri());
+        _fileName = new FileName(uriTemplate, _client);
+    }
+
+    public SimpleApiClient(String baseUrl) {
+        this(baseUrl, null);
     }
 
     protected Client getClient() {
@@ -25,12 +45,27 @@ public class SimpleApiClient {
         return _baseUrl;
     }
 
+    /**
+     * Closes the client if it was created by this instance.
+     * 
+     */
+    @Override
+    public void close() {
+        if (_ownsClient) {
+            _client.close();
+        }
+    }
+
     public static SimpleApiClient create(String baseUrl) {
         return new SimpleApiClient(baseUrl);
     }
 
+    public static SimpleApiClient create(String baseUrl, Client client) {
+        return new SimpleApiClient(baseUrl, client);
+    }
+
     public FileName fileName(String fileName) {
-        return new FileName(getBaseUri(), getClient(), fileName);
+        return new FileName(_fileName, Collections.singletonMap("+fileName", ((Object) fileName)));
     }
 
 }
@@ -1,7 +1,8 @@
 
 package empty_put.resource.fileName;
 
-import java.net.URLEncoder;
+import java.util.Collections;
+import java.util.Map;
 import javax.ws.rs.client.Client;
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.client.WebTarget;
@@ -14,25 +15,42 @@ import empty_put.responses.SimpleApiResponse;
 
 public class FileName {
 
-    private String _baseUrl;
+    private WebTarget _uriTemplate;
     private Client _client;
+    private Map<String, Object> _uriParams;
 
     public FileName() {
-        _baseUrl = null;
+        _uriTemplate = null;
         _client = null;
+        _uriParams = null;
     }
 
-    public FileName(String baseUrl, Client _client, String uriParam) {
-        _baseUrl = (baseUrl +("/"+ URLEncoder.encode(uriParam)));
+    public FileName(WebTarget uriTemplate, Client _client) {
+        _uriTemplate = uriTemplate.path("{+fileName}");
         this._client = _client;
     }
 
+    public FileName(FileName template, Map<String, Object> uriParams) {
+        _uriTemplate = template._uriTemplate;
+        _client = template._client;
+        _uriParams = uriParams;
+    }
+
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public FileName(String baseUrl, Client _client, String uriParam) {
+        this(new FileName(_client.target(baseUrl), _client), Collections.singletonMap("+fileName", ((Object) uriParam)));
+    }
+
     protected Client getClient() {
         return this._client;
     }
 
-    private String getBaseUri() {
-        return _baseUrl;
+    private WebTarget getTarget() {
+        return _uriTemplate.resolveTemplates(_uriParams);
     }
 
     /**
@@ -40,7 +58,7 @@ public class FileName {
      * 
      */
     public SimpleApiResponse<Void> put(Object body, String mimeType, FileNamePUTHeader headers) {
-        WebTarget target = this._client.target(getBaseUri());
+        WebTarget target = getTarget();
         final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(MediaType.APPLICATION_JSON_TYPE);
         if (headers.getXBaseCommitId()!= null) {
             invocationBuilder.header("x-base-commit-id", headers.getXBaseCommitId());
@@ -0,0 +1,77 @@
+
+package file_methods.api;
+
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.client.WebTarget;
+import file_methods.resource.artifacts.Artifacts;
+
+public class ArtifactsClient
+    implements AutoCloseable
+{
+
+    private String _baseUrl;
+    private Client _client;
+    private boolean _ownsClient;
+    public final Artifacts artifacts;
+
+    /**
+     * When a client is given it is used as is and it is not closed by {@link #close()}, otherwise one is created.
+     * 
+     */
+    public ArtifactsClient(String baseUrl, Client client) {
+        _baseUrl = baseUrl;
+        _ownsClient = (client == null);
+        _client = (_ownsClient?getClient():client);
+        final WebTarget uriTemplate = _client.target(getBaseUri());
+        artifacts = new Artifacts(uriTemplate, _client);
+    }
+
+    public ArtifactsClient(String baseUrl) {
+        this(baseUrl, null);
+    }
+
+    public ArtifactsClient() {
+        this("http://localhost:8081/api");
+    }
+
+    public ArtifactsClient(Client client) {
+        this("http://localhost:8081/api", client);
+    }
+
+    protected Client getClient() {
+        return ClientBuilder.newClient();
+    }
+
+    protected String getBaseUri() {
+        return _baseUrl;
+    }
+
+    /**
+     * Closes the client if it was created by this instance.
+     * 
+     */
+    @Override
+    public void close() {
+        if (_ownsClient) {
+            _client.close();
+        }
+    }
+
+    public static ArtifactsClient create(String baseUrl) {
+        return new ArtifactsClient(baseUrl);
+    }
+
+    public static ArtifactsClient create(String baseUrl, Client client) {
+        return new ArtifactsClient(baseUrl, client);
+    }
+
+    public static ArtifactsClient create() {
+        return new ArtifactsClient();
+    }
+
+    public static ArtifactsClient create(Client client) {
+        return new ArtifactsClient(client);
+    }
+
+}
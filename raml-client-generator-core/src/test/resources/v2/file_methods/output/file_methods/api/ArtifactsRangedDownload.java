@@ -0,0 +1,168 @@
+
+package file_methods.api;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.client.Invocation;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.Status.Family;
+
+
+/**
+ * Downloads a body in ranges fetched concurrently over the client, each one written to its place in the file.
+ * 
+ */
+public final class ArtifactsRangedDownload {
+
+
+    private ArtifactsRangedDownload() {
+    }
+
+    /**
+     * The length of the whole body in a <code>Content-Range</code> header, -1 when it is unknown.
+     * 
+     */
+    private static long getLength(String contentRange) {
+        final int slash = ((contentRange == null)?-1 :contentRange.lastIndexOf('/'));
+        try {
+            return ((slash< 0)?-1L:Long.parseLong(contentRange.substring((slash + 1)).trim()));
+        } catch (NumberFormatException _x) {
+            return -1L;
+        }
+    }
+
+    /**
+     * Fetches the ranges of the body at once, returning the response of the first one that is not successful, if any.
+     * 
+     */
+    private static Response fetch(Invocation.Builder request, Path file, long length, int parallelism)
+        throws IOException
+    {
+        final long rangeLength = (((length + parallelism)- 1)/parallelism);
+        final ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        final RandomAccessFile output = new RandomAccessFile(file.toFile(), "rw");
+        try {
+            output.setLength(length);
+            final List<Future<Response>> ranges = new ArrayList<Future<Response>>();
+            for (long start = 0L; (start<length); start += rangeLength) {
+                final long count = Math.min(rangeLength, (length-start));
+                ranges.add(executor.submit(new ArtifactsRangedDownload.RangeWriter(request.header("Range", null).header("Range", ((("bytes="+ start)+"-")+((start + count)- 1))).buildGet(), output.getChannel(), start, count)));
+            }
+            for (Future<Response> range: ranges) {
+                final Response failed = range.get();
+                if (failed!= null) {
+                    return failed;
+                }
+            }
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ProcessingException("Interrupted while fetching the ranges", e);
+        } catch (ExecutionException e) {
+            throw((e.getCause() instanceof RuntimeException)?((RuntimeException) e.getCause()):new ProcessingException(e.getCause()));
+        } finally {
+            executor.shutdownNow();
+            output.close();
+        }
+    }
+
+    /**
+     * Requests the first byte of the body and, when the server answers with its range, fetches the whole body in up to parallelism ranges at once. Otherwise the body is written to the file as it is received.
+     * 
+     * @return
+     *     the first response, or the one of the range that failed, that is not read when it is not successful
+     */
+    public static Response download(Invocation.Builder request, Path file, int parallelism) {
+        if (parallelism< 1) {
+            throw new IllegalArgumentException(("The parallelism must be positive: "+ parallelism));
+        }
+        Response response = request.header("Range", "bytes=0-0").get();
+        final long length = (((response.getStatus() == 206)&&(response.getHeaderString("Content-Encoding") == null))?getLength(response.getHeaderString("Content-Range")):-1L);
+        if ((response.getStatus() == 416)||((response.getStatus() == 206)&&(length< 0L))) {
+            response.close();
+            response = request.header("Range", null).get();
+        }
+        if (response.getStatusInfo().getFamily()!= Family.SUCCESSFUL) {
+            return response;
+        }
+        try {
+            if (length< 0L) {
+                Files.copy(response.readEntity(InputStream.class), file, StandardCopyOption.REPLACE_EXISTING);
+                return response;
+            }
+            final Response failed = fetch(request, file, length, parallelism);
+            return ((failed!= null)?failed:response);
+        } catch (IOException e) {
+            throw new ProcessingException(e);
+        } finally {
+            response.close();
+        }
+    }
+
+
+    /**
+     * Fetches a range of the body and writes it to its place in the file, returning the response when it is not successful.
+     * 
+     */
+    private final static class RangeWriter
+        implements Callable<Response>
+    {
+
+        private final Invocation invocation;
+        private final FileChannel channel;
+        private final long position;
+        private final long count;
+
+        private RangeWriter(Invocation invocation, FileChannel channel, long position, long count) {
+            this.invocation = invocation;
+            this.channel = channel;
+            this.position = position;
+            this.count = count;
+        }
+
+        @Override
+        public Response call()
+            throws IOException
+        {
+            final Response response = invocation.invoke();
+            if (response.getStatusInfo().getFamily()!= Family.SUCCESSFUL) {
+                return response;
+            }
+            try {
+                if (response.getStatus()!= 206) {
+                    throw new IOException(("The server answered the range with the status "+ response.getStatus()));
+                }
+                final ReadableByteChannel body = Channels.newChannel(response.readEntity(InputStream.class));
+                long written = 0L;
+                while (written<count) {
+                    final long transferred = channel.transferFrom(body, (position + written), (count-written));
+                    if (transferred == 0L) {
+                        throw new EOFException((((("The range ended after "+ written)+" of ")+ count)+" bytes"));
+                    }
+                    written += transferred;
+                }
+            } finally {
+                response.close();
+            }
+            return null;
+        }
+
+    }
+
+}
@@ -0,0 +1,158 @@
+
+package file_methods.resource.artifacts.name;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.Map;
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.Response;
+import file_methods.api.ArtifactsRangedDownload;
+import file_methods.exceptions.ArtifactsException;
+import file_methods.resource.artifacts.name.checksum.Checksum;
+import file_methods.responses.ArtifactsResponse;
+import org.glassfish.jersey.client.ClientProperties;
+import org.glassfish.jersey.client.RequestEntityProcessing;
+
+public class Name {
+
+    private WebTarget _uriTemplate;
+    private Client _client;
+    private Map<String, Object> _uriParams;
+    public final Checksum checksum;
+
+    public Name() {
+        _uriTemplate = null;
+        _client = null;
+        _uriParams = null;
+        checksum = null;
+    }
+
+    public Name(WebTarget uriTemplate, Client _client) {
+        _uriTemplate = uriTemplate.path("{name}");
+        this._client = _client;
+        checksum = new Checksum(_uriTemplate, getClient());
+    }
+
+    public Name(Name template, Map<String, Object> uriParams) {
+        _uriTemplate = template._uriTemplate;
+        _client = template._client;
+        _uriParams = uriParams;
+        checksum = new Checksum(template.checksum, _uriParams);
+    }
+
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public Name(String baseUrl, Client _client, String uriParam) {
+        this(new Name(_client.target(baseUrl), _client), Collections.singletonMap("name", ((Object) uriParam)));
+    }
+
+    protected Client getClient() {
+        return this._client;
+    }
+
+    private WebTarget getTarget() {
+        return _uriTemplate.resolveTemplates(_uriParams);
+    }
+
+    /**
+     * Downloads the artifact
+     * 
+     */
+    public ArtifactsResponse<InputStream> get() {
+        WebTarget target = getTarget();
+        final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE);
+        Response response = invocationBuilder.method("GET");
+        if (response.getStatusInfo().getFamily()!= javax.ws.rs.core.Response.Status.Family.SUCCESSFUL) {
+            Response.StatusType statusInfo = response.getStatusInfo();
+            throw new ArtifactsException(statusInfo.getStatusCode(), statusInfo.getReasonPhrase(), response.getStringHeaders(), response);
+        }
+        ArtifactsResponse<InputStream> apiResponse = new ArtifactsResponse<InputStream>(response.readEntity(InputStream.class), response.getStringHeaders(), response);
+        return apiResponse;
+    }
+
+    /**
+     * Downloads the artifact
+     * Writes the body of the response to the file, replacing it, and returns its path.
+     * 
+     */
+    public ArtifactsResponse<Path> getToFile(Path file) {
+        WebTarget target = getTarget();
+        final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE);
+        Response response = invocationBuilder.method("GET");
+        if (response.getStatusInfo().getFamily()!= javax.ws.rs.core.Response.Status.Family.SUCCESSFUL) {
+            Response.StatusType statusInfo = response.getStatusInfo();
+            throw new ArtifactsException(statusInfo.getStatusCode(), statusInfo.getReasonPhrase(), response.getStringHeaders(), response);
+        }
+        try {
+            Files.copy(response.readEntity(InputStream.class), file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new ProcessingException(e);
+        } finally {
+            response.close();
+        }
+        ArtifactsResponse<Path> apiResponse = new ArtifactsResponse<Path>(file, response.getStringHeaders(), response);
+        return apiResponse;
+    }
+
+    /**
+     * Downloads the artifact
+     * Writes the body of the response to the file, replacing it, and returns its path. When the server accepts ranges, up to parallelism ranges of the body are fetched at once and written to their place in the file.
+     * 
+     */
+    public ArtifactsResponse<Path> getToFile(Path file, int parallelism) {
+        WebTarget target = getTarget();
+        final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE);
+        Response response = ArtifactsRangedDownload.download(invocationBuilder, file, parallelism);
+        if (response.getStatusInfo().getFamily()!= javax.ws.rs.core.Response.Status.Family.SUCCESSFUL) {
+            Response.StatusType statusInfo = response.getStatusInfo();
+            throw new ArtifactsException(statusInfo.getStatusCode(), statusInfo.getReasonPhrase(), response.getStringHeaders(), response);
+        }
+        ArtifactsResponse<Path> apiResponse = new ArtifactsResponse<Path>(file, response.getStringHeaders(), response);
+        return apiResponse;
+    }
+
+    /**
+     * Uploads the artifact
+     * 
+     */
+    public ArtifactsResponse<Void> put(InputStream body) {
+        WebTarget target = getTarget();
+        final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE);
+        Response response = invocationBuilder.method("PUT", Entity.entity(body, javax.ws.rs.core.MediaType.APPLICATION_OCTET_STREAM_TYPE));
+        if (response.getStatusInfo().getFamily()!= javax.ws.rs.core.Response.Status.Family.SUCCESSFUL) {
+            Response.StatusType statusInfo = response.getStatusInfo();
+            throw new ArtifactsException(statusInfo.getStatusCode(), statusInfo.getReasonPhrase(), response.getStringHeaders(), response);
+        }
+        ArtifactsResponse<Void> apiResponse = new ArtifactsResponse<Void>(null, response.getStringHeaders(), response);
+        return apiResponse;
+    }
+
+    /**
+     * Uploads the artifact
+     * The file is read while the request is sent.
+     * 
+     */
+    public ArtifactsResponse<Void> put(Path body) {
+        WebTarget target = getTarget();
+        final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE);
+        invocationBuilder.property(ClientProperties.REQUEST_ENTITY_PROCESSING, RequestEntityProcessing.CHUNKED);
+        Response response = invocationBuilder.method("PUT", Entity.entity(body.toFile(), javax.ws.rs.core.MediaType.APPLICATION_OCTET_STREAM_TYPE));
+        if (response.getStatusInfo().getFamily()!= javax.ws.rs.core.Response.Status.Family.SUCCESSFUL) {
+            Response.StatusType statusInfo = response.getStatusInfo();
+            throw new ArtifactsException(statusInfo.getStatusCode(), statusInfo.getReasonPhrase(), response.getStringHeaders(), response);
+        }
+        ArtifactsResponse<Void> apiResponse = new ArtifactsResponse<Void>(null, response.getStringHeaders(), response);
+        return apiResponse;
+    }
+
+}
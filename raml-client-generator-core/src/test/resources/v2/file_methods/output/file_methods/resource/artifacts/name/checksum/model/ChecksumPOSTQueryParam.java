@@ -0,0 +1,25 @@
+
+package file_methods.resource.artifacts.name.checksum.model;
+
+
+public class ChecksumPOSTQueryParam {
+
+    private String _algorithm;
+
+    public ChecksumPOSTQueryParam() {
+    }
+
+    public ChecksumPOSTQueryParam withAlgorithm(String algorithm) {
+        _algorithm = algorithm;
+        return this;
+    }
+
+    public void setAlgorithm(String algorithm) {
+        _algorithm = algorithm;
+    }
+
+    public String getAlgorithm() {
+        return _algorithm;
+    }
+
+}
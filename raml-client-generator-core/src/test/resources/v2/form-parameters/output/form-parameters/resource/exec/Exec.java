@@ -15,29 +15,38 @@ import org.glassfish.jersey.media.multipart.file.FileDataBodyPart;
 
 public class Exec {
 
-    private String _baseUrl;
+    private WebTarget _uriTemplate;
     private Client _client;
 
     public Exec() {
-        _baseUrl = null;
+        _uriTemplate = null;
         _client = null;
     }
 
-    public Exec(String baseUrl, Client _client) {
-        _baseUrl = (baseUrl +"/exec");
+    public Exec(WebTarget uriTemplate, Client _client) {
+        _uriTemplate = uriTemplate.path("exec");
         this._client = _client;
     }
 
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public Exec(String baseUrl, Client _client) {
+        this(_client.target(baseUrl), _client);
+    }
+
     protected Client getClient() {
         return this._client;
     }
 
-    private String getBaseUri() {
-        return _baseUrl;
+    private WebTarget getTarget() {
+        return _uriTemplate;
     }
 
     public DataWeaveAPIResponse<Void> post(ExecPOSTBody body) {
-        WebTarget target = this._client.target(getBaseUri());
+        WebTarget target = getTarget();
         final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(MediaType.APPLICATION_JSON_TYPE);
         FormDataMultiPart multiPart = new FormDataMultiPart();
         if (body.getFile()!= null) {
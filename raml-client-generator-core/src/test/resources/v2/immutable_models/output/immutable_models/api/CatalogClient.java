@@ -0,0 +1,78 @@
+
+package immutable_models.api;
+
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.client.WebTarget;
+import immutable_models.resource.products.Products;
+import org.glassfish.jersey.client.ClientConfig;
+
+public class CatalogClient
+    implements AutoCloseable
+{
+
+    private String _baseUrl;
+    private Client _client;
+    private boolean _ownsClient;
+    public final Products products;
+
+    /**
+     * When a client is given it is used as is and it is not closed by {@link #close()}, otherwise one is created.
+     * 
+     */
+    public CatalogClient(String baseUrl, Client client) {
+        _baseUrl = baseUrl;
+        _ownsClient = (client == null);
+        _client = (_ownsClient?getClient():client);
+        final WebTarget uriTemplate = _client.target(getBaseUri());
+        products = new Products(uriTemplate, _client);
+    }
+
+    public CatalogClient(String baseUrl) {
+        this(baseUrl, null);
+    }
+
+    public CatalogClient() {
+        this("http://localhost:8081/api");
+    }
+
+    public CatalogClient(Client client) {
+        this("http://localhost:8081/api", client);
+    }
+
+    protected Client getClient() {
+        return ClientBuilder.newClient(new ClientConfig().register(new CatalogObjectMapperProvider()));
+    }
+
+    protected String getBaseUri() {
+        return _baseUrl;
+    }
+
+    /**
+     * Closes the client if it was created by this instance.
+     * 
+     */
+    @Override
+    public void close() {
+        if (_ownsClient) {
+            _client.close();
+        }
+    }
+
+    public static CatalogClient create(String baseUrl) {
+        return new CatalogClient(baseUrl);
+    }
+
+    public static CatalogClient create(String baseUrl, Client client) {
+        return new CatalogClient(baseUrl, client);
+    }
+
+    public static CatalogClient create() {
+        return new CatalogClient();
+    }
+
+    public static CatalogClient create(Client client) {
+        return new CatalogClient(client);
+    }
+
+}
@@ -0,0 +1,26 @@
+
+package immutable_models.api;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import immutable_models.model.Price;
+import immutable_models.model.Product;
+
+
+/**
+ * Registers the serializers and deserializers generated for the models of the api, that read and write them without reflection.
+ * 
+ */
+public class CatalogJsonModule
+    extends SimpleModule
+{
+
+
+    public CatalogJsonModule() {
+        super("CatalogJsonModule");
+        addSerializer(Price.class, new Price.Serializer());
+        addDeserializer(Price.class, new Price.Deserializer());
+        addSerializer(Product.class, new Product.Serializer());
+        addDeserializer(Product.class, new Product.Deserializer());
+    }
+
+}
@@ -0,0 +1,264 @@
+
+package immutable_models.model;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import com.fasterxml.jackson.annotation.JsonAnySetter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({
+    "amount",
+    "currency"
+})
+@JsonDeserialize(builder = Price.Builder.class)
+public class Price {
+
+    @JsonProperty("amount")
+    private final Double amount;
+    @JsonProperty("currency")
+    private final String currency;
+    @JsonIgnore
+    private final Map<String, Object> additionalProperties;
+
+    public Price(Double amount, String currency) {
+        this.amount = amount;
+        this.currency = currency;
+        this.additionalProperties = Collections.emptyMap();
+    }
+
+    private Price(Price.Builder builder) {
+        this.amount = builder.amount;
+        this.currency = builder.currency;
+        this.additionalProperties = builder.additionalProperties;
+    }
+
+    @JsonProperty("amount")
+    public Double getAmount() {
+        return amount;
+    }
+
+    @JsonProperty("currency")
+    public String getCurrency() {
+        return currency;
+    }
+
+    @JsonAnyGetter
+    public Map<String, Object> getAdditionalProperties() {
+        return this.additionalProperties;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(Price.class.getName()).append('@').append(Integer.toHexString(System.identityHashCode(this))).append('[');
+        sb.append("amount");
+        sb.append('=');
+        sb.append(((this.amount == null)?"<null>":this.amount));
+        sb.append(',');
+        sb.append("currency");
+        sb.append('=');
+        sb.append(((this.currency == null)?"<null>":this.currency));
+        sb.append(',');
+        sb.append("additionalProperties");
+        sb.append('=');
+        sb.append(((this.additionalProperties == null)?"<null>":this.additionalProperties));
+        sb.append(',');
+        if (sb.charAt((sb.length()- 1)) == ',') {
+            sb.setCharAt((sb.length()- 1), ']');
+        } else {
+            sb.append(']');
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        result = ((result* 31)+((this.amount == null)? 0 :this.amount.hashCode()));
+        result = ((result* 31)+((this.currency == null)? 0 :this.currency.hashCode()));
+        result = ((result* 31)+((this.additionalProperties == null)? 0 :this.additionalProperties.hashCode()));
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if ((other instanceof Price) == false) {
+            return false;
+        }
+        Price rhs = ((Price) other);
+        return ((((this.amount == rhs.amount)||((this.amount!= null)&&this.amount.equals(rhs.amount)))&&((this.currency == rhs.currency)||((this.currency!= null)&&this.currency.equals(rhs.currency))))&&((this.additionalProperties == rhs.additionalProperties)||((this.additionalProperties!= null)&&this.additionalProperties.equals(rhs.additionalProperties))));
+    }
+
+    /**
+     * @return a builder with the properties of this model, to build a copy of it with some of them changed
+     * 
+     */
+    public Price.Builder toBuilder() {
+        final Price.Builder builder = new Price.Builder();
+        builder.amount = this.amount;
+        builder.currency = this.currency;
+        builder.additionalProperties = this.additionalProperties;
+        return builder;
+    }
+
+    public static Price.Builder builder() {
+        return new Price.Builder();
+    }
+
+
+    /**
+     * Builds the model, the properties that are not given keep their default value.
+     * 
+     */
+    public static class Builder {
+
+        private Double amount;
+        private String currency = "USD";
+        private Map<String, Object> additionalProperties = Collections.emptyMap();
+
+        @JsonProperty("amount")
+        public Price.Builder withAmount(Double amount) {
+            this.amount = amount;
+            return this;
+        }
+
+        @JsonProperty("currency")
+        public Price.Builder withCurrency(String currency) {
+            this.currency = currency;
+            return this;
+        }
+
+        @JsonAnySetter
+        public Price.Builder withAdditionalProperty(String name, Object value) {
+            if (!(this.additionalProperties instanceof HashMap)) {
+                this.additionalProperties = new HashMap<String, Object>(this.additionalProperties);
+            }
+            this.additionalProperties.put(name, value);
+            return this;
+        }
+
+        public Price build() {
+            if (this.additionalProperties instanceof HashMap) {
+                this.additionalProperties = Collections.unmodifiableMap(this.additionalProperties);
+            }
+            return new Price(this);
+        }
+
+    }
+
+
+    /**
+     * Reads the fields of the model by the name of their properties, with the deserializers of the other types resolved once.
+     * 
+     */
+    public static class Deserializer
+        extends StdDeserializer<Price>
+        implements ResolvableDeserializer
+    {
+
+        private JsonDeserializer<Object> additionalPropertiesDeserializer;
+
+        public Deserializer() {
+            super(Price.class);
+        }
+
+        @Override
+        public boolean isCachable() {
+            return true;
+        }
+
+        @Override
+        public void resolve(DeserializationContext context)
+            throws JsonMappingException
+        {
+            this.additionalPropertiesDeserializer = context.findRootValueDeserializer(context.constructType(Object.class));
+        }
+
+        @Override
+        public Price deserialize(JsonParser parser, DeserializationContext context)
+            throws IOException
+        {
+            JsonToken token = parser.getCurrentToken();
+            if (token == JsonToken.START_OBJECT) {
+                token = parser.nextToken();
+            } else {
+                if ((token!= JsonToken.FIELD_NAME)&&(token!= JsonToken.END_OBJECT)) {
+                    return ((Price) context.handleUnexpectedToken(Price.class, parser));
+                }
+            }
+            final Price.Builder builder = new Price.Builder();
+            while (token == JsonToken.FIELD_NAME) {
+                final String name = parser.getCurrentName();
+                parser.nextToken();
+                switch (name) {
+                    case "amount":
+                        builder.amount = ((parser.getCurrentToken() == JsonToken.VALUE_NULL)?null:_parseDouble(parser, context));
+                        break;
+                    case "currency":
+                        builder.currency = ((parser.getCurrentToken() == JsonToken.VALUE_NULL)?null:_parseString(parser, context));
+                        break;
+                    default:
+                        builder.withAdditionalProperty(name, ((parser.getCurrentToken() == JsonToken.VALUE_NULL)?null:this.additionalPropertiesDeserializer.deserialize(parser, context)));
+                }
+                token = parser.nextToken();
+            }
+            return builder.build();
+        }
+
+    }
+
+
+    /**
+     * Writes the fields of the model in the order of its properties.
+     * 
+     */
+    public static class Serializer
+        extends StdSerializer<Price>
+    {
+
+
+        public Serializer() {
+            super(Price.class);
+        }
+
+        @Override
+        public void serialize(Price value, JsonGenerator generator, SerializerProvider provider)
+            throws IOException
+        {
+            generator.writeStartObject();
+            if (value.amount!= null) {
+                generator.writeNumberField("amount", value.amount);
+            }
+            if (value.currency!= null) {
+                generator.writeStringField("currency", value.currency);
+            }
+            for (Map.Entry<String, Object> property: value.additionalProperties.entrySet()) {
+                provider.defaultSerializeField(property.getKey(), property.getValue(), generator);
+            }
+            generator.writeEndObject();
+        }
+
+    }
+
+}
@@ -0,0 +1,378 @@
+
+package immutable_models.model;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import com.fasterxml.jackson.annotation.JsonAnySetter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({
+    "id",
+    "stock",
+    "tags",
+    "regions",
+    "price"
+})
+@JsonDeserialize(builder = Product.Builder.class)
+public class Product {
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("id")
+    private final String id;
+    @JsonProperty("stock")
+    private final Long stock;
+    @JsonProperty("tags")
+    private final List<String> tags;
+    @JsonProperty("regions")
+    @JsonDeserialize(as = java.util.LinkedHashSet.class)
+    private final Set<String> regions;
+    @JsonProperty("price")
+    private final Price price;
+    @JsonIgnore
+    private final Map<String, Object> additionalProperties;
+
+    public Product(String id, Long stock, List<String> tags, Set<String> regions, Price price) {
+        this.id = id;
+        this.stock = stock;
+        this.tags = ((tags == null)?null:Collections.unmodifiableList(new ArrayList<String>(tags)));
+        this.regions = ((regions == null)?null:Collections.unmodifiableSet(new LinkedHashSet<String>(regions)));
+        this.price = price;
+        this.additionalProperties = Collections.emptyMap();
+    }
+
+    private Product(Product.Builder builder) {
+        this.id = builder.id;
+        this.stock = builder.stock;
+        this.tags = builder.tags;
+        this.regions = builder.regions;
+        this.price = builder.price;
+        this.additionalProperties = builder.additionalProperties;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("id")
+    public String getId() {
+        return id;
+    }
+
+    @JsonProperty("stock")
+    public Long getStock() {
+        return stock;
+    }
+
+    @JsonProperty("tags")
+    public List<String> getTags() {
+        return tags;
+    }
+
+    @JsonProperty("regions")
+    public Set<String> getRegions() {
+        return regions;
+    }
+
+    @JsonProperty("price")
+    public Price getPrice() {
+        return price;
+    }
+
+    @JsonAnyGetter
+    public Map<String, Object> getAdditionalProperties() {
+        return this.additionalProperties;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(Product.class.getName()).append('@').append(Integer.toHexString(System.identityHashCode(this))).append('[');
+        sb.append("id");
+        sb.append('=');
+        sb.append(((this.id == null)?"<null>":this.id));
+        sb.append(',');
+        sb.append("stock");
+        sb.append('=');
+        sb.append(((this.stock == null)?"<null>":this.stock));
+        sb.append(',');
+        sb.append("tags");
+        sb.append('=');
+        sb.append(((this.tags == null)?"<null>":this.tags));
+        sb.append(',');
+        sb.append("regions");
+        sb.append('=');
+        sb.append(((this.regions == null)?"<null>":this.regions));
+        sb.append(',');
+        sb.append("price");
+        sb.append('=');
+        sb.append(((this.price == null)?"<null>":this.price));
+        sb.append(',');
+        sb.append("additionalProperties");
+        sb.append('=');
+        sb.append(((this.additionalProperties == null)?"<null>":this.additionalProperties));
+        sb.append(',');
+        if (sb.charAt((sb.length()- 1)) == ',') {
+            sb.setCharAt((sb.length()- 1), ']');
+        } else {
+            sb.append(']');
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        result = ((result* 31)+((this.regions == null)? 0 :this.regions.hashCode()));
+        result = ((result* 31)+((this.price == null)? 0 :this.price.hashCode()));
+        result = ((result* 31)+((this.id == null)? 0 :this.id.hashCode()));
+        result = ((result* 31)+((this.additionalProperties == null)? 0 :this.additionalProperties.hashCode()));
+        result = ((result* 31)+((this.stock == null)? 0 :this.stock.hashCode()));
+        result = ((result* 31)+((this.tags == null)? 0 :this.tags.hashCode()));
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if ((other instanceof Product) == false) {
+            return false;
+        }
+        Product rhs = ((Product) other);
+        return (((((((this.regions == rhs.regions)||((this.regions!= null)&&this.regions.equals(rhs.regions)))&&((this.price == rhs.price)||((this.price!= null)&&this.price.equals(rhs.price))))&&((this.id == rhs.id)||((this.id!= null)&&this.id.equals(rhs.id))))&&((this.additionalProperties == rhs.additionalProperties)||((this.additionalProperties!= null)&&this.additionalProperties.equals(rhs.additionalProperties))))&&((this.stock == rhs.stock)||((this.stock!= null)&&this.stock.equals(rhs.stock))))&&((this.tags == rhs.tags)||((this.tags!= null)&&this.tags.equals(rhs.tags))));
+    }
+
+    /**
+     * @return a builder with the properties of this model, to build a copy of it with some of them changed
+     * 
+     */
+    public Product.Builder toBuilder() {
+        final Product.Builder builder = new Product.Builder();
+        builder.id = this.id;
+        builder.stock = this.stock;
+        builder.tags = this.tags;
+        builder.regions = this.regions;
+        builder.price = this.price;
+        builder.additionalProperties = this.additionalProperties;
+        return builder;
+    }
+
+    public static Product.Builder builder() {
+        return new Product.Builder();
+    }
+
+
+    /**
+     * Builds the model, the properties that are not given keep their default value.
+     * 
+     */
+    public static class Builder {
+
+        private String id;
+        private Long stock = 0L;
+        private List<String> tags;
+        private Set<String> regions;
+        private Price price;
+        private Map<String, Object> additionalProperties = Collections.emptyMap();
+
+        @JsonProperty("id")
+        public Product.Builder withId(String id) {
+            this.id = id;
+            return this;
+        }
+
+        @JsonProperty("stock")
+        public Product.Builder withStock(Long stock) {
+            this.stock = stock;
+            return this;
+        }
+
+        @JsonProperty("tags")
+        public Product.Builder withTags(List<String> tags) {
+            this.tags = ((tags == null)?null:Collections.unmodifiableList(new ArrayList<String>(tags)));
+            return this;
+        }
+
+        @JsonProperty("regions")
+        @JsonDeserialize(as = java.util.LinkedHashSet.class)
+        public Product.Builder withRegions(Set<String> regions) {
+            this.regions = ((regions == null)?null:Collections.unmodifiableSet(new LinkedHashSet<String>(regions)));
+            return this;
+        }
+
+        @JsonProperty("price")
+        public Product.Builder withPrice(Price price) {
+            this.price = price;
+            return this;
+        }
+
+        @JsonAnySetter
+        public Product.Builder withAdditionalProperty(String name, Object value) {
+            if (!(this.additionalProperties instanceof HashMap)) {
+                this.additionalProperties = new HashMap<String, Object>(this.additionalProperties);
+            }
+            this.additionalProperties.put(name, value);
+            return this;
+        }
+
+        public Product build() {
+            if (this.additionalProperties instanceof HashMap) {
+                this.additionalProperties = Collections.unmodifiableMap(this.additionalProperties);
+            }
+            return new Product(this);
+        }
+
+    }
+
+
+    /**
+     * Reads the fields of the model by the name of their properties, with the deserializers of the other types resolved once.
+     * 
+     */
+    public static class Deserializer
+        extends StdDeserializer<Product>
+        implements ResolvableDeserializer
+    {
+
+        private final static JavaType TAGS_TYPE = TypeFactory.defaultInstance().constructType((new com.fasterxml.jackson.core.type.TypeReference<java.util.List<java.lang.String>>() {}));
+        private JsonDeserializer<Object> tagsDeserializer;
+        private final static JavaType REGIONS_TYPE = TypeFactory.defaultInstance().constructType((new com.fasterxml.jackson.core.type.TypeReference<java.util.LinkedHashSet<java.lang.String>>() {}));
+        private JsonDeserializer<Object> regionsDeserializer;
+        private JsonDeserializer<Object> priceDeserializer;
+        private JsonDeserializer<Object> additionalPropertiesDeserializer;
+
+        public Deserializer() {
+            super(Product.class);
+        }
+
+        @Override
+        public boolean isCachable() {
+            return true;
+        }
+
+        @Override
+        public void resolve(DeserializationContext context)
+            throws JsonMappingException
+        {
+            this.tagsDeserializer = context.findRootValueDeserializer(TAGS_TYPE);
+            this.regionsDeserializer = context.findRootValueDeserializer(REGIONS_TYPE);
+            this.priceDeserializer = context.findRootValueDeserializer(context.constructType(Price.class));
+            this.additionalPropertiesDeserializer = context.findRootValueDeserializer(context.constructType(Object.class));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Product deserialize(JsonParser parser, DeserializationContext context)
+            throws IOException
+        {
+            JsonToken token = parser.getCurrentToken();
+            if (token == JsonToken.START_OBJECT) {
+                token = parser.nextToken();
+            } else {
+                if ((token!= JsonToken.FIELD_NAME)&&(token!= JsonToken.END_OBJECT)) {
+                    return ((Product) context.handleUnexpectedToken(Product.class, parser));
+                }
+            }
+            final Product.Builder builder = new Product.Builder();
+            while (token == JsonToken.FIELD_NAME) {
+                final String name = parser.getCurrentName();
+                parser.nextToken();
+                switch (name) {
+                    case "id":
+                        builder.id = ((parser.getCurrentToken() == JsonToken.VALUE_NULL)?null:_parseString(parser, context));
+                        break;
+                    case "stock":
+                        builder.stock = ((parser.getCurrentToken() == JsonToken.VALUE_NULL)?null:_parseLong(parser, context));
+                        break;
+                    case "tags":
+                        builder.tags = ((parser.getCurrentToken() == JsonToken.VALUE_NULL)?null:Collections.unmodifiableList(((List<String> ) this.tagsDeserializer.deserialize(parser, context))));
+                        break;
+                    case "regions":
+                        builder.regions = ((parser.getCurrentToken() == JsonToken.VALUE_NULL)?null:Collections.unmodifiableSet(((Set<String> ) this.regionsDeserializer.deserialize(parser, context))));
+                        break;
+                    case "price":
+                        builder.price = ((parser.getCurrentToken() == JsonToken.VALUE_NULL)?null:((Price) this.priceDeserializer.deserialize(parser, context)));
+                        break;
+                    default:
+                        builder.withAdditionalProperty(name, ((parser.getCurrentToken() == JsonToken.VALUE_NULL)?null:this.additionalPropertiesDeserializer.deserialize(parser, context)));
+                }
+                token = parser.nextToken();
+            }
+            return builder.build();
+        }
+
+    }
+
+
+    /**
+     * Writes the fields of the model in the order of its properties.
+     * 
+     */
+    public static class Serializer
+        extends StdSerializer<Product>
+    {
+
+
+        public Serializer() {
+            super(Product.class);
+        }
+
+        @Override
+        public void serialize(Product value, JsonGenerator generator, SerializerProvider provider)
+            throws IOException
+        {
+            generator.writeStartObject();
+            if (value.id!= null) {
+                generator.writeStringField("id", value.id);
+            }
+            if (value.stock!= null) {
+                generator.writeNumberField("stock", value.stock);
+            }
+            if (value.tags!= null) {
+                provider.defaultSerializeField("tags", value.tags, generator);
+            }
+            if (value.regions!= null) {
+                provider.defaultSerializeField("regions", value.regions, generator);
+            }
+            if (value.price!= null) {
+                provider.defaultSerializeField("price", value.price, generator);
+            }
+            for (Map.Entry<String, Object> property: value.additionalProperties.entrySet()) {
+                provider.defaultSerializeField(property.getKey(), property.getValue(), generator);
+            }
+            generator.writeEndObject();
+        }
+
+    }
+
+}
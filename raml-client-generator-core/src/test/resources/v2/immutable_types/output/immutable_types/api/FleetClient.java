@@ -0,0 +1,84 @@
+
+package immutable_types.api;
+
+import java.net.http.HttpClient;
+import immutable_types.resource.drivers.Drivers;
+import immutable_types.resource.trucks.Trucks;
+
+public class FleetClient
+    implements AutoCloseable
+{
+
+    private String _baseUrl;
+    private HttpClient _client;
+    private boolean _ownsClient;
+    public final Drivers drivers;
+    public final Trucks trucks;
+
+    /**
+     * When a client is given it is used as is and it is not closed by {@link #close()}, otherwise one is created.
+     * 
+     */
+    public FleetClient(String baseUrl, HttpClient client) {
+        _baseUrl = baseUrl;
+        _ownsClient = (client == null);
+        _client = (_ownsClient?getClient():client);
+        final FleetUriTemplate uriTemplate = new FleetUriTemplate(getBaseUri());
+        drivers = new Drivers(uriTemplate, _client);
+        trucks = new Trucks(uriTemplate, _client);
+    }
+
+    public FleetClient(String baseUrl) {
+        this(baseUrl, null);
+    }
+
+    public FleetClient() {
+        this("http://localhost:8081/api");
+    }
+
+    public FleetClient(HttpClient client) {
+        this("http://localhost:8081/api", client);
+    }
+
+    protected HttpClient getClient() {
+        return HttpClient.newHttpClient();
+    }
+
+    protected String getBaseUri() {
+        return _baseUrl;
+    }
+
+    /**
+     * Closes the client if it was created by this instance.
+     * 
+     */
+    @Override
+    public void close() {
+        if (_ownsClient) {
+            if (_client instanceof AutoCloseable) {
+                try {
+                    ((AutoCloseable) _client).close();
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+    }
+
+    public static FleetClient create(String baseUrl) {
+        return new FleetClient(baseUrl);
+    }
+
+    public static FleetClient create(String baseUrl, HttpClient client) {
+        return new FleetClient(baseUrl, client);
+    }
+
+    public static FleetClient create() {
+        return new FleetClient();
+    }
+
+    public static FleetClient create(HttpClient client) {
+        return new FleetClient(client);
+    }
+
+}
@@ -0,0 +1,145 @@
+
+package immutable_types.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({
+    "plate",
+    "wheels"
+})
+@JsonDeserialize(builder = Vehicle.Builder.class)
+public class Vehicle {
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("plate")
+    private final String plate;
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("wheels")
+    private final long wheels;
+
+    public Vehicle(String plate, long wheels) {
+        this.plate = plate;
+        this.wheels = wheels;
+    }
+
+    private Vehicle(Vehicle.Builder builder) {
+        this.plate = builder.plate;
+        this.wheels = builder.wheels;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("plate")
+    public String getPlate() {
+        return plate;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("wheels")
+    public long getWheels() {
+        return wheels;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(Vehicle.class.getName()).append('@').append(Integer.toHexString(System.identityHashCode(this))).append('[');
+        sb.append("plate");
+        sb.append('=');
+        sb.append(((this.plate == null)?"<null>":this.plate));
+        sb.append(',');
+        sb.append("wheels");
+        sb.append('=');
+        sb.append(this.wheels);
+        sb.append(',');
+        if (sb.charAt((sb.length()- 1)) == ',') {
+            sb.setCharAt((sb.length()- 1), ']');
+        } else {
+            sb.append(']');
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        result = ((result* 31)+((int)(this.wheels^(this.wheels >>> 32))));
+        result = ((result* 31)+((this.plate == null)? 0 :this.plate.hashCode()));
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if ((other instanceof Vehicle) == false) {
+            return false;
+        }
+        Vehicle rhs = ((Vehicle) other);
+        return ((this.wheels == rhs.wheels)&&((this.plate == rhs.plate)||((this.plate!= null)&&this.plate.equals(rhs.plate))));
+    }
+
+    /**
+     * @return a builder with the properties of this model, to build a copy of it with some of them changed
+     * 
+     */
+    public Vehicle.Builder toBuilder() {
+        final Vehicle.Builder builder = new Vehicle.Builder();
+        builder.plate = this.plate;
+        builder.wheels = this.wheels;
+        return builder;
+    }
+
+    public static Vehicle.Builder builder() {
+        return new Vehicle.Builder();
+    }
+
+
+    /**
+     * Builds the model, the properties that are not given keep their default value.
+     * 
+     */
+    public static class Builder {
+
+        private String plate;
+        private long wheels;
+
+        @JsonProperty("plate")
+        public Vehicle.Builder withPlate(String plate) {
+            this.plate = plate;
+            return this;
+        }
+
+        @JsonProperty("wheels")
+        public Vehicle.Builder withWheels(long wheels) {
+            this.wheels = wheels;
+            return this;
+        }
+
+        public Vehicle build() {
+            return new Vehicle(this);
+        }
+
+    }
+
+}
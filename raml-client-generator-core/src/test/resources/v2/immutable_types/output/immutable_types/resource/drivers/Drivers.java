@@ -0,0 +1,78 @@
+
+package immutable_types.resource.drivers;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import immutable_types.api.FleetHttpSupport;
+import immutable_types.api.FleetUriTemplate;
+import immutable_types.exceptions.FleetException;
+import immutable_types.responses.FleetResponse;
+
+public class Drivers {
+
+    private FleetUriTemplate _uriTemplate;
+    private HttpClient _client;
+
+    public Drivers() {
+        _uriTemplate = null;
+        _client = null;
+    }
+
+    public Drivers(FleetUriTemplate uriTemplate, HttpClient _client) {
+        _uriTemplate = uriTemplate.path("drivers");
+        this._client = _client;
+    }
+
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public Drivers(String baseUrl, HttpClient _client) {
+        this(new FleetUriTemplate(baseUrl), _client);
+    }
+
+    protected HttpClient getClient() {
+        return this._client;
+    }
+
+    private String getBaseUri() {
+        return _uriTemplate.getTemplate();
+    }
+
+    public FleetResponse<List<immutable_types.resource.drivers.model.Driver>> get() {
+        String uri = getBaseUri();
+        final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(uri)).header("Accept", "application/json");
+        requestBuilder.method("GET", HttpRequest.BodyPublishers.noBody());
+        final HttpResponse<byte[]> response = FleetHttpSupport.send(this._client, requestBuilder.build(), HttpResponse.BodyHandlers.ofByteArray());
+        return readGetResponse(response);
+    }
+
+    private FleetResponse<List<immutable_types.resource.drivers.model.Driver>> readGetResponse(HttpResponse<byte[]> response) {
+        if ((response.statusCode()/ 100)!= 2) {
+            throw new FleetException(response.statusCode(), ("HTTP status "+ response.statusCode()), response.headers().map(), response);
+        }
+        return new FleetResponse<List<immutable_types.resource.drivers.model.Driver>>(FleetHttpSupport.readJson(response, (
+new com.fasterxml.jackson.core.type.TypeReference<java.util.List<immutable_types.resource.drivers.model.Driver>>() {})), response.headers().map(), response);
+    }
+
+    public FleetResponse<Void> post(immutable_types.model.Driver body) {
+        String uri = getBaseUri();
+        final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(uri)).header("Accept", "application/json");
+        requestBuilder.header("Content-Type", "application/json");
+        requestBuilder.method("POST", FleetHttpSupport.json(body));
+        final HttpResponse<byte[]> response = FleetHttpSupport.send(this._client, requestBuilder.build(), HttpResponse.BodyHandlers.ofByteArray());
+        return readPostResponse(response);
+    }
+
+    private FleetResponse<Void> readPostResponse(HttpResponse<byte[]> response) {
+        if ((response.statusCode()/ 100)!= 2) {
+            throw new FleetException(response.statusCode(), ("HTTP status "+ response.statusCode()), response.headers().map(), response);
+        }
+        return new FleetResponse<Void>(null, response.headers().map(), response);
+    }
+
+}
@@ -0,0 +1,171 @@
+
+package immutable_types.resource.drivers.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({
+    "name",
+    "licenses",
+    "vehicle"
+})
+@JsonDeserialize(builder = Driver.Builder.class)
+public class Driver {
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("name")
+    private final String name;
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("licenses")
+    private final List<String> licenses;
+    @JsonProperty("vehicle")
+    private final Truck vehicle;
+
+    public Driver(String name, List<String> licenses, Truck vehicle) {
+        this.name = name;
+        this.licenses = ((licenses == null)?null:Collections.unmodifiableList(new ArrayList<String>(licenses)));
+        this.vehicle = vehicle;
+    }
+
+    private Driver(Driver.Builder builder) {
+        this.name = builder.name;
+        this.licenses = builder.licenses;
+        this.vehicle = builder.vehicle;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("name")
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("licenses")
+    public List<String> getLicenses() {
+        return licenses;
+    }
+
+    @JsonProperty("vehicle")
+    public Truck getVehicle() {
+        return vehicle;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(Driver.class.getName()).append('@').append(Integer.toHexString(System.identityHashCode(this))).append('[');
+        sb.append("name");
+        sb.append('=');
+        sb.append(((this.name == null)?"<null>":this.name));
+        sb.append(',');
+        sb.append("licenses");
+        sb.append('=');
+        sb.append(((this.licenses == null)?"<null>":this.licenses));
+        sb.append(',');
+        sb.append("vehicle");
+        sb.append('=');
+        sb.append(((this.vehicle == null)?"<null>":this.vehicle));
+        sb.append(',');
+        if (sb.charAt((sb.length()- 1)) == ',') {
+            sb.setCharAt((sb.length()- 1), ']');
+        } else {
+            sb.append(']');
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        result = ((result* 31)+((this.name == null)? 0 :this.name.hashCode()));
+        result = ((result* 31)+((this.licenses == null)? 0 :this.licenses.hashCode()));
+        result = ((result* 31)+((this.vehicle == null)? 0 :this.vehicle.hashCode()));
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if ((other instanceof Driver) == false) {
+            return false;
+        }
+        Driver rhs = ((Driver) other);
+        return ((((this.name == rhs.name)||((this.name!= null)&&this.name.equals(rhs.name)))&&((this.licenses == rhs.licenses)||((this.licenses!= null)&&this.licenses.equals(rhs.licenses))))&&((this.vehicle == rhs.vehicle)||((this.vehicle!= null)&&this.vehicle.equals(rhs.vehicle))));
+    }
+
+    /**
+     * @return a builder with the properties of this model, to build a copy of it with some of them changed
+     * 
+     */
+    public Driver.Builder toBuilder() {
+        final Driver.Builder builder = new Driver.Builder();
+        builder.name = this.name;
+        builder.licenses = this.licenses;
+        builder.vehicle = this.vehicle;
+        return builder;
+    }
+
+    public static Driver.Builder builder() {
+        return new Driver.Builder();
+    }
+
+
+    /**
+     * Builds the model, the properties that are not given keep their default value.
+     * 
+     */
+    public static class Builder {
+
+        private String name;
+        private List<String> licenses;
+        private Truck vehicle;
+
+        @JsonProperty("name")
+        public Driver.Builder withName(String name) {
+            this.name = name;
+            return this;
+        }
+
+        @JsonProperty("licenses")
+        public Driver.Builder withLicenses(List<String> licenses) {
+            this.licenses = ((licenses == null)?null:Collections.unmodifiableList(new ArrayList<String>(licenses)));
+            return this;
+        }
+
+        @JsonProperty("vehicle")
+        public Driver.Builder withVehicle(Truck vehicle) {
+            this.vehicle = vehicle;
+            return this;
+        }
+
+        public Driver build() {
+            return new Driver(this);
+        }
+
+    }
+
+}
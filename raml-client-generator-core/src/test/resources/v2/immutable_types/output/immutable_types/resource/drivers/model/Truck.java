@@ -0,0 +1,178 @@
+
+package immutable_types.resource.drivers.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({
+    "plate",
+    "wheels",
+    "payload"
+})
+@JsonDeserialize(builder = Truck.Builder.class)
+public class Truck {
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("plate")
+    private final String plate;
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("wheels")
+    private final long wheels;
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("payload")
+    private final double payload;
+
+    public Truck(String plate, long wheels, double payload) {
+        this.plate = plate;
+        this.wheels = wheels;
+        this.payload = payload;
+    }
+
+    private Truck(Truck.Builder builder) {
+        this.plate = builder.plate;
+        this.wheels = builder.wheels;
+        this.payload = builder.payload;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("plate")
+    public String getPlate() {
+        return plate;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("wheels")
+    public long getWheels() {
+        return wheels;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("payload")
+    public double getPayload() {
+        return payload;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(Truck.class.getName()).append('@').append(Integer.toHexString(System.identityHashCode(this))).append('[');
+        sb.append("plate");
+        sb.append('=');
+        sb.append(((this.plate == null)?"<null>":this.plate));
+        sb.append(',');
+        sb.append("wheels");
+        sb.append('=');
+        sb.append(this.wheels);
+        sb.append(',');
+        sb.append("payload");
+        sb.append('=');
+        sb.append(this.payload);
+        sb.append(',');
+        if (sb.charAt((sb.length()- 1)) == ',') {
+            sb.setCharAt((sb.length()- 1), ']');
+        } else {
+            sb.append(']');
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        result = ((result* 31)+((int)(this.wheels^(this.wheels >>> 32))));
+        result = ((result* 31)+((this.plate == null)? 0 :this.plate.hashCode()));
+        result = ((result* 31)+((int)(Double.doubleToLongBits(this.payload)^(Double.doubleToLongBits(this.payload)>>> 32))));
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if ((other instanceof Truck) == false) {
+            return false;
+        }
+        Truck rhs = ((Truck) other);
+        return (((this.wheels == rhs.wheels)&&((this.plate == rhs.plate)||((this.plate!= null)&&this.plate.equals(rhs.plate))))&&(Double.doubleToLongBits(this.payload) == Double.doubleToLongBits(rhs.payload)));
+    }
+
+    /**
+     * @return a builder with the properties of this model, to build a copy of it with some of them changed
+     * 
+     */
+    public Truck.Builder toBuilder() {
+        final Truck.Builder builder = new Truck.Builder();
+        builder.plate = this.plate;
+        builder.wheels = this.wheels;
+        builder.payload = this.payload;
+        return builder;
+    }
+
+    public static Truck.Builder builder() {
+        return new Truck.Builder();
+    }
+
+
+    /**
+     * Builds the model, the properties that are not given keep their default value.
+     * 
+     */
+    public static class Builder {
+
+        private String plate;
+        private long wheels;
+        private double payload;
+
+        @JsonProperty("plate")
+        public Truck.Builder withPlate(String plate) {
+            this.plate = plate;
+            return this;
+        }
+
+        @JsonProperty("wheels")
+        public Truck.Builder withWheels(long wheels) {
+            this.wheels = wheels;
+            return this;
+        }
+
+        @JsonProperty("payload")
+        public Truck.Builder withPayload(double payload) {
+            this.payload = payload;
+            return this;
+        }
+
+        public Truck build() {
+            return new Truck(this);
+        }
+
+    }
+
+}
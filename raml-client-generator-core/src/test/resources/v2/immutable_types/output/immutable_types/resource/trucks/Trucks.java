@@ -0,0 +1,61 @@
+
+package immutable_types.resource.trucks;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import immutable_types.api.FleetHttpSupport;
+import immutable_types.api.FleetUriTemplate;
+import immutable_types.exceptions.FleetException;
+import immutable_types.model.Truck;
+import immutable_types.responses.FleetResponse;
+
+public class Trucks {
+
+    private FleetUriTemplate _uriTemplate;
+    private HttpClient _client;
+
+    public Trucks() {
+        _uriTemplate = null;
+        _client = null;
+    }
+
+    public Trucks(FleetUriTemplate uriTemplate, HttpClient _client) {
+        _uriTemplate = uriTemplate.path("trucks");
+        this._client = _client;
+    }
+
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public Trucks(String baseUrl, HttpClient _client) {
+        this(new FleetUriTemplate(baseUrl), _client);
+    }
+
+    protected HttpClient getClient() {
+        return this._client;
+    }
+
+    private String getBaseUri() {
+        return _uriTemplate.getTemplate();
+    }
+
+    public FleetResponse<Truck> get() {
+        String uri = getBaseUri();
+        final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(uri)).header("Accept", "application/json");
+        requestBuilder.method("GET", HttpRequest.BodyPublishers.noBody());
+        final HttpResponse<byte[]> response = FleetHttpSupport.send(this._client, requestBuilder.build(), HttpResponse.BodyHandlers.ofByteArray());
+        return readGetResponse(response);
+    }
+
+    private FleetResponse<Truck> readGetResponse(HttpResponse<byte[]> response) {
+        if ((response.statusCode()/ 100)!= 2) {
+            throw new FleetException(response.statusCode(), ("HTTP status "+ response.statusCode()), response.headers().map(), response);
+        }
+        return new FleetResponse<Truck>(FleetHttpSupport.readJson(response, Truck.class), response.headers().map(), response);
+    }
+
+}
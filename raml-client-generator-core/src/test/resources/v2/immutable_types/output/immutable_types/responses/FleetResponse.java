@@ -0,0 +1,32 @@
+
+package immutable_types.responses;
+
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Map;
+
+public class FleetResponse<T >{
+
+    private T body;
+    private Map<String, List<String>> headers;
+    private HttpResponse<?> response;
+
+    public FleetResponse(T body, Map<String, List<String>> headers, HttpResponse<?> response) {
+        this.body = body;
+        this.headers = headers;
+        this.response = response;
+    }
+
+    public T getBody() {
+        return this.body;
+    }
+
+    public Map<String, List<String>> getHeaders() {
+        return this.headers;
+    }
+
+    public HttpResponse<?> getResponse() {
+        return this.response;
+    }
+
+}
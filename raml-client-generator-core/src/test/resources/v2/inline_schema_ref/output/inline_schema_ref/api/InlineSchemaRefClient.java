@@ -0,0 +1,80 @@
+
+package inline_schema_ref.api;
+
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.client.WebTarget;
+import inline_schema_ref.resource.companies.Companies;
+import inline_schema_ref.resource.users.Users;
+
+public class InlineSchemaRefClient
+    implements AutoCloseable
+{
+
+    private String _baseUrl;
+    private Client _client;
+    private boolean _ownsClient;
+    public final Users users;
+    public final Companies companies;
+
+    /**
+     * When a client is given it is used as is and it is not closed by {@link #close()}, otherwise one is created.
+     * 
+     */
+    public InlineSchemaRefClient(String baseUrl, Client client) {
+        _baseUrl = baseUrl;
+        _ownsClient = (client == null);
+        _client = (_ownsClient?getClient():client);
+        final WebTarget uriTemplate = _client.target(getBaseUri());
+        users = new Users(uriTemplate, _client);
+        companies = new Companies(uriTemplate, _client);
+    }
+
+    public InlineSchemaRefClient(String baseUrl) {
+        this(baseUrl, null);
+    }
+
+    public InlineSchemaRefClient() {
+        this("http://localhost/api");
+    }
+
+    public InlineSchemaRefClient(Client client) {
+        this("http://localhost/api", client);
+    }
+
+    protected Client getClient() {
+        return ClientBuilder.newClient();
+    }
+
+    protected String getBaseUri() {
+        return _baseUrl;
+    }
+
+    /**
+     * Closes the client if it was created by this instance.
+     * 
+     */
+    @Override
+    public void close() {
+        if (_ownsClient) {
+            _client.close();
+        }
+    }
+
+    public static InlineSchemaRefClient create(String baseUrl) {
+        return new InlineSchemaRefClient(baseUrl);
+    }
+
+    public static InlineSchemaRefClient create(String baseUrl, Client client) {
+        return new InlineSchemaRefClient(baseUrl, client);
+    }
+
+    public static InlineSchemaRefClient create() {
+        return new InlineSchemaRefClient();
+    }
+
+    public static InlineSchemaRefClient create(Client client) {
+        return new InlineSchemaRefClient(client);
+    }
+
+}
@@ -0,0 +1,56 @@
+
+package inline_schema_ref.resource.companies;
+
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.Status.Family;
+import inline_schema_ref.exceptions.InlineSchemaRefException;
+import inline_schema_ref.responses.InlineSchemaRefResponse;
+
+public class Companies {
+
+    private WebTarget _uriTemplate;
+    private Client _client;
+
+    public Companies() {
+        _uriTemplate = null;
+        _client = null;
+    }
+
+    public Companies(WebTarget uriTemplate, Client _client) {
+        _uriTemplate = uriTemplate.path("companies");
+        this._client = _client;
+    }
+
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public Companies(String baseUrl, Client _client) {
+        this(_client.target(baseUrl), _client);
+    }
+
+    protected Client getClient() {
+        return this._client;
+    }
+
+    private WebTarget getTarget() {
+        return _uriTemplate;
+    }
+
+    public InlineSchemaRefResponse<inline_schema_ref.resource.companies.model.CompaniesGETResponseBody> get() {
+        WebTarget target = getTarget();
+        final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(MediaType.APPLICATION_JSON_TYPE);
+        Response response = invocationBuilder.method("GET");
+        if (response.getStatusInfo().getFamily()!= Family.SUCCESSFUL) {
+            Response.StatusType statusInfo = response.getStatusInfo();
+            throw new InlineSchemaRefException(statusInfo.getStatusCode(), statusInfo.getReasonPhrase(), response.getStringHeaders(), response);
+        }
+        InlineSchemaRefResponse<inline_schema_ref.resource.companies.model.CompaniesGETResponseBody> apiResponse = new InlineSchemaRefResponse<inline_schema_ref.resource.companies.model.CompaniesGETResponseBody>(response.readEntity(inline_schema_ref.resource.companies.model.CompaniesGETResponseBody.class), response.getStringHeaders(), response);
+        return apiResponse;
+    }
+
+}
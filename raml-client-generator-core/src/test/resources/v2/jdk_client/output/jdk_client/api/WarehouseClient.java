@@ -0,0 +1,94 @@
+
+package jdk_client.api;
+
+import java.net.http.HttpClient;
+import jdk_client.resource.adjustments.Adjustments;
+import jdk_client.resource.imports.Imports;
+import jdk_client.resource.items.Items;
+import jdk_client.resource.reports.Reports;
+
+public class WarehouseClient
+    implements AutoCloseable
+{
+
+    private static java.lang.String username;
+    private static java.lang.String password;
+    private java.lang.String _baseUrl;
+    private HttpClient _client;
+    private boolean _ownsClient;
+    public final Items items;
+    public final Imports imports;
+    public final Adjustments adjustments;
+    public final Reports reports;
+
+    /**
+     * When a client is given it is used as is and it is not closed by {@link #close()}, otherwise one is created.
+     * 
+     */
+    public WarehouseClient(java.lang.String baseUrl, java.lang.String username, java.lang.String password, HttpClient client) {
+        this.username = username;
+        this.password = password;
+        _baseUrl = baseUrl;
+        _ownsClient = (client == null);
+        _client = (_ownsClient?getClient():client);
+        final WarehouseUriTemplate uriTemplate = new WarehouseUriTemplate(getBaseUri()).withBasicAuthentication(username, password);
+        items = new Items(uriTemplate, _client);
+        imports = new Imports(uriTemplate, _client);
+        adjustments = new Adjustments(uriTemplate, _client);
+        reports = new Reports(uriTemplate, _client);
+    }
+
+    public WarehouseClient(java.lang.String baseUrl, java.lang.String username, java.lang.String password) {
+        this(baseUrl, username, password, null);
+    }
+
+    public WarehouseClient(java.lang.String username, java.lang.String password) {
+        this("http://localhost:8081/api", username, password);
+    }
+
+    public WarehouseClient(java.lang.String username, java.lang.String password, HttpClient client) {
+        this("http://localhost:8081/api", username, password, client);
+    }
+
+    protected HttpClient getClient() {
+        return HttpClient.newHttpClient();
+    }
+
+    protected java.lang.String getBaseUri() {
+        return _baseUrl;
+    }
+
+    /**
+     * Closes the client if it was created by this instance.
+     * 
+     */
+    @Override
+    public void close() {
+        if (_ownsClient) {
+            if (_client instanceof AutoCloseable) {
+                try {
+                    ((AutoCloseable) _client).close();
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+    }
+
+    public static WarehouseClient create(java.lang.String baseUrl, java.lang.String username, java.lang.String password) {
+        return new WarehouseClient(baseUrl, username, password);
+    }
+
+    public static WarehouseClient create(java.lang.String baseUrl, java.lang.String username, java.lang.String password, HttpClient client) {
+        return new WarehouseClient(baseUrl, username, password, client);
+    }
+
+    public static WarehouseClient create(java.lang.String username, java.lang.String password) {
+        return new WarehouseClient(username, password);
+    }
+
+    public static WarehouseClient create(java.lang.String username, java.lang.String password, HttpClient client) {
+        return new WarehouseClient(username, password, client);
+    }
+
+}
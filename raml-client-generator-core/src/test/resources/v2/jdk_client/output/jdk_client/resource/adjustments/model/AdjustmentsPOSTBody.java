@@ -0,0 +1,35 @@
+
+package jdk_client.resource.adjustments.model;
+
+
+public class AdjustmentsPOSTBody {
+
+    private String _sku;
+    private Integer _delta;
+
+    public AdjustmentsPOSTBody(String sku) {
+        _sku = sku;
+    }
+
+    public void setSku(String sku) {
+        _sku = sku;
+    }
+
+    public String getSku() {
+        return _sku;
+    }
+
+    public AdjustmentsPOSTBody withDelta(Integer delta) {
+        _delta = delta;
+        return this;
+    }
+
+    public void setDelta(Integer delta) {
+        _delta = delta;
+    }
+
+    public Integer getDelta() {
+        return _delta;
+    }
+
+}
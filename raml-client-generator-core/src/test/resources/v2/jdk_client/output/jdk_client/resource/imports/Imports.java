@@ -0,0 +1,96 @@
+
+package jdk_client.resource.imports;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import jdk_client.api.WarehouseHttpSupport;
+import jdk_client.api.WarehouseUriTemplate;
+import jdk_client.exceptions.WarehouseException;
+import jdk_client.resource.imports.model.ImportsPOSTBody;
+import jdk_client.responses.WarehouseResponse;
+
+public class Imports {
+
+    private WarehouseUriTemplate _uriTemplate;
+    private HttpClient _client;
+
+    public Imports() {
+        _uriTemplate = null;
+        _client = null;
+    }
+
+    public Imports(WarehouseUriTemplate uriTemplate, HttpClient _client) {
+        _uriTemplate = uriTemplate.path("imports");
+        this._client = _client;
+    }
+
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public Imports(String baseUrl, HttpClient _client) {
+        this(new WarehouseUriTemplate(baseUrl), _client);
+    }
+
+    protected HttpClient getClient() {
+        return this._client;
+    }
+
+    private String getBaseUri() {
+        return _uriTemplate.getTemplate();
+    }
+
+    public WarehouseResponse<String> post(ImportsPOSTBody body) {
+        String uri = getBaseUri();
+        final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(uri)).header("Accept", "text/plain");
+        this._uriTemplate.authorize(requestBuilder);
+        final String boundary = UUID.randomUUID().toString();
+        final Map<String, Object> parts = new LinkedHashMap<String, Object>();
+        if (body.getFile()!= null) {
+            parts.put("file", body.getFile());
+        }
+        if (body.getDescription()!= null) {
+            parts.put("description", body.getDescription());
+        }
+        requestBuilder.header("Content-Type", ("multipart/form-data; boundary="+ boundary));
+        requestBuilder.method("POST", WarehouseHttpSupport.multipart(boundary, parts));
+        final HttpResponse<byte[]> response = WarehouseHttpSupport.send(this._client, requestBuilder.build(), HttpResponse.BodyHandlers.ofByteArray());
+        return readPostResponse(response);
+    }
+
+    private WarehouseResponse<String> readPostResponse(HttpResponse<byte[]> response) {
+        if ((response.statusCode()/ 100)!= 2) {
+            throw new WarehouseException(response.statusCode(), ("HTTP status "+ response.statusCode()), response.headers().map(), response);
+        }
+        return new WarehouseResponse<String>(WarehouseHttpSupport.readString(response), response.headers().map(), response);
+    }
+
+    /**
+     * The returned future completes exceptionally with the same exceptions the blocking method throws.
+     * 
+     */
+    public CompletableFuture<WarehouseResponse<String>> postAsync(ImportsPOSTBody body) {
+        String uri = getBaseUri();
+        final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(uri)).header("Accept", "text/plain");
+        this._uriTemplate.authorize(requestBuilder);
+        final String boundary = UUID.randomUUID().toString();
+        final Map<String, Object> parts = new LinkedHashMap<String, Object>();
+        if (body.getFile()!= null) {
+            parts.put("file", body.getFile());
+        }
+        if (body.getDescription()!= null) {
+            parts.put("description", body.getDescription());
+        }
+        requestBuilder.header("Content-Type", ("multipart/form-data; boundary="+ boundary));
+        requestBuilder.method("POST", WarehouseHttpSupport.multipart(boundary, parts));
+        return this._client.sendAsync(requestBuilder.build(), HttpResponse.BodyHandlers.ofByteArray()).thenApply((this::readPostResponse));
+    }
+
+}
@@ -0,0 +1,36 @@
+
+package jdk_client.resource.imports.model;
+
+import java.io.File;
+
+public class ImportsPOSTBody {
+
+    private File _file;
+    private String _description;
+
+    public ImportsPOSTBody(File file) {
+        _file = file;
+    }
+
+    public void setFile(File file) {
+        _file = file;
+    }
+
+    public File getFile() {
+        return _file;
+    }
+
+    public ImportsPOSTBody withDescription(String description) {
+        _description = description;
+        return this;
+    }
+
+    public void setDescription(String description) {
+        _description = description;
+    }
+
+    public String getDescription() {
+        return _description;
+    }
+
+}
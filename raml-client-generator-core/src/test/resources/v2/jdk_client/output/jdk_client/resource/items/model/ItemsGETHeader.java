@@ -0,0 +1,25 @@
+
+package jdk_client.resource.items.model;
+
+
+public class ItemsGETHeader {
+
+    private String _xTenant;
+
+    public ItemsGETHeader() {
+    }
+
+    public ItemsGETHeader withXTenant(String xTenant) {
+        _xTenant = xTenant;
+        return this;
+    }
+
+    public void setXTenant(String xTenant) {
+        _xTenant = xTenant;
+    }
+
+    public String getXTenant() {
+        return _xTenant;
+    }
+
+}
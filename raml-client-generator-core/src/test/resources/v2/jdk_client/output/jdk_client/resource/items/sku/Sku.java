@@ -0,0 +1,123 @@
+
+package jdk_client.resource.items.sku;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import jdk_client.api.WarehouseHttpSupport;
+import jdk_client.api.WarehouseUriTemplate;
+import jdk_client.exceptions.WarehouseException;
+import jdk_client.resource.items.sku.label.Label;
+import jdk_client.resource.items.sku.model.SkuGETResponseBody;
+import jdk_client.resource.items.sku.photo.Photo;
+import jdk_client.responses.WarehouseResponse;
+
+public class Sku {
+
+    private WarehouseUriTemplate _uriTemplate;
+    private HttpClient _client;
+    private Map<String, Object> _uriParams;
+    public final Label label;
+    public final Photo photo;
+
+    public Sku() {
+        _uriTemplate = null;
+        _client = null;
+        _uriParams = null;
+        label = null;
+        photo = null;
+    }
+
+    public Sku(WarehouseUriTemplate uriTemplate, HttpClient _client) {
+        _uriTemplate = uriTemplate.path("{sku}");
+        this._client = _client;
+        label = new Label(_uriTemplate, getClient());
+        photo = new Photo(_uriTemplate, getClient());
+    }
+
+    public Sku(Sku template, Map<String, Object> uriParams) {
+        _uriTemplate = template._uriTemplate;
+        _client = template._client;
+        _uriParams = uriParams;
+        label = new Label(template.label, _uriParams);
+        photo = new Photo(template.photo, _uriParams);
+    }
+
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public Sku(String baseUrl, HttpClient _client, String uriParam) {
+        this(new Sku(new WarehouseUriTemplate(baseUrl), _client), Collections.singletonMap("sku", ((Object) uriParam)));
+    }
+
+    protected HttpClient getClient() {
+        return this._client;
+    }
+
+    private String getBaseUri() {
+        return _uriTemplate.expand(_uriParams);
+    }
+
+    public WarehouseResponse<SkuGETResponseBody> get() {
+        String uri = getBaseUri();
+        final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(uri)).header("Accept", "application/json");
+        this._uriTemplate.authorize(requestBuilder);
+        requestBuilder.method("GET", HttpRequest.BodyPublishers.noBody());
+        final HttpResponse<byte[]> response = WarehouseHttpSupport.send(this._client, requestBuilder.build(), HttpResponse.BodyHandlers.ofByteArray());
+        return readGetResponse(response);
+    }
+
+    private WarehouseResponse<SkuGETResponseBody> readGetResponse(HttpResponse<byte[]> response) {
+        if ((response.statusCode()/ 100)!= 2) {
+            throw new WarehouseException(response.statusCode(), ("HTTP status "+ response.statusCode()), response.headers().map(), response);
+        }
+        return new WarehouseResponse<SkuGETResponseBody>(WarehouseHttpSupport.readJson(response, SkuGETResponseBody.class), response.headers().map(), response);
+    }
+
+    /**
+     * The returned future completes exceptionally with the same exceptions the blocking method throws.
+     * 
+     */
+    public CompletableFuture<WarehouseResponse<SkuGETResponseBody>> getAsync() {
+        String uri = getBaseUri();
+        final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(uri)).header("Accept", "application/json");
+        this._uriTemplate.authorize(requestBuilder);
+        requestBuilder.method("GET", HttpRequest.BodyPublishers.noBody());
+        return this._client.sendAsync(requestBuilder.build(), HttpResponse.BodyHandlers.ofByteArray()).thenApply((this::readGetResponse));
+    }
+
+    public WarehouseResponse<Void> delete() {
+        String uri = getBaseUri();
+        final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(uri)).header("Accept", "application/json");
+        this._uriTemplate.authorize(requestBuilder);
+        requestBuilder.method("DELETE", HttpRequest.BodyPublishers.noBody());
+        final HttpResponse<byte[]> response = WarehouseHttpSupport.send(this._client, requestBuilder.build(), HttpResponse.BodyHandlers.ofByteArray());
+        return readDeleteResponse(response);
+    }
+
+    private WarehouseResponse<Void> readDeleteResponse(HttpResponse<byte[]> response) {
+        if ((response.statusCode()/ 100)!= 2) {
+            throw new WarehouseException(response.statusCode(), ("HTTP status "+ response.statusCode()), response.headers().map(), response);
+        }
+        return new WarehouseResponse<Void>(null, response.headers().map(), response);
+    }
+
+    /**
+     * The returned future completes exceptionally with the same exceptions the blocking method throws.
+     * 
+     */
+    public CompletableFuture<WarehouseResponse<Void>> deleteAsync() {
+        String uri = getBaseUri();
+        final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(uri)).header("Accept", "application/json");
+        this._uriTemplate.authorize(requestBuilder);
+        requestBuilder.method("DELETE", HttpRequest.BodyPublishers.noBody());
+        return this._client.sendAsync(requestBuilder.build(), HttpResponse.BodyHandlers.ofByteArray()).thenApply((this::readDeleteResponse));
+    }
+
+}
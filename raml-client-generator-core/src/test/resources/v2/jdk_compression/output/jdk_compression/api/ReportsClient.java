@@ -0,0 +1,81 @@
+
+package jdk_compression.api;
+
+import java.net.http.HttpClient;
+import jdk_compression.resource.reports.Reports;
+
+public class ReportsClient
+    implements AutoCloseable
+{
+
+    private String _baseUrl;
+    private HttpClient _client;
+    private boolean _ownsClient;
+    public final Reports reports;
+
+    /**
+     * When a client is given it is used as is and it is not closed by {@link #close()}, otherwise one is created.
+     * 
+     */
+    public ReportsClient(String baseUrl, HttpClient client) {
+        _baseUrl = baseUrl;
+        _ownsClient = (client == null);
+        _client = (_ownsClient?getClient():client);
+        final ReportsUriTemplate uriTemplate = new ReportsUriTemplate(getBaseUri());
+        reports = new Reports(uriTemplate, _client);
+    }
+
+    public ReportsClient(String baseUrl) {
+        this(baseUrl, null);
+    }
+
+    public ReportsClient() {
+        this("http://localhost:8081/api");
+    }
+
+    public ReportsClient(HttpClient client) {
+        this("http://localhost:8081/api", client);
+    }
+
+    protected HttpClient getClient() {
+        return HttpClient.newHttpClient();
+    }
+
+    protected String getBaseUri() {
+        return _baseUrl;
+    }
+
+    /**
+     * Closes the client if it was created by this instance.
+     * 
+     */
+    @Override
+    public void close() {
+        if (_ownsClient) {
+            if (_client instanceof AutoCloseable) {
+                try {
+                    ((AutoCloseable) _client).close();
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+    }
+
+    public static ReportsClient create(String baseUrl) {
+        return new ReportsClient(baseUrl);
+    }
+
+    public static ReportsClient create(String baseUrl, HttpClient client) {
+        return new ReportsClient(baseUrl, client);
+    }
+
+    public static ReportsClient create() {
+        return new ReportsClient();
+    }
+
+    public static ReportsClient create(HttpClient client) {
+        return new ReportsClient(client);
+    }
+
+}
@@ -0,0 +1,66 @@
+
+package jdk_compression.api;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+
+
+/**
+ * Uri of a resource, with its uri parameters left as <code>{name}</code> placeholders, and the credentials sent to it.
+ * 
+ */
+public final class ReportsUriTemplate {
+
+    private final String template;
+    private final String authorization;
+
+    private ReportsUriTemplate(String template, String authorization) {
+        this.template = template;
+        this.authorization = authorization;
+    }
+
+    public ReportsUriTemplate(String template) {
+        this(template, null);
+    }
+
+    /**
+     * The template of a child resource, sending the same credentials.
+     * 
+     */
+    public ReportsUriTemplate path(String segment) {
+        return new ReportsUriTemplate(((template +"/")+ segment), authorization);
+    }
+
+    /**
+     * The same template, sending the credentials with every request instead of waiting for the server to challenge them.
+     * 
+     */
+    public ReportsUriTemplate withBasicAuthentication(String username, String password) {
+        return new ReportsUriTemplate(template, ("Basic "+ Base64 .getEncoder().encodeToString(((username +":")+ password).getBytes(StandardCharsets.UTF_8))));
+    }
+
+    public String getTemplate() {
+        return template;
+    }
+
+    /**
+     * The uri with the values of its uri parameters, encoded as path segments.
+     * 
+     */
+    public String expand(Map<String, Object> uriParams) {
+        return ReportsHttpSupport.expand(template, uriParams);
+    }
+
+    /**
+     * Adds the credentials, if any, to the request.
+     * 
+     */
+    public java.net.http.HttpRequest.Builder authorize(java.net.http.HttpRequest.Builder requestBuilder) {
+        if (authorization!= null) {
+            requestBuilder.header("Authorization", authorization);
+        }
+        return requestBuilder;
+    }
+
+}
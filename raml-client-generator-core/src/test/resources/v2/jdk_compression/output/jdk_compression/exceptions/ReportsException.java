@@ -0,0 +1,45 @@
+
+package jdk_compression.exceptions;
+
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Map;
+
+public class ReportsException
+    extends RuntimeException
+{
+
+    private int statusCode;
+    private String reason;
+    private Map<String, List<String>> headers;
+    private HttpResponse<?> response;
+
+    public ReportsException(int statusCode, String reason, Map<String, List<String>> headers, HttpResponse<?> response) {
+        super(reason);
+        this.statusCode = statusCode;
+        this.reason = reason;
+        this.headers = headers;
+        this.response = response;
+    }
+
+    public ReportsException(int statusCode, String reason) {
+        this(statusCode, reason, null, null);
+    }
+
+    public int getStatusCode() {
+        return this.statusCode;
+    }
+
+    public String getReason() {
+        return this.reason;
+    }
+
+    public Map<String, List<String>> getHeaders() {
+        return this.headers;
+    }
+
+    public HttpResponse<?> getResponse() {
+        return this.response;
+    }
+
+}
@@ -0,0 +1,93 @@
+
+package jdk_compression.resource.reports;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Collections;
+import java.util.List;
+import jdk_compression.api.ReportsHttpSupport;
+import jdk_compression.api.ReportsUriTemplate;
+import jdk_compression.exceptions.ReportsException;
+import jdk_compression.resource.reports.name.Name;
+import jdk_compression.responses.ReportsResponse;
+
+public class Reports {
+
+    private ReportsUriTemplate _uriTemplate;
+    private HttpClient _client;
+    private final Name _name;
+
+    public Reports() {
+        _uriTemplate = null;
+        _client = null;
+        _name = null;
+    }
+
+    public Reports(ReportsUriTemplate uriTemplate, HttpClient _client) {
+        _uriTemplate = uriTemplate.path("reports");
+        this._client = _client;
+        _name = new Name(_uriTemplate, getClient());
+    }
+
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public Reports(String baseUrl, HttpClient _client) {
+        this(new ReportsUriTemplate(baseUrl), _client);
+    }
+
+    protected HttpClient getClient() {
+        return this._client;
+    }
+
+    private String getBaseUri() {
+        return _uriTemplate.getTemplate();
+    }
+
+    public ReportsResponse<List<jdk_compression.resource.reports.model.Report>> get() {
+        String uri = getBaseUri();
+        final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(uri)).header("Accept", "application/json");
+        requestBuilder.method("GET", HttpRequest.BodyPublishers.noBody());
+        requestBuilder.header("Accept-Encoding", "gzip, deflate");
+        final HttpResponse<byte[]> response = ReportsHttpSupport.send(this._client, requestBuilder.build(), ReportsHttpSupport.decoded());
+        return readGetResponse(response);
+    }
+
+    private ReportsResponse<List<jdk_compression.resource.reports.model.Report>> readGetResponse(HttpResponse<byte[]> response) {
+        if ((response.statusCode()/ 100)!= 2) {
+            throw new ReportsException(response.statusCode(), ("HTTP status "+ response.statusCode()), response.headers().map(), response);
+        }
+        return new ReportsResponse<List<jdk_compression.resource.reports.model.Report>>(ReportsHttpSupport.readJson(response, (
+new com.fasterxml.jackson.core.type.TypeReference<java.util.List<jdk_compression.resource.reports.model.Report>>() {})), response.headers().map(), response);
+    }
+
+    /**
+     * Stores a report, always sent gzipped
+     * 
+     */
+    public ReportsResponse<jdk_compression.model.Report> post(jdk_compression.model.Report body) {
+        String uri = getBaseUri();
+        final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(uri)).header("Accept", "application/json");
+        requestBuilder.header("Content-Type", "application/json");
+        requestBuilder.method("POST", ReportsHttpSupport.compress(requestBuilder, ReportsHttpSupport.writeJson(body), 0));
+        requestBuilder.header("Accept-Encoding", "gzip, deflate");
+        final HttpResponse<byte[]> response = ReportsHttpSupport.send(this._client, requestBuilder.build(), ReportsHttpSupport.decoded());
+        return readPostResponse(response);
+    }
+
+    private ReportsResponse<jdk_compression.model.Report> readPostResponse(HttpResponse<byte[]> response) {
+        if ((response.statusCode()/ 100)!= 2) {
+            throw new ReportsException(response.statusCode(), ("HTTP status "+ response.statusCode()), response.headers().map(), response);
+        }
+        return new ReportsResponse<jdk_compression.model.Report>(ReportsHttpSupport.readJson(response, jdk_compression.model.Report.class), response.headers().map(), response);
+    }
+
+    public Name name(String name) {
+        return new Name(_name, Collections.singletonMap("name", ((Object) name)));
+    }
+
+}
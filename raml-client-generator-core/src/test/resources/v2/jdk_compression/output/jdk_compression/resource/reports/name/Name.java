@@ -0,0 +1,78 @@
+
+package jdk_compression.resource.reports.name;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Collections;
+import java.util.Map;
+import jdk_compression.api.ReportsHttpSupport;
+import jdk_compression.api.ReportsUriTemplate;
+import jdk_compression.exceptions.ReportsException;
+import jdk_compression.model.Report;
+import jdk_compression.resource.reports.name.notes.Notes;
+import jdk_compression.responses.ReportsResponse;
+
+public class Name {
+
+    private ReportsUriTemplate _uriTemplate;
+    private HttpClient _client;
+    private Map<String, Object> _uriParams;
+    public final Notes notes;
+
+    public Name() {
+        _uriTemplate = null;
+        _client = null;
+        _uriParams = null;
+        notes = null;
+    }
+
+    public Name(ReportsUriTemplate uriTemplate, HttpClient _client) {
+        _uriTemplate = uriTemplate.path("{name}");
+        this._client = _client;
+        notes = new Notes(_uriTemplate, getClient());
+    }
+
+    public Name(Name template, Map<String, Object> uriParams) {
+        _uriTemplate = template._uriTemplate;
+        _client = template._client;
+        _uriParams = uriParams;
+        notes = new Notes(template.notes, _uriParams);
+    }
+
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public Name(String baseUrl, HttpClient _client, String uriParam) {
+        this(new Name(new ReportsUriTemplate(baseUrl), _client), Collections.singletonMap("name", ((Object) uriParam)));
+    }
+
+    protected HttpClient getClient() {
+        return this._client;
+    }
+
+    private String getBaseUri() {
+        return _uriTemplate.expand(_uriParams);
+    }
+
+    public ReportsResponse<Void> put(Report body) {
+        String uri = getBaseUri();
+        final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(uri)).header("Accept", "application/json");
+        requestBuilder.header("Content-Type", "application/json");
+        requestBuilder.method("PUT", ReportsHttpSupport.compress(requestBuilder, ReportsHttpSupport.writeJson(body), 1024));
+        requestBuilder.header("Accept-Encoding", "gzip, deflate");
+        final HttpResponse<byte[]> response = ReportsHttpSupport.send(this._client, requestBuilder.build(), ReportsHttpSupport.decoded());
+        return readPutResponse(response);
+    }
+
+    private ReportsResponse<Void> readPutResponse(HttpResponse<byte[]> response) {
+        if ((response.statusCode()/ 100)!= 2) {
+            throw new ReportsException(response.statusCode(), ("HTTP status "+ response.statusCode()), response.headers().map(), response);
+        }
+        return new ReportsResponse<Void>(null, response.headers().map(), response);
+    }
+
+}
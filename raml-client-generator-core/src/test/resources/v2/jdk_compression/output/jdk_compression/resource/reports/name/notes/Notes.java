@@ -0,0 +1,76 @@
+
+package jdk_compression.resource.reports.name.notes;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.HashMap;
+import java.util.Map;
+import jdk_compression.api.ReportsHttpSupport;
+import jdk_compression.api.ReportsUriTemplate;
+import jdk_compression.exceptions.ReportsException;
+import jdk_compression.responses.ReportsResponse;
+
+public class Notes {
+
+    private ReportsUriTemplate _uriTemplate;
+    private HttpClient _client;
+    private Map<String, Object> _uriParams;
+
+    public Notes() {
+        _uriTemplate = null;
+        _client = null;
+        _uriParams = null;
+    }
+
+    public Notes(ReportsUriTemplate uriTemplate, HttpClient _client) {
+        _uriTemplate = uriTemplate.path("notes");
+        this._client = _client;
+    }
+
+    public Notes(Notes template, Map<String, Object> uriParams) {
+        _uriTemplate = template._uriTemplate;
+        _client = template._client;
+        _uriParams = uriParams;
+    }
+
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public Notes(String baseUrl, HttpClient _client) {
+        this(new Notes(new ReportsUriTemplate(baseUrl), _client), new HashMap<String, Object>());
+    }
+
+    protected HttpClient getClient() {
+        return this._client;
+    }
+
+    private String getBaseUri() {
+        return _uriTemplate.expand(_uriParams);
+    }
+
+    /**
+     * Replaces the notes of the report, never sent gzipped
+     * 
+     */
+    public ReportsResponse<Void> put(String body) {
+        String uri = getBaseUri();
+        final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(uri)).header("Accept", "application/json");
+        requestBuilder.header("Content-Type", "text/plain");
+        requestBuilder.method("PUT", HttpRequest.BodyPublishers.ofString(body));
+        requestBuilder.header("Accept-Encoding", "gzip, deflate");
+        final HttpResponse<byte[]> response = ReportsHttpSupport.send(this._client, requestBuilder.build(), ReportsHttpSupport.decoded());
+        return readPutResponse(response);
+    }
+
+    private ReportsResponse<Void> readPutResponse(HttpResponse<byte[]> response) {
+        if ((response.statusCode()/ 100)!= 2) {
+            throw new ReportsException(response.statusCode(), ("HTTP status "+ response.statusCode()), response.headers().map(), response);
+        }
+        return new ReportsResponse<Void>(null, response.headers().map(), response);
+    }
+
+}
@@ -0,0 +1,81 @@
+
+package jdk_model_serializers.api;
+
+import java.net.http.HttpClient;
+import jdk_model_serializers.resource.folders.Folders;
+
+public class FoldersClient
+    implements AutoCloseable
+{
+
+    private String _baseUrl;
+    private HttpClient _client;
+    private boolean _ownsClient;
+    public final Folders folders;
+
+    /**
+     * When a client is given it is used as is and it is not closed by {@link #close()}, otherwise one is created.
+     * 
+     */
+    public FoldersClient(String baseUrl, HttpClient client) {
+        _baseUrl = baseUrl;
+        _ownsClient = (client == null);
+        _client = (_ownsClient?getClient():client);
+        final FoldersUriTemplate uriTemplate = new FoldersUriTemplate(getBaseUri());
+        folders = new Folders(uriTemplate, _client);
+    }
+
+    public FoldersClient(String baseUrl) {
+        this(baseUrl, null);
+    }
+
+    public FoldersClient() {
+        this("http://localhost:8081/api");
+    }
+
+    public FoldersClient(HttpClient client) {
+        this("http://localhost:8081/api", client);
+    }
+
+    protected HttpClient getClient() {
+        return HttpClient.newHttpClient();
+    }
+
+    protected String getBaseUri() {
+        return _baseUrl;
+    }
+
+    /**
+     * Closes the client if it was created by this instance.
+     * 
+     */
+    @Override
+    public void close() {
+        if (_ownsClient) {
+            if (_client instanceof AutoCloseable) {
+                try {
+                    ((AutoCloseable) _client).close();
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+    }
+
+    public static FoldersClient create(String baseUrl) {
+        return new FoldersClient(baseUrl);
+    }
+
+    public static FoldersClient create(String baseUrl, HttpClient client) {
+        return new FoldersClient(baseUrl, client);
+    }
+
+    public static FoldersClient create() {
+        return new FoldersClient();
+    }
+
+    public static FoldersClient create(HttpClient client) {
+        return new FoldersClient(client);
+    }
+
+}
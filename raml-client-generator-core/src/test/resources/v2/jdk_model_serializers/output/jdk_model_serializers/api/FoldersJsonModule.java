@@ -0,0 +1,24 @@
+
+package jdk_model_serializers.api;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+
+/**
+ * Registers the serializers and deserializers generated for the models of the api, that read and write them without reflection.
+ * 
+ */
+public class FoldersJsonModule
+    extends SimpleModule
+{
+
+
+    public FoldersJsonModule() {
+        super("FoldersJsonModule");
+        addSerializer(jdk_model_serializers.model.Folder.class, new jdk_model_serializers.model.Folder.Serializer());
+        addDeserializer(jdk_model_serializers.model.Folder.class, new jdk_model_serializers.model.Folder.Deserializer());
+        addSerializer(jdk_model_serializers.resource.folders.model.Folder.class, new jdk_model_serializers.resource.folders.model.Folder.Serializer());
+        addDeserializer(jdk_model_serializers.resource.folders.model.Folder.class, new jdk_model_serializers.resource.folders.model.Folder.Deserializer());
+    }
+
+}
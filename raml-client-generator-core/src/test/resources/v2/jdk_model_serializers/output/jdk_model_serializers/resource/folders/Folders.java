@@ -0,0 +1,78 @@
+
+package jdk_model_serializers.resource.folders;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import jdk_model_serializers.api.FoldersHttpSupport;
+import jdk_model_serializers.api.FoldersUriTemplate;
+import jdk_model_serializers.exceptions.FoldersException;
+import jdk_model_serializers.responses.FoldersResponse;
+
+public class Folders {
+
+    private FoldersUriTemplate _uriTemplate;
+    private HttpClient _client;
+
+    public Folders() {
+        _uriTemplate = null;
+        _client = null;
+    }
+
+    public Folders(FoldersUriTemplate uriTemplate, HttpClient _client) {
+        _uriTemplate = uriTemplate.path("folders");
+        this._client = _client;
+    }
+
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public Folders(String baseUrl, HttpClient _client) {
+        this(new FoldersUriTemplate(baseUrl), _client);
+    }
+
+    protected HttpClient getClient() {
+        return this._client;
+    }
+
+    private String getBaseUri() {
+        return _uriTemplate.getTemplate();
+    }
+
+    public FoldersResponse<List<jdk_model_serializers.resource.folders.model.Folder>> get() {
+        String uri = getBaseUri();
+        final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(uri)).header("Accept", "application/json");
+        requestBuilder.method("GET", HttpRequest.BodyPublishers.noBody());
+        final HttpResponse<byte[]> response = FoldersHttpSupport.send(this._client, requestBuilder.build(), HttpResponse.BodyHandlers.ofByteArray());
+        return readGetResponse(response);
+    }
+
+    private FoldersResponse<List<jdk_model_serializers.resource.folders.model.Folder>> readGetResponse(HttpResponse<byte[]> response) {
+        if ((response.statusCode()/ 100)!= 2) {
+            throw new FoldersException(response.statusCode(), ("HTTP status "+ response.statusCode()), response.headers().map(), response);
+        }
+        return new FoldersResponse<List<jdk_model_serializers.resource.folders.model.Folder>>(FoldersHttpSupport.readJson(response, (
+new com.fasterxml.jackson.core.type.TypeReference<java.util.List<jdk_model_serializers.resource.folders.model.Folder>>() {})), response.headers().map(), response);
+    }
+
+    public FoldersResponse<jdk_model_serializers.model.Folder> put(jdk_model_serializers.model.Folder body) {
+        String uri = getBaseUri();
+        final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(uri)).header("Accept", "application/json");
+        requestBuilder.header("Content-Type", "application/json");
+        requestBuilder.method("PUT", FoldersHttpSupport.json(body));
+        final HttpResponse<byte[]> response = FoldersHttpSupport.send(this._client, requestBuilder.build(), HttpResponse.BodyHandlers.ofByteArray());
+        return readPutResponse(response);
+    }
+
+    private FoldersResponse<jdk_model_serializers.model.Folder> readPutResponse(HttpResponse<byte[]> response) {
+        if ((response.statusCode()/ 100)!= 2) {
+            throw new FoldersException(response.statusCode(), ("HTTP status "+ response.statusCode()), response.headers().map(), response);
+        }
+        return new FoldersResponse<jdk_model_serializers.model.Folder>(FoldersHttpSupport.readJson(response, jdk_model_serializers.model.Folder.class), response.headers().map(), response);
+    }
+
+}
@@ -0,0 +1,341 @@
+
+package jdk_model_serializers.resource.folders.model;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({
+    "name",
+    "size",
+    "shared",
+    "children",
+    "parent"
+})
+public class Folder {
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("name")
+    private String name;
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("size")
+    private Long size;
+    @JsonProperty("shared")
+    private Boolean shared;
+    @JsonProperty("children")
+    private List<Folder> children = new ArrayList<Folder>();
+    @JsonProperty("parent")
+    private Folder parent;
+
+    /**
+     * No args constructor for use in serialization
+     * 
+     */
+    public Folder() {
+    }
+
+    /**
+     * 
+     * @param shared
+     * @param parent
+     * @param size
+     * @param children
+     * @param name
+     */
+    public Folder(String name, Long size, Boolean shared, List<Folder> children, Folder parent) {
+        super();
+        this.name = name;
+        this.size = size;
+        this.shared = shared;
+        this.children = children;
+        this.parent = parent;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("name")
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("name")
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Folder withName(String name) {
+        this.name = name;
+        return this;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("size")
+    public Long getSize() {
+        return size;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("size")
+    public void setSize(Long size) {
+        this.size = size;
+    }
+
+    public Folder withSize(Long size) {
+        this.size = size;
+        return this;
+    }
+
+    @JsonProperty("shared")
+    public Boolean getShared() {
+        return shared;
+    }
+
+    @JsonProperty("shared")
+    public void setShared(Boolean shared) {
+        this.shared = shared;
+    }
+
+    public Folder withShared(Boolean shared) {
+        this.shared = shared;
+        return this;
+    }
+
+    @JsonProperty("children")
+    public List<Folder> getChildren() {
+        return children;
+    }
+
+    @JsonProperty("children")
+    public void setChildren(List<Folder> children) {
+        this.children = children;
+    }
+
+    public Folder withChildren(List<Folder> children) {
+        this.children = children;
+        return this;
+    }
+
+    @JsonProperty("parent")
+    public Folder getParent() {
+        return parent;
+    }
+
+    @JsonProperty("parent")
+    public void setParent(Folder parent) {
+        this.parent = parent;
+    }
+
+    public Folder withParent(Folder parent) {
+        this.parent = parent;
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(Folder.class.getName()).append('@').append(Integer.toHexString(System.identityHashCode(this))).append('[');
+        sb.append("name");
+        sb.append('=');
+        sb.append(((this.name == null)?"<null>":this.name));
+        sb.append(',');
+        sb.append("size");
+        sb.append('=');
+        sb.append(((this.size == null)?"<null>":this.size));
+        sb.append(',');
+        sb.append("shared");
+        sb.append('=');
+        sb.append(((this.shared == null)?"<null>":this.shared));
+        sb.append(',');
+        sb.append("children");
+        sb.append('=');
+        sb.append(((this.children == null)?"<null>":this.children));
+        sb.append(',');
+        sb.append("parent");
+        sb.append('=');
+        sb.append(((this.parent == null)?"<null>":this.parent));
+        sb.append(',');
+        if (sb.charAt((sb.length()- 1)) == ',') {
+            sb.setCharAt((sb.length()- 1), ']');
+        } else {
+            sb.append(']');
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        result = ((result* 31)+((this.name == null)? 0 :this.name.hashCode()));
+        result = ((result* 31)+((this.shared == null)? 0 :this.shared.hashCode()));
+        result = ((result* 31)+((this.parent == null)? 0 :this.parent.hashCode()));
+        result = ((result* 31)+((this.size == null)? 0 :this.size.hashCode()));
+        result = ((result* 31)+((this.children == null)? 0 :this.children.hashCode()));
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if ((other instanceof Folder) == false) {
+            return false;
+        }
+        Folder rhs = ((Folder) other);
+        return ((((((this.name == rhs.name)||((this.name!= null)&&this.name.equals(rhs.name)))&&((this.shared == rhs.shared)||((this.shared!= null)&&this.shared.equals(rhs.shared))))&&((this.parent == rhs.parent)||((this.parent!= null)&&this.parent.equals(rhs.parent))))&&((this.size == rhs.size)||((this.size!= null)&&this.size.equals(rhs.size))))&&((this.children == rhs.children)||((this.children!= null)&&this.children.equals(rhs.children))));
+    }
+
+
+    /**
+     * Reads the fields of the model by the name of their properties, with the deserializers of the other types resolved once.
+     * 
+     */
+    public static class Deserializer
+        extends StdDeserializer<Folder>
+        implements ResolvableDeserializer
+    {
+
+        private final static JavaType CHILDREN_TYPE = TypeFactory.defaultInstance().constructType((new com.fasterxml.jackson.core.type.TypeReference<java.util.List<jdk_model_serializers.resource.folders.model.Folder>>() {}));
+        private JsonDeserializer<Object> childrenDeserializer;
+        private JsonDeserializer<Object> parentDeserializer;
+
+        public Deserializer() {
+            super(Folder.class);
+        }
+
+        @Override
+        public boolean isCachable() {
+            return true;
+        }
+
+        @Override
+        public void resolve(DeserializationContext context)
+            throws JsonMappingException
+        {
+            this.childrenDeserializer = context.findRootValueDeserializer(CHILDREN_TYPE);
+            this.parentDeserializer = context.findRootValueDeserializer(context.constructType(Folder.class));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Folder deserialize(JsonParser parser, DeserializationContext context)
+            throws IOException
+        {
+            JsonToken token = parser.getCurrentToken();
+            if (token == JsonToken.START_OBJECT) {
+                token = parser.nextToken();
+            } else {
+                if ((token!= JsonToken.FIELD_NAME)&&(token!= JsonToken.END_OBJECT)) {
+                    return ((Folder) context.handleUnexpectedToken(Folder.class, parser));
+                }
+            }
+            final Folder value = new Folder();
+            while (token == JsonToken.FIELD_NAME) {
+                final String name = parser.getCurrentName();
+                parser.nextToken();
+                switch (name) {
+                    case "name":
+                        value.name = ((parser.getCurrentToken() == JsonToken.VALUE_NULL)?null:_parseString(parser, context));
+                        break;
+                    case "size":
+                        value.size = ((parser.getCurrentToken() == JsonToken.VALUE_NULL)?null:_parseLong(parser, context));
+                        break;
+                    case "shared":
+                        value.shared = ((parser.getCurrentToken() == JsonToken.VALUE_NULL)?null:_parseBoolean(parser, context));
+                        break;
+                    case "children":
+                        value.children = ((parser.getCurrentToken() == JsonToken.VALUE_NULL)?null:((List<Folder> ) this.childrenDeserializer.deserialize(parser, context)));
+                        break;
+                    case "parent":
+                        value.parent = ((parser.getCurrentToken() == JsonToken.VALUE_NULL)?null:((Folder) this.parentDeserializer.deserialize(parser, context)));
+                        break;
+                    default:
+                        handleUnknownProperty(parser, context, value, name);
+                }
+                token = parser.nextToken();
+            }
+            return value;
+        }
+
+    }
+
+
+    /**
+     * Writes the fields of the model in the order of its properties.
+     * 
+     */
+    public static class Serializer
+        extends StdSerializer<Folder>
+    {
+
+
+        public Serializer() {
+            super(Folder.class);
+        }
+
+        @Override
+        public void serialize(Folder value, JsonGenerator generator, SerializerProvider provider)
+            throws IOException
+        {
+            generator.writeStartObject();
+            if (value.name!= null) {
+                generator.writeStringField("name", value.name);
+            }
+            if (value.size!= null) {
+                generator.writeNumberField("size", value.size);
+            }
+            if (value.shared!= null) {
+                generator.writeBooleanField("shared", value.shared);
+            }
+            if (value.children!= null) {
+                provider.defaultSerializeField("children", value.children, generator);
+            }
+            if (value.parent!= null) {
+                provider.defaultSerializeField("parent", value.parent, generator);
+            }
+            generator.writeEndObject();
+        }
+
+    }
+
+}
@@ -0,0 +1,81 @@
+
+package jdk_object_mapper_provider.api;
+
+import java.net.http.HttpClient;
+import jdk_object_mapper_provider.resource.orders.Orders;
+
+public class OrdersClient
+    implements AutoCloseable
+{
+
+    private String _baseUrl;
+    private HttpClient _client;
+    private boolean _ownsClient;
+    public final Orders orders;
+
+    /**
+     * When a client is given it is used as is and it is not closed by {@link #close()}, otherwise one is created.
+     * 
+     */
+    public OrdersClient(String baseUrl, HttpClient client) {
+        _baseUrl = baseUrl;
+        _ownsClient = (client == null);
+        _client = (_ownsClient?getClient():client);
+        final OrdersUriTemplate uriTemplate = new OrdersUriTemplate(getBaseUri());
+        orders = new Orders(uriTemplate, _client);
+    }
+
+    public OrdersClient(String baseUrl) {
+        this(baseUrl, null);
+    }
+
+    public OrdersClient() {
+        this("http://localhost:8081/api");
+    }
+
+    public OrdersClient(HttpClient client) {
+        this("http://localhost:8081/api", client);
+    }
+
+    protected HttpClient getClient() {
+        return HttpClient.newHttpClient();
+    }
+
+    protected String getBaseUri() {
+        return _baseUrl;
+    }
+
+    /**
+     * Closes the client if it was created by this instance.
+     * 
+     */
+    @Override
+    public void close() {
+        if (_ownsClient) {
+            if (_client instanceof AutoCloseable) {
+                try {
+                    ((AutoCloseable) _client).close();
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+    }
+
+    public static OrdersClient create(String baseUrl) {
+        return new OrdersClient(baseUrl);
+    }
+
+    public static OrdersClient create(String baseUrl, HttpClient client) {
+        return new OrdersClient(baseUrl, client);
+    }
+
+    public static OrdersClient create() {
+        return new OrdersClient();
+    }
+
+    public static OrdersClient create(HttpClient client) {
+        return new OrdersClient(client);
+    }
+
+}
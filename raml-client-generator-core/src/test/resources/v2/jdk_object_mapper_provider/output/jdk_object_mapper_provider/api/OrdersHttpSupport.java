@@ -0,0 +1,268 @@
+
+package jdk_object_mapper_provider.api;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandler;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import jdk_object_mapper_provider.model.Customer__1;
+import jdk_object_mapper_provider.model.OrderLine__1;
+import jdk_object_mapper_provider.resource.orders.model.OrdersGETQueryParam;
+import jdk_object_mapper_provider.resource.orders.orderId.status.model.StatusPUTBody;
+import jdk_object_mapper_provider.resource.orders.orderId.status.model.StatusPUTResponseBody;
+
+
+/**
+ * Encodes the requests, sends them and reads the responses of the client.
+ * 
+ */
+public final class OrdersHttpSupport {
+
+    /**
+     * Mapper of the json bodies, it can be configured before the client is used.
+     * 
+     */
+    public final static ObjectMapper MAPPER = createObjectMapper();
+    private final static Class<?> [] MODEL_TYPES = new Class[] {jdk_object_mapper_provider.model.Customer.class, Customer__1 .class, jdk_object_mapper_provider.model.Order.class, jdk_object_mapper_provider.model.OrderLine.class, OrderLine__1 .class, jdk_object_mapper_provider.resource.orders.model.Customer.class, jdk_object_mapper_provider.resource.orders.model.Order.class, jdk_object_mapper_provider.resource.orders.model.OrderLine.class, OrdersGETQueryParam.class, StatusPUTBody.class, StatusPUTResponseBody.class };
+
+    static {
+        for (Class<?> type: MODEL_TYPES) {
+            MAPPER.readerFor(type);
+            MAPPER.writerFor(type);
+        }
+    }
+
+    private OrdersHttpSupport() {
+    }
+
+    public static String encode(String value) {
+        try {
+            return URLEncoder.encode(value, "UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Appends the query parameter to the uri.
+     * 
+     */
+    public static String queryParam(String uri, String name, Object value) {
+        return ((((uri +((uri.indexOf('?')< 0)?"?":"&"))+ encode(name))+"=")+ encode(String.valueOf(value)));
+    }
+
+    /**
+     * Replaces the <code>{name}</code> uri parameters of the template with their values, encoded as path segments.
+     * 
+     */
+    public static String expand(String uriTemplate, Map<String, Object> uriParams) {
+        final StringBuilder uri = new StringBuilder((uriTemplate.length()+ 32));
+        int start = 0;
+        int open = uriTemplate.indexOf('{');
+        while (open >= 0) {
+            final int close = uriTemplate.indexOf('}', open);
+            uri.append(uriTemplate, start, open).append(encode(String.valueOf(uriParams.get(uriTemplate.substring((open + 1), close)))).replace("+", "%20"));
+            start = (close + 1);
+            open = uriTemplate.indexOf('{', start);
+        }
+        return uri.append(uriTemplate, start, uriTemplate.length()).toString();
+    }
+
+    public static byte[] writeJson(Object body) {
+        try {
+            return MAPPER.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    public static HttpRequest.BodyPublisher json(Object body) {
+        return HttpRequest.BodyPublishers.ofByteArray(writeJson(body));
+    }
+
+    /**
+     * Streams the body, that can only be sent once.
+     * 
+     */
+    public static HttpRequest.BodyPublisher stream(final InputStream body) {
+        return HttpRequest.BodyPublishers.ofInputStream(new Supplier<InputStream>() {
+
+
+            @Override
+            public InputStream get() {
+                return body;
+            }
+
+        }
+        );
+    }
+
+    /**
+     * Sends the file with its length, reading it while the request is sent.
+     * 
+     */
+    public static HttpRequest.BodyPublisher file(Path body) {
+        try {
+            return HttpRequest.BodyPublishers.ofFile(body);
+        } catch (FileNotFoundException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Sends streams and byte arrays as they are and any other body as text.
+     * 
+     */
+    public static HttpRequest.BodyPublisher entity(Object body) {
+        if (body instanceof InputStream) {
+            return stream(((InputStream) body));
+        }
+        if (body instanceof byte[]) {
+            return HttpRequest.BodyPublishers.ofByteArray(((byte[]) body));
+        }
+        return HttpRequest.BodyPublishers.ofString(String.valueOf(body));
+    }
+
+    public static HttpRequest.BodyPublisher form(Map<String, String> fields) {
+        final StringBuilder builder = new StringBuilder();
+        for (Map.Entry<String, String> field: fields.entrySet()) {
+            if (builder.length()> 0) {
+                builder.append('&');
+            }
+            builder.append(encode(field.getKey())).append('=').append(encode(field.getValue()));
+        }
+        return HttpRequest.BodyPublishers.ofString(builder.toString());
+    }
+
+    /**
+     * Streams the parts as <code>multipart/form-data</code>, the files are read while the request is sent.
+     * 
+     */
+    public static HttpRequest.BodyPublisher multipart(final String boundary, final Map<String, Object> parts) {
+        return HttpRequest.BodyPublishers.ofInputStream(new Supplier<InputStream>() {
+
+
+            @Override
+            public InputStream get() {
+                final List<InputStream> streams = new ArrayList<InputStream>();
+                try {
+                    for (Map.Entry<String, Object> part: parts.entrySet()) {
+                        final String disposition = (((("--"+ boundary)+"\r\nContent-Disposition: form-data; name=\"")+ part.getKey())+"\"");
+                        if (part.getValue() instanceof File) {
+                            final File file = ((File) part.getValue());
+                            streams.add(new ByteArrayInputStream((((disposition +"; filename=\"")+ file.getName())+"\"\r\nContent-Type: application/octet-stream\r\n\r\n").getBytes(StandardCharsets.UTF_8)));
+                            streams.add(new FileInputStream(file));
+                            streams.add(new ByteArrayInputStream("\r\n".getBytes(StandardCharsets.UTF_8)));
+                        } else {
+                            streams.add(new ByteArrayInputStream((((disposition +"\r\n\r\n")+ part.getValue())+"\r\n").getBytes(StandardCharsets.UTF_8)));
+                        }
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                streams.add(new ByteArrayInputStream((("--"+ boundary)+"--\r\n").getBytes(StandardCharsets.UTF_8)));
+                return new SequenceInputStream(Collections.enumeration(streams));
+            }
+
+        }
+        );
+    }
+
+    /**
+     * Writes the body to the target file as it is received, only when the response is successful.
+     * 
+     */
+    public static HttpResponse.BodyHandler<Path> ofFile(final Path target) {
+        return new BodyHandler<Path>() {
+
+
+            @Override
+            public HttpResponse.BodySubscriber<Path> apply(HttpResponse.ResponseInfo responseInfo) {
+                if ((responseInfo.statusCode()/ 100) == 2) {
+                    return HttpResponse.BodySubscribers.ofFile(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+                }
+                return HttpResponse.BodySubscribers.replacing(((Path) null));
+            }
+
+        }
+        ;
+    }
+
+    /**
+     * Sends the request, rethrowing the failures as unchecked exceptions.
+     * 
+     */
+    public static<T >HttpResponse<T> send(HttpClient client, HttpRequest request, HttpResponse.BodyHandler<T> handler) {
+        try {
+            return client.send(request, handler);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the response", e);
+        }
+    }
+
+    public static<T >T readJson(HttpResponse<byte[]> response, Class<T> type) {
+        try {
+            return MAPPER.readValue(response.body(), type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static<T >T readJson(HttpResponse<byte[]> response, TypeReference<T> type) {
+        try {
+            return MAPPER.readValue(response.body(), type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads the body as text, in the charset of its content type or UTF-8 when none is given.
+     * 
+     */
+    public static String readString(HttpResponse<byte[]> response) {
+        final String contentType = response.headers().firstValue("Content-Type").orElse("");
+        final int charsetIndex = contentType.toLowerCase().indexOf("charset=");
+        final Charset charset = ((charsetIndex< 0)?StandardCharsets.UTF_8 :Charset.forName(contentType.substring((charsetIndex + 8)).split(";")[ 0 ].replace("\"", "").trim()));
+        return new String(response.body(), charset);
+    }
+
+    /**
+     * Creates a mapper tuned for the models of the api, reading their properties without reflection and ignoring the unknown ones.
+     * 
+     */
+    public static ObjectMapper createObjectMapper() {
+        final ObjectMapper mapper = new ObjectMapper();
+        mapper.registerModule(new AfterburnerModule());
+        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        return mapper;
+    }
+
+}
@@ -0,0 +1,205 @@
+
+package jdk_object_mapper_provider.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({
+    "id",
+    "customer",
+    "lines",
+    "notes"
+})
+public class Order {
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("id")
+    private String id;
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("customer")
+    private Customer__1 customer;
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("lines")
+    private List<OrderLine__1> lines = new ArrayList<OrderLine__1>();
+    @JsonProperty("notes")
+    private String notes;
+
+    /**
+     * No args constructor for use in serialization
+     * 
+     */
+    public Order() {
+    }
+
+    /**
+     * 
+     * @param notes
+     * @param id
+     * @param lines
+     * @param customer
+     */
+    public Order(String id, Customer__1 customer, List<OrderLine__1> lines, String notes) {
+        super();
+        this.id = id;
+        this.customer = customer;
+        this.lines = lines;
+        this.notes = notes;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("id")
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("id")
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public Order withId(String id) {
+        this.id = id;
+        return this;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("customer")
+    public Customer__1 getCustomer() {
+        return customer;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("customer")
+    public void setCustomer(Customer__1 customer) {
+        this.customer = customer;
+    }
+
+    public Order withCustomer(Customer__1 customer) {
+        this.customer = customer;
+        return this;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("lines")
+    public List<OrderLine__1> getLines() {
+        return lines;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("lines")
+    public void setLines(List<OrderLine__1> lines) {
+        this.lines = lines;
+    }
+
+    public Order withLines(List<OrderLine__1> lines) {
+        this.lines = lines;
+        return this;
+    }
+
+    @JsonProperty("notes")
+    public String getNotes() {
+        return notes;
+    }
+
+    @JsonProperty("notes")
+    public void setNotes(String notes) {
+        this.notes = notes;
+    }
+
+    public Order withNotes(String notes) {
+        this.notes = notes;
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(Order.class.getName()).append('@').append(Integer.toHexString(System.identityHashCode(this))).append('[');
+        sb.append("id");
+        sb.append('=');
+        sb.append(((this.id == null)?"<null>":this.id));
+        sb.append(',');
+        sb.append("customer");
+        sb.append('=');
+        sb.append(((this.customer == null)?"<null>":this.customer));
+        sb.append(',');
+        sb.append("lines");
+        sb.append('=');
+        sb.append(((this.lines == null)?"<null>":this.lines));
+        sb.append(',');
+        sb.append("notes");
+        sb.append('=');
+        sb.append(((this.notes == null)?"<null>":this.notes));
+        sb.append(',');
+        if (sb.charAt((sb.length()- 1)) == ',') {
+            sb.setCharAt((sb.length()- 1), ']');
+        } else {
+            sb.append(']');
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        result = ((result* 31)+((this.id == null)? 0 :this.id.hashCode()));
+        result = ((result* 31)+((this.notes == null)? 0 :this.notes.hashCode()));
+        result = ((result* 31)+((this.lines == null)? 0 :this.lines.hashCode()));
+        result = ((result* 31)+((this.customer == null)? 0 :this.customer.hashCode()));
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if ((other instanceof Order) == false) {
+            return false;
+        }
+        Order rhs = ((Order) other);
+        return (((((this.id == rhs.id)||((this.id!= null)&&this.id.equals(rhs.id)))&&((this.notes == rhs.notes)||((this.notes!= null)&&this.notes.equals(rhs.notes))))&&((this.lines == rhs.lines)||((this.lines!= null)&&this.lines.equals(rhs.lines))))&&((this.customer == rhs.customer)||((this.customer!= null)&&this.customer.equals(rhs.customer))));
+    }
+
+}
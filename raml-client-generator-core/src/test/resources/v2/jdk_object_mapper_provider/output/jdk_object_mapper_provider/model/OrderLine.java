@@ -0,0 +1,178 @@
+
+package jdk_object_mapper_provider.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({
+    "sku",
+    "quantity",
+    "price"
+})
+public class OrderLine {
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("sku")
+    private String sku;
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("quantity")
+    private Long quantity;
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("price")
+    private Double price;
+
+    /**
+     * No args constructor for use in serialization
+     * 
+     */
+    public OrderLine() {
+    }
+
+    /**
+     * 
+     * @param quantity
+     * @param price
+     * @param sku
+     */
+    public OrderLine(String sku, Long quantity, Double price) {
+        super();
+        this.sku = sku;
+        this.quantity = quantity;
+        this.price = price;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("sku")
+    public String getSku() {
+        return sku;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("sku")
+    public void setSku(String sku) {
+        this.sku = sku;
+    }
+
+    public OrderLine withSku(String sku) {
+        this.sku = sku;
+        return this;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("quantity")
+    public Long getQuantity() {
+        return quantity;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("quantity")
+    public void setQuantity(Long quantity) {
+        this.quantity = quantity;
+    }
+
+    public OrderLine withQuantity(Long quantity) {
+        this.quantity = quantity;
+        return this;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("price")
+    public Double getPrice() {
+        return price;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("price")
+    public void setPrice(Double price) {
+        this.price = price;
+    }
+
+    public OrderLine withPrice(Double price) {
+        this.price = price;
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(OrderLine.class.getName()).append('@').append(Integer.toHexString(System.identityHashCode(this))).append('[');
+        sb.append("sku");
+        sb.append('=');
+        sb.append(((this.sku == null)?"<null>":this.sku));
+        sb.append(',');
+        sb.append("quantity");
+        sb.append('=');
+        sb.append(((this.quantity == null)?"<null>":this.quantity));
+        sb.append(',');
+        sb.append("price");
+        sb.append('=');
+        sb.append(((this.price == null)?"<null>":this.price));
+        sb.append(',');
+        if (sb.charAt((sb.length()- 1)) == ',') {
+            sb.setCharAt((sb.length()- 1), ']');
+        } else {
+            sb.append(']');
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        result = ((result* 31)+((this.quantity == null)? 0 :this.quantity.hashCode()));
+        result = ((result* 31)+((this.sku == null)? 0 :this.sku.hashCode()));
+        result = ((result* 31)+((this.price == null)? 0 :this.price.hashCode()));
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if ((other instanceof OrderLine) == false) {
+            return false;
+        }
+        OrderLine rhs = ((OrderLine) other);
+        return ((((this.quantity == rhs.quantity)||((this.quantity!= null)&&this.quantity.equals(rhs.quantity)))&&((this.sku == rhs.sku)||((this.sku!= null)&&this.sku.equals(rhs.sku))))&&((this.price == rhs.price)||((this.price!= null)&&this.price.equals(rhs.price))));
+    }
+
+}
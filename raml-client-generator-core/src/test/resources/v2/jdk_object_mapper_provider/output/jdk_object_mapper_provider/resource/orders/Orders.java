@@ -0,0 +1,112 @@
+
+package jdk_object_mapper_provider.resource.orders;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+import jdk_object_mapper_provider.api.OrdersHttpSupport;
+import jdk_object_mapper_provider.api.OrdersJsonArrayIterator;
+import jdk_object_mapper_provider.api.OrdersUriTemplate;
+import jdk_object_mapper_provider.exceptions.OrdersException;
+import jdk_object_mapper_provider.resource.orders.model.OrdersGETQueryParam;
+import jdk_object_mapper_provider.resource.orders.orderId.OrderId;
+import jdk_object_mapper_provider.responses.OrdersResponse;
+
+public class Orders {
+
+    private OrdersUriTemplate _uriTemplate;
+    private HttpClient _client;
+    private final OrderId _orderId;
+
+    public Orders() {
+        _uriTemplate = null;
+        _client = null;
+        _orderId = null;
+    }
+
+    public Orders(OrdersUriTemplate uriTemplate, HttpClient _client) {
+        _uriTemplate = uriTemplate.path("orders");
+        this._client = _client;
+        _orderId = new OrderId(_uriTemplate, getClient());
+    }
+
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public Orders(String baseUrl, HttpClient _client) {
+        this(new OrdersUriTemplate(baseUrl), _client);
+    }
+
+    protected HttpClient getClient() {
+        return this._client;
+    }
+
+    private String getBaseUri() {
+        return _uriTemplate.getTemplate();
+    }
+
+    public OrdersResponse<List<jdk_object_mapper_provider.resource.orders.model.Order>> get(OrdersGETQueryParam queryParameters) {
+        String uri = getBaseUri();
+        if (queryParameters.getCustomerId()!= null) {
+            uri = OrdersHttpSupport.queryParam(uri, "customerId", queryParameters.getCustomerId());
+        }
+        final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(uri)).header("Accept", "application/json");
+        requestBuilder.method("GET", HttpRequest.BodyPublishers.noBody());
+        final HttpResponse<byte[]> response = OrdersHttpSupport.send(this._client, requestBuilder.build(), HttpResponse.BodyHandlers.ofByteArray());
+        return readGetResponse(response);
+    }
+
+    private OrdersResponse<List<jdk_object_mapper_provider.resource.orders.model.Order>> readGetResponse(HttpResponse<byte[]> response) {
+        if ((response.statusCode()/ 100)!= 2) {
+            throw new OrdersException(response.statusCode(), ("HTTP status "+ response.statusCode()), response.headers().map(), response);
+        }
+        return new OrdersResponse<List<jdk_object_mapper_provider.resource.orders.model.Order>>(OrdersHttpSupport.readJson(response, (
+new com.fasterxml.jackson.core.type.TypeReference<java.util.List<jdk_object_mapper_provider.resource.orders.model.Order>>() {})), response.headers().map(), response);
+    }
+
+    /**
+     * The elements are read while the stream is consumed, close it to release the connection before reading all of them.
+     * 
+     */
+    public OrdersResponse<Stream<jdk_object_mapper_provider.resource.orders.model.Order>> getStream(OrdersGETQueryParam queryParameters) {
+        String uri = getBaseUri();
+        if (queryParameters.getCustomerId()!= null) {
+            uri = OrdersHttpSupport.queryParam(uri, "customerId", queryParameters.getCustomerId());
+        }
+        final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(uri)).header("Accept", "application/json");
+        requestBuilder.method("GET", HttpRequest.BodyPublishers.noBody());
+        final HttpResponse<InputStream> response = OrdersHttpSupport.send(this._client, requestBuilder.build(), HttpResponse.BodyHandlers.ofInputStream());
+        if ((response.statusCode()/ 100)!= 2) {
+            throw new OrdersException(response.statusCode(), ("HTTP status "+ response.statusCode()), response.headers().map(), response);
+        }
+        return new OrdersResponse<Stream<jdk_object_mapper_provider.resource.orders.model.Order>>(OrdersJsonArrayIterator.stream(response.body(), OrdersHttpSupport.MAPPER, jdk_object_mapper_provider.resource.orders.model.Order.class), response.headers().map(), response);
+    }
+
+    public OrdersResponse<jdk_object_mapper_provider.model.Order> post(jdk_object_mapper_provider.model.Order body) {
+        String uri = getBaseUri();
+        final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(uri)).header("Accept", "application/json");
+        requestBuilder.header("Content-Type", "application/json");
+        requestBuilder.method("POST", OrdersHttpSupport.json(body));
+        final HttpResponse<byte[]> response = OrdersHttpSupport.send(this._client, requestBuilder.build(), HttpResponse.BodyHandlers.ofByteArray());
+        return readPostResponse(response);
+    }
+
+    private OrdersResponse<jdk_object_mapper_provider.model.Order> readPostResponse(HttpResponse<byte[]> response) {
+        if ((response.statusCode()/ 100)!= 2) {
+            throw new OrdersException(response.statusCode(), ("HTTP status "+ response.statusCode()), response.headers().map(), response);
+        }
+        return new OrdersResponse<jdk_object_mapper_provider.model.Order>(OrdersHttpSupport.readJson(response, jdk_object_mapper_provider.model.Order.class), response.headers().map(), response);
+    }
+
+    public OrderId orderId(String orderId) {
+        return new OrderId(_orderId, Collections.singletonMap("orderId", ((Object) orderId)));
+    }
+
+}
@@ -0,0 +1,25 @@
+
+package jdk_object_mapper_provider.resource.orders.model;
+
+
+public class OrdersGETQueryParam {
+
+    private String _customerId;
+
+    public OrdersGETQueryParam() {
+    }
+
+    public OrdersGETQueryParam withCustomerId(String customerId) {
+        _customerId = customerId;
+        return this;
+    }
+
+    public void setCustomerId(String customerId) {
+        _customerId = customerId;
+    }
+
+    public String getCustomerId() {
+        return _customerId;
+    }
+
+}
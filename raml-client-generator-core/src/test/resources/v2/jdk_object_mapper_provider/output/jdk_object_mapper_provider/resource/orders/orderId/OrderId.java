@@ -0,0 +1,76 @@
+
+package jdk_object_mapper_provider.resource.orders.orderId;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Collections;
+import java.util.Map;
+import jdk_object_mapper_provider.api.OrdersHttpSupport;
+import jdk_object_mapper_provider.api.OrdersUriTemplate;
+import jdk_object_mapper_provider.exceptions.OrdersException;
+import jdk_object_mapper_provider.model.Order;
+import jdk_object_mapper_provider.resource.orders.orderId.status.Status;
+import jdk_object_mapper_provider.responses.OrdersResponse;
+
+public class OrderId {
+
+    private OrdersUriTemplate _uriTemplate;
+    private HttpClient _client;
+    private Map<String, Object> _uriParams;
+    public final Status status;
+
+    public OrderId() {
+        _uriTemplate = null;
+        _client = null;
+        _uriParams = null;
+        status = null;
+    }
+
+    public OrderId(OrdersUriTemplate uriTemplate, HttpClient _client) {
+        _uriTemplate = uriTemplate.path("{orderId}");
+        this._client = _client;
+        status = new Status(_uriTemplate, getClient());
+    }
+
+    public OrderId(OrderId template, Map<String, Object> uriParams) {
+        _uriTemplate = template._uriTemplate;
+        _client = template._client;
+        _uriParams = uriParams;
+        status = new Status(template.status, _uriParams);
+    }
+
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public OrderId(String baseUrl, HttpClient _client, String uriParam) {
+        this(new OrderId(new OrdersUriTemplate(baseUrl), _client), Collections.singletonMap("orderId", ((Object) uriParam)));
+    }
+
+    protected HttpClient getClient() {
+        return this._client;
+    }
+
+    private String getBaseUri() {
+        return _uriTemplate.expand(_uriParams);
+    }
+
+    public OrdersResponse<Order> get() {
+        String uri = getBaseUri();
+        final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(uri)).header("Accept", "application/json");
+        requestBuilder.method("GET", HttpRequest.BodyPublishers.noBody());
+        final HttpResponse<byte[]> response = OrdersHttpSupport.send(this._client, requestBuilder.build(), HttpResponse.BodyHandlers.ofByteArray());
+        return readGetResponse(response);
+    }
+
+    private OrdersResponse<Order> readGetResponse(HttpResponse<byte[]> response) {
+        if ((response.statusCode()/ 100)!= 2) {
+            throw new OrdersException(response.statusCode(), ("HTTP status "+ response.statusCode()), response.headers().map(), response);
+        }
+        return new OrdersResponse<Order>(OrdersHttpSupport.readJson(response, Order.class), response.headers().map(), response);
+    }
+
+}
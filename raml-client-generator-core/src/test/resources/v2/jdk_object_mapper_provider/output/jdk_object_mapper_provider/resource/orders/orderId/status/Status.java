@@ -0,0 +1,73 @@
+
+package jdk_object_mapper_provider.resource.orders.orderId.status;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.HashMap;
+import java.util.Map;
+import jdk_object_mapper_provider.api.OrdersHttpSupport;
+import jdk_object_mapper_provider.api.OrdersUriTemplate;
+import jdk_object_mapper_provider.exceptions.OrdersException;
+import jdk_object_mapper_provider.resource.orders.orderId.status.model.StatusPUTBody;
+import jdk_object_mapper_provider.resource.orders.orderId.status.model.StatusPUTResponseBody;
+import jdk_object_mapper_provider.responses.OrdersResponse;
+
+public class Status {
+
+    private OrdersUriTemplate _uriTemplate;
+    private HttpClient _client;
+    private Map<String, Object> _uriParams;
+
+    public Status() {
+        _uriTemplate = null;
+        _client = null;
+        _uriParams = null;
+    }
+
+    public Status(OrdersUriTemplate uriTemplate, HttpClient _client) {
+        _uriTemplate = uriTemplate.path("status");
+        this._client = _client;
+    }
+
+    public Status(Status template, Map<String, Object> uriParams) {
+        _uriTemplate = template._uriTemplate;
+        _client = template._client;
+        _uriParams = uriParams;
+    }
+
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public Status(String baseUrl, HttpClient _client) {
+        this(new Status(new OrdersUriTemplate(baseUrl), _client), new HashMap<String, Object>());
+    }
+
+    protected HttpClient getClient() {
+        return this._client;
+    }
+
+    private String getBaseUri() {
+        return _uriTemplate.expand(_uriParams);
+    }
+
+    public OrdersResponse<StatusPUTResponseBody> put(StatusPUTBody body) {
+        String uri = getBaseUri();
+        final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(uri)).header("Accept", "application/json");
+        requestBuilder.header("Content-Type", "application/json");
+        requestBuilder.method("PUT", OrdersHttpSupport.json(body));
+        final HttpResponse<byte[]> response = OrdersHttpSupport.send(this._client, requestBuilder.build(), HttpResponse.BodyHandlers.ofByteArray());
+        return readPutResponse(response);
+    }
+
+    private OrdersResponse<StatusPUTResponseBody> readPutResponse(HttpResponse<byte[]> response) {
+        if ((response.statusCode()/ 100)!= 2) {
+            throw new OrdersException(response.statusCode(), ("HTTP status "+ response.statusCode()), response.headers().map(), response);
+        }
+        return new OrdersResponse<StatusPUTResponseBody>(OrdersHttpSupport.readJson(response, StatusPUTResponseBody.class), response.headers().map(), response);
+    }
+
+}
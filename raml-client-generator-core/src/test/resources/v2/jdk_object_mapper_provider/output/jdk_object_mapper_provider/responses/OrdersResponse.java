@@ -0,0 +1,32 @@
+
+package jdk_object_mapper_provider.responses;
+
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Map;
+
+public class OrdersResponse<T >{
+
+    private T body;
+    private Map<String, List<String>> headers;
+    private HttpResponse<?> response;
+
+    public OrdersResponse(T body, Map<String, List<String>> headers, HttpResponse<?> response) {
+        this.body = body;
+        this.headers = headers;
+        this.response = response;
+    }
+
+    public T getBody() {
+        return this.body;
+    }
+
+    public Map<String, List<String>> getHeaders() {
+        return this.headers;
+    }
+
+    public HttpResponse<?> getResponse() {
+        return this.response;
+    }
+
+}
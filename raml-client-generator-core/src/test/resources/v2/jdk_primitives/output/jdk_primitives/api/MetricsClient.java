@@ -0,0 +1,84 @@
+
+package jdk_primitives.api;
+
+import java.net.http.HttpClient;
+import jdk_primitives.resource.rates.Rates;
+import jdk_primitives.resource.samples.Samples;
+
+public class MetricsClient
+    implements AutoCloseable
+{
+
+    private String _baseUrl;
+    private HttpClient _client;
+    private boolean _ownsClient;
+    public final Samples samples;
+    public final Rates rates;
+
+    /**
+     * When a client is given it is used as is and it is not closed by {@link #close()}, otherwise one is created.
+     * 
+     */
+    public MetricsClient(String baseUrl, HttpClient client) {
+        _baseUrl = baseUrl;
+        _ownsClient = (client == null);
+        _client = (_ownsClient?getClient():client);
+        final MetricsUriTemplate uriTemplate = new MetricsUriTemplate(getBaseUri());
+        samples = new Samples(uriTemplate, _client);
+        rates = new Rates(uriTemplate, _client);
+    }
+
+    public MetricsClient(String baseUrl) {
+        this(baseUrl, null);
+    }
+
+    public MetricsClient() {
+        this("http://localhost:8081/api");
+    }
+
+    public MetricsClient(HttpClient client) {
+        this("http://localhost:8081/api", client);
+    }
+
+    protected HttpClient getClient() {
+        return HttpClient.newHttpClient();
+    }
+
+    protected String getBaseUri() {
+        return _baseUrl;
+    }
+
+    /**
+     * Closes the client if it was created by this instance.
+     * 
+     */
+    @Override
+    public void close() {
+        if (_ownsClient) {
+            if (_client instanceof AutoCloseable) {
+                try {
+                    ((AutoCloseable) _client).close();
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+    }
+
+    public static MetricsClient create(String baseUrl) {
+        return new MetricsClient(baseUrl);
+    }
+
+    public static MetricsClient create(String baseUrl, HttpClient client) {
+        return new MetricsClient(baseUrl, client);
+    }
+
+    public static MetricsClient create() {
+        return new MetricsClient();
+    }
+
+    public static MetricsClient create(HttpClient client) {
+        return new MetricsClient(client);
+    }
+
+}
@@ -0,0 +1,268 @@
+
+package jdk_primitives.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({
+    "name",
+    "value",
+    "count",
+    "valid",
+    "weight",
+    "retries"
+})
+public class Sample {
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("name")
+    private String name;
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("value")
+    private double value;
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("count")
+    private long count;
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("valid")
+    private boolean valid;
+    @JsonProperty("weight")
+    private Double weight;
+    @JsonProperty("retries")
+    private long retries = 3L;
+
+    /**
+     * No args constructor for use in serialization
+     * 
+     */
+    public Sample() {
+    }
+
+    /**
+     * 
+     * @param valid
+     * @param retries
+     * @param name
+     * @param count
+     * @param weight
+     * @param value
+     */
+    public Sample(String name, double value, long count, boolean valid, Double weight, long retries) {
+        super();
+        this.name = name;
+        this.value = value;
+        this.count = count;
+        this.valid = valid;
+        this.weight = weight;
+        this.retries = retries;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("name")
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("name")
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Sample withName(String name) {
+        this.name = name;
+        return this;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("value")
+    public double getValue() {
+        return value;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("value")
+    public void setValue(double value) {
+        this.value = value;
+    }
+
+    public Sample withValue(double value) {
+        this.value = value;
+        return this;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("count")
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("count")
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    public Sample withCount(long count) {
+        this.count = count;
+        return this;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("valid")
+    public boolean getValid() {
+        return valid;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("valid")
+    public void setValid(boolean valid) {
+        this.valid = valid;
+    }
+
+    public Sample withValid(boolean valid) {
+        this.valid = valid;
+        return this;
+    }
+
+    @JsonProperty("weight")
+    public Double getWeight() {
+        return weight;
+    }
+
+    @JsonProperty("weight")
+    public void setWeight(Double weight) {
+        this.weight = weight;
+    }
+
+    public Sample withWeight(Double weight) {
+        this.weight = weight;
+        return this;
+    }
+
+    @JsonProperty("retries")
+    public long getRetries() {
+        return retries;
+    }
+
+    @JsonProperty("retries")
+    public void setRetries(long retries) {
+        this.retries = retries;
+    }
+
+    public Sample withRetries(long retries) {
+        this.retries = retries;
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(Sample.class.getName()).append('@').append(Integer.toHexString(System.identityHashCode(this))).append('[');
+        sb.append("name");
+        sb.append('=');
+        sb.append(((this.name == null)?"<null>":this.name));
+        sb.append(',');
+        sb.append("value");
+        sb.append('=');
+        sb.append(this.value);
+        sb.append(',');
+        sb.append("count");
+        sb.append('=');
+        sb.append(this.count);
+        sb.append(',');
+        sb.append("valid");
+        sb.append('=');
+        sb.append(this.valid);
+        sb.append(',');
+        sb.append("weight");
+        sb.append('=');
+        sb.append(((this.weight == null)?"<null>":this.weight));
+        sb.append(',');
+        sb.append("retries");
+        sb.append('=');
+        sb.append(this.retries);
+        sb.append(',');
+        if (sb.charAt((sb.length()- 1)) == ',') {
+            sb.setCharAt((sb.length()- 1), ']');
+        } else {
+            sb.append(']');
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        result = ((result* 31)+(this.valid? 1 : 0));
+        result = ((result* 31)+((int)(this.retries^(this.retries >>> 32))));
+        result = ((result* 31)+((this.name == null)? 0 :this.name.hashCode()));
+        result = ((result* 31)+((int)(this.count^(this.count >>> 32))));
+        result = ((result* 31)+((this.weight == null)? 0 :this.weight.hashCode()));
+        result = ((result* 31)+((int)(Double.doubleToLongBits(this.value)^(Double.doubleToLongBits(this.value)>>> 32))));
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if ((other instanceof Sample) == false) {
+            return false;
+        }
+        Sample rhs = ((Sample) other);
+        return ((((((this.valid == rhs.valid)&&(this.retries == rhs.retries))&&((this.name == rhs.name)||((this.name!= null)&&this.name.equals(rhs.name))))&&(this.count == rhs.count))&&((this.weight == rhs.weight)||((this.weight!= null)&&this.weight.equals(rhs.weight))))&&(Double.doubleToLongBits(this.value) == Double.doubleToLongBits(rhs.value)));
+    }
+
+}
@@ -0,0 +1,69 @@
+
+package jdk_primitives.resource.rates;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import jdk_primitives.api.MetricsHttpSupport;
+import jdk_primitives.api.MetricsUriTemplate;
+import jdk_primitives.exceptions.MetricsException;
+import jdk_primitives.resource.rates.model.RatesPOSTBody;
+import jdk_primitives.responses.MetricsResponse;
+
+public class Rates {
+
+    private MetricsUriTemplate _uriTemplate;
+    private HttpClient _client;
+
+    public Rates() {
+        _uriTemplate = null;
+        _client = null;
+    }
+
+    public Rates(MetricsUriTemplate uriTemplate, HttpClient _client) {
+        _uriTemplate = uriTemplate.path("rates");
+        this._client = _client;
+    }
+
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public Rates(String baseUrl, HttpClient _client) {
+        this(new MetricsUriTemplate(baseUrl), _client);
+    }
+
+    protected HttpClient getClient() {
+        return this._client;
+    }
+
+    private String getBaseUri() {
+        return _uriTemplate.getTemplate();
+    }
+
+    public MetricsResponse<Void> post(RatesPOSTBody body) {
+        String uri = getBaseUri();
+        final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(uri)).header("Accept", "application/json");
+        final Map<String, String> fields = new LinkedHashMap<String, String>();
+        fields.put("rate", String.valueOf(body.getRate()));
+        if (body.getBurst()!= null) {
+            fields.put("burst", body.getBurst().toString());
+        }
+        requestBuilder.header("Content-Type", "application/x-www-form-urlencoded");
+        requestBuilder.method("POST", MetricsHttpSupport.form(fields));
+        final HttpResponse<byte[]> response = MetricsHttpSupport.send(this._client, requestBuilder.build(), HttpResponse.BodyHandlers.ofByteArray());
+        return readPostResponse(response);
+    }
+
+    private MetricsResponse<Void> readPostResponse(HttpResponse<byte[]> response) {
+        if ((response.statusCode()/ 100)!= 2) {
+            throw new MetricsException(response.statusCode(), ("HTTP status "+ response.statusCode()), response.headers().map(), response);
+        }
+        return new MetricsResponse<Void>(null, response.headers().map(), response);
+    }
+
+}
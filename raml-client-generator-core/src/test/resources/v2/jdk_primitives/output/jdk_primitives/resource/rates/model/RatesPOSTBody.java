@@ -0,0 +1,35 @@
+
+package jdk_primitives.resource.rates.model;
+
+
+public class RatesPOSTBody {
+
+    private double _rate;
+    private Integer _burst;
+
+    public RatesPOSTBody(double rate) {
+        _rate = rate;
+    }
+
+    public void setRate(double rate) {
+        _rate = rate;
+    }
+
+    public double getRate() {
+        return _rate;
+    }
+
+    public RatesPOSTBody withBurst(Integer burst) {
+        _burst = burst;
+        return this;
+    }
+
+    public void setBurst(Integer burst) {
+        _burst = burst;
+    }
+
+    public Integer getBurst() {
+        return _burst;
+    }
+
+}
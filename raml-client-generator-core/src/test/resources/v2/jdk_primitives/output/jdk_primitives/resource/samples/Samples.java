@@ -0,0 +1,84 @@
+
+package jdk_primitives.resource.samples;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import jdk_primitives.api.MetricsHttpSupport;
+import jdk_primitives.api.MetricsUriTemplate;
+import jdk_primitives.exceptions.MetricsException;
+import jdk_primitives.resource.samples.model.SamplesGETHeader;
+import jdk_primitives.resource.samples.model.SamplesGETQueryParam;
+import jdk_primitives.responses.MetricsResponse;
+
+public class Samples {
+
+    private MetricsUriTemplate _uriTemplate;
+    private HttpClient _client;
+
+    public Samples() {
+        _uriTemplate = null;
+        _client = null;
+    }
+
+    public Samples(MetricsUriTemplate uriTemplate, HttpClient _client) {
+        _uriTemplate = uriTemplate.path("samples");
+        this._client = _client;
+    }
+
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public Samples(String baseUrl, HttpClient _client) {
+        this(new MetricsUriTemplate(baseUrl), _client);
+    }
+
+    protected HttpClient getClient() {
+        return this._client;
+    }
+
+    private String getBaseUri() {
+        return _uriTemplate.getTemplate();
+    }
+
+    public MetricsResponse<String> get(SamplesGETQueryParam queryParameters, SamplesGETHeader headers) {
+        String uri = getBaseUri();
+        uri = MetricsHttpSupport.queryParam(uri, "limit", queryParameters.getLimit());
+        uri = MetricsHttpSupport.queryParam(uri, "from", queryParameters.getFrom());
+        if (queryParameters.getVerbose()!= null) {
+            uri = MetricsHttpSupport.queryParam(uri, "verbose", queryParameters.getVerbose());
+        }
+        final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(uri)).header("Accept", "application/json");
+        requestBuilder.header("X-Sampled", String.valueOf(headers.getXSampled()));
+        requestBuilder.method("GET", HttpRequest.BodyPublishers.noBody());
+        final HttpResponse<byte[]> response = MetricsHttpSupport.send(this._client, requestBuilder.build(), HttpResponse.BodyHandlers.ofByteArray());
+        return readGetResponse(response);
+    }
+
+    private MetricsResponse<String> readGetResponse(HttpResponse<byte[]> response) {
+        if ((response.statusCode()/ 100)!= 2) {
+            throw new MetricsException(response.statusCode(), ("HTTP status "+ response.statusCode()), response.headers().map(), response);
+        }
+        return new MetricsResponse<String>(MetricsHttpSupport.readString(response), response.headers().map(), response);
+    }
+
+    public MetricsResponse<Void> post(String body) {
+        String uri = getBaseUri();
+        final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(uri)).header("Accept", "application/json");
+        requestBuilder.header("Content-Type", "application/json");
+        requestBuilder.method("POST", MetricsHttpSupport.json(body));
+        final HttpResponse<byte[]> response = MetricsHttpSupport.send(this._client, requestBuilder.build(), HttpResponse.BodyHandlers.ofByteArray());
+        return readPostResponse(response);
+    }
+
+    private MetricsResponse<Void> readPostResponse(HttpResponse<byte[]> response) {
+        if ((response.statusCode()/ 100)!= 2) {
+            throw new MetricsException(response.statusCode(), ("HTTP status "+ response.statusCode()), response.headers().map(), response);
+        }
+        return new MetricsResponse<Void>(null, response.headers().map(), response);
+    }
+
+}
@@ -0,0 +1,78 @@
+
+package lazy_additional_properties.api;
+
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.client.WebTarget;
+import lazy_additional_properties.resource.events.Events;
+import org.glassfish.jersey.client.ClientConfig;
+
+public class EventsClient
+    implements AutoCloseable
+{
+
+    private String _baseUrl;
+    private Client _client;
+    private boolean _ownsClient;
+    public final Events events;
+
+    /**
+     * When a client is given it is used as is and it is not closed by {@link #close()}, otherwise one is created.
+     * 
+     */
+    public EventsClient(String baseUrl, Client client) {
+        _baseUrl = baseUrl;
+        _ownsClient = (client == null);
+        _client = (_ownsClient?getClient():client);
+        final WebTarget uriTemplate = _client.target(getBaseUri());
+        events = new Events(uriTemplate, _client);
+    }
+
+    public EventsClient(String baseUrl) {
+        this(baseUrl, null);
+    }
+
+    public EventsClient() {
+        this("http://localhost:8081/api");
+    }
+
+    public EventsClient(Client client) {
+        this("http://localhost:8081/api", client);
+    }
+
+    protected Client getClient() {
+        return ClientBuilder.newClient(new ClientConfig().register(new EventsObjectMapperProvider()));
+    }
+
+    protected String getBaseUri() {
+        return _baseUrl;
+    }
+
+    /**
+     * Closes the client if it was created by this instance.
+     * 
+     */
+    @Override
+    public void close() {
+        if (_ownsClient) {
+            _client.close();
+        }
+    }
+
+    public static EventsClient create(String baseUrl) {
+        return new EventsClient(baseUrl);
+    }
+
+    public static EventsClient create(String baseUrl, Client client) {
+        return new EventsClient(baseUrl, client);
+    }
+
+    public static EventsClient create() {
+        return new EventsClient();
+    }
+
+    public static EventsClient create(Client client) {
+        return new EventsClient(client);
+    }
+
+}
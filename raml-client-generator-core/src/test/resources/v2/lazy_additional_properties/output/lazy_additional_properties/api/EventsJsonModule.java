@@ -0,0 +1,26 @@
+
+package lazy_additional_properties.api;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import lazy_additional_properties.model.Event;
+import lazy_additional_properties.model.Labels;
+
+
+/**
+ * Registers the serializers and deserializers generated for the models of the api, that read and write them without reflection.
+ * 
+ */
+public class EventsJsonModule
+    extends SimpleModule
+{
+
+
+    public EventsJsonModule() {
+        super("EventsJsonModule");
+        addSerializer(Event.class, new Event.Serializer());
+        addDeserializer(Event.class, new Event.Deserializer());
+        addSerializer(Labels.class, new Labels.Serializer());
+        addDeserializer(Labels.class, new Labels.Deserializer());
+    }
+
+}
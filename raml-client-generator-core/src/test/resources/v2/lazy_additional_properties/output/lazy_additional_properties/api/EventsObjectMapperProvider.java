@@ -0,0 +1,61 @@
+
+package lazy_additional_properties.api;
+
+import javax.ws.rs.ext.ContextResolver;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lazy_additional_properties.model.Event;
+import lazy_additional_properties.model.Labels;
+
+
+/**
+ * Provides the mapper jersey reads and writes the json bodies with, warmed up for the models when created.
+ * 
+ */
+public class EventsObjectMapperProvider
+    implements ContextResolver<ObjectMapper>
+{
+
+    private final static Class<?> [] MODEL_TYPES = new Class[] {Event.class, Labels.class };
+    /**
+     * Mapper shared by the clients using the default provider, it can be configured before the first client is created.
+     * 
+     */
+    public final static ObjectMapper MAPPER = createObjectMapper();
+    private final ObjectMapper mapper;
+
+    /**
+     * Uses the shared mapper.
+     * 
+     */
+    public EventsObjectMapperProvider() {
+        this(MAPPER);
+    }
+
+    /**
+     * Uses the given mapper, for example the one of the application, instead of the shared one.
+     * 
+     */
+    public EventsObjectMapperProvider(ObjectMapper mapper) {
+        this.mapper = mapper;
+        for (Class<?> type: MODEL_TYPES) {
+            mapper.readerFor(type);
+            mapper.writerFor(type);
+        }
+    }
+
+    /**
+     * Creates a mapper reading and writing the models of the api with their generated serializers.
+     * 
+     */
+    public static ObjectMapper createObjectMapper() {
+        final ObjectMapper mapper = new ObjectMapper();
+        mapper.registerModule(new EventsJsonModule());
+        return mapper;
+    }
+
+    @Override
+    public ObjectMapper getContext(Class<?> type) {
+        return mapper;
+    }
+
+}
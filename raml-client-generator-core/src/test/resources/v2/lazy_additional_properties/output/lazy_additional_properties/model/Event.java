@@ -0,0 +1,295 @@
+
+package lazy_additional_properties.model;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import com.fasterxml.jackson.annotation.JsonAnySetter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({
+    "id",
+    "timestamp",
+    "labels"
+})
+public class Event {
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("id")
+    private String id;
+    @JsonProperty("timestamp")
+    private Long timestamp;
+    @JsonProperty("labels")
+    private Labels labels;
+    @JsonIgnore
+    private Map<String, Object> additionalProperties = Collections.emptyMap();
+
+    /**
+     * No args constructor for use in serialization
+     * 
+     */
+    public Event() {
+    }
+
+    /**
+     * 
+     * @param id
+     * @param timestamp
+     * @param labels
+     */
+    public Event(String id, Long timestamp, Labels labels) {
+        super();
+        this.id = id;
+        this.timestamp = timestamp;
+        this.labels = labels;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("id")
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("id")
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public Event withId(String id) {
+        this.id = id;
+        return this;
+    }
+
+    @JsonProperty("timestamp")
+    public Long getTimestamp() {
+        return timestamp;
+    }
+
+    @JsonProperty("timestamp")
+    public void setTimestamp(Long timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    public Event withTimestamp(Long timestamp) {
+        this.timestamp = timestamp;
+        return this;
+    }
+
+    @JsonProperty("labels")
+    public Labels getLabels() {
+        return labels;
+    }
+
+    @JsonProperty("labels")
+    public void setLabels(Labels labels) {
+        this.labels = labels;
+    }
+
+    public Event withLabels(Labels labels) {
+        this.labels = labels;
+        return this;
+    }
+
+    @JsonAnyGetter
+    public Map<String, Object> getAdditionalProperties() {
+        return this.additionalProperties;
+    }
+
+    @JsonAnySetter
+    public void setAdditionalProperty(String name, Object value) {
+        if (!(this.additionalProperties instanceof HashMap)) {
+            this.additionalProperties = new HashMap<String, Object>();
+        }
+        this.additionalProperties.put(name, value);
+    }
+
+    public Event withAdditionalProperty(String name, Object value) {
+        if (!(this.additionalProperties instanceof HashMap)) {
+            this.additionalProperties = new HashMap<String, Object>();
+        }
+        this.additionalProperties.put(name, value);
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(Event.class.getName()).append('@').append(Integer.toHexString(System.identityHashCode(this))).append('[');
+        sb.append("id");
+        sb.append('=');
+        sb.append(((this.id == null)?"<null>":this.id));
+        sb.append(',');
+        sb.append("timestamp");
+        sb.append('=');
+        sb.append(((this.timestamp == null)?"<null>":this.timestamp));
+        sb.append(',');
+        sb.append("labels");
+        sb.append('=');
+        sb.append(((this.labels == null)?"<null>":this.labels));
+        sb.append(',');
+        sb.append("additionalProperties");
+        sb.append('=');
+        sb.append(((this.additionalProperties == null)?"<null>":this.additionalProperties));
+        sb.append(',');
+        if (sb.charAt((sb.length()- 1)) == ',') {
+            sb.setCharAt((sb.length()- 1), ']');
+        } else {
+            sb.append(']');
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        result = ((result* 31)+((this.id == null)? 0 :this.id.hashCode()));
+        result = ((result* 31)+((this.additionalProperties == null)? 0 :this.additionalProperties.hashCode()));
+        result = ((result* 31)+((this.timestamp == null)? 0 :this.timestamp.hashCode()));
+        result = ((result* 31)+((this.labels == null)? 0 :this.labels.hashCode()));
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if ((other instanceof Event) == false) {
+            return false;
+        }
+        Event rhs = ((Event) other);
+        return (((((this.id == rhs.id)||((this.id!= null)&&this.id.equals(rhs.id)))&&((this.additionalProperties == rhs.additionalProperties)||((this.additionalProperties!= null)&&this.additionalProperties.equals(rhs.additionalProperties))))&&((this.timestamp == rhs.timestamp)||((this.timestamp!= null)&&this.timestamp.equals(rhs.timestamp))))&&((this.labels == rhs.labels)||((this.labels!= null)&&this.labels.equals(rhs.labels))));
+    }
+
+
+    /**
+     * Reads the fields of the model by the name of their properties, with the deserializers of the other types resolved once.
+     * 
+     */
+    public static class Deserializer
+        extends StdDeserializer<Event>
+        implements ResolvableDeserializer
+    {
+
+        private JsonDeserializer<Object> labelsDeserializer;
+        private JsonDeserializer<Object> additionalPropertiesDeserializer;
+
+        public Deserializer() {
+            super(Event.class);
+        }
+
+        @Override
+        public boolean isCachable() {
+            return true;
+        }
+
+        @Override
+        public void resolve(DeserializationContext context)
+            throws JsonMappingException
+        {
+            this.labelsDeserializer = context.findRootValueDeserializer(context.constructType(Labels.class));
+            this.additionalPropertiesDeserializer = context.findRootValueDeserializer(context.constructType(Object.class));
+        }
+
+        @Override
+        public Event deserialize(JsonParser parser, DeserializationContext context)
+            throws IOException
+        {
+            JsonToken token = parser.getCurrentToken();
+            if (token == JsonToken.START_OBJECT) {
+                token = parser.nextToken();
+            } else {
+                if ((token!= JsonToken.FIELD_NAME)&&(token!= JsonToken.END_OBJECT)) {
+                    return ((Event) context.handleUnexpectedToken(Event.class, parser));
+                }
+            }
+            final Event value = new Event();
+            while (token == JsonToken.FIELD_NAME) {
+                final String name = parser.getCurrentName();
+                parser.nextToken();
+                switch (name) {
+                    case "id":
+                        value.id = ((parser.getCurrentToken() == JsonToken.VALUE_NULL)?null:_parseString(parser, context));
+                        break;
+                    case "timestamp":
+                        value.timestamp = ((parser.getCurrentToken() == JsonToken.VALUE_NULL)?null:_parseLong(parser, context));
+                        break;
+                    case "labels":
+                        value.labels = ((parser.getCurrentToken() == JsonToken.VALUE_NULL)?null:((Labels) this.labelsDeserializer.deserialize(parser, context)));
+                        break;
+                    default:
+                        value.setAdditionalProperty(name, ((parser.getCurrentToken() == JsonToken.VALUE_NULL)?null:this.additionalPropertiesDeserializer.deserialize(parser, context)));
+                }
+                token = parser.nextToken();
+            }
+            return value;
+        }
+
+    }
+
+
+    /**
+     * Writes the fields of the model in the order of its properties.
+     * 
+     */
+    public static class Serializer
+        extends StdSerializer<Event>
+    {
+
+
+        public Serializer() {
+            super(Event.class);
+        }
+
+        @Override
+        public void serialize(Event value, JsonGenerator generator, SerializerProvider provider)
+            throws IOException
+        {
+            generator.writeStartObject();
+            if (value.id!= null) {
+                generator.writeStringField("id", value.id);
+            }
+            if (value.timestamp!= null) {
+                generator.writeNumberField("timestamp", value.timestamp);
+            }
+            if (value.labels!= null) {
+                provider.defaultSerializeField("labels", value.labels, generator);
+            }
+            for (Map.Entry<String, Object> property: value.additionalProperties.entrySet()) {
+                provider.defaultSerializeField(property.getKey(), property.getValue(), generator);
+            }
+            generator.writeEndObject();
+        }
+
+    }
+
+}
@@ -0,0 +1,171 @@
+
+package lazy_additional_properties.model;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import com.fasterxml.jackson.annotation.JsonAnySetter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({
+
+})
+public class Labels {
+
+    @JsonIgnore
+    private Map<String, String> additionalProperties = Collections.emptyMap();
+
+    @JsonAnyGetter
+    public Map<String, String> getAdditionalProperties() {
+        return this.additionalProperties;
+    }
+
+    @JsonAnySetter
+    public void setAdditionalProperty(String name, String value) {
+        if (!(this.additionalProperties instanceof HashMap)) {
+            this.additionalProperties = new HashMap<String, String>();
+        }
+        this.additionalProperties.put(name, value);
+    }
+
+    public Labels withAdditionalProperty(String name, String value) {
+        if (!(this.additionalProperties instanceof HashMap)) {
+            this.additionalProperties = new HashMap<String, String>();
+        }
+        this.additionalProperties.put(name, value);
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(Labels.class.getName()).append('@').append(Integer.toHexString(System.identityHashCode(this))).append('[');
+        sb.append("additionalProperties");
+        sb.append('=');
+        sb.append(((this.additionalProperties == null)?"<null>":this.additionalProperties));
+        sb.append(',');
+        if (sb.charAt((sb.length()- 1)) == ',') {
+            sb.setCharAt((sb.length()- 1), ']');
+        } else {
+            sb.append(']');
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        result = ((result* 31)+((this.additionalProperties == null)? 0 :this.additionalProperties.hashCode()));
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if ((other instanceof Labels) == false) {
+            return false;
+        }
+        Labels rhs = ((Labels) other);
+        return ((this.additionalProperties == rhs.additionalProperties)||((this.additionalProperties!= null)&&this.additionalProperties.equals(rhs.additionalProperties)));
+    }
+
+
+    /**
+     * Reads the fields of the model by the name of their properties, with the deserializers of the other types resolved once.
+     * 
+     */
+    public static class Deserializer
+        extends StdDeserializer<Labels>
+        implements ResolvableDeserializer
+    {
+
+        private JsonDeserializer<Object> additionalPropertiesDeserializer;
+
+        public Deserializer() {
+            super(Labels.class);
+        }
+
+        @Override
+        public boolean isCachable() {
+            return true;
+        }
+
+        @Override
+        public void resolve(DeserializationContext context)
+            throws JsonMappingException
+        {
+            this.additionalPropertiesDeserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        }
+
+        @Override
+        public Labels deserialize(JsonParser parser, DeserializationContext context)
+            throws IOException
+        {
+            JsonToken token = parser.getCurrentToken();
+            if (token == JsonToken.START_OBJECT) {
+                token = parser.nextToken();
+            } else {
+                if ((token!= JsonToken.FIELD_NAME)&&(token!= JsonToken.END_OBJECT)) {
+                    return ((Labels) context.handleUnexpectedToken(Labels.class, parser));
+                }
+            }
+            final Labels value = new Labels();
+            while (token == JsonToken.FIELD_NAME) {
+                final String name = parser.getCurrentName();
+                parser.nextToken();
+                switch (name) {
+                    default:
+                        value.setAdditionalProperty(name, ((parser.getCurrentToken() == JsonToken.VALUE_NULL)?null:((String) this.additionalPropertiesDeserializer.deserialize(parser, context))));
+                }
+                token = parser.nextToken();
+            }
+            return value;
+        }
+
+    }
+
+
+    /**
+     * Writes the fields of the model in the order of its properties.
+     * 
+     */
+    public static class Serializer
+        extends StdSerializer<Labels>
+    {
+
+
+        public Serializer() {
+            super(Labels.class);
+        }
+
+        @Override
+        public void serialize(Labels value, JsonGenerator generator, SerializerProvider provider)
+            throws IOException
+        {
+            generator.writeStartObject();
+            for (Map.Entry<String, String> property: value.additionalProperties.entrySet()) {
+                provider.defaultSerializeField(property.getKey(), property.getValue(), generator);
+            }
+            generator.writeEndObject();
+        }
+
+    }
+
+}
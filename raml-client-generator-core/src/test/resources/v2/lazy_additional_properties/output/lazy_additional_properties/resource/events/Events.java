@@ -0,0 +1,67 @@
+
+package lazy_additional_properties.resource.events;
+
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.Response;
+import lazy_additional_properties.exceptions.EventsException;
+import lazy_additional_properties.responses.EventsResponse;
+
+public class Events {
+
+    private WebTarget _uriTemplate;
+    private Client _client;
+
+    public Events() {
+        _uriTemplate = null;
+        _client = null;
+    }
+
+    public Events(WebTarget uriTemplate, Client _client) {
+        _uriTemplate = uriTemplate.path("events");
+        this._client = _client;
+    }
+
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public Events(String baseUrl, Client _client) {
+        this(_client.target(baseUrl), _client);
+    }
+
+    protected Client getClient() {
+        return this._client;
+    }
+
+    private WebTarget getTarget() {
+        return _uriTemplate;
+    }
+
+    public EventsResponse<String> get() {
+        WebTarget target = getTarget();
+        final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE);
+        Response response = invocationBuilder.method("GET");
+        if (response.getStatusInfo().getFamily()!= javax.ws.rs.core.Response.Status.Family.SUCCESSFUL) {
+            Response.StatusType statusInfo = response.getStatusInfo();
+            throw new EventsException(statusInfo.getStatusCode(), statusInfo.getReasonPhrase(), response.getStringHeaders(), response);
+        }
+        EventsResponse<String> apiResponse = new EventsResponse<String>(((String) response.readEntity(Object.class)), response.getStringHeaders(), response);
+        return apiResponse;
+    }
+
+    public EventsResponse<Void> post(String body) {
+        WebTarget target = getTarget();
+        final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE);
+        Response response = invocationBuilder.method("POST", Entity.json(body));
+        if (response.getStatusInfo().getFamily()!= javax.ws.rs.core.Response.Status.Family.SUCCESSFUL) {
+            Response.StatusType statusInfo = response.getStatusInfo();
+            throw new EventsException(statusInfo.getStatusCode(), statusInfo.getReasonPhrase(), response.getStringHeaders(), response);
+        }
+        EventsResponse<Void> apiResponse = new EventsResponse<Void>(null, response.getStringHeaders(), response);
+        return apiResponse;
+    }
+
+}
@@ -16,25 +16,34 @@ import library.responses.CoreServicesAPIReferenceResponse;
  */
 public class Provider {
 
-    private String _baseUrl;
+    private WebTarget _uriTemplate;
     private Client _client;
 
     public Provider() {
-        _baseUrl = null;
+        _uriTemplate = null;
         _client = null;
     }
 
-    public Provider(String baseUrl, Client _client) {
-        _baseUrl = (baseUrl +"/provider");
+    public Provider(WebTarget uriTemplate, Client _client) {
+        _uriTemplate = uriTemplate.path("provider");
         this._client = _client;
     }
 
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public Provider(String baseUrl, Client _client) {
+        this(_client.target(baseUrl), _client);
+    }
+
     protected Client getClient() {
         return this._client;
     }
 
-    private String getBaseUri() {
-        return _baseUrl;
+    private WebTarget getTarget() {
+        return _uriTemplate;
     }
 
     /**
@@ -42,7 +51,7 @@ public class Provider {
      * 
      */
     public CoreServicesAPIReferenceResponse<library.resource.provider.model.ProviderGETResponseBody> get() {
-        WebTarget target = this._client.target(getBaseUri());
+        WebTarget target = getTarget();
         final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(MediaType.APPLICATION_JSON_TYPE);
         Response response = invocationBuilder.method("GET");
         if (response.getStatusInfo().getFamily()!= Family.SUCCESSFUL) {
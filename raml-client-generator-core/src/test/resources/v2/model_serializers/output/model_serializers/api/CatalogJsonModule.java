@@ -0,0 +1,32 @@
+
+package model_serializers.api;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import model_serializers.model.Category;
+import model_serializers.model.Dimensions;
+import model_serializers.model.Product;
+import model_serializers.model.Subcategory;
+
+
+/**
+ * Registers the serializers and deserializers generated for the models of the api, that read and write them without reflection.
+ * 
+ */
+public class CatalogJsonModule
+    extends SimpleModule
+{
+
+
+    public CatalogJsonModule() {
+        super("CatalogJsonModule");
+        addSerializer(Category.class, new Category.Serializer());
+        addDeserializer(Category.class, new Category.Deserializer());
+        addSerializer(Dimensions.class, new Dimensions.Serializer());
+        addDeserializer(Dimensions.class, new Dimensions.Deserializer());
+        addSerializer(Product.class, new Product.Serializer());
+        addDeserializer(Product.class, new Product.Deserializer());
+        addSerializer(Subcategory.class, new Subcategory.Serializer());
+        addDeserializer(Subcategory.class, new Subcategory.Deserializer());
+    }
+
+}
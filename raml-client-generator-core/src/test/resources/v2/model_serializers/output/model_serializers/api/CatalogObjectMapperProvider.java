@@ -0,0 +1,63 @@
+
+package model_serializers.api;
+
+import javax.ws.rs.ext.ContextResolver;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import model_serializers.model.Category;
+import model_serializers.model.Dimensions;
+import model_serializers.model.Product;
+import model_serializers.model.Subcategory;
+
+
+/**
+ * Provides the mapper jersey reads and writes the json bodies with, warmed up for the models when created.
+ * 
+ */
+public class CatalogObjectMapperProvider
+    implements ContextResolver<ObjectMapper>
+{
+
+    private final static Class<?> [] MODEL_TYPES = new Class[] {Category.class, Dimensions.class, Product.class, Subcategory.class };
+    /**
+     * Mapper shared by the clients using the default provider, it can be configured before the first client is created.
+     * 
+     */
+    public final static ObjectMapper MAPPER = createObjectMapper();
+    private final ObjectMapper mapper;
+
+    /**
+     * Uses the shared mapper.
+     * 
+     */
+    public CatalogObjectMapperProvider() {
+        this(MAPPER);
+    }
+
+    /**
+     * Uses the given mapper, for example the one of the application, instead of the shared one.
+     * 
+     */
+    public CatalogObjectMapperProvider(ObjectMapper mapper) {
+        this.mapper = mapper;
+        for (Class<?> type: MODEL_TYPES) {
+            mapper.readerFor(type);
+            mapper.writerFor(type);
+        }
+    }
+
+    /**
+     * Creates a mapper reading and writing the models of the api with their generated serializers.
+     * 
+     */
+    public static ObjectMapper createObjectMapper() {
+        final ObjectMapper mapper = new ObjectMapper();
+        mapper.registerModule(new CatalogJsonModule());
+        return mapper;
+    }
+
+    @Override
+    public ObjectMapper getContext(Class<?> type) {
+        return mapper;
+    }
+
+}
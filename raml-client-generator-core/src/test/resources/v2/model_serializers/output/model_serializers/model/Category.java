@@ -0,0 +1,264 @@
+
+package model_serializers.model;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import com.fasterxml.jackson.annotation.JsonAnySetter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({
+    "name",
+    "subcategories"
+})
+public class Category {
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("name")
+    private String name;
+    @JsonProperty("subcategories")
+    private List<Subcategory> subcategories = new ArrayList<Subcategory>();
+    @JsonIgnore
+    private Map<String, Object> additionalProperties = new HashMap<String, Object>();
+
+    /**
+     * No args constructor for use in serialization
+     * 
+     */
+    public Category() {
+    }
+
+    /**
+     * 
+     * @param name
+     * @param subcategories
+     */
+    public Category(String name, List<Subcategory> subcategories) {
+        super();
+        this.name = name;
+        this.subcategories = subcategories;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("name")
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("name")
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Category withName(String name) {
+        this.name = name;
+        return this;
+    }
+
+    @JsonProperty("subcategories")
+    public Optional<List<Subcategory>> getSubcategories() {
+        return Optional.ofNullable(subcategories);
+    }
+
+    @JsonProperty("subcategories")
+    public void setSubcategories(List<Subcategory> subcategories) {
+        this.subcategories = subcategories;
+    }
+
+    public Category withSubcategories(List<Subcategory> subcategories) {
+        this.subcategories = subcategories;
+        return this;
+    }
+
+    @JsonAnyGetter
+    public Map<String, Object> getAdditionalProperties() {
+        return this.additionalProperties;
+    }
+
+    @JsonAnySetter
+    public void setAdditionalProperty(String name, Object value) {
+        this.additionalProperties.put(name, value);
+    }
+
+    public Category withAdditionalProperty(String name, Object value) {
+        this.additionalProperties.put(name, value);
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(Category.class.getName()).append('@').append(Integer.toHexString(System.identityHashCode(this))).append('[');
+        sb.append("name");
+        sb.append('=');
+        sb.append(((this.name == null)?"<null>":this.name));
+        sb.append(',');
+        sb.append("subcategories");
+        sb.append('=');
+        sb.append(((this.subcategories == null)?"<null>":this.subcategories));
+        sb.append(',');
+        sb.append("additionalProperties");
+        sb.append('=');
+        sb.append(((this.additionalProperties == null)?"<null>":this.additionalProperties));
+        sb.append(',');
+        if (sb.charAt((sb.length()- 1)) == ',') {
+            sb.setCharAt((sb.length()- 1), ']');
+        } else {
+            sb.append(']');
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        result = ((result* 31)+((this.name == null)? 0 :this.name.hashCode()));
+        result = ((result* 31)+((this.additionalProperties == null)? 0 :this.additionalProperties.hashCode()));
+        result = ((result* 31)+((this.subcategories == null)? 0 :this.subcategories.hashCode()));
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if ((other instanceof Category) == false) {
+            return false;
+        }
+        Category rhs = ((Category) other);
+        return ((((this.name == rhs.name)||((this.name!= null)&&this.name.equals(rhs.name)))&&((this.additionalProperties == rhs.additionalProperties)||((this.additionalProperties!= null)&&this.additionalProperties.equals(rhs.additionalProperties))))&&((this.subcategories == rhs.subcategories)||((this.subcategories!= null)&&this.subcategories.equals(rhs.subcategories))));
+    }
+
+
+    /**
+     * Reads the fields of the model by the name of their properties, with the deserializers of the other types resolved once.
+     * 
+     */
+    public static class Deserializer
+        extends StdDeserializer<Category>
+        implements ResolvableDeserializer
+    {
+
+        private final static JavaType SUBCATEGORIES_TYPE = TypeFactory.defaultInstance().constructType((new com.fasterxml.jackson.core.type.TypeReference<java.util.List<model_serializers.model.Subcategory>>() {}));
+        private JsonDeserializer<Object> subcategoriesDeserializer;
+        private JsonDeserializer<Object> additionalPropertiesDeserializer;
+
+        public Deserializer() {
+            super(Category.class);
+        }
+
+        @Override
+        public boolean isCachable() {
+            return true;
+        }
+
+        @Override
+        public void resolve(DeserializationContext context)
+            throws JsonMappingException
+        {
+            this.subcategoriesDeserializer = context.findRootValueDeserializer(SUBCATEGORIES_TYPE);
+            this.additionalPropertiesDeserializer = context.findRootValueDeserializer(context.constructType(Object.class));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Category deserialize(JsonParser parser, DeserializationContext context)
+            throws IOException
+        {
+            JsonToken token = parser.getCurrentToken();
+            if (token == JsonToken.START_OBJECT) {
+                token = parser.nextToken();
+            } else {
+                if ((token!= JsonToken.FIELD_NAME)&&(token!= JsonToken.END_OBJECT)) {
+                    return ((Category) context.handleUnexpectedToken(Category.class, parser));
+                }
+            }
+            final Category value = new Category();
+            while (token == JsonToken.FIELD_NAME) {
+                final String name = parser.getCurrentName();
+                parser.nextToken();
+                switch (name) {
+                    case "name":
+                        value.name = ((parser.getCurrentToken() == JsonToken.VALUE_NULL)?null:_parseString(parser, context));
+                        break;
+                    case "subcategories":
+                        value.subcategories = ((parser.getCurrentToken() == JsonToken.VALUE_NULL)?null:((List<Subcategory> ) this.subcategoriesDeserializer.deserialize(parser, context)));
+                        break;
+                    default:
+                        value.setAdditionalProperty(name, ((parser.getCurrentToken() == JsonToken.VALUE_NULL)?null:this.additionalPropertiesDeserializer.deserialize(parser, context)));
+                }
+                token = parser.nextToken();
+            }
+            return value;
+        }
+
+    }
+
+
+    /**
+     * Writes the fields of the model in the order of its properties.
+     * 
+     */
+    public static class Serializer
+        extends StdSerializer<Category>
+    {
+
+
+        public Serializer() {
+            super(Category.class);
+        }
+
+        @Override
+        public void serialize(Category value, JsonGenerator generator, SerializerProvider provider)
+            throws IOException
+        {
+            generator.writeStartObject();
+            if (value.name!= null) {
+                generator.writeStringField("name", value.name);
+            }
+            if (value.subcategories!= null) {
+                provider.defaultSerializeField("subcategories", value.subcategories, generator);
+            }
+            for (Map.Entry<String, Object> property: value.additionalProperties.entrySet()) {
+                provider.defaultSerializeField(property.getKey(), property.getValue(), generator);
+            }
+            generator.writeEndObject();
+        }
+
+    }
+
+}
@@ -0,0 +1,241 @@
+
+package model_serializers.model;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import com.fasterxml.jackson.annotation.JsonAnySetter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({
+    "width",
+    "height"
+})
+public class Dimensions {
+
+    @JsonProperty("width")
+    private Double width;
+    @JsonProperty("height")
+    private Double height;
+    @JsonIgnore
+    private Map<String, Object> additionalProperties = new HashMap<String, Object>();
+
+    /**
+     * No args constructor for use in serialization
+     * 
+     */
+    public Dimensions() {
+    }
+
+    /**
+     * 
+     * @param width
+     * @param height
+     */
+    public Dimensions(Double width, Double height) {
+        super();
+        this.width = width;
+        this.height = height;
+    }
+
+    @JsonProperty("width")
+    public Optional<Double> getWidth() {
+        return Optional.ofNullable(width);
+    }
+
+    @JsonProperty("width")
+    public void setWidth(Double width) {
+        this.width = width;
+    }
+
+    public Dimensions withWidth(Double width) {
+        this.width = width;
+        return this;
+    }
+
+    @JsonProperty("height")
+    public Optional<Double> getHeight() {
+        return Optional.ofNullable(height);
+    }
+
+    @JsonProperty("height")
+    public void setHeight(Double height) {
+        this.height = height;
+    }
+
+    public Dimensions withHeight(Double height) {
+        this.height = height;
+        return this;
+    }
+
+    @JsonAnyGetter
+    public Map<String, Object> getAdditionalProperties() {
+        return this.additionalProperties;
+    }
+
+    @JsonAnySetter
+    public void setAdditionalProperty(String name, Object value) {
+        this.additionalProperties.put(name, value);
+    }
+
+    public Dimensions withAdditionalProperty(String name, Object value) {
+        this.additionalProperties.put(name, value);
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(Dimensions.class.getName()).append('@').append(Integer.toHexString(System.identityHashCode(this))).append('[');
+        sb.append("width");
+        sb.append('=');
+        sb.append(((this.width == null)?"<null>":this.width));
+        sb.append(',');
+        sb.append("height");
+        sb.append('=');
+        sb.append(((this.height == null)?"<null>":this.height));
+        sb.append(',');
+        sb.append("additionalProperties");
+        sb.append('=');
+        sb.append(((this.additionalProperties == null)?"<null>":this.additionalProperties));
+        sb.append(',');
+        if (sb.charAt((sb.length()- 1)) == ',') {
+            sb.setCharAt((sb.length()- 1), ']');
+        } else {
+            sb.append(']');
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        result = ((result* 31)+((this.width == null)? 0 :this.width.hashCode()));
+        result = ((result* 31)+((this.additionalProperties == null)? 0 :this.additionalProperties.hashCode()));
+        result = ((result* 31)+((this.height == null)? 0 :this.height.hashCode()));
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if ((other instanceof Dimensions) == false) {
+            return false;
+        }
+        Dimensions rhs = ((Dimensions) other);
+        return ((((this.width == rhs.width)||((this.width!= null)&&this.width.equals(rhs.width)))&&((this.additionalProperties == rhs.additionalProperties)||((this.additionalProperties!= null)&&this.additionalProperties.equals(rhs.additionalProperties))))&&((this.height == rhs.height)||((this.height!= null)&&this.height.equals(rhs.height))));
+    }
+
+
+    /**
+     * Reads the fields of the model by the name of their properties, with the deserializers of the other types resolved once.
+     * 
+     */
+    public static class Deserializer
+        extends StdDeserializer<Dimensions>
+        implements ResolvableDeserializer
+    {
+
+        private JsonDeserializer<Object> additionalPropertiesDeserializer;
+
+        public Deserializer() {
+            super(Dimensions.class);
+        }
+
+        @Override
+        public boolean isCachable() {
+            return true;
+        }
+
+        @Override
+        public void resolve(DeserializationContext context)
+            throws JsonMappingException
+        {
+            this.additionalPropertiesDeserializer = context.findRootValueDeserializer(context.constructType(Object.class));
+        }
+
+        @Override
+        public Dimensions deserialize(JsonParser parser, DeserializationContext context)
+            throws IOException
+        {
+            JsonToken token = parser.getCurrentToken();
+            if (token == JsonToken.START_OBJECT) {
+                token = parser.nextToken();
+            } else {
+                if ((token!= JsonToken.FIELD_NAME)&&(token!= JsonToken.END_OBJECT)) {
+                    return ((Dimensions) context.handleUnexpectedToken(Dimensions.class, parser));
+                }
+            }
+            final Dimensions value = new Dimensions();
+            while (token == JsonToken.FIELD_NAME) {
+                final String name = parser.getCurrentName();
+                parser.nextToken();
+                switch (name) {
+                    case "width":
+                        value.width = ((parser.getCurrentToken() == JsonToken.VALUE_NULL)?null:_parseDouble(parser, context));
+                        break;
+                    case "height":
+                        value.height = ((parser.getCurrentToken() == JsonToken.VALUE_NULL)?null:_parseDouble(parser, context));
+                        break;
+                    default:
+                        value.setAdditionalProperty(name, ((parser.getCurrentToken() == JsonToken.VALUE_NULL)?null:this.additionalPropertiesDeserializer.deserialize(parser, context)));
+                }
+                token = parser.nextToken();
+            }
+            return value;
+        }
+
+    }
+
+
+    /**
+     * Writes the fields of the model in the order of its properties.
+     * 
+     */
+    public static class Serializer
+        extends StdSerializer<Dimensions>
+    {
+
+
+        public Serializer() {
+            super(Dimensions.class);
+        }
+
+        @Override
+        public void serialize(Dimensions value, JsonGenerator generator, SerializerProvider provider)
+            throws IOException
+        {
+            generator.writeStartObject();
+            if (value.width!= null) {
+                generator.writeNumberField("width", value.width);
+            }
+            if (value.height!= null) {
+                generator.writeNumberField("height", value.height);
+            }
+            for (Map.Entry<String, Object> property: value.additionalProperties.entrySet()) {
+                provider.defaultSerializeField(property.getKey(), property.getValue(), generator);
+            }
+            generator.writeEndObject();
+        }
+
+    }
+
+}
@@ -0,0 +1,498 @@
+
+package model_serializers.model;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import com.fasterxml.jackson.annotation.JsonAnySetter;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({
+    "sku",
+    "units",
+    "price",
+    "available",
+    "status",
+    "released",
+    "tags",
+    "dimensions"
+})
+public class Product {
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("sku")
+    private String sku;
+    @JsonProperty("units")
+    private Long units;
+    @JsonProperty("price")
+    private Double price;
+    @JsonProperty("available")
+    private Boolean available;
+    @JsonProperty("status")
+    private Product.Status status;
+    @JsonProperty("released")
+    private Date released;
+    @JsonProperty("tags")
+    private List<String> tags = new ArrayList<String>();
+    @JsonProperty("dimensions")
+    private Dimensions dimensions;
+    @JsonIgnore
+    private Map<String, Object> additionalProperties = new HashMap<String, Object>();
+
+    /**
+     * No args constructor for use in serialization
+     * 
+     */
+    public Product() {
+    }
+
+    /**
+     * 
+     * @param price
+     * @param available
+     * @param units
+     * @param sku
+     * @param released
+     * @param status
+     * @param tags
+     * @param dimensions
+     */
+    public Product(String sku, Long units, Double price, Boolean available, Product.Status status, Date released, List<String> tags, Dimensions dimensions) {
+        super();
+        this.sku = sku;
+        this.units = units;
+        this.price = price;
+        this.available = available;
+        this.status = status;
+        this.released = released;
+        this.tags = tags;
+        this.dimensions = dimensions;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("sku")
+    public String getSku() {
+        return sku;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("sku")
+    public void setSku(String sku) {
+        this.sku = sku;
+    }
+
+    public Product withSku(String sku) {
+        this.sku = sku;
+        return this;
+    }
+
+    @JsonProperty("units")
+    public Optional<Long> getUnits() {
+        return Optional.ofNullable(units);
+    }
+
+    @JsonProperty("units")
+    public void setUnits(Long units) {
+        this.units = units;
+    }
+
+    public Product withUnits(Long units) {
+        this.units = units;
+        return this;
+    }
+
+    @JsonProperty("price")
+    public Optional<Double> getPrice() {
+        return Optional.ofNullable(price);
+    }
+
+    @JsonProperty("price")
+    public void setPrice(Double price) {
+        this.price = price;
+    }
+
+    public Product withPrice(Double price) {
+        this.price = price;
+        return this;
+    }
+
+    @JsonProperty("available")
+    public Optional<Boolean> getAvailable() {
+        return Optional.ofNullable(available);
+    }
+
+    @JsonProperty("available")
+    public void setAvailable(Boolean available) {
+        this.available = available;
+    }
+
+    public Product withAvailable(Boolean available) {
+        this.available = available;
+        return this;
+    }
+
+    @JsonProperty("status")
+    public Optional<Product.Status> getStatus() {
+        return Optional.ofNullable(status);
+    }
+
+    @JsonProperty("status")
+    public void setStatus(Product.Status status) {
+        this.status = status;
+    }
+
+    public Product withStatus(Product.Status status) {
+        this.status = status;
+        return this;
+    }
+
+    @JsonProperty("released")
+    public Optional<Date> getReleased() {
+        return Optional.ofNullable(released);
+    }
+
+    @JsonProperty("released")
+    public void setReleased(Date released) {
+        this.released = released;
+    }
+
+    public Product withReleased(Date released) {
+        this.released = released;
+        return this;
+    }
+
+    @JsonProperty("tags")
+    public Optional<List<String>> getTags() {
+        return Optional.ofNullable(tags);
+    }
+
+    @JsonProperty("tags")
+    public void setTags(List<String> tags) {
+        this.tags = tags;
+    }
+
+    public Product withTags(List<String> tags) {
+        this.tags = tags;
+        return this;
+    }
+
+    @JsonProperty("dimensions")
+    public Optional<Dimensions> getDimensions() {
+        return Optional.ofNullable(dimensions);
+    }
+
+    @JsonProperty("dimensions")
+    public void setDimensions(Dimensions dimensions) {
+        this.dimensions = dimensions;
+    }
+
+    public Product withDimensions(Dimensions dimensions) {
+        this.dimensions = dimensions;
+        return this;
+    }
+
+    @JsonAnyGetter
+    public Map<String, Object> getAdditionalProperties() {
+        return this.additionalProperties;
+    }
+
+    @JsonAnySetter
+    public void setAdditionalProperty(String name, Object value) {
+        this.additionalProperties.put(name, value);
+    }
+
+    public Product withAdditionalProperty(String name, Object value) {
+        this.additionalProperties.put(name, value);
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(Product.class.getName()).append('@').append(Integer.toHexString(System.identityHashCode(this))).append('[');
+        sb.append("sku");
+        sb.append('=');
+        sb.append(((this.sku == null)?"<null>":this.sku));
+        sb.append(',');
+        sb.append("units");
+        sb.append('=');
+        sb.append(((this.units == null)?"<null>":this.units));
+        sb.append(',');
+        sb.append("price");
+        sb.append('=');
+        sb.append(((this.price == null)?"<null>":this.price));
+        sb.append(',');
+        sb.append("available");
+        sb.append('=');
+        sb.append(((this.available == null)?"<null>":this.available));
+        sb.append(',');
+        sb.append("status");
+        sb.append('=');
+        sb.append(((this.status == null)?"<null>":this.status));
+        sb.append(',');
+        sb.append("released");
+        sb.append('=');
+        sb.append(((this.released == null)?"<null>":this.released));
+        sb.append(',');
+        sb.append("tags");
+        sb.append('=');
+        sb.append(((this.tags == null)?"<null>":this.tags));
+        sb.append(',');
+        sb.append("dimensions");
+        sb.append('=');
+        sb.append(((this.dimensions == null)?"<null>":this.dimensions));
+        sb.append(',');
+        sb.append("additionalProperties");
+        sb.append('=');
+        sb.append(((this.additionalProperties == null)?"<null>":this.additionalProperties));
+        sb.append(',');
+        if (sb.charAt((sb.length()- 1)) == ',') {
+            sb.setCharAt((sb.length()- 1), ']');
+        } else {
+            sb.append(']');
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        result = ((result* 31)+((this.price == null)? 0 :this.price.hashCode()));
+        result = ((result* 31)+((this.available == null)? 0 :this.available.hashCode()));
+        result = ((result* 31)+((this.units == null)? 0 :this.units.hashCode()));
+        result = ((result* 31)+((this.additionalProperties == null)? 0 :this.additionalProperties.hashCode()));
+        result = ((result* 31)+((this.sku == null)? 0 :this.sku.hashCode()));
+        result = ((result* 31)+((this.released == null)? 0 :this.released.hashCode()));
+        result = ((result* 31)+((this.status == null)? 0 :this.status.hashCode()));
+        result = ((result* 31)+((this.tags == null)? 0 :this.tags.hashCode()));
+        result = ((result* 31)+((this.dimensions == null)? 0 :this.dimensions.hashCode()));
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if ((other instanceof Product) == false) {
+            return false;
+        }
+        Product rhs = ((Product) other);
+        return ((((((((((this.price == rhs.price)||((this.price!= null)&&this.price.equals(rhs.price)))&&((this.available == rhs.available)||((this.available!= null)&&this.available.equals(rhs.available))))&&((this.units == rhs.units)||((this.units!= null)&&this.units.equals(rhs.units))))&&((this.additionalProperties == rhs.additionalProperties)||((this.additionalProperties!= null)&&this.additionalProperties.equals(rhs.additionalProperties))))&&((this.sku == rhs.sku)||((this.sku!= null)&&this.sku.equals(rhs.sku))))&&((this.released == rhs.released)||((this.released!= null)&&this.released.equals(rhs.released))))&&((this.status == rhs.status)||((this.status!= null)&&this.status.equals(rhs.status))))&&((this.tags == rhs.tags)||((this.tags!= null)&&this.tags.equals(rhs.tags))))&&((this.dimensions == rhs.dimensions)||((this.dimensions!= null)&&this.dimensions.equals(rhs.dimensions))));
+    }
+
+
+    /**
+     * Reads the fields of the model by the name of their properties, with the deserializers of the other types resolved once.
+     * 
+     */
+    public static class Deserializer
+        extends StdDeserializer<Product>
+        implements ResolvableDeserializer
+    {
+
+        private JsonDeserializer<Object> statusDeserializer;
+        private JsonDeserializer<Object> releasedDeserializer;
+        private final static JavaType TAGS_TYPE = TypeFactory.defaultInstance().constructType((new com.fasterxml.jackson.core.type.TypeReference<java.util.List<java.lang.String>>() {}));
+        private JsonDeserializer<Object> tagsDeserializer;
+        private JsonDeserializer<Object> dimensionsDeserializer;
+        private JsonDeserializer<Object> additionalPropertiesDeserializer;
+
+        public Deserializer() {
+            super(Product.class);
+        }
+
+        @Override
+        public boolean isCachable() {
+            return true;
+        }
+
+        @Override
+        public void resolve(DeserializationContext context)
+            throws JsonMappingException
+        {
+            this.statusDeserializer = context.findRootValueDeserializer(context.constructType(Product.Status.class));
+            this.releasedDeserializer = context.findRootValueDeserializer(context.constructType(Date.class));
+            this.tagsDeserializer = context.findRootValueDeserializer(TAGS_TYPE);
+            this.dimensionsDeserializer = context.findRootValueDeserializer(context.constructType(Dimensions.class));
+            this.additionalPropertiesDeserializer = context.findRootValueDeserializer(context.constructType(Object.class));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Product deserialize(JsonParser parser, DeserializationContext context)
+            throws IOException
+        {
+            JsonToken token = parser.getCurrentToken();
+            if (token == JsonToken.START_OBJECT) {
+                token = parser.nextToken();
+            } else {
+                if ((token!= JsonToken.FIELD_NAME)&&(token!= JsonToken.END_OBJECT)) {
+                    return ((Product) context.handleUnexpectedToken(Product.class, parser));
+                }
+            }
+            final Product value = new Product();
+            while (token == JsonToken.FIELD_NAME) {
+                final String name = parser.getCurrentName();
+                parser.nextToken();
+                switch (name) {
+                    case "sku":
+                        value.sku = ((parser.getCurrentToken() == JsonToken.VALUE_NULL)?null:_parseString(parser, context));
+                        break;
+                    case "units":
+                        value.units = ((parser.getCurrentToken() == JsonToken.VALUE_NULL)?null:_parseLong(parser, context));
+                        break;
+                    case "price":
+                        value.price = ((parser.getCurrentToken() == JsonToken.VALUE_NULL)?null:_parseDouble(parser, context));
+                        break;
+                    case "available":
+                        value.available = ((parser.getCurrentToken() == JsonToken.VALUE_NULL)?null:_parseBoolean(parser, context));
+                        break;
+                    case "status":
+                        value.status = ((parser.getCurrentToken() == JsonToken.VALUE_NULL)?null:((Product.Status) this.statusDeserializer.deserialize(parser, context)));
+                        break;
+                    case "released":
+                        value.released = ((parser.getCurrentToken() == JsonToken.VALUE_NULL)?null:((Date) this.releasedDeserializer.deserialize(parser, context)));
+                        break;
+                    case "tags":
+                        value.tags = ((parser.getCurrentToken() == JsonToken.VALUE_NULL)?null:((List<String> ) this.tagsDeserializer.deserialize(parser, context)));
+                        break;
+                    case "dimensions":
+                        value.dimensions = ((parser.getCurrentToken() == JsonToken.VALUE_NULL)?null:((Dimensions) this.dimensionsDeserializer.deserialize(parser, context)));
+                        break;
+                    default:
+                        value.setAdditionalProperty(name, ((parser.getCurrentToken() == JsonToken.VALUE_NULL)?null:this.additionalPropertiesDeserializer.deserialize(parser, context)));
+                }
+                token = parser.nextToken();
+            }
+            return value;
+        }
+
+    }
+
+
+    /**
+     * Writes the fields of the model in the order of its properties.
+     * 
+     */
+    public static class Serializer
+        extends StdSerializer<Product>
+    {
+
+
+        public Serializer() {
+            super(Product.class);
+        }
+
+        @Override
+        public void serialize(Product value, JsonGenerator generator, SerializerProvider provider)
+            throws IOException
+        {
+            generator.writeStartObject();
+            if (value.sku!= null) {
+                generator.writeStringField("sku", value.sku);
+            }
+            if (value.units!= null) {
+                generator.writeNumberField("units", value.units);
+            }
+            if (value.price!= null) {
+                generator.writeNumberField("price", value.price);
+            }
+            if (value.available!= null) {
+                generator.writeBooleanField("available", value.available);
+            }
+            if (value.status!= null) {
+                provider.defaultSerializeField("status", value.status, generator);
+            }
+            if (value.released!= null) {
+                provider.defaultSerializeField("released", value.released, generator);
+            }
+            if (value.tags!= null) {
+                provider.defaultSerializeField("tags", value.tags, generator);
+            }
+            if (value.dimensions!= null) {
+                provider.defaultSerializeField("dimensions", value.dimensions, generator);
+            }
+            for (Map.Entry<String, Object> property: value.additionalProperties.entrySet()) {
+                provider.defaultSerializeField(property.getKey(), property.getValue(), generator);
+            }
+            generator.writeEndObject();
+        }
+
+    }
+
+    public enum Status {
+
+        DRAFT("draft"),
+        PUBLISHED("published");
+        private final String value;
+        private final static Map<String, Product.Status> CONSTANTS = new HashMap<String, Product.Status>();
+
+        static {
+            for (Product.Status c: values()) {
+                CONSTANTS.put(c.value, c);
+            }
+        }
+
+        private Status(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String toString() {
+            return this.value;
+        }
+
+        @JsonValue
+        public String value() {
+            return this.value;
+        }
+
+        @JsonCreator
+        public static Product.Status fromValue(String value) {
+            Product.Status constant = CONSTANTS.get(value);
+            if (constant == null) {
+                throw new IllegalArgumentException(value);
+            } else {
+                return constant;
+            }
+        }
+
+    }
+
+}
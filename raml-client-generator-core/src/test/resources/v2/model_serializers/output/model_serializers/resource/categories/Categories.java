@@ -0,0 +1,56 @@
+
+package model_serializers.resource.categories;
+
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.Status.Family;
+import model_serializers.exceptions.CatalogException;
+import model_serializers.responses.CatalogResponse;
+
+public class Categories {
+
+    private WebTarget _uriTemplate;
+    private Client _client;
+
+    public Categories() {
+        _uriTemplate = null;
+        _client = null;
+    }
+
+    public Categories(WebTarget uriTemplate, Client _client) {
+        _uriTemplate = uriTemplate.path("categories");
+        this._client = _client;
+    }
+
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public Categories(String baseUrl, Client _client) {
+        this(_client.target(baseUrl), _client);
+    }
+
+    protected Client getClient() {
+        return this._client;
+    }
+
+    private WebTarget getTarget() {
+        return _uriTemplate;
+    }
+
+    public CatalogResponse<String> get() {
+        WebTarget target = getTarget();
+        final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(MediaType.APPLICATION_JSON_TYPE);
+        Response response = invocationBuilder.method("GET");
+        if (response.getStatusInfo().getFamily()!= Family.SUCCESSFUL) {
+            Response.StatusType statusInfo = response.getStatusInfo();
+            throw new CatalogException(statusInfo.getStatusCode(), statusInfo.getReasonPhrase(), response.getStringHeaders(), response);
+        }
+        CatalogResponse<String> apiResponse = new CatalogResponse<String>(((String) response.readEntity(Object.class)), response.getStringHeaders(), response);
+        return apiResponse;
+    }
+
+}
@@ -0,0 +1,57 @@
+
+package model_serializers.resource.products;
+
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.Status.Family;
+import model_serializers.exceptions.CatalogException;
+import model_serializers.responses.CatalogResponse;
+
+public class Products {
+
+    private WebTarget _uriTemplate;
+    private Client _client;
+
+    public Products() {
+        _uriTemplate = null;
+        _client = null;
+    }
+
+    public Products(WebTarget uriTemplate, Client _client) {
+        _uriTemplate = uriTemplate.path("products");
+        this._client = _client;
+    }
+
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public Products(String baseUrl, Client _client) {
+        this(_client.target(baseUrl), _client);
+    }
+
+    protected Client getClient() {
+        return this._client;
+    }
+
+    private WebTarget getTarget() {
+        return _uriTemplate;
+    }
+
+    public CatalogResponse<String> post(String body) {
+        WebTarget target = getTarget();
+        final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(MediaType.APPLICATION_JSON_TYPE);
+        Response response = invocationBuilder.method("POST", Entity.json(body));
+        if (response.getStatusInfo().getFamily()!= Family.SUCCESSFUL) {
+            Response.StatusType statusInfo = response.getStatusInfo();
+            throw new CatalogException(statusInfo.getStatusCode(), statusInfo.getReasonPhrase(), response.getStringHeaders(), response);
+        }
+        CatalogResponse<String> apiResponse = new CatalogResponse<String>(((String) response.readEntity(Object.class)), response.getStringHeaders(), response);
+        return apiResponse;
+    }
+
+}
@@ -3,22 +3,42 @@ package oauth_override.api;
 
 import javax.ws.rs.client.Client;
 import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.client.WebTarget;
 import oauth_override.resource.api.Api;
 
-public class CoreServicesAPIReferenceClient {
+public class CoreServicesAPIReferenceClient
+    implements AutoCloseable
+{
 
     private String _baseUrl;
+    private Client _client;
+    private boolean _ownsClient;
     public final Api api;
 
-    public CoreServicesAPIReferenceClient(String baseUrl) {
+    /**
+     * When a client is given it is used as is and it is not closed by {@link #close()}, otherwise one is created.
+     * 
+     */
+    public CoreServicesAPIReferenceClient(String baseUrl, Client client) {
         _baseUrl = baseUrl;
-        api = new Api(getBaseUri(), getClient());
+        _ownsClient = (client == null);
+        _client = (_ownsClient?getClient():client);
+        final WebTarget uriTemplate = _client.target(getBaseUri());
+        api = new Api(uriTemplate, _client);
+    }
+
+    public CoreServicesAPIReferenceClient(String baseUrl) {
+        this(baseUrl, null);
     }
 
     public CoreServicesAPIReferenceClient() {
         this("https://anypoint.mulesoft.com/accounts");
     }
 
+    public CoreServicesAPIReferenceClient(Client client) {
+        this("https://anypoint.mulesoft.com/accounts", client);
+    }
+
     protected Client getClient() {
         return ClientBuilder.newClient();
     }
@@ -27,12 +47,31 @@ public class CoreServicesAPIReferenceClient {
         return _baseUrl;
     }
 
+    /**
+     * Closes the client if it was created by this instance.
+     * 
+     */
+    @Override
+    public void close() {
+        if (_ownsClient) {
+            _client.close();
+        }
+    }
+
     public static CoreServicesAPIReferenceClient create(String baseUrl) {
         return new CoreServicesAPIReferenceClient(baseUrl);
     }
 
+    public static CoreServicesAPIReferenceClient create(String baseUrl, Client client) {
+        return new CoreServicesAPIReferenceClient(baseUrl, client);
+    }
+
     public static CoreServicesAPIReferenceClient create() {
         return new CoreServicesAPIReferenceClient();
     }
 
+    public static CoreServicesAPIReferenceClient create(Client client) {
+        return new CoreServicesAPIReferenceClient(client);
+    }
+
 }
@@ -0,0 +1,138 @@
+
+package object_mapper_provider.api;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import javax.ws.rs.core.Configuration;
+import javax.ws.rs.ext.ContextResolver;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+
+/**
+ * Reads the elements of a json array one at a time, while they are iterated.
+ * 
+ */
+public class OrdersJsonArrayIterator<T >
+    implements Closeable, Iterator<T>
+{
+
+    private final JsonParser parser;
+    private final ObjectMapper mapper;
+    private final Class<T> type;
+    private boolean hasNext;
+    private final static ObjectMapper DEFAULT_MAPPER = new ObjectMapper();
+
+    /**
+     * Reads the elements with the given mapper, the parser is positioned before the start of the array.
+     * 
+     */
+    public OrdersJsonArrayIterator(JsonParser parser, ObjectMapper mapper, Class<T> type) {
+        this.parser = parser;
+        this.mapper = mapper;
+        this.type = type;
+        try {
+            if (parser.nextToken()!= JsonToken.START_ARRAY) {
+                throw new IOException("The body is not a json array");
+            }
+            advance();
+        } catch (IOException e) {
+            close();
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        hasNext = false;
+        try {
+            parser.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void advance()
+        throws IOException
+    {
+        final JsonToken token = parser.nextToken();
+        if (token == null) {
+            throw new EOFException("Unexpected end of the json array");
+        }
+        hasNext = (token!= JsonToken.END_ARRAY);
+        if (!hasNext) {
+            parser.close();
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return hasNext;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext) {
+            throw new NoSuchElementException();
+        }
+        try {
+            final T element = mapper.readValue(parser, type);
+            advance();
+            return element;
+        } catch (IOException e) {
+            close();
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * The elements of the json array in the body, closing the stream releases the body.
+     * 
+     */
+    public static<T >Stream<T> stream(InputStream body, ObjectMapper mapper, Class<T> type) {
+        JsonParser parser;
+        try {
+            parser = mapper.getFactory().createParser(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        final OrdersJsonArrayIterator<T> iterator = new OrdersJsonArrayIterator<T>(parser, mapper, type);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false).onClose(new Runnable() {
+
+
+            @Override
+            public void run() {
+                iterator.close();
+            }
+
+        }
+        );
+    }
+
+    /**
+     * The mapper of the <code>ContextResolver&lt;ObjectMapper&gt;</code> instance registered on the client, so the streamed json arrays are read and written like the other json bodies, a default one when there is none.
+     * 
+     */
+    public static ObjectMapper getMapper(Configuration configuration) {
+        for (Object instance: configuration.getInstances()) {
+            if (instance instanceof ContextResolver) {
+                final Object context = ((ContextResolver<?> ) instance).getContext(ObjectMapper.class);
+                if (context instanceof ObjectMapper) {
+                    return ((ObjectMapper) context);
+                }
+            }
+        }
+        return DEFAULT_MAPPER;
+    }
+
+}
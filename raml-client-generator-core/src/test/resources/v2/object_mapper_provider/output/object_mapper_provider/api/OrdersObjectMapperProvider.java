@@ -0,0 +1,67 @@
+
+package object_mapper_provider.api;
+
+import javax.ws.rs.ext.ContextResolver;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import object_mapper_provider.model.Customer__1;
+import object_mapper_provider.model.OrderLine__1;
+import object_mapper_provider.resource.orders.model.OrdersGETQueryParam;
+import object_mapper_provider.resource.orders.orderId.status.model.StatusPUTBody;
+import object_mapper_provider.resource.orders.orderId.status.model.StatusPUTResponseBody;
+
+
+/**
+ * Provides the mapper jersey reads and writes the json bodies with, warmed up for the models when created.
+ * 
+ */
+public class OrdersObjectMapperProvider
+    implements ContextResolver<ObjectMapper>
+{
+
+    private final static Class<?> [] MODEL_TYPES = new Class[] {object_mapper_provider.model.Customer.class, Customer__1 .class, object_mapper_provider.model.Order.class, object_mapper_provider.model.OrderLine.class, OrderLine__1 .class, object_mapper_provider.resource.orders.model.Customer.class, object_mapper_provider.resource.orders.model.Order.class, object_mapper_provider.resource.orders.model.OrderLine.class, OrdersGETQueryParam.class, StatusPUTBody.class, StatusPUTResponseBody.class };
+    /**
+     * Mapper shared by the clients using the default provider, it can be configured before the first client is created.
+     * 
+     */
+    public final static ObjectMapper MAPPER = createObjectMapper();
+    private final ObjectMapper mapper;
+
+    /**
+     * Uses the shared mapper.
+     * 
+     */
+    public OrdersObjectMapperProvider() {
+        this(MAPPER);
+    }
+
+    /**
+     * Uses the given mapper, for example the one of the application, instead of the shared one.
+     * 
+     */
+    public OrdersObjectMapperProvider(ObjectMapper mapper) {
+        this.mapper = mapper;
+        for (Class<?> type: MODEL_TYPES) {
+            mapper.readerFor(type);
+            mapper.writerFor(type);
+        }
+    }
+
+    /**
+     * Creates a mapper tuned for the models of the api, reading their properties without reflection and ignoring the unknown ones.
+     * 
+     */
+    public static ObjectMapper createObjectMapper() {
+        final ObjectMapper mapper = new ObjectMapper();
+        mapper.registerModule(new AfterburnerModule());
+        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        return mapper;
+    }
+
+    @Override
+    public ObjectMapper getContext(Class<?> type) {
+        return mapper;
+    }
+
+}
@@ -0,0 +1,104 @@
+
+package object_mapper_provider.resource.orders;
+
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.Response;
+import object_mapper_provider.api.OrdersJsonArrayIterator;
+import object_mapper_provider.exceptions.OrdersException;
+import object_mapper_provider.resource.orders.model.OrdersGETQueryParam;
+import object_mapper_provider.resource.orders.orderId.OrderId;
+import object_mapper_provider.responses.OrdersResponse;
+
+public class Orders {
+
+    private WebTarget _uriTemplate;
+    private Client _client;
+    private final OrderId _orderId;
+
+    public Orders() {
+        _uriTemplate = null;
+        _client = null;
+        _orderId = null;
+    }
+
+    public Orders(WebTarget uriTemplate, Client _client) {
+        _uriTemplate = uriTemplate.path("orders");
+        this._client = _client;
+        _orderId = new OrderId(_uriTemplate, getClient());
+    }
+
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public Orders(String baseUrl, Client _client) {
+        this(_client.target(baseUrl), _client);
+    }
+
+    protected Client getClient() {
+        return this._client;
+    }
+
+    private WebTarget getTarget() {
+        return _uriTemplate;
+    }
+
+    public OrdersResponse<List<object_mapper_provider.resource.orders.model.Order>> get(OrdersGETQueryParam queryParameters) {
+        WebTarget target = getTarget();
+        if (queryParameters.getCustomerId()!= null) {
+            target = target.queryParam("customerId", queryParameters.getCustomerId());
+        }
+        final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE);
+        Response response = invocationBuilder.method("GET");
+        if (response.getStatusInfo().getFamily()!= javax.ws.rs.core.Response.Status.Family.SUCCESSFUL) {
+            Response.StatusType statusInfo = response.getStatusInfo();
+            throw new OrdersException(statusInfo.getStatusCode(), statusInfo.getReasonPhrase(), response.getStringHeaders(), response);
+        }
+        OrdersResponse<List<object_mapper_provider.resource.orders.model.Order>> apiResponse = new OrdersResponse<List<object_mapper_provider.resource.orders.model.Order>>(response.readEntity((
+new javax.ws.rs.core.GenericType<java.util.List<object_mapper_provider.resource.orders.model.Order>>() {})), response.getStringHeaders(), response);
+        return apiResponse;
+    }
+
+    /**
+     * The elements are read while the stream is consumed, close it to release the connection before reading all of them.
+     * 
+     */
+    public OrdersResponse<Stream<object_mapper_provider.resource.orders.model.Order>> getStream(OrdersGETQueryParam queryParameters) {
+        WebTarget target = getTarget();
+        if (queryParameters.getCustomerId()!= null) {
+            target = target.queryParam("customerId", queryParameters.getCustomerId());
+        }
+        final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE);
+        Response response = invocationBuilder.method("GET");
+        if (response.getStatusInfo().getFamily()!= javax.ws.rs.core.Response.Status.Family.SUCCESSFUL) {
+            Response.StatusType statusInfo = response.getStatusInfo();
+            throw new OrdersException(statusInfo.getStatusCode(), statusInfo.getReasonPhrase(), response.getStringHeaders(), response);
+        }
+        OrdersResponse<Stream<object_mapper_provider.resource.orders.model.Order>> apiResponse = new OrdersResponse<Stream<object_mapper_provider.resource.orders.model.Order>>(OrdersJsonArrayIterator.stream(response.readEntity(InputStream.class), OrdersJsonArrayIterator.getMapper(target.getConfiguration()), object_mapper_provider.resource.orders.model.Order.class), response.getStringHeaders(), response);
+        return apiResponse;
+    }
+
+    public OrdersResponse<object_mapper_provider.model.Order> post(object_mapper_provider.model.Order body) {
+        WebTarget target = getTarget();
+        final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE);
+        Response response = invocationBuilder.method("POST", Entity.json(body));
+        if (response.getStatusInfo().getFamily()!= javax.ws.rs.core.Response.Status.Family.SUCCESSFUL) {
+            Response.StatusType statusInfo = response.getStatusInfo();
+            throw new OrdersException(statusInfo.getStatusCode(), statusInfo.getReasonPhrase(), response.getStringHeaders(), response);
+        }
+        OrdersResponse<object_mapper_provider.model.Order> apiResponse = new OrdersResponse<object_mapper_provider.model.Order>(response.readEntity(object_mapper_provider.model.Order.class), response.getStringHeaders(), response);
+        return apiResponse;
+    }
+
+    public OrderId orderId(String orderId) {
+        return new OrderId(_orderId, Collections.singletonMap("orderId", ((Object) orderId)));
+    }
+
+}
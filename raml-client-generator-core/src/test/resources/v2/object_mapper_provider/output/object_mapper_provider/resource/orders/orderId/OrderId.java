@@ -0,0 +1,71 @@
+
+package object_mapper_provider.resource.orders.orderId;
+
+import java.util.Collections;
+import java.util.Map;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.Status.Family;
+import object_mapper_provider.exceptions.OrdersException;
+import object_mapper_provider.resource.orders.orderId.status.Status;
+import object_mapper_provider.responses.OrdersResponse;
+
+public class OrderId {
+
+    private WebTarget _uriTemplate;
+    private Client _client;
+    private Map<String, Object> _uriParams;
+    public final Status status;
+
+    public OrderId() {
+        _uriTemplate = null;
+        _client = null;
+        _uriParams = null;
+        status = null;
+    }
+
+    public OrderId(WebTarget uriTemplate, Client _client) {
+        _uriTemplate = uriTemplate.path("{orderId}");
+        this._client = _client;
+        status = new Status(_uriTemplate, getClient());
+    }
+
+    public OrderId(OrderId template, Map<String, Object> uriParams) {
+        _uriTemplate = template._uriTemplate;
+        _client = template._client;
+        _uriParams = uriParams;
+        status = new Status(template.status, _uriParams);
+    }
+
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public OrderId(String baseUrl, Client _client, String uriParam) {
+        this(new OrderId(_client.target(baseUrl), _client), Collections.singletonMap("orderId", ((Object) uriParam)));
+    }
+
+    protected Client getClient() {
+        return this._client;
+    }
+
+    private WebTarget getTarget() {
+        return _uriTemplate.resolveTemplates(_uriParams);
+    }
+
+    public OrdersResponse<object_mapper_provider.model.Order> get() {
+        WebTarget target = getTarget();
+        final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(MediaType.APPLICATION_JSON_TYPE);
+        Response response = invocationBuilder.method("GET");
+        if (response.getStatusInfo().getFamily()!= Family.SUCCESSFUL) {
+            Response.StatusType statusInfo = response.getStatusInfo();
+            throw new OrdersException(statusInfo.getStatusCode(), statusInfo.getReasonPhrase(), response.getStringHeaders(), response);
+        }
+        OrdersResponse<object_mapper_provider.model.Order> apiResponse = new OrdersResponse<object_mapper_provider.model.Order>(response.readEntity(object_mapper_provider.model.Order.class), response.getStringHeaders(), response);
+        return apiResponse;
+    }
+
+}
@@ -0,0 +1,68 @@
+
+package object_mapper_provider.resource.orders.orderId.status;
+
+import java.util.HashMap;
+import java.util.Map;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.Status.Family;
+import object_mapper_provider.exceptions.OrdersException;
+import object_mapper_provider.resource.orders.orderId.status.model.StatusPUTBody;
+import object_mapper_provider.responses.OrdersResponse;
+
+public class Status {
+
+    private WebTarget _uriTemplate;
+    private Client _client;
+    private Map<String, Object> _uriParams;
+
+    public Status() {
+        _uriTemplate = null;
+        _client = null;
+        _uriParams = null;
+    }
+
+    public Status(WebTarget uriTemplate, Client _client) {
+        _uriTemplate = uriTemplate.path("status");
+        this._client = _client;
+    }
+
+    public Status(Status template, Map<String, Object> uriParams) {
+        _uriTemplate = template._uriTemplate;
+        _client = template._client;
+        _uriParams = uriParams;
+    }
+
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public Status(String baseUrl, Client _client) {
+        this(new Status(_client.target(baseUrl), _client), new HashMap<String, Object>());
+    }
+
+    protected Client getClient() {
+        return this._client;
+    }
+
+    private WebTarget getTarget() {
+        return _uriTemplate.resolveTemplates(_uriParams);
+    }
+
+    public OrdersResponse<object_mapper_provider.resource.orders.orderId.status.model.StatusPUTResponseBody> put(StatusPUTBody body) {
+        WebTarget target = getTarget();
+        final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(MediaType.APPLICATION_JSON_TYPE);
+        Response response = invocationBuilder.method("PUT", Entity.json(body));
+        if (response.getStatusInfo().getFamily()!= Family.SUCCESSFUL) {
+            Response.StatusType statusInfo = response.getStatusInfo();
+            throw new OrdersException(statusInfo.getStatusCode(), statusInfo.getReasonPhrase(), response.getStringHeaders(), response);
+        }
+        OrdersResponse<object_mapper_provider.resource.orders.orderId.status.model.StatusPUTResponseBody> apiResponse = new OrdersResponse<object_mapper_provider.resource.orders.orderId.status.model.StatusPUTResponseBody>(response.readEntity(object_mapper_provider.resource.orders.orderId.status.model.StatusPUTResponseBody.class), response.getStringHeaders(), response);
+        return apiResponse;
+    }
+
+}
@@ -0,0 +1,123 @@
+
+package object_mapper_provider.resource.orders.orderId.status.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({
+    "status",
+    "reason"
+})
+public class StatusPUTBody {
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("status")
+    private String status;
+    @JsonProperty("reason")
+    private String reason;
+
+    /**
+     * No args constructor for use in serialization
+     * 
+     */
+    public StatusPUTBody() {
+    }
+
+    /**
+     * 
+     * @param reason
+     * @param status
+     */
+    public StatusPUTBody(String status, String reason) {
+        super();
+        this.status = status;
+        this.reason = reason;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("status")
+    public String getStatus() {
+        return status;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("status")
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public StatusPUTBody withStatus(String status) {
+        this.status = status;
+        return this;
+    }
+
+    @JsonProperty("reason")
+    public String getReason() {
+        return reason;
+    }
+
+    @JsonProperty("reason")
+    public void setReason(String reason) {
+        this.reason = reason;
+    }
+
+    public StatusPUTBody withReason(String reason) {
+        this.reason = reason;
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(StatusPUTBody.class.getName()).append('@').append(Integer.toHexString(System.identityHashCode(this))).append('[');
+        sb.append("status");
+        sb.append('=');
+        sb.append(((this.status == null)?"<null>":this.status));
+        sb.append(',');
+        sb.append("reason");
+        sb.append('=');
+        sb.append(((this.reason == null)?"<null>":this.reason));
+        sb.append(',');
+        if (sb.charAt((sb.length()- 1)) == ',') {
+            sb.setCharAt((sb.length()- 1), ']');
+        } else {
+            sb.append(']');
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        result = ((result* 31)+((this.reason == null)? 0 :this.reason.hashCode()));
+        result = ((result* 31)+((this.status == null)? 0 :this.status.hashCode()));
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if ((other instanceof StatusPUTBody) == false) {
+            return false;
+        }
+        StatusPUTBody rhs = ((StatusPUTBody) other);
+        return (((this.reason == rhs.reason)||((this.reason!= null)&&this.reason.equals(rhs.reason)))&&((this.status == rhs.status)||((this.status!= null)&&this.status.equals(rhs.status))));
+    }
+
+}
@@ -0,0 +1,139 @@
+
+package object_mapper_provider.resource.orders.orderId.status.model;
+
+import java.util.Date;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({
+    "status",
+    "updated"
+})
+public class StatusPUTResponseBody {
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("status")
+    private String status;
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("updated")
+    private Date updated;
+
+    /**
+     * No args constructor for use in serialization
+     * 
+     */
+    public StatusPUTResponseBody() {
+    }
+
+    /**
+     * 
+     * @param updated
+     * @param status
+     */
+    public StatusPUTResponseBody(String status, Date updated) {
+        super();
+        this.status = status;
+        this.updated = updated;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("status")
+    public String getStatus() {
+        return status;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("status")
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public StatusPUTResponseBody withStatus(String status) {
+        this.status = status;
+        return this;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("updated")
+    public Date getUpdated() {
+        return updated;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("updated")
+    public void setUpdated(Date updated) {
+        this.updated = updated;
+    }
+
+    public StatusPUTResponseBody withUpdated(Date updated) {
+        this.updated = updated;
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(StatusPUTResponseBody.class.getName()).append('@').append(Integer.toHexString(System.identityHashCode(this))).append('[');
+        sb.append("status");
+        sb.append('=');
+        sb.append(((this.status == null)?"<null>":this.status));
+        sb.append(',');
+        sb.append("updated");
+        sb.append('=');
+        sb.append(((this.updated == null)?"<null>":this.updated));
+        sb.append(',');
+        if (sb.charAt((sb.length()- 1)) == ',') {
+            sb.setCharAt((sb.length()- 1), ']');
+        } else {
+            sb.append(']');
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        result = ((result* 31)+((this.updated == null)? 0 :this.updated.hashCode()));
+        result = ((result* 31)+((this.status == null)? 0 :this.status.hashCode()));
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if ((other instanceof StatusPUTResponseBody) == false) {
+            return false;
+        }
+        StatusPUTResponseBody rhs = ((StatusPUTResponseBody) other);
+        return (((this.updated == rhs.updated)||((this.updated!= null)&&this.updated.equals(rhs.updated)))&&((this.status == rhs.status)||((this.status!= null)&&this.status.equals(rhs.status))));
+    }
+
+}
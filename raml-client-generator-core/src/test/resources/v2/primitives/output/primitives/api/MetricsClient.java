@@ -0,0 +1,78 @@
+
+package primitives.api;
+
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.client.WebTarget;
+import org.glassfish.jersey.client.ClientConfig;
+import primitives.resource.samples.Samples;
+
+public class MetricsClient
+    implements AutoCloseable
+{
+
+    private String _baseUrl;
+    private Client _client;
+    private boolean _ownsClient;
+    public final Samples samples;
+
+    /**
+     * When a client is given it is used as is and it is not closed by {@link #close()}, otherwise one is created.
+     * 
+     */
+    public MetricsClient(String baseUrl, Client client) {
+        _baseUrl = baseUrl;
+        _ownsClient = (client == null);
+        _client = (_ownsClient?getClient():client);
+        final WebTarget uriTemplate = _client.target(getBaseUri());
+        samples = new Samples(uriTemplate, _client);
+    }
+
+    public MetricsClient(String baseUrl) {
+        this(baseUrl, null);
+    }
+
+    public MetricsClient() {
+        this("http://localhost:8081/api");
+    }
+
+    public MetricsClient(Client client) {
+        this("http://localhost:8081/api", client);
+    }
+
+    protected Client getClient() {
+        return ClientBuilder.newClient(new ClientConfig().register(new MetricsObjectMapperProvider()));
+    }
+
+    protected String getBaseUri() {
+        return _baseUrl;
+    }
+
+    /**
+     * Closes the client if it was created by this instance.
+     * 
+     */
+    @Override
+    public void close() {
+        if (_ownsClient) {
+            _client.close();
+        }
+    }
+
+    public static MetricsClient create(String baseUrl) {
+        return new MetricsClient(baseUrl);
+    }
+
+    public static MetricsClient create(String baseUrl, Client client) {
+        return new MetricsClient(baseUrl, client);
+    }
+
+    public static MetricsClient create() {
+        return new MetricsClient();
+    }
+
+    public static MetricsClient create(Client client) {
+        return new MetricsClient(client);
+    }
+
+}
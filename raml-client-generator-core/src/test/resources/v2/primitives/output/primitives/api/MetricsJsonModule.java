@@ -0,0 +1,24 @@
+
+package primitives.api;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+
+/**
+ * Registers the serializers and deserializers generated for the models of the api, that read and write them without reflection.
+ * 
+ */
+public class MetricsJsonModule
+    extends SimpleModule
+{
+
+
+    public MetricsJsonModule() {
+        super("MetricsJsonModule");
+        addSerializer(primitives.model.Sample.class, new primitives.model.Sample.Serializer());
+        addDeserializer(primitives.model.Sample.class, new primitives.model.Sample.Deserializer());
+        addSerializer(primitives.resource.samples.model.Sample.class, new primitives.resource.samples.model.Sample.Serializer());
+        addDeserializer(primitives.resource.samples.model.Sample.class, new primitives.resource.samples.model.Sample.Deserializer());
+    }
+
+}
@@ -0,0 +1,77 @@
+
+package primitives.resource.samples;
+
+import java.util.List;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.Response;
+import primitives.exceptions.MetricsException;
+import primitives.resource.samples.model.SamplesGETHeader;
+import primitives.resource.samples.model.SamplesGETQueryParam;
+import primitives.responses.MetricsResponse;
+
+public class Samples {
+
+    private WebTarget _uriTemplate;
+    private Client _client;
+
+    public Samples() {
+        _uriTemplate = null;
+        _client = null;
+    }
+
+    public Samples(WebTarget uriTemplate, Client _client) {
+        _uriTemplate = uriTemplate.path("samples");
+        this._client = _client;
+    }
+
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public Samples(String baseUrl, Client _client) {
+        this(_client.target(baseUrl), _client);
+    }
+
+    protected Client getClient() {
+        return this._client;
+    }
+
+    private WebTarget getTarget() {
+        return _uriTemplate;
+    }
+
+    public MetricsResponse<List<primitives.resource.samples.model.Sample>> get(SamplesGETQueryParam queryParameters, SamplesGETHeader headers) {
+        WebTarget target = getTarget();
+        target = target.queryParam("limit", queryParameters.getLimit());
+        target = target.queryParam("from", queryParameters.getFrom());
+        if (queryParameters.getVerbose()!= null) {
+            target = target.queryParam("verbose", queryParameters.getVerbose());
+        }
+        final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE);
+        invocationBuilder.header("X-Sampled", headers.getXSampled());
+        Response response = invocationBuilder.method("GET");
+        if (response.getStatusInfo().getFamily()!= javax.ws.rs.core.Response.Status.Family.SUCCESSFUL) {
+            Response.StatusType statusInfo = response.getStatusInfo();
+            throw new MetricsException(statusInfo.getStatusCode(), statusInfo.getReasonPhrase(), response.getStringHeaders(), response);
+        }
+        MetricsResponse<List<primitives.resource.samples.model.Sample>> apiResponse = new MetricsResponse<List<primitives.resource.samples.model.Sample>>(response.readEntity((
+new javax.ws.rs.core.GenericType<java.util.List<primitives.resource.samples.model.Sample>>() {})), response.getStringHeaders(), response);
+        return apiResponse;
+    }
+
+    public MetricsResponse<Void> post(primitives.model.Sample body) {
+        WebTarget target = getTarget();
+        final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE);
+        Response response = invocationBuilder.method("POST", Entity.json(body));
+        if (response.getStatusInfo().getFamily()!= javax.ws.rs.core.Response.Status.Family.SUCCESSFUL) {
+            Response.StatusType statusInfo = response.getStatusInfo();
+            throw new MetricsException(statusInfo.getStatusCode(), statusInfo.getReasonPhrase(), response.getStringHeaders(), response);
+        }
+        MetricsResponse<Void> apiResponse = new MetricsResponse<Void>(null, response.getStringHeaders(), response);
+        return apiResponse;
+    }
+
+}
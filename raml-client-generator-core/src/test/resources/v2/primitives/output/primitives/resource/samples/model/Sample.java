@@ -0,0 +1,425 @@
+
+package primitives.resource.samples.model;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({
+    "name",
+    "value",
+    "count",
+    "valid",
+    "weight",
+    "retries",
+    "tags"
+})
+public class Sample {
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("name")
+    private String name;
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("value")
+    private double value;
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("count")
+    private long count;
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("valid")
+    private boolean valid;
+    @JsonProperty("weight")
+    private Double weight;
+    @JsonProperty("retries")
+    private Long retries;
+    @JsonProperty("tags")
+    private List<String> tags = new ArrayList<String>();
+
+    /**
+     * No args constructor for use in serialization
+     * 
+     */
+    public Sample() {
+    }
+
+    /**
+     * 
+     * @param valid
+     * @param retries
+     * @param name
+     * @param count
+     * @param weight
+     * @param value
+     * @param tags
+     */
+    public Sample(String name, double value, long count, boolean valid, Double weight, Long retries, List<String> tags) {
+        super();
+        this.name = name;
+        this.value = value;
+        this.count = count;
+        this.valid = valid;
+        this.weight = weight;
+        this.retries = retries;
+        this.tags = tags;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("name")
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("name")
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Sample withName(String name) {
+        this.name = name;
+        return this;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("value")
+    public double getValue() {
+        return value;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("value")
+    public void setValue(double value) {
+        this.value = value;
+    }
+
+    public Sample withValue(double value) {
+        this.value = value;
+        return this;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("count")
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("count")
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    public Sample withCount(long count) {
+        this.count = count;
+        return this;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("valid")
+    public boolean getValid() {
+        return valid;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("valid")
+    public void setValid(boolean valid) {
+        this.valid = valid;
+    }
+
+    public Sample withValid(boolean valid) {
+        this.valid = valid;
+        return this;
+    }
+
+    @JsonProperty("weight")
+    public Double getWeight() {
+        return weight;
+    }
+
+    @JsonProperty("weight")
+    public void setWeight(Double weight) {
+        this.weight = weight;
+    }
+
+    public Sample withWeight(Double weight) {
+        this.weight = weight;
+        return this;
+    }
+
+    @JsonProperty("retries")
+    public Long getRetries() {
+        return retries;
+    }
+
+    @JsonProperty("retries")
+    public void setRetries(Long retries) {
+        this.retries = retries;
+    }
+
+    public Sample withRetries(Long retries) {
+        this.retries = retries;
+        return this;
+    }
+
+    @JsonProperty("tags")
+    public List<String> getTags() {
+        return tags;
+    }
+
+    @JsonProperty("tags")
+    public void setTags(List<String> tags) {
+        this.tags = tags;
+    }
+
+    public Sample withTags(List<String> tags) {
+        this.tags = tags;
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(Sample.class.getName()).append('@').append(Integer.toHexString(System.identityHashCode(this))).append('[');
+        sb.append("name");
+        sb.append('=');
+        sb.append(((this.name == null)?"<null>":this.name));
+        sb.append(',');
+        sb.append("value");
+        sb.append('=');
+        sb.append(this.value);
+        sb.append(',');
+        sb.append("count");
+        sb.append('=');
+        sb.append(this.count);
+        sb.append(',');
+        sb.append("valid");
+        sb.append('=');
+        sb.append(this.valid);
+        sb.append(',');
+        sb.append("weight");
+        sb.append('=');
+        sb.append(((this.weight == null)?"<null>":this.weight));
+        sb.append(',');
+        sb.append("retries");
+        sb.append('=');
+        sb.append(((this.retries == null)?"<null>":this.retries));
+        sb.append(',');
+        sb.append("tags");
+        sb.append('=');
+        sb.append(((this.tags == null)?"<null>":this.tags));
+        sb.append(',');
+        if (sb.charAt((sb.length()- 1)) == ',') {
+            sb.setCharAt((sb.length()- 1), ']');
+        } else {
+            sb.append(']');
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        result = ((result* 31)+(this.valid? 1 : 0));
+        result = ((result* 31)+((this.retries == null)? 0 :this.retries.hashCode()));
+        result = ((result* 31)+((this.name == null)? 0 :this.name.hashCode()));
+        result = ((result* 31)+((int)(this.count^(this.count >>> 32))));
+        result = ((result* 31)+((this.weight == null)? 0 :this.weight.hashCode()));
+        result = ((result* 31)+((int)(Double.doubleToLongBits(this.value)^(Double.doubleToLongBits(this.value)>>> 32))));
+        result = ((result* 31)+((this.tags == null)? 0 :this.tags.hashCode()));
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if ((other instanceof Sample) == false) {
+            return false;
+        }
+        Sample rhs = ((Sample) other);
+        return (((((((this.valid == rhs.valid)&&((this.retries == rhs.retries)||((this.retries!= null)&&this.retries.equals(rhs.retries))))&&((this.name == rhs.name)||((this.name!= null)&&this.name.equals(rhs.name))))&&(this.count == rhs.count))&&((this.weight == rhs.weight)||((this.weight!= null)&&this.weight.equals(rhs.weight))))&&(Double.doubleToLongBits(this.value) == Double.doubleToLongBits(rhs.value)))&&((this.tags == rhs.tags)||((this.tags!= null)&&this.tags.equals(rhs.tags))));
+    }
+
+
+    /**
+     * Reads the fields of the model by the name of their properties, with the deserializers of the other types resolved once.
+     * 
+     */
+    public static class Deserializer
+        extends StdDeserializer<Sample>
+        implements ResolvableDeserializer
+    {
+
+        private final static JavaType TAGS_TYPE = TypeFactory.defaultInstance().constructType((new com.fasterxml.jackson.core.type.TypeReference<java.util.List<java.lang.String>>() {}));
+        private JsonDeserializer<Object> tagsDeserializer;
+
+        public Deserializer() {
+            super(Sample.class);
+        }
+
+        @Override
+        public boolean isCachable() {
+            return true;
+        }
+
+        @Override
+        public void resolve(DeserializationContext context)
+            throws JsonMappingException
+        {
+            this.tagsDeserializer = context.findRootValueDeserializer(TAGS_TYPE);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Sample deserialize(JsonParser parser, DeserializationContext context)
+            throws IOException
+        {
+            JsonToken token = parser.getCurrentToken();
+            if (token == JsonToken.START_OBJECT) {
+                token = parser.nextToken();
+            } else {
+                if ((token!= JsonToken.FIELD_NAME)&&(token!= JsonToken.END_OBJECT)) {
+                    return ((Sample) context.handleUnexpectedToken(Sample.class, parser));
+                }
+            }
+            final Sample value = new Sample();
+            while (token == JsonToken.FIELD_NAME) {
+                final String name = parser.getCurrentName();
+                parser.nextToken();
+                switch (name) {
+                    case "name":
+                        value.name = ((parser.getCurrentToken() == JsonToken.VALUE_NULL)?null:_parseString(parser, context));
+                        break;
+                    case "value":
+                        value.value = _parseDoublePrimitive(parser, context);
+                        break;
+                    case "count":
+                        value.count = _parseLongPrimitive(parser, context);
+                        break;
+                    case "valid":
+                        value.valid = _parseBooleanPrimitive(parser, context);
+                        break;
+                    case "weight":
+                        value.weight = ((parser.getCurrentToken() == JsonToken.VALUE_NULL)?null:_parseDouble(parser, context));
+                        break;
+                    case "retries":
+                        value.retries = ((parser.getCurrentToken() == JsonToken.VALUE_NULL)?null:_parseLong(parser, context));
+                        break;
+                    case "tags":
+                        value.tags = ((parser.getCurrentToken() == JsonToken.VALUE_NULL)?null:((List<String> ) this.tagsDeserializer.deserialize(parser, context)));
+                        break;
+                    default:
+                        handleUnknownProperty(parser, context, value, name);
+                }
+                token = parser.nextToken();
+            }
+            return value;
+        }
+
+    }
+
+
+    /**
+     * Writes the fields of the model in the order of its properties.
+     * 
+     */
+    public static class Serializer
+        extends StdSerializer<Sample>
+    {
+
+
+        public Serializer() {
+            super(Sample.class);
+        }
+
+        @Override
+        public void serialize(Sample value, JsonGenerator generator, SerializerProvider provider)
+            throws IOException
+        {
+            generator.writeStartObject();
+            if (value.name!= null) {
+                generator.writeStringField("name", value.name);
+            }
+            generator.writeNumberField("value", value.value);
+            generator.writeNumberField("count", value.count);
+            generator.writeBooleanField("valid", value.valid);
+            if (value.weight!= null) {
+                generator.writeNumberField("weight", value.weight);
+            }
+            if (value.retries!= null) {
+                generator.writeNumberField("retries", value.retries);
+            }
+            if (value.tags!= null) {
+                provider.defaultSerializeField("tags", value.tags, generator);
+            }
+            generator.writeEndObject();
+        }
+
+    }
+
+}
@@ -0,0 +1,21 @@
+
+package primitives.resource.samples.model;
+
+
+public class SamplesGETHeader {
+
+    private boolean _xSampled;
+
+    public SamplesGETHeader(boolean xSampled) {
+        _xSampled = xSampled;
+    }
+
+    public void setXSampled(boolean xSampled) {
+        _xSampled = xSampled;
+    }
+
+    public boolean getXSampled() {
+        return _xSampled;
+    }
+
+}
@@ -0,0 +1,45 @@
+
+package primitives.resource.samples.model;
+
+
+public class SamplesGETQueryParam {
+
+    private int _limit = 100;
+    private double _from;
+    private Boolean _verbose;
+
+    public SamplesGETQueryParam(int limit, double from) {
+        _limit = limit;
+        _from = from;
+    }
+
+    public void setLimit(int limit) {
+        _limit = limit;
+    }
+
+    public int getLimit() {
+        return _limit;
+    }
+
+    public void setFrom(double from) {
+        _from = from;
+    }
+
+    public double getFrom() {
+        return _from;
+    }
+
+    public SamplesGETQueryParam withVerbose(Boolean verbose) {
+        _verbose = verbose;
+        return this;
+    }
+
+    public void setVerbose(Boolean verbose) {
+        _verbose = verbose;
+    }
+
+    public Boolean getVerbose() {
+        return _verbose;
+    }
+
+}
@@ -3,22 +3,42 @@ package recursive_type.api;
 
 import javax.ws.rs.client.Client;
 import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.client.WebTarget;
 import recursive_type.resource.bar.Bar;
 
-public class LocationsClient {
+public class LocationsClient
+    implements AutoCloseable
+{
 
     private String _baseUrl;
+    private Client _client;
+    private boolean _ownsClient;
     public final Bar bar;
 
-    public LocationsClient(String baseUrl) {
+    /**
+     * When a client is given it is used as is and it is not closed by {@link #close()}, otherwise one is created.
+     * 
+     */
+    public LocationsClient(String baseUrl, Client client) {
         _baseUrl = baseUrl;
-        bar = new Bar(getBaseUri(), getClient());
+        _ownsClient = (client == null);
+        _client = (_ownsClient?getClient():client);
+        final WebTarget uriTemplate = _client.target(getBaseUri());
+        bar = new Bar(uriTemplate, _client);
+    }
+
+    public LocationsClient(String baseUrl) {
+        this(baseUrl, null);
     }
 
     public LocationsClient() {
         this("/bar/locations");
     }
 
+    public LocationsClient(Client client) {
+        this("/bar/locations", client);
+    }
+
     protected Client getClient() {
         return ClientBuilder.newClient();
     }
@@ -27,12 +47,31 @@ public class LocationsClient {
         return _baseUrl;
     }
 
+    /**
+     * Closes the client if it was created by this instance.
+     * 
+     */
+    @Override
+    public void close() {
+        if (_ownsClient) {
+            _client.close();
+        }
+    }
+
     public static LocationsClient create(String baseUrl) {
         return new LocationsClient(baseUrl);
     }
 
+    public static LocationsClient create(String baseUrl, Client client) {
+        return new LocationsClient(baseUrl, client);
+    }
+
     public static LocationsClient create() {
         return new LocationsClient();
     }
 
+    public static LocationsClient create(Client client) {
+        return new LocationsClient(client);
+    }
+
 }
@@ -1,30 +1,50 @@
 
 package securedby_with_uses.api;
 
+import javax.ws.rs.client.WebTarget;
 import org.glassfish.jersey.media.multipart.MultiPartFeature;
 import securedby_with_uses.resource.files.Files;
 import securedby_with_uses.resource.users.Users;
 
-public class BuyosExperienceLayerClient {
+public class BuyosExperienceLayerClient
+    implements AutoCloseable
+{
 
     private static java.lang.String username;
     private static java.lang.String password;
     private java.lang.String _baseUrl;
+    private javax.ws.rs.client.Client _client;
+    private boolean _ownsClient;
     public final Users users;
     public final Files files;
 
-    public BuyosExperienceLayerClient(java.lang.String baseUrl, java.lang.String username, java.lang.String password) {
+    /**
+     * When a client is given it is used as is and it is not closed by {@link #close()}, otherwise one is created.
+     * 
+     */
+    public BuyosExperienceLayerClient(java.lang.String baseUrl, java.lang.String username, java.lang.String password, javax.ws.rs.client.Client client) {
         this.username = username;
         this.password = password;
         _baseUrl = baseUrl;
-        users = new Users(getBaseUri(), getClient());
-        files = new Files(getBaseUri(), getClientWithMultipart());
+        _ownsClient = (client == null);
+        _client = (_ownsClient?getClientWithMultipart():client);
+        final WebTarget uriTemplate = (_ownsClient?_client.target(getBaseUri()):_client.target(getBaseUri()).register(org.glassfish.jersey.client.authentication.HttpAuthenticationFeature.basic(username, password)));
+        users = new Users(uriTemplate, _client);
+        files = new Files(uriTemplate, _client);
+    }
+
+    public BuyosExperienceLayerClient(java.lang.String baseUrl, java.lang.String username, java.lang.String password) {
+        this(baseUrl, username, password, null);
     }
 
     public BuyosExperienceLayerClient(java.lang.String username, java.lang.String password) {
         this("http://localhost:24045/api", username, password);
     }
 
+    public BuyosExperienceLayerClient(java.lang.String username, java.lang.String password, javax.ws.rs.client.Client client) {
+        this("http://localhost:24045/api", username, password, client);
+    }
+
     protected javax.ws.rs.client.Client getClient() {
         final javax.ws.rs.client.Client _client = javax.ws.rs.client.ClientBuilder.newClient();
         _client.register(org.glassfish.jersey.client.authentication.HttpAuthenticationFeature.basic(username, password));
@@ -42,12 +62,31 @@ public class BuyosExperienceLayerClient {
         return _baseUrl;
     }
 
+    /**
+     * Closes the client if it was created by this instance.
+     * 
+     */
+    @Override
+    public void close() {
+        if (_ownsClient) {
+            _client.close();
+        }
+    }
+
     public static BuyosExperienceLayerClient create(java.lang.String baseUrl, java.lang.String username, java.lang.String password) {
         return new BuyosExperienceLayerClient(baseUrl, username, password);
     }
 
+    public static BuyosExperienceLayerClient create(java.lang.String baseUrl, java.lang.String username, java.lang.String password, javax.ws.rs.client.Client client) {
+        return new BuyosExperienceLayerClient(baseUrl, username, password, client);
+    }
+
     public static BuyosExperienceLayerClient create(java.lang.String username, java.lang.String password) {
         return new BuyosExperienceLayerClient(username, password);
     }
 
+    public static BuyosExperienceLayerClient create(java.lang.String username, java.lang.String password, javax.ws.rs.client.Client client) {
+        return new BuyosExperienceLayerClient(username, password, client);
+    }
+
 }
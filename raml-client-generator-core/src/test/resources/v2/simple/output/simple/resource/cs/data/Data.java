@@ -2,32 +2,42 @@
 package simple.resource.cs.data;
 
 import javax.ws.rs.client.Client;
+import javax.ws.rs.client.WebTarget;
 import simple.resource.cs.data.foo.Foo;
 
 public class Data {
 
-    private String _baseUrl;
+    private WebTarget _uriTemplate;
     private Client _client;
     public final Foo foo;
 
     public Data() {
-        _baseUrl = null;
+        _uriTemplate = null;
         _client = null;
         foo = null;
     }
 
-    public Data(String baseUrl, Client _client) {
-        _baseUrl = (baseUrl +"/data");
+    public Data(WebTarget uriTemplate, Client _client) {
+        _uriTemplate = uriTemplate.path("data");
         this._client = _client;
-        foo = new Foo(getBaseUri(), getClient());
+        foo = new Foo(_uriTemplate, getClient());
+    }
+
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public Data(String baseUrl, Client _client) {
+        this(_client.target(baseUrl), _client);
     }
 
     protected Client getClient() {
         return this._client;
     }
 
-    private String getBaseUri() {
-        return _baseUrl;
+    private WebTarget getTarget() {
+        return _uriTemplate;
     }
 
 }
@@ -13,29 +13,38 @@ import simple.responses.FooResponse;
 
 public class Foo {
 
-    private String _baseUrl;
+    private WebTarget _uriTemplate;
     private Client _client;
 
     public Foo() {
-        _baseUrl = null;
+        _uriTemplate = null;
         _client = null;
     }
 
-    public Foo(String baseUrl, Client _client) {
-        _baseUrl = (baseUrl +"/foo");
+    public Foo(WebTarget uriTemplate, Client _client) {
+        _uriTemplate = uriTemplate.path("foo");
         this._client = _client;
     }
 
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public Foo(String baseUrl, Client _client) {
+        this(_client.target(baseUrl), _client);
+    }
+
     protected Client getClient() {
         return this._client;
     }
 
-    private String getBaseUri() {
-        return _baseUrl;
+    private WebTarget getTarget() {
+        return _uriTemplate;
     }
 
     public FooResponse<Void> get(FooGETQueryParam queryParameters, FooGETHeader headers) {
-        WebTarget target = this._client.target(getBaseUri());
+        WebTarget target = getTarget();
         if (queryParameters.getQ()!= null) {
             target = target.queryParam("q", queryParameters.getQ());
         }
@@ -1,7 +1,8 @@
 
 package simple.resource.cs.id;
 
-import java.net.URLEncoder;
+import java.util.Collections;
+import java.util.Map;
 import javax.ws.rs.client.Client;
 import javax.ws.rs.client.WebTarget;
 import javax.ws.rs.core.MediaType;
@@ -13,32 +14,50 @@ import simple.responses.FooResponse;
 
 public class Id {
 
-    private String _baseUrl;
+    private WebTarget _uriTemplate;
     private Client _client;
+    private Map<String, Object> _uriParams;
     public final Bar bar;
 
     public Id() {
-        _baseUrl = null;
+        _uriTemplate = null;
         _client = null;
+        _uriParams = null;
         bar = null;
     }
 
-    public Id(String baseUrl, Client _client, String uriParam) {
-        _baseUrl = (baseUrl +("/"+ URLEncoder.encode(uriParam)));
+    public Id(WebTarget uriTemplate, Client _client) {
+        _uriTemplate = uriTemplate.path("{id}");
         this._client = _client;
-        bar = new Bar(getBaseUri(), getClient());
+        bar = new Bar(_uriTemplate, getClient());
+    }
+
+    public Id(Id template, Map<String, Object> uriParams) {
+        _uriTemplate = template._uriTemplate;
+        _client = template._client;
+        _uriParams = uriParams;
+        bar = new Bar(template.bar, _uriParams);
+    }
+
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public Id(String baseUrl, Client _client, String uriParam) {
+        this(new Id(_client.target(baseUrl), _client), Collections.singletonMap("id", ((Object) uriParam)));
     }
 
     protected Client getClient() {
         return this._client;
     }
 
-    private String getBaseUri() {
-        return _baseUrl;
+    private WebTarget getTarget() {
+        return _uriTemplate.resolveTemplates(_uriParams);
     }
 
     public FooResponse<Void> get() {
-        WebTarget target = this._client.target(getBaseUri());
+        WebTarget target = getTarget();
         final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(MediaType.APPLICATION_JSON_TYPE);
         Response response = invocationBuilder.method("GET");
         if (response.getStatusInfo().getFamily()!= Family.SUCCESSFUL) {
@@ -0,0 +1,134 @@
+
+package streaming_methods.resource.events;
+
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.Response;
+import org.glassfish.jersey.client.ClientProperties;
+import org.glassfish.jersey.client.RequestEntityProcessing;
+import streaming_methods.api.EventsJsonArrayInputStream;
+import streaming_methods.api.EventsJsonArrayIterator;
+import streaming_methods.exceptions.EventsException;
+import streaming_methods.resource.events.eventId.EventId;
+import streaming_methods.resource.events.model.Event;
+import streaming_methods.resource.events.model.Event__1;
+import streaming_methods.resource.events.model.EventsGETQueryParam;
+import streaming_methods.resource.events.search.Search;
+import streaming_methods.responses.EventsResponse;
+
+public class Events {
+
+    private WebTarget _uriTemplate;
+    private Client _client;
+    private final EventId _eventId;
+    public final Search search;
+
+    public Events() {
+        _uriTemplate = null;
+        _client = null;
+        _eventId = null;
+        search = null;
+    }
+
+    public Events(WebTarget uriTemplate, Client _client) {
+        _uriTemplate = uriTemplate.path("events");
+        this._client = _client;
+        _eventId = new EventId(_uriTemplate, getClient());
+        search = new Search(_uriTemplate, getClient());
+    }
+
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public Events(String baseUrl, Client _client) {
+        this(_client.target(baseUrl), _client);
+    }
+
+    protected Client getClient() {
+        return this._client;
+    }
+
+    private WebTarget getTarget() {
+        return _uriTemplate;
+    }
+
+    public EventsResponse<List<Event>> get(EventsGETQueryParam queryParameters) {
+        WebTarget target = getTarget();
+        if (queryParameters.getKind()!= null) {
+            target = target.queryParam("kind", queryParameters.getKind());
+        }
+        final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE);
+        Response response = invocationBuilder.method("GET");
+        if (response.getStatusInfo().getFamily()!= javax.ws.rs.core.Response.Status.Family.SUCCESSFUL) {
+            Response.StatusType statusInfo = response.getStatusInfo();
+            throw new EventsException(statusInfo.getStatusCode(), statusInfo.getReasonPhrase(), response.getStringHeaders(), response);
+        }
+        EventsResponse<List<Event>> apiResponse = new EventsResponse<List<Event>>(response.readEntity((
+new javax.ws.rs.core.GenericType<java.util.List<streaming_methods.resource.events.model.Event>>() {})), response.getStringHeaders(), response);
+        return apiResponse;
+    }
+
+    /**
+     * The elements are read while the stream is consumed, close it to release the connection before reading all of them.
+     * 
+     */
+    public EventsResponse<Stream<Event>> getStream(EventsGETQueryParam queryParameters) {
+        WebTarget target = getTarget();
+        if (queryParameters.getKind()!= null) {
+            target = target.queryParam("kind", queryParameters.getKind());
+        }
+        final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE);
+        Response response = invocationBuilder.method("GET");
+        if (response.getStatusInfo().getFamily()!= javax.ws.rs.core.Response.Status.Family.SUCCESSFUL) {
+            Response.StatusType statusInfo = response.getStatusInfo();
+            throw new EventsException(statusInfo.getStatusCode(), statusInfo.getReasonPhrase(), response.getStringHeaders(), response);
+        }
+        EventsResponse<Stream<Event>> apiResponse = new EventsResponse<Stream<Event>>(EventsJsonArrayIterator.stream(response.readEntity(InputStream.class), EventsJsonArrayIterator.getMapper(target.getConfiguration()), Event.class), response.getStringHeaders(), response);
+        return apiResponse;
+    }
+
+    /**
+     * Records the events in bulk
+     * 
+     */
+    public EventsResponse<Void> post(List<Event__1> body) {
+        WebTarget target = getTarget();
+        final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE);
+        Response response = invocationBuilder.method("POST", javax.ws.rs.client.Entity.json(body));
+        if (response.getStatusInfo().getFamily()!= javax.ws.rs.core.Response.Status.Family.SUCCESSFUL) {
+            Response.StatusType statusInfo = response.getStatusInfo();
+            throw new EventsException(statusInfo.getStatusCode(), statusInfo.getReasonPhrase(), response.getStringHeaders(), response);
+        }
+        EventsResponse<Void> apiResponse = new EventsResponse<Void>(null, response.getStringHeaders(), response);
+        return apiResponse;
+    }
+
+    /**
+     * Records the events in bulk
+     * The elements are written while the body is sent in chunks, so they are never all held in memory.
+     * 
+     */
+    public EventsResponse<Void> post(Stream<Event__1> body) {
+        WebTarget target = getTarget();
+        final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE);
+        invocationBuilder.property(ClientProperties.REQUEST_ENTITY_PROCESSING, RequestEntityProcessing.CHUNKED);
+        Response response = invocationBuilder.method("POST", javax.ws.rs.client.Entity.entity(new EventsJsonArrayInputStream<Event__1>(body.iterator(), EventsJsonArrayIterator.getMapper(target.getConfiguration())), javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE));
+        if (response.getStatusInfo().getFamily()!= javax.ws.rs.core.Response.Status.Family.SUCCESSFUL) {
+            Response.StatusType statusInfo = response.getStatusInfo();
+            throw new EventsException(statusInfo.getStatusCode(), statusInfo.getReasonPhrase(), response.getStringHeaders(), response);
+        }
+        EventsResponse<Void> apiResponse = new EventsResponse<Void>(null, response.getStringHeaders(), response);
+        return apiResponse;
+    }
+
+    public EventId eventId(String eventId) {
+        return new EventId(_eventId, Collections.singletonMap("eventId", ((Object) eventId)));
+    }
+
+}
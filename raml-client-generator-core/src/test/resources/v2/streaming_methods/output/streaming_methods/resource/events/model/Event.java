@@ -0,0 +1,163 @@
+
+package streaming_methods.resource.events.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({
+    "id",
+    "kind",
+    "payload"
+})
+public class Event {
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("id")
+    private String id;
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("kind")
+    private String kind;
+    @JsonProperty("payload")
+    private String payload;
+
+    /**
+     * No args constructor for use in serialization
+     * 
+     */
+    public Event() {
+    }
+
+    /**
+     * 
+     * @param payload
+     * @param kind
+     * @param id
+     */
+    public Event(String id, String kind, String payload) {
+        super();
+        this.id = id;
+        this.kind = kind;
+        this.payload = payload;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("id")
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("id")
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public Event withId(String id) {
+        this.id = id;
+        return this;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("kind")
+    public String getKind() {
+        return kind;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("kind")
+    public void setKind(String kind) {
+        this.kind = kind;
+    }
+
+    public Event withKind(String kind) {
+        this.kind = kind;
+        return this;
+    }
+
+    @JsonProperty("payload")
+    public String getPayload() {
+        return payload;
+    }
+
+    @JsonProperty("payload")
+    public void setPayload(String payload) {
+        this.payload = payload;
+    }
+
+    public Event withPayload(String payload) {
+        this.payload = payload;
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(Event.class.getName()).append('@').append(Integer.toHexString(System.identityHashCode(this))).append('[');
+        sb.append("id");
+        sb.append('=');
+        sb.append(((this.id == null)?"<null>":this.id));
+        sb.append(',');
+        sb.append("kind");
+        sb.append('=');
+        sb.append(((this.kind == null)?"<null>":this.kind));
+        sb.append(',');
+        sb.append("payload");
+        sb.append('=');
+        sb.append(((this.payload == null)?"<null>":this.payload));
+        sb.append(',');
+        if (sb.charAt((sb.length()- 1)) == ',') {
+            sb.setCharAt((sb.length()- 1), ']');
+        } else {
+            sb.append(']');
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        result = ((result* 31)+((this.id == null)? 0 :this.id.hashCode()));
+        result = ((result* 31)+((this.payload == null)? 0 :this.payload.hashCode()));
+        result = ((result* 31)+((this.kind == null)? 0 :this.kind.hashCode()));
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if ((other instanceof Event) == false) {
+            return false;
+        }
+        Event rhs = ((Event) other);
+        return ((((this.id == rhs.id)||((this.id!= null)&&this.id.equals(rhs.id)))&&((this.payload == rhs.payload)||((this.payload!= null)&&this.payload.equals(rhs.payload))))&&((this.kind == rhs.kind)||((this.kind!= null)&&this.kind.equals(rhs.kind))));
+    }
+
+}
@@ -0,0 +1,25 @@
+
+package streaming_methods.resource.events.model;
+
+
+public class EventsGETQueryParam {
+
+    private String _kind;
+
+    public EventsGETQueryParam() {
+    }
+
+    public EventsGETQueryParam withKind(String kind) {
+        _kind = kind;
+        return this;
+    }
+
+    public void setKind(String kind) {
+        _kind = kind;
+    }
+
+    public String getKind() {
+        return _kind;
+    }
+
+}
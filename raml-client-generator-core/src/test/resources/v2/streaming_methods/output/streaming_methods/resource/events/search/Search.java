@@ -0,0 +1,77 @@
+
+package streaming_methods.resource.events.search;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.stream.Stream;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.Response;
+import streaming_methods.api.EventsJsonArrayIterator;
+import streaming_methods.exceptions.EventsException;
+import streaming_methods.resource.events.search.model.Event;
+import streaming_methods.resource.events.search.model.SearchPOSTBody;
+import streaming_methods.responses.EventsResponse;
+
+public class Search {
+
+    private WebTarget _uriTemplate;
+    private Client _client;
+
+    public Search() {
+        _uriTemplate = null;
+        _client = null;
+    }
+
+    public Search(WebTarget uriTemplate, Client _client) {
+        _uriTemplate = uriTemplate.path("search");
+        this._client = _client;
+    }
+
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public Search(String baseUrl, Client _client) {
+        this(_client.target(baseUrl), _client);
+    }
+
+    protected Client getClient() {
+        return this._client;
+    }
+
+    private WebTarget getTarget() {
+        return _uriTemplate;
+    }
+
+    public EventsResponse<List<Event>> post(SearchPOSTBody body) {
+        WebTarget target = getTarget();
+        final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE);
+        Response response = invocationBuilder.method("POST", javax.ws.rs.client.Entity.json(body));
+        if (response.getStatusInfo().getFamily()!= javax.ws.rs.core.Response.Status.Family.SUCCESSFUL) {
+            Response.StatusType statusInfo = response.getStatusInfo();
+            throw new EventsException(statusInfo.getStatusCode(), statusInfo.getReasonPhrase(), response.getStringHeaders(), response);
+        }
+        EventsResponse<List<Event>> apiResponse = new EventsResponse<List<Event>>(response.readEntity((
+new javax.ws.rs.core.GenericType<java.util.List<streaming_methods.resource.events.search.model.Event>>() {})), response.getStringHeaders(), response);
+        return apiResponse;
+    }
+
+    /**
+     * The elements are read while the stream is consumed, close it to release the connection before reading all of them.
+     * 
+     */
+    public EventsResponse<Stream<Event>> postStream(SearchPOSTBody body) {
+        WebTarget target = getTarget();
+        final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE);
+        Response response = invocationBuilder.method("POST", javax.ws.rs.client.Entity.json(body));
+        if (response.getStatusInfo().getFamily()!= javax.ws.rs.core.Response.Status.Family.SUCCESSFUL) {
+            Response.StatusType statusInfo = response.getStatusInfo();
+            throw new EventsException(statusInfo.getStatusCode(), statusInfo.getReasonPhrase(), response.getStringHeaders(), response);
+        }
+        EventsResponse<Stream<Event>> apiResponse = new EventsResponse<Stream<Event>>(EventsJsonArrayIterator.stream(response.readEntity(InputStream.class), EventsJsonArrayIterator.getMapper(target.getConfiguration()), Event.class), response.getStringHeaders(), response);
+        return apiResponse;
+    }
+
+}
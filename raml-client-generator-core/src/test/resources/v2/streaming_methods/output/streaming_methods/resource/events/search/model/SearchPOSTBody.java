@@ -0,0 +1,98 @@
+
+package streaming_methods.resource.events.search.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({
+    "kind"
+})
+public class SearchPOSTBody {
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("kind")
+    private String kind;
+
+    /**
+     * No args constructor for use in serialization
+     * 
+     */
+    public SearchPOSTBody() {
+    }
+
+    /**
+     * 
+     * @param kind
+     */
+    public SearchPOSTBody(String kind) {
+        super();
+        this.kind = kind;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("kind")
+    public String getKind() {
+        return kind;
+    }
+
+    /**
+     * 
+     * (Required)
+     * 
+     */
+    @JsonProperty("kind")
+    public void setKind(String kind) {
+        this.kind = kind;
+    }
+
+    public SearchPOSTBody withKind(String kind) {
+        this.kind = kind;
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(SearchPOSTBody.class.getName()).append('@').append(Integer.toHexString(System.identityHashCode(this))).append('[');
+        sb.append("kind");
+        sb.append('=');
+        sb.append(((this.kind == null)?"<null>":this.kind));
+        sb.append(',');
+        if (sb.charAt((sb.length()- 1)) == ',') {
+            sb.setCharAt((sb.length()- 1), ']');
+        } else {
+            sb.append(']');
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        result = ((result* 31)+((this.kind == null)? 0 :this.kind.hashCode()));
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if ((other instanceof SearchPOSTBody) == false) {
+            return false;
+        }
+        SearchPOSTBody rhs = ((SearchPOSTBody) other);
+        return ((this.kind == rhs.kind)||((this.kind!= null)&&this.kind.equals(rhs.kind)));
+    }
+
+}
@@ -0,0 +1,125 @@
+
+package streaming_methods.resource.tags;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.stream.Stream;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.Response;
+import org.glassfish.jersey.client.ClientProperties;
+import org.glassfish.jersey.client.RequestEntityProcessing;
+import streaming_methods.api.EventsJsonArrayInputStream;
+import streaming_methods.api.EventsJsonArrayIterator;
+import streaming_methods.exceptions.EventsException;
+import streaming_methods.responses.EventsResponse;
+
+public class Tags {
+
+    private WebTarget _uriTemplate;
+    private Client _client;
+
+    public Tags() {
+        _uriTemplate = null;
+        _client = null;
+    }
+
+    public Tags(WebTarget uriTemplate, Client _client) {
+        _uriTemplate = uriTemplate.path("tags");
+        this._client = _client;
+    }
+
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public Tags(String baseUrl, Client _client) {
+        this(_client.target(baseUrl), _client);
+    }
+
+    protected Client getClient() {
+        return this._client;
+    }
+
+    private WebTarget getTarget() {
+        return _uriTemplate;
+    }
+
+    public EventsResponse<List<String>> get() {
+        WebTarget target = getTarget();
+        final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE);
+        Response response = invocationBuilder.method("GET");
+        if (response.getStatusInfo().getFamily()!= javax.ws.rs.core.Response.Status.Family.SUCCESSFUL) {
+            Response.StatusType statusInfo = response.getStatusInfo();
+            throw new EventsException(statusInfo.getStatusCode(), statusInfo.getReasonPhrase(), response.getStringHeaders(), response);
+        }
+        EventsResponse<List<String>> apiResponse = new EventsResponse<List<String>>(response.readEntity((
+new javax.ws.rs.core.GenericType<java.util.List<java.lang.String>>() {})), response.getStringHeaders(), response);
+        return apiResponse;
+    }
+
+    /**
+     * The elements are read while the stream is consumed, close it to release the connection before reading all of them.
+     * 
+     */
+    public EventsResponse<Stream<String>> getStream() {
+        WebTarget target = getTarget();
+        final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE);
+        Response response = invocationBuilder.method("GET");
+        if (response.getStatusInfo().getFamily()!= javax.ws.rs.core.Response.Status.Family.SUCCESSFUL) {
+            Response.StatusType statusInfo = response.getStatusInfo();
+            throw new EventsException(statusInfo.getStatusCode(), statusInfo.getReasonPhrase(), response.getStringHeaders(), response);
+        }
+        EventsResponse<Stream<String>> apiResponse = new EventsResponse<Stream<String>>(EventsJsonArrayIterator.stream(response.readEntity(InputStream.class), EventsJsonArrayIterator.getMapper(target.getConfiguration()), String.class), response.getStringHeaders(), response);
+        return apiResponse;
+    }
+
+    public EventsResponse<List<String>> put(List<String> body) {
+        WebTarget target = getTarget();
+        final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE);
+        Response response = invocationBuilder.method("PUT", javax.ws.rs.client.Entity.json(body));
+        if (response.getStatusInfo().getFamily()!= javax.ws.rs.core.Response.Status.Family.SUCCESSFUL) {
+            Response.StatusType statusInfo = response.getStatusInfo();
+            throw new EventsException(statusInfo.getStatusCode(), statusInfo.getReasonPhrase(), response.getStringHeaders(), response);
+        }
+        EventsResponse<List<String>> apiResponse = new EventsResponse<List<String>>(response.readEntity((
+new javax.ws.rs.core.GenericType<java.util.List<java.lang.String>>() {})), response.getStringHeaders(), response);
+        return apiResponse;
+    }
+
+    /**
+     * The elements are read while the stream is consumed, close it to release the connection before reading all of them.
+     * 
+     */
+    public EventsResponse<Stream<String>> putStream(List<String> body) {
+        WebTarget target = getTarget();
+        final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE);
+        Response response = invocationBuilder.method("PUT", javax.ws.rs.client.Entity.json(body));
+        if (response.getStatusInfo().getFamily()!= javax.ws.rs.core.Response.Status.Family.SUCCESSFUL) {
+            Response.StatusType statusInfo = response.getStatusInfo();
+            throw new EventsException(statusInfo.getStatusCode(), statusInfo.getReasonPhrase(), response.getStringHeaders(), response);
+        }
+        EventsResponse<Stream<String>> apiResponse = new EventsResponse<Stream<String>>(EventsJsonArrayIterator.stream(response.readEntity(InputStream.class), EventsJsonArrayIterator.getMapper(target.getConfiguration()), String.class), response.getStringHeaders(), response);
+        return apiResponse;
+    }
+
+    /**
+     * The elements are written while the body is sent in chunks, so they are never all held in memory.
+     * 
+     */
+    public EventsResponse<List<String>> put(Stream<String> body) {
+        WebTarget target = getTarget();
+        final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE);
+        invocationBuilder.property(ClientProperties.REQUEST_ENTITY_PROCESSING, RequestEntityProcessing.CHUNKED);
+        Response response = invocationBuilder.method("PUT", javax.ws.rs.client.Entity.entity(new EventsJsonArrayInputStream<String>(body.iterator(), EventsJsonArrayIterator.getMapper(target.getConfiguration())), javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE));
+        if (response.getStatusInfo().getFamily()!= javax.ws.rs.core.Response.Status.Family.SUCCESSFUL) {
+            Response.StatusType statusInfo = response.getStatusInfo();
+            throw new EventsException(statusInfo.getStatusCode(), statusInfo.getReasonPhrase(), response.getStringHeaders(), response);
+        }
+        EventsResponse<List<String>> apiResponse = new EventsResponse<List<String>>(response.readEntity((
+new javax.ws.rs.core.GenericType<java.util.List<java.lang.String>>() {})), response.getStringHeaders(), response);
+        return apiResponse;
+    }
+
+}
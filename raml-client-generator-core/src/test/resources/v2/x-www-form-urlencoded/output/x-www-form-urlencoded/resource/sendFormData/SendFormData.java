@@ -14,29 +14,38 @@ import x-www-form-urlencoded.responses.TestsendformdataResponse;
 
 public class SendFormData {
 
-    private String _baseUrl;
+    private WebTarget _uriTemplate;
     private Client _client;
 
     public SendFormData() {
-        _baseUrl = null;
+        _uriTemplate = null;
         _client = null;
     }
 
-    public SendFormData(String baseUrl, Client _client) {
-        _baseUrl = (baseUrl +"/sendFormData");
+    public SendFormData(WebTarget uriTemplate, Client _client) {
+        _uriTemplate = uriTemplate.path("sendFormData");
         this._client = _client;
     }
 
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public SendFormData(String baseUrl, Client _client) {
+        this(_client.target(baseUrl), _client);
+    }
+
     protected Client getClient() {
         return this._client;
     }
 
-    private String getBaseUri() {
-        return _baseUrl;
+    private WebTarget getTarget() {
+        return _uriTemplate;
     }
 
     public TestsendformdataResponse<Void> post(SendFormDataPOSTBody body) {
-        WebTarget target = this._client.target(getBaseUri());
+        WebTarget target = getTarget();
         final javax.ws.rs.client.Invocation.Builder invocationBuilder = target.request(javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE);
         MultivaluedMap multiValuedMap = new MultivaluedHashMap();
         if (body.getParam1()!= null) {
@@ -3,11 +3,16 @@ package xml_mimetype.api;
 
 import javax.ws.rs.client.Client;
 import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.client.WebTarget;
 import xml_mimetype.resource.myapi.Myapi;
 
-public class TClient {
+public class TClient
+    implements AutoCloseable
+{
 
     private String _baseUrl;
+    private Client _client;
+    private boolean _ownsClient;
     /**
      * Some description
      * 
@@ -19,9 +24,20 @@ public class TClient {
         myapi = null;
     }
 
-    public TClient(String baseUrl) {
+    /**
+     * When a client is given it is used as is and it is not closed by {@link #close()}, otherwise one is created.
+     * 
+     */
+    public TClient(String baseUrl, Client client) {
         _baseUrl = baseUrl;
-        myapi = new Myapi(getBaseUri(), getClient());
+        _ownsClient = (client == null);
+        _client = (_ownsClient?getClient():client);
+        final WebTarget uriTemplate = _client.target(getBaseUri());
+        myapi = new Myapi(uriTemplate, _client);
+    }
+
+    public TClient(String baseUrl) {
+        this(baseUrl, null);
     }
 
     protected Client getClient() {
@@ -32,8 +48,23 @@ public class TClient {
         return _baseUrl;
     }
 
+    /**
+     * Closes the client if it was created by this instance.
+     * 
+     */
+    @Override
+    public void close() {
+        if (_ownsClient) {
+            _client.close();
+        }
+    }
+
     public static TClient create(String baseUrl) {
         return new TClient(baseUrl);
     }
 
+    public static TClient create(String baseUrl, Client client) {
+        return new TClient(baseUrl, client);
+    }
+
 }
@@ -18,25 +18,34 @@ import xml_mimetype.responses.TResponse;
  */
 public class Myapi {
 
-    private String _baseUrl;
+    private WebTarget _uriTemplate;
     private Client _client;
 
     public Myapi() {
-        _baseUrl = null;
+        _uriTemplate = null;
         _client = null;
     }
 
-    public Myapi(String baseUrl, Client _client) {
-        _baseUrl = (baseUrl +"/myapi");
+    public Myapi(WebTarget uriTemplate, Client _client) {
+        _uriTemplate = uriTemplate.path("myapi");
         this._client = _client;
     }
 
+    /**
+     * @deprecated builds the uri template of the resource on every call, reach the resource through the client instead.
+     * 
+     */
+    @Deprecated
+    public Myapi(String baseUrl, Client _client) {
+        this(_client.target(baseUrl), _client);
+    }
+
     protected Client getClient() {
         return this._client;
     }
 
-    private String getBaseUri() {
-        return _baseUrl;
+    private WebTarget getTarget() {
+        return _uriTemplate;
     }
 
     /**
@@ -44,7 +53,7 @@ public class Myapi {
      * 
      */
     public TResponse<Object> put(Object body, MyapiPUTQueryParam queryParameters) {
-        WebTarget target = this._client.target(getBaseUri());
+        WebTarget target = getTarget();
         if (queryParameters.getSomeName()!= null) {
             target = target.queryParam("someName", queryParameters.getSomeName());
         }
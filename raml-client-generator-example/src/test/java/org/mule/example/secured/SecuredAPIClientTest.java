@@ -0,0 +1,61 @@
+package org.mule.example.secured;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.client.ClientRequestContext;
+import javax.ws.rs.client.ClientRequestFilter;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mule.example.secured.api.SecuredAPIClient;
+
+public class SecuredAPIClientTest {
+
+    private final List<Object> authorizations = new ArrayList<>();
+    private Client client;
+
+    @Before
+    public void setUp() {
+        // Answers the requests before they are sent, once the authentication filters ran
+        client = ClientBuilder.newClient().register(new ClientRequestFilter() {
+            @Override
+            public void filter(ClientRequestContext requestContext) {
+                authorizations.add(requestContext.getHeaders().getFirst(HttpHeaders.AUTHORIZATION));
+                requestContext.abortWith(Response.noContent().build());
+            }
+        });
+    }
+
+    @After
+    public void tearDown() {
+        client.close();
+    }
+
+    @Test
+    public void givenClientSendsTheCredentials() {
+        SecuredAPIClient.create("http://localhost/api", "alice", "secret", client).users.delete();
+
+        // alice:secret
+        assertEquals("Basic YWxpY2U6c2VjcmV0", authorizations.get(0));
+    }
+
+    @Test
+    public void givenClientKeepsTheCredentialsOfEachApiClient() {
+        final SecuredAPIClient alice = SecuredAPIClient.create("http://localhost/api", "alice", "secret", client);
+        final SecuredAPIClient bob = SecuredAPIClient.create("http://localhost/api", "bob", "secret", client);
+        bob.users.delete();
+        alice.users.delete();
+
+        // bob:secret
+        assertEquals("Basic Ym9iOnNlY3JldA==", authorizations.get(0));
+        assertEquals("Basic YWxpY2U6c2VjcmV0", authorizations.get(1));
+    }
+}
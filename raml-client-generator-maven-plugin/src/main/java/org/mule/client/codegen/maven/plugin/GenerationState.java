@@ -0,0 +1,103 @@
+package org.mule.client.codegen.maven.plugin;
+
+import org.apache.commons.io.IOUtils;
+import org.mule.client.codegen.utils.DigestHelper;
+import org.raml.v2.api.loader.DefaultResourceLoader;
+import org.raml.v2.api.loader.ResourceLoader;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * What a client was last generated from: the hash of the RAML, of every resource the parser fetched while reading it or the
+ * generator resolved its schemas from, and of the generator settings. Stored next to the build output so unchanged RAMLs can be
+ * skipped on the next build.
+ */
+class GenerationState {
+
+    private static final String SETTINGS_KEY = "settings";
+    private static final String RESOURCE_PREFIX = "resource.";
+
+    private final String settings;
+    private final Map<String, String> resources;
+
+    GenerationState(String settings, Map<String, String> resources) {
+        this.settings = settings;
+        this.resources = resources;
+    }
+
+    /**
+     * Builds the state of a generation run from the root RAML and the resources recorded while parsing it.
+     */
+    static GenerationState of(URL ramlUrl, Map<String, String> includedResources, String settings) throws IOException {
+        final Map<String, String> resources = new LinkedHashMap<>();
+        try (InputStream inputStream = ramlUrl.openStream()) {
+            resources.put(ramlUrl.toExternalForm(), DigestHelper.sha256Hex(IOUtils.toByteArray(inputStream)));
+        }
+        resources.putAll(includedResources);
+        return new GenerationState(settings, resources);
+    }
+
+    /**
+     * Loads the state stored in the given file, returns null if there is none or it can not be read.
+     */
+    static GenerationState load(File stateFile) {
+        if (!stateFile.isFile()) {
+            return null;
+        }
+        final Properties properties = new Properties();
+        try (InputStream inputStream = new FileInputStream(stateFile)) {
+            properties.load(inputStream);
+        } catch (IOException | IllegalArgumentException e) {
+            // Malformed escapes throw an IllegalArgumentException
+            return null;
+        }
+        final Map<String, String> resources = new LinkedHashMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            if (key.startsWith(RESOURCE_PREFIX)) {
+                resources.put(key.substring(RESOURCE_PREFIX.length()), properties.getProperty(key));
+            }
+        }
+        return new GenerationState(properties.getProperty(SETTINGS_KEY), resources);
+    }
+
+    void store(File stateFile) throws IOException {
+        final Properties properties = new Properties();
+        properties.setProperty(SETTINGS_KEY, settings);
+        for (Map.Entry<String, String> resource : resources.entrySet()) {
+            properties.setProperty(RESOURCE_PREFIX + resource.getKey(), resource.getValue());
+        }
+        stateFile.getParentFile().mkdirs();
+        try (OutputStream outputStream = new FileOutputStream(stateFile)) {
+            properties.store(outputStream, "raml-client-generator incremental state");
+        }
+    }
+
+    /**
+     * Returns true if the settings are the same and every recorded resource still has the same content.
+     */
+    boolean isUpToDate(String currentSettings) {
+        if (settings == null || !settings.equals(currentSettings) || resources.isEmpty()) {
+            return false;
+        }
+        final ResourceLoader resourceLoader = new DefaultResourceLoader();
+        for (Map.Entry<String, String> resource : resources.entrySet()) {
+            try (InputStream inputStream = resourceLoader.fetchResource(resource.getKey())) {
+                if (inputStream == null || !resource.getValue().equals(DigestHelper.sha256Hex(IOUtils.toByteArray(inputStream)))) {
+                    return false;
+                }
+            } catch (IOException e) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
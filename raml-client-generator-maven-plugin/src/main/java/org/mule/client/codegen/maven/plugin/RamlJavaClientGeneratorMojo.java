@@ -7,15 +7,30 @@ import org.apache.maven.plugins.annotations.Execute;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
+import org.mule.client.codegen.ClientBackend;
 import org.mule.client.codegen.CodeGenConfig;
 import org.mule.client.codegen.OutputVersion;
 import org.mule.client.codegen.RamlJavaClientGenerator;
+import org.mule.client.codegen.output.OutputRegistry;
+import org.mule.client.codegen.utils.DigestHelper;
+import org.mule.raml.TrackingResourceLoader;
 import org.apache.maven.project.MavenProject;
 
 import java.io.File;
+import java.lang.reflect.Field;
 import java.net.URL;
+import java.security.CodeSource;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 @Mojo(name = "generate-client", defaultPhase = LifecyclePhase.GENERATE_SOURCES)
 @Execute(goal = "generate-client")
@@ -40,16 +55,155 @@ public class RamlJavaClientGeneratorMojo extends AbstractMojo {
     @Parameter(defaultValue = "true")
     private Boolean includeAdditionalProperties;
 
+    /**
+     * Allocates the map of the additional properties of a model only when the first one is set.
+     */
+    @Parameter(defaultValue = "false")
+    private Boolean lazyAdditionalProperties;
+
     @Parameter(defaultValue = "false")
     private Boolean useBigDecimals;
 
+    /**
+     * Types the required integer, number and boolean properties and parameters, or the ones with a default value, as primitives.
+     */
+    @Parameter(defaultValue = "false")
+    private Boolean usePrimitivesForRequired;
+
     @Parameter(defaultValue = "false")
     private Boolean useOptionalForGetters;
 
+    @Parameter(defaultValue = "false")
+    private Boolean deduplicateTypes;
+
+    @Parameter(defaultValue = "false")
+    private Boolean ignoreDescriptionsForDeduplication;
+
+    /**
+     * Generates next to each action method a non blocking one returning a <code>CompletableFuture</code>, the generated code then requires java 8.
+     */
+    @Parameter(defaultValue = "false")
+    private Boolean generateAsyncMethods;
+
+    /**
+     * Generates next to each action method returning a json array one returning a <code>Stream</code> of its elements, read while it is
+     * consumed, and next to each one taking a json array an overload taking a <code>Stream</code> of its elements, written while the body
+     * is sent. The generated code then requires java 8.
+     */
+    @Parameter(defaultValue = "false")
+    private Boolean generateStreamingMethods;
+
+    /**
+     * Generates next to each action method taking a binary body an overload taking the path of the file to send, and next to each one
+     * returning a binary body one writing it to a file.
+     */
+    @Parameter(defaultValue = "false")
+    private Boolean generateFileMethods;
+
+    /**
+     * Generates next to each get action method returning a binary body one writing it to a file, that fetches a given number of ranges
+     * of the body at once when the server accepts ranges.
+     */
+    @Parameter(defaultValue = "false")
+    private Boolean generateRangedDownloads;
+
+    /**
+     * Generates a client that asks for gzip or deflate encoded responses and compresses the request bodies from
+     * <code>requestCompressionThreshold</code> bytes on. Actions can override it with the <code>(compressRequest)</code> annotation.
+     */
+    @Parameter(defaultValue = "false")
+    private Boolean useCompression;
+
+    /**
+     * Bytes from which the request bodies are sent gzipped when using compression, never when negative.
+     */
+    @Parameter(defaultValue = "-1")
+    private int requestCompressionThreshold;
+
+    /**
+     * Reads and writes the json bodies with a mapper tuned with the jackson afterburner module, requires jackson-module-afterburner.
+     */
+    @Parameter(defaultValue = "false")
+    private Boolean generateObjectMapperProvider;
+
+    /**
+     * Generates a serializer and a deserializer for each model, reading and writing its fields without reflection.
+     */
+    @Parameter(defaultValue = "false")
+    private Boolean generateModelSerializers;
+
+    /**
+     * Generates the models with final fields and a builder instead of setters.
+     */
+    @Parameter(defaultValue = "false")
+    private Boolean generateImmutableModels;
+
+    /**
+     * Http client the generated code is built on: <code>jersey</code> or <code>jdk</code>, the <code>java.net.http.HttpClient</code> of java 11.
+     * The connection pool settings only apply to jersey.
+     */
+    @Parameter(defaultValue = "jersey", property = "RamlJavaClientGeneratorMojo.clientBackend")
+    private ClientBackend clientBackend;
+
+    /**
+     * Generates a client that uses a pool of connections through the jersey apache connector, the project then needs
+     * <code>org.glassfish.jersey.connectors:jersey-apache-connector</code>. The settings below are the defaults of the generated pool configuration.
+     */
+    @Parameter(defaultValue = "false")
+    private Boolean usePooledConnector;
+
+    @Parameter(defaultValue = "200")
+    private int maxTotalConnections;
+
+    @Parameter(defaultValue = "20")
+    private int maxConnectionsPerRoute;
+
+    /**
+     * Milliseconds after which an idle pooled connection is evicted.
+     */
+    @Parameter(defaultValue = "30000")
+    private long idleConnectionTimeout;
+
+    /**
+     * Milliseconds a pooled connection is kept alive for reuse, forever when not positive.
+     */
+    @Parameter(defaultValue = "-1")
+    private long keepAliveTimeout;
+
+    @Parameter(defaultValue = "0")
+    private int connectTimeout;
+
+    @Parameter(defaultValue = "0")
+    private int readTimeout;
+
+    /**
+     * Directory where the parsed RAMLs are cached and shared across builds, for example <code>${user.home}/.m2/raml-cache</code>. Disabled when not set.
+     */
+    @Parameter(property = "RamlJavaClientGeneratorMojo.parseCacheDirectory")
+    private File parseCacheDirectory;
+
     @Parameter(defaultValue = "v2", property = "RamlJavaClientGeneratorMojo.outputVersion")
     private OutputVersion outputVersion;
 
 
+    /**
+     * Skips the generation of a RAML when neither it, the files it includes nor the generator settings changed since the last build.
+     */
+    @Parameter(defaultValue = "true", property = "RamlJavaClientGeneratorMojo.incremental")
+    private Boolean incremental;
+
+    /**
+     * Number of RAMLs generated concurrently when more than one is configured.
+     */
+    @Parameter(defaultValue = "1", property = "RamlJavaClientGeneratorMojo.parallelism")
+    private int parallelism;
+
+    @Parameter(defaultValue = "${project.build.directory}/raml-client-generator", readonly = true)
+    private File stateDirectory;
+
+    @Parameter(defaultValue = "${plugin.version}", readonly = true)
+    private String pluginVersion;
+
     @Parameter(required = true, readonly = true, defaultValue = "${project}")
     private MavenProject project;
 
@@ -73,16 +227,14 @@ public class RamlJavaClientGeneratorMojo extends AbstractMojo {
                 }
             }
 
-            for (URL ramlUrl : ramlUrls) {
-                CodeGenConfig codeGenConfig = new CodeGenConfig();
-                codeGenConfig
-                        .setUseJava8Dates(useJava8Dates)
-                        .setIncludeAdditionalProperties(includeAdditionalProperties)
-                        .setUseJava8Optional(useOptionalForGetters)
-                        .setUseBigDecimals(useBigDecimals);
-
-                final RamlJavaClientGenerator ramlJavaClientGenerator = new RamlJavaClientGenerator(basePackage, new File(outputDir), outputVersion, codeGenConfig);
-                ramlJavaClientGenerator.generate(ramlUrl);
+            // The RAMLs share the output folder, none of them can generate a file another one generates
+            final OutputRegistry outputRegistry = new OutputRegistry();
+            if (parallelism > 1 && ramlUrls.size() > 1) {
+                generateInParallel(ramlUrls, outputRegistry);
+            } else {
+                for (URL ramlUrl : ramlUrls) {
+                    generate(ramlUrl, outputRegistry);
+                }
             }
             project.addCompileSourceRoot(outputDir);
 
@@ -90,4 +242,125 @@ public class RamlJavaClientGeneratorMojo extends AbstractMojo {
             throw new MojoExecutionException("Exception while generating client.", e);
         }
     }
+
+    private void generateInParallel(List<URL> ramlUrls, final OutputRegistry outputRegistry) throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, ramlUrls.size()));
+        try {
+            final List<Future<Void>> results = new ArrayList<>();
+            for (final URL ramlUrl : ramlUrls) {
+                results.add(executor.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() throws Exception {
+                        generate(ramlUrl, outputRegistry);
+                        return null;
+                    }
+                }));
+            }
+            for (Future<Void> result : results) {
+                try {
+                    result.get();
+                } catch (ExecutionException e) {
+                    throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Generates the client of a single RAML, each one with its own generator and code model so they can run concurrently.
+     */
+    void generate(URL ramlUrl, OutputRegistry outputRegistry) throws Exception {
+        CodeGenConfig codeGenConfig = new CodeGenConfig();
+        codeGenConfig
+                .setUseJava8Dates(useJava8Dates)
+                .setIncludeAdditionalProperties(includeAdditionalProperties)
+                .setLazyAdditionalProperties(lazyAdditionalProperties)
+                .setUseJava8Optional(useOptionalForGetters)
+                .setUseBigDecimals(useBigDecimals)
+                .setUsePrimitivesForRequired(usePrimitivesForRequired)
+                .setDeduplicateTypes(deduplicateTypes)
+                .setIgnoreDescriptionsForDeduplication(ignoreDescriptionsForDeduplication)
+                .setParseCacheDirectory(parseCacheDirectory)
+                .setManifestDirectory(stateDirectory)
+                .setGenerateAsyncMethods(generateAsyncMethods)
+                .setGenerateStreamingMethods(generateStreamingMethods)
+                .setGenerateFileMethods(generateFileMethods)
+                .setGenerateRangedDownloads(generateRangedDownloads)
+                .setUseCompression(useCompression)
+                .setRequestCompressionThreshold(requestCompressionThreshold)
+                .setGenerateObjectMapperProvider(generateObjectMapperProvider)
+                .setGenerateModelSerializers(generateModelSerializers)
+                .setGenerateImmutableModels(generateImmutableModels)
+                .setClientBackend(clientBackend)
+                .setUsePooledConnector(usePooledConnector)
+                .setMaxTotalConnections(maxTotalConnections)
+                .setMaxConnectionsPerRoute(maxConnectionsPerRoute)
+                .setIdleConnectionTimeout(idleConnectionTimeout)
+                .setKeepAliveTimeout(keepAliveTimeout)
+                .setConnectTimeout(connectTimeout)
+                .setReadTimeout(readTimeout);
+
+        final String settings = settingsFingerprint(codeGenConfig);
+        final File stateFile = new File(stateDirectory, DigestHelper.sha256Hex(ramlUrl.toExternalForm()) + ".properties");
+        if (incremental && new File(outputDir).isDirectory()) {
+            final GenerationState previousState = GenerationState.load(stateFile);
+            if (previousState != null && previousState.isUpToDate(settings)) {
+                getLog().info("Client for " + ramlUrl + " is up to date, skipping generation.");
+                return;
+            }
+        }
+
+        final RamlJavaClientGenerator ramlJavaClientGenerator = new RamlJavaClientGenerator(basePackage, new File(outputDir), outputVersion, codeGenConfig)
+                .setOutputRegistry(outputRegistry);
+        final TrackingResourceLoader resourceLoader = new TrackingResourceLoader();
+        ramlJavaClientGenerator.generate(ramlUrl, resourceLoader);
+        if (incremental) {
+            // The schemas only reached through a $ref are resolved by jsonschema2pojo, not by the RAML parser
+            final Map<String, String> resources = new LinkedHashMap<>(resourceLoader.getResources());
+            resources.putAll(ramlJavaClientGenerator.getResolvedSchemas());
+            GenerationState.of(ramlUrl, resources, settings).store(stateFile);
+        } else {
+            stateFile.delete();
+        }
+    }
+
+    /**
+     * Hash of everything besides the RAML that affects the generated code: the plugin parameters, every field of the
+     * {@link CodeGenConfig} and the generator version.
+     */
+    private String settingsFingerprint(CodeGenConfig codeGenConfig) throws IllegalAccessException {
+        final StringBuilder settings = new StringBuilder();
+        settings.append("basePackage=").append(basePackage).append('\n');
+        settings.append("outputDir=").append(new File(outputDir).getAbsolutePath()).append('\n');
+        settings.append("outputVersion=").append(outputVersion).append('\n');
+        final Field[] fields = CodeGenConfig.class.getDeclaredFields();
+        Arrays.sort(fields, new Comparator<Field>() {
+            @Override
+            public int compare(Field o1, Field o2) {
+                return o1.getName().compareTo(o2.getName());
+            }
+        });
+        for (Field field : fields) {
+            if (field.getName().equals("parseCacheDirectory") || field.getName().equals("manifestDirectory")) {
+                // Where the parsed model comes from or the generated files are listed does not change the generated code
+                continue;
+            }
+            field.setAccessible(true);
+            settings.append(field.getName()).append('=').append(field.get(codeGenConfig)).append('\n');
+        }
+        settings.append("generatorVersion=").append(generatorVersion()).append('\n');
+        return DigestHelper.sha256Hex(settings.toString());
+    }
+
+    private String generatorVersion() {
+        if (pluginVersion != null && !pluginVersion.endsWith("-SNAPSHOT")) {
+            return pluginVersion;
+        }
+        // Snapshots change without changing their version, so use the timestamp of the generator jar as well
+        final CodeSource codeSource = RamlJavaClientGenerator.class.getProtectionDomain().getCodeSource();
+        final long lastModified = codeSource != null && codeSource.getLocation() != null ? new File(codeSource.getLocation().getPath()).lastModified() : 0;
+        return pluginVersion + "@" + lastModified;
+    }
 }
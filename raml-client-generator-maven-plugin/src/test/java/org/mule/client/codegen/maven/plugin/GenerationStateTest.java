@@ -0,0 +1,90 @@
+package org.mule.client.codegen.maven.plugin;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mule.client.codegen.utils.DigestHelper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+
+public class GenerationStateTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File raml;
+    private File fragment;
+    private File stateFile;
+
+    @Before
+    public void setUp() throws IOException {
+        raml = folder.newFile("api.raml");
+        FileUtils.writeStringToFile(raml, "#%RAML 1.0\ntitle: Users\n");
+        fragment = folder.newFile("user.json");
+        FileUtils.writeStringToFile(fragment, "{\"type\": \"object\"}");
+        stateFile = new File(folder.getRoot(), "state/api.properties");
+    }
+
+    @Test
+    public void unchangedInputsAreUpToDate() throws IOException {
+        state("settings").store(stateFile);
+        final GenerationState loaded = GenerationState.load(stateFile);
+        Assert.assertNotNull(loaded);
+        Assert.assertTrue(loaded.isUpToDate("settings"));
+    }
+
+    @Test
+    public void changedRamlIsNotUpToDate() throws IOException {
+        state("settings").store(stateFile);
+        FileUtils.writeStringToFile(raml, "#%RAML 1.0\ntitle: Accounts\n");
+        Assert.assertFalse(GenerationState.load(stateFile).isUpToDate("settings"));
+    }
+
+    @Test
+    public void changedIncludedResourceIsNotUpToDate() throws IOException {
+        state("settings").store(stateFile);
+        FileUtils.writeStringToFile(fragment, "{\"type\": \"array\"}");
+        Assert.assertFalse(GenerationState.load(stateFile).isUpToDate("settings"));
+    }
+
+    @Test
+    public void removedIncludedResourceIsNotUpToDate() throws IOException {
+        state("settings").store(stateFile);
+        Assert.assertTrue(fragment.delete());
+        Assert.assertFalse(GenerationState.load(stateFile).isUpToDate("settings"));
+    }
+
+    @Test
+    public void changedSettingsAreNotUpToDate() throws IOException {
+        state("settings").store(stateFile);
+        Assert.assertFalse(GenerationState.load(stateFile).isUpToDate("other settings"));
+    }
+
+    @Test
+    public void missingStateIsNotLoaded() {
+        Assert.assertNull(GenerationState.load(stateFile));
+    }
+
+    @Test
+    public void malformedStateIsNotLoaded() throws IOException {
+        FileUtils.writeStringToFile(stateFile, "settings=\\u00");
+        Assert.assertNull(GenerationState.load(stateFile));
+    }
+
+    @Test
+    public void stateWithoutSettingsIsNotUpToDate() throws IOException {
+        FileUtils.writeStringToFile(stateFile, "resource." + raml.toURI().toURL().toExternalForm() + "=abc\n");
+        Assert.assertFalse(GenerationState.load(stateFile).isUpToDate("settings"));
+    }
+
+    private GenerationState state(String settings) throws IOException {
+        final Map<String, String> includedResources = Collections.singletonMap(fragment.getAbsolutePath(), DigestHelper.sha256Hex(FileUtils.readFileToByteArray(fragment)));
+        return GenerationState.of(raml.toURI().toURL(), includedResources, settings);
+    }
+}
@@ -0,0 +1,120 @@
+package org.mule.client.codegen.maven.plugin;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mule.client.codegen.ClientBackend;
+import org.mule.client.codegen.OutputVersion;
+import org.mule.client.codegen.output.OutputRegistry;
+
+import java.io.File;
+import java.lang.reflect.Field;
+import java.net.URL;
+
+public class RamlJavaClientGeneratorMojoTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File ramlFolder;
+    private URL raml;
+    private File outputDir;
+    private File client;
+
+    @Before
+    public void setUp() throws Exception {
+        ramlFolder = folder.newFolder("raml");
+        FileUtils.copyDirectory(new File(getClass().getClassLoader().getResource("incremental").toURI()), ramlFolder);
+        raml = new File(ramlFolder, "api.raml").toURI().toURL();
+        outputDir = new File(folder.getRoot(), "target/generated-sources");
+        client = new File(outputDir, "org/mule/users/api/UsersClient.java");
+    }
+
+    @Test
+    public void unchangedRamlIsSkipped() throws Exception {
+        newMojo().generate(raml, new OutputRegistry());
+        Assert.assertTrue(client.delete());
+
+        newMojo().generate(raml, new OutputRegistry());
+        Assert.assertFalse("The generation should have been skipped", client.exists());
+    }
+
+    @Test
+    public void changedIncludedFragmentIsGeneratedAgain() throws Exception {
+        newMojo().generate(raml, new OutputRegistry());
+        Assert.assertTrue(client.delete());
+
+        FileUtils.writeStringToFile(new File(ramlFolder, "schemas/user.json"), "{\"type\": \"object\", \"properties\": {\"email\": {\"type\": \"string\"}}}");
+        newMojo().generate(raml, new OutputRegistry());
+        Assert.assertTrue("The client should have been generated again", client.exists());
+    }
+
+    @Test
+    public void changedReferencedSchemaIsGeneratedAgain() throws Exception {
+        newMojo().generate(raml, new OutputRegistry());
+        Assert.assertTrue(client.delete());
+
+        // Only reached through the $ref of the included schema, the RAML parser never fetches it
+        FileUtils.writeStringToFile(new File(ramlFolder, "schemas/address.json"), "{\"type\": \"object\", \"properties\": {\"city\": {\"type\": \"string\"}}}");
+        newMojo().generate(raml, new OutputRegistry());
+        Assert.assertTrue("The client should have been generated again", client.exists());
+    }
+
+    @Test
+    public void changedConfigIsGeneratedAgain() throws Exception {
+        newMojo().generate(raml, new OutputRegistry());
+        Assert.assertTrue(client.delete());
+
+        final RamlJavaClientGeneratorMojo mojo = newMojo();
+        set(mojo, "useBigDecimals", true);
+        mojo.generate(raml, new OutputRegistry());
+        Assert.assertTrue("The client should have been generated again", client.exists());
+    }
+
+    @Test
+    public void notIncrementalIsAlwaysGenerated() throws Exception {
+        newMojo().generate(raml, new OutputRegistry());
+        Assert.assertTrue(client.delete());
+
+        final RamlJavaClientGeneratorMojo mojo = newMojo();
+        set(mojo, "incremental", false);
+        mojo.generate(raml, new OutputRegistry());
+        Assert.assertTrue("The client should have been generated again", client.exists());
+    }
+
+    /**
+     * The mojo as maven would configure it with the default values of its parameters. The RAMLs are generated one at a time,
+     * without the project maven adds the output folder to.
+     */
+    private RamlJavaClientGeneratorMojo newMojo() throws Exception {
+        final RamlJavaClientGeneratorMojo mojo = new RamlJavaClientGeneratorMojo();
+        for (Field field : RamlJavaClientGeneratorMojo.class.getDeclaredFields()) {
+            if (field.getType() == Boolean.class) {
+                set(mojo, field.getName(), false);
+            }
+        }
+        set(mojo, "includeAdditionalProperties", true);
+        set(mojo, "incremental", true);
+        set(mojo, "requestCompressionThreshold", -1);
+        set(mojo, "maxTotalConnections", 200);
+        set(mojo, "maxConnectionsPerRoute", 20);
+        set(mojo, "idleConnectionTimeout", 30000L);
+        set(mojo, "keepAliveTimeout", -1L);
+        set(mojo, "parallelism", 1);
+        set(mojo, "clientBackend", ClientBackend.jersey);
+        set(mojo, "outputVersion", OutputVersion.v2);
+        set(mojo, "basePackage", "org.mule.users");
+        set(mojo, "outputDir", outputDir.getAbsolutePath());
+        set(mojo, "stateDirectory", new File(folder.getRoot(), "target/raml-client-generator"));
+        return mojo;
+    }
+
+    private static void set(Object target, String name, Object value) throws Exception {
+        final Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}